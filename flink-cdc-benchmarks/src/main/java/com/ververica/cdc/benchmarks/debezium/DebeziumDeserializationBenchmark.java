@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.debezium;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.benchmarks.utils.BenchmarkSchema;
+import com.ververica.cdc.benchmarks.utils.BlackholeCollector;
+import com.ververica.cdc.benchmarks.utils.SourceRecordGenerator;
+import com.ververica.cdc.debezium.JsonDebeziumBytesDeserializationSchema;
+import com.ververica.cdc.debezium.JsonDebeziumDeserializationSchema;
+import com.ververica.cdc.debezium.table.MultiTableRowDataDebeziumDeserializeSchema;
+import com.ververica.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
+import com.ververica.cdc.debezium.table.TableRowData;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Debezium deserialization schemas, which convert every change event of the
+ * sources. The results are the time per record, the records are a mix of snapshot reads, inserts,
+ * updates and deletes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DebeziumDeserializationBenchmark {
+
+    private static final int RECORDS = 1024;
+
+    @Param({"NARROW", "WIDE", "DECIMAL_TEMPORAL"})
+    public BenchmarkSchema schema;
+
+    private List<SourceRecord> records;
+
+    private RowDataDebeziumDeserializeSchema rowDataDeserializer;
+    private MultiTableRowDataDebeziumDeserializeSchema multiTableDeserializer;
+    private JsonDebeziumDeserializationSchema jsonDeserializer;
+    private JsonDebeziumBytesDeserializationSchema jsonBytesDeserializer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SourceRecordGenerator generator = new SourceRecordGenerator(schema);
+        records = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            switch (i % 4) {
+                case 0:
+                    records.add(generator.read(i, i));
+                    break;
+                case 1:
+                    records.add(generator.insert(i, i));
+                    break;
+                case 2:
+                    records.add(generator.update(i, 1, i));
+                    break;
+                default:
+                    records.add(generator.delete(i, i));
+                    break;
+            }
+        }
+
+        rowDataDeserializer =
+                RowDataDebeziumDeserializeSchema.newBuilder()
+                        .setPhysicalRowType(schema.getRowType())
+                        .setResultTypeInfo(InternalTypeInfo.of(schema.getRowType()))
+                        .setServerTimeZone(ZoneId.of("UTC"))
+                        .build();
+        multiTableDeserializer =
+                MultiTableRowDataDebeziumDeserializeSchema.newBuilder()
+                        .setServerTimeZone(ZoneId.of("UTC"))
+                        .build();
+        jsonDeserializer = new JsonDebeziumDeserializationSchema();
+        jsonBytesDeserializer = new JsonDebeziumBytesDeserializationSchema();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void rowData(Blackhole blackhole) throws Exception {
+        Collector<RowData> collector = new BlackholeCollector<>(blackhole);
+        for (SourceRecord record : records) {
+            rowDataDeserializer.deserialize(record, collector);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void multiTableRowData(Blackhole blackhole) throws Exception {
+        Collector<TableRowData> collector = new BlackholeCollector<>(blackhole);
+        for (SourceRecord record : records) {
+            multiTableDeserializer.deserialize(record, collector);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void jsonString(Blackhole blackhole) throws Exception {
+        Collector<String> collector = new BlackholeCollector<>(blackhole);
+        for (SourceRecord record : records) {
+            jsonDeserializer.deserialize(record, collector);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void jsonBytes(Blackhole blackhole) throws Exception {
+        Collector<byte[]> collector = new BlackholeCollector<>(blackhole);
+        for (SourceRecord record : records) {
+            jsonBytesDeserializer.deserialize(record, collector);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.formats;
+
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.formats.common.TimestampFormat;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.benchmarks.utils.BenchmarkSchema;
+import com.ververica.cdc.benchmarks.utils.BlackholeCollector;
+import com.ververica.cdc.benchmarks.utils.SourceRecordGenerator;
+import com.ververica.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
+import com.ververica.cdc.formats.binary.ChangelogBinaryDeserializationSchema;
+import com.ververica.cdc.formats.binary.ChangelogBinarySerializationSchema;
+import com.ververica.cdc.formats.json.ChangelogJsonDeserializationSchema;
+import com.ververica.cdc.formats.json.ChangelogJsonSerializationSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the "changelog-json" and "changelog-binary" formats, the rows are the changelog
+ * produced by the {@link RowDataDebeziumDeserializeSchema} of the synthetic change events.
+ *
+ * <p>The "changelog-json" format streams the envelope only, the fields of row are still converted
+ * through a JSON tree as the JSON format does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class ChangelogFormatBenchmark {
+
+    private static final int RECORDS = 1024;
+
+    @Param({"NARROW", "WIDE", "DECIMAL_TEMPORAL"})
+    public BenchmarkSchema schema;
+
+    private List<RowData> rows;
+
+    private ChangelogJsonSerializationSchema jsonSerializer;
+    private ChangelogJsonDeserializationSchema jsonDeserializer;
+    private ChangelogBinarySerializationSchema binarySerializer;
+    private ChangelogBinaryDeserializationSchema binaryDeserializer;
+
+    private List<byte[]> jsonMessages;
+    private List<byte[]> binaryMessages;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final RowType rowType = schema.getRowType();
+        final SourceRecordGenerator generator = new SourceRecordGenerator(schema);
+        final RowDataDebeziumDeserializeSchema debeziumDeserializer =
+                RowDataDebeziumDeserializeSchema.newBuilder()
+                        .setPhysicalRowType(rowType)
+                        .setResultTypeInfo(InternalTypeInfo.of(rowType))
+                        .setServerTimeZone(ZoneId.of("UTC"))
+                        .build();
+        rows = new ArrayList<>(RECORDS);
+        final Collector<RowData> rowCollector = new ListCollector<>(rows);
+        // inserts and updates, an update produces two rows
+        for (int i = 0; rows.size() < RECORDS; i++) {
+            if (i % 2 == 0) {
+                debeziumDeserializer.deserialize(generator.insert(i, i), rowCollector);
+            } else {
+                debeziumDeserializer.deserialize(generator.update(i, 1, i), rowCollector);
+            }
+        }
+
+        jsonSerializer = new ChangelogJsonSerializationSchema(rowType, TimestampFormat.SQL);
+        jsonSerializer.open(null);
+        jsonDeserializer =
+                new ChangelogJsonDeserializationSchema(
+                        rowType, InternalTypeInfo.of(rowType), false, TimestampFormat.SQL);
+        binarySerializer = new ChangelogBinarySerializationSchema(rowType);
+        binarySerializer.open(null);
+        binaryDeserializer =
+                new ChangelogBinaryDeserializationSchema(
+                        rowType, InternalTypeInfo.of(rowType), false);
+
+        jsonMessages = new ArrayList<>(RECORDS);
+        binaryMessages = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            jsonMessages.add(jsonSerializer.serialize(rows.get(i)));
+            binaryMessages.add(binarySerializer.serialize(rows.get(i)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void serializeJson(Blackhole blackhole) {
+        for (int i = 0; i < RECORDS; i++) {
+            blackhole.consume(jsonSerializer.serialize(rows.get(i)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void deserializeJson(Blackhole blackhole) throws Exception {
+        final Collector<RowData> collector = new BlackholeCollector<>(blackhole);
+        for (byte[] message : jsonMessages) {
+            jsonDeserializer.deserialize(message, collector);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void serializeBinary(Blackhole blackhole) {
+        for (int i = 0; i < RECORDS; i++) {
+            blackhole.consume(binarySerializer.serialize(rows.get(i)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void deserializeBinary(Blackhole blackhole) throws Exception {
+        for (byte[] message : binaryMessages) {
+            blackhole.consume(binaryDeserializer.deserialize(message));
+        }
+    }
+}
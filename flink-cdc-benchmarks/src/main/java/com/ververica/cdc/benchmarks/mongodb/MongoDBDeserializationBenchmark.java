@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.mongodb;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.Collector;
+
+import com.mongodb.kafka.connect.source.schema.BsonValueToSchemaAndValue;
+import com.ververica.cdc.benchmarks.utils.BlackholeCollector;
+import com.ververica.cdc.connectors.mongodb.internal.MongoDBEnvelope;
+import com.ververica.cdc.connectors.mongodb.table.MongoDBConnectorDeserializationSchema;
+import com.ververica.cdc.debezium.table.MetadataConverter;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.data.Envelope;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonArray;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.types.Decimal128;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link MongoDBConnectorDeserializationSchema} for the change stream documents of
+ * both output formats of the MongoDB Kafka connector, the documents are JSON strings in the schema
+ * format and raw BSON bytes in the BSON format.
+ *
+ * <p>The large documents have nested fields which are not declared in the table schema, the
+ * documents of the BSON format are only decoded for the declared fields.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class MongoDBDeserializationBenchmark {
+
+    private static final int RECORDS = 1024;
+
+    private static final String DATABASE = "bench_db";
+    private static final String COLLECTION = "orders";
+
+    /** The depth of the nested documents which are not declared in the table schema. */
+    private static final int NESTED_DEPTH = 4;
+
+    private static final RowType PHYSICAL_TYPE =
+            (RowType)
+                    DataTypes.ROW(
+                                    DataTypes.FIELD("_id", DataTypes.STRING()),
+                                    DataTypes.FIELD("customer", DataTypes.STRING()),
+                                    DataTypes.FIELD("quantity", DataTypes.INT()),
+                                    DataTypes.FIELD("total", DataTypes.BIGINT()),
+                                    DataTypes.FIELD("discount", DataTypes.DOUBLE()),
+                                    DataTypes.FIELD("price", DataTypes.DECIMAL(10, 2)),
+                                    DataTypes.FIELD("created_at", DataTypes.TIMESTAMP_LTZ(3)),
+                                    DataTypes.FIELD(
+                                            "address",
+                                            DataTypes.ROW(
+                                                    DataTypes.FIELD("city", DataTypes.STRING()),
+                                                    DataTypes.FIELD("zip", DataTypes.INT()))),
+                                    DataTypes.FIELD("tags", DataTypes.ARRAY(DataTypes.STRING())))
+                            .getLogicalType();
+
+    private static final Schema JSON_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(MongoDBEnvelope.OPERATION_TYPE_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
+                    .field(MongoDBEnvelope.FULL_DOCUMENT_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
+                    .field(MongoDBEnvelope.DOCUMENT_KEY_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
+                    .field(
+                            MongoDBEnvelope.NAMESPACE_FIELD,
+                            SchemaBuilder.struct()
+                                    .field(
+                                            MongoDBEnvelope.NAMESPACE_DATABASE_FIELD,
+                                            Schema.STRING_SCHEMA)
+                                    .field(
+                                            MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD,
+                                            Schema.OPTIONAL_STRING_SCHEMA)
+                                    .optional()
+                                    .build())
+                    .field(Envelope.FieldName.SOURCE, MongoDBEnvelope.BSON_SOURCE_SCHEMA)
+                    .build();
+
+    /** The output format of the MongoDB Kafka connector. */
+    public enum OutputFormat {
+        JSON,
+        BSON
+    }
+
+    @Param({"JSON", "BSON"})
+    public OutputFormat format;
+
+    /** The number of nested documents of a document which are not declared in the table schema. */
+    @Param({"0", "64"})
+    public int undeclaredFields;
+
+    private List<SourceRecord> records;
+
+    private MongoDBConnectorDeserializationSchema deserializer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        records = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            // the change stream is a mix of inserts, updates and deletes
+            BsonDocument changeStreamDocument;
+            switch (i % 4) {
+                case 0:
+                case 1:
+                    changeStreamDocument = changeStreamDocument("insert", i, fullDocument(i));
+                    break;
+                case 2:
+                    changeStreamDocument = changeStreamDocument("update", i, fullDocument(i));
+                    break;
+                default:
+                    changeStreamDocument = changeStreamDocument("delete", i, null);
+                    break;
+            }
+            records.add(
+                    format == OutputFormat.JSON
+                            ? jsonRecord(changeStreamDocument)
+                            : bsonRecord(changeStreamDocument));
+        }
+        deserializer =
+                new MongoDBConnectorDeserializationSchema(
+                        PHYSICAL_TYPE,
+                        new MetadataConverter[0],
+                        InternalTypeInfo.of(PHYSICAL_TYPE),
+                        ZoneId.of("UTC"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void deserialize(Blackhole blackhole) throws Exception {
+        Collector<RowData> collector = new BlackholeCollector<>(blackhole);
+        for (SourceRecord record : records) {
+            deserializer.deserialize(record, collector);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private BsonDocument fullDocument(int id) {
+        BsonDocument document = declaredFields(id);
+        for (int i = 0; i < undeclaredFields; i++) {
+            document.append("extra_" + i, nestedDocument(NESTED_DEPTH));
+        }
+        return document;
+    }
+
+    private static BsonDocument declaredFields(int id) {
+        return new BsonDocument("_id", new BsonString(String.valueOf(id)))
+                .append("customer", new BsonString("customer_" + id % 100))
+                .append("quantity", new BsonInt32(id % 10 + 1))
+                .append("total", new BsonInt64(id * 1000L))
+                .append("discount", new BsonDouble(id % 7 / 10.0))
+                .append(
+                        "price",
+                        new BsonDecimal128(new Decimal128(BigDecimal.valueOf(id * 101L, 2))))
+                .append("created_at", new BsonDateTime(1633046400000L + id * 1000L))
+                .append(
+                        "address",
+                        new BsonDocument("city", new BsonString("Hangzhou"))
+                                .append("zip", new BsonInt32(310000 + id % 100)))
+                .append(
+                        "tags",
+                        new BsonArray(
+                                Arrays.asList(
+                                        new BsonString("tag_" + id % 3),
+                                        new BsonString("tag_" + id % 5))));
+    }
+
+    private static BsonDocument nestedDocument(int depth) {
+        BsonDocument document =
+                new BsonDocument("text", new BsonString("lorem ipsum dolor sit amet"))
+                        .append("number", new BsonInt64(depth))
+                        .append(
+                                "array",
+                                new BsonArray(
+                                        Arrays.asList(
+                                                new BsonString("a"),
+                                                new BsonString("b"),
+                                                new BsonString("c"))));
+        if (depth > 0) {
+            document.append("child", nestedDocument(depth - 1));
+        }
+        return document;
+    }
+
+    private static BsonDocument changeStreamDocument(
+            String operationType, int id, BsonDocument fullDocument) {
+        BsonDocument changeStreamDocument =
+                new BsonDocument("_id", new BsonDocument("_data", new BsonString("8261" + id)))
+                        .append(MongoDBEnvelope.OPERATION_TYPE_FIELD, new BsonString(operationType))
+                        .append(
+                                MongoDBEnvelope.CLUSTER_TIME_FIELD,
+                                new BsonTimestamp(1633046400, id))
+                        .append(
+                                MongoDBEnvelope.NAMESPACE_FIELD,
+                                new BsonDocument(
+                                                MongoDBEnvelope.NAMESPACE_DATABASE_FIELD,
+                                                new BsonString(DATABASE))
+                                        .append(
+                                                MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD,
+                                                new BsonString(COLLECTION)))
+                        .append(
+                                MongoDBEnvelope.DOCUMENT_KEY_FIELD,
+                                new BsonDocument("_id", new BsonString(String.valueOf(id))));
+        if (fullDocument != null) {
+            changeStreamDocument.append(MongoDBEnvelope.FULL_DOCUMENT_FIELD, fullDocument);
+        }
+        return changeStreamDocument;
+    }
+
+    /** Creates the record of schema output format, whose documents are JSON strings. */
+    private static SourceRecord jsonRecord(BsonDocument changeStreamDocument) {
+        Struct value = new Struct(JSON_VALUE_SCHEMA);
+        value.put(
+                MongoDBEnvelope.OPERATION_TYPE_FIELD,
+                changeStreamDocument.getString(MongoDBEnvelope.OPERATION_TYPE_FIELD).getValue());
+        value.put(
+                MongoDBEnvelope.DOCUMENT_KEY_FIELD,
+                changeStreamDocument.getDocument(MongoDBEnvelope.DOCUMENT_KEY_FIELD).toJson());
+        if (changeStreamDocument.isDocument(MongoDBEnvelope.FULL_DOCUMENT_FIELD)) {
+            value.put(
+                    MongoDBEnvelope.FULL_DOCUMENT_FIELD,
+                    changeStreamDocument.getDocument(MongoDBEnvelope.FULL_DOCUMENT_FIELD).toJson());
+        }
+        Struct namespace =
+                new Struct(JSON_VALUE_SCHEMA.field(MongoDBEnvelope.NAMESPACE_FIELD).schema());
+        namespace.put(MongoDBEnvelope.NAMESPACE_DATABASE_FIELD, DATABASE);
+        namespace.put(MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD, COLLECTION);
+        value.put(MongoDBEnvelope.NAMESPACE_FIELD, namespace);
+        value.put(Envelope.FieldName.SOURCE, source());
+        return new SourceRecord(
+                null, null, DATABASE + "." + COLLECTION, JSON_VALUE_SCHEMA, value);
+    }
+
+    /** Creates the record of BSON output format, whose value holds the raw document. */
+    private static SourceRecord bsonRecord(BsonDocument changeStreamDocument) {
+        Struct value = new Struct(MongoDBEnvelope.BSON_VALUE_SCHEMA);
+        value.put(
+                MongoDBEnvelope.BSON_DOCUMENT_FIELD,
+                BsonValueToSchemaAndValue.documentToByteArray(changeStreamDocument));
+        value.put(Envelope.FieldName.SOURCE, source());
+        return new SourceRecord(
+                null,
+                null,
+                DATABASE + "." + COLLECTION,
+                MongoDBEnvelope.BSON_VALUE_SCHEMA,
+                value);
+    }
+
+    private static Struct source() {
+        Struct source = new Struct(MongoDBEnvelope.BSON_SOURCE_SCHEMA);
+        source.put(AbstractSourceInfo.TIMESTAMP_KEY, 1633046400000L);
+        return source;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.mysql;
+
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link BinlogOffset#compareTo}, which is evaluated for every binlog event to check
+ * the high watermarks of the finished snapshot splits and the ending offset of the binlog split.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class BinlogOffsetBenchmark {
+
+    private static final int OFFSETS = 128;
+
+    private static final String SERVER_UUID = "24bc7850-2c16-11e6-a073-0242ac110002";
+
+    private BinlogOffset[] positionOffsets;
+    private BinlogOffset[] skipEventOffsets;
+    private BinlogOffset[] gtidOffsets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        positionOffsets = new BinlogOffset[OFFSETS];
+        skipEventOffsets = new BinlogOffset[OFFSETS];
+        gtidOffsets = new BinlogOffset[OFFSETS];
+        for (int i = 0; i < OFFSETS; i++) {
+            // every 16 offsets switch to the next binlog file
+            String filename = String.format("mysql-bin.%06d", i / 16 + 1);
+            positionOffsets[i] = new BinlogOffset(filename, 4L + i * 1024);
+            // the offsets in the same transaction only differ in the skipped events and rows
+            skipEventOffsets[i] =
+                    new BinlogOffset("mysql-bin.000001", 1024L, i / 4, i % 4, 0L, null, 1);
+            gtidOffsets[i] =
+                    new BinlogOffset(
+                            filename,
+                            4L + i * 1024,
+                            i % 4,
+                            0L,
+                            0L,
+                            SERVER_UUID + ":1-" + (1000 + i / 4),
+                            1);
+        }
+    }
+
+    @Benchmark
+    public void compareFilePosition(Blackhole blackhole) {
+        compareAdjacent(positionOffsets, blackhole);
+    }
+
+    @Benchmark
+    public void compareSkipEvents(Blackhole blackhole) {
+        compareAdjacent(skipEventOffsets, blackhole);
+    }
+
+    @Benchmark
+    public void compareGtidSet(Blackhole blackhole) {
+        compareAdjacent(gtidOffsets, blackhole);
+    }
+
+    private static void compareAdjacent(BinlogOffset[] offsets, Blackhole blackhole) {
+        for (int i = 1; i < offsets.length; i++) {
+            blackhole.consume(offsets[i - 1].compareTo(offsets[i]));
+        }
+    }
+}
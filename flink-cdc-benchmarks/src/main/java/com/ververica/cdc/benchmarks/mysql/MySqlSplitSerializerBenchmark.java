@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.mysql;
+
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSplitSerializer;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link MySqlSplitSerializer}, the binlog split carries the infos of all finished
+ * snapshot splits and is serialized on every checkpoint of the readers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class MySqlSplitSerializerBenchmark {
+
+    /** The number of finished snapshot splits in the binlog split. */
+    @Param({"100", "10000"})
+    public int finishedSplits;
+
+    private final MySqlSplitSerializer serializer = MySqlSplitSerializer.INSTANCE;
+
+    private MySqlSnapshotSplit snapshotSplit;
+    private MySqlBinlogSplit binlogSplit;
+    private byte[] serializedSnapshotSplit;
+    private byte[] serializedBinlogSplit;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Map<TableId, TableChange> tableSchemas = MySqlSplits.createTableSchemas();
+        snapshotSplit = MySqlSplits.createSnapshotSplit(1, tableSchemas);
+        binlogSplit = MySqlSplits.createBinlogSplit(finishedSplits, tableSchemas);
+        serializedSnapshotSplit = serializer.serialize(MySqlSplits.copy(snapshotSplit));
+        serializedBinlogSplit = serializer.serialize(MySqlSplits.copy(binlogSplit));
+    }
+
+    @Benchmark
+    public byte[] serializeSnapshotSplit() throws IOException {
+        return serializer.serialize(MySqlSplits.copy(snapshotSplit));
+    }
+
+    @Benchmark
+    public MySqlSplit deserializeSnapshotSplit() throws IOException {
+        return serializer.deserialize(serializer.getVersion(), serializedSnapshotSplit);
+    }
+
+    @Benchmark
+    public byte[] serializeBinlogSplit() throws IOException {
+        return serializer.serialize(MySqlSplits.copy(binlogSplit));
+    }
+
+    @Benchmark
+    public MySqlSplit deserializeBinlogSplit() throws IOException {
+        return serializer.deserialize(serializer.getVersion(), serializedBinlogSplit);
+    }
+}
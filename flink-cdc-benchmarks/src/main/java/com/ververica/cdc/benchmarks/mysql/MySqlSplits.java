@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.mysql;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the splits of the serializer benchmarks. The serializers cache the serialized form in
+ * the split objects, so the benchmarks of the serialization create new split objects with {@link
+ * #copy} instead of serializing the same objects repeatedly.
+ */
+final class MySqlSplits {
+
+    static final TableId TABLE_ID = TableId.parse("bench_db.orders");
+
+    static final RowType SPLIT_KEY_TYPE =
+            (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT())).getLogicalType();
+
+    private MySqlSplits() {}
+
+    /** Creates the table schemas of the splits, which is the schema of a single table. */
+    static Map<TableId, TableChange> createTableSchemas() {
+        Table table =
+                Table.editor()
+                        .tableId(TABLE_ID)
+                        .addColumn(column("id", "BIGINT", Types.BIGINT, false))
+                        .addColumn(column("customer", "VARCHAR", Types.VARCHAR, true))
+                        .addColumn(column("price", "DECIMAL", Types.DECIMAL, true))
+                        .addColumn(column("created_at", "DATETIME", Types.TIMESTAMP, true))
+                        .setPrimaryKeyNames("id")
+                        .create();
+        Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(TABLE_ID, new TableChange(TableChangeType.CREATE, table));
+        return tableSchemas;
+    }
+
+    /** Creates the n-th snapshot split of the table, each split covers 1024 ids. */
+    static MySqlSnapshotSplit createSnapshotSplit(
+            int index, Map<TableId, TableChange> tableSchemas) {
+        return new MySqlSnapshotSplit(
+                TABLE_ID,
+                TABLE_ID + ":" + index,
+                SPLIT_KEY_TYPE,
+                index == 0 ? null : new Object[] {index * 1024L},
+                new Object[] {(index + 1) * 1024L},
+                new BinlogOffset("mysql-bin.000001", 4L + index * 256L),
+                tableSchemas);
+    }
+
+    /** Creates the binlog split after the given number of finished snapshot splits. */
+    static MySqlBinlogSplit createBinlogSplit(
+            int finishedSplits, Map<TableId, TableChange> tableSchemas) {
+        List<FinishedSnapshotSplitInfo> finishedSplitInfos = new ArrayList<>();
+        for (int i = 0; i < finishedSplits; i++) {
+            MySqlSnapshotSplit split = createSnapshotSplit(i, tableSchemas);
+            finishedSplitInfos.add(
+                    new FinishedSnapshotSplitInfo(
+                            split.getTableId(),
+                            split.splitId(),
+                            split.getSplitStart(),
+                            split.getSplitEnd(),
+                            split.getHighWatermark()));
+        }
+        return new MySqlBinlogSplit(
+                "binlog-split",
+                new BinlogOffset("mysql-bin.000001", 4L),
+                BinlogOffset.NO_STOPPING_OFFSET,
+                finishedSplitInfos,
+                tableSchemas,
+                finishedSplits);
+    }
+
+    /** Copies the split without the cached serialized form. */
+    static MySqlSnapshotSplit copy(MySqlSnapshotSplit split) {
+        return new MySqlSnapshotSplit(
+                split.getTableId(),
+                split.splitId(),
+                split.getSplitKeyType(),
+                split.getSplitStart(),
+                split.getSplitEnd(),
+                split.getHighWatermark(),
+                split.getLastEmittedKey(),
+                split.getLastEmittedWatermark(),
+                split.getTableSchemas());
+    }
+
+    /** Copies the split without the cached serialized form. */
+    static MySqlBinlogSplit copy(MySqlBinlogSplit split) {
+        return new MySqlBinlogSplit(
+                split.splitId(),
+                split.getStartingOffset(),
+                split.getEndingOffset(),
+                split.getFinishedSnapshotSplitInfos(),
+                split.getTableSchemas(),
+                split.getTotalFinishedSplitSize());
+    }
+
+    private static Column column(String name, String type, int jdbcType, boolean optional) {
+        return Column.editor().name(name).type(type).jdbcType(jdbcType).optional(optional).create();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.mysql;
+
+import com.ververica.cdc.connectors.mysql.source.assigners.state.HybridPendingSplitsState;
+import com.ververica.cdc.connectors.mysql.source.assigners.state.PendingSplitsState;
+import com.ververica.cdc.connectors.mysql.source.assigners.state.PendingSplitsStateSerializer;
+import com.ververica.cdc.connectors.mysql.source.assigners.state.SnapshotPendingSplitsState;
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSplitSerializer;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link PendingSplitsStateSerializer}, the state of the split assigner holds all
+ * snapshot splits of the captured tables and is serialized on every checkpoint of the enumerator.
+ *
+ * <p>The splits lazily cache their serialized form, {@link #serializeState} measures the first
+ * checkpoint after the splits were created and {@link #serializeStateWithCachedSplits} measures
+ * the subsequent checkpoints of the same splits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class PendingSplitsStateSerializerBenchmark {
+
+    /** The number of snapshot splits in the state, half of them have been assigned. */
+    @Param({"100", "10000"})
+    public int splits;
+
+    private final PendingSplitsStateSerializer serializer =
+            new PendingSplitsStateSerializer(MySqlSplitSerializer.INSTANCE);
+
+    private List<MySqlSnapshotSplit> remainingSplits;
+    private Map<String, MySqlSnapshotSplit> assignedSplits;
+    private Map<String, BinlogOffset> finishedOffsets;
+    private byte[] serializedState;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Map<TableId, TableChange> tableSchemas = MySqlSplits.createTableSchemas();
+        remainingSplits = new ArrayList<>();
+        assignedSplits = new LinkedHashMap<>();
+        finishedOffsets = new HashMap<>();
+        for (int i = 0; i < splits; i++) {
+            MySqlSnapshotSplit split = MySqlSplits.createSnapshotSplit(i, tableSchemas);
+            if (i % 2 == 0) {
+                assignedSplits.put(split.splitId(), split);
+                finishedOffsets.put(split.splitId(), split.getHighWatermark());
+            } else {
+                remainingSplits.add(split);
+            }
+        }
+        serializedState = serializer.serialize(createState(false));
+    }
+
+    @Benchmark
+    public byte[] serializeState() throws IOException {
+        return serializer.serialize(createState(true));
+    }
+
+    @Benchmark
+    public byte[] serializeStateWithCachedSplits() throws IOException {
+        return serializer.serialize(createState(false));
+    }
+
+    @Benchmark
+    public PendingSplitsState deserializeState() throws IOException {
+        return serializer.deserialize(serializer.getVersion(), serializedState);
+    }
+
+    /** Creates a new state, the serialized form is cached in the state after serialization. */
+    private PendingSplitsState createState(boolean copySplits) {
+        List<MySqlSnapshotSplit> remaining = remainingSplits;
+        Map<String, MySqlSnapshotSplit> assigned = assignedSplits;
+        if (copySplits) {
+            remaining = new ArrayList<>(remainingSplits.size());
+            for (MySqlSnapshotSplit split : remainingSplits) {
+                remaining.add(MySqlSplits.copy(split));
+            }
+            assigned = new LinkedHashMap<>();
+            for (MySqlSnapshotSplit split : assignedSplits.values()) {
+                assigned.put(split.splitId(), MySqlSplits.copy(split));
+            }
+        }
+        SnapshotPendingSplitsState snapshotState =
+                new SnapshotPendingSplitsState(
+                        new ArrayList<>(),
+                        remaining,
+                        assigned,
+                        finishedOffsets,
+                        false,
+                        Collections.singletonList(MySqlSplits.TABLE_ID),
+                        false,
+                        true);
+        return new HybridPendingSplitsState(snapshotState, false);
+    }
+}
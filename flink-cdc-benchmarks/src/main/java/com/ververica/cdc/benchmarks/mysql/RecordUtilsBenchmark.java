@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.mysql;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.benchmarks.utils.BenchmarkSchema;
+import com.ververica.cdc.benchmarks.utils.SourceRecordGenerator;
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.utils.RecordUtils;
+import io.debezium.relational.TableId;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.WatermarkKind.BINLOG_END;
+import static com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.WatermarkKind.HIGH;
+import static com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.WatermarkKind.LOW;
+
+/**
+ * Benchmarks of {@link RecordUtils#normalizedSplitRecords} which merges the binlog events read
+ * during the snapshot of a split into the snapshot records, and of {@link
+ * RecordUtils#splitKeyRangeContains} which is evaluated for every binlog event of a split.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class RecordUtilsBenchmark {
+
+    private static final RowType SPLIT_KEY_TYPE =
+            (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT())).getLogicalType();
+
+    private static final String SPLIT_ID = "bench_db.orders:0";
+
+    /** The number of snapshot records of the split. */
+    @Param({"1024", "8192"})
+    public int splitSize;
+
+    /** The number of binlog events read between the low and the high watermark. */
+    @Param({"0", "256"})
+    public int binlogEvents;
+
+    @Param({"NARROW", "WIDE"})
+    public BenchmarkSchema schema;
+
+    private final SchemaNameAdjuster nameAdjuster = SchemaNameAdjuster.create();
+
+    private MySqlSnapshotSplit split;
+    private List<SourceRecord> records;
+
+    private Object[][] keys;
+    private Object[] splitStart;
+    private Object[] splitEnd;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final SourceRecordGenerator generator = new SourceRecordGenerator(schema);
+        // the split covers the ids [0, 2 * splitSize), the snapshot contains the even ids
+        final long splitEndId = 2L * splitSize;
+        long position = 4;
+
+        records = new ArrayList<>();
+        records.add(SourceRecordGenerator.watermark(SPLIT_ID, LOW, position));
+        for (long id = 0; id < splitEndId; id += 2) {
+            records.add(generator.read(id, position));
+        }
+        final BinlogOffset highWatermark =
+                new BinlogOffset(SourceRecordGenerator.BINLOG_FILENAME, position + binlogEvents);
+        records.add(SourceRecordGenerator.watermark(SPLIT_ID, HIGH, highWatermark.getPosition()));
+
+        // the binlog events in the split are a mix of updates, inserts and deletes, some events
+        // belong to the other splits of the table
+        for (int i = 0; i < binlogEvents; i++) {
+            position++;
+            final long id = (7L * i) % splitEndId;
+            switch (i % 4) {
+                case 0:
+                    records.add(generator.update(id - id % 2, i + 1, position));
+                    break;
+                case 1:
+                    records.add(generator.insert(id | 1, position));
+                    break;
+                case 2:
+                    // the deleted ids are distinct snapshot records
+                    records.add(generator.delete(2L * i % splitEndId, position));
+                    break;
+                default:
+                    records.add(generator.insert(splitEndId + id, position));
+                    break;
+            }
+        }
+        records.add(SourceRecordGenerator.watermark(SPLIT_ID, BINLOG_END, position + 1));
+
+        final TableId tableId =
+                new TableId(SourceRecordGenerator.DATABASE, null, schema.name().toLowerCase());
+        split =
+                new MySqlSnapshotSplit(
+                        tableId,
+                        SPLIT_ID,
+                        SPLIT_KEY_TYPE,
+                        new Object[] {0L},
+                        new Object[] {splitEndId},
+                        highWatermark,
+                        new HashMap<>());
+
+        keys = new Object[splitSize][];
+        for (int i = 0; i < splitSize; i++) {
+            // half of the keys are in the split range
+            keys[i] = new Object[] {(long) i * 4};
+        }
+        splitStart = split.getSplitStart();
+        splitEnd = split.getSplitEnd();
+    }
+
+    @Benchmark
+    public List<SourceRecord> normalizedSplitRecords() {
+        return RecordUtils.normalizedSplitRecords(split, records, nameAdjuster);
+    }
+
+    @Benchmark
+    public void splitKeyRangeContainsFirstSplit(Blackhole blackhole) {
+        for (Object[] key : keys) {
+            blackhole.consume(RecordUtils.splitKeyRangeContains(key, null, splitEnd));
+        }
+    }
+
+    @Benchmark
+    public void splitKeyRangeContainsMiddleSplit(Blackhole blackhole) {
+        for (Object[] key : keys) {
+            blackhole.consume(RecordUtils.splitKeyRangeContains(key, splitStart, splitEnd));
+        }
+    }
+
+    @Benchmark
+    public void splitKeyRangeContainsLastSplit(Blackhole blackhole) {
+        for (Object[] key : keys) {
+            blackhole.consume(RecordUtils.splitKeyRangeContains(key, splitStart, null));
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.utils;
+
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.DateType;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.DoubleType;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.LocalZonedTimestampType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.TimeType;
+import org.apache.flink.table.types.logical.TimestampType;
+import org.apache.flink.table.types.logical.VarCharType;
+
+import io.debezium.time.MicroTimestamp;
+import io.debezium.time.ZonedTimestamp;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Representative table schemas of the benchmarks. Every schema has a BIGINT primary key column
+ * "id", the values of the other columns are derived from the id and a version, so the generated
+ * data is deterministic across runs.
+ */
+public enum BenchmarkSchema {
+
+    /** A few columns of common types. */
+    NARROW(narrowColumns()),
+
+    /** Many string and numeric columns. */
+    WIDE(wideColumns()),
+
+    /** Decimal and temporal columns, as the tables of financial systems. */
+    DECIMAL_TEMPORAL(decimalTemporalColumns());
+
+    /** Epoch millis of 2021-10-01T00:00:00Z, the base of the temporal values. */
+    private static final long BASE_EPOCH_MILLIS = 1633046400000L;
+
+    private final List<Column> columns;
+    private final Schema rowSchema;
+    private final Schema keySchema;
+    private final RowType rowType;
+
+    BenchmarkSchema(List<Column> columns) {
+        this.columns = columns;
+        SchemaBuilder rowSchemaBuilder =
+                SchemaBuilder.struct().name("bench." + name().toLowerCase() + ".Value").optional();
+        List<RowType.RowField> fields = new ArrayList<>();
+        for (Column column : columns) {
+            rowSchemaBuilder.field(column.name, column.schema);
+            fields.add(new RowType.RowField(column.name, column.type));
+        }
+        this.rowSchema = rowSchemaBuilder.build();
+        this.keySchema =
+                SchemaBuilder.struct()
+                        .name("bench." + name().toLowerCase() + ".Key")
+                        .field("id", Schema.INT64_SCHEMA)
+                        .build();
+        this.rowType = new RowType(fields);
+    }
+
+    /** The Debezium schema of the "before" and "after" rows. */
+    public Schema getRowSchema() {
+        return rowSchema;
+    }
+
+    /** The Debezium schema of the record key. */
+    public Schema getKeySchema() {
+        return keySchema;
+    }
+
+    /** The Flink type of the rows. */
+    public RowType getRowType() {
+        return rowType;
+    }
+
+    /** Creates the row of the given id, the version changes the non-key values of the row. */
+    public Struct createRow(long id, int version) {
+        Struct row = new Struct(rowSchema);
+        long seed = id * 31 + version;
+        row.put("id", id);
+        for (int i = 1; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            row.put(column.name, column.generator.apply(seed + i));
+        }
+        return row;
+    }
+
+    /** Creates the key of the given id. */
+    public Struct createKey(long id) {
+        return new Struct(keySchema).put("id", id);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private static List<Column> narrowColumns() {
+        List<Column> columns = new ArrayList<>();
+        columns.add(idColumn());
+        columns.add(stringColumn("name"));
+        columns.add(
+                new Column(
+                        "score",
+                        Schema.OPTIONAL_INT32_SCHEMA,
+                        new IntType(),
+                        seed -> (int) (seed % 1000)));
+        columns.add(
+                new Column(
+                        "active",
+                        Schema.OPTIONAL_BOOLEAN_SCHEMA,
+                        new BooleanType(),
+                        seed -> seed % 2 == 0));
+        return columns;
+    }
+
+    private static List<Column> wideColumns() {
+        List<Column> columns = new ArrayList<>();
+        columns.add(idColumn());
+        for (int i = 0; i < 10; i++) {
+            columns.add(stringColumn("str_" + i));
+            columns.add(
+                    new Column(
+                            "long_" + i,
+                            Schema.OPTIONAL_INT64_SCHEMA,
+                            new BigIntType(),
+                            seed -> seed * 7919));
+            columns.add(
+                    new Column(
+                            "double_" + i,
+                            Schema.OPTIONAL_FLOAT64_SCHEMA,
+                            new DoubleType(),
+                            seed -> seed / 7.0));
+        }
+        return columns;
+    }
+
+    private static List<Column> decimalTemporalColumns() {
+        List<Column> columns = new ArrayList<>();
+        columns.add(idColumn());
+        columns.add(decimalColumn("price", 10, 2));
+        columns.add(decimalColumn("rate", 18, 6));
+        columns.add(decimalColumn("amount", 20, 4));
+        columns.add(decimalColumn("balance", 38, 10));
+        columns.add(
+                new Column(
+                        "trade_date",
+                        io.debezium.time.Date.builder().optional().build(),
+                        new DateType(),
+                        seed -> (int) (BASE_EPOCH_MILLIS / 86400000L + seed % 365)));
+        columns.add(
+                new Column(
+                        "trade_time",
+                        io.debezium.time.Time.builder().optional().build(),
+                        new TimeType(3),
+                        seed -> (int) (seed * 1000 % 86400000L)));
+        columns.add(
+                new Column(
+                        "created_at",
+                        io.debezium.time.Timestamp.builder().optional().build(),
+                        new TimestampType(3),
+                        seed -> BASE_EPOCH_MILLIS + seed * 1000));
+        columns.add(
+                new Column(
+                        "executed_at",
+                        MicroTimestamp.builder().optional().build(),
+                        new TimestampType(6),
+                        seed -> (BASE_EPOCH_MILLIS + seed) * 1000 + seed % 1000));
+        columns.add(
+                new Column(
+                        "updated_at",
+                        ZonedTimestamp.builder().optional().build(),
+                        new LocalZonedTimestampType(6),
+                        seed ->
+                                Instant.ofEpochMilli(BASE_EPOCH_MILLIS + seed * 1000)
+                                        .plusNanos(seed % 1000 * 1000)
+                                        .toString()));
+        return columns;
+    }
+
+    private static Column idColumn() {
+        return new Column("id", Schema.INT64_SCHEMA, new BigIntType(false), seed -> seed);
+    }
+
+    private static Column stringColumn(String name) {
+        return new Column(
+                name,
+                Schema.OPTIONAL_STRING_SCHEMA,
+                new VarCharType(255),
+                seed -> name + "_value_" + seed);
+    }
+
+    private static Column decimalColumn(String name, int precision, int scale) {
+        Schema schema =
+                Decimal.builder(scale)
+                        .parameter("connect.decimal.precision", String.valueOf(precision))
+                        .optional()
+                        .build();
+        // keep the integral digits within the precision
+        long maxUnscaled = precision > 18 ? Long.MAX_VALUE : pow10(precision);
+        return new Column(
+                name,
+                schema,
+                new DecimalType(precision, scale),
+                seed -> BigDecimal.valueOf(seed * 1_000_003L % maxUnscaled, scale));
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    /** A column of the schema. */
+    private static final class Column {
+        private final String name;
+        private final Schema schema;
+        private final LogicalType type;
+        private final LongFunction<Object> generator;
+
+        private Column(
+                String name, Schema schema, LogicalType type, LongFunction<Object> generator) {
+            this.name = name;
+            this.schema = schema;
+            this.type = type;
+            this.generator = generator;
+        }
+    }
+}
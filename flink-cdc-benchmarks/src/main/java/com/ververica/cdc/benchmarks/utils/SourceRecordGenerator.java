@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks.utils;
+
+import com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher;
+import com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.WatermarkKind;
+import io.debezium.data.Envelope;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.debezium.connector.AbstractSourceInfo.DATABASE_NAME_KEY;
+import static io.debezium.connector.AbstractSourceInfo.TABLE_NAME_KEY;
+import static io.debezium.connector.AbstractSourceInfo.TIMESTAMP_KEY;
+
+/**
+ * Generates synthetic Debezium {@link SourceRecord}s of a {@link BenchmarkSchema} in the layout of
+ * the MySQL connector, so the benchmarks run without a database.
+ */
+public class SourceRecordGenerator {
+
+    public static final String DATABASE = "bench_db";
+    public static final String BINLOG_FILENAME = "mysql-bin.000001";
+
+    private static final String SERVER_NAME = "mysql_binlog_source";
+
+    private static final Map<String, String> SOURCE_PARTITION =
+            Collections.singletonMap("server", SERVER_NAME);
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("io.debezium.connector.mysql.Source")
+                    .field(DATABASE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .field(TABLE_NAME_KEY, Schema.OPTIONAL_STRING_SCHEMA)
+                    .field(TIMESTAMP_KEY, Schema.INT64_SCHEMA)
+                    .field("file", Schema.STRING_SCHEMA)
+                    .field("pos", Schema.INT64_SCHEMA)
+                    .build();
+
+    private static final Schema WATERMARK_KEY_SCHEMA =
+            SchemaBuilder.struct()
+                    .name(SignalEventDispatcher.SIGNAL_EVENT_KEY_SCHEMA_NAME)
+                    .field(SignalEventDispatcher.SPLIT_ID_KEY, Schema.STRING_SCHEMA)
+                    .field(SignalEventDispatcher.WATERMARK_SIGNAL, Schema.BOOLEAN_SCHEMA)
+                    .build();
+
+    private static final Schema WATERMARK_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name(SignalEventDispatcher.SIGNAL_EVENT_VALUE_SCHEMA_NAME)
+                    .field(SignalEventDispatcher.SPLIT_ID_KEY, Schema.STRING_SCHEMA)
+                    .field(SignalEventDispatcher.WATERMARK_KIND, Schema.STRING_SCHEMA)
+                    .build();
+
+    private final BenchmarkSchema schema;
+    private final String table;
+    private final String topic;
+    private final Envelope envelope;
+
+    public SourceRecordGenerator(BenchmarkSchema schema) {
+        this(schema, schema.name().toLowerCase());
+    }
+
+    public SourceRecordGenerator(BenchmarkSchema schema, String table) {
+        this.schema = schema;
+        this.table = table;
+        this.topic = SERVER_NAME + "." + DATABASE + "." + table;
+        this.envelope =
+                Envelope.defineSchema()
+                        .withName(topic + ".Envelope")
+                        .withRecord(schema.getRowSchema())
+                        .withSource(SOURCE_SCHEMA)
+                        .build();
+    }
+
+    public BenchmarkSchema getSchema() {
+        return schema;
+    }
+
+    /** Creates the snapshot record of the row with the given id. */
+    public SourceRecord read(long id, long position) {
+        return record(
+                id, position, envelope.read(schema.createRow(id, 0), source(position), now()));
+    }
+
+    /** Creates the binlog record which inserts the row with the given id. */
+    public SourceRecord insert(long id, long position) {
+        return record(
+                id, position, envelope.create(schema.createRow(id, 0), source(position), now()));
+    }
+
+    /** Creates the binlog record which updates the row with the given id to the given version. */
+    public SourceRecord update(long id, int version, long position) {
+        return record(
+                id,
+                position,
+                envelope.update(
+                        schema.createRow(id, version - 1),
+                        schema.createRow(id, version),
+                        source(position),
+                        now()));
+    }
+
+    /** Creates the binlog record which deletes the row with the given id. */
+    public SourceRecord delete(long id, long position) {
+        return record(
+                id, position, envelope.delete(schema.createRow(id, 0), source(position), now()));
+    }
+
+    /** Creates the watermark signal event of a snapshot split. */
+    public static SourceRecord watermark(String splitId, WatermarkKind kind, long position) {
+        Struct key =
+                new Struct(WATERMARK_KEY_SCHEMA)
+                        .put(SignalEventDispatcher.SPLIT_ID_KEY, splitId)
+                        .put(SignalEventDispatcher.WATERMARK_SIGNAL, true);
+        Struct value =
+                new Struct(WATERMARK_VALUE_SCHEMA)
+                        .put(SignalEventDispatcher.SPLIT_ID_KEY, splitId)
+                        .put(SignalEventDispatcher.WATERMARK_KIND, kind.toString());
+        return new SourceRecord(
+                SOURCE_PARTITION,
+                sourceOffset(position),
+                SERVER_NAME,
+                WATERMARK_KEY_SCHEMA,
+                key,
+                WATERMARK_VALUE_SCHEMA,
+                value);
+    }
+
+    private SourceRecord record(long id, long position, Struct value) {
+        return new SourceRecord(
+                SOURCE_PARTITION,
+                sourceOffset(position),
+                topic,
+                schema.getKeySchema(),
+                schema.createKey(id),
+                envelope.schema(),
+                value);
+    }
+
+    private Struct source(long position) {
+        return new Struct(SOURCE_SCHEMA)
+                .put(DATABASE_NAME_KEY, DATABASE)
+                .put(TABLE_NAME_KEY, table)
+                .put(TIMESTAMP_KEY, position * 1000)
+                .put("file", BINLOG_FILENAME)
+                .put("pos", position);
+    }
+
+    private static Map<String, Object> sourceOffset(long position) {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", BINLOG_FILENAME);
+        offset.put("pos", position);
+        return offset;
+    }
+
+    private static Instant now() {
+        return Instant.ofEpochMilli(1633046400000L);
+    }
+}
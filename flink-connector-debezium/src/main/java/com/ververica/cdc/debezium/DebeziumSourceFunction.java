@@ -48,9 +48,10 @@ import com.ververica.cdc.debezium.internal.FlinkDatabaseHistory;
 import com.ververica.cdc.debezium.internal.FlinkDatabaseSchemaHistory;
 import com.ververica.cdc.debezium.internal.FlinkOffsetBackingStore;
 import com.ververica.cdc.debezium.internal.Handover;
+import com.ververica.cdc.debezium.internal.ParallelDeserializer;
 import com.ververica.cdc.debezium.internal.SchemaRecord;
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.document.DocumentReader;
-import io.debezium.document.DocumentWriter;
 import io.debezium.embedded.Connect;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.spi.OffsetCommitPolicy;
@@ -62,8 +63,9 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -129,6 +131,14 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
     /** The configuration value represents legacy implementation. */
     public static final String LEGACY_IMPLEMENTATION_VALUE = "legacy";
 
+    /**
+     * The configuration of the number of threads which deserialize the records of a batch, the
+     * outputs are emitted in the order of records. The records are deserialized by the fetch loop
+     * if it's 1 (by default).
+     */
+    public static final String DESERIALIZATION_PARALLELISM_KEY =
+            "internal.deserialization.parallelism";
+
     // ---------------------------------------------------------------------------------------
     // Properties
     // ---------------------------------------------------------------------------------------
@@ -161,9 +171,9 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
      * <p>This map will be populated by the {@link #initializeState(FunctionInitializationContext)}
      * method.
      *
-     * <p>Using a String because we are encoding the offset state in JSON bytes.
+     * <p>The offset state is serialized by {@link DebeziumOffsetSerializer}.
      */
-    private transient volatile String restoredOffsetState;
+    private transient volatile byte[] restoredOffsetState;
 
     /** Accessor for state in the operator state backend. */
     private transient ListState<byte[]> offsetState;
@@ -217,7 +227,20 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder().setNameFormat("debezium-engine").build();
         this.executor = Executors.newSingleThreadExecutor(threadFactory);
-        this.handover = new Handover();
+        // the handover buffers as many records as the queue of the connector
+        this.handover =
+                new Handover(
+                        Integer.parseInt(
+                                properties.getProperty(
+                                        CommonConnectorConfig.MAX_QUEUE_SIZE.name(),
+                                        String.valueOf(
+                                                CommonConnectorConfig.DEFAULT_MAX_QUEUE_SIZE))),
+                        Long.parseLong(
+                                properties.getProperty(
+                                        CommonConnectorConfig.MAX_QUEUE_SIZE_IN_BYTES.name(),
+                                        String.valueOf(
+                                                CommonConnectorConfig
+                                                        .DEFAULT_MAX_QUEUE_SIZE_IN_BYTES))));
         this.changeConsumer = new DebeziumChangeConsumer(handover);
     }
 
@@ -243,13 +266,11 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
             restoreHistoryRecordsState();
         } else {
             if (specificOffset != null) {
-                byte[] serializedOffset =
-                        DebeziumOffsetSerializer.INSTANCE.serialize(specificOffset);
-                restoredOffsetState = new String(serializedOffset, StandardCharsets.UTF_8);
+                restoredOffsetState = DebeziumOffsetSerializer.INSTANCE.serialize(specificOffset);
                 LOG.info(
                         "Consumer subtask {} starts to read from specified offset {}.",
                         getRuntimeContext().getIndexOfThisSubtask(),
-                        restoredOffsetState);
+                        specificOffset);
             } else {
                 LOG.info(
                         "Consumer subtask {} has no restore state.",
@@ -261,7 +282,7 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
     private void restoreOffsetState() throws Exception {
         for (byte[] serializedOffset : offsetState.get()) {
             if (restoredOffsetState == null) {
-                restoredOffsetState = new String(serializedOffset, StandardCharsets.UTF_8);
+                restoredOffsetState = serializedOffset;
             } else {
                 throw new RuntimeException(
                         "Debezium Source only support single task, "
@@ -271,7 +292,9 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
         LOG.info(
                 "Consumer subtask {} restored offset state: {}.",
                 getRuntimeContext().getIndexOfThisSubtask(),
-                restoredOffsetState);
+                restoredOffsetState == null
+                        ? null
+                        : DebeziumOffsetSerializer.INSTANCE.toJson(restoredOffsetState));
     }
 
     private void restoreHistoryRecordsState() throws Exception {
@@ -287,7 +310,7 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
             } else {
                 // Put the records into the state. The database history should read, reorganize and
                 // register the state.
-                historyRecords.add(new SchemaRecord(reader.read(record)));
+                historyRecords.add(new SchemaRecord(reader.read(record), record));
                 recordsCount++;
             }
         }
@@ -323,14 +346,14 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
             // the fetcher has not yet been initialized, which means we need to return the
             // originally restored offsets
             if (restoredOffsetState != null) {
-                serializedOffset = restoredOffsetState.getBytes(StandardCharsets.UTF_8);
+                serializedOffset = restoredOffsetState;
             }
         } else {
             byte[] currentState = fetcher.snapshotCurrentState();
             if (currentState == null && restoredOffsetState != null) {
                 // the fetcher has been initialized, but has not yet received any data,
                 // which means we need to return the originally restored offsets.
-                serializedOffset = restoredOffsetState.getBytes(StandardCharsets.UTF_8);
+                serializedOffset = restoredOffsetState;
             } else {
                 serializedOffset = currentState;
             }
@@ -350,16 +373,18 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
     }
 
     private void snapshotHistoryRecordsState() throws Exception {
-        schemaRecordsState.clear();
-
-        if (engineInstanceName != null) {
-            schemaRecordsState.add(engineInstanceName);
-            Collection<SchemaRecord> records = retrieveHistory(engineInstanceName);
-            DocumentWriter writer = DocumentWriter.defaultWriter();
-            for (SchemaRecord record : records) {
-                schemaRecordsState.add(writer.write(record.toDocument()));
-            }
+        if (engineInstanceName == null) {
+            schemaRecordsState.clear();
+            return;
+        }
+        Collection<SchemaRecord> records = retrieveHistory(engineInstanceName);
+        List<String> serializedRecords = new ArrayList<>(records.size() + 1);
+        serializedRecords.add(engineInstanceName);
+        for (SchemaRecord record : records) {
+            // only the records changed since the last checkpoint are serialized
+            serializedRecords.add(record.toJson());
         }
+        schemaRecordsState.update(serializedRecords);
     }
 
     @Override
@@ -368,7 +393,9 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
         properties.setProperty("offset.storage", FlinkOffsetBackingStore.class.getCanonicalName());
         if (restoredOffsetState != null) {
             // restored from state
-            properties.setProperty(FlinkOffsetBackingStore.OFFSET_STATE_VALUE, restoredOffsetState);
+            properties.setProperty(
+                    FlinkOffsetBackingStore.OFFSET_STATE_VALUE,
+                    FlinkOffsetBackingStore.encodeState(restoredOffsetState));
         }
         // DO NOT include schema change, e.g. DDL
         properties.setProperty("include.schema.changes", "false");
@@ -401,7 +428,13 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
                         deserializer,
                         restoredOffsetState == null, // DB snapshot phase if restore state is null
                         dbzHeartbeatPrefix,
-                        handover);
+                        handover,
+                        ParallelDeserializer.create(
+                                deserializer,
+                                Integer.parseInt(
+                                        properties.getProperty(
+                                                DESERIALIZATION_PARALLELISM_KEY, "1")),
+                                getRuntimeContext().getUserCodeClassLoader()));
 
         // create the engine with this configuration ...
         this.engine =
@@ -434,6 +467,15 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
                 (Gauge<Long>) () -> debeziumChangeFetcher.getEmitDelay());
         metricGroup.gauge(
                 "sourceIdleTime", (Gauge<Long>) () -> debeziumChangeFetcher.getIdleTime());
+        // the records which are polled from the database but not emitted yet, the queue is full
+        // when the downstream back pressures the source
+        metricGroup.gauge("handoverQueueSize", (Gauge<Integer>) handover::getQueueRecords);
+        // the time in nanoseconds of the stages of the last batch
+        metricGroup.gauge(
+                "batchDeserializeTime",
+                (Gauge<Long>) () -> debeziumChangeFetcher.getBatchDeserializeTime());
+        metricGroup.gauge(
+                "batchEmitTime", (Gauge<Long>) () -> debeziumChangeFetcher.getBatchEmitTime());
 
         // start the real debezium consumer
         debeziumChangeFetcher.runFetchLoop();
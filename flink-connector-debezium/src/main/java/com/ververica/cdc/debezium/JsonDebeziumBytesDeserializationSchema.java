@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.api.common.typeinfo.PrimitiveArrayTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.util.Collector;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.io.SerializedString;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import org.apache.kafka.connect.data.ConnectSchema;
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.storage.ConverterConfig;
+import org.apache.kafka.connect.storage.ConverterType;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A JSON format implementation of {@link DebeziumDeserializationSchema} which deserializes the
+ * received {@link SourceRecord} to JSON bytes.
+ *
+ * <p>The JSON is the same as the one of {@link JsonDebeziumDeserializationSchema}, but it's written
+ * by a streaming generator into a reused buffer without building a {@link String}, which is
+ * suitable for forwarding the records to Kafka. The schema of the record is handled by {@link
+ * SchemaMode}.
+ */
+public class JsonDebeziumBytesDeserializationSchema
+        implements DebeziumDeserializationSchema<byte[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString FIELD_SCHEMA = new SerializedString("schema");
+    private static final SerializedString FIELD_SCHEMA_ID = new SerializedString("schemaId");
+    private static final SerializedString FIELD_PAYLOAD = new SerializedString("payload");
+
+    /** How the schema of the record is included in the message. */
+    public enum SchemaMode {
+        /** Only the payload is written, e.g. {@code {"before": ..., "after": ...}}. */
+        NONE,
+
+        /**
+         * The schema is written with every payload, e.g. {@code {"schema": ..., "payload": ...}},
+         * it's the same as the {@link JsonConverterConfig#SCHEMAS_ENABLE_CONFIG} envelope.
+         */
+        INLINE,
+
+        /**
+         * The fingerprint of the schema is written with every payload, e.g. {@code {"schemaId":
+         * "...", "payload": ...}}, the schema itself is written only with the first payload of
+         * the schema after the deserializer is (re)started.
+         */
+        ID
+    }
+
+    private final SchemaMode schemaMode;
+
+    /** Converter that is used to convert the connect schema to JSON schema. */
+    private transient JsonConverter jsonConverter;
+
+    private transient JsonFactory jsonFactory;
+
+    /** Reusable output buffer of the generator. */
+    private transient ByteArrayBuilder buffer;
+
+    /**
+     * The JSON schemas of the latest connect schemas keyed by the schema names, i.e. one schema per
+     * table, the schema of a table is replaced by its new version after the table is altered.
+     */
+    private transient Map<String, JsonSchema> jsonSchemas;
+
+    /** The ids of the schemas which are already written in {@link SchemaMode#ID} mode. */
+    private transient Set<String> emittedSchemaIds;
+
+    public JsonDebeziumBytesDeserializationSchema() {
+        this(SchemaMode.NONE);
+    }
+
+    public JsonDebeziumBytesDeserializationSchema(SchemaMode schemaMode) {
+        this.schemaMode = schemaMode;
+    }
+
+    @Override
+    public void deserialize(SourceRecord record, Collector<byte[]> out) throws Exception {
+        if (buffer == null) {
+            // initialize jsonConverter and the buffer
+            jsonConverter = new JsonConverter();
+            final HashMap<String, Object> configs = new HashMap<>(2);
+            configs.put(ConverterConfig.TYPE_CONFIG, ConverterType.VALUE.getName());
+            configs.put(JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, true);
+            jsonConverter.configure(configs);
+            jsonFactory = new JsonFactory();
+            buffer = new ByteArrayBuilder();
+            jsonSchemas = new HashMap<>();
+            emittedSchemaIds = new HashSet<>();
+        }
+        final Schema schema = record.valueSchema();
+        final Object value = record.value();
+        if (schema == null && value == null) {
+            // tombstone, JsonConverter converts it to null
+            return;
+        }
+
+        buffer.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+            switch (schemaMode) {
+                case NONE:
+                    writeValue(generator, schema, value);
+                    break;
+                case INLINE:
+                    generator.writeStartObject();
+                    generator.writeFieldName(FIELD_SCHEMA);
+                    generator.writeRawValue(getJsonSchema(schema).json);
+                    generator.writeFieldName(FIELD_PAYLOAD);
+                    writeValue(generator, schema, value);
+                    generator.writeEndObject();
+                    break;
+                case ID:
+                    final JsonSchema jsonSchema = getJsonSchema(schema);
+                    generator.writeStartObject();
+                    generator.writeFieldName(FIELD_SCHEMA_ID);
+                    generator.writeString(jsonSchema.id);
+                    if (emittedSchemaIds.add(jsonSchema.id)) {
+                        generator.writeFieldName(FIELD_SCHEMA);
+                        generator.writeRawValue(jsonSchema.json);
+                    }
+                    generator.writeFieldName(FIELD_PAYLOAD);
+                    writeValue(generator, schema, value);
+                    generator.writeEndObject();
+                    break;
+                default:
+                    throw new UnsupportedOperationException(
+                            "Unsupported schema mode '" + schemaMode + "'.");
+            }
+        }
+        out.collect(buffer.toByteArray());
+    }
+
+    private JsonSchema getJsonSchema(Schema schema) {
+        final String name = schema == null ? null : schema.name();
+        JsonSchema jsonSchema = jsonSchemas.get(name);
+        // the schema instance is reused across records of a table, the equality check is mostly a
+        // reference comparison, a schema of the same name but not equal is a new version
+        if (jsonSchema == null || !Objects.equals(jsonSchema.schema, schema)) {
+            final String json =
+                    schema == null ? "null" : jsonConverter.asJsonSchema(schema).toString();
+            jsonSchema = new JsonSchema(schema, fingerprint(json), json);
+            jsonSchemas.put(name, jsonSchema);
+        }
+        return jsonSchema;
+    }
+
+    @VisibleForTesting
+    int getCachedJsonSchemaCount() {
+        return jsonSchemas.size();
+    }
+
+    /**
+     * Writes the value in the same way as {@link JsonConverter}, the decimals are written as base64
+     * encoded bytes which is the default {@link JsonConverterConfig#DECIMAL_FORMAT_CONFIG}.
+     */
+    private static void writeValue(JsonGenerator generator, Schema schema, Object value)
+            throws Exception {
+        if (value == null) {
+            if (schema == null) {
+                generator.writeNull();
+                return;
+            }
+            if (schema.defaultValue() != null) {
+                writeValue(generator, schema, schema.defaultValue());
+                return;
+            }
+            if (schema.isOptional()) {
+                generator.writeNull();
+                return;
+            }
+            throw new DataException(
+                    "Conversion error: null value for field that is required and has no default value");
+        }
+
+        if (schema != null && schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    generator.writeBinary(Decimal.fromLogical(schema, (BigDecimal) value));
+                    return;
+                case Date.LOGICAL_NAME:
+                    generator.writeNumber(Date.fromLogical(schema, (java.util.Date) value));
+                    return;
+                case Time.LOGICAL_NAME:
+                    generator.writeNumber(Time.fromLogical(schema, (java.util.Date) value));
+                    return;
+                case Timestamp.LOGICAL_NAME:
+                    generator.writeNumber(Timestamp.fromLogical(schema, (java.util.Date) value));
+                    return;
+                default:
+                    break;
+            }
+        }
+
+        final Schema.Type schemaType;
+        if (schema == null) {
+            schemaType = ConnectSchema.schemaType(value.getClass());
+            if (schemaType == null) {
+                throw new DataException(
+                        "Java class "
+                                + value.getClass()
+                                + " does not have corresponding schema type.");
+            }
+        } else {
+            schemaType = schema.type();
+        }
+        switch (schemaType) {
+            case INT8:
+                generator.writeNumber((Byte) value);
+                break;
+            case INT16:
+                generator.writeNumber((Short) value);
+                break;
+            case INT32:
+                generator.writeNumber((Integer) value);
+                break;
+            case INT64:
+                generator.writeNumber((Long) value);
+                break;
+            case FLOAT32:
+                generator.writeNumber((Float) value);
+                break;
+            case FLOAT64:
+                generator.writeNumber((Double) value);
+                break;
+            case BOOLEAN:
+                generator.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                generator.writeString(value.toString());
+                break;
+            case BYTES:
+                if (value instanceof byte[]) {
+                    generator.writeBinary((byte[]) value);
+                } else if (value instanceof ByteBuffer) {
+                    generator.writeBinary(((ByteBuffer) value).array());
+                } else {
+                    throw new DataException("Invalid type for bytes type: " + value.getClass());
+                }
+                break;
+            case ARRAY:
+                {
+                    final Schema valueSchema = schema == null ? null : schema.valueSchema();
+                    generator.writeStartArray();
+                    for (Object element : (Collection<?>) value) {
+                        writeValue(generator, valueSchema, element);
+                    }
+                    generator.writeEndArray();
+                    break;
+                }
+            case MAP:
+                {
+                    final Map<?, ?> map = (Map<?, ?>) value;
+                    final Schema keySchema = schema == null ? null : schema.keySchema();
+                    final Schema valueSchema = schema == null ? null : schema.valueSchema();
+                    // string keys are written as JSON object, others as array of [key, value]
+                    boolean objectMode;
+                    if (schema == null) {
+                        objectMode = true;
+                        for (Object key : map.keySet()) {
+                            if (!(key instanceof String)) {
+                                objectMode = false;
+                                break;
+                            }
+                        }
+                    } else {
+                        objectMode = keySchema.type() == Schema.Type.STRING;
+                    }
+                    if (objectMode) {
+                        generator.writeStartObject();
+                        for (Map.Entry<?, ?> entry : map.entrySet()) {
+                            generator.writeFieldName(String.valueOf(entry.getKey()));
+                            writeValue(generator, valueSchema, entry.getValue());
+                        }
+                        generator.writeEndObject();
+                    } else {
+                        generator.writeStartArray();
+                        for (Map.Entry<?, ?> entry : map.entrySet()) {
+                            generator.writeStartArray();
+                            writeValue(generator, keySchema, entry.getKey());
+                            writeValue(generator, valueSchema, entry.getValue());
+                            generator.writeEndArray();
+                        }
+                        generator.writeEndArray();
+                    }
+                    break;
+                }
+            case STRUCT:
+                {
+                    final Struct struct = (Struct) value;
+                    if (!struct.schema().equals(schema)) {
+                        throw new DataException("Mismatching schema.");
+                    }
+                    generator.writeStartObject();
+                    for (Field field : schema.fields()) {
+                        generator.writeFieldName(field.name());
+                        writeValue(generator, field.schema(), struct.get(field));
+                    }
+                    generator.writeEndObject();
+                    break;
+                }
+            default:
+                throw new DataException(
+                        "Couldn't convert " + value + " to JSON, unsupported type " + schemaType);
+        }
+    }
+
+    /** Returns the hex of the first 8 bytes of the MD5 digest of the JSON schema. */
+    private static String fingerprint(String json) {
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("MD5").digest(json.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The MD5 algorithm is not available.", e);
+        }
+        final StringBuilder builder = new StringBuilder(16);
+        for (int i = 0; i < 8; i++) {
+            builder.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(digest[i] & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public TypeInformation<byte[]> getProducedType() {
+        return PrimitiveArrayTypeInfo.BYTE_PRIMITIVE_ARRAY_TYPE_INFO;
+    }
+
+    /** The JSON of a connect schema and its id. */
+    private static final class JsonSchema {
+        private final Schema schema;
+        private final String id;
+        private final String json;
+
+        private JsonSchema(Schema schema, String id, String json) {
+            this.schema = schema;
+            this.id = id;
+            this.json = json;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package com.ververica.cdc.debezium.internal;
 
 import org.apache.flink.annotation.Internal;
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.streaming.api.functions.source.SourceFunction;
 import org.apache.flink.util.Collector;
 
@@ -34,7 +35,10 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -53,6 +57,12 @@ public class DebeziumChangeFetcher<T> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DebeziumChangeFetcher.class);
 
+    /**
+     * The maximum number of records emitted under one acquisition of the checkpoint lock, it bounds
+     * the time that a checkpoint waits for the lock.
+     */
+    @VisibleForTesting static final int MAX_EMIT_BATCH_SIZE = 1024;
+
     private final SourceFunction.SourceContext<T> sourceContext;
 
     /**
@@ -77,6 +87,9 @@ public class DebeziumChangeFetcher<T> {
 
     private final Handover handover;
 
+    /** Deserializes the batches by multiple threads, null if they're deserialized in the loop. */
+    @Nullable private final ParallelDeserializer<T> parallelDeserializer;
+
     private volatile boolean isRunning = true;
 
     // ---------------------------------------------------------------------------------------
@@ -101,6 +114,15 @@ public class DebeziumChangeFetcher<T> {
      */
     private volatile long emitDelay = 0L;
 
+    /** The time in nanoseconds to deserialize the last batch, excluding the emission. */
+    private volatile long batchDeserializeTime = 0L;
+
+    /** The time in nanoseconds to emit the last batch, including waiting for the lock. */
+    private volatile long batchEmitTime = 0L;
+
+    /** The accumulated emission time of the current batch. */
+    private long emitNanos;
+
     // ------------------------------------------------------------------------
 
     public DebeziumChangeFetcher(
@@ -108,7 +130,8 @@ public class DebeziumChangeFetcher<T> {
             DebeziumDeserializationSchema<T> deserialization,
             boolean isInDbSnapshotPhase,
             String heartbeatTopicPrefix,
-            Handover handover) {
+            Handover handover,
+            @Nullable ParallelDeserializer<T> parallelDeserializer) {
         this.sourceContext = sourceContext;
         this.checkpointLock = sourceContext.getCheckpointLock();
         this.deserialization = deserialization;
@@ -118,6 +141,7 @@ public class DebeziumChangeFetcher<T> {
         this.debeziumOffset = new DebeziumOffset();
         this.stateSerializer = DebeziumOffsetSerializer.INSTANCE;
         this.handover = handover;
+        this.parallelDeserializer = parallelDeserializer;
     }
 
     /**
@@ -170,6 +194,9 @@ public class DebeziumChangeFetcher<T> {
     public void close() {
         isRunning = false;
         handover.close();
+        if (parallelDeserializer != null) {
+            parallelDeserializer.close();
+        }
     }
 
     // ---------------------------------------------------------------------------------------
@@ -188,6 +215,14 @@ public class DebeziumChangeFetcher<T> {
         return System.currentTimeMillis() - processTime;
     }
 
+    public long getBatchDeserializeTime() {
+        return batchDeserializeTime;
+    }
+
+    public long getBatchEmitTime() {
+        return batchEmitTime;
+    }
+
     // ---------------------------------------------------------------------------------------
     // Helper
     // ---------------------------------------------------------------------------------------
@@ -198,33 +233,59 @@ public class DebeziumChangeFetcher<T> {
             return;
         }
         this.processTime = System.currentTimeMillis();
-
-        for (ChangeEvent<SourceRecord, SourceRecord> event : changeEvents) {
-            SourceRecord record = event.value();
+        final long startNanos = System.nanoTime();
+        this.emitNanos = 0L;
+
+        // the outputs of records are re-sequenced in the order of events by the parallel stage
+        final List<List<T>> deserializedRecords =
+                parallelDeserializer == null ? null : deserializeInParallel(changeEvents);
+
+        // the records are deserialized out of the checkpoint lock and emitted in bundles, the
+        // offset of the last deserialized event is updated with the emission of the bundle
+        Map<String, ?> sourcePartition = null;
+        Map<String, ?> sourceOffset = null;
+        for (int i = 0; i < changeEvents.size(); i++) {
+            SourceRecord record = changeEvents.get(i).value();
             updateMessageTimestamp(record);
             fetchDelay = processTime - messageTimestamp;
 
-            if (isHeartbeatEvent(record)) {
-                // keep offset update
-                synchronized (checkpointLock) {
-                    debeziumOffset.setSourcePartition(record.sourcePartition());
-                    debeziumOffset.setSourceOffset(record.sourceOffset());
+            // drop heartbeat events, only keep offset update
+            if (!isHeartbeatEvent(record)) {
+                if (deserializedRecords == null) {
+                    deserialization.deserialize(record, debeziumCollector);
+                } else {
+                    debeziumCollector.records.addAll(deserializedRecords.get(i));
                 }
-                // drop heartbeat events
-                continue;
-            }
 
-            deserialization.deserialize(record, debeziumCollector);
+                if (!isSnapshotRecord(record)) {
+                    LOG.debug("Snapshot phase finishes.");
+                    isInDbSnapshotPhase = false;
+                }
+            }
+            sourcePartition = record.sourcePartition();
+            sourceOffset = record.sourceOffset();
 
-            if (!isSnapshotRecord(record)) {
-                LOG.debug("Snapshot phase finishes.");
-                isInDbSnapshotPhase = false;
+            if (debeziumCollector.records.size() >= MAX_EMIT_BATCH_SIZE) {
+                emitRecordsUnderCheckpointLock(
+                        debeziumCollector.records, sourcePartition, sourceOffset);
             }
+        }
+
+        // emit the actual records. this also updates offset state atomically
+        emitRecordsUnderCheckpointLock(debeziumCollector.records, sourcePartition, sourceOffset);
 
-            // emit the actual records. this also updates offset state atomically
-            emitRecordsUnderCheckpointLock(
-                    debeziumCollector.records, record.sourcePartition(), record.sourceOffset());
+        this.batchEmitTime = emitNanos;
+        this.batchDeserializeTime = System.nanoTime() - startNanos - emitNanos;
+    }
+
+    private List<List<T>> deserializeInParallel(
+            List<ChangeEvent<SourceRecord, SourceRecord>> changeEvents) throws Exception {
+        final List<SourceRecord> records = new ArrayList<>(changeEvents.size());
+        for (ChangeEvent<SourceRecord, SourceRecord> event : changeEvents) {
+            SourceRecord record = event.value();
+            records.add(isHeartbeatEvent(record) ? null : record);
         }
+        return parallelDeserializer.deserialize(records);
     }
 
     private void emitRecordsUnderCheckpointLock(
@@ -232,16 +293,20 @@ public class DebeziumChangeFetcher<T> {
         // Emit the records. Use the checkpoint lock to guarantee
         // atomicity of record emission and offset state update.
         // The synchronized checkpointLock is reentrant. It's safe to sync again in snapshot mode.
+        final long startNanos = System.nanoTime();
         synchronized (checkpointLock) {
+            if (!records.isEmpty()) {
+                emitDelay = System.currentTimeMillis() - messageTimestamp;
+            }
             T record;
             while ((record = records.poll()) != null) {
-                emitDelay = System.currentTimeMillis() - messageTimestamp;
                 sourceContext.collect(record);
             }
             // update offset to state
             debeziumOffset.setSourcePartition(sourcePartition);
             debeziumOffset.setSourceOffset(sourceOffset);
         }
+        emitNanos += System.nanoTime() - startNanos;
     }
 
     private void updateMessageTimestamp(SourceRecord record) {
@@ -19,25 +19,159 @@
 package com.ververica.cdc.debezium.internal;
 
 import org.apache.flink.annotation.Internal;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.types.StringValue;
 
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
-/** Serializer implementation for a {@link DebeziumOffset}. */
+/**
+ * Serializer implementation for a {@link DebeziumOffset}.
+ *
+ * <p>The offset is serialized in a versioned binary format, which keeps the types of the values,
+ * e.g. the LSN of PostgreSQL is restored as a long rather than an int. The offset is serialized in
+ * JSON if it contains a value of other types, the JSON state of previous versions, which starts
+ * with '{', is still readable.
+ */
 @Internal
 public class DebeziumOffsetSerializer {
     public static final DebeziumOffsetSerializer INSTANCE = new DebeziumOffsetSerializer();
 
+    /** The version of the binary format, it's never the first byte of a JSON object. */
+    private static final int VERSION = 1;
+
+    private static final byte JSON_OBJECT_START = '{';
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INT = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte DOUBLE = 5;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     public byte[] serialize(DebeziumOffset debeziumOffset) throws IOException {
-        // we currently use JSON serialization for simplification, as the state is very small.
-        // we can improve this in the future if needed
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsBytes(debeziumOffset);
+        if (!isBinarySerializable(debeziumOffset.sourcePartition)
+                || !isBinarySerializable(debeziumOffset.sourceOffset)) {
+            return serializeToJson(debeziumOffset);
+        }
+        final DataOutputSerializer out = new DataOutputSerializer(128);
+        out.writeByte(VERSION);
+        writeMap(out, debeziumOffset.sourcePartition);
+        writeMap(out, debeziumOffset.sourceOffset);
+        return out.getCopyOfBuffer();
     }
 
     public DebeziumOffset deserialize(byte[] bytes) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(bytes, DebeziumOffset.class);
+        if (bytes.length > 0 && bytes[0] == JSON_OBJECT_START) {
+            return OBJECT_MAPPER.readValue(bytes, DebeziumOffset.class);
+        }
+        final DataInputDeserializer in = new DataInputDeserializer(bytes);
+        final int version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unknown version of debezium offset state: " + version);
+        }
+        final DebeziumOffset debeziumOffset = new DebeziumOffset();
+        debeziumOffset.setSourcePartition(readMap(in));
+        debeziumOffset.setSourceOffset(readMap(in));
+        return debeziumOffset;
+    }
+
+    /** Serializes the offset in JSON, it's readable by {@link #deserialize(byte[])} as well. */
+    public byte[] serializeToJson(DebeziumOffset debeziumOffset) throws IOException {
+        return OBJECT_MAPPER.writeValueAsBytes(debeziumOffset);
+    }
+
+    /** Returns the serialized offset in JSON, e.g. to log the offset state. */
+    public String toJson(byte[] bytes) throws IOException {
+        return new String(serializeToJson(deserialize(bytes)), StandardCharsets.UTF_8);
+    }
+
+    private static boolean isBinarySerializable(Map<String, ?> map) {
+        if (map == null) {
+            return true;
+        }
+        for (Object value : map.values()) {
+            if (value != null
+                    && !(value instanceof String)
+                    && !(value instanceof Long)
+                    && !(value instanceof Integer)
+                    && !(value instanceof Boolean)
+                    && !(value instanceof Double)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeMap(DataOutputSerializer out, Map<String, ?> map) throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            StringValue.writeString(entry.getKey(), out);
+            final Object value = entry.getValue();
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof String) {
+                out.writeByte(STRING);
+                StringValue.writeString((String) value, out);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            }
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputDeserializer in) throws IOException {
+        final int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        final Map<String, Object> map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            final String key = StringValue.readString(in);
+            final byte type = in.readByte();
+            switch (type) {
+                case NULL:
+                    map.put(key, null);
+                    break;
+                case STRING:
+                    map.put(key, StringValue.readString(in));
+                    break;
+                case LONG:
+                    map.put(key, in.readLong());
+                    break;
+                case INT:
+                    map.put(key, in.readInt());
+                    break;
+                case BOOLEAN:
+                    map.put(key, in.readBoolean());
+                    break;
+                case DOUBLE:
+                    map.put(key, in.readDouble());
+                    break;
+                default:
+                    throw new IOException("Unknown type of debezium offset value: " + type);
+            }
+        }
+        return map;
     }
 }
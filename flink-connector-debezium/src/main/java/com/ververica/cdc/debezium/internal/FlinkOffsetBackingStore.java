@@ -18,6 +18,8 @@
 
 package com.ververica.cdc.debezium.internal;
 
+import org.apache.flink.annotation.VisibleForTesting;
+
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
 import io.debezium.embedded.EmbeddedEngine;
 import io.debezium.engine.DebeziumEngine;
@@ -27,7 +29,7 @@ import org.apache.kafka.connect.json.JsonConverter;
 import org.apache.kafka.connect.runtime.WorkerConfig;
 import org.apache.kafka.connect.storage.Converter;
 import org.apache.kafka.connect.storage.OffsetBackingStore;
-import org.apache.kafka.connect.storage.OffsetStorageWriter;
+import org.apache.kafka.connect.storage.OffsetUtils;
 import org.apache.kafka.connect.util.Callback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,24 +37,25 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 /**
  * A implementation of {@link OffsetBackingStore} backed on Flink's state mechanism.
  *
- * <p>The {@link #OFFSET_STATE_VALUE} in the {@link WorkerConfig} is the raw position and offset
- * data in JSON format. It is set into the config when recovery from failover by {@link
- * DebeziumSourceFunction} before startup the {@link DebeziumEngine}. If it is not a restoration,
- * the {@link #OFFSET_STATE_VALUE} is empty. {@link DebeziumEngine} relies on the {@link
- * OffsetBackingStore} for failover recovery.
+ * <p>The {@link #OFFSET_STATE_VALUE} in the {@link WorkerConfig} is the serialized position and
+ * offset data encoded by {@link #encodeState(byte[])}. It is set into the config when recovery from
+ * failover by {@link DebeziumSourceFunction} before startup the {@link DebeziumEngine}. If it is
+ * not a restoration, the {@link #OFFSET_STATE_VALUE} is empty. {@link DebeziumEngine} relies on the
+ * {@link OffsetBackingStore} for failover recovery, the offset is put into the store directly when
+ * it's configured.
  *
  * @see DebeziumSourceFunction
  */
@@ -60,7 +63,6 @@ public class FlinkOffsetBackingStore implements OffsetBackingStore {
     private static final Logger LOG = LoggerFactory.getLogger(FlinkOffsetBackingStore.class);
 
     public static final String OFFSET_STATE_VALUE = "offset.storage.flink.state.value";
-    public static final int FLUSH_TIMEOUT_SECONDS = 10;
 
     protected Map<ByteBuffer, ByteBuffer> data = new HashMap<>();
     protected ExecutorService executor;
@@ -76,13 +78,12 @@ public class FlinkOffsetBackingStore implements OffsetBackingStore {
             return;
         }
 
-        String stateJson = (String) conf.get(OFFSET_STATE_VALUE);
-        DebeziumOffsetSerializer serializer = new DebeziumOffsetSerializer();
+        String stateValue = (String) conf.get(OFFSET_STATE_VALUE);
         DebeziumOffset debeziumOffset;
         try {
-            debeziumOffset = serializer.deserialize(stateJson.getBytes(StandardCharsets.UTF_8));
+            debeziumOffset = DebeziumOffsetSerializer.INSTANCE.deserialize(decodeState(stateValue));
         } catch (IOException e) {
-            LOG.error("Can't deserialize debezium offset state from JSON: " + stateJson, e);
+            LOG.error("Can't deserialize debezium offset state: " + stateValue, e);
             throw new RuntimeException(e);
         }
 
@@ -93,54 +94,36 @@ public class FlinkOffsetBackingStore implements OffsetBackingStore {
         Map<String, Object> valueConfigs = new HashMap<>(conf);
         valueConfigs.put("schemas.enable", false);
         valueConverter.configure(valueConfigs, true);
-        OffsetStorageWriter offsetWriter =
-                new OffsetStorageWriter(
-                        this,
-                        // must use engineName as namespace to align with Debezium Engine
-                        // implementation
-                        engineName,
-                        keyConverter,
-                        valueConverter);
 
-        offsetWriter.offset(debeziumOffset.sourcePartition, debeziumOffset.sourceOffset);
+        // seed the offset in the same format as the OffsetStorageWriter of the engine, which must
+        // use engineName as namespace to align with Debezium Engine implementation
+        OffsetUtils.validateFormat(debeziumOffset.sourcePartition);
+        OffsetUtils.validateFormat(debeziumOffset.sourceOffset);
+        byte[] key =
+                keyConverter.fromConnectData(
+                        engineName,
+                        null,
+                        Arrays.asList(engineName, debeziumOffset.sourcePartition));
+        byte[] value =
+                valueConverter.fromConnectData(engineName, null, debeziumOffset.sourceOffset);
+        data.put(ByteBuffer.wrap(key), value == null ? null : ByteBuffer.wrap(value));
+        LOG.info(
+                "Initialized offsets, partition: {}, offsets: {}",
+                debeziumOffset.sourcePartition,
+                debeziumOffset.sourceOffset);
+    }
 
-        // flush immediately
-        if (!offsetWriter.beginFlush()) {
-            // if nothing is needed to be flushed, there must be something wrong with the
-            // initialization
-            LOG.warn(
-                    "Initialize FlinkOffsetBackingStore from empty offset state, this shouldn't happen.");
-            return;
-        }
+    /** Encodes the serialized offset state as the value of {@link #OFFSET_STATE_VALUE}. */
+    public static String encodeState(byte[] serializedOffset) {
+        return Base64.getEncoder().encodeToString(serializedOffset);
+    }
 
-        // trigger flushing
-        Future<Void> flushFuture =
-                offsetWriter.doFlush(
-                        (error, result) -> {
-                            if (error != null) {
-                                LOG.error("Failed to flush initial offset.", error);
-                            } else {
-                                LOG.debug("Successfully flush initial offset.");
-                            }
-                        });
-
-        // wait until flushing finished
-        try {
-            flushFuture.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-            LOG.info(
-                    "Flush offsets successfully, partition: {}, offsets: {}",
-                    debeziumOffset.sourcePartition,
-                    debeziumOffset.sourceOffset);
-        } catch (InterruptedException e) {
-            LOG.warn("Flush offsets interrupted, cancelling.", e);
-            offsetWriter.cancelFlush();
-        } catch (ExecutionException e) {
-            LOG.error("Flush offsets threw an unexpected exception.", e);
-            offsetWriter.cancelFlush();
-        } catch (TimeoutException e) {
-            LOG.error("Timed out waiting to flush offsets to storage.", e);
-            offsetWriter.cancelFlush();
-        }
+    @VisibleForTesting
+    static byte[] decodeState(String stateValue) {
+        // the JSON state of previous versions is set as it is
+        return stateValue.startsWith("{")
+                ? stateValue.getBytes(StandardCharsets.UTF_8)
+                : Base64.getDecoder().decode(stateValue);
     }
 
     @Override
@@ -21,7 +21,9 @@ package com.ververica.cdc.debezium.internal;
 import org.apache.flink.annotation.Internal;
 import org.apache.flink.util.ExceptionUtils;
 
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.engine.ChangeEvent;
+import io.debezium.util.ObjectSizeCalculator;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,16 +32,22 @@ import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 import java.io.Closeable;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.List;
 
+import static org.apache.flink.util.Preconditions.checkArgument;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
 /**
- * The Handover is a utility to hand over data (a buffer of records) and exception from a
- * <i>producer</i> thread to a <i>consumer</i> thread. It effectively behaves like a "size one
- * blocking queue", with some extras around exception reporting, closing, and waking up thread
- * without {@link Thread#interrupt() interrupting} threads.
+ * The Handover is a utility to hand over data (buffers of records) and exception from a
+ * <i>producer</i> thread to a <i>consumer</i> thread. It effectively behaves like a bounded
+ * blocking queue of buffers, with some extras around exception reporting, closing, and waking up
+ * thread without {@link Thread#interrupt() interrupting} threads.
+ *
+ * <p>The queue is bounded by the number of the buffered records and optionally by the estimated
+ * size of them in bytes, so the producer keeps polling the database while the consumer emits the
+ * previous buffers, and blocks when the consumer falls behind.
  *
  * <p>This class is used in the Flink Debezium Engine Consumer to hand over data and exceptions
  * between the thread that runs the DebeziumEngine class and the main thread.
@@ -54,35 +62,60 @@ public class Handover implements Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(Handover.class);
     private final Object lock = new Object();
 
+    /** The maximum number of records in the queue. */
+    private final int maxQueueRecords;
+
+    /** The maximum estimated size of records in the queue in bytes, 0 means unbounded. */
+    private final long maxQueueBytes;
+
+    @GuardedBy("lock")
+    private final ArrayDeque<Buffer> queue = new ArrayDeque<>();
+
     @GuardedBy("lock")
-    private List<ChangeEvent<SourceRecord, SourceRecord>> next;
+    private int queueRecords;
+
+    @GuardedBy("lock")
+    private long queueBytes;
 
     @GuardedBy("lock")
     private Throwable error;
 
-    private boolean wakeupProducer;
+    public Handover() {
+        this(CommonConnectorConfig.DEFAULT_MAX_QUEUE_SIZE, 0L);
+    }
+
+    public Handover(int maxQueueRecords, long maxQueueBytes) {
+        checkArgument(maxQueueRecords > 0, "The max queue records must be positive.");
+        checkArgument(maxQueueBytes >= 0, "The max queue bytes must not be negative.");
+        this.maxQueueRecords = maxQueueRecords;
+        this.maxQueueBytes = maxQueueBytes;
+    }
 
     /**
      * Polls the next element from the Handover, possibly blocking until the next element is
      * available. This method behaves similar to polling from a blocking queue.
      *
      * <p>If an exception was handed in by the producer ({@link #reportError(Throwable)}), then that
-     * exception is thrown rather than an element being returned.
+     * exception is thrown rather than an element being returned. The elements handed over before
+     * the Handover was {@link #close() closed} are still returned.
      *
      * @return The next element (buffer of records, never null).
-     * @throws ClosedException Thrown if the Handover was {@link #close() closed}.
+     * @throws ClosedException Thrown if the Handover was {@link #close() closed} and all the
+     *     elements have been picked up.
      * @throws Exception Rethrows exceptions from the {@link #reportError(Throwable)} method.
      */
     public List<ChangeEvent<SourceRecord, SourceRecord>> pollNext() throws Exception {
         synchronized (lock) {
-            while (next == null && error == null) {
+            while (queue.isEmpty() && error == null) {
                 lock.wait();
             }
-            List<ChangeEvent<SourceRecord, SourceRecord>> n = next;
-            if (n != null) {
-                next = null;
+            // the queue is cleared on errors, the elements left are drained after closing
+            if (!queue.isEmpty()) {
+                Buffer buffer = queue.poll();
+                queueRecords -= buffer.events.size();
+                queueBytes -= buffer.bytes;
                 lock.notifyAll();
-                return n;
+                return buffer.events;
             } else {
                 ExceptionUtils.rethrowException(error, error.getMessage());
 
@@ -94,34 +127,34 @@ public class Handover implements Closeable {
     }
 
     /**
-     * Hands over an element from the producer. If the Handover already has an element that was not
-     * yet picked up by the consumer thread, this call blocks until the consumer picks up that
-     * previous element.
-     *
-     * <p>This behavior is similar to a "size one" blocking queue.
+     * Hands over an element from the producer. If the queue is full, i.e. adding the element
+     * exceeds the max records or bytes, this call blocks until the consumer picks up the previous
+     * elements. An element is always accepted by the empty queue, even if it exceeds the bounds.
      *
      * @param element The next element to hand over.
      * @throws InterruptedException Thrown, if the thread is interrupted while blocking for the
-     *     Handover to be empty.
+     *     Handover to have space.
      */
     public void produce(final List<ChangeEvent<SourceRecord, SourceRecord>> element)
             throws InterruptedException {
 
         checkNotNull(element);
+        // estimate the size out of the lock, it traverses the records
+        final long bytes = maxQueueBytes > 0 ? sizeOf(element) : 0L;
 
         synchronized (lock) {
-            while (next != null && !wakeupProducer) {
+            while (!queue.isEmpty() && error == null && isFull(element.size(), bytes)) {
                 lock.wait();
             }
 
-            wakeupProducer = false;
-
             // an error marks this as closed for the producer
             if (error != null) {
                 ExceptionUtils.rethrow(error, error.getMessage());
             } else {
                 // if there is no error, then this is open and can accept this element
-                next = element;
+                queue.add(new Buffer(element, bytes));
+                queueRecords += element.size();
+                queueBytes += bytes;
                 lock.notifyAll();
             }
         }
@@ -130,6 +163,7 @@ public class Handover implements Closeable {
     /**
      * Reports an exception. The consumer will throw the given exception immediately, if it is
      * currently blocked in the {@link #pollNext()} method, or the next time it calls that method.
+     * The elements which are not picked up yet are discarded.
      *
      * <p>After this method has been called, no call to either {@link #produce( List)} or {@link
      * #pollNext()} will ever return regularly any more, but will always return exceptionally.
@@ -149,7 +183,7 @@ public class Handover implements Closeable {
             if (error == null) {
                 error = t;
             }
-            next = null;
+            clear();
             lock.notifyAll();
         }
     }
@@ -160,12 +194,25 @@ public class Handover implements Closeable {
      * @return whether there is an error
      */
     public boolean hasError() {
-        return error != null;
+        synchronized (lock) {
+            return error != null;
+        }
     }
 
     /**
-     * Closes the handover. Both the {@link #produce(List)} method and the {@link #pollNext()} will
-     * throw a {@link ClosedException} on any currently blocking and future invocations.
+     * Returns the number of records in the queue which are not picked up by the consumer yet, it
+     * reaches the max queue records when the consumer is back pressured.
+     */
+    public int getQueueRecords() {
+        synchronized (lock) {
+            return queueRecords;
+        }
+    }
+
+    /**
+     * Closes the handover. The {@link #produce(List)} method will throw a {@link ClosedException}
+     * on any currently blocking and future invocations. The {@link #pollNext()} method returns the
+     * elements which are not picked up yet, and then throws a {@link ClosedException}.
      *
      * <p>If an exception was previously reported via the {@link #reportError(Throwable)} method,
      * that exception will not be overridden. The consumer thread will throw that exception upon
@@ -174,9 +221,6 @@ public class Handover implements Closeable {
     @Override
     public void close() {
         synchronized (lock) {
-            next = null;
-            wakeupProducer = false;
-
             if (error == null) {
                 error = new ClosedException();
             }
@@ -186,6 +230,39 @@ public class Handover implements Closeable {
 
     // ------------------------------------------------------------------------
 
+    @GuardedBy("lock")
+    private boolean isFull(int records, long bytes) {
+        return queueRecords + records > maxQueueRecords
+                || (maxQueueBytes > 0 && queueBytes + bytes > maxQueueBytes);
+    }
+
+    @GuardedBy("lock")
+    private void clear() {
+        queue.clear();
+        queueRecords = 0;
+        queueBytes = 0L;
+    }
+
+    private static long sizeOf(List<ChangeEvent<SourceRecord, SourceRecord>> events) {
+        long bytes = 0L;
+        for (ChangeEvent<SourceRecord, SourceRecord> event : events) {
+            bytes += ObjectSizeCalculator.getObjectSize(event.value());
+        }
+        return bytes;
+    }
+
+    /** The buffer of records in the queue and its estimated size. */
+    private static final class Buffer {
+
+        private final List<ChangeEvent<SourceRecord, SourceRecord>> events;
+        private final long bytes;
+
+        private Buffer(List<ChangeEvent<SourceRecord, SourceRecord>> events, long bytes) {
+            this.events = events;
+            this.bytes = bytes;
+        }
+    }
+
     /**
      * An exception thrown by the Handover in the {@link #pollNext()} or {@link #produce(List)}
      * method, after the Handover was closed via {@link #close()}.
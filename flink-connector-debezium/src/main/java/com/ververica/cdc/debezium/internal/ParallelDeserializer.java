@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.util.ExceptionUtils;
+import org.apache.flink.util.InstantiationUtil;
+
+import org.apache.flink.shaded.guava18.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+
+/**
+ * Deserializes the records of a batch by multiple threads, the batch is divided into contiguous
+ * ranges and each range is deserialized by a thread with its own copy of the deserialization
+ * schema. The outputs are returned in the order of the records, so they're emitted in the same
+ * order as the records are deserialized by a single thread.
+ *
+ * <p>The calling thread deserializes the first range, the other ranges are deserialized by {@code
+ * parallelism - 1} worker threads.
+ *
+ * @param <T> The type created by the deserialization schema.
+ */
+@Internal
+public class ParallelDeserializer<T> implements Closeable {
+
+    /** The minimum number of records of a range, smaller batches use fewer threads. */
+    private static final int MIN_RANGE_SIZE = 16;
+
+    private final List<DebeziumDeserializationSchema<T>> deserializers;
+    private final ExecutorService executor;
+
+    public ParallelDeserializer(
+            DebeziumDeserializationSchema<T> deserializer,
+            int parallelism,
+            ClassLoader userCodeClassLoader)
+            throws IOException, ClassNotFoundException {
+        checkArgument(parallelism > 1, "The parallelism of deserialization must be larger than 1.");
+        this.deserializers = new ArrayList<>(parallelism);
+        this.deserializers.add(deserializer);
+        for (int i = 1; i < parallelism; i++) {
+            // the deserialization schemas may not be thread-safe, every thread uses a copy
+            deserializers.add(InstantiationUtil.clone(deserializer, userCodeClassLoader));
+        }
+        this.executor =
+                Executors.newFixedThreadPool(
+                        parallelism - 1,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("debezium-deserializer-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    /**
+     * Deserializes the given records, the outputs of a record are at the same index of the returned
+     * list. The null records are skipped, e.g. the heartbeat events, and their outputs are null.
+     */
+    public List<List<T>> deserialize(List<SourceRecord> records) throws Exception {
+        final int size = records.size();
+        final List<List<T>> outputs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            outputs.add(null);
+        }
+        final int ranges = Math.max(1, Math.min(deserializers.size(), size / MIN_RANGE_SIZE));
+        final int rangeSize = (size + ranges - 1) / ranges;
+        final List<Future<?>> futures = new ArrayList<>(ranges - 1);
+        for (int i = 1; i < ranges; i++) {
+            final DebeziumDeserializationSchema<T> deserializer = deserializers.get(i);
+            final int from = i * rangeSize;
+            final int to = Math.min(size, from + rangeSize);
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                deserializeRange(deserializer, records, outputs, from, to);
+                                return null;
+                            }));
+        }
+        Throwable error = null;
+        try {
+            deserializeRange(deserializers.get(0), records, outputs, 0, Math.min(size, rangeSize));
+        } catch (Throwable t) {
+            error = t;
+        }
+        // wait for all the ranges, the deserialization schemas aren't used after returning
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                error = ExceptionUtils.firstOrSuppressed(e.getCause(), error);
+            }
+        }
+        if (error != null) {
+            ExceptionUtils.rethrowException(error);
+        }
+        return outputs;
+    }
+
+    private static <T> void deserializeRange(
+            DebeziumDeserializationSchema<T> deserializer,
+            List<SourceRecord> records,
+            List<List<T>> outputs,
+            int from,
+            int to)
+            throws Exception {
+        for (int i = from; i < to; i++) {
+            final SourceRecord record = records.get(i);
+            if (record != null) {
+                final List<T> output = new ArrayList<>(1);
+                deserializer.deserialize(record, new ListCollector<>(output));
+                // the ranges are disjoint, the list is published by the completion of future
+                outputs.set(i, output);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /** Returns the parallel deserializer, or null if the parallelism is 1. */
+    @Nullable
+    public static <T> ParallelDeserializer<T> create(
+            DebeziumDeserializationSchema<T> deserializer,
+            int parallelism,
+            ClassLoader userCodeClassLoader)
+            throws IOException, ClassNotFoundException {
+        return parallelism > 1
+                ? new ParallelDeserializer<>(deserializer, parallelism, userCodeClassLoader)
+                : null;
+    }
+}
@@ -34,6 +34,10 @@ import java.io.IOException;
  * <p>The {@link HistoryRecord} will be used by {@link FlinkDatabaseHistory} which keeps full
  * history of table change events for all tables, the {@link TableChange} will be used by {@link
  * FlinkDatabaseSchemaHistory} which keeps the latest table change for each table.
+ *
+ * <p>The record is immutable, a changed table is represented by a new record, so the serialized
+ * JSON of a record is cached and the unchanged records are not serialized again when the schema
+ * history is checkpointed.
  */
 public class SchemaRecord {
 
@@ -41,6 +45,9 @@ public class SchemaRecord {
 
     @Nullable private final Document tableChangeDoc;
 
+    /** The serialized JSON of the record, it's serialized on the first checkpoint. */
+    @Nullable private volatile String json;
+
     public SchemaRecord(HistoryRecord historyRecord) {
         this.historyRecord = historyRecord;
         this.tableChangeDoc = null;
@@ -56,6 +63,12 @@ public class SchemaRecord {
         }
     }
 
+    /** Creates the record of a document which is restored from the given JSON. */
+    public SchemaRecord(Document document, String json) {
+        this(document);
+        this.json = json;
+    }
+
     @Nullable
     public HistoryRecord getHistoryRecord() {
         return historyRecord;
@@ -82,10 +95,20 @@ public class SchemaRecord {
         }
     }
 
+    /** Returns the serialized JSON of the record, it's cached after the first serialization. */
+    public String toJson() throws IOException {
+        String json = this.json;
+        if (json == null) {
+            json = DocumentWriter.defaultWriter().write(toDocument());
+            this.json = json;
+        }
+        return json;
+    }
+
     @Override
     public String toString() {
         try {
-            return DocumentWriter.defaultWriter().write(toDocument());
+            return toJson();
         } catch (IOException e) {
             return super.toString();
         }
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.connector.source.Boundedness;
+import org.apache.flink.api.connector.source.Source;
+import org.apache.flink.api.connector.source.SourceReader;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import com.ververica.cdc.debezium.source.assigner.HybridSplitAssigner;
+import com.ververica.cdc.debezium.source.assigner.SplitAssigner;
+import com.ververica.cdc.debezium.source.assigner.StreamSplitAssigner;
+import com.ververica.cdc.debezium.source.assigner.state.HybridPendingSplitsState;
+import com.ververica.cdc.debezium.source.assigner.state.PendingSplitsState;
+import com.ververica.cdc.debezium.source.assigner.state.PendingSplitsStateSerializer;
+import com.ververica.cdc.debezium.source.assigner.state.StreamPendingSplitsState;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import com.ververica.cdc.debezium.source.dialect.DataSourceDialect;
+import com.ververica.cdc.debezium.source.enumerator.IncrementalSourceEnumerator;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import com.ververica.cdc.debezium.source.reader.IncrementalSourceReader;
+import com.ververica.cdc.debezium.source.reader.IncrementalSourceRecordEmitter;
+import com.ververica.cdc.debezium.source.reader.IncrementalSourceSplitReader;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.SourceSplitSerializer;
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The basic source of incremental snapshot framework for datasource, it is based on FLIP-27 and
+ * Watermark Signal Algorithm which supports parallel reading snapshot of table and then continue to
+ * capture data change by streaming reading.
+ *
+ * <p>The database specific parts, i.e. discovering the captured tables, splitting tables into
+ * chunks, querying the change log offsets used as watermarks and reading the splits, are provided
+ * by the {@link DataSourceDialect}.
+ *
+ * <p>The framework is derived from the MySQL CDC source, which still has its own copy of the split,
+ * assigner, enumerator and reader classes.
+ *
+ * @param <T> the output type of the source.
+ * @param <C> the source config of the dialect.
+ */
+@Experimental
+public class IncrementalSource<T, C extends SourceConfig>
+        implements Source<T, SourceSplitBase, PendingSplitsState>, ResultTypeQueryable<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final SourceConfig.Factory<C> configFactory;
+    protected final DataSourceDialect<C> dataSourceDialect;
+    protected final OffsetFactory offsetFactory;
+    protected final DebeziumDeserializationSchema<T> deserializationSchema;
+    protected final SourceSplitSerializer sourceSplitSerializer;
+
+    public IncrementalSource(
+            SourceConfig.Factory<C> configFactory,
+            DebeziumDeserializationSchema<T> deserializationSchema,
+            OffsetFactory offsetFactory,
+            DataSourceDialect<C> dataSourceDialect) {
+        this.configFactory = configFactory;
+        this.deserializationSchema = deserializationSchema;
+        this.offsetFactory = offsetFactory;
+        this.dataSourceDialect = dataSourceDialect;
+        this.sourceSplitSerializer = new SourceSplitSerializer(offsetFactory);
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return Boundedness.CONTINUOUS_UNBOUNDED;
+    }
+
+    @Override
+    public SourceReader<T, SourceSplitBase> createReader(SourceReaderContext readerContext)
+            throws Exception {
+        // create source config for the given subtask (e.g. unique replication slot or client id)
+        C sourceConfig = configFactory.create(readerContext.getIndexOfSubtask());
+        FutureCompletingBlockingQueue<RecordsWithSplitIds<SourceRecord>> elementsQueue =
+                new FutureCompletingBlockingQueue<>();
+        Supplier<IncrementalSourceSplitReader<C>> splitReaderSupplier =
+                () ->
+                        new IncrementalSourceSplitReader<>(
+                                readerContext.getIndexOfSubtask(), dataSourceDialect, sourceConfig);
+        return new IncrementalSourceReader<>(
+                elementsQueue,
+                splitReaderSupplier,
+                createRecordEmitter(sourceConfig),
+                readerContext.getConfiguration(),
+                readerContext,
+                sourceConfig,
+                sourceSplitSerializer,
+                dataSourceDialect);
+    }
+
+    @Override
+    public SplitEnumerator<SourceSplitBase, PendingSplitsState> createEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> enumContext) {
+        C sourceConfig = configFactory.create(0);
+        final SplitAssigner splitAssigner;
+        if (sourceConfig.isSnapshotEnabled()) {
+            try {
+                final List<TableId> remainingTables =
+                        dataSourceDialect.discoverDataCollections(sourceConfig);
+                boolean isTableIdCaseSensitive =
+                        dataSourceDialect.isDataCollectionIdCaseSensitive(sourceConfig);
+                splitAssigner =
+                        new HybridSplitAssigner<>(
+                                sourceConfig,
+                                enumContext.currentParallelism(),
+                                remainingTables,
+                                isTableIdCaseSensitive,
+                                dataSourceDialect,
+                                offsetFactory);
+            } catch (Exception e) {
+                throw new FlinkRuntimeException(
+                        "Failed to discover captured tables for enumerator", e);
+            }
+        } else {
+            splitAssigner =
+                    new StreamSplitAssigner<>(sourceConfig, dataSourceDialect, offsetFactory);
+        }
+
+        return createSourceEnumerator(enumContext, sourceConfig, splitAssigner);
+    }
+
+    @Override
+    public SplitEnumerator<SourceSplitBase, PendingSplitsState> restoreEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> enumContext, PendingSplitsState checkpoint) {
+        C sourceConfig = configFactory.create(0);
+
+        final SplitAssigner splitAssigner;
+        if (checkpoint instanceof HybridPendingSplitsState) {
+            splitAssigner =
+                    new HybridSplitAssigner<>(
+                            sourceConfig,
+                            enumContext.currentParallelism(),
+                            (HybridPendingSplitsState) checkpoint,
+                            dataSourceDialect,
+                            offsetFactory);
+        } else if (checkpoint instanceof StreamPendingSplitsState) {
+            splitAssigner =
+                    new StreamSplitAssigner<>(
+                            sourceConfig,
+                            (StreamPendingSplitsState) checkpoint,
+                            dataSourceDialect,
+                            offsetFactory);
+        } else {
+            throw new UnsupportedOperationException(
+                    "Unsupported restored PendingSplitsState: " + checkpoint);
+        }
+        return createSourceEnumerator(enumContext, sourceConfig, splitAssigner);
+    }
+
+    @Override
+    public SimpleVersionedSerializer<SourceSplitBase> getSplitSerializer() {
+        return sourceSplitSerializer;
+    }
+
+    @Override
+    public SimpleVersionedSerializer<PendingSplitsState> getEnumeratorCheckpointSerializer() {
+        return new PendingSplitsStateSerializer(offsetFactory);
+    }
+
+    @Override
+    public TypeInformation<T> getProducedType() {
+        return deserializationSchema.getProducedType();
+    }
+
+    /** Creates the {@link IncrementalSourceEnumerator} of the source, dialects may override. */
+    protected IncrementalSourceEnumerator createSourceEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> enumContext,
+            C sourceConfig,
+            SplitAssigner splitAssigner) {
+        return new IncrementalSourceEnumerator(
+                enumContext, sourceConfig, splitAssigner, sourceSplitSerializer);
+    }
+
+    /** Creates the {@link IncrementalSourceRecordEmitter} of the reader, dialects may override. */
+    protected IncrementalSourceRecordEmitter<T> createRecordEmitter(C sourceConfig) {
+        return new IncrementalSourceRecordEmitter<>(deserializationSchema, offsetFactory);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.assigner;
+
+import org.apache.flink.annotation.Experimental;
+
+import com.ververica.cdc.debezium.source.assigner.state.HybridPendingSplitsState;
+import com.ververica.cdc.debezium.source.assigner.state.PendingSplitsState;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import com.ververica.cdc.debezium.source.dialect.DataSourceDialect;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import com.ververica.cdc.debezium.source.split.FinishedSnapshotSplitInfo;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.relational.TableId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.ververica.cdc.debezium.source.assigner.StreamSplitAssigner.STREAM_SPLIT_ID;
+
+/**
+ * A {@link SplitAssigner} that splits tables into small chunk splits based on the split key range
+ * and chunk size and also continue with the stream splits, see {@link
+ * DataSourceDialect#splitStream}.
+ */
+@Experimental
+public class HybridSplitAssigner<C extends SourceConfig> implements SplitAssigner {
+
+    private final C sourceConfig;
+    private final DataSourceDialect<C> dialect;
+    private final int splitMetaGroupSize;
+    private final OffsetFactory offsetFactory;
+
+    private boolean isStreamSplitAssigned;
+    private final LinkedList<StreamSplit> pendingStreamSplits;
+
+    private final SnapshotSplitAssigner<C> snapshotSplitAssigner;
+
+    public HybridSplitAssigner(
+            C sourceConfig,
+            int currentParallelism,
+            List<TableId> remainingTables,
+            boolean isTableIdCaseSensitive,
+            DataSourceDialect<C> dialect,
+            OffsetFactory offsetFactory) {
+        this(
+                new SnapshotSplitAssigner<>(
+                        sourceConfig,
+                        currentParallelism,
+                        remainingTables,
+                        isTableIdCaseSensitive,
+                        dialect),
+                false,
+                Collections.emptyList(),
+                sourceConfig,
+                dialect,
+                offsetFactory);
+    }
+
+    public HybridSplitAssigner(
+            C sourceConfig,
+            int currentParallelism,
+            HybridPendingSplitsState checkpoint,
+            DataSourceDialect<C> dialect,
+            OffsetFactory offsetFactory) {
+        this(
+                new SnapshotSplitAssigner<>(
+                        sourceConfig,
+                        currentParallelism,
+                        checkpoint.getSnapshotPendingSplits(),
+                        dialect),
+                checkpoint.isStreamSplitAssigned(),
+                checkpoint.getPendingStreamSplits(),
+                sourceConfig,
+                dialect,
+                offsetFactory);
+    }
+
+    private HybridSplitAssigner(
+            SnapshotSplitAssigner<C> snapshotSplitAssigner,
+            boolean isStreamSplitAssigned,
+            List<StreamSplit> pendingStreamSplits,
+            C sourceConfig,
+            DataSourceDialect<C> dialect,
+            OffsetFactory offsetFactory) {
+        this.snapshotSplitAssigner = snapshotSplitAssigner;
+        this.isStreamSplitAssigned = isStreamSplitAssigned;
+        this.pendingStreamSplits = new LinkedList<>(pendingStreamSplits);
+        this.sourceConfig = sourceConfig;
+        this.dialect = dialect;
+        this.splitMetaGroupSize = sourceConfig.getSplitMetaGroupSize();
+        this.offsetFactory = offsetFactory;
+    }
+
+    @Override
+    public void open() {
+        snapshotSplitAssigner.open();
+    }
+
+    @Override
+    public Optional<SourceSplitBase> getNext() {
+        if (snapshotSplitAssigner.noMoreSplits()) {
+            // stream split assigning
+            if (isStreamSplitAssigned) {
+                // the remaining stream splits or no more splits for the assigner
+                return nextStreamSplit();
+            } else if (snapshotSplitAssigner.isFinished()) {
+                // we need to wait snapshot-assigner to be finished before
+                // assigning the stream split. Otherwise, records emitted from stream split
+                // might be out-of-order in terms of same primary key with snapshot splits.
+                isStreamSplitAssigned = true;
+                pendingStreamSplits.addAll(dialect.splitStream(createStreamSplit(), sourceConfig));
+                return nextStreamSplit();
+            } else {
+                // stream split is not ready by now
+                return Optional.empty();
+            }
+        } else {
+            // snapshot assigner still have remaining splits, assign split from it
+            return snapshotSplitAssigner.getNext();
+        }
+    }
+
+    @Override
+    public boolean waitingForFinishedSplits() {
+        return snapshotSplitAssigner.waitingForFinishedSplits();
+    }
+
+    @Override
+    public List<FinishedSnapshotSplitInfo> getFinishedSplitInfos() {
+        return snapshotSplitAssigner.getFinishedSplitInfos();
+    }
+
+    @Override
+    public void onFinishedSplits(Map<String, Offset> splitFinishedOffsets) {
+        snapshotSplitAssigner.onFinishedSplits(splitFinishedOffsets);
+    }
+
+    @Override
+    public void addSplits(Collection<SourceSplitBase> splits) {
+        List<SourceSplitBase> snapshotSplits = new ArrayList<>();
+        for (SourceSplitBase split : splits) {
+            if (split.isSnapshotSplit()) {
+                snapshotSplits.add(split);
+            } else {
+                // the stream split is assigned again as it was, the reader restores nothing of it
+                pendingStreamSplits.add(split.asStreamSplit());
+            }
+        }
+        snapshotSplitAssigner.addSplits(snapshotSplits);
+    }
+
+    @Override
+    public PendingSplitsState snapshotState(long checkpointId) {
+        return new HybridPendingSplitsState(
+                snapshotSplitAssigner.snapshotState(checkpointId),
+                isStreamSplitAssigned,
+                new ArrayList<>(pendingStreamSplits));
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {
+        snapshotSplitAssigner.notifyCheckpointComplete(checkpointId);
+    }
+
+    @Override
+    public void close() {
+        snapshotSplitAssigner.close();
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private Optional<SourceSplitBase> nextStreamSplit() {
+        if (pendingStreamSplits.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(pendingStreamSplits.poll());
+    }
+
+    private StreamSplit createStreamSplit() {
+        final List<SnapshotSplit> assignedSnapshotSplit =
+                snapshotSplitAssigner.getAssignedSplits().values().stream()
+                        .sorted(Comparator.comparing(SourceSplitBase::splitId))
+                        .collect(Collectors.toList());
+
+        Map<String, Offset> splitFinishedOffsets = snapshotSplitAssigner.getSplitFinishedOffsets();
+        final List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos = new ArrayList<>();
+
+        Offset minOffset = null;
+        for (SnapshotSplit split : assignedSnapshotSplit) {
+            // find the min offset of change log
+            Offset changeLogOffset = splitFinishedOffsets.get(split.splitId());
+            if (minOffset == null || changeLogOffset.isBefore(minOffset)) {
+                minOffset = changeLogOffset;
+            }
+            finishedSnapshotSplitInfos.add(
+                    new FinishedSnapshotSplitInfo(
+                            split.getTableId(),
+                            split.splitId(),
+                            split.getSplitStart(),
+                            split.getSplitEnd(),
+                            changeLogOffset));
+        }
+
+        // the finishedSnapshotSplitInfos is too large for transmission, divide it to groups and
+        // then transfer them
+        boolean divideMetaToGroups = finishedSnapshotSplitInfos.size() > splitMetaGroupSize;
+        return new StreamSplit(
+                STREAM_SPLIT_ID,
+                minOffset == null ? offsetFactory.createInitialOffset() : minOffset,
+                offsetFactory.createNoStoppingOffset(),
+                divideMetaToGroups ? new ArrayList<>() : finishedSnapshotSplitInfos,
+                new HashMap<>(),
+                finishedSnapshotSplitInfos.size());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.assigner;
+
+import org.apache.flink.annotation.Experimental;
+
+import com.ververica.cdc.debezium.source.assigner.state.PendingSplitsState;
+import com.ververica.cdc.debezium.source.assigner.state.StreamPendingSplitsState;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import com.ververica.cdc.debezium.source.dialect.DataSourceDialect;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import com.ververica.cdc.debezium.source.split.FinishedSnapshotSplitInfo;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link SplitAssigner} which only reads the change log from the current offset, by one or more
+ * stream splits, see {@link DataSourceDialect#splitStream}.
+ */
+@Experimental
+public class StreamSplitAssigner<C extends SourceConfig> implements SplitAssigner {
+
+    public static final String STREAM_SPLIT_ID = "stream-split";
+
+    private final C sourceConfig;
+    private final DataSourceDialect<C> dialect;
+    private final OffsetFactory offsetFactory;
+
+    private boolean isStreamSplitAssigned;
+    private final LinkedList<StreamSplit> pendingStreamSplits;
+
+    public StreamSplitAssigner(
+            C sourceConfig, DataSourceDialect<C> dialect, OffsetFactory offsetFactory) {
+        this(sourceConfig, false, Collections.emptyList(), dialect, offsetFactory);
+    }
+
+    public StreamSplitAssigner(
+            C sourceConfig,
+            StreamPendingSplitsState checkpoint,
+            DataSourceDialect<C> dialect,
+            OffsetFactory offsetFactory) {
+        this(
+                sourceConfig,
+                checkpoint.isStreamSplitAssigned(),
+                checkpoint.getPendingStreamSplits(),
+                dialect,
+                offsetFactory);
+    }
+
+    private StreamSplitAssigner(
+            C sourceConfig,
+            boolean isStreamSplitAssigned,
+            List<StreamSplit> pendingStreamSplits,
+            DataSourceDialect<C> dialect,
+            OffsetFactory offsetFactory) {
+        this.sourceConfig = sourceConfig;
+        this.isStreamSplitAssigned = isStreamSplitAssigned;
+        this.pendingStreamSplits = new LinkedList<>(pendingStreamSplits);
+        this.dialect = dialect;
+        this.offsetFactory = offsetFactory;
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public Optional<SourceSplitBase> getNext() {
+        if (!isStreamSplitAssigned) {
+            isStreamSplitAssigned = true;
+            pendingStreamSplits.addAll(dialect.splitStream(createStreamSplit(), sourceConfig));
+        }
+        return nextStreamSplit();
+    }
+
+    @Override
+    public boolean waitingForFinishedSplits() {
+        return false;
+    }
+
+    @Override
+    public List<FinishedSnapshotSplitInfo> getFinishedSplitInfos() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void onFinishedSplits(Map<String, Offset> splitFinishedOffsets) {
+        // do nothing
+    }
+
+    @Override
+    public void addSplits(Collection<SourceSplitBase> splits) {
+        // the stream splits are assigned again as they were, the readers restore nothing of them
+        for (SourceSplitBase split : splits) {
+            pendingStreamSplits.add(split.asStreamSplit());
+        }
+    }
+
+    @Override
+    public PendingSplitsState snapshotState(long checkpointId) {
+        return new StreamPendingSplitsState(
+                isStreamSplitAssigned, new ArrayList<>(pendingStreamSplits));
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {
+        // nothing to do
+    }
+
+    @Override
+    public void close() {}
+
+    // ------------------------------------------------------------------------------------------
+
+    private Optional<SourceSplitBase> nextStreamSplit() {
+        if (pendingStreamSplits.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(pendingStreamSplits.poll());
+    }
+
+    private StreamSplit createStreamSplit() {
+        return new StreamSplit(
+                STREAM_SPLIT_ID,
+                dialect.displayCurrentOffset(sourceConfig),
+                offsetFactory.createNoStoppingOffset(),
+                new ArrayList<>(),
+                new HashMap<>(),
+                0);
+    }
+}
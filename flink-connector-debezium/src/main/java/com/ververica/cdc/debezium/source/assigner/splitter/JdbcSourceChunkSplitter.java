@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.assigner.splitter;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.api.ValidationException;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.debezium.source.config.JdbcSourceConfig;
+import com.ververica.cdc.debezium.source.dialect.JdbcDataSourceDialect;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@link ChunkSplitter} of the JDBC dialects, it splits a table into chunks by the split
+ * column, which is the configured chunk key column or the first primary key column.
+ *
+ * <p>The tables whose split column is an evenly distributed integral column are split into chunks
+ * of the same value range, other tables are split by continuously querying the max value of the
+ * next chunk via the {@link JdbcDataSourceDialect}.
+ */
+@Experimental
+public class JdbcSourceChunkSplitter<C extends JdbcSourceConfig> implements ChunkSplitter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcSourceChunkSplitter.class);
+
+    protected final C sourceConfig;
+    protected final JdbcDataSourceDialect<C> dialect;
+
+    public JdbcSourceChunkSplitter(C sourceConfig, JdbcDataSourceDialect<C> dialect) {
+        this.sourceConfig = sourceConfig;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+        try (JdbcConnection jdbc = dialect.openJdbcConnection(sourceConfig)) {
+
+            LOG.info("Start splitting table {} into chunks...", tableId);
+            long start = System.currentTimeMillis();
+
+            TableChange tableSchema = dialect.queryTableSchema(jdbc, tableId);
+            Column splitColumn = getSplitColumn(tableSchema.getTable());
+            final List<ChunkRange> chunks;
+            try {
+                chunks = splitTableIntoChunks(jdbc, tableId, splitColumn);
+            } catch (SQLException e) {
+                throw new FlinkRuntimeException("Failed to split chunks for table " + tableId, e);
+            }
+
+            // convert chunks into splits
+            Map<TableId, TableChange> schema = new HashMap<>();
+            schema.put(tableId, tableSchema);
+            RowType splitType = getSplitType(splitColumn);
+            List<SnapshotSplit> splits = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i++) {
+                ChunkRange chunk = chunks.get(i);
+                splits.add(
+                        new SnapshotSplit(
+                                tableId,
+                                splitId(tableId, i),
+                                splitType,
+                                chunk.getChunkStart() == null
+                                        ? null
+                                        : new Object[] {chunk.getChunkStart()},
+                                chunk.getChunkEnd() == null
+                                        ? null
+                                        : new Object[] {chunk.getChunkEnd()},
+                                null,
+                                schema));
+            }
+
+            long end = System.currentTimeMillis();
+            LOG.info(
+                    "Split table {} into {} chunks, time cost: {}ms.",
+                    tableId,
+                    splits.size(),
+                    Duration.ofMillis(end - start));
+            return splits;
+        } catch (Exception e) {
+            throw new FlinkRuntimeException(
+                    String.format("Generate Splits for table %s error", tableId), e);
+        }
+    }
+
+    /**
+     * Returns the column used to split the table, which is the configured chunk key column or the
+     * first primary key column.
+     */
+    protected Column getSplitColumn(Table table) {
+        @Nullable final String chunkKeyColumn = sourceConfig.getChunkKeyColumn();
+        if (chunkKeyColumn != null) {
+            Column column = table.columnWithName(chunkKeyColumn);
+            if (column == null) {
+                throw new ValidationException(
+                        String.format(
+                                "The chunk key column '%s' doesn't exist in table %s.",
+                                chunkKeyColumn, table.id()));
+            }
+            return column;
+        }
+        List<Column> primaryKeys = table.primaryKeyColumns();
+        if (primaryKeys.isEmpty()) {
+            throw new ValidationException(
+                    String.format(
+                            "Incremental snapshot for tables requires primary key or the chunk key column,"
+                                    + " but table %s has no primary key.",
+                            table.id()));
+        }
+        // use first field in primary key as the split key
+        return primaryKeys.get(0);
+    }
+
+    /** Returns the type of split key. */
+    protected RowType getSplitType(Column splitColumn) {
+        return (RowType)
+                DataTypes.ROW(
+                                DataTypes.FIELD(
+                                        splitColumn.name(), dialect.fromDbzColumn(splitColumn)))
+                        .getLogicalType();
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Utilities
+    // --------------------------------------------------------------------------------------------
+
+    private List<ChunkRange> splitTableIntoChunks(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn) throws SQLException {
+        final String splitColumnName = splitColumn.name();
+        final Object[] minMaxOfSplitColumn = dialect.queryMinMax(jdbc, tableId, splitColumnName);
+        final Object min = minMaxOfSplitColumn[0];
+        final Object max = minMaxOfSplitColumn[1];
+        if (min == null || max == null || min.equals(max)) {
+            // empty table, or only one row, return full table scan as a chunk
+            return Collections.singletonList(ChunkRange.all());
+        }
+
+        final int chunkSize = sourceConfig.getSplitSize();
+        if (isEvenlySplitColumn(min, max)) {
+            final double distributionFactor =
+                    calculateDistributionFactor(jdbc, tableId, (Number) min, (Number) max);
+            if (distributionFactor <= sourceConfig.getEvenlyDistributionFactor()) {
+                // use evenly-sized chunks which is much efficient
+                final int dynamicChunkSize =
+                        Math.max((int) (distributionFactor * chunkSize), chunkSize);
+                LOG.info(
+                        "Use evenly-sized chunk optimization for table {}, the distribution factor is {}, the chunk size is {}",
+                        tableId,
+                        distributionFactor,
+                        dynamicChunkSize);
+                return splitEvenlySizedChunks((Number) min, (Number) max, dynamicChunkSize);
+            }
+        }
+        // use unevenly-sized chunks which will request many queries and is not efficient.
+        LOG.info(
+                "Use unevenly-sized chunks for table {}, the chunk size is {}", tableId, chunkSize);
+        return splitUnevenlySizedChunks(jdbc, tableId, splitColumnName, min, max, chunkSize);
+    }
+
+    /**
+     * Split table into evenly sized chunks based on the numeric min and max value of split column,
+     * and tumble chunks in step size.
+     */
+    private List<ChunkRange> splitEvenlySizedChunks(Number min, Number max, int chunkSize) {
+        final long maxValue = max.longValue();
+        if (min.longValue() + chunkSize > maxValue) {
+            // there is no more than one chunk, return full table as a chunk
+            return Collections.singletonList(ChunkRange.all());
+        }
+
+        final List<ChunkRange> splits = new ArrayList<>();
+        Object chunkStart = null;
+        long chunkEnd = min.longValue() + chunkSize;
+        while (chunkEnd <= maxValue) {
+            Object end = castToSameType(chunkEnd, min);
+            splits.add(ChunkRange.of(chunkStart, end));
+            chunkStart = end;
+            chunkEnd += chunkSize;
+        }
+        // add the ending split
+        splits.add(ChunkRange.of(chunkStart, null));
+        return splits;
+    }
+
+    /** Split table into unevenly sized chunks by continuously calculating next chunk max value. */
+    private List<ChunkRange> splitUnevenlySizedChunks(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String splitColumnName,
+            Object min,
+            Object max,
+            int chunkSize)
+            throws SQLException {
+        final List<ChunkRange> splits = new ArrayList<>();
+        Object chunkStart = null;
+        Object chunkEnd = nextChunkEnd(jdbc, min, tableId, splitColumnName, max, chunkSize);
+        int count = 0;
+        while (chunkEnd != null && compare(chunkEnd, max) <= 0) {
+            // we start from [null, min + chunk_size) and avoid [null, min)
+            splits.add(ChunkRange.of(chunkStart, chunkEnd));
+            // may sleep a while to avoid DDOS on the database server
+            maySleep(count++, tableId);
+            chunkStart = chunkEnd;
+            chunkEnd = nextChunkEnd(jdbc, chunkEnd, tableId, splitColumnName, max, chunkSize);
+        }
+        // add the ending split
+        splits.add(ChunkRange.of(chunkStart, null));
+        return splits;
+    }
+
+    @Nullable
+    private Object nextChunkEnd(
+            JdbcConnection jdbc,
+            Object previousChunkEnd,
+            TableId tableId,
+            String splitColumnName,
+            Object max,
+            int chunkSize)
+            throws SQLException {
+        // chunk end might be null when max values are removed
+        Object chunkEnd =
+                dialect.queryNextChunkMax(
+                        jdbc, tableId, splitColumnName, chunkSize, previousChunkEnd);
+        if (Objects.equals(previousChunkEnd, chunkEnd)) {
+            // we don't allow equal chunk start and end,
+            // should query the next one larger than chunkEnd
+            chunkEnd = dialect.queryMin(jdbc, tableId, splitColumnName, chunkEnd);
+        }
+        if (chunkEnd == null || compare(chunkEnd, max) >= 0) {
+            return null;
+        } else {
+            return chunkEnd;
+        }
+    }
+
+    /** Returns the distribution factor of the given table. */
+    private double calculateDistributionFactor(
+            JdbcConnection jdbc, TableId tableId, Number min, Number max) throws SQLException {
+        final long approximateRowCnt = dialect.queryApproximateRowCnt(jdbc, tableId);
+        if (approximateRowCnt <= 0) {
+            return Double.MAX_VALUE;
+        }
+        // factor = max - min + 1 / rowCount
+        final BigDecimal subRowCnt =
+                BigDecimal.valueOf(max.longValue())
+                        .subtract(BigDecimal.valueOf(min.longValue()))
+                        .add(BigDecimal.ONE);
+        return subRowCnt
+                .divide(BigDecimal.valueOf(approximateRowCnt), 2, RoundingMode.CEILING)
+                .doubleValue();
+    }
+
+    /** Checks whether split column is an integral column which could be evenly distributed. */
+    private static boolean isEvenlySplitColumn(Object min, Object max) {
+        return (min instanceof Integer || min instanceof Long) && min.getClass() == max.getClass();
+    }
+
+    private static Object castToSameType(long value, Number sample) {
+        return sample instanceof Integer ? (Object) (int) value : (Object) value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object o1, Object o2) {
+        if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
+            return ((Comparable) o1).compareTo(o2);
+        } else if (o1 instanceof Number && o2 instanceof Number) {
+            return new BigDecimal(o1.toString()).compareTo(new BigDecimal(o2.toString()));
+        } else {
+            return o1.toString().compareTo(o2.toString());
+        }
+    }
+
+    protected static String splitId(TableId tableId, int chunkId) {
+        return tableId.toString() + ":" + chunkId;
+    }
+
+    private static void maySleep(int count, TableId tableId) {
+        // every 10 queries to sleep 100ms
+        if (count % 10 == 0) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                // nothing to do
+            }
+            LOG.info("ChunkSplitter has split {} chunks for table {}", count, tableId);
+        }
+    }
+}
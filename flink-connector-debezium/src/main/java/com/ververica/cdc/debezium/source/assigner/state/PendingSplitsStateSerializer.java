@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.assigner.state;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.SourceSplitSerializer;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.relational.TableId;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.readOffset;
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.readTableId;
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.writeOffset;
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.writeTableId;
+
+/**
+ * The {@link SimpleVersionedSerializer Serializer} for the {@link PendingSplitsState} of the
+ * incremental source.
+ */
+@Experimental
+public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<PendingSplitsState> {
+
+    private static final int VERSION = 2;
+    private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
+            ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
+
+    private static final int SNAPSHOT_PENDING_SPLITS_STATE_FLAG = 1;
+    private static final int STREAM_PENDING_SPLITS_STATE_FLAG = 2;
+    private static final int HYBRID_PENDING_SPLITS_STATE_FLAG = 3;
+
+    private final SourceSplitSerializer splitSerializer;
+    private final OffsetFactory offsetFactory;
+
+    public PendingSplitsStateSerializer(OffsetFactory offsetFactory) {
+        this.splitSerializer = new SourceSplitSerializer(offsetFactory);
+        this.offsetFactory = offsetFactory;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(PendingSplitsState state) throws IOException {
+        // optimization: the splits lazily cache their own serialized form
+        if (state.serializedFormCache != null) {
+            return state.serializedFormCache;
+        }
+        final DataOutputSerializer out = SERIALIZER_CACHE.get();
+
+        out.writeInt(splitSerializer.getVersion());
+        if (state instanceof SnapshotPendingSplitsState) {
+            out.writeInt(SNAPSHOT_PENDING_SPLITS_STATE_FLAG);
+            serializeSnapshotPendingSplitsState((SnapshotPendingSplitsState) state, out);
+        } else if (state instanceof StreamPendingSplitsState) {
+            out.writeInt(STREAM_PENDING_SPLITS_STATE_FLAG);
+            StreamPendingSplitsState streamState = (StreamPendingSplitsState) state;
+            out.writeBoolean(streamState.isStreamSplitAssigned());
+            writeStreamSplits(streamState.getPendingStreamSplits(), out);
+        } else if (state instanceof HybridPendingSplitsState) {
+            out.writeInt(HYBRID_PENDING_SPLITS_STATE_FLAG);
+            HybridPendingSplitsState hybridState = (HybridPendingSplitsState) state;
+            serializeSnapshotPendingSplitsState(hybridState.getSnapshotPendingSplits(), out);
+            out.writeBoolean(hybridState.isStreamSplitAssigned());
+            writeStreamSplits(hybridState.getPendingStreamSplits(), out);
+        } else {
+            throw new IOException(
+                    "Unsupported to serialize PendingSplitsState class: "
+                            + state.getClass().getName());
+        }
+
+        final byte[] result = out.getCopyOfBuffer();
+        // optimization: cache the serialized from, so we avoid the byte work during repeated
+        // serialization
+        state.serializedFormCache = result;
+        out.clear();
+        return result;
+    }
+
+    @Override
+    public PendingSplitsState deserialize(int version, byte[] serialized) throws IOException {
+        if (version != 1 && version != VERSION) {
+            throw new IOException("Unknown version: " + version);
+        }
+        final DataInputDeserializer in = new DataInputDeserializer(serialized);
+        final int splitVersion = in.readInt();
+        final int stateFlag = in.readInt();
+        if (stateFlag == SNAPSHOT_PENDING_SPLITS_STATE_FLAG) {
+            return deserializeSnapshotPendingSplitsState(splitVersion, in);
+        } else if (stateFlag == HYBRID_PENDING_SPLITS_STATE_FLAG) {
+            SnapshotPendingSplitsState snapshotPendingSplitsState =
+                    deserializeSnapshotPendingSplitsState(splitVersion, in);
+            boolean isStreamSplitAssigned = in.readBoolean();
+            return new HybridPendingSplitsState(
+                    snapshotPendingSplitsState,
+                    isStreamSplitAssigned,
+                    readStreamSplits(version, splitVersion, in));
+        } else if (stateFlag == STREAM_PENDING_SPLITS_STATE_FLAG) {
+            boolean isStreamSplitAssigned = in.readBoolean();
+            return new StreamPendingSplitsState(
+                    isStreamSplitAssigned, readStreamSplits(version, splitVersion, in));
+        } else {
+            throw new IOException(
+                    "Unsupported to deserialize PendingSplitsState flag: " + stateFlag);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Serialize
+    // ------------------------------------------------------------------------------------------
+
+    private void serializeSnapshotPendingSplitsState(
+            SnapshotPendingSplitsState state, DataOutputSerializer out) throws IOException {
+        writeTableIds(state.getAlreadyProcessedTables(), out);
+        writeSnapshotSplits(state.getRemainingSplits(), out);
+        writeAssignedSnapshotSplits(state.getAssignedSplits(), out);
+        writeFinishedOffsets(state.getSplitFinishedOffsets(), out);
+        out.writeBoolean(state.isAssignerFinished());
+        writeTableIds(state.getRemainingTables(), out);
+        out.writeBoolean(state.isTableIdCaseSensitive());
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Deserialize
+    // ------------------------------------------------------------------------------------------
+
+    private SnapshotPendingSplitsState deserializeSnapshotPendingSplitsState(
+            int splitVersion, DataInputDeserializer in) throws IOException {
+        List<TableId> alreadyProcessedTables = readTableIds(in);
+        List<SnapshotSplit> remainingSplits = readSnapshotSplits(splitVersion, in);
+        Map<String, SnapshotSplit> assignedSnapshotSplits =
+                readAssignedSnapshotSplits(splitVersion, in);
+        Map<String, Offset> finishedOffsets = readFinishedOffsets(in);
+        boolean isAssignerFinished = in.readBoolean();
+        List<TableId> remainingTableIds = readTableIds(in);
+        boolean isTableIdCaseSensitive = in.readBoolean();
+        return new SnapshotPendingSplitsState(
+                alreadyProcessedTables,
+                remainingSplits,
+                assignedSnapshotSplits,
+                finishedOffsets,
+                isAssignerFinished,
+                remainingTableIds,
+                isTableIdCaseSensitive);
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Utilities
+    // ------------------------------------------------------------------------------------------
+
+    private void writeFinishedOffsets(Map<String, Offset> splitsInfo, DataOutputSerializer out)
+            throws IOException {
+        out.writeInt(splitsInfo.size());
+        for (Map.Entry<String, Offset> splitInfo : splitsInfo.entrySet()) {
+            out.writeUTF(splitInfo.getKey());
+            writeOffset(splitInfo.getValue(), out);
+        }
+    }
+
+    private Map<String, Offset> readFinishedOffsets(DataInputDeserializer in) throws IOException {
+        Map<String, Offset> splitsInfo = new HashMap<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String splitId = in.readUTF();
+            splitsInfo.put(splitId, readOffset(offsetFactory, in));
+        }
+        return splitsInfo;
+    }
+
+    private void writeAssignedSnapshotSplits(
+            Map<String, SnapshotSplit> assignedSplits, DataOutputSerializer out)
+            throws IOException {
+        out.writeInt(assignedSplits.size());
+        for (Map.Entry<String, SnapshotSplit> entry : assignedSplits.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeSplit(entry.getValue(), out);
+        }
+    }
+
+    private Map<String, SnapshotSplit> readAssignedSnapshotSplits(
+            int splitVersion, DataInputDeserializer in) throws IOException {
+        Map<String, SnapshotSplit> assignedSplits = new HashMap<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String splitId = in.readUTF();
+            assignedSplits.put(splitId, readSplit(splitVersion, in).asSnapshotSplit());
+        }
+        return assignedSplits;
+    }
+
+    private void writeSnapshotSplits(Collection<SnapshotSplit> splits, DataOutputSerializer out)
+            throws IOException {
+        out.writeInt(splits.size());
+        for (SnapshotSplit split : splits) {
+            writeSplit(split, out);
+        }
+    }
+
+    private List<SnapshotSplit> readSnapshotSplits(int splitVersion, DataInputDeserializer in)
+            throws IOException {
+        List<SnapshotSplit> splits = new ArrayList<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            splits.add(readSplit(splitVersion, in).asSnapshotSplit());
+        }
+        return splits;
+    }
+
+    private void writeStreamSplits(Collection<StreamSplit> splits, DataOutputSerializer out)
+            throws IOException {
+        out.writeInt(splits.size());
+        for (StreamSplit split : splits) {
+            writeSplit(split, out);
+        }
+    }
+
+    private List<StreamSplit> readStreamSplits(
+            int version, int splitVersion, DataInputDeserializer in) throws IOException {
+        // the state of version 1 has no pending stream splits, the single stream split is
+        // re-created if it isn't assigned
+        if (version < 2) {
+            return Collections.emptyList();
+        }
+        List<StreamSplit> splits = new ArrayList<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            splits.add(readSplit(splitVersion, in).asStreamSplit());
+        }
+        return splits;
+    }
+
+    private void writeSplit(SourceSplitBase split, DataOutputSerializer out) throws IOException {
+        byte[] splitBytes = splitSerializer.serialize(split);
+        out.writeInt(splitBytes.length);
+        out.write(splitBytes);
+    }
+
+    private SourceSplitBase readSplit(int splitVersion, DataInputDeserializer in)
+            throws IOException {
+        byte[] splitBytes = new byte[in.readInt()];
+        in.readFully(splitBytes);
+        return splitSerializer.deserialize(splitVersion, splitBytes);
+    }
+
+    private void writeTableIds(Collection<TableId> tableIds, DataOutputSerializer out)
+            throws IOException {
+        out.writeInt(tableIds.size());
+        for (TableId tableId : tableIds) {
+            writeTableId(tableId, out);
+        }
+    }
+
+    private List<TableId> readTableIds(DataInputDeserializer in) throws IOException {
+        List<TableId> tableIds = new ArrayList<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            tableIds.add(readTableId(in));
+        }
+        return tableIds;
+    }
+}
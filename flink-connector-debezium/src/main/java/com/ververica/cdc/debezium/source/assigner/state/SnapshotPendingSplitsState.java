@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.assigner.state;
+
+import org.apache.flink.annotation.Experimental;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import io.debezium.relational.TableId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/** A {@link PendingSplitsState} for pending snapshot splits. */
+@Experimental
+public class SnapshotPendingSplitsState extends PendingSplitsState {
+
+    /** The tables in the checkpoint. */
+    private final List<TableId> remainingTables;
+
+    /**
+     * The paths that are no longer in the enumerator checkpoint, but have been processed before and
+     * should be ignored. Only used when the enumerator starts with the checkpoint.
+     */
+    private final List<TableId> alreadyProcessedTables;
+
+    /** The splits in the checkpoint. */
+    private final List<SnapshotSplit> remainingSplits;
+
+    /**
+     * The snapshot splits that the enumerator has assigned to readers which are not finished yet.
+     */
+    private final Map<String, SnapshotSplit> assignedSplits;
+
+    /**
+     * The offsets of finished (snapshot) splits that the enumerator has received from the readers.
+     */
+    private final Map<String, Offset> splitFinishedOffsets;
+
+    /** Whether the snapshot split assigner is finished. */
+    private final boolean isAssignerFinished;
+
+    /** Whether the table identifier is case sensitive. */
+    private final boolean isTableIdCaseSensitive;
+
+    public SnapshotPendingSplitsState(
+            List<TableId> alreadyProcessedTables,
+            List<SnapshotSplit> remainingSplits,
+            Map<String, SnapshotSplit> assignedSplits,
+            Map<String, Offset> splitFinishedOffsets,
+            boolean isAssignerFinished,
+            List<TableId> remainingTables,
+            boolean isTableIdCaseSensitive) {
+        this.alreadyProcessedTables = alreadyProcessedTables;
+        this.remainingSplits = remainingSplits;
+        this.assignedSplits = assignedSplits;
+        this.splitFinishedOffsets = splitFinishedOffsets;
+        this.isAssignerFinished = isAssignerFinished;
+        this.remainingTables = remainingTables;
+        this.isTableIdCaseSensitive = isTableIdCaseSensitive;
+    }
+
+    public List<TableId> getAlreadyProcessedTables() {
+        return alreadyProcessedTables;
+    }
+
+    public List<SnapshotSplit> getRemainingSplits() {
+        return remainingSplits;
+    }
+
+    public Map<String, SnapshotSplit> getAssignedSplits() {
+        return assignedSplits;
+    }
+
+    public Map<String, Offset> getSplitFinishedOffsets() {
+        return splitFinishedOffsets;
+    }
+
+    public boolean isAssignerFinished() {
+        return isAssignerFinished;
+    }
+
+    public List<TableId> getRemainingTables() {
+        return remainingTables;
+    }
+
+    public boolean isTableIdCaseSensitive() {
+        return isTableIdCaseSensitive;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SnapshotPendingSplitsState)) {
+            return false;
+        }
+        SnapshotPendingSplitsState that = (SnapshotPendingSplitsState) o;
+        return isAssignerFinished == that.isAssignerFinished
+                && isTableIdCaseSensitive == that.isTableIdCaseSensitive
+                && Objects.equals(remainingTables, that.remainingTables)
+                && Objects.equals(alreadyProcessedTables, that.alreadyProcessedTables)
+                && Objects.equals(remainingSplits, that.remainingSplits)
+                && Objects.equals(assignedSplits, that.assignedSplits)
+                && Objects.equals(splitFinishedOffsets, that.splitFinishedOffsets);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                remainingTables,
+                alreadyProcessedTables,
+                remainingSplits,
+                assignedSplits,
+                splitFinishedOffsets,
+                isAssignerFinished,
+                isTableIdCaseSensitive);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotPendingSplitsState{"
+                + "remainingTables="
+                + remainingTables
+                + ", alreadyProcessedTables="
+                + alreadyProcessedTables
+                + ", remainingSplits="
+                + remainingSplits
+                + ", assignedSplits="
+                + assignedSplits
+                + ", splitFinishedOffsets="
+                + splitFinishedOffsets
+                + ", isAssignerFinished="
+                + isAssignerFinished
+                + ", isTableIdCaseSensitive="
+                + isTableIdCaseSensitive
+                + '}';
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.assigner.state;
+
+import org.apache.flink.annotation.Experimental;
+
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+
+import java.util.List;
+import java.util.Objects;
+
+/** A {@link PendingSplitsState} for pending stream splits. */
+@Experimental
+public class StreamPendingSplitsState extends PendingSplitsState {
+
+    private final boolean isStreamSplitAssigned;
+
+    /** The stream splits which are created or added back but haven't been assigned yet. */
+    private final List<StreamSplit> pendingStreamSplits;
+
+    public StreamPendingSplitsState(
+            boolean isStreamSplitAssigned, List<StreamSplit> pendingStreamSplits) {
+        this.isStreamSplitAssigned = isStreamSplitAssigned;
+        this.pendingStreamSplits = pendingStreamSplits;
+    }
+
+    public boolean isStreamSplitAssigned() {
+        return isStreamSplitAssigned;
+    }
+
+    public List<StreamSplit> getPendingStreamSplits() {
+        return pendingStreamSplits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        StreamPendingSplitsState that = (StreamPendingSplitsState) o;
+        return isStreamSplitAssigned == that.isStreamSplitAssigned
+                && Objects.equals(pendingStreamSplits, that.pendingStreamSplits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isStreamSplitAssigned, pendingStreamSplits);
+    }
+
+    @Override
+    public String toString() {
+        return "StreamPendingSplitsState{"
+                + "isStreamSplitAssigned="
+                + isStreamSplitAssigned
+                + ", pendingStreamSplits="
+                + pendingStreamSplits
+                + '}';
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.config;
+
+import org.apache.flink.annotation.Experimental;
+
+import io.debezium.config.Configuration;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** The {@link SourceConfig} of the dialects which read the snapshot of tables via JDBC. */
+@Experimental
+public abstract class JdbcSourceConfig implements SourceConfig {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final String hostname;
+    protected final int port;
+    protected final String username;
+    protected final String password;
+    protected final List<String> databaseList;
+    protected final List<String> tableList;
+    protected final boolean snapshotEnabled;
+    protected final int splitSize;
+    protected final int splitMetaGroupSize;
+    protected final int fetchSize;
+    protected final Duration connectTimeout;
+    protected final int connectMaxRetries;
+    protected final double evenlyDistributionFactor;
+    protected final boolean includeSchemaChanges;
+    @Nullable protected final String chunkKeyColumn;
+
+    protected final Properties dbzProperties;
+    protected final Configuration dbzConfiguration;
+
+    protected JdbcSourceConfig(
+            String hostname,
+            int port,
+            String username,
+            String password,
+            List<String> databaseList,
+            List<String> tableList,
+            boolean snapshotEnabled,
+            int splitSize,
+            int splitMetaGroupSize,
+            int fetchSize,
+            Duration connectTimeout,
+            int connectMaxRetries,
+            double evenlyDistributionFactor,
+            boolean includeSchemaChanges,
+            @Nullable String chunkKeyColumn,
+            Properties dbzProperties) {
+        this.hostname = checkNotNull(hostname);
+        this.port = port;
+        this.username = checkNotNull(username);
+        this.password = password;
+        this.databaseList = checkNotNull(databaseList);
+        this.tableList = checkNotNull(tableList);
+        this.snapshotEnabled = snapshotEnabled;
+        this.splitSize = splitSize;
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        this.fetchSize = fetchSize;
+        this.connectTimeout = checkNotNull(connectTimeout);
+        this.connectMaxRetries = connectMaxRetries;
+        this.evenlyDistributionFactor = evenlyDistributionFactor;
+        this.includeSchemaChanges = includeSchemaChanges;
+        this.chunkKeyColumn = chunkKeyColumn;
+        this.dbzProperties = checkNotNull(dbzProperties);
+        this.dbzConfiguration = Configuration.from(dbzProperties);
+    }
+
+    /** The debezium connector config of the dialect, e.g. PostgresConnectorConfig. */
+    public abstract RelationalDatabaseConnectorConfig getDbzConnectorConfig();
+
+    public String getHostname() {
+        return hostname;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public List<String> getDatabaseList() {
+        return databaseList;
+    }
+
+    public List<String> getTableList() {
+        return tableList;
+    }
+
+    @Override
+    public boolean isSnapshotEnabled() {
+        return snapshotEnabled;
+    }
+
+    @Override
+    public int getSplitSize() {
+        return splitSize;
+    }
+
+    @Override
+    public int getSplitMetaGroupSize() {
+        return splitMetaGroupSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public int getConnectMaxRetries() {
+        return connectMaxRetries;
+    }
+
+    public double getEvenlyDistributionFactor() {
+        return evenlyDistributionFactor;
+    }
+
+    @Override
+    public boolean isIncludeSchemaChanges() {
+        return includeSchemaChanges;
+    }
+
+    @Nullable
+    public String getChunkKeyColumn() {
+        return chunkKeyColumn;
+    }
+
+    public Properties getDbzProperties() {
+        return dbzProperties;
+    }
+
+    @Override
+    public Configuration getDbzConfiguration() {
+        return dbzConfiguration;
+    }
+}
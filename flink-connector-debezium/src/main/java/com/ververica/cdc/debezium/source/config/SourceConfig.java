@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.config;
+
+import org.apache.flink.annotation.Experimental;
+
+import io.debezium.config.Configuration;
+
+import java.io.Serializable;
+
+/**
+ * The configuration of an {@link com.ververica.cdc.debezium.source.IncrementalSource}, which is
+ * implemented by every dialect.
+ */
+@Experimental
+public interface SourceConfig extends Serializable {
+
+    /** Whether to read the snapshot of captured tables before reading the change log. */
+    boolean isSnapshotEnabled();
+
+    /** The chunk size (number of rows) of table snapshot. */
+    int getSplitSize();
+
+    /** The group size of split meta which is sent from the enumerator to the stream reader. */
+    int getSplitMetaGroupSize();
+
+    /** Whether the source should output the schema changes or not. */
+    boolean isIncludeSchemaChanges();
+
+    /** The configuration of the debezium connector. */
+    Configuration getDbzConfiguration();
+
+    /** Factory for the {@link SourceConfig} of each subtask. */
+    @FunctionalInterface
+    interface Factory<C extends SourceConfig> extends Serializable {
+
+        C create(int subtaskId);
+    }
+}
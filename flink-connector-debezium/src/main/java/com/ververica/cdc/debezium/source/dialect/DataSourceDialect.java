@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.dialect;
+
+import org.apache.flink.annotation.Experimental;
+
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkSplitter;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The dialect of a database, which provides the database specific parts of the incremental source:
+ * discovering the captured tables, splitting the tables into chunks, querying the current offset of
+ * change log as watermarks and creating the tasks to read the splits.
+ *
+ * @param <C> The source config of the dialect.
+ */
+@Experimental
+public interface DataSourceDialect<C extends SourceConfig> extends Serializable {
+
+    /** Get the name of dialect. */
+    String getName();
+
+    /** Discovers the list of tables to capture. */
+    List<TableId> discoverDataCollections(C sourceConfig);
+
+    /** Discovers the captured tables' schema by {@link SourceConfig}. */
+    Map<TableId, TableChange> discoverDataCollectionSchemas(C sourceConfig);
+
+    /**
+     * Displays current offset from the database, it's used as the low and high watermarks of
+     * snapshot splits and the starting offset of the latest-offset startup.
+     */
+    Offset displayCurrentOffset(C sourceConfig);
+
+    /** Check if the table id is case sensitive of the database. */
+    boolean isDataCollectionIdCaseSensitive(C sourceConfig);
+
+    /** Returns the {@link ChunkSplitter} which is used to split the tables into chunks. */
+    ChunkSplitter createChunkSplitter(C sourceConfig);
+
+    /**
+     * Splits the stream split into the stream splits which are read by different readers in
+     * parallel, e.g. one stream split for each shard of a sharded database. The ids of the returned
+     * splits should be unique and stable. The whole change log is read by the given stream split by
+     * default.
+     */
+    default List<StreamSplit> splitStream(StreamSplit streamSplit, C sourceConfig) {
+        return Collections.singletonList(streamSplit);
+    }
+
+    /** The task context used for fetching the data of splits. */
+    FetchTask.Context createFetchTaskContext(SourceSplitBase sourceSplitBase, C sourceConfig);
+
+    /** The fetch task used to fetch the data of the given split. */
+    FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase);
+
+    /**
+     * Notifies the dialect that the checkpoint containing the given offset of the stream split has
+     * completed, e.g. to acknowledge the offset to the database so that the change log before the
+     * offset can be discarded. It's called once for each stream split read by the reader.
+     */
+    default void notifyCheckpointComplete(long checkpointId, String splitId, Offset offset)
+            throws Exception {}
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.dialect;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.table.types.DataType;
+
+import com.ververica.cdc.debezium.source.config.JdbcSourceConfig;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+
+import javax.annotation.Nullable;
+
+import java.sql.SQLException;
+
+/**
+ * The {@link DataSourceDialect} of the databases which read the snapshot of tables via JDBC, it
+ * provides the SQL hooks used by the {@link
+ * com.ververica.cdc.debezium.source.assigner.splitter.JdbcSourceChunkSplitter}.
+ */
+@Experimental
+public interface JdbcDataSourceDialect<C extends JdbcSourceConfig> extends DataSourceDialect<C> {
+
+    /** Creates and opens a new {@link JdbcConnection} backing connection pool. */
+    JdbcConnection openJdbcConnection(C sourceConfig);
+
+    /** Query and build the schema of table. */
+    TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId);
+
+    /** Maps the debezium column to the flink data type, it's used as the type of split key. */
+    DataType fromDbzColumn(Column splitColumn);
+
+    /**
+     * Returns the min and max value of the split column of table, the values are null if the table
+     * is empty.
+     */
+    Object[] queryMinMax(JdbcConnection jdbc, TableId tableId, String columnName)
+            throws SQLException;
+
+    /** Returns the minimum value of the split column which is greater than the lower bound. */
+    @Nullable
+    Object queryMin(
+            JdbcConnection jdbc, TableId tableId, String columnName, Object excludedLowerBound)
+            throws SQLException;
+
+    /**
+     * Returns the maximum value of the next chunk, i.e. the value of split column after {@code
+     * chunkSize} rows since the lower bound.
+     */
+    @Nullable
+    Object queryNextChunkMax(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String columnName,
+            int chunkSize,
+            Object includedLowerBound)
+            throws SQLException;
+
+    /** Returns the approximate row count of table, it's used to check the data distribution. */
+    long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId) throws SQLException;
+}
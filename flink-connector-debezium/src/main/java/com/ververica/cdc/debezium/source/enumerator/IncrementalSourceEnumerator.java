@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.enumerator;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.api.connector.source.SourceEvent;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava18.com.google.common.collect.Lists;
+
+import com.ververica.cdc.debezium.source.assigner.SplitAssigner;
+import com.ververica.cdc.debezium.source.assigner.state.PendingSplitsState;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import com.ververica.cdc.debezium.source.events.FinishedSnapshotSplitsAckEvent;
+import com.ververica.cdc.debezium.source.events.FinishedSnapshotSplitsReportEvent;
+import com.ververica.cdc.debezium.source.events.FinishedSnapshotSplitsRequestEvent;
+import com.ververica.cdc.debezium.source.events.StreamSplitMetaEvent;
+import com.ververica.cdc.debezium.source.events.StreamSplitMetaRequestEvent;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.split.FinishedSnapshotSplitInfo;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.SourceSplitSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * An incremental source enumerator that enumerates receive the split request and assign the split
+ * to source readers.
+ */
+@Experimental
+public class IncrementalSourceEnumerator
+        implements SplitEnumerator<SourceSplitBase, PendingSplitsState> {
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalSourceEnumerator.class);
+    private static final long CHECK_EVENT_INTERVAL = 30_000L;
+
+    private final SplitEnumeratorContext<SourceSplitBase> context;
+    private final SourceConfig sourceConfig;
+    private final SplitAssigner splitAssigner;
+    private final SourceSplitSerializer splitSerializer;
+
+    // using TreeSet to prefer assigning stream split to task-0 for easier debug
+    private final TreeSet<Integer> readersAwaitingSplit;
+    private List<List<FinishedSnapshotSplitInfo>> streamSplitMeta;
+
+    public IncrementalSourceEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> context,
+            SourceConfig sourceConfig,
+            SplitAssigner splitAssigner,
+            SourceSplitSerializer splitSerializer) {
+        this.context = context;
+        this.sourceConfig = sourceConfig;
+        this.splitAssigner = splitAssigner;
+        this.splitSerializer = splitSerializer;
+        this.readersAwaitingSplit = new TreeSet<>();
+    }
+
+    @Override
+    public void start() {
+        splitAssigner.open();
+        this.context.callAsync(
+                this::getRegisteredReader,
+                this::syncWithReaders,
+                CHECK_EVENT_INTERVAL,
+                CHECK_EVENT_INTERVAL);
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId, @Nullable String requesterHostname) {
+        if (!context.registeredReaders().containsKey(subtaskId)) {
+            // reader failed between sending the request and now. skip this request.
+            return;
+        }
+
+        readersAwaitingSplit.add(subtaskId);
+        assignSplits();
+    }
+
+    @Override
+    public void addSplitsBack(List<SourceSplitBase> splits, int subtaskId) {
+        LOG.debug("Incremental Source Enumerator adds splits back: {}", splits);
+        splitAssigner.addSplits(splits);
+    }
+
+    @Override
+    public void addReader(int subtaskId) {
+        // do nothing
+    }
+
+    @Override
+    public void handleSourceEvent(int subtaskId, SourceEvent sourceEvent) {
+        if (sourceEvent instanceof FinishedSnapshotSplitsReportEvent) {
+            LOG.info(
+                    "The enumerator receives finished split offsets {} from subtask {}.",
+                    sourceEvent,
+                    subtaskId);
+            FinishedSnapshotSplitsReportEvent reportEvent =
+                    (FinishedSnapshotSplitsReportEvent) sourceEvent;
+            Map<String, Offset> finishedOffsets = reportEvent.getFinishedOffsets();
+            splitAssigner.onFinishedSplits(finishedOffsets);
+            // send acknowledge event
+            FinishedSnapshotSplitsAckEvent ackEvent =
+                    new FinishedSnapshotSplitsAckEvent(new ArrayList<>(finishedOffsets.keySet()));
+            context.sendEventToSourceReader(subtaskId, ackEvent);
+        } else if (sourceEvent instanceof StreamSplitMetaRequestEvent) {
+            LOG.debug(
+                    "The enumerator receives request for stream split meta from subtask {}.",
+                    subtaskId);
+            sendStreamMetaRequestEvent(subtaskId, (StreamSplitMetaRequestEvent) sourceEvent);
+        }
+    }
+
+    @Override
+    public PendingSplitsState snapshotState(long checkpointId) {
+        return splitAssigner.snapshotState(checkpointId);
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {
+        splitAssigner.notifyCheckpointComplete(checkpointId);
+        // stream split may be available after checkpoint complete
+        assignSplits();
+    }
+
+    @Override
+    public void close() {
+        LOG.info("Closing enumerator...");
+        splitAssigner.close();
+    }
+
+    /**
+     * Called when the stream split is assigned, i.e. all the snapshot splits have been finished.
+     * The enumerators of dialects may release the resources held for the snapshot splits here.
+     */
+    protected void onStreamSplitAssigned() {}
+
+    // ------------------------------------------------------------------------------------------
+
+    private void assignSplits() {
+        final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
+        boolean isStreamSplitAssigned = false;
+
+        while (awaitingReader.hasNext()) {
+            int nextAwaiting = awaitingReader.next();
+            // if the reader that requested another split has failed in the meantime, remove
+            // it from the list of waiting readers
+            if (!context.registeredReaders().containsKey(nextAwaiting)) {
+                awaitingReader.remove();
+                continue;
+            }
+
+            Optional<SourceSplitBase> split = splitAssigner.getNext();
+            if (split.isPresent()) {
+                final SourceSplitBase sourceSplit = split.get();
+                context.assignSplit(sourceSplit, nextAwaiting);
+                awaitingReader.remove();
+                LOG.info("Assign split {} to subtask {}", sourceSplit, nextAwaiting);
+                if (sourceSplit.isStreamSplit()) {
+                    isStreamSplitAssigned = true;
+                    onStreamSplitAssigned();
+                }
+            } else {
+                // there is no available splits by now, skip assigning
+                break;
+            }
+        }
+        if (isStreamSplitAssigned) {
+            assignRemainingStreamSplits();
+        }
+    }
+
+    /**
+     * Assigns the stream splits outnumbering the awaiting readers to the registered readers in
+     * turn, the readers reading a stream split never request splits again and a reader reads all
+     * its stream splits together.
+     */
+    private void assignRemainingStreamSplits() {
+        final List<Integer> readers =
+                new ArrayList<>(new TreeSet<>(context.registeredReaders().keySet()));
+        int nextReader = 0;
+        while (!readers.isEmpty()) {
+            Optional<SourceSplitBase> split = splitAssigner.getNext();
+            if (!split.isPresent()) {
+                break;
+            }
+            final SourceSplitBase sourceSplit = split.get();
+            if (!sourceSplit.isStreamSplit()) {
+                // the snapshot splits are only assigned on request
+                splitAssigner.addSplits(Collections.singletonList(sourceSplit));
+                break;
+            }
+            final int reader = readers.get(nextReader++ % readers.size());
+            context.assignSplit(sourceSplit, reader);
+            LOG.info("Assign split {} to subtask {}", sourceSplit, reader);
+            onStreamSplitAssigned();
+        }
+    }
+
+    private int[] getRegisteredReader() {
+        return this.context.registeredReaders().keySet().stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private void syncWithReaders(int[] subtaskIds, Throwable t) {
+        if (t != null) {
+            throw new FlinkRuntimeException("Failed to list obtain registered readers due to:", t);
+        }
+        // when the SourceEnumerator restores or the communication failed between
+        // SourceEnumerator and SourceReader, it may missed some notification event.
+        // tell all SourceReader(s) to report there finished but unacked splits.
+        if (splitAssigner.waitingForFinishedSplits()) {
+            for (int subtaskId : subtaskIds) {
+                context.sendEventToSourceReader(
+                        subtaskId, new FinishedSnapshotSplitsRequestEvent());
+            }
+        }
+    }
+
+    private void sendStreamMetaRequestEvent(int subTask, StreamSplitMetaRequestEvent requestEvent) {
+        // initialize once
+        if (streamSplitMeta == null) {
+            final List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos =
+                    splitAssigner.getFinishedSplitInfos();
+            if (finishedSnapshotSplitInfos.isEmpty()) {
+                LOG.error(
+                        "The assigner offer empty finished split information, this should not happen");
+                throw new FlinkRuntimeException(
+                        "The assigner offer empty finished split information, this should not happen");
+            }
+            streamSplitMeta =
+                    Lists.partition(
+                            finishedSnapshotSplitInfos, sourceConfig.getSplitMetaGroupSize());
+        }
+        final int requestMetaGroupId = requestEvent.getRequestMetaGroupId();
+
+        if (streamSplitMeta.size() > requestMetaGroupId) {
+            List<FinishedSnapshotSplitInfo> metaToSend = streamSplitMeta.get(requestMetaGroupId);
+            List<byte[]> serializedMeta = new ArrayList<>(metaToSend.size());
+            try {
+                for (FinishedSnapshotSplitInfo splitInfo : metaToSend) {
+                    serializedMeta.add(splitSerializer.serialize(splitInfo));
+                }
+            } catch (IOException e) {
+                throw new FlinkRuntimeException("Failed to serialize the stream split meta", e);
+            }
+            context.sendEventToSourceReader(
+                    subTask,
+                    new StreamSplitMetaEvent(
+                            requestEvent.getSplitId(), requestMetaGroupId, serializedMeta));
+        } else {
+            LOG.error(
+                    "Received invalid request meta group id {}, the invalid meta group id range is [0, {}]",
+                    requestMetaGroupId,
+                    streamSplitMeta.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.offset;
+
+import org.apache.flink.annotation.Experimental;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A position in the change log of a database, e.g. the binlog position of MySQL, the LSN of
+ * PostgreSQL or the SCN of Oracle. The offsets are comparable so that the framework can order the
+ * watermarks of snapshot splits and the change events.
+ *
+ * <p>The offset is stored as the string map of the debezium source offset, which is also used to
+ * restore the change log reading of debezium.
+ */
+@Experimental
+public abstract class Offset implements Comparable<Offset>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final Map<String, String> offset;
+
+    protected Offset(Map<String, String> offset) {
+        this.offset = offset;
+    }
+
+    public Map<String, String> getOffset() {
+        return offset;
+    }
+
+    public boolean isAtOrBefore(Offset that) {
+        return this.compareTo(that) <= 0;
+    }
+
+    public boolean isBefore(Offset that) {
+        return this.compareTo(that) < 0;
+    }
+
+    public boolean isAtOrAfter(Offset that) {
+        return this.compareTo(that) >= 0;
+    }
+
+    public boolean isAfter(Offset that) {
+        return this.compareTo(that) > 0;
+    }
+
+    /** Converts the debezium source offset of a change record to the string map of offset. */
+    public static Map<String, String> toStringMap(Map<String, ?> sourceOffset) {
+        Map<String, String> offsetStrMap = new HashMap<>();
+        for (Map.Entry<String, ?> entry : sourceOffset.entrySet()) {
+            offsetStrMap.put(
+                    entry.getKey(), entry.getValue() == null ? null : entry.getValue().toString());
+        }
+        return offsetStrMap;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Offset that = (Offset) o;
+        return Objects.equals(offset, that.offset);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset);
+    }
+
+    @Override
+    public String toString() {
+        return offset.toString();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.offset;
+
+import org.apache.flink.annotation.Experimental;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/** The factory to create the {@link Offset} of a dialect. */
+@Experimental
+public interface OffsetFactory extends Serializable {
+
+    /** Creates the offset from the string map of debezium source offset. */
+    Offset newOffset(Map<String, String> offset);
+
+    /** Creates the offset to read the change log from the earliest position. */
+    Offset createInitialOffset();
+
+    /** Creates the offset which means the change log reading never stops. */
+    Offset createNoStoppingOffset();
+}
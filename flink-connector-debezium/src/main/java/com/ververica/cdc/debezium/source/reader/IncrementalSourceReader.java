@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.reader;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.api.connector.source.SourceEvent;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.SingleThreadMultiplexSourceReaderBase;
+import org.apache.flink.connector.base.source.reader.fetcher.SingleThreadFetcherManager;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.debezium.source.IncrementalSource;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import com.ververica.cdc.debezium.source.dialect.DataSourceDialect;
+import com.ververica.cdc.debezium.source.events.FinishedSnapshotSplitsAckEvent;
+import com.ververica.cdc.debezium.source.events.FinishedSnapshotSplitsReportEvent;
+import com.ververica.cdc.debezium.source.events.FinishedSnapshotSplitsRequestEvent;
+import com.ververica.cdc.debezium.source.events.StreamSplitMetaEvent;
+import com.ververica.cdc.debezium.source.events.StreamSplitMetaRequestEvent;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.split.FinishedSnapshotSplitInfo;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SnapshotSplitState;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.SourceSplitSerializer;
+import com.ververica.cdc.debezium.source.split.SourceSplitState;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import com.ververica.cdc.debezium.source.split.StreamSplitState;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.apache.flink.util.Preconditions.checkState;
+
+/** The source reader for the splits of {@link IncrementalSource}. */
+@Experimental
+public class IncrementalSourceReader<T, C extends SourceConfig>
+        extends SingleThreadMultiplexSourceReaderBase<
+                SourceRecord, T, SourceSplitBase, SourceSplitState> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalSourceReader.class);
+
+    private final C sourceConfig;
+    private final DataSourceDialect<C> dialect;
+    private final SourceSplitSerializer sourceSplitSerializer;
+    private final Map<String, SnapshotSplit> finishedUnackedSplits;
+    private final Map<String, StreamSplit> uncompletedStreamSplits;
+    private final TreeMap<Long, Map<String, Offset>> streamOffsetsToCommit;
+    private final int subtaskId;
+
+    public IncrementalSourceReader(
+            FutureCompletingBlockingQueue<RecordsWithSplitIds<SourceRecord>> elementQueue,
+            Supplier<IncrementalSourceSplitReader<C>> splitReaderSupplier,
+            RecordEmitter<SourceRecord, T, SourceSplitState> recordEmitter,
+            Configuration config,
+            SourceReaderContext context,
+            C sourceConfig,
+            SourceSplitSerializer sourceSplitSerializer,
+            DataSourceDialect<C> dialect) {
+        super(
+                elementQueue,
+                new SingleThreadFetcherManager<>(elementQueue, splitReaderSupplier::get),
+                recordEmitter,
+                config,
+                context);
+        this.sourceConfig = sourceConfig;
+        this.sourceSplitSerializer = sourceSplitSerializer;
+        this.dialect = dialect;
+        this.finishedUnackedSplits = new HashMap<>();
+        this.uncompletedStreamSplits = new HashMap<>();
+        this.streamOffsetsToCommit = new TreeMap<>();
+        this.subtaskId = context.getIndexOfSubtask();
+    }
+
+    @Override
+    public void start() {
+        if (getNumberOfCurrentlyAssignedSplits() == 0) {
+            context.sendSplitRequest();
+        }
+    }
+
+    @Override
+    protected SourceSplitState initializedState(SourceSplitBase split) {
+        if (split.isSnapshotSplit()) {
+            return new SnapshotSplitState(split.asSnapshotSplit());
+        } else {
+            return new StreamSplitState(split.asStreamSplit());
+        }
+    }
+
+    @Override
+    public List<SourceSplitBase> snapshotState(long checkpointId) {
+        // unfinished splits
+        List<SourceSplitBase> stateSplits = super.snapshotState(checkpointId);
+
+        // add finished snapshot splits that didn't receive ack yet
+        stateSplits.addAll(finishedUnackedSplits.values());
+
+        // add stream splits who are uncompleted
+        stateSplits.addAll(uncompletedStreamSplits.values());
+
+        // remember the offsets of the stream splits, they're committed when the checkpoint
+        // completes
+        Map<String, Offset> streamOffsets = new HashMap<>();
+        for (SourceSplitBase split : stateSplits) {
+            if (split.isStreamSplit()) {
+                streamOffsets.put(split.splitId(), split.asStreamSplit().getStartingOffset());
+            }
+        }
+        if (!streamOffsets.isEmpty()) {
+            streamOffsetsToCommit.put(checkpointId, streamOffsets);
+        }
+
+        return stateSplits;
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {
+        Map<String, Offset> streamOffsets = streamOffsetsToCommit.get(checkpointId);
+        // the offsets of previous checkpoints are subsumed by the completed checkpoint
+        streamOffsetsToCommit.headMap(checkpointId, true).clear();
+        if (streamOffsets != null) {
+            for (Map.Entry<String, Offset> streamOffset : streamOffsets.entrySet()) {
+                dialect.notifyCheckpointComplete(
+                        checkpointId, streamOffset.getKey(), streamOffset.getValue());
+            }
+        }
+    }
+
+    @Override
+    protected void onSplitFinished(Map<String, SourceSplitState> finishedSplitIds) {
+        for (SourceSplitState splitState : finishedSplitIds.values()) {
+            SourceSplitBase sourceSplit = splitState.toSourceSplit();
+            checkState(
+                    sourceSplit.isSnapshotSplit(),
+                    String.format(
+                            "Only snapshot split could finish, but the actual split is stream split %s",
+                            sourceSplit));
+            finishedUnackedSplits.put(sourceSplit.splitId(), sourceSplit.asSnapshotSplit());
+        }
+        reportFinishedSnapshotSplitsIfNeed();
+        context.sendSplitRequest();
+    }
+
+    @Override
+    public void addSplits(List<SourceSplitBase> splits) {
+        // restore for finishedUnackedSplits
+        List<SourceSplitBase> unfinishedSplits = new ArrayList<>();
+        for (SourceSplitBase split : splits) {
+            if (split.isSnapshotSplit()) {
+                SnapshotSplit snapshotSplit = split.asSnapshotSplit();
+                if (snapshotSplit.isSnapshotReadFinished()) {
+                    finishedUnackedSplits.put(snapshotSplit.splitId(), snapshotSplit);
+                } else {
+                    unfinishedSplits.add(split);
+                }
+            } else {
+                // the stream split is uncompleted
+                if (!split.asStreamSplit().isCompletedSplit()) {
+                    uncompletedStreamSplits.put(split.splitId(), split.asStreamSplit());
+                    requestStreamSplitMetaIfNeeded(split.asStreamSplit());
+                } else {
+                    uncompletedStreamSplits.remove(split.splitId());
+                    unfinishedSplits.add(discoverTableSchemasForStreamSplit(split.asStreamSplit()));
+                }
+            }
+        }
+        // notify split enumerator again about the finished unacked snapshot splits
+        reportFinishedSnapshotSplitsIfNeed();
+        // add all un-finished splits (including stream split) to SourceReaderBase
+        super.addSplits(unfinishedSplits);
+    }
+
+    private StreamSplit discoverTableSchemasForStreamSplit(StreamSplit split) {
+        final String splitId = split.splitId();
+        if (split.getTableSchemas().isEmpty()) {
+            Map<TableId, TableChange> tableSchemas =
+                    dialect.discoverDataCollectionSchemas(sourceConfig);
+            LOG.info("The table schema discovery for stream split {} success", splitId);
+            return StreamSplit.fillTableSchemas(split, tableSchemas);
+        } else {
+            LOG.warn(
+                    "The stream split {} has table schemas yet, skip the table schema discovery",
+                    split);
+            return split;
+        }
+    }
+
+    @Override
+    public void handleSourceEvents(SourceEvent sourceEvent) {
+        if (sourceEvent instanceof FinishedSnapshotSplitsAckEvent) {
+            FinishedSnapshotSplitsAckEvent ackEvent = (FinishedSnapshotSplitsAckEvent) sourceEvent;
+            LOG.debug(
+                    "The subtask {} receives ack event for {} from enumerator.",
+                    subtaskId,
+                    ackEvent.getFinishedSplits());
+            for (String splitId : ackEvent.getFinishedSplits()) {
+                this.finishedUnackedSplits.remove(splitId);
+            }
+        } else if (sourceEvent instanceof FinishedSnapshotSplitsRequestEvent) {
+            // report finished snapshot splits
+            LOG.debug(
+                    "The subtask {} receives request to report finished snapshot splits.",
+                    subtaskId);
+            reportFinishedSnapshotSplitsIfNeed();
+        } else if (sourceEvent instanceof StreamSplitMetaEvent) {
+            LOG.debug(
+                    "The subtask {} receives stream meta with group id {}.",
+                    subtaskId,
+                    ((StreamSplitMetaEvent) sourceEvent).getMetaGroupId());
+            fillMetaDataForStreamSplit((StreamSplitMetaEvent) sourceEvent);
+        } else {
+            super.handleSourceEvents(sourceEvent);
+        }
+    }
+
+    private void reportFinishedSnapshotSplitsIfNeed() {
+        if (!finishedUnackedSplits.isEmpty()) {
+            final Map<String, Offset> finishedOffsets = new HashMap<>();
+            for (SnapshotSplit split : finishedUnackedSplits.values()) {
+                finishedOffsets.put(split.splitId(), split.getHighWatermark());
+            }
+            FinishedSnapshotSplitsReportEvent reportEvent =
+                    new FinishedSnapshotSplitsReportEvent(finishedOffsets);
+            context.sendSourceEventToCoordinator(reportEvent);
+            LOG.debug(
+                    "The subtask {} reports offsets of finished snapshot splits {}.",
+                    subtaskId,
+                    finishedOffsets);
+        }
+    }
+
+    private void requestStreamSplitMetaIfNeeded(StreamSplit streamSplit) {
+        final String splitId = streamSplit.splitId();
+        if (!streamSplit.isCompletedSplit()) {
+            final int nextMetaGroupId =
+                    getNextMetaGroupId(
+                            streamSplit.getFinishedSnapshotSplitInfos().size(),
+                            sourceConfig.getSplitMetaGroupSize());
+            StreamSplitMetaRequestEvent splitMetaRequestEvent =
+                    new StreamSplitMetaRequestEvent(splitId, nextMetaGroupId);
+            context.sendSourceEventToCoordinator(splitMetaRequestEvent);
+        } else {
+            LOG.info("The meta of stream split {} has been collected success", splitId);
+            this.addSplits(Collections.singletonList(streamSplit));
+        }
+    }
+
+    private void fillMetaDataForStreamSplit(StreamSplitMetaEvent metadataEvent) {
+        StreamSplit streamSplit = uncompletedStreamSplits.get(metadataEvent.getSplitId());
+        if (streamSplit != null) {
+            final int receivedMetaGroupId = metadataEvent.getMetaGroupId();
+            final int expectedMetaGroupId =
+                    getNextMetaGroupId(
+                            streamSplit.getFinishedSnapshotSplitInfos().size(),
+                            sourceConfig.getSplitMetaGroupSize());
+            if (receivedMetaGroupId == expectedMetaGroupId) {
+                List<FinishedSnapshotSplitInfo> metaDataGroup = new ArrayList<>();
+                try {
+                    for (byte[] serialized : metadataEvent.getMetaGroup()) {
+                        metaDataGroup.add(
+                                sourceSplitSerializer.deserializeFinishedSplitInfo(serialized));
+                    }
+                } catch (IOException e) {
+                    throw new FlinkRuntimeException(
+                            "Failed to deserialize the stream split meta", e);
+                }
+                streamSplit = StreamSplit.appendFinishedSplitInfos(streamSplit, metaDataGroup);
+                uncompletedStreamSplits.put(streamSplit.splitId(), streamSplit);
+
+                LOG.info("Fill meta data of group {} to stream split", metaDataGroup.size());
+            } else {
+                LOG.warn(
+                        "Received out of oder stream meta event for split {}, the received meta group id is {}, but expected is {}, ignore it",
+                        metadataEvent.getSplitId(),
+                        receivedMetaGroupId,
+                        expectedMetaGroupId);
+            }
+            requestStreamSplitMetaIfNeeded(streamSplit);
+        } else {
+            LOG.warn(
+                    "Received stream meta event for split {}, but the uncompleted split map does not contain it",
+                    metadataEvent.getSplitId());
+        }
+    }
+
+    @Override
+    protected SourceSplitBase toSplitType(String splitId, SourceSplitState splitState) {
+        return splitState.toSourceSplit();
+    }
+
+    private static int getNextMetaGroupId(int receivedMetaNum, int metaGroupSize) {
+        checkState(metaGroupSize > 0);
+        return receivedMetaNum % metaGroupSize == 0
+                ? (receivedMetaNum / metaGroupSize)
+                : (receivedMetaNum / metaGroupSize) + 1;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.reader;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.api.common.eventtime.TimestampAssigner;
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import com.ververica.cdc.debezium.source.split.SourceSplitState;
+import com.ververica.cdc.debezium.source.utils.SourceRecordUtils;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.getOffset;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isHeartbeatEvent;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isHighWatermarkEvent;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isWatermarkEvent;
+
+/**
+ * The {@link RecordEmitter} implementation for {@link IncrementalSourceReader}.
+ *
+ * <p>The emitter records the high watermark of snapshot splits and the offset of the stream split
+ * it has emitted, and deserializes the data change records to the output.
+ */
+@Experimental
+public class IncrementalSourceRecordEmitter<T>
+        implements RecordEmitter<SourceRecord, T, SourceSplitState> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalSourceRecordEmitter.class);
+
+    private final DebeziumDeserializationSchema<T> debeziumDeserializationSchema;
+    private final OffsetFactory offsetFactory;
+    private final OutputCollector<T> outputCollector;
+
+    public IncrementalSourceRecordEmitter(
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            OffsetFactory offsetFactory) {
+        this.debeziumDeserializationSchema = debeziumDeserializationSchema;
+        this.offsetFactory = offsetFactory;
+        this.outputCollector = new OutputCollector<>();
+    }
+
+    @Override
+    public void emitRecord(
+            SourceRecord element, SourceOutput<T> output, SourceSplitState splitState)
+            throws Exception {
+        if (isWatermarkEvent(element)) {
+            if (isHighWatermarkEvent(element) && splitState.isSnapshotSplitState()) {
+                splitState
+                        .asSnapshotSplitState()
+                        .setHighWatermark(getOffset(offsetFactory, element));
+            }
+        } else if (isDataChangeRecord(element)) {
+            long eventTime = TimestampAssigner.NO_TIMESTAMP;
+            if (splitState.isStreamSplitState()) {
+                splitState
+                        .asStreamSplitState()
+                        .setStartingOffset(getOffset(offsetFactory, element));
+                eventTime = getEventTime(element);
+            }
+            emitElement(element, output, eventTime);
+        } else if (isHeartbeatEvent(element)) {
+            if (splitState.isStreamSplitState()) {
+                splitState
+                        .asStreamSplitState()
+                        .setStartingOffset(getOffset(offsetFactory, element));
+            }
+        } else {
+            // unknown element
+            LOG.info("Meet unknown element {}, just skip.", element);
+        }
+    }
+
+    /**
+     * Whether the record is a data change record which is deserialized to the output, the records
+     * of debezium are identified by the operation field of the envelope.
+     */
+    protected boolean isDataChangeRecord(SourceRecord element) {
+        return SourceRecordUtils.isDataChangeRecord(element);
+    }
+
+    /**
+     * Returns the timestamp of the data change record read by a stream split, the records are
+     * emitted with the timestamp, so the watermarks can be generated for each stream split. There's
+     * no timestamp of the records by default.
+     */
+    protected long getEventTime(SourceRecord element) {
+        return TimestampAssigner.NO_TIMESTAMP;
+    }
+
+    private void emitElement(SourceRecord element, SourceOutput<T> output, long eventTime)
+            throws Exception {
+        outputCollector.output = output;
+        outputCollector.eventTime = eventTime;
+        debeziumDeserializationSchema.deserialize(element, outputCollector);
+    }
+
+    private static class OutputCollector<T> implements Collector<T> {
+        private SourceOutput<T> output;
+        private long eventTime;
+
+        @Override
+        public void collect(T record) {
+            output.collect(record, eventTime);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.reader;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+
+import com.ververica.cdc.debezium.source.IncrementalSource;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import com.ververica.cdc.debezium.source.dialect.DataSourceDialect;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.reader.external.Fetcher;
+import com.ververica.cdc.debezium.source.reader.external.IncrementalSourceScanFetcher;
+import com.ververica.cdc.debezium.source.reader.external.IncrementalSourceStreamFetcher;
+import com.ververica.cdc.debezium.source.split.SourceRecords;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * The {@link SplitReader} implementation for the {@link IncrementalSource}.
+ *
+ * <p>The reader reads the snapshot splits one by one, and then keeps reading its stream splits
+ * together, each stream split is read by its own {@link IncrementalSourceStreamFetcher}.
+ */
+@Experimental
+public class IncrementalSourceSplitReader<C extends SourceConfig>
+        implements SplitReader<SourceRecord, SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalSourceSplitReader.class);
+    private final Queue<SourceSplitBase> splits;
+    private final int subtaskId;
+    private final C sourceConfig;
+    private final DataSourceDialect<C> dataSourceDialect;
+
+    @Nullable private Fetcher<SourceRecord, SourceSplitBase> currentFetcher;
+    @Nullable private String currentSplitId;
+
+    private final List<IncrementalSourceStreamFetcher> streamFetchers;
+    private final List<String> streamSplitIds;
+    private int nextStreamFetcher;
+
+    public IncrementalSourceSplitReader(
+            int subtaskId, DataSourceDialect<C> dataSourceDialect, C sourceConfig) {
+        this.subtaskId = subtaskId;
+        this.dataSourceDialect = dataSourceDialect;
+        this.sourceConfig = sourceConfig;
+        this.splits = new ArrayDeque<>();
+        this.streamFetchers = new ArrayList<>();
+        this.streamSplitIds = new ArrayList<>();
+    }
+
+    @Override
+    public RecordsWithSplitIds<SourceRecord> fetch() throws IOException {
+        checkSplitOrStartNext();
+        if (!streamFetchers.isEmpty()) {
+            return fetchStreamSplits();
+        }
+        Iterator<SourceRecord> dataIt;
+        try {
+            dataIt = currentFetcher.pollSplitRecords();
+        } catch (InterruptedException e) {
+            LOG.warn("fetch data failed.", e);
+            throw new IOException(e);
+        }
+        return dataIt == null
+                ? finishedSnapshotSplit()
+                : SourceRecords.forRecords(currentSplitId, dataIt);
+    }
+
+    @Override
+    public void handleSplitsChanges(SplitsChange<SourceSplitBase> splitsChanges) {
+        if (!(splitsChanges instanceof SplitsAddition)) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "The SplitChange type of %s is not supported.",
+                            splitsChanges.getClass()));
+        }
+
+        LOG.debug("Handling split change {}", splitsChanges);
+        splits.addAll(splitsChanges.splits());
+    }
+
+    @Override
+    public void wakeUp() {}
+
+    @Override
+    public void close() throws Exception {
+        if (currentFetcher != null) {
+            LOG.info("Close current fetcher {}", currentFetcher.getClass().getCanonicalName());
+            currentFetcher.close();
+            currentSplitId = null;
+        }
+        for (int i = 0; i < streamFetchers.size(); i++) {
+            LOG.info("Close stream fetcher of split {}", streamSplitIds.get(i));
+            streamFetchers.get(i).close();
+        }
+        streamFetchers.clear();
+        streamSplitIds.clear();
+    }
+
+    private void checkSplitOrStartNext() throws IOException {
+        // the stream fetchers should keep alive, the stream splits added later are read together
+        if (!streamFetchers.isEmpty()) {
+            while (splits.peek() != null && splits.peek().isStreamSplit()) {
+                startStreamFetcher(splits.poll());
+            }
+            return;
+        }
+
+        if (canAssignNextSplit()) {
+            final SourceSplitBase nextSplit = splits.poll();
+            if (nextSplit == null) {
+                throw new IOException("Cannot fetch from another split - no split remaining");
+            }
+            currentSplitId = nextSplit.splitId();
+
+            if (nextSplit.isSnapshotSplit()) {
+                if (currentFetcher == null) {
+                    final FetchTask.Context taskContext =
+                            dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
+                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
+                }
+            } else {
+                // point from snapshot split to stream split
+                if (currentFetcher != null) {
+                    LOG.info("It's turn to read stream split, close current snapshot fetcher");
+                    currentFetcher.close();
+                    currentFetcher = null;
+                }
+                currentSplitId = null;
+                startStreamFetcher(nextSplit);
+                return;
+            }
+            currentFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+        }
+    }
+
+    private void startStreamFetcher(SourceSplitBase streamSplit) {
+        final FetchTask.Context taskContext =
+                dataSourceDialect.createFetchTaskContext(streamSplit, sourceConfig);
+        final IncrementalSourceStreamFetcher streamFetcher =
+                new IncrementalSourceStreamFetcher(taskContext, subtaskId);
+        streamFetcher.submitTask(dataSourceDialect.createFetchTask(streamSplit));
+        streamFetchers.add(streamFetcher);
+        streamSplitIds.add(streamSplit.splitId());
+        LOG.info("Stream fetcher of split {} is created.", streamSplit.splitId());
+    }
+
+    /**
+     * Fetches the records of the stream splits in turn. The fetcher which has buffered records is
+     * preferred, so that the idle stream splits don't block the reading of the busy ones for the
+     * poll interval of their queues.
+     */
+    private SourceRecords fetchStreamSplits() throws IOException {
+        final int size = streamFetchers.size();
+        int index = nextStreamFetcher % size;
+        for (int i = 0; i < size; i++) {
+            final int candidate = (nextStreamFetcher + i) % size;
+            if (streamFetchers.get(candidate).hasBufferedRecords()) {
+                index = candidate;
+                break;
+            }
+        }
+        nextStreamFetcher = index + 1;
+        try {
+            return SourceRecords.forRecords(
+                    streamSplitIds.get(index), streamFetchers.get(index).pollSplitRecords());
+        } catch (InterruptedException e) {
+            LOG.warn("fetch data failed.", e);
+            throw new IOException(e);
+        }
+    }
+
+    private boolean canAssignNextSplit() {
+        return currentFetcher == null || currentFetcher.isFinished();
+    }
+
+    private SourceRecords finishedSnapshotSplit() {
+        final SourceRecords finishedRecords = SourceRecords.forFinishedSplit(currentSplitId);
+        currentSplitId = null;
+        return finishedRecords;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.reader.external;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.utils.SourceRecordUtils;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * The task to read a split of the incremental source, it is created by the dialect and puts the
+ * read records into the queue of its {@link Context}.
+ *
+ * <p>The task of a snapshot split emits [low watermark event] [snapshot events] [high watermark
+ * event] [log events] [end watermark event], where the log events are read from the low watermark
+ * to the high watermark. The task of a stream split reads the log events from the starting offset
+ * of the split until it's stopped or reaches the ending offset of the split.
+ */
+@Experimental
+public interface FetchTask<Split> {
+
+    /** Execute current task. */
+    void execute(Context context) throws Exception;
+
+    /** Returns current task is running or not. */
+    boolean isRunning();
+
+    /** Returns the split that the task used. */
+    Split getSplit();
+
+    /** Stops the task, the task of a stream split stops reading the log. */
+    void stop();
+
+    /** Base context used in the execution of fetch task. */
+    interface Context {
+
+        /** Configures the context for the given split before the task of split executes. */
+        void configure(SourceSplitBase sourceSplitBase);
+
+        ChangeEventQueue<DataChangeEvent> getQueue();
+
+        SchemaNameAdjuster getSchemaNameAdjuster();
+
+        /** The filter of the captured tables. */
+        Tables.TableFilter getTableFilter();
+
+        /** Returns the id of the table which the data change record belongs to. */
+        TableId getTableId(SourceRecord record);
+
+        /** Returns the offset of the record in the change log. */
+        Offset getStreamOffset(SourceRecord record);
+
+        /**
+         * Returns the type of split key which splits the table into snapshot splits, or null if the
+         * table is split without a key which can be read from the change events.
+         */
+        @Nullable
+        RowType getSplitKeyType(TableId tableId);
+
+        /**
+         * Returns the split key of the data change record, or null if the table is split without a
+         * key which can be read from the change events.
+         */
+        @Nullable
+        default Object[] getSplitKey(TableId tableId, SourceRecord record) {
+            final RowType splitKeyType = getSplitKeyType(tableId);
+            return splitKeyType == null
+                    ? null
+                    : SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
+        }
+
+        /**
+         * Whether the split key is in the range of the split, the null start or end of the range
+         * means unbounded.
+         */
+        default boolean splitKeyRangeContains(
+                Object[] key, Object[] splitStart, Object[] splitEnd) {
+            return SourceRecordUtils.splitKeyRangeContains(key, splitStart, splitEnd);
+        }
+
+        /**
+         * Whether the record is a data change record, the records of debezium are identified by the
+         * operation field of the envelope.
+         */
+        default boolean isDataChangeRecord(SourceRecord record) {
+            return SourceRecordUtils.isDataChangeRecord(record);
+        }
+
+        /**
+         * Normalizes the records read by the task of a snapshot split, i.e. merges the log events
+         * between the watermarks into the snapshot events, see {@link
+         * SourceRecordUtils#normalizedSplitRecords}.
+         */
+        default List<SourceRecord> normalizeSplitRecords(
+                SnapshotSplit snapshotSplit, List<SourceRecord> sourceRecords) {
+            return SourceRecordUtils.normalizedSplitRecords(
+                    snapshotSplit, sourceRecords, getSchemaNameAdjuster());
+        }
+
+        void close() throws Exception;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.reader.external;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava18.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isEndWatermarkEvent;
+
+/**
+ * Fetcher to fetch data from table split, the split is the snapshot split {@link SnapshotSplit}.
+ */
+@Experimental
+public class IncrementalSourceScanFetcher implements Fetcher<SourceRecord, SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalSourceScanFetcher.class);
+
+    private final FetchTask.Context taskContext;
+    private final ExecutorService executor;
+    private final AtomicBoolean hasNextElement;
+    private final AtomicBoolean reachEnd;
+
+    private volatile ChangeEventQueue<DataChangeEvent> queue;
+    private volatile Throwable readException;
+
+    // task to read snapshot for current split
+    private FetchTask<SourceSplitBase> snapshotSplitReadTask;
+    private SnapshotSplit currentSnapshotSplit;
+
+    public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+        this.taskContext = taskContext;
+        ThreadFactory threadFactory =
+                new ThreadFactoryBuilder()
+                        .setNameFormat("debezium-snapshot-reader-" + subtaskId)
+                        .build();
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+        this.hasNextElement = new AtomicBoolean(false);
+        this.reachEnd = new AtomicBoolean(false);
+    }
+
+    @Override
+    public void submitTask(FetchTask<SourceSplitBase> fetchTask) {
+        this.snapshotSplitReadTask = fetchTask;
+        this.currentSnapshotSplit = fetchTask.getSplit().asSnapshotSplit();
+        taskContext.configure(currentSnapshotSplit);
+        this.queue = taskContext.getQueue();
+        this.hasNextElement.set(true);
+        this.reachEnd.set(false);
+        executor.submit(
+                () -> {
+                    try {
+                        snapshotSplitReadTask.execute(taskContext);
+                    } catch (Exception e) {
+                        LOG.error(
+                                String.format(
+                                        "Execute snapshot read task for split %s fail",
+                                        currentSnapshotSplit),
+                                e);
+                        readException = e;
+                    }
+                });
+    }
+
+    @Override
+    public boolean isFinished() {
+        return currentSnapshotSplit == null
+                || (!snapshotSplitReadTask.isRunning() && !hasNextElement.get() && reachEnd.get());
+    }
+
+    @Nullable
+    @Override
+    public Iterator<SourceRecord> pollSplitRecords() throws InterruptedException {
+        checkReadException();
+
+        if (hasNextElement.get()) {
+            // data input: [low watermark event][snapshot events][high watermark event][change
+            // events][end watermark event]
+            // data output: [low watermark event][high watermark event][normalized events]
+            boolean reachChangeLogEnd = false;
+            final List<SourceRecord> sourceRecords = new ArrayList<>();
+            while (!reachChangeLogEnd) {
+                checkReadException();
+                List<DataChangeEvent> batch = queue.poll();
+                for (DataChangeEvent event : batch) {
+                    sourceRecords.add(event.getRecord());
+                    if (isEndWatermarkEvent(event.getRecord())) {
+                        reachChangeLogEnd = true;
+                        break;
+                    }
+                }
+            }
+            // snapshot split return its data once
+            hasNextElement.set(false);
+            return taskContext
+                    .normalizeSplitRecords(currentSnapshotSplit, sourceRecords)
+                    .iterator();
+        }
+        // the data has been polled, no more data
+        reachEnd.compareAndSet(false, true);
+        return null;
+    }
+
+    private void checkReadException() {
+        if (readException != null) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "Read split %s error due to %s.",
+                            currentSnapshotSplit, readException.getMessage()),
+                    readException);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            taskContext.close();
+        } catch (Exception e) {
+            LOG.error("Close snapshot fetcher error", e);
+        }
+        executor.shutdownNow();
+    }
+}
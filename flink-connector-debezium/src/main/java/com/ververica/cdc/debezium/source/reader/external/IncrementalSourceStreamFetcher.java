@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.reader.external;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava18.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.split.FinishedSnapshotSplitInfo;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Fetcher to fetch data from the change log, the split is the stream split {@link StreamSplit}. It
+ * also filters the change events which overlap the snapshot data read by the snapshot splits.
+ */
+@Experimental
+public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecord, SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalSourceStreamFetcher.class);
+
+    private final FetchTask.Context taskContext;
+    private final ExecutorService executor;
+
+    private volatile ChangeEventQueue<DataChangeEvent> queue;
+    private volatile Throwable readException;
+
+    private FetchTask<SourceSplitBase> streamFetchTask;
+    private StreamSplit currentStreamSplit;
+    private Map<TableId, List<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    // tableId -> the max splitHighWatermark
+    private Map<TableId, Offset> maxSplitHighWatermarkMap;
+    private Tables.TableFilter capturedTableFilter;
+
+    public IncrementalSourceStreamFetcher(FetchTask.Context taskContext, int subTaskId) {
+        this.taskContext = taskContext;
+        ThreadFactory threadFactory =
+                new ThreadFactoryBuilder()
+                        .setNameFormat("debezium-stream-reader-" + subTaskId)
+                        .build();
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @Override
+    public void submitTask(FetchTask<SourceSplitBase> fetchTask) {
+        this.streamFetchTask = fetchTask;
+        this.currentStreamSplit = fetchTask.getSplit().asStreamSplit();
+        configureFilter();
+        taskContext.configure(currentStreamSplit);
+        this.capturedTableFilter = taskContext.getTableFilter();
+        this.queue = taskContext.getQueue();
+        executor.submit(
+                () -> {
+                    try {
+                        streamFetchTask.execute(taskContext);
+                    } catch (Exception e) {
+                        LOG.error(
+                                String.format(
+                                        "Execute stream read task for split %s fail",
+                                        currentStreamSplit),
+                                e);
+                        readException = e;
+                    }
+                });
+    }
+
+    @Override
+    public boolean isFinished() {
+        return currentStreamSplit == null || !streamFetchTask.isRunning();
+    }
+
+    @Nullable
+    @Override
+    public Iterator<SourceRecord> pollSplitRecords() throws InterruptedException {
+        checkReadException();
+        final List<SourceRecord> sourceRecords = new ArrayList<>();
+        if (streamFetchTask.isRunning()) {
+            List<DataChangeEvent> batch = queue.poll();
+            for (DataChangeEvent event : batch) {
+                if (shouldEmit(event.getRecord())) {
+                    sourceRecords.add(event.getRecord());
+                }
+            }
+        }
+        return sourceRecords.iterator();
+    }
+
+    /** Whether the queue of the fetch task has records to poll, polling it doesn't block then. */
+    public boolean hasBufferedRecords() {
+        return queue != null && queue.remainingCapacity() < queue.totalCapacity();
+    }
+
+    private void checkReadException() {
+        if (readException != null) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "Read split %s error due to %s.",
+                            currentStreamSplit, readException.getMessage()),
+                    readException);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (streamFetchTask != null) {
+                streamFetchTask.stop();
+            }
+            taskContext.close();
+        } catch (Exception e) {
+            LOG.error("Close stream fetcher error", e);
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the record should emit or not.
+     *
+     * <p>The watermark signal algorithm is the stream split reader only sends the change event that
+     * belongs to its finished snapshot splits. For each snapshot split, the change event is valid
+     * since the offset is after its high watermark.
+     *
+     * <pre> E.g: the data input is :
+     *    snapshot-split-0 info : [0,    1024) highWatermark0
+     *    snapshot-split-1 info : [1024, 2048) highWatermark1
+     *  the data output is:
+     *  only the change event belong to [0,    1024) and offset is after highWatermark0 should send,
+     *  only the change event belong to [1024, 2048) and offset is after highWatermark1 should send.
+     * </pre>
+     *
+     * <p>For the tables which are split without split key, e.g. by the physical row location, the
+     * change event is valid once its offset is after the high watermark of any finished split of
+     * the table, so the change events of such tables are delivered at least once.
+     */
+    private boolean shouldEmit(SourceRecord sourceRecord) {
+        if (taskContext.isDataChangeRecord(sourceRecord)) {
+            TableId tableId = taskContext.getTableId(sourceRecord);
+            Offset position = taskContext.getStreamOffset(sourceRecord);
+            if (hasEnterPureStreamPhase(tableId, position)) {
+                return true;
+            }
+            // only the table who captured snapshot splits need to filter
+            if (finishedSplitsInfo.containsKey(tableId)) {
+                // the table split by a physical row location has no split key in change events
+                Object[] key = taskContext.getSplitKey(tableId, sourceRecord);
+                for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
+                    if ((key == null
+                                    || taskContext.splitKeyRangeContains(
+                                            key,
+                                            splitInfo.getSplitStart(),
+                                            splitInfo.getSplitEnd()))
+                            && position.isAfter(splitInfo.getHighWatermark())) {
+                        return true;
+                    }
+                }
+            }
+            // not in the monitored splits scope, do not emit
+            return false;
+        }
+        // always send the schema change event and signal event
+        // we need record them to state of Flink
+        return true;
+    }
+
+    private boolean hasEnterPureStreamPhase(TableId tableId, Offset position) {
+        // the existed tables those have finished snapshot reading
+        if (maxSplitHighWatermarkMap.containsKey(tableId)
+                && position.isAtOrAfter(maxSplitHighWatermarkMap.get(tableId))) {
+            return true;
+        }
+        // capture dynamically new added tables
+        return !maxSplitHighWatermarkMap.containsKey(tableId)
+                && capturedTableFilter.isIncluded(tableId);
+    }
+
+    private void configureFilter() {
+        List<FinishedSnapshotSplitInfo> finishedSplitInfos =
+                currentStreamSplit.getFinishedSnapshotSplitInfos();
+        Map<TableId, List<FinishedSnapshotSplitInfo>> splitsInfoMap = new HashMap<>();
+        Map<TableId, Offset> tableIdOffsetPositionMap = new HashMap<>();
+        // latest-offset mode
+        if (finishedSplitInfos.isEmpty()) {
+            for (TableId tableId : currentStreamSplit.getTableSchemas().keySet()) {
+                tableIdOffsetPositionMap.put(tableId, currentStreamSplit.getStartingOffset());
+            }
+        }
+        // initial mode
+        else {
+            for (FinishedSnapshotSplitInfo finishedSplitInfo : finishedSplitInfos) {
+                TableId tableId = finishedSplitInfo.getTableId();
+                splitsInfoMap
+                        .computeIfAbsent(tableId, id -> new ArrayList<>())
+                        .add(finishedSplitInfo);
+
+                Offset highWatermark = finishedSplitInfo.getHighWatermark();
+                Offset maxHighWatermark = tableIdOffsetPositionMap.get(tableId);
+                if (maxHighWatermark == null || highWatermark.isAfter(maxHighWatermark)) {
+                    tableIdOffsetPositionMap.put(tableId, highWatermark);
+                }
+            }
+        }
+        this.finishedSplitsInfo = splitsInfoMap;
+        this.maxSplitHighWatermarkMap = tableIdOffsetPositionMap;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.split;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+
+import javax.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/** The split to describe a chunk of a table, i.e. the rows in a range of the split key. */
+@Experimental
+public class SnapshotSplit extends SourceSplitBase {
+
+    private final TableId tableId;
+    private final RowType splitKeyType;
+    private final Map<TableId, TableChange> tableSchemas;
+
+    @Nullable private final Object[] splitStart;
+    @Nullable private final Object[] splitEnd;
+    /** The high watermark is not null when the split read finished. */
+    @Nullable private final Offset highWatermark;
+    /**
+     * The offset of the consistent snapshot shared by the splits, the split is read from the
+     * snapshot instead of between its own low and high watermarks if it's not null.
+     */
+    @Nullable private final Offset snapshotOffset;
+
+    @Nullable transient byte[] serializedFormCache;
+
+    public SnapshotSplit(
+            TableId tableId,
+            String splitId,
+            RowType splitKeyType,
+            @Nullable Object[] splitStart,
+            @Nullable Object[] splitEnd,
+            @Nullable Offset highWatermark,
+            Map<TableId, TableChange> tableSchemas) {
+        this(
+                tableId,
+                splitId,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                highWatermark,
+                tableSchemas,
+                null);
+    }
+
+    public SnapshotSplit(
+            TableId tableId,
+            String splitId,
+            RowType splitKeyType,
+            @Nullable Object[] splitStart,
+            @Nullable Object[] splitEnd,
+            @Nullable Offset highWatermark,
+            Map<TableId, TableChange> tableSchemas,
+            @Nullable Offset snapshotOffset) {
+        super(splitId);
+        this.tableId = tableId;
+        this.splitKeyType = splitKeyType;
+        this.splitStart = splitStart;
+        this.splitEnd = splitEnd;
+        this.highWatermark = highWatermark;
+        this.tableSchemas = tableSchemas;
+        this.snapshotOffset = snapshotOffset;
+    }
+
+    public TableId getTableId() {
+        return tableId;
+    }
+
+    @Nullable
+    public Object[] getSplitStart() {
+        return splitStart;
+    }
+
+    @Nullable
+    public Object[] getSplitEnd() {
+        return splitEnd;
+    }
+
+    @Nullable
+    public Offset getHighWatermark() {
+        return highWatermark;
+    }
+
+    @Nullable
+    public Offset getSnapshotOffset() {
+        return snapshotOffset;
+    }
+
+    public boolean isSnapshotReadFinished() {
+        return highWatermark != null;
+    }
+
+    @Override
+    public Map<TableId, TableChange> getTableSchemas() {
+        return tableSchemas;
+    }
+
+    public RowType getSplitKeyType() {
+        return splitKeyType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        SnapshotSplit that = (SnapshotSplit) o;
+        return Objects.equals(tableId, that.tableId)
+                && Objects.equals(splitKeyType, that.splitKeyType)
+                && Arrays.equals(splitStart, that.splitStart)
+                && Arrays.equals(splitEnd, that.splitEnd)
+                && Objects.equals(highWatermark, that.highWatermark)
+                && Objects.equals(snapshotOffset, that.snapshotOffset);
+    }
+
+    @Override
+    public int hashCode() {
+        int result =
+                Objects.hash(
+                        super.hashCode(), tableId, splitKeyType, highWatermark, snapshotOffset);
+        result = 31 * result + Arrays.hashCode(splitStart);
+        result = 31 * result + Arrays.hashCode(splitEnd);
+        result = 31 * result + Arrays.hashCode(serializedFormCache);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        String splitKeyTypeSummary =
+                splitKeyType.getFields().stream()
+                        .map(RowType.RowField::asSummaryString)
+                        .reduce((a, b) -> a + "," + b)
+                        .orElse("");
+        return "SnapshotSplit{"
+                + "tableId="
+                + tableId
+                + ", splitId='"
+                + splitId
+                + '\''
+                + ", splitKeyType=["
+                + splitKeyTypeSummary
+                + "], splitStart="
+                + Arrays.toString(splitStart)
+                + ", splitEnd="
+                + Arrays.toString(splitEnd)
+                + ", highWatermark="
+                + highWatermark
+                + ", snapshotOffset="
+                + snapshotOffset
+                + '}';
+    }
+}
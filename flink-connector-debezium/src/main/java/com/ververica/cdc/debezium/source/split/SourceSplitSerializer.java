@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.split;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.utils.LogicalTypeParser;
+
+import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.readOffset;
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.readTableId;
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.rowToSerializedString;
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.serializedStringToRow;
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.writeOffset;
+import static com.ververica.cdc.debezium.source.utils.SerializerUtils.writeTableId;
+
+/**
+ * A serializer for the {@link SourceSplitBase}, the offsets are restored by the {@link
+ * OffsetFactory} of the dialect.
+ */
+@Experimental
+public class SourceSplitSerializer implements SimpleVersionedSerializer<SourceSplitBase> {
+
+    private static final int VERSION = 2;
+    private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
+            ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
+
+    private static final int SNAPSHOT_SPLIT_FLAG = 1;
+    private static final int STREAM_SPLIT_FLAG = 2;
+
+    private final OffsetFactory offsetFactory;
+
+    public SourceSplitSerializer(OffsetFactory offsetFactory) {
+        this.offsetFactory = offsetFactory;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(SourceSplitBase split) throws IOException {
+        if (split.isSnapshotSplit()) {
+            final SnapshotSplit snapshotSplit = split.asSnapshotSplit();
+            // optimization: the splits lazily cache their own serialized form
+            if (snapshotSplit.serializedFormCache != null) {
+                return snapshotSplit.serializedFormCache;
+            }
+
+            final DataOutputSerializer out = SERIALIZER_CACHE.get();
+            out.writeInt(SNAPSHOT_SPLIT_FLAG);
+            writeTableId(snapshotSplit.getTableId(), out);
+            out.writeUTF(snapshotSplit.splitId());
+            out.writeUTF(snapshotSplit.getSplitKeyType().asSerializableString());
+            // rowToSerializedString deals null case
+            out.writeUTF(rowToSerializedString(snapshotSplit.getSplitStart()));
+            out.writeUTF(rowToSerializedString(snapshotSplit.getSplitEnd()));
+            writeOffset(snapshotSplit.getHighWatermark(), out);
+            writeTableSchemas(snapshotSplit.getTableSchemas(), out);
+            writeOffset(snapshotSplit.getSnapshotOffset(), out);
+            final byte[] result = out.getCopyOfBuffer();
+            out.clear();
+            snapshotSplit.serializedFormCache = result;
+            return result;
+        } else {
+            final StreamSplit streamSplit = split.asStreamSplit();
+            // optimization: the splits lazily cache their own serialized form
+            if (streamSplit.serializedFormCache != null) {
+                return streamSplit.serializedFormCache;
+            }
+            final DataOutputSerializer out = SERIALIZER_CACHE.get();
+            out.writeInt(STREAM_SPLIT_FLAG);
+            out.writeUTF(streamSplit.splitId());
+            writeOffset(streamSplit.getStartingOffset(), out);
+            writeOffset(streamSplit.getEndingOffset(), out);
+            writeFinishedSplitsInfo(streamSplit.getFinishedSnapshotSplitInfos(), out);
+            writeTableSchemas(streamSplit.getTableSchemas(), out);
+            out.writeInt(streamSplit.getTotalFinishedSplitSize());
+            final byte[] result = out.getCopyOfBuffer();
+            out.clear();
+            streamSplit.serializedFormCache = result;
+            return result;
+        }
+    }
+
+    @Override
+    public SourceSplitBase deserialize(int version, byte[] serialized) throws IOException {
+        if (version != 1 && version != VERSION) {
+            throw new IOException("Unknown version: " + version);
+        }
+        final DataInputDeserializer in = new DataInputDeserializer(serialized);
+
+        int splitKind = in.readInt();
+        if (splitKind == SNAPSHOT_SPLIT_FLAG) {
+            TableId tableId = readTableId(in);
+            String splitId = in.readUTF();
+            RowType splitKeyType = (RowType) LogicalTypeParser.parse(in.readUTF());
+            Object[] splitBoundaryStart = serializedStringToRow(in.readUTF());
+            Object[] splitBoundaryEnd = serializedStringToRow(in.readUTF());
+            Offset highWatermark = readOffset(offsetFactory, in);
+            Map<TableId, TableChange> tableSchemas = readTableSchemas(in);
+            // the splits of version 1 are always read between their own watermarks
+            Offset snapshotOffset = version >= 2 ? readOffset(offsetFactory, in) : null;
+            in.releaseArrays();
+            return new SnapshotSplit(
+                    tableId,
+                    splitId,
+                    splitKeyType,
+                    splitBoundaryStart,
+                    splitBoundaryEnd,
+                    highWatermark,
+                    tableSchemas,
+                    snapshotOffset);
+        } else if (splitKind == STREAM_SPLIT_FLAG) {
+            String splitId = in.readUTF();
+            Offset startingOffset = readOffset(offsetFactory, in);
+            Offset endingOffset = readOffset(offsetFactory, in);
+            List<FinishedSnapshotSplitInfo> finishedSplitsInfo = readFinishedSplitsInfo(in);
+            Map<TableId, TableChange> tableChangeMap = readTableSchemas(in);
+            int totalFinishedSplitSize = in.readInt();
+            in.releaseArrays();
+            return new StreamSplit(
+                    splitId,
+                    startingOffset,
+                    endingOffset,
+                    finishedSplitsInfo,
+                    tableChangeMap,
+                    totalFinishedSplitSize);
+        } else {
+            throw new IOException("Unknown split kind: " + splitKind);
+        }
+    }
+
+    /** Serializes a single {@link FinishedSnapshotSplitInfo}, used to transfer the split meta. */
+    public byte[] serialize(FinishedSnapshotSplitInfo splitInfo) throws IOException {
+        final DataOutputSerializer out = SERIALIZER_CACHE.get();
+        writeFinishedSplitInfo(splitInfo, out);
+        final byte[] result = out.getCopyOfBuffer();
+        out.clear();
+        return result;
+    }
+
+    /** Deserializes a single {@link FinishedSnapshotSplitInfo}, used to transfer the split meta. */
+    public FinishedSnapshotSplitInfo deserializeFinishedSplitInfo(byte[] serialized)
+            throws IOException {
+        final DataInputDeserializer in = new DataInputDeserializer(serialized);
+        final FinishedSnapshotSplitInfo splitInfo = readFinishedSplitInfo(in);
+        in.releaseArrays();
+        return splitInfo;
+    }
+
+    private static void writeTableSchemas(
+            Map<TableId, TableChange> tableSchemas, DataOutputSerializer out) throws IOException {
+        FlinkJsonTableChangeSerializer jsonSerializer = new FlinkJsonTableChangeSerializer();
+        DocumentWriter documentWriter = DocumentWriter.defaultWriter();
+        out.writeInt(tableSchemas.size());
+        for (Map.Entry<TableId, TableChange> entry : tableSchemas.entrySet()) {
+            writeTableId(entry.getKey(), out);
+            final String tableChangeStr =
+                    documentWriter.write(jsonSerializer.toDocument(entry.getValue()));
+            final byte[] tableChangeBytes = tableChangeStr.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(tableChangeBytes.length);
+            out.write(tableChangeBytes);
+        }
+    }
+
+    private static Map<TableId, TableChange> readTableSchemas(DataInputDeserializer in)
+            throws IOException {
+        DocumentReader documentReader = DocumentReader.defaultReader();
+        Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            TableId tableId = readTableId(in);
+            final byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            Document document = documentReader.read(new String(bytes, StandardCharsets.UTF_8));
+            TableChange tableChange = FlinkJsonTableChangeSerializer.fromDocument(document, true);
+            tableSchemas.put(tableId, tableChange);
+        }
+        return tableSchemas;
+    }
+
+    private static void writeFinishedSplitsInfo(
+            List<FinishedSnapshotSplitInfo> finishedSplitsInfo, DataOutputSerializer out)
+            throws IOException {
+        out.writeInt(finishedSplitsInfo.size());
+        for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo) {
+            writeFinishedSplitInfo(splitInfo, out);
+        }
+    }
+
+    private List<FinishedSnapshotSplitInfo> readFinishedSplitsInfo(DataInputDeserializer in)
+            throws IOException {
+        List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            finishedSplitsInfo.add(readFinishedSplitInfo(in));
+        }
+        return finishedSplitsInfo;
+    }
+
+    private static void writeFinishedSplitInfo(
+            FinishedSnapshotSplitInfo splitInfo, DataOutputSerializer out) throws IOException {
+        writeTableId(splitInfo.getTableId(), out);
+        out.writeUTF(splitInfo.getSplitId());
+        out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
+        out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
+        writeOffset(splitInfo.getHighWatermark(), out);
+    }
+
+    private FinishedSnapshotSplitInfo readFinishedSplitInfo(DataInputDeserializer in)
+            throws IOException {
+        TableId tableId = readTableId(in);
+        String splitId = in.readUTF();
+        Object[] splitStart = serializedStringToRow(in.readUTF());
+        Object[] splitEnd = serializedStringToRow(in.readUTF());
+        Offset highWatermark = readOffset(offsetFactory, in);
+        return new FinishedSnapshotSplitInfo(tableId, splitId, splitStart, splitEnd, highWatermark);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.utils;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import io.debezium.DebeziumException;
+import io.debezium.relational.TableId;
+import io.debezium.util.HexConverter;
+
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Utils for serialization and deserialization of the incremental source splits and states. */
+@Experimental
+public class SerializerUtils {
+
+    private SerializerUtils() {}
+
+    public static void writeOffset(@Nullable Offset offset, DataOutputSerializer out)
+            throws IOException {
+        out.writeBoolean(offset != null);
+        if (offset != null) {
+            final Map<String, String> offsetMap = offset.getOffset();
+            out.writeInt(offsetMap.size());
+            for (Map.Entry<String, String> entry : offsetMap.entrySet()) {
+                out.writeUTF(entry.getKey());
+                writeNullableString(entry.getValue(), out);
+            }
+        }
+    }
+
+    @Nullable
+    public static Offset readOffset(OffsetFactory offsetFactory, DataInputDeserializer in)
+            throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        final int size = in.readInt();
+        final Map<String, String> offsetMap = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            offsetMap.put(in.readUTF(), readNullableString(in));
+        }
+        return offsetFactory.newOffset(offsetMap);
+    }
+
+    /**
+     * Writes the {@link TableId} part by part, the {@link TableId#toString()} can't be parsed back
+     * for databases which use both catalog and schema, e.g. Postgres and Oracle.
+     */
+    public static void writeTableId(TableId tableId, DataOutputSerializer out) throws IOException {
+        writeNullableString(tableId.catalog(), out);
+        writeNullableString(tableId.schema(), out);
+        out.writeUTF(tableId.table());
+    }
+
+    public static TableId readTableId(DataInputDeserializer in) throws IOException {
+        final String catalog = readNullableString(in);
+        final String schema = readNullableString(in);
+        final String table = in.readUTF();
+        return new TableId(catalog, schema, table);
+    }
+
+    public static void writeNullableString(@Nullable String value, DataOutputSerializer out)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    @Nullable
+    public static String readNullableString(DataInputDeserializer in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public static String rowToSerializedString(Object[] splitBoundary) {
+        try (final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(splitBoundary);
+            return HexConverter.convertToHexString(bos.toByteArray());
+        } catch (IOException e) {
+            throw new DebeziumException(
+                    String.format("Cannot serialize split boundary information %s", splitBoundary));
+        }
+    }
+
+    public static Object[] serializedStringToRow(String serialized) {
+        try (final ByteArrayInputStream bis =
+                        new ByteArrayInputStream(HexConverter.convertFromHex(serialized));
+                ObjectInputStream ois = new ObjectInputStream(bis)) {
+            return (Object[]) ois.readObject();
+        } catch (Exception e) {
+            throw new DebeziumException(
+                    String.format(
+                            "Failed to deserialize split boundary with value '%s'", serialized),
+                    e);
+        }
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.utils;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.watermark.WatermarkKind;
+import io.debezium.data.Envelope;
+import io.debezium.data.VariableScaleDecimal;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.ververica.cdc.debezium.source.watermark.WatermarkDispatcher.SIGNAL_EVENT_VALUE_SCHEMA_NAME;
+import static com.ververica.cdc.debezium.source.watermark.WatermarkDispatcher.WATERMARK_KIND;
+import static org.apache.flink.util.Preconditions.checkState;
+
+/** Utility class to deal the records of the incremental source. */
+@Experimental
+public class SourceRecordUtils {
+
+    private SourceRecordUtils() {}
+
+    public static final String HEARTBEAT_VALUE_SCHEMA_NAME =
+            "io.debezium.connector.common.Heartbeat";
+
+    /** Converts a {@link ResultSet} row to an array of Objects. */
+    public static Object[] rowToArray(ResultSet rs, int size) throws SQLException {
+        final Object[] row = new Object[size];
+        for (int i = 0; i < size; i++) {
+            row[i] = rs.getObject(i + 1);
+        }
+        return row;
+    }
+
+    /**
+     * Normalize the records of snapshot split which represents the split records state on high
+     * watermark. data input: [low watermark event] [snapshot events ] [high watermark event] [log
+     * events] [end watermark event] data output: [low watermark event] [high watermark event]
+     * [normalized events]
+     *
+     * <p>The normalized events are ordered by split key. The rows are identified by the key of
+     * record, or by the split key for tables without primary key whose records have no key.
+     *
+     * <p>If there are no log events between the high watermark and the end watermark, the snapshot
+     * events are already the split records state on high watermark and are returned in the read
+     * order, the split key of them is not accessed in this case.
+     */
+    public static List<SourceRecord> normalizedSplitRecords(
+            SnapshotSplit snapshotSplit,
+            List<SourceRecord> sourceRecords,
+            SchemaNameAdjuster nameAdjuster) {
+        List<SourceRecord> normalizedRecords = new ArrayList<>();
+        if (sourceRecords.isEmpty()) {
+            return normalizedRecords;
+        }
+        if (!hasLogRecords(sourceRecords)) {
+            return normalizedSnapshotRecords(snapshotSplit, sourceRecords);
+        }
+        final RowType splitKeyType = snapshotSplit.getSplitKeyType();
+        Map<Object, SourceRecord> snapshotRecords = new HashMap<>();
+        List<SourceRecord> logRecords = new ArrayList<>();
+
+        SourceRecord lowWatermark = sourceRecords.get(0);
+        checkState(
+                isLowWatermarkEvent(lowWatermark),
+                String.format(
+                        "The first record should be low watermark signal event, but is %s",
+                        lowWatermark));
+        SourceRecord highWatermark = null;
+        int i = 1;
+        for (; i < sourceRecords.size(); i++) {
+            SourceRecord sourceRecord = sourceRecords.get(i);
+            if (!isHighWatermarkEvent(sourceRecord)) {
+                snapshotRecords.put(
+                        getRowIdentity(
+                                sourceRecord,
+                                getSplitKey(splitKeyType, sourceRecord, nameAdjuster)),
+                        sourceRecord);
+            } else {
+                highWatermark = sourceRecord;
+                i++;
+                break;
+            }
+        }
+        checkState(
+                highWatermark != null,
+                String.format(
+                        "The snapshot records of split %s should end with high watermark signal event",
+                        snapshotSplit.splitId()));
+
+        for (; i < sourceRecords.size(); i++) {
+            SourceRecord logRecord = sourceRecords.get(i);
+            if (isDataChangeRecord(logRecord)) {
+                Object[] key = getSplitKey(splitKeyType, logRecord, nameAdjuster);
+                Object[] beforeKey = getBeforeSplitKey(splitKeyType, logRecord, nameAdjuster);
+                if (splitKeyRangeContains(
+                                key, snapshotSplit.getSplitStart(), snapshotSplit.getSplitEnd())
+                        || splitKeyRangeContains(
+                                beforeKey,
+                                snapshotSplit.getSplitStart(),
+                                snapshotSplit.getSplitEnd())) {
+                    logRecords.add(logRecord);
+                }
+            }
+        }
+
+        normalizedRecords.add(lowWatermark);
+        // emit the high watermark ahead, the emitted records are consistent to it
+        normalizedRecords.add(highWatermark);
+        upsertLogRecords(snapshotSplit, snapshotRecords, logRecords, nameAdjuster);
+        final Map<SourceRecord, Object[]> splitKeys = new IdentityHashMap<>();
+        for (SourceRecord record : snapshotRecords.values()) {
+            splitKeys.put(record, getSplitKey(splitKeyType, record, nameAdjuster));
+        }
+        final List<SourceRecord> sortedSnapshotRecords = new ArrayList<>(snapshotRecords.values());
+        sortedSnapshotRecords.sort(
+                (r1, r2) -> compareSplitKeys(splitKeys.get(r1), splitKeys.get(r2)));
+        normalizedRecords.addAll(sortedSnapshotRecords);
+        return normalizedRecords;
+    }
+
+    private static boolean hasLogRecords(List<SourceRecord> sourceRecords) {
+        for (int i = sourceRecords.size() - 1; i >= 0; i--) {
+            SourceRecord sourceRecord = sourceRecords.get(i);
+            if (isHighWatermarkEvent(sourceRecord)) {
+                return false;
+            } else if (isDataChangeRecord(sourceRecord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<SourceRecord> normalizedSnapshotRecords(
+            SnapshotSplit snapshotSplit, List<SourceRecord> sourceRecords) {
+        SourceRecord lowWatermark = sourceRecords.get(0);
+        checkState(
+                isLowWatermarkEvent(lowWatermark),
+                String.format(
+                        "The first record should be low watermark signal event, but is %s",
+                        lowWatermark));
+        int highWatermarkIndex = 1;
+        while (highWatermarkIndex < sourceRecords.size()
+                && !isHighWatermarkEvent(sourceRecords.get(highWatermarkIndex))) {
+            highWatermarkIndex++;
+        }
+        checkState(
+                highWatermarkIndex < sourceRecords.size(),
+                String.format(
+                        "The snapshot records of split %s should end with high watermark signal event",
+                        snapshotSplit.splitId()));
+        final List<SourceRecord> normalizedRecords = new ArrayList<>(highWatermarkIndex + 1);
+        normalizedRecords.add(lowWatermark);
+        normalizedRecords.add(sourceRecords.get(highWatermarkIndex));
+        normalizedRecords.addAll(sourceRecords.subList(1, highWatermarkIndex));
+        return normalizedRecords;
+    }
+
+    private static void upsertLogRecords(
+            SnapshotSplit split,
+            Map<Object, SourceRecord> snapshotRecords,
+            List<SourceRecord> logRecords,
+            SchemaNameAdjuster nameAdjuster) {
+        for (SourceRecord logRecord : logRecords) {
+            Object[] splitKey = getSplitKey(split.getSplitKeyType(), logRecord, nameAdjuster);
+            Object key = getRowIdentity(logRecord, splitKey);
+            Struct value = (Struct) logRecord.value();
+            Envelope.Operation operation =
+                    Envelope.Operation.forCode(value.getString(Envelope.FieldName.OPERATION));
+            switch (operation) {
+                case UPDATE:
+                    Envelope envelope = Envelope.fromSchema(logRecord.valueSchema());
+                    Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+                    Struct updateAfter = value.getStruct(Envelope.FieldName.AFTER);
+                    Instant ts =
+                            Instant.ofEpochMilli((Long) source.get(Envelope.FieldName.TIMESTAMP));
+                    SourceRecord record =
+                            new SourceRecord(
+                                    logRecord.sourcePartition(),
+                                    logRecord.sourceOffset(),
+                                    logRecord.topic(),
+                                    logRecord.kafkaPartition(),
+                                    logRecord.keySchema(),
+                                    logRecord.key(),
+                                    logRecord.valueSchema(),
+                                    envelope.read(updateAfter, source, ts));
+                    // the split key of tables without primary key may be updated
+                    snapshotRecords.remove(
+                            getRowIdentity(
+                                    logRecord,
+                                    getBeforeSplitKey(
+                                            split.getSplitKeyType(), logRecord, nameAdjuster)));
+                    if (splitKeyRangeContains(
+                            splitKey, split.getSplitStart(), split.getSplitEnd())) {
+                        snapshotRecords.put(key, record);
+                    }
+                    break;
+                case DELETE:
+                    if (snapshotRecords.remove(key) == null) {
+                        throw new IllegalStateException(
+                                String.format(
+                                        "The delete record %s doesn't exists in table split %s.",
+                                        logRecord, split));
+                    }
+                    break;
+                case CREATE:
+                    snapshotRecords.put(key, logRecord);
+                    break;
+                case READ:
+                    throw new IllegalStateException(
+                            String.format(
+                                    "Log record shouldn't use READ operation, the the record is %s.",
+                                    logRecord));
+                default:
+                    // truncate and message events don't change the rows of split
+            }
+        }
+    }
+
+    /** Compares the split keys field by field. */
+    public static int compareSplitKeys(Object[] key1, Object[] key2) {
+        for (int i = 0; i < key1.length; i++) {
+            int result = compareObjects(key1[i], key2[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    public static boolean isWatermarkEvent(SourceRecord record) {
+        return getWatermarkKind(record).isPresent();
+    }
+
+    public static boolean isLowWatermarkEvent(SourceRecord record) {
+        return getWatermarkKind(record).filter(kind -> kind == WatermarkKind.LOW).isPresent();
+    }
+
+    public static boolean isHighWatermarkEvent(SourceRecord record) {
+        return getWatermarkKind(record).filter(kind -> kind == WatermarkKind.HIGH).isPresent();
+    }
+
+    public static boolean isEndWatermarkEvent(SourceRecord record) {
+        return getWatermarkKind(record).filter(kind -> kind == WatermarkKind.END).isPresent();
+    }
+
+    /** Returns the offset of the record, which is built by the {@link OffsetFactory} of dialect. */
+    public static Offset getOffset(OffsetFactory offsetFactory, SourceRecord record) {
+        return offsetFactory.newOffset(Offset.toStringMap(record.sourceOffset()));
+    }
+
+    /**
+     * Whether the record is a heartbeat event emitted by debezium when the option {@code
+     * heartbeat.interval.ms} is enabled.
+     */
+    public static boolean isHeartbeatEvent(SourceRecord record) {
+        Schema valueSchema = record.valueSchema();
+        return valueSchema != null && HEARTBEAT_VALUE_SCHEMA_NAME.equals(valueSchema.name());
+    }
+
+    public static boolean isDataChangeRecord(SourceRecord record) {
+        Schema valueSchema = record.valueSchema();
+        Struct value = (Struct) record.value();
+        return value != null
+                && valueSchema.field(Envelope.FieldName.OPERATION) != null
+                && value.getString(Envelope.FieldName.OPERATION) != null;
+    }
+
+    /**
+     * Returns the split key of the data change record, the split key is read from the key of
+     * record, or from the row for tables without primary key.
+     */
+    public static Object[] getSplitKey(
+            RowType splitBoundaryType, SourceRecord dataRecord, SchemaNameAdjuster nameAdjuster) {
+        Struct value = (Struct) dataRecord.value();
+        Struct row = value.getStruct(Envelope.FieldName.AFTER);
+        return getSplitKey(
+                splitBoundaryType,
+                dataRecord,
+                row != null ? row : value.getStruct(Envelope.FieldName.BEFORE),
+                nameAdjuster);
+    }
+
+    private static Object[] getBeforeSplitKey(
+            RowType splitBoundaryType, SourceRecord dataRecord, SchemaNameAdjuster nameAdjuster) {
+        Struct value = (Struct) dataRecord.value();
+        Struct row = value.getStruct(Envelope.FieldName.BEFORE);
+        return getSplitKey(
+                splitBoundaryType,
+                dataRecord,
+                row != null ? row : value.getStruct(Envelope.FieldName.AFTER),
+                nameAdjuster);
+    }
+
+    private static Object[] getSplitKey(
+            RowType splitBoundaryType,
+            SourceRecord dataRecord,
+            Struct row,
+            SchemaNameAdjuster nameAdjuster) {
+        final List<String> fieldNames = splitBoundaryType.getFieldNames();
+        final Struct key = (Struct) dataRecord.key();
+        final Object[] splitKey = new Object[fieldNames.size()];
+        for (int i = 0; i < splitKey.length; i++) {
+            String splitFieldName = nameAdjuster.adjust(fieldNames.get(i));
+            if (key != null && key.schema().field(splitFieldName) != null) {
+                splitKey[i] = toComparableValue(key.get(splitFieldName));
+            } else {
+                // the split key is not a key field for tables without primary key
+                splitKey[i] = toComparableValue(row.get(splitFieldName));
+            }
+        }
+        return splitKey;
+    }
+
+    /**
+     * Converts the numbers of variable scale, e.g. the Oracle NUMBER without precision, to {@link
+     * BigDecimal} to compare them with the split boundaries.
+     */
+    private static Object toComparableValue(Object value) {
+        if (value instanceof Struct
+                && VariableScaleDecimal.LOGICAL_NAME.equals(((Struct) value).schema().name())) {
+            return VariableScaleDecimal.toLogical((Struct) value).getDecimalValue().orElse(null);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the identity of the row in record, which is the key of the record, or the split key
+     * if the record has no key.
+     */
+    private static Object getRowIdentity(SourceRecord dataRecord, Object[] splitKey) {
+        return dataRecord.key() != null ? dataRecord.key() : Arrays.asList(splitKey);
+    }
+
+    /** Returns the specific key contains in the split key range or not. */
+    public static boolean splitKeyRangeContains(
+            Object[] key, Object[] splitKeyStart, Object[] splitKeyEnd) {
+        // for all range
+        if (splitKeyStart == null && splitKeyEnd == null) {
+            return true;
+        }
+        // first split
+        if (splitKeyStart == null) {
+            return compareSplitKeys(key, splitKeyEnd) < 0;
+        }
+        // last split
+        else if (splitKeyEnd == null) {
+            return compareSplitKeys(key, splitKeyStart) >= 0;
+        }
+        // other split
+        else {
+            return compareSplitKeys(key, splitKeyStart) >= 0
+                    && compareSplitKeys(key, splitKeyEnd) < 0;
+        }
+    }
+
+    private static int compareObjects(Object o1, Object o2) {
+        if (o1 == null || o2 == null) {
+            // null split key of tables without primary key sorts first
+            return o1 == null ? (o2 == null ? 0 : -1) : 1;
+        } else if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
+            return ((Comparable) o1).compareTo(o2);
+        } else if (o1 instanceof Number && o2 instanceof Number) {
+            // the split key from change log may have different numeric type
+            return new BigDecimal(o1.toString()).compareTo(new BigDecimal(o2.toString()));
+        } else {
+            return o1.toString().compareTo(o2.toString());
+        }
+    }
+
+    private static Optional<WatermarkKind> getWatermarkKind(SourceRecord record) {
+        if (record.valueSchema() != null
+                && SIGNAL_EVENT_VALUE_SCHEMA_NAME.equals(record.valueSchema().name())) {
+            Struct value = (Struct) record.value();
+            return Optional.of(WatermarkKind.valueOf(value.getString(WATERMARK_KIND)));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.watermark;
+
+import org.apache.flink.annotation.Experimental;
+
+/** The watermark kind of a snapshot split read. */
+@Experimental
+public enum WatermarkKind {
+    /** The log offset before the snapshot query of split. */
+    LOW,
+    /** The log offset after the snapshot query of split. */
+    HIGH,
+    /** The end of the log backfill of split, it carries the high watermark too. */
+    END;
+}
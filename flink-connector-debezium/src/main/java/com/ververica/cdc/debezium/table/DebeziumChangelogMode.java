@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.table;
+
+import org.apache.flink.table.connector.ChangelogMode;
+import org.apache.flink.types.RowKind;
+
+/**
+ * Changelog modes supported by the Debezium based table sources.
+ *
+ * @see RowDataDebeziumDeserializeSchema
+ */
+public enum DebeziumChangelogMode {
+
+    /**
+     * Emits the full changelog, an update is emitted as an UPDATE_BEFORE row followed by an
+     * UPDATE_AFTER row.
+     */
+    ALL(
+            ChangelogMode.newBuilder()
+                    .addContainedKind(RowKind.INSERT)
+                    .addContainedKind(RowKind.UPDATE_BEFORE)
+                    .addContainedKind(RowKind.UPDATE_AFTER)
+                    .addContainedKind(RowKind.DELETE)
+                    .build()),
+
+    /**
+     * Emits an upsert changelog without UPDATE_BEFORE rows, the before image of an update is not
+     * converted at all. Requires a primary key on the table to keep the key semantics correct.
+     */
+    UPSERT(
+            ChangelogMode.newBuilder()
+                    .addContainedKind(RowKind.INSERT)
+                    .addContainedKind(RowKind.UPDATE_AFTER)
+                    .addContainedKind(RowKind.DELETE)
+                    .build());
+
+    private final ChangelogMode changelogMode;
+
+    DebeziumChangelogMode(ChangelogMode changelogMode) {
+        this.changelogMode = changelogMode;
+    }
+
+    /** Returns the {@link ChangelogMode} which the source declares to the planner. */
+    public ChangelogMode getChangelogMode() {
+        return changelogMode;
+    }
+}
@@ -18,6 +18,11 @@
 
 package com.ververica.cdc.debezium.table;
 
+import org.apache.flink.configuration.ConfigOption;
+import org.apache.flink.configuration.ConfigOptions;
+import org.apache.flink.table.api.TableSchema;
+import org.apache.flink.table.api.ValidationException;
+
 import java.util.Map;
 import java.util.Properties;
 
@@ -25,6 +30,17 @@ import java.util.Properties;
 public class DebeziumOptions {
     public static final String DEBEZIUM_OPTIONS_PREFIX = "debezium.";
 
+    /** The changelog mode option shared by the table sources, see {@link DebeziumChangelogMode}. */
+    public static final ConfigOption<DebeziumChangelogMode> CHANGELOG_MODE =
+            ConfigOptions.key("changelog-mode")
+                    .enumType(DebeziumChangelogMode.class)
+                    .defaultValue(DebeziumChangelogMode.ALL)
+                    .withDescription(
+                            "The changelog mode used for encoding streaming changes, valid enumerations are "
+                                    + "\"all\" which encodes changes as retract stream using all RowKinds, "
+                                    + "and \"upsert\" which encodes changes as upsert stream that describes "
+                                    + "idempotent updates on a key, it requires a primary key on the table.");
+
     public static Properties getDebeziumProperties(Map<String, String> properties) {
         final Properties debeziumProperties = new Properties();
 
@@ -42,6 +58,18 @@ public class DebeziumOptions {
         return debeziumProperties;
     }
 
+    /** Validates that the table has a primary key if it's read in the upsert changelog mode. */
+    public static void validateChangelogMode(
+            DebeziumChangelogMode changelogMode, TableSchema physicalSchema) {
+        if (changelogMode == DebeziumChangelogMode.UPSERT
+                && !physicalSchema.getPrimaryKey().isPresent()) {
+            throw new ValidationException(
+                    String.format(
+                            "The primary key is necessary when set '%s' to '%s'",
+                            CHANGELOG_MODE.key(), "upsert"));
+        }
+    }
+
     /**
      * Decides if the table options contains Debezium client properties that start with prefix
      * 'debezium'.
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.table;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.DateType;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.DoubleType;
+import org.apache.flink.table.types.logical.FloatType;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.LocalZonedTimestampType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.SmallIntType;
+import org.apache.flink.table.types.logical.TimeType;
+import org.apache.flink.table.types.logical.TimestampType;
+import org.apache.flink.table.types.logical.TinyIntType;
+import org.apache.flink.table.types.logical.VarBinaryType;
+import org.apache.flink.table.types.logical.VarCharType;
+import org.apache.flink.types.RowKind;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import io.debezium.data.Envelope;
+import io.debezium.data.VariableScaleDecimal;
+import io.debezium.time.MicroTime;
+import io.debezium.time.MicroTimestamp;
+import io.debezium.time.NanoTime;
+import io.debezium.time.NanoTimestamp;
+import io.debezium.time.ZonedTimestamp;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.debezium.connector.AbstractSourceInfo.DATABASE_NAME_KEY;
+import static io.debezium.connector.AbstractSourceInfo.SCHEMA_NAME_KEY;
+import static io.debezium.connector.AbstractSourceInfo.TABLE_NAME_KEY;
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/**
+ * Deserialization schema from Debezium object of multiple tables to {@link TableRowData}, which is
+ * the {@link RowData} of the change together with the table it belongs to.
+ *
+ * <p>Unlike {@link RowDataDebeziumDeserializeSchema} which converts the rows of a single declared
+ * {@link RowType}, the row type is derived from the Debezium schema of the record. The converter of
+ * a table is created on the first record of the table and cached by the schema of the record, a new
+ * converter is created when the schema of the table changes, e.g. after a DDL, and all cached
+ * converters are dropped on schema change events.
+ *
+ * <p>The ARRAY and MAP columns are not supported, the deserialization fails with the name of the
+ * column on the first record of the table.
+ */
+public final class MultiTableRowDataDebeziumDeserializeSchema
+        implements DebeziumDeserializationSchema<TableRowData> {
+    private static final long serialVersionUID = 1L;
+
+    private static final String SCHEMA_CHANGE_KEY_NAME_SUFFIX = "SchemaChangeKey";
+
+    private final ZoneId serverTimeZone;
+
+    private final DeserializationRuntimeConverterFactory userDefinedConverterFactory;
+
+    /** Changelog mode of the produced rows, decides whether to emit UPDATE_BEFORE rows. */
+    private final DebeziumChangelogMode changelogMode;
+
+    /** The converters of the tables, keyed by the value schema of the records. */
+    private transient Map<Schema, TableConverter> convertersBySchema;
+
+    /** The converters of the latest schema version of the tables. */
+    private transient Map<String, TableConverter> convertersByTable;
+
+    /** Returns a builder to build {@link MultiTableRowDataDebeziumDeserializeSchema}. */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    MultiTableRowDataDebeziumDeserializeSchema(
+            ZoneId serverTimeZone,
+            DeserializationRuntimeConverterFactory userDefinedConverterFactory,
+            DebeziumChangelogMode changelogMode) {
+        this.serverTimeZone = checkNotNull(serverTimeZone);
+        this.userDefinedConverterFactory = checkNotNull(userDefinedConverterFactory);
+        this.changelogMode = checkNotNull(changelogMode);
+    }
+
+    @Override
+    public void deserialize(SourceRecord record, Collector<TableRowData> out) throws Exception {
+        if (convertersBySchema == null) {
+            convertersBySchema = new IdentityHashMap<>();
+            convertersByTable = new HashMap<>();
+        }
+        if (isSchemaChangeEvent(record)) {
+            // the following records of the changed tables come with new schemas
+            convertersBySchema.clear();
+            convertersByTable.clear();
+            return;
+        }
+        Schema valueSchema = record.valueSchema();
+        if (valueSchema == null
+                || valueSchema.field(Envelope.FieldName.OPERATION) == null
+                || record.value() == null) {
+            // not a data change record, e.g. a tombstone or a heartbeat
+            return;
+        }
+
+        Struct value = (Struct) record.value();
+        TableConverter converter = getConverter(value, valueSchema);
+        Envelope.Operation op = Envelope.operationFor(record);
+        if (op == Envelope.Operation.CREATE || op == Envelope.Operation.READ) {
+            emit(converter, value, Envelope.FieldName.AFTER, RowKind.INSERT, out);
+        } else if (op == Envelope.Operation.DELETE) {
+            emit(converter, value, Envelope.FieldName.BEFORE, RowKind.DELETE, out);
+        } else {
+            if (changelogMode == DebeziumChangelogMode.ALL) {
+                emit(converter, value, Envelope.FieldName.BEFORE, RowKind.UPDATE_BEFORE, out);
+            }
+            emit(converter, value, Envelope.FieldName.AFTER, RowKind.UPDATE_AFTER, out);
+        }
+    }
+
+    private void emit(
+            TableConverter converter,
+            Struct value,
+            String fieldName,
+            RowKind rowKind,
+            Collector<TableRowData> out)
+            throws Exception {
+        RowData row =
+                (RowData)
+                        converter.converter.convert(
+                                value.getStruct(fieldName), converter.rowSchema);
+        row.setRowKind(rowKind);
+        out.collect(new TableRowData(converter.tableId, row));
+    }
+
+    private TableConverter getConverter(Struct value, Schema valueSchema) {
+        TableConverter converter = convertersBySchema.get(valueSchema);
+        if (converter != null) {
+            return converter;
+        }
+        String tableId = getTableId(value);
+        Schema rowSchema = valueSchema.field(Envelope.FieldName.AFTER).schema();
+        converter = convertersByTable.get(tableId);
+        if (converter == null || !converter.rowSchema.equals(rowSchema)) {
+            // the first record or a new schema version of the table
+            RowType rowType = (RowType) toLogicalType(tableId, rowSchema);
+            converter =
+                    new TableConverter(
+                            tableId,
+                            rowSchema,
+                            RowDataDebeziumDeserializeSchema.createNotNullConverter(
+                                    rowType, serverTimeZone, userDefinedConverterFactory));
+            convertersByTable.put(tableId, converter);
+            // drop the schemas of the previous schema version of the table
+            convertersBySchema.values().removeIf(c -> c.tableId.equals(tableId));
+        }
+        // readers of different splits may use equal schemas of different instances
+        convertersBySchema.put(valueSchema, converter);
+        return converter;
+    }
+
+    private static String getTableId(Struct value) {
+        Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+        String database = source.getString(DATABASE_NAME_KEY);
+        String schema =
+                source.schema().field(SCHEMA_NAME_KEY) == null
+                        ? null
+                        : source.getString(SCHEMA_NAME_KEY);
+        String table = source.getString(TABLE_NAME_KEY);
+        return schema == null ? database + "." + table : database + "." + schema + "." + table;
+    }
+
+    private static boolean isSchemaChangeEvent(SourceRecord record) {
+        Schema keySchema = record.keySchema();
+        return keySchema != null
+                && keySchema.name() != null
+                && keySchema.name().endsWith(SCHEMA_CHANGE_KEY_NAME_SUFFIX);
+    }
+
+    /**
+     * Derives the Flink type of the given Debezium schema, the path is the name of the field of the
+     * schema in the row of the table.
+     */
+    private static LogicalType toLogicalType(String path, Schema schema) {
+        boolean nullable = schema.isOptional();
+        if (schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    String precisionParam = schema.parameters().get("connect.decimal.precision");
+                    int precision =
+                            precisionParam == null
+                                    ? DecimalType.MAX_PRECISION
+                                    : Math.min(
+                                            Integer.parseInt(precisionParam),
+                                            DecimalType.MAX_PRECISION);
+                    int schemaScale =
+                            Integer.parseInt(schema.parameters().get(Decimal.SCALE_FIELD));
+                    // the scale is clamped together with the precision, the values are rounded
+                    int scale = Math.max(DecimalType.MIN_SCALE, Math.min(schemaScale, precision));
+                    return new DecimalType(nullable, precision, scale);
+                case VariableScaleDecimal.LOGICAL_NAME:
+                    return new DecimalType(nullable, DecimalType.MAX_PRECISION, 18);
+                case io.debezium.time.Date.SCHEMA_NAME:
+                case org.apache.kafka.connect.data.Date.LOGICAL_NAME:
+                    return new DateType(nullable);
+                case io.debezium.time.Time.SCHEMA_NAME:
+                case org.apache.kafka.connect.data.Time.LOGICAL_NAME:
+                    return new TimeType(nullable, 3);
+                case MicroTime.SCHEMA_NAME:
+                    return new TimeType(nullable, 6);
+                case NanoTime.SCHEMA_NAME:
+                    return new TimeType(nullable, 9);
+                case io.debezium.time.Timestamp.SCHEMA_NAME:
+                case org.apache.kafka.connect.data.Timestamp.LOGICAL_NAME:
+                    return new TimestampType(nullable, 3);
+                case MicroTimestamp.SCHEMA_NAME:
+                    return new TimestampType(nullable, 6);
+                case NanoTimestamp.SCHEMA_NAME:
+                    return new TimestampType(nullable, 9);
+                case ZonedTimestamp.SCHEMA_NAME:
+                    return new LocalZonedTimestampType(nullable, 9);
+                default:
+                    break;
+            }
+        }
+        switch (schema.type()) {
+            case INT8:
+                return new TinyIntType(nullable);
+            case INT16:
+                return new SmallIntType(nullable);
+            case INT32:
+                return new IntType(nullable);
+            case INT64:
+                return new BigIntType(nullable);
+            case FLOAT32:
+                return new FloatType(nullable);
+            case FLOAT64:
+                return new DoubleType(nullable);
+            case BOOLEAN:
+                return new BooleanType(nullable);
+            case STRING:
+                return new VarCharType(nullable, VarCharType.MAX_LENGTH);
+            case BYTES:
+                return new VarBinaryType(nullable, VarBinaryType.MAX_LENGTH);
+            case STRUCT:
+                List<RowType.RowField> fields = new ArrayList<>();
+                for (Field field : schema.fields()) {
+                    fields.add(
+                            new RowType.RowField(
+                                    field.name(),
+                                    toLogicalType(path + "." + field.name(), field.schema())));
+                }
+                return new RowType(nullable, fields);
+            default:
+                // the ARRAY and MAP types are not supported by the row converters either
+                throw new UnsupportedOperationException(
+                        String.format(
+                                "Unsupported Debezium schema type %s of field '%s'.",
+                                schema.type(), path));
+        }
+    }
+
+    @Override
+    public TypeInformation<TableRowData> getProducedType() {
+        return TypeInformation.of(TableRowData.class);
+    }
+
+    /** The converter of a schema version of a table. */
+    private static final class TableConverter {
+        private final String tableId;
+        private final Schema rowSchema;
+        private final DeserializationRuntimeConverter converter;
+
+        private TableConverter(
+                String tableId, Schema rowSchema, DeserializationRuntimeConverter converter) {
+            this.tableId = tableId;
+            this.rowSchema = rowSchema;
+            this.converter = converter;
+        }
+    }
+
+    // -------------------------------------------------------------------------------------
+    // Builder
+    // -------------------------------------------------------------------------------------
+
+    /** Builder of {@link MultiTableRowDataDebeziumDeserializeSchema}. */
+    public static class Builder {
+        private ZoneId serverTimeZone = ZoneId.of("UTC");
+        private DeserializationRuntimeConverterFactory userDefinedConverterFactory =
+                DeserializationRuntimeConverterFactory.DEFAULT;
+        private DebeziumChangelogMode changelogMode = DebeziumChangelogMode.ALL;
+
+        public Builder setServerTimeZone(ZoneId serverTimeZone) {
+            this.serverTimeZone = serverTimeZone;
+            return this;
+        }
+
+        public Builder setUserDefinedConverterFactory(
+                DeserializationRuntimeConverterFactory userDefinedConverterFactory) {
+            this.userDefinedConverterFactory = userDefinedConverterFactory;
+            return this;
+        }
+
+        public Builder setChangelogMode(DebeziumChangelogMode changelogMode) {
+            this.changelogMode = changelogMode;
+            return this;
+        }
+
+        public MultiTableRowDataDebeziumDeserializeSchema build() {
+            return new MultiTableRowDataDebeziumDeserializeSchema(
+                    serverTimeZone, userDefinedConverterFactory, changelogMode);
+        }
+    }
+}
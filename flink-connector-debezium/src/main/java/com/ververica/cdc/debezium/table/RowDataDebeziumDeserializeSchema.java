@@ -52,6 +52,7 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.zone.ZoneRules;
 import java.util.Optional;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
@@ -89,6 +90,9 @@ public final class RowDataDebeziumDeserializeSchema
     /** Validator to validate the row value. */
     private final ValueValidator validator;
 
+    /** Changelog mode of the produced rows, decides whether to emit UPDATE_BEFORE rows. */
+    private final DebeziumChangelogMode changelogMode;
+
     /** Returns a builder to build {@link RowDataDebeziumDeserializeSchema}. */
     public static Builder newBuilder() {
         return new Builder();
@@ -100,7 +104,8 @@ public final class RowDataDebeziumDeserializeSchema
             TypeInformation<RowData> resultTypeInfo,
             ValueValidator validator,
             ZoneId serverTimeZone,
-            DeserializationRuntimeConverterFactory userDefinedConverterFactory) {
+            DeserializationRuntimeConverterFactory userDefinedConverterFactory,
+            DebeziumChangelogMode changelogMode) {
         this.hasMetadata = checkNotNull(metadataConverters).length > 0;
         this.appendMetadataCollector = new AppendMetadataCollector(metadataConverters);
         this.physicalConverter =
@@ -110,6 +115,7 @@ public final class RowDataDebeziumDeserializeSchema
                         userDefinedConverterFactory);
         this.resultTypeInfo = checkNotNull(resultTypeInfo);
         this.validator = checkNotNull(validator);
+        this.changelogMode = checkNotNull(changelogMode);
     }
 
     @Override
@@ -128,10 +134,12 @@ public final class RowDataDebeziumDeserializeSchema
             delete.setRowKind(RowKind.DELETE);
             emit(record, delete, out);
         } else {
-            GenericRowData before = extractBeforeRow(value, valueSchema);
-            validator.validate(before, RowKind.UPDATE_BEFORE);
-            before.setRowKind(RowKind.UPDATE_BEFORE);
-            emit(record, before, out);
+            if (changelogMode == DebeziumChangelogMode.ALL) {
+                GenericRowData before = extractBeforeRow(value, valueSchema);
+                validator.validate(before, RowKind.UPDATE_BEFORE);
+                before.setRowKind(RowKind.UPDATE_BEFORE);
+                emit(record, before, out);
+            }
 
             GenericRowData after = extractAfterRow(value, valueSchema);
             validator.validate(after, RowKind.UPDATE_AFTER);
@@ -181,6 +189,7 @@ public final class RowDataDebeziumDeserializeSchema
         private ZoneId serverTimeZone = ZoneId.of("UTC");
         private DeserializationRuntimeConverterFactory userDefinedConverterFactory =
                 DeserializationRuntimeConverterFactory.DEFAULT;
+        private DebeziumChangelogMode changelogMode = DebeziumChangelogMode.ALL;
 
         public Builder setPhysicalRowType(RowType physicalRowType) {
             this.physicalRowType = physicalRowType;
@@ -213,6 +222,11 @@ public final class RowDataDebeziumDeserializeSchema
             return this;
         }
 
+        public Builder setChangelogMode(DebeziumChangelogMode changelogMode) {
+            this.changelogMode = changelogMode;
+            return this;
+        }
+
         public RowDataDebeziumDeserializeSchema build() {
             return new RowDataDebeziumDeserializeSchema(
                     physicalRowType,
@@ -220,7 +234,8 @@ public final class RowDataDebeziumDeserializeSchema
                     resultTypeInfo,
                     validator,
                     serverTimeZone,
-                    userDefinedConverterFactory);
+                    userDefinedConverterFactory,
+                    changelogMode);
         }
     }
 
@@ -426,6 +441,10 @@ public final class RowDataDebeziumDeserializeSchema
 
             @Override
             public Object convert(Object dbzObj, Schema schema) {
+                if (dbzObj instanceof Integer) {
+                    // io.debezium.time.Date is the number of days since epoch
+                    return dbzObj;
+                }
                 return (int) TemporalConversions.toLocalDate(dbzObj).toEpochDay();
             }
         };
@@ -468,11 +487,13 @@ public final class RowDataDebeziumDeserializeSchema
                         case MicroTimestamp.SCHEMA_NAME:
                             long micro = (long) dbzObj;
                             return TimestampData.fromEpochMillis(
-                                    micro / 1000, (int) (micro % 1000 * 1000));
+                                    Math.floorDiv(micro, 1000),
+                                    (int) (Math.floorMod(micro, 1000) * 1000));
                         case NanoTimestamp.SCHEMA_NAME:
                             long nano = (long) dbzObj;
                             return TimestampData.fromEpochMillis(
-                                    nano / 1000_000, (int) (nano % 1000_000));
+                                    Math.floorDiv(nano, 1000_000),
+                                    (int) Math.floorMod(nano, 1000_000));
                     }
                 }
                 LocalDateTime localDateTime =
@@ -484,6 +505,7 @@ public final class RowDataDebeziumDeserializeSchema
 
     private static DeserializationRuntimeConverter convertToLocalTimeZoneTimestamp(
             ZoneId serverTimeZone) {
+        final ZoneRules zoneRules = serverTimeZone.getRules();
         return new DeserializationRuntimeConverter() {
 
             private static final long serialVersionUID = 1L;
@@ -494,8 +516,14 @@ public final class RowDataDebeziumDeserializeSchema
                     String str = (String) dbzObj;
                     // TIMESTAMP type is encoded in string type
                     Instant instant = Instant.parse(str);
-                    return TimestampData.fromLocalDateTime(
-                            LocalDateTime.ofInstant(instant, serverTimeZone));
+                    // the local date time of the instant in server time zone, without
+                    // creating the LocalDateTime
+                    long localSecond =
+                            instant.getEpochSecond()
+                                    + zoneRules.getOffset(instant).getTotalSeconds();
+                    int nano = instant.getNano();
+                    return TimestampData.fromEpochMillis(
+                            localSecond * 1000 + nano / 1000_000, nano % 1000_000);
                 }
                 throw new IllegalArgumentException(
                         "Unable to convert to TimestampData from unexpected value '"
@@ -513,6 +541,13 @@ public final class RowDataDebeziumDeserializeSchema
 
             @Override
             public Object convert(Object dbzObj, Schema schema) {
+                if (dbzObj instanceof String) {
+                    // the UTF-8 bytes are encoded lazily by BinaryStringData when needed
+                    return StringData.fromString((String) dbzObj);
+                } else if (dbzObj instanceof byte[]) {
+                    // the value is UTF-8 encoded already, keep the bytes as they are
+                    return StringData.fromBytes((byte[]) dbzObj);
+                }
                 return StringData.fromString(dbzObj.toString());
             }
         };
@@ -543,6 +578,7 @@ public final class RowDataDebeziumDeserializeSchema
     private static DeserializationRuntimeConverter createDecimalConverter(DecimalType decimalType) {
         final int precision = decimalType.getPrecision();
         final int scale = decimalType.getScale();
+        final boolean compact = DecimalData.isCompact(precision);
         return new DeserializationRuntimeConverter() {
 
             private static final long serialVersionUID = 1L;
@@ -550,8 +586,19 @@ public final class RowDataDebeziumDeserializeSchema
             @Override
             public Object convert(Object dbzObj, Schema schema) {
                 BigDecimal bigDecimal;
-                if (dbzObj instanceof byte[]) {
-                    // decimal.handling.mode=precise
+                if (dbzObj instanceof BigDecimal) {
+                    // decimal.handling.mode=precise, the connect struct holds the logical value
+                    bigDecimal = (BigDecimal) dbzObj;
+                    if (compact
+                            && bigDecimal.scale() == scale
+                            && bigDecimal.precision() <= precision) {
+                        // the value fits the type as it is, which is the common case since the
+                        // scale of the column is the scale of the value, no rescaled copy is made
+                        return DecimalData.fromUnscaledLong(
+                                bigDecimal.unscaledValue().longValueExact(), precision, scale);
+                    }
+                } else if (dbzObj instanceof byte[]) {
+                    // decimal.handling.mode=precise, the unscaled bytes of the value
                     bigDecimal = Decimal.toLogical(schema, (byte[]) dbzObj);
                 } else if (dbzObj instanceof String) {
                     // decimal.handling.mode=string
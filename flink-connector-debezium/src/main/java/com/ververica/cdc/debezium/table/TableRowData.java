@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.table;
+
+import org.apache.flink.table.data.RowData;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A changed row of a captured table which is produced by {@link
+ * MultiTableRowDataDebeziumDeserializeSchema}, the {@link RowData} carries the {@link
+ * org.apache.flink.types.RowKind} of the change.
+ */
+public class TableRowData implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** The identifier of the table, e.g. "db.table" or "db.schema.table". */
+    private String tableId;
+
+    private RowData row;
+
+    /** Default constructor for Flink's type extraction. */
+    public TableRowData() {}
+
+    public TableRowData(String tableId, RowData row) {
+        this.tableId = tableId;
+        this.row = row;
+    }
+
+    public String getTableId() {
+        return tableId;
+    }
+
+    public void setTableId(String tableId) {
+        this.tableId = tableId;
+    }
+
+    public RowData getRow() {
+        return row;
+    }
+
+    public void setRow(RowData row) {
+        this.row = row;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TableRowData that = (TableRowData) o;
+        return Objects.equals(tableId, that.tableId) && Objects.equals(row, that.row);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId, row);
+    }
+
+    @Override
+    public String toString() {
+        return "TableRowData{" + "tableId='" + tableId + '\'' + ", row=" + row + '}';
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium;
+
+import org.apache.flink.api.common.functions.util.ListCollector;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.ververica.cdc.debezium.JsonDebeziumBytesDeserializationSchema.SchemaMode;
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link JsonDebeziumBytesDeserializationSchema}. */
+public class JsonDebeziumBytesDeserializationSchemaTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Schema ROW_SCHEMA = rowSchema();
+
+    @Test
+    public void testSameJsonAsStringSchemaWithoutSchema() throws Exception {
+        assertSameJson(new JsonDebeziumDeserializationSchema(false), SchemaMode.NONE);
+    }
+
+    @Test
+    public void testSameJsonAsStringSchemaWithInlineSchema() throws Exception {
+        assertSameJson(new JsonDebeziumDeserializationSchema(true), SchemaMode.INLINE);
+    }
+
+    @Test
+    public void testWriteSchemaOncePerFingerprintInIdMode() throws Exception {
+        final JsonDebeziumBytesDeserializationSchema deserializer =
+                new JsonDebeziumBytesDeserializationSchema(SchemaMode.ID);
+        // an equal schema of another instance has the same fingerprint
+        final Schema equalSchema = rowSchema();
+        final List<SourceRecord> records =
+                Arrays.asList(
+                        record(1),
+                        record(2),
+                        new SourceRecord(null, null, "topic", equalSchema, row(equalSchema, 3)),
+                        new SourceRecord(null, null, "topic", Schema.STRING_SCHEMA, "other"));
+        final List<JsonNode> messages = new ArrayList<>();
+        for (byte[] message : deserialize(deserializer, records)) {
+            messages.add(OBJECT_MAPPER.readTree(message));
+        }
+
+        final String schemaId = messages.get(0).get("schemaId").asText();
+        assertTrue(messages.get(0).has("schema"));
+        assertEquals(schemaId, messages.get(1).get("schemaId").asText());
+        assertFalse(messages.get(1).has("schema"));
+        assertEquals(schemaId, messages.get(2).get("schemaId").asText());
+        assertFalse(messages.get(2).has("schema"));
+        assertNotEquals(schemaId, messages.get(3).get("schemaId").asText());
+        assertTrue(messages.get(3).has("schema"));
+
+        // the schema and the payload are the same as the ones of the inline mode
+        final JsonNode inlineMessage = deserializeToJson(SchemaMode.INLINE, records.get(0));
+        assertEquals(inlineMessage.get("schema"), messages.get(0).get("schema"));
+        assertEquals(inlineMessage.get("payload"), messages.get(0).get("payload"));
+
+        // the schema is written again after the deserializer is restarted, with the same id
+        final JsonNode restartedMessage = deserializeToJson(SchemaMode.ID, records.get(1));
+        assertEquals(schemaId, restartedMessage.get("schemaId").asText());
+        assertTrue(restartedMessage.has("schema"));
+    }
+
+    @Test
+    public void testKeepLatestJsonSchemaPerSchemaName() throws Exception {
+        final JsonDebeziumBytesDeserializationSchema deserializer =
+                new JsonDebeziumBytesDeserializationSchema(SchemaMode.ID);
+        final List<SourceRecord> records = new ArrayList<>();
+        for (int version = 1; version <= 3; version++) {
+            // the table is altered, each version of the schema has one more column
+            final SchemaBuilder builder = SchemaBuilder.struct().name("test.Altered");
+            for (int i = 0; i < version; i++) {
+                builder.field("f" + i, Schema.INT32_SCHEMA);
+            }
+            final Schema schema = builder.build();
+            final Struct row = new Struct(schema);
+            for (int i = 0; i < version; i++) {
+                row.put("f" + i, i);
+            }
+            records.add(new SourceRecord(null, null, "topic", schema, row));
+        }
+        records.add(record(1));
+        final List<JsonNode> messages = new ArrayList<>();
+        for (byte[] message : deserialize(deserializer, records)) {
+            messages.add(OBJECT_MAPPER.readTree(message));
+        }
+
+        // the new version of the schema replaces the previous one and is written with a new id
+        assertEquals(2, deserializer.getCachedJsonSchemaCount());
+        for (int i = 1; i < 3; i++) {
+            assertTrue(messages.get(i).has("schema"));
+            assertNotEquals(
+                    messages.get(i - 1).get("schemaId").asText(),
+                    messages.get(i).get("schemaId").asText());
+        }
+    }
+
+    private static void assertSameJson(
+            JsonDebeziumDeserializationSchema stringDeserializer, SchemaMode schemaMode)
+            throws Exception {
+        final List<SourceRecord> records =
+                Arrays.asList(
+                        record(1),
+                        record(2),
+                        new SourceRecord(null, null, "topic", Schema.STRING_SCHEMA, "value"),
+                        new SourceRecord(null, null, "topic", Schema.OPTIONAL_INT64_SCHEMA, null));
+        final List<String> expected = new ArrayList<>();
+        for (SourceRecord record : records) {
+            stringDeserializer.deserialize(record, new ListCollector<>(expected));
+        }
+        final List<byte[]> actual =
+                deserialize(new JsonDebeziumBytesDeserializationSchema(schemaMode), records);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(
+                    expected.get(i),
+                    expected.get(i).getBytes(StandardCharsets.UTF_8),
+                    actual.get(i));
+        }
+    }
+
+    private static List<byte[]> deserialize(
+            JsonDebeziumBytesDeserializationSchema deserializer, List<SourceRecord> records)
+            throws Exception {
+        final List<byte[]> messages = new ArrayList<>();
+        for (SourceRecord record : records) {
+            deserializer.deserialize(record, new ListCollector<>(messages));
+        }
+        return messages;
+    }
+
+    private static JsonNode deserializeToJson(SchemaMode schemaMode, SourceRecord record)
+            throws Exception {
+        final List<byte[]> messages =
+                deserialize(
+                        new JsonDebeziumBytesDeserializationSchema(schemaMode),
+                        Collections.singletonList(record));
+        return OBJECT_MAPPER.readTree(messages.get(0));
+    }
+
+    private static SourceRecord record(int id) {
+        return new SourceRecord(null, null, "topic", ROW_SCHEMA, row(ROW_SCHEMA, id));
+    }
+
+    /** The schema of all the connect types and logical types. */
+    private static Schema rowSchema() {
+        final Schema nestedSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("f1", Schema.OPTIONAL_STRING_SCHEMA)
+                        .build();
+        return SchemaBuilder.struct()
+                .name("test.Value")
+                .field("int8", Schema.INT8_SCHEMA)
+                .field("int16", Schema.INT16_SCHEMA)
+                .field("int32", Schema.INT32_SCHEMA)
+                .field("int64", Schema.INT64_SCHEMA)
+                .field("float32", Schema.FLOAT32_SCHEMA)
+                .field("float64", Schema.FLOAT64_SCHEMA)
+                .field("boolean", Schema.BOOLEAN_SCHEMA)
+                .field("string", Schema.STRING_SCHEMA)
+                .field("null_string", Schema.OPTIONAL_STRING_SCHEMA)
+                .field("default_string", SchemaBuilder.string().defaultValue("default").build())
+                .field("bytes", Schema.BYTES_SCHEMA)
+                .field("decimal", Decimal.builder(2).optional().build())
+                .field("date", Date.SCHEMA)
+                .field("time", Time.SCHEMA)
+                .field("timestamp", Timestamp.SCHEMA)
+                .field("array", SchemaBuilder.array(Schema.INT32_SCHEMA).build())
+                .field(
+                        "string_map",
+                        SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.INT32_SCHEMA).build())
+                .field(
+                        "int_map",
+                        SchemaBuilder.map(Schema.INT32_SCHEMA, Schema.STRING_SCHEMA).build())
+                .field("nested", nestedSchema)
+                .field("null_nested", nestedSchema)
+                .build();
+    }
+
+    private static Struct row(Schema schema, int id) {
+        final Map<String, Integer> stringMap = new LinkedHashMap<>();
+        stringMap.put("a", 1);
+        stringMap.put("b", 2);
+        final Map<Integer, String> intMap = new HashMap<>();
+        intMap.put(1, "a");
+        final Schema nestedSchema = schema.field("nested").schema();
+        return new Struct(schema)
+                .put("int8", (byte) id)
+                .put("int16", (short) -id)
+                .put("int32", id * 1000)
+                .put("int64", Long.MAX_VALUE - id)
+                .put("float32", 1.5f + id)
+                .put("float64", 0.1d * id)
+                .put("boolean", id % 2 == 0)
+                .put("string", "string \"" + id + "\"\n\t\\")
+                .put("bytes", new byte[] {(byte) id, 0, -1})
+                .put("decimal", new BigDecimal("-12.34").add(BigDecimal.valueOf(id)))
+                .put("date", new java.util.Date(18_000L * 86_400_000L))
+                .put("time", new java.util.Date(3_723_004L))
+                .put("timestamp", new java.util.Date(1_634_567_890_123L + id))
+                .put("array", Arrays.asList(id, -id))
+                .put("string_map", stringMap)
+                .put("int_map", intMap)
+                .put("nested", new Struct(nestedSchema).put("f1", "nested_" + id));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.streaming.api.functions.source.SourceFunction;
+import org.apache.flink.streaming.api.watermark.Watermark;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import io.debezium.data.Envelope;
+import io.debezium.embedded.EmbeddedEngineChangeEvent;
+import io.debezium.engine.ChangeEvent;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.debezium.internal.DebeziumChangeFetcher.MAX_EMIT_BATCH_SIZE;
+import static org.junit.Assert.assertEquals;
+
+/** Tests for {@link DebeziumChangeFetcher}. */
+public class DebeziumChangeFetcherTest {
+
+    private static final String HEARTBEAT_TOPIC_PREFIX = "__debezium-heartbeat";
+
+    private static final Map<String, ?> SOURCE_PARTITION =
+            Collections.singletonMap("server", "mysql_binlog_source");
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct().field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA).build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct().field(Envelope.FieldName.SOURCE, SOURCE_SCHEMA).build();
+
+    private static final Schema HEARTBEAT_SCHEMA =
+            SchemaBuilder.struct().field("ts_ms", Schema.INT64_SCHEMA).build();
+
+    @Test
+    public void testEmitBatchInBundles() throws Exception {
+        final int batchSize = 2 * MAX_EMIT_BATCH_SIZE + 10;
+        final Handover handover = new Handover(batchSize, 0L);
+        final RecordingSourceContext context = new RecordingSourceContext();
+        final DebeziumChangeFetcher<Long> fetcher = createFetcher(context, handover);
+
+        handover.produce(changeEvents(0, batchSize));
+        handover.close();
+        fetcher.runFetchLoop();
+
+        assertEquals(batchSize, context.records.size());
+        for (int i = 0; i < batchSize; i++) {
+            assertEquals(Long.valueOf(i), context.records.get(i));
+            // the offset is updated after the records of a bundle are emitted, so the records of
+            // a bundle see the offset of the last record of the previous bundle
+            final int bundle = i / MAX_EMIT_BATCH_SIZE;
+            assertEquals(
+                    bundle == 0 ? null : Long.valueOf((long) bundle * MAX_EMIT_BATCH_SIZE - 1),
+                    context.positions.get(i));
+        }
+        assertEquals(Long.valueOf(batchSize - 1), position(context, fetcher));
+    }
+
+    @Test
+    public void testUpdateOffsetByHeartbeatBatch() throws Exception {
+        final Handover handover = new Handover(100, 0L);
+        final RecordingSourceContext context = new RecordingSourceContext();
+        final DebeziumChangeFetcher<Long> fetcher = createFetcher(context, handover);
+
+        handover.produce(changeEvents(0, 3));
+        handover.produce(Arrays.asList(heartbeatEvent(3), heartbeatEvent(4)));
+        handover.close();
+        fetcher.runFetchLoop();
+
+        // the heartbeats emit no records, but the offset still advances to the last heartbeat
+        assertEquals(Arrays.asList(0L, 1L, 2L), context.records);
+        assertEquals(Long.valueOf(4L), position(context, fetcher));
+    }
+
+    // ------------------------------------------------------------------------
+
+    private static DebeziumChangeFetcher<Long> createFetcher(
+            RecordingSourceContext context, Handover handover) {
+        final DebeziumChangeFetcher<Long> fetcher =
+                new DebeziumChangeFetcher<>(
+                        context,
+                        new PositionDeserializer(),
+                        false,
+                        HEARTBEAT_TOPIC_PREFIX,
+                        handover,
+                        null);
+        context.fetcher = fetcher;
+        return fetcher;
+    }
+
+    private static List<ChangeEvent<SourceRecord, SourceRecord>> changeEvents(int from, int to) {
+        final List<ChangeEvent<SourceRecord, SourceRecord>> events = new ArrayList<>(to - from);
+        for (int pos = from; pos < to; pos++) {
+            final Struct source = new Struct(SOURCE_SCHEMA).put(Envelope.FieldName.TIMESTAMP, 0L);
+            final Struct value = new Struct(VALUE_SCHEMA).put(Envelope.FieldName.SOURCE, source);
+            final SourceRecord record =
+                    new SourceRecord(
+                            SOURCE_PARTITION, offset(pos), "server.db.table", VALUE_SCHEMA, value);
+            events.add(event(record));
+        }
+        return events;
+    }
+
+    private static ChangeEvent<SourceRecord, SourceRecord> heartbeatEvent(long pos) {
+        return event(
+                new SourceRecord(
+                        SOURCE_PARTITION,
+                        offset(pos),
+                        HEARTBEAT_TOPIC_PREFIX + ".server",
+                        HEARTBEAT_SCHEMA,
+                        new Struct(HEARTBEAT_SCHEMA).put("ts_ms", 0L)));
+    }
+
+    private static ChangeEvent<SourceRecord, SourceRecord> event(SourceRecord record) {
+        return new EmbeddedEngineChangeEvent<>(null, record, record);
+    }
+
+    private static Map<String, ?> offset(long pos) {
+        return Collections.singletonMap("pos", pos);
+    }
+
+    /** Returns the position of the offset state of the fetcher, or null if there's no state. */
+    private static Long position(
+            SourceFunction.SourceContext<?> context, DebeziumChangeFetcher<?> fetcher)
+            throws Exception {
+        synchronized (context.getCheckpointLock()) {
+            final byte[] state = fetcher.snapshotCurrentState();
+            if (state == null) {
+                return null;
+            }
+            final DebeziumOffset offset = DebeziumOffsetSerializer.INSTANCE.deserialize(state);
+            return (Long) offset.sourceOffset.get("pos");
+        }
+    }
+
+    /** Deserializes a record to the position of its offset. */
+    private static final class PositionDeserializer implements DebeziumDeserializationSchema<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void deserialize(SourceRecord record, Collector<Long> out) {
+            out.collect((Long) record.sourceOffset().get("pos"));
+        }
+
+        @Override
+        public TypeInformation<Long> getProducedType() {
+            return BasicTypeInfo.LONG_TYPE_INFO;
+        }
+    }
+
+    /** The context records the emitted records and the offset state at the time of emission. */
+    private static final class RecordingSourceContext
+            implements SourceFunction.SourceContext<Long> {
+
+        private final Object checkpointLock = new Object();
+        private final List<Long> records = new ArrayList<>();
+        private final List<Long> positions = new ArrayList<>();
+        private DebeziumChangeFetcher<Long> fetcher;
+
+        @Override
+        public void collect(Long element) {
+            records.add(element);
+            try {
+                positions.add(position(this, fetcher));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void collectWithTimestamp(Long element, long timestamp) {
+            collect(element);
+        }
+
+        @Override
+        public void emitWatermark(Watermark mark) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void markAsTemporarilyIdle() {}
+
+        @Override
+        public Object getCheckpointLock() {
+            return checkpointLock;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
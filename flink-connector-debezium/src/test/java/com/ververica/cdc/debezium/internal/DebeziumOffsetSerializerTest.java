@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link DebeziumOffsetSerializer}. */
+public class DebeziumOffsetSerializerTest {
+
+    /** The offset state of a PostgreSQL source serialized by the JSON serializer of 2.0. */
+    private static final String POSTGRES_JSON_STATE =
+            "{\"sourcePartition\":{\"server\":\"postgres_cdc_source\"},"
+                    + "\"sourceOffset\":{\"transaction_id\":null,\"lsn_proc\":23964408,"
+                    + "\"lsn\":23964408,\"txId\":556,\"ts_usec\":1634560496123456}}";
+
+    /** The offset state of a MySQL source serialized by the JSON serializer of 2.0. */
+    private static final String MYSQL_JSON_STATE =
+            "{\"sourcePartition\":{\"server\":\"mysql_binlog_source\"},"
+                    + "\"sourceOffset\":{\"transaction_id\":null,\"ts_sec\":1634560496,"
+                    + "\"file\":\"mysql-bin.000003\",\"pos\":1234,\"snapshot\":true,"
+                    + "\"server_id\":223344}}";
+
+    @Test
+    public void testBinaryRoundTripOfAllValueTypes() throws Exception {
+        final Map<String, Object> sourceOffset = new HashMap<>();
+        sourceOffset.put("null", null);
+        sourceOffset.put("string", "mysql-bin.000003");
+        sourceOffset.put("long", 23964408L);
+        sourceOffset.put("int", 556);
+        sourceOffset.put("boolean", true);
+        sourceOffset.put("double", 1.5d);
+        final DebeziumOffset offset =
+                offset(Collections.singletonMap("server", "postgres_cdc_source"), sourceOffset);
+
+        final byte[] bytes = DebeziumOffsetSerializer.INSTANCE.serialize(offset);
+        assertNotEquals('{', bytes[0]);
+        final DebeziumOffset restored = DebeziumOffsetSerializer.INSTANCE.deserialize(bytes);
+
+        assertEquals(offset.sourcePartition, restored.sourcePartition);
+        assertEquals(offset.sourceOffset, restored.sourceOffset);
+        // the types of values are kept, e.g. the LSN which fits into int is still a long
+        for (Map.Entry<String, ?> entry : sourceOffset.entrySet()) {
+            if (entry.getValue() != null) {
+                assertEquals(
+                        entry.getValue().getClass(),
+                        restored.sourceOffset.get(entry.getKey()).getClass());
+            }
+        }
+    }
+
+    @Test
+    public void testBinaryRoundTripOfNullMaps() throws Exception {
+        final DebeziumOffset restored =
+                DebeziumOffsetSerializer.INSTANCE.deserialize(
+                        DebeziumOffsetSerializer.INSTANCE.serialize(offset(null, null)));
+        assertNull(restored.sourcePartition);
+        assertNull(restored.sourceOffset);
+    }
+
+    @Test
+    public void testJsonFallbackOfUnsupportedValueTypes() throws Exception {
+        final Map<String, Object> sourceOffset = new HashMap<>();
+        sourceOffset.put("lsn", 23964408L);
+        sourceOffset.put("float", 1.5f);
+        final DebeziumOffset offset =
+                offset(Collections.singletonMap("server", "postgres_cdc_source"), sourceOffset);
+
+        final byte[] bytes = DebeziumOffsetSerializer.INSTANCE.serialize(offset);
+        assertEquals('{', bytes[0]);
+        final DebeziumOffset restored = DebeziumOffsetSerializer.INSTANCE.deserialize(bytes);
+
+        assertEquals(offset.sourcePartition, restored.sourcePartition);
+        assertEquals(1.5d, restored.sourceOffset.get("float"));
+    }
+
+    @Test
+    public void testReadJsonStateOfPreviousVersions() throws Exception {
+        final DebeziumOffset postgres =
+                DebeziumOffsetSerializer.INSTANCE.deserialize(
+                        POSTGRES_JSON_STATE.getBytes(StandardCharsets.UTF_8));
+        assertEquals(
+                Collections.singletonMap("server", "postgres_cdc_source"),
+                postgres.sourcePartition);
+        assertTrue(postgres.sourceOffset.containsKey("transaction_id"));
+        assertNull(postgres.sourceOffset.get("transaction_id"));
+        // the JSON state doesn't keep the types, the values which fit into int are read as int
+        assertEquals(23964408, postgres.sourceOffset.get("lsn"));
+        assertEquals(556, postgres.sourceOffset.get("txId"));
+        assertEquals(1634560496123456L, postgres.sourceOffset.get("ts_usec"));
+
+        final DebeziumOffset mysql =
+                DebeziumOffsetSerializer.INSTANCE.deserialize(
+                        MYSQL_JSON_STATE.getBytes(StandardCharsets.UTF_8));
+        assertEquals(
+                Collections.singletonMap("server", "mysql_binlog_source"), mysql.sourcePartition);
+        assertEquals("mysql-bin.000003", mysql.sourceOffset.get("file"));
+        assertEquals(1234, mysql.sourceOffset.get("pos"));
+        assertEquals(true, mysql.sourceOffset.get("snapshot"));
+
+        // the state read from JSON is written in the binary format by the next checkpoint
+        final byte[] bytes = DebeziumOffsetSerializer.INSTANCE.serialize(mysql);
+        assertNotEquals('{', bytes[0]);
+        assertEquals(
+                mysql.sourceOffset,
+                DebeziumOffsetSerializer.INSTANCE.deserialize(bytes).sourceOffset);
+    }
+
+    @Test
+    public void testToJson() throws Exception {
+        final DebeziumOffset offset =
+                offset(
+                        Collections.singletonMap("server", "mysql_binlog_source"),
+                        Collections.singletonMap("pos", 1234L));
+        assertEquals(
+                "{\"sourcePartition\":{\"server\":\"mysql_binlog_source\"},"
+                        + "\"sourceOffset\":{\"pos\":1234}}",
+                DebeziumOffsetSerializer.INSTANCE.toJson(
+                        DebeziumOffsetSerializer.INSTANCE.serialize(offset)));
+    }
+
+    private static DebeziumOffset offset(
+            Map<String, ?> sourcePartition, Map<String, ?> sourceOffset) {
+        final DebeziumOffset offset = new DebeziumOffset();
+        offset.setSourcePartition(sourcePartition);
+        offset.setSourceOffset(sourceOffset);
+        return offset;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import io.debezium.embedded.EmbeddedEngine;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.runtime.WorkerConfig;
+import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
+import org.apache.kafka.connect.storage.Converter;
+import org.apache.kafka.connect.storage.OffsetStorageReaderImpl;
+import org.apache.kafka.connect.storage.OffsetStorageWriter;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link FlinkOffsetBackingStore}. */
+public class FlinkOffsetBackingStoreTest {
+
+    private static final String ENGINE_NAME = "engine";
+
+    private static final Map<String, ?> SOURCE_PARTITION =
+            Collections.singletonMap("server", "postgres_cdc_source");
+
+    @Test
+    public void testEncodeAndDecodeState() throws Exception {
+        final byte[] binaryState = DebeziumOffsetSerializer.INSTANCE.serialize(offset(23964408L));
+        assertArrayEquals(
+                binaryState,
+                FlinkOffsetBackingStore.decodeState(
+                        FlinkOffsetBackingStore.encodeState(binaryState)));
+
+        // the JSON state of previous versions is set into the config as it is
+        final byte[] jsonState = DebeziumOffsetSerializer.INSTANCE.serializeToJson(offset(1L));
+        assertArrayEquals(
+                jsonState,
+                FlinkOffsetBackingStore.decodeState(
+                        new String(jsonState, StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testSeedOffsetAsOffsetStorageWriter() throws Exception {
+        final DebeziumOffset offset = offset(23964408L);
+        final Map<String, String> props = workerProps();
+        props.put(
+                FlinkOffsetBackingStore.OFFSET_STATE_VALUE,
+                FlinkOffsetBackingStore.encodeState(
+                        DebeziumOffsetSerializer.INSTANCE.serialize(offset)));
+        final FlinkOffsetBackingStore seededStore = configuredStore(props);
+
+        // the offset written by the writer of the engine into a store without state
+        final Map<String, String> cleanProps = workerProps();
+        final FlinkOffsetBackingStore writtenStore = configuredStore(cleanProps);
+        final WorkerConfig cleanConfig = new StandaloneConfig(cleanProps);
+        final OffsetStorageWriter writer =
+                new OffsetStorageWriter(
+                        writtenStore,
+                        ENGINE_NAME,
+                        keyConverter(cleanConfig),
+                        valueConverter(cleanConfig));
+        writer.offset(offset.sourcePartition, offset.sourceOffset);
+        assertTrue(writer.beginFlush());
+        writer.doFlush(null).get(10, TimeUnit.SECONDS);
+
+        try {
+            assertEquals(writtenStore.data, seededStore.data);
+            assertEquals(offset.sourceOffset, readOffset(seededStore, props));
+        } finally {
+            seededStore.stop();
+            writtenStore.stop();
+        }
+    }
+
+    @Test
+    public void testSeedOffsetFromJsonState() throws Exception {
+        final Map<String, String> props = workerProps();
+        props.put(
+                FlinkOffsetBackingStore.OFFSET_STATE_VALUE,
+                "{\"sourcePartition\":{\"server\":\"postgres_cdc_source\"},"
+                        + "\"sourceOffset\":{\"lsn\":23964408,\"txId\":556}}");
+        final FlinkOffsetBackingStore store = configuredStore(props);
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("lsn", 23964408L);
+        expected.put("txId", 556L);
+        try {
+            // the offset is read by the engine in JSON, the integral numbers are longs
+            assertEquals(expected, readOffset(store, props));
+        } finally {
+            store.stop();
+        }
+    }
+
+    @Test
+    public void testStartWithoutState() {
+        final FlinkOffsetBackingStore store = configuredStore(workerProps());
+        try {
+            assertTrue(store.data.isEmpty());
+        } finally {
+            store.stop();
+        }
+    }
+
+    // ------------------------------------------------------------------------
+
+    private static Map<String, Object> readOffset(
+            FlinkOffsetBackingStore store, Map<String, String> props) {
+        final WorkerConfig config = new StandaloneConfig(props);
+        return new OffsetStorageReaderImpl(
+                        store, ENGINE_NAME, keyConverter(config), valueConverter(config))
+                .offset(SOURCE_PARTITION);
+    }
+
+    private static FlinkOffsetBackingStore configuredStore(Map<String, String> props) {
+        final FlinkOffsetBackingStore store = new FlinkOffsetBackingStore();
+        store.configure(new StandaloneConfig(props));
+        return store;
+    }
+
+    /** The converters of offsets, which are configured as the ones of the backing store. */
+    private static Converter keyConverter(WorkerConfig config) {
+        final Converter converter = new JsonConverter();
+        converter.configure(config.originals(), true);
+        return converter;
+    }
+
+    private static Converter valueConverter(WorkerConfig config) {
+        final Map<String, Object> configs = new HashMap<>(config.originals());
+        configs.put("schemas.enable", false);
+        final Converter converter = new JsonConverter();
+        converter.configure(configs, true);
+        return converter;
+    }
+
+    private static Map<String, String> workerProps() {
+        final Map<String, String> props = new HashMap<>();
+        props.put(EmbeddedEngine.ENGINE_NAME.name(), ENGINE_NAME);
+        props.put(WorkerConfig.KEY_CONVERTER_CLASS_CONFIG, JsonConverter.class.getName());
+        props.put(WorkerConfig.VALUE_CONVERTER_CLASS_CONFIG, JsonConverter.class.getName());
+        props.put(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, "");
+        return props;
+    }
+
+    private static DebeziumOffset offset(long lsn) {
+        final DebeziumOffset offset = new DebeziumOffset();
+        offset.setSourcePartition(SOURCE_PARTITION);
+        offset.setSourceOffset(Collections.singletonMap("lsn", lsn));
+        return offset;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import org.apache.flink.util.ExceptionUtils;
+
+import io.debezium.embedded.EmbeddedEngineChangeEvent;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.util.ObjectSizeCalculator;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Tests for {@link Handover}. */
+public class HandoverTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    private static final SourceRecord RECORD =
+            new SourceRecord(null, null, "topic", Schema.STRING_SCHEMA, "value");
+
+    @Test
+    public void testBlockProducerByRecords() throws Exception {
+        final Handover handover = new Handover(3, 0L);
+        final List<ChangeEvent<SourceRecord, SourceRecord>> first = batch(2);
+        final List<ChangeEvent<SourceRecord, SourceRecord>> second = batch(2);
+        handover.produce(first);
+
+        // the second batch exceeds the max records of the non-empty queue
+        final Producer producer = new Producer(handover, second);
+        producer.start();
+        waitUntilBlocked(producer);
+        assertEquals(2, handover.getQueueRecords());
+
+        assertSame(first, handover.pollNext());
+        producer.join(TIMEOUT_MILLIS);
+        producer.checkFinished(null);
+        assertEquals(2, handover.getQueueRecords());
+        assertSame(second, handover.pollNext());
+    }
+
+    @Test
+    public void testBlockProducerByBytes() throws Exception {
+        final long recordBytes = ObjectSizeCalculator.getObjectSize(RECORD);
+        final Handover handover = new Handover(100, recordBytes + recordBytes / 2);
+        final List<ChangeEvent<SourceRecord, SourceRecord>> first = batch(1);
+        final List<ChangeEvent<SourceRecord, SourceRecord>> second = batch(1);
+        handover.produce(first);
+
+        // the second batch is within the max records, but exceeds the max bytes
+        final Producer producer = new Producer(handover, second);
+        producer.start();
+        waitUntilBlocked(producer);
+
+        assertSame(first, handover.pollNext());
+        producer.join(TIMEOUT_MILLIS);
+        producer.checkFinished(null);
+        assertSame(second, handover.pollNext());
+    }
+
+    @Test
+    public void testAcceptOversizedBatchByEmptyQueue() throws Exception {
+        final Handover handover = new Handover(1, 1L);
+        final List<ChangeEvent<SourceRecord, SourceRecord>> oversized = batch(3);
+
+        // the empty queue accepts the batch without blocking, otherwise it would never be accepted
+        handover.produce(oversized);
+
+        assertEquals(3, handover.getQueueRecords());
+        assertSame(oversized, handover.pollNext());
+        assertEquals(0, handover.getQueueRecords());
+    }
+
+    @Test
+    public void testDrainQueueAfterClose() throws Exception {
+        final Handover handover = new Handover(10, 0L);
+        final List<ChangeEvent<SourceRecord, SourceRecord>> first = batch(1);
+        final List<ChangeEvent<SourceRecord, SourceRecord>> second = batch(2);
+        handover.produce(first);
+        handover.produce(second);
+        handover.close();
+
+        assertSame(first, handover.pollNext());
+        assertSame(second, handover.pollNext());
+        try {
+            handover.pollNext();
+            fail("The closed handover should throw after the queue is drained.");
+        } catch (Handover.ClosedException e) {
+            // expected
+        }
+        try {
+            handover.produce(batch(1));
+            fail("The closed handover should not accept batches.");
+        } catch (RuntimeException e) {
+            // the producer can't throw the checked exceptions
+            assertTrue(ExceptionUtils.findThrowable(e, Handover.ClosedException.class).isPresent());
+        }
+    }
+
+    @Test
+    public void testErrorTakesPrecedenceOverClose() throws Exception {
+        final Handover handover = new Handover(10, 0L);
+        handover.produce(batch(1));
+        final Exception error = new Exception("test error");
+        handover.reportError(error);
+        handover.close();
+
+        assertTrue(handover.hasError());
+        assertEquals(0, handover.getQueueRecords());
+        try {
+            handover.pollNext();
+            fail("The handover should throw the reported error.");
+        } catch (Exception e) {
+            assertSame(error, e);
+        }
+        try {
+            handover.produce(batch(1));
+            fail("The handover should throw the reported error.");
+        } catch (RuntimeException e) {
+            assertSame(error, e.getCause());
+        }
+    }
+
+    @Test
+    public void testWakeUpProducerOnClose() throws Exception {
+        final Handover handover = new Handover(1, 0L);
+        handover.produce(batch(1));
+
+        final Producer producer = new Producer(handover, batch(1));
+        producer.start();
+        waitUntilBlocked(producer);
+
+        handover.close();
+        producer.join(TIMEOUT_MILLIS);
+        producer.checkFinished(Handover.ClosedException.class);
+    }
+
+    // ------------------------------------------------------------------------
+
+    private static List<ChangeEvent<SourceRecord, SourceRecord>> batch(int size) {
+        final List<ChangeEvent<SourceRecord, SourceRecord>> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(new EmbeddedEngineChangeEvent<>(null, RECORD, RECORD));
+        }
+        return events;
+    }
+
+    private static void waitUntilBlocked(Thread thread) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (thread.getState() != Thread.State.WAITING) {
+            if (!thread.isAlive() || System.currentTimeMillis() > deadline) {
+                fail("The producer should be blocked by the full queue.");
+            }
+            Thread.sleep(10L);
+        }
+    }
+
+    /** The thread to produce a batch which may be blocked by the full queue. */
+    private static final class Producer extends Thread {
+
+        private final Handover handover;
+        private final List<ChangeEvent<SourceRecord, SourceRecord>> batch;
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private Producer(Handover handover, List<ChangeEvent<SourceRecord, SourceRecord>> batch) {
+            this.handover = handover;
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                handover.produce(batch);
+            } catch (Throwable t) {
+                error.set(t);
+            }
+        }
+
+        private void checkFinished(Class<? extends Throwable> expectedError) {
+            assertFalse("The producer should be finished.", isAlive());
+            if (expectedError == null) {
+                assertNull(error.get());
+            } else {
+                assertTrue(ExceptionUtils.findThrowable(error.get(), expectedError).isPresent());
+            }
+        }
+    }
+}
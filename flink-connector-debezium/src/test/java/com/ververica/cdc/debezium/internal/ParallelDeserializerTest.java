@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link ParallelDeserializer}. */
+public class ParallelDeserializerTest {
+
+    private static final int PARALLELISM = 4;
+    private static final String FAILING_TOPIC = "failing_topic";
+
+    /** The threads which deserialized the records, shared by the copies of the stub schema. */
+    private static final Set<String> DESERIALIZING_THREADS = ConcurrentHashMap.newKeySet();
+
+    @Before
+    public void before() {
+        DESERIALIZING_THREADS.clear();
+    }
+
+    @Test
+    public void testDeserializeInRecordOrder() throws Exception {
+        // the heartbeat events are passed as null records
+        final List<Integer> heartbeats = Arrays.asList(0, 30, 99);
+        final List<SourceRecord> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(heartbeats.contains(i) ? null : record("topic", i));
+        }
+
+        final List<List<String>> outputs;
+        try (ParallelDeserializer<String> deserializer = create()) {
+            outputs = deserializer.deserialize(records);
+        }
+
+        assertEquals(records.size(), outputs.size());
+        for (int i = 0; i < records.size(); i++) {
+            if (heartbeats.contains(i)) {
+                assertNull(outputs.get(i));
+            } else if (i % 3 == 0) {
+                assertEquals(Arrays.asList(String.valueOf(i), i + "-copy"), outputs.get(i));
+            } else {
+                assertEquals(Collections.singletonList(String.valueOf(i)), outputs.get(i));
+            }
+        }
+        // the calling thread deserializes the first range, the workers deserialize the others
+        assertEquals(PARALLELISM, DESERIALIZING_THREADS.size());
+        assertTrue(DESERIALIZING_THREADS.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testDeserializeSmallBatch() throws Exception {
+        final List<SourceRecord> records = Arrays.asList(record("topic", 1), null);
+
+        final List<List<String>> outputs;
+        try (ParallelDeserializer<String> deserializer = create()) {
+            outputs = deserializer.deserialize(records);
+        }
+
+        assertEquals(Arrays.asList(Collections.singletonList("1"), null), outputs);
+        // the small batch is deserialized by the calling thread only
+        assertEquals(
+                Collections.singleton(Thread.currentThread().getName()), DESERIALIZING_THREADS);
+    }
+
+    @Test
+    public void testPropagateExceptionOfWorkerThread() throws Exception {
+        final List<SourceRecord> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // the last range is deserialized by a worker thread
+            records.add(record(i == 90 ? FAILING_TOPIC : "topic", i));
+        }
+
+        Throwable thrown = null;
+        try (ParallelDeserializer<String> deserializer = create()) {
+            deserializer.deserialize(records);
+        } catch (Throwable t) {
+            thrown = t;
+        }
+
+        assertNotNull(thrown);
+        assertTrue(thrown instanceof IllegalStateException);
+        assertEquals("Failed to deserialize the record 90.", thrown.getMessage());
+    }
+
+    private static ParallelDeserializer<String> create() throws Exception {
+        return new ParallelDeserializer<>(
+                new StubDeserializationSchema(),
+                PARALLELISM,
+                ParallelDeserializerTest.class.getClassLoader());
+    }
+
+    private static SourceRecord record(String topic, int value) {
+        return new SourceRecord(null, null, topic, null, Schema.INT32_SCHEMA, value);
+    }
+
+    /**
+     * A stub schema which emits the value of record, and a copy of it for the values divisible by
+     * 3. It fails the records of {@link #FAILING_TOPIC}.
+     */
+    private static class StubDeserializationSchema
+            implements DebeziumDeserializationSchema<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void deserialize(SourceRecord record, Collector<String> out) {
+            DESERIALIZING_THREADS.add(Thread.currentThread().getName());
+            final int value = (Integer) record.value();
+            if (FAILING_TOPIC.equals(record.topic())) {
+                throw new IllegalStateException(
+                        String.format("Failed to deserialize the record %d.", value));
+            }
+            out.collect(String.valueOf(value));
+            if (value % 3 == 0) {
+                out.collect(value + "-copy");
+            }
+        }
+
+        @Override
+        public TypeInformation<String> getProducedType() {
+            return BasicTypeInfo.STRING_TYPE_INFO;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import com.ververica.cdc.debezium.source.split.SourceSplitSerializerTest;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.history.HistoryRecord;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SchemaRecord}. */
+public class SchemaRecordTest {
+
+    @Test
+    public void testCacheJsonOfTableChangeRecord() throws Exception {
+        final Document document = tableChangeDocument();
+        final SchemaRecord record = new SchemaRecord(document);
+        assertTrue(record.isTableChangeRecord());
+
+        final String json = record.toJson();
+        assertEquals(DocumentWriter.defaultWriter().write(document), json);
+        // the record is immutable, it's not serialized again by the next checkpoint
+        assertSame(json, record.toJson());
+    }
+
+    @Test
+    public void testCacheJsonOfHistoryRecord() throws Exception {
+        final HistoryRecord historyRecord =
+                new HistoryRecord(
+                        Collections.singletonMap("server", "mysql_binlog_source"),
+                        Collections.singletonMap("pos", 1234L),
+                        "test",
+                        "test",
+                        "CREATE TABLE test(a int)",
+                        null);
+        final SchemaRecord record = new SchemaRecord(historyRecord);
+        assertTrue(record.isHistoryRecord());
+
+        final String json = record.toJson();
+        assertEquals(DocumentWriter.defaultWriter().write(historyRecord.document()), json);
+        assertSame(json, record.toJson());
+    }
+
+    @Test
+    public void testReuseJsonOfRestoredRecord() throws Exception {
+        final String json = new SchemaRecord(tableChangeDocument()).toJson();
+
+        final SchemaRecord restored =
+                new SchemaRecord(DocumentReader.defaultReader().read(json), json);
+        assertTrue(restored.isTableChangeRecord());
+        // the restored record is written back with the JSON it was restored from
+        assertSame(json, restored.toJson());
+        assertEquals(json, DocumentWriter.defaultWriter().write(restored.toDocument()));
+    }
+
+    private static Document tableChangeDocument() throws Exception {
+        return new FlinkJsonTableChangeSerializer()
+                .toDocument(SourceSplitSerializerTest.getTestTableSchema());
+    }
+}
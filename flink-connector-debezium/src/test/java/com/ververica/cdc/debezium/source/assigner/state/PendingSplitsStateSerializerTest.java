@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.assigner.state;
+
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.TestingOffset;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/** Tests for {@link PendingSplitsStateSerializer}. */
+@RunWith(Parameterized.class)
+public class PendingSplitsStateSerializerTest {
+
+    @Parameterized.Parameter public PendingSplitsState state;
+
+    @Parameterized.Parameters(name = "PendingSplitsState = {index}")
+    public static Collection<PendingSplitsState> params() {
+        return Arrays.asList(
+                getTestSnapshotPendingSplitsState(),
+                getTestHybridPendingSplitsState(),
+                getTestStreamPendingSplitsState());
+    }
+
+    @Test
+    public void testsSerializeAndDeserialize() throws Exception {
+        assertEquals(state, serializeAndDeserializeSourceEnumState(state));
+    }
+
+    @Test
+    public void testRepeatedSerializationCache() throws Exception {
+        final PendingSplitsStateSerializer serializer =
+                new PendingSplitsStateSerializer(new TestingOffset.Factory());
+
+        final byte[] ser1 = serializer.serialize(state);
+        final byte[] ser2 = serializer.serialize(state);
+        final byte[] ser3 = state.serializedFormCache;
+        assertSame(ser1, ser2);
+        assertSame(ser1, ser3);
+    }
+
+    static PendingSplitsState serializeAndDeserializeSourceEnumState(PendingSplitsState state)
+            throws Exception {
+        final PendingSplitsStateSerializer serializer =
+                new PendingSplitsStateSerializer(new TestingOffset.Factory());
+        byte[] serialized = serializer.serialize(state);
+        return serializer.deserialize(serializer.getVersion(), serialized);
+    }
+
+    private static SnapshotPendingSplitsState getTestSnapshotPendingSplitsState() {
+        // construct the source that captures three tables
+        // the first table has 3 snapshot splits and has been assigned finished
+        // the second table has 4 snapshot splits and has been assigned 2 splits
+        // the third table has not assigned yet
+        final List<TableId> alreadyProcessedTables = new ArrayList<>();
+        final List<TableId> remainingTables = new ArrayList<>();
+
+        final List<SnapshotSplit> remainingSplits = new ArrayList<>();
+
+        final TableId tableId0 = TableId.parse("test_db.test_table");
+        final TableId tableId1 = TableId.parse("test_db.test_table1");
+        final TableId tableId2 = TableId.parse("test_db.test_table2");
+
+        alreadyProcessedTables.add(tableId0);
+        alreadyProcessedTables.add(tableId1);
+
+        remainingTables.add(tableId2);
+
+        remainingSplits.add(getTestSnapshotSplit(tableId1, 2));
+        remainingSplits.add(getTestSnapshotSplit(tableId1, 3));
+
+        final Map<String, SnapshotSplit> assignedSnapshotSplits = new HashMap<>();
+        Arrays.asList(
+                        getTestSnapshotSplit(tableId0, 0),
+                        getTestSnapshotSplit(tableId0, 1),
+                        getTestSnapshotSplit(tableId0, 2),
+                        getTestSnapshotSplit(tableId1, 0),
+                        getTestSnapshotSplit(tableId1, 1))
+                .forEach(split -> assignedSnapshotSplits.put(split.splitId(), split));
+
+        Map<String, Offset> finishedOffsets = new HashMap<>();
+        Arrays.asList(
+                        getTestSplitInfo(tableId0, 0),
+                        getTestSplitInfo(tableId0, 1),
+                        getTestSplitInfo(tableId1, 0),
+                        getTestSplitInfo(tableId1, 1),
+                        getTestSplitInfo(tableId0, 2))
+                .forEach(finishedOffsets::putAll);
+
+        return new SnapshotPendingSplitsState(
+                alreadyProcessedTables,
+                remainingSplits,
+                assignedSnapshotSplits,
+                finishedOffsets,
+                false,
+                remainingTables,
+                false);
+    }
+
+    private static HybridPendingSplitsState getTestHybridPendingSplitsState() {
+        return new HybridPendingSplitsState(
+                getTestSnapshotPendingSplitsState(), false, Collections.emptyList());
+    }
+
+    private static StreamPendingSplitsState getTestStreamPendingSplitsState() {
+        // the stream split was added back by a failed reader and is waiting for reassignment
+        final StreamSplit streamSplit =
+                new StreamSplit(
+                        "stream-split",
+                        new TestingOffset("mysql-bin.000001", 4L),
+                        TestingOffset.NO_STOPPING_OFFSET,
+                        new ArrayList<>(),
+                        new HashMap<>(),
+                        0);
+        return new StreamPendingSplitsState(false, Collections.singletonList(streamSplit));
+    }
+
+    private static SnapshotSplit getTestSnapshotSplit(TableId tableId, int splitNo) {
+        return new SnapshotSplit(
+                tableId,
+                tableId.toString() + "-" + splitNo,
+                new RowType(
+                        Collections.singletonList(new RowType.RowField("id", new BigIntType()))),
+                new Object[] {100L + splitNo * 1000},
+                new Object[] {999L + splitNo * 1000},
+                new TestingOffset("mysql-bin.000001", 78L + splitNo * 200),
+                new HashMap<>());
+    }
+
+    private static Map<String, Offset> getTestSplitInfo(TableId tableId, int splitNo) {
+        final String splitId = tableId.toString() + "-" + splitNo;
+        final Offset highWatermark = new TestingOffset("mysql-bin.000001", (long) splitNo * 200);
+        return Collections.singletonMap(splitId, highWatermark);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.offset;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** A file and position based {@link Offset} for tests, similar to the binlog offset of MySQL. */
+public class TestingOffset extends Offset {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String FILE_KEY = "file";
+    public static final String POS_KEY = "pos";
+
+    public static final TestingOffset INITIAL_OFFSET = new TestingOffset("", 0L);
+    public static final TestingOffset NO_STOPPING_OFFSET = new TestingOffset("", Long.MIN_VALUE);
+
+    public TestingOffset(Map<String, String> offset) {
+        super(offset);
+    }
+
+    public TestingOffset(String file, long pos) {
+        this(toMap(file, pos));
+    }
+
+    public String getFile() {
+        return offset.get(FILE_KEY);
+    }
+
+    public long getPos() {
+        return Long.parseLong(offset.get(POS_KEY));
+    }
+
+    @Override
+    public int compareTo(Offset o) {
+        TestingOffset that = (TestingOffset) o;
+        if (NO_STOPPING_OFFSET.equals(this) && NO_STOPPING_OFFSET.equals(that)) {
+            return 0;
+        }
+        if (NO_STOPPING_OFFSET.equals(this)) {
+            return 1;
+        }
+        if (NO_STOPPING_OFFSET.equals(that)) {
+            return -1;
+        }
+        int fileCompare = getFile().compareTo(that.getFile());
+        return fileCompare != 0 ? fileCompare : Long.compare(getPos(), that.getPos());
+    }
+
+    private static Map<String, String> toMap(String file, long pos) {
+        Map<String, String> offset = new HashMap<>();
+        offset.put(FILE_KEY, file);
+        offset.put(POS_KEY, String.valueOf(pos));
+        return offset;
+    }
+
+    /** The {@link OffsetFactory} of {@link TestingOffset}. */
+    public static class Factory implements OffsetFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Offset newOffset(Map<String, String> offset) {
+            return new TestingOffset(offset);
+        }
+
+        @Override
+        public Offset createInitialOffset() {
+            return INITIAL_OFFSET;
+        }
+
+        @Override
+        public Offset createNoStoppingOffset() {
+            return NO_STOPPING_OFFSET;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.split;
+
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import com.ververica.cdc.debezium.source.offset.TestingOffset;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/** Tests for {@link SourceSplitSerializer}. */
+public class SourceSplitSerializerTest {
+
+    private static final RowType SPLIT_KEY_TYPE =
+            new RowType(Collections.singletonList(new RowType.RowField("id", new BigIntType())));
+
+    private final SourceSplitSerializer serializer =
+            new SourceSplitSerializer(new TestingOffset.Factory());
+
+    @Test
+    public void testSnapshotSplit() throws Exception {
+        final SourceSplitBase split =
+                new SnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        SPLIT_KEY_TYPE,
+                        new Object[] {100L},
+                        new Object[] {999L},
+                        null,
+                        new HashMap<>());
+        assertEquals(split, serializeAndDeserializeSplit(split));
+    }
+
+    @Test
+    public void testFinishedSnapshotSplitOfConsistentSnapshot() throws Exception {
+        final SourceSplitBase split =
+                new SnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        SPLIT_KEY_TYPE,
+                        new Object[] {100L},
+                        null,
+                        new TestingOffset("mysql-bin.000002", 78L),
+                        new HashMap<>(),
+                        new TestingOffset("mysql-bin.000002", 4L));
+        assertEquals(split, serializeAndDeserializeSplit(split));
+    }
+
+    @Test
+    public void testDeserializeSnapshotSplitOfVersion1() throws Exception {
+        final SnapshotSplit split =
+                new SnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        SPLIT_KEY_TYPE,
+                        null,
+                        new Object[] {999L},
+                        new TestingOffset("mysql-bin.000001", 4L),
+                        new HashMap<>());
+        // the split of version 1 has no snapshot offset, which is serialized as a single
+        // boolean of the absent offset in version 2
+        final byte[] serialized = serializer.serialize(split);
+        final byte[] serializedOfVersion1 = Arrays.copyOf(serialized, serialized.length - 1);
+
+        final SnapshotSplit deserialized =
+                serializer.deserialize(1, serializedOfVersion1).asSnapshotSplit();
+        assertEquals(split, deserialized);
+        assertNull(deserialized.getSnapshotOffset());
+    }
+
+    @Test
+    public void testStreamSplit() throws Exception {
+        final TableId tableId = TableId.parse("test_db.test_table");
+        final List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>();
+        finishedSplitsInfo.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId,
+                        tableId + "-0",
+                        null,
+                        new Object[] {100},
+                        new TestingOffset("mysql-bin.000001", 4L)));
+        finishedSplitsInfo.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId,
+                        tableId + "-1",
+                        new Object[] {100},
+                        new Object[] {200},
+                        new TestingOffset("mysql-bin.000001", 200L)));
+        finishedSplitsInfo.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId,
+                        tableId + "-2",
+                        new Object[] {200},
+                        null,
+                        new TestingOffset("mysql-bin.000001", 600L)));
+
+        final Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(tableId, getTestTableSchema());
+
+        final SourceSplitBase split =
+                new StreamSplit(
+                        "stream-split",
+                        new TestingOffset("mysql-bin.000001", 4L),
+                        TestingOffset.NO_STOPPING_OFFSET,
+                        finishedSplitsInfo,
+                        tableSchemas,
+                        finishedSplitsInfo.size());
+        assertEquals(split, serializeAndDeserializeSplit(split));
+
+        final SourceSplitBase unCompletedStreamSplit =
+                new StreamSplit(
+                        "stream-split",
+                        new TestingOffset("mysql-bin.000001", 4L),
+                        TestingOffset.NO_STOPPING_OFFSET,
+                        new ArrayList<>(),
+                        new HashMap<>(),
+                        0);
+        assertEquals(unCompletedStreamSplit, serializeAndDeserializeSplit(unCompletedStreamSplit));
+    }
+
+    @Test
+    public void testFinishedSnapshotSplitInfo() throws Exception {
+        final FinishedSnapshotSplitInfo splitInfo =
+                new FinishedSnapshotSplitInfo(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        new Object[] {100L, "a"},
+                        new Object[] {200L, "b"},
+                        new TestingOffset("mysql-bin.000001", 200L));
+        assertEquals(
+                splitInfo,
+                serializer.deserializeFinishedSplitInfo(serializer.serialize(splitInfo)));
+    }
+
+    @Test
+    public void testRepeatedSerializationCache() throws Exception {
+        final SourceSplitBase split =
+                new SnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-0",
+                        SPLIT_KEY_TYPE,
+                        null,
+                        new Object[] {99L},
+                        null,
+                        new HashMap<>());
+        final byte[] ser1 = serializer.serialize(split);
+        final byte[] ser2 = serializer.serialize(split);
+        assertSame(ser1, ser2);
+    }
+
+    private SourceSplitBase serializeAndDeserializeSplit(SourceSplitBase split) throws Exception {
+        byte[] serialized = serializer.serialize(split);
+        return serializer.deserialize(serializer.getVersion(), serialized);
+    }
+
+    public static TableChange getTestTableSchema() throws Exception {
+        // the json string of a TableChange
+        final String tableChangeJsonStr =
+                "{\"type\":\"CREATE\",\"id\":\"\\\"test_db\\\".\\\"test_table\\\"\","
+                        + "\"table\":{\"defaultCharsetName\":\"latin1\",\"primaryKeyColumnNames\":"
+                        + "[\"id\"],\"columns\":[{\"name\":\"id\",\"jdbcType\":-5,"
+                        + "\"typeName\":\"BIGINT\",\"typeExpression\":\"BIGINT\",\"charsetName\":null,"
+                        + "\"length\":20,\"position\":1,\"optional\":false,\"autoIncremented\":false,"
+                        + "\"generated\":false},{\"name\":\"name\",\"jdbcType\":12,\"typeName\":"
+                        + "\"VARCHAR\",\"typeExpression\":\"VARCHAR\",\"charsetName\":\"latin1\","
+                        + "\"length\":255,\"position\":2,\"optional\":true,\"autoIncremented\":false,"
+                        + "\"generated\":false}]}}";
+        final Document doc = DocumentReader.defaultReader().read(tableChangeJsonStr);
+        return FlinkJsonTableChangeSerializer.fromDocument(doc, true);
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.source.utils;
+
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.debezium.source.offset.TestingOffset;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.watermark.WatermarkDispatcher;
+import com.ververica.cdc.debezium.source.watermark.WatermarkKind;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.HEARTBEAT_VALUE_SCHEMA_NAME;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.compareSplitKeys;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.getOffset;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.getSplitKey;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isDataChangeRecord;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isEndWatermarkEvent;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isHeartbeatEvent;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isHighWatermarkEvent;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isLowWatermarkEvent;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.normalizedSplitRecords;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.splitKeyRangeContains;
+import static org.apache.flink.table.api.DataTypes.BIGINT;
+import static org.apache.flink.table.api.DataTypes.FIELD;
+import static org.apache.flink.table.api.DataTypes.ROW;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SourceRecordUtils}. */
+public class SourceRecordUtilsTest {
+
+    private static final String SPLIT_ID = "test_db.test_table:0";
+
+    private static final RowType SPLIT_KEY_TYPE =
+            (RowType) ROW(FIELD("id", BIGINT().notNull())).getLogicalType();
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().field("id", Schema.INT64_SCHEMA).build();
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .optional()
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct().field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA).build();
+
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("test_db.test_table.Envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+
+    private static final Schema WATERMARK_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name(WatermarkDispatcher.SIGNAL_EVENT_VALUE_SCHEMA_NAME)
+                    .field(WatermarkDispatcher.SPLIT_ID_KEY, Schema.STRING_SCHEMA)
+                    .field(WatermarkDispatcher.WATERMARK_KIND, Schema.STRING_SCHEMA)
+                    .build();
+
+    private final SchemaNameAdjuster nameAdjuster = SchemaNameAdjuster.create();
+
+    @Test
+    public void testSplitKeyRangeContains() {
+        // table with only one split
+        assertTrue(splitKeyRangeContains(new Object[] {100L}, null, null));
+
+        // the last split
+        assertTrue(splitKeyRangeContains(new Object[] {101L}, new Object[] {100L}, null));
+
+        // the first split
+        assertTrue(splitKeyRangeContains(new Object[] {101L}, null, new Object[] {1024L}));
+
+        // general splits
+        assertTrue(
+                splitKeyRangeContains(
+                        new Object[] {100L}, new Object[] {1L}, new Object[] {1024L}));
+        assertFalse(
+                splitKeyRangeContains(new Object[] {0L}, new Object[] {1L}, new Object[] {1024L}));
+
+        // split key from change log may have different type
+        assertTrue(
+                splitKeyRangeContains(
+                        new Object[] {BigInteger.valueOf(100L)},
+                        new Object[] {1L},
+                        new Object[] {1024L}));
+        assertFalse(
+                splitKeyRangeContains(
+                        new Object[] {BigInteger.valueOf(0L)},
+                        new Object[] {1L},
+                        new Object[] {1024L}));
+    }
+
+    @Test
+    public void testCompareSplitKeys() {
+        assertEquals(0, compareSplitKeys(new Object[] {100L}, new Object[] {100L}));
+        assertTrue(compareSplitKeys(new Object[] {99L}, new Object[] {100L}) < 0);
+        // split key from change log may have different type
+        assertTrue(
+                compareSplitKeys(new Object[] {BigInteger.valueOf(100L)}, new Object[] {99L}) > 0);
+        assertEquals(
+                0, compareSplitKeys(new Object[] {BigInteger.valueOf(100L)}, new Object[] {100}));
+        assertTrue(compareSplitKeys(new Object[] {"a", 2}, new Object[] {"a", 10}) < 0);
+        // null split key of tables without primary key sorts first
+        assertTrue(compareSplitKeys(new Object[] {null}, new Object[] {1L}) < 0);
+        assertEquals(0, compareSplitKeys(new Object[] {null}, new Object[] {null}));
+        assertTrue(splitKeyRangeContains(new Object[] {null}, null, new Object[] {1024L}));
+    }
+
+    @Test
+    public void testHeartbeatEvent() {
+        Schema valueSchema =
+                SchemaBuilder.struct()
+                        .name(HEARTBEAT_VALUE_SCHEMA_NAME)
+                        .field("ts_ms", Schema.INT64_SCHEMA)
+                        .build();
+        Struct value = new Struct(valueSchema).put("ts_ms", 1634567890000L);
+        SourceRecord heartbeat =
+                new SourceRecord(
+                        Collections.singletonMap("server", "test_server"),
+                        offset(78L),
+                        "__debezium-heartbeat.test_server",
+                        null,
+                        valueSchema,
+                        value);
+        assertTrue(isHeartbeatEvent(heartbeat));
+        assertFalse(isDataChangeRecord(heartbeat));
+        assertEquals(
+                new TestingOffset("mysql-bin.000001", 78L),
+                getOffset(new TestingOffset.Factory(), heartbeat));
+
+        Schema otherSchema = SchemaBuilder.struct().name("other").build();
+        assertFalse(
+                isHeartbeatEvent(
+                        new SourceRecord(
+                                null, null, "topic", null, otherSchema, new Struct(otherSchema))));
+    }
+
+    @Test
+    public void testWatermarkEvent() {
+        SourceRecord low = watermark(WatermarkKind.LOW, 4L);
+        assertTrue(isLowWatermarkEvent(low));
+        assertFalse(isHighWatermarkEvent(low));
+        assertFalse(isDataChangeRecord(low));
+
+        assertTrue(isHighWatermarkEvent(watermark(WatermarkKind.HIGH, 4L)));
+        assertTrue(isEndWatermarkEvent(watermark(WatermarkKind.END, 4L)));
+        assertFalse(isLowWatermarkEvent(read(1L, "a")));
+    }
+
+    @Test
+    public void testGetSplitKeyOfTableWithoutPrimaryKey() {
+        RowType splitKeyType = (RowType) ROW(FIELD("uk", BIGINT().notNull())).getLogicalType();
+        Schema rowSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("uk", Schema.INT64_SCHEMA)
+                        .field("name", Schema.STRING_SCHEMA)
+                        .build();
+        Schema valueSchema =
+                SchemaBuilder.struct()
+                        .field(Envelope.FieldName.BEFORE, rowSchema)
+                        .field(Envelope.FieldName.AFTER, rowSchema)
+                        .field(Envelope.FieldName.OPERATION, Schema.STRING_SCHEMA)
+                        .build();
+        Struct before = new Struct(rowSchema).put("uk", 1L).put("name", "a");
+        Struct after = new Struct(rowSchema).put("uk", 2L).put("name", "b");
+
+        // the record of table without primary key has no key
+        SourceRecord update =
+                new SourceRecord(
+                        null,
+                        null,
+                        "topic",
+                        null,
+                        valueSchema,
+                        new Struct(valueSchema)
+                                .put(Envelope.FieldName.BEFORE, before)
+                                .put(Envelope.FieldName.AFTER, after)
+                                .put(Envelope.FieldName.OPERATION, "u"));
+        assertArrayEquals(new Object[] {2L}, getSplitKey(splitKeyType, update, nameAdjuster));
+
+        SourceRecord delete =
+                new SourceRecord(
+                        null,
+                        null,
+                        "topic",
+                        null,
+                        valueSchema,
+                        new Struct(valueSchema)
+                                .put(Envelope.FieldName.BEFORE, before)
+                                .put(Envelope.FieldName.OPERATION, "d"));
+        assertArrayEquals(new Object[] {1L}, getSplitKey(splitKeyType, delete, nameAdjuster));
+    }
+
+    @Test
+    public void testNormalizeSplitRecordsWithoutLogRecords() {
+        SourceRecord low = watermark(WatermarkKind.LOW, 4L);
+        SourceRecord high = watermark(WatermarkKind.HIGH, 4L);
+        SourceRecord end = watermark(WatermarkKind.END, 4L);
+        List<SourceRecord> snapshotRecords =
+                Arrays.asList(read(3L, "c"), read(1L, "a"), read(2L, "b"));
+
+        List<SourceRecord> records = new ArrayList<>();
+        records.add(low);
+        records.addAll(snapshotRecords);
+        records.add(high);
+        records.add(end);
+
+        // the high watermark is emitted ahead, the snapshot records keep the read order
+        List<SourceRecord> expected = new ArrayList<>();
+        expected.add(low);
+        expected.add(high);
+        expected.addAll(snapshotRecords);
+        assertEquals(expected, normalizedSplitRecords(getTestSplit(), records, nameAdjuster));
+    }
+
+    @Test
+    public void testNormalizeSplitRecordsWithLogRecords() {
+        SourceRecord low = watermark(WatermarkKind.LOW, 4L);
+        SourceRecord high = watermark(WatermarkKind.HIGH, 4L);
+        SourceRecord insert = create(3L, "c");
+
+        List<SourceRecord> records = new ArrayList<>();
+        records.add(low);
+        records.add(read(5L, "e"));
+        records.add(read(1L, "a"));
+        records.add(read(2L, "b"));
+        records.add(high);
+        records.add(update(2L, "b", "b2"));
+        records.add(delete(1L, "a"));
+        records.add(insert);
+        // the change of the other split is ignored
+        records.add(create(20L, "t"));
+        records.add(watermark(WatermarkKind.END, 10L));
+
+        List<SourceRecord> normalized =
+                normalizedSplitRecords(getTestSplit(), records, nameAdjuster);
+        assertEquals(5, normalized.size());
+        assertSame(low, normalized.get(0));
+        assertSame(high, normalized.get(1));
+        // the rows are ordered by the split key, the updated row is emitted as a read record
+        assertRow(normalized.get(2), Envelope.Operation.READ, 2L, "b2");
+        assertSame(insert, normalized.get(3));
+        assertRow(normalized.get(4), Envelope.Operation.READ, 5L, "e");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNormalizeSplitRecordsWithoutHighWatermark() {
+        normalizedSplitRecords(
+                getTestSplit(),
+                Arrays.asList(watermark(WatermarkKind.LOW, 4L), read(1L, "a"), create(2L, "b")),
+                nameAdjuster);
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Utilities
+    // ------------------------------------------------------------------------------------------
+
+    private static SnapshotSplit getTestSplit() {
+        return new SnapshotSplit(
+                TableId.parse("test_db.test_table"),
+                SPLIT_ID,
+                SPLIT_KEY_TYPE,
+                null,
+                new Object[] {10L},
+                null,
+                new HashMap<>());
+    }
+
+    private static void assertRow(
+            SourceRecord record, Envelope.Operation operation, long id, String name) {
+        Struct value = (Struct) record.value();
+        assertEquals(operation.code(), value.getString(Envelope.FieldName.OPERATION));
+        Struct after = value.getStruct(Envelope.FieldName.AFTER);
+        assertEquals(id, (long) after.getInt64("id"));
+        assertEquals(name, after.getString("name"));
+    }
+
+    private static SourceRecord read(long id, String name) {
+        return record(id, ENVELOPE.read(row(id, name), source(), Instant.now()));
+    }
+
+    private static SourceRecord create(long id, String name) {
+        return record(id, ENVELOPE.create(row(id, name), source(), Instant.now()));
+    }
+
+    private static SourceRecord update(long id, String nameBefore, String nameAfter) {
+        return record(
+                id,
+                ENVELOPE.update(row(id, nameBefore), row(id, nameAfter), source(), Instant.now()));
+    }
+
+    private static SourceRecord delete(long id, String name) {
+        return record(id, ENVELOPE.delete(row(id, name), source(), Instant.now()));
+    }
+
+    private static SourceRecord record(long id, Struct value) {
+        return new SourceRecord(
+                Collections.singletonMap("server", "test_server"),
+                offset(4L),
+                "test_server.test_db.test_table",
+                KEY_SCHEMA,
+                new Struct(KEY_SCHEMA).put("id", id),
+                ENVELOPE.schema(),
+                value);
+    }
+
+    private static Struct row(long id, String name) {
+        return new Struct(ROW_SCHEMA).put("id", id).put("name", name);
+    }
+
+    private static Struct source() {
+        return new Struct(SOURCE_SCHEMA).put(Envelope.FieldName.TIMESTAMP, 1634567890000L);
+    }
+
+    private static SourceRecord watermark(WatermarkKind kind, long pos) {
+        Struct value =
+                new Struct(WATERMARK_VALUE_SCHEMA)
+                        .put(WatermarkDispatcher.SPLIT_ID_KEY, SPLIT_ID)
+                        .put(WatermarkDispatcher.WATERMARK_KIND, kind.toString());
+        return new SourceRecord(
+                Collections.singletonMap("server", "test_server"),
+                offset(pos),
+                "test_server",
+                null,
+                WATERMARK_VALUE_SCHEMA,
+                value);
+    }
+
+    private static Map<String, Object> offset(long pos) {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put(TestingOffset.FILE_KEY, "mysql-bin.000001");
+        offset.put(TestingOffset.POS_KEY, pos);
+        return offset;
+    }
+}
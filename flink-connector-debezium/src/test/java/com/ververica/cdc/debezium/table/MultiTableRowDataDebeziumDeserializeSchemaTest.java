@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.table;
+
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.LogicalTypeRoot;
+import org.apache.flink.types.RowKind;
+
+import io.debezium.data.Envelope;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static io.debezium.connector.AbstractSourceInfo.DATABASE_NAME_KEY;
+import static io.debezium.connector.AbstractSourceInfo.SCHEMA_NAME_KEY;
+import static io.debezium.connector.AbstractSourceInfo.TABLE_NAME_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link MultiTableRowDataDebeziumDeserializeSchema}. */
+public class MultiTableRowDataDebeziumDeserializeSchemaTest {
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(DATABASE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .field(TABLE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .build();
+
+    private static final Schema SOURCE_SCHEMA_WITH_SCHEMA_NAME =
+            SchemaBuilder.struct()
+                    .field(DATABASE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .field(SCHEMA_NAME_KEY, Schema.STRING_SCHEMA)
+                    .field(TABLE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .build();
+
+    private final CountingConverterFactory converterFactory = new CountingConverterFactory();
+
+    private final MultiTableRowDataDebeziumDeserializeSchema deserializer =
+            MultiTableRowDataDebeziumDeserializeSchema.newBuilder()
+                    .setServerTimeZone(ZoneId.of("UTC"))
+                    .setUserDefinedConverterFactory(converterFactory)
+                    .build();
+
+    @Test
+    public void testRouteRowsByTableId() throws Exception {
+        final TestTable orders = new TestTable("inventory", null, "orders", rowSchema(false));
+        final TestTable customers =
+                new TestTable("inventory", null, "customers", rowSchema(true));
+        final TestTable products =
+                new TestTable("inventory", "public", "products", rowSchema(false));
+
+        final List<TableRowData> rows =
+                deserialize(
+                        orders.insert(1, "order_1"),
+                        customers.insert(2, "customer_2"),
+                        products.insert(3, "product_3"),
+                        orders.delete(1, "order_1"));
+
+        assertEquals(4, rows.size());
+        assertRow(rows.get(0), "inventory.orders", RowKind.INSERT, 1, "order_1");
+        assertRow(rows.get(1), "inventory.customers", RowKind.INSERT, 2, "customer_2");
+        assertEquals(3, rows.get(1).getRow().getArity());
+        assertRow(rows.get(2), "inventory.public.products", RowKind.INSERT, 3, "product_3");
+        assertRow(rows.get(3), "inventory.orders", RowKind.DELETE, 1, "order_1");
+    }
+
+    @Test
+    public void testCacheConvertersBySchema() throws Exception {
+        final TestTable orders = new TestTable("inventory", null, "orders", rowSchema(false));
+        // the readers of different splits may use equal schemas of different instances
+        final TestTable ordersOfOtherSplit =
+                new TestTable("inventory", null, "orders", rowSchema(false));
+
+        final List<TableRowData> rows =
+                deserialize(
+                        orders.insert(1, "order_1"),
+                        orders.update(1, "order_1", "order_1_updated"),
+                        ordersOfOtherSplit.insert(2, "order_2"));
+
+        assertEquals(1, converterFactory.rowConverters);
+        assertEquals(4, rows.size());
+        assertRow(rows.get(1), "inventory.orders", RowKind.UPDATE_BEFORE, 1, "order_1");
+        assertRow(rows.get(2), "inventory.orders", RowKind.UPDATE_AFTER, 1, "order_1_updated");
+        assertRow(rows.get(3), "inventory.orders", RowKind.INSERT, 2, "order_2");
+    }
+
+    @Test
+    public void testRebuildConverterAfterSchemaChange() throws Exception {
+        final TestTable orders = new TestTable("inventory", null, "orders", rowSchema(false));
+        // the column "note" is added to the table
+        final TestTable alteredOrders =
+                new TestTable("inventory", null, "orders", rowSchema(true));
+
+        List<TableRowData> rows =
+                deserialize(orders.insert(1, "order_1"), alteredOrders.insert(2, "order_2"));
+        assertEquals(2, converterFactory.rowConverters);
+        assertEquals(2, rows.get(0).getRow().getArity());
+        assertRow(rows.get(1), "inventory.orders", RowKind.INSERT, 2, "order_2");
+        assertEquals(3, rows.get(1).getRow().getArity());
+        assertEquals(StringData.fromString("note_2"), rows.get(1).getRow().getString(2));
+
+        // the cached converters are dropped on schema change events
+        rows = deserialize(schemaChangeEvent(), alteredOrders.insert(3, "order_3"));
+        assertEquals(3, converterFactory.rowConverters);
+        assertEquals(1, rows.size());
+        assertRow(rows.get(0), "inventory.orders", RowKind.INSERT, 3, "order_3");
+    }
+
+    @Test
+    public void testClampDecimalScaleWithPrecision() throws Exception {
+        final Schema decimalSchema =
+                Decimal.builder(40).parameter("connect.decimal.precision", "50").build();
+        final Schema rowSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field("amount", decimalSchema)
+                        .build();
+        final TestTable table = new TestTable("inventory", null, "amounts", rowSchema);
+        final Struct row =
+                new Struct(rowSchema)
+                        .put("id", 1L)
+                        .put("amount", new BigDecimal("0.1234").setScale(40));
+
+        final List<TableRowData> rows = deserialize(table.insert(row));
+
+        assertEquals(1, rows.size());
+        assertEquals(
+                0,
+                new BigDecimal("0.1234")
+                        .compareTo(rows.get(0).getRow().getDecimal(1, 38, 38).toBigDecimal()));
+    }
+
+    @Test
+    public void testUnsupportedArrayColumn() throws Exception {
+        final Schema rowSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).build())
+                        .build();
+        final TestTable table = new TestTable("inventory", null, "tagged", rowSchema);
+        final Struct row =
+                new Struct(rowSchema).put("id", 1L).put("tags", Arrays.asList("a", "b"));
+
+        Throwable thrown = null;
+        try {
+            deserialize(table.insert(row));
+        } catch (Throwable t) {
+            thrown = t;
+        }
+        assertNotNull(thrown);
+        assertTrue(thrown instanceof UnsupportedOperationException);
+        assertEquals(
+                "Unsupported Debezium schema type ARRAY of field 'inventory.tagged.tags'.",
+                thrown.getMessage());
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Utilities
+    // ------------------------------------------------------------------------------------------
+
+    private List<TableRowData> deserialize(SourceRecord... records) throws Exception {
+        final List<TableRowData> rows = new ArrayList<>();
+        for (SourceRecord record : records) {
+            deserializer.deserialize(record, new ListCollector<>(rows));
+        }
+        return rows;
+    }
+
+    private static void assertRow(
+            TableRowData tableRow, String tableId, RowKind rowKind, long id, String name) {
+        final RowData row = tableRow.getRow();
+        assertEquals(tableId, tableRow.getTableId());
+        assertEquals(rowKind, row.getRowKind());
+        assertEquals(id, row.getLong(0));
+        assertEquals(StringData.fromString(name), row.getString(1));
+    }
+
+    private static Schema rowSchema(boolean withNote) {
+        final SchemaBuilder builder =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA);
+        if (withNote) {
+            builder.field("note", Schema.OPTIONAL_STRING_SCHEMA);
+        }
+        return builder.build();
+    }
+
+    private static SourceRecord schemaChangeEvent() {
+        final Schema keySchema =
+                SchemaBuilder.struct()
+                        .name("io.debezium.connector.mysql.SchemaChangeKey")
+                        .field("databaseName", Schema.STRING_SCHEMA)
+                        .build();
+        return new SourceRecord(
+                null,
+                null,
+                "mysql_binlog_source",
+                keySchema,
+                new Struct(keySchema).put("databaseName", "inventory"),
+                null,
+                null);
+    }
+
+    /** The records of a table with the given row schema. */
+    private static class TestTable {
+        private final String database;
+        private final String schemaName;
+        private final String table;
+        private final Schema rowSchema;
+        private final Envelope envelope;
+
+        private TestTable(String database, String schemaName, String table, Schema rowSchema) {
+            this.database = database;
+            this.schemaName = schemaName;
+            this.table = table;
+            this.rowSchema = rowSchema;
+            this.envelope =
+                    Envelope.defineSchema()
+                            .withName(database + "." + table + ".Envelope")
+                            .withRecord(rowSchema)
+                            .withSource(sourceSchema())
+                            .build();
+        }
+
+        private SourceRecord insert(long id, String name) {
+            return insert(row(id, name));
+        }
+
+        private SourceRecord insert(Struct row) {
+            return record(envelope.create(row, source(), Instant.now()));
+        }
+
+        private SourceRecord update(long id, String nameBefore, String nameAfter) {
+            return record(
+                    envelope.update(
+                            row(id, nameBefore), row(id, nameAfter), source(), Instant.now()));
+        }
+
+        private SourceRecord delete(long id, String name) {
+            return record(envelope.delete(row(id, name), source(), Instant.now()));
+        }
+
+        private SourceRecord record(Struct value) {
+            return new SourceRecord(
+                    null, null, database + "." + table, envelope.schema(), value);
+        }
+
+        private Struct row(long id, String name) {
+            final Struct row = new Struct(rowSchema).put("id", id).put("name", name);
+            if (rowSchema.field("note") != null) {
+                row.put("note", "note_" + id);
+            }
+            return row;
+        }
+
+        private Schema sourceSchema() {
+            return schemaName == null ? SOURCE_SCHEMA : SOURCE_SCHEMA_WITH_SCHEMA_NAME;
+        }
+
+        private Struct source() {
+            final Struct source =
+                    new Struct(sourceSchema())
+                            .put(DATABASE_NAME_KEY, database)
+                            .put(TABLE_NAME_KEY, table);
+            if (schemaName != null) {
+                source.put(SCHEMA_NAME_KEY, schemaName);
+            }
+            return source;
+        }
+    }
+
+    /** A converter factory which counts the created converters of rows. */
+    private static class CountingConverterFactory
+            implements DeserializationRuntimeConverterFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        private int rowConverters;
+
+        @Override
+        public Optional<DeserializationRuntimeConverter> createUserDefinedConverter(
+                LogicalType logicalType, ZoneId serverTimeZone) {
+            if (logicalType.getTypeRoot() == LogicalTypeRoot.ROW) {
+                rowConverters++;
+            }
+            return Optional.empty();
+        }
+    }
+}
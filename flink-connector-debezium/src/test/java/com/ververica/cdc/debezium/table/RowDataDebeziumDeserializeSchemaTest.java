@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.table;
+
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.TimestampType;
+import org.apache.flink.table.types.logical.VarCharType;
+
+import io.debezium.time.MicroTimestamp;
+import io.debezium.time.NanoTimestamp;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for the runtime converters of {@link RowDataDebeziumDeserializeSchema}. */
+public class RowDataDebeziumDeserializeSchemaTest {
+
+    @Test
+    public void testConvertMicroTimestamp() throws Exception {
+        final Schema schema = MicroTimestamp.builder().build();
+        assertTimestamp("2021-10-18T12:34:56.123456", 1_634_560_496_123_456L, schema, 6);
+        assertTimestamp("1970-01-01T00:00", 0L, schema, 6);
+        // the values before 1970 are negative, the micros of the second must not be negative
+        assertTimestamp("1969-12-31T23:59:59.999999", -1L, schema, 6);
+        assertTimestamp("1969-12-31T23:59:58.765433", -1_234_567L, schema, 6);
+        assertTimestamp("1900-01-01T00:00:00.000001", -2_208_988_799_999_999L, schema, 6);
+    }
+
+    @Test
+    public void testConvertNanoTimestamp() throws Exception {
+        final Schema schema = NanoTimestamp.builder().build();
+        assertTimestamp("2021-10-18T12:34:56.123456789", 1_634_560_496_123_456_789L, schema, 9);
+        assertTimestamp("1970-01-01T00:00", 0L, schema, 9);
+        // the values before 1970 are negative, the nanos of the millisecond must not be negative
+        assertTimestamp("1969-12-31T23:59:59.999999999", -1L, schema, 9);
+        assertTimestamp("1969-12-31T23:59:58.765432109", -1_234_567_891L, schema, 9);
+        assertTimestamp("1900-01-01T00:00:00.000000001", -2_208_988_799_999_999_999L, schema, 9);
+    }
+
+    @Test
+    public void testConvertBytesToUtf8String() throws Exception {
+        final String value = "中文 café";
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        final StringData converted =
+                (StringData)
+                        createConverter(new VarCharType(VarCharType.MAX_LENGTH))
+                                .convert(bytes, Schema.BYTES_SCHEMA);
+
+        assertEquals(value, converted.toString());
+        assertArrayEquals(bytes, converted.toBytes());
+    }
+
+    @Test
+    public void testConvertCompactDecimal() throws Exception {
+        final DeserializationRuntimeConverter converter = createConverter(new DecimalType(18, 2));
+        final Schema schema = Decimal.schema(2);
+
+        // the values of the same scale are converted by the unscaled long
+        assertDecimal("123.45", converter.convert(new BigDecimal("123.45"), schema), 18, 2);
+        assertDecimal("-0.01", converter.convert(new BigDecimal("-0.01"), schema), 18, 2);
+        assertDecimal(
+                "9999999999999999.99",
+                converter.convert(new BigDecimal("9999999999999999.99"), schema),
+                18,
+                2);
+        final DecimalData converted =
+                (DecimalData) converter.convert(new BigDecimal("123.45"), schema);
+        assertTrue(converted.isCompact());
+        assertEquals(12345L, converted.toUnscaledLong());
+
+        // the values of other scales are rescaled, the ones overflowing the precision are null
+        assertDecimal("1.20", converter.convert(new BigDecimal("1.2"), schema), 18, 2);
+        assertDecimal("1.24", converter.convert(new BigDecimal("1.235"), schema), 18, 2);
+        assertNull(converter.convert(new BigDecimal("10000000000000000.00"), schema));
+    }
+
+    @Test
+    public void testConvertNonCompactDecimal() throws Exception {
+        final DeserializationRuntimeConverter converter = createConverter(new DecimalType(38, 10));
+        final String value = "1234567890123456789012345678.0123456789";
+
+        assertDecimal(value, converter.convert(new BigDecimal(value), Decimal.schema(10)), 38, 10);
+    }
+
+    private static void assertDecimal(String expected, Object converted, int precision, int scale) {
+        assertEquals(
+                DecimalData.fromBigDecimal(new BigDecimal(expected), precision, scale), converted);
+    }
+
+    private static void assertTimestamp(String expected, long value, Schema schema, int precision)
+            throws Exception {
+        final Object converted =
+                createConverter(new TimestampType(precision)).convert(value, schema);
+        assertEquals(TimestampData.fromLocalDateTime(LocalDateTime.parse(expected)), converted);
+    }
+
+    private static DeserializationRuntimeConverter createConverter(LogicalType type) {
+        return RowDataDebeziumDeserializeSchema.createNotNullConverter(
+                type, ZoneId.of("UTC"), DeserializationRuntimeConverterFactory.DEFAULT);
+    }
+}
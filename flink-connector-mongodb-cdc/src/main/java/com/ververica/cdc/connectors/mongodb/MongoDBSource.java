@@ -20,21 +20,17 @@ package com.ververica.cdc.connectors.mongodb;
 
 import org.apache.flink.annotation.PublicEvolving;
 
-import com.mongodb.ConnectionString;
 import com.mongodb.client.model.changestream.FullDocument;
 import com.mongodb.kafka.connect.source.MongoSourceConfig;
 import com.mongodb.kafka.connect.source.MongoSourceConfig.ErrorTolerance;
 import com.mongodb.kafka.connect.source.MongoSourceConfig.OutputFormat;
 import com.ververica.cdc.connectors.mongodb.internal.MongoDBConnectorSourceConnector;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoUtils;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
 import com.ververica.cdc.debezium.Validator;
 import io.debezium.heartbeat.Heartbeat;
-import org.apache.commons.lang3.StringUtils;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Properties;
 
@@ -65,6 +61,9 @@ public class MongoDBSource {
     public static final String OUTPUT_FORMAT_SCHEMA =
             OutputFormat.SCHEMA.name().toLowerCase(Locale.ROOT);
 
+    public static final String OUTPUT_FORMAT_BSON =
+            OutputFormat.BSON.name().toLowerCase(Locale.ROOT);
+
     // Add "source" field to adapt to debezium SourceRecord
     public static final String OUTPUT_SCHEMA_VALUE_DEFAULT =
             "{"
@@ -74,6 +73,7 @@ public class MongoDBSource {
                     + "    { \"name\": \"_id\", \"type\": \"string\" },"
                     + "    { \"name\": \"operationType\", \"type\": [\"string\", \"null\"] },"
                     + "    { \"name\": \"fullDocument\", \"type\": [\"string\", \"null\"] },"
+                    + "    { \"name\": \"fullDocumentBeforeChange\", \"type\": [\"string\", \"null\"] },"
                     + "    { \"name\": \"source\","
                     + "      \"type\": [{\"name\": \"source\", \"type\": \"record\", \"fields\": ["
                     + "                {\"name\": \"ts_ms\", \"type\": \"long\"},"
@@ -108,14 +108,6 @@ public class MongoDBSource {
         return new Builder<>();
     }
 
-    private static String encodeValue(String value) {
-        try {
-            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
-        } catch (UnsupportedEncodingException e) {
-            throw new IllegalArgumentException(e);
-        }
-    }
-
     /** Builder class of {@link MongoDBSource}. */
     public static class Builder<T> {
 
@@ -136,6 +128,7 @@ public class MongoDBSource {
         private Boolean errorsLogEnable;
         private String errorsTolerance;
         private Integer heartbeatIntervalMillis;
+        private String outputFormat = OUTPUT_FORMAT_SCHEMA;
         private DebeziumDeserializationSchema<T> deserializer;
 
         /** The comma-separated list of hostname and port pairs of mongodb servers. */
@@ -311,6 +304,29 @@ public class MongoDBSource {
             return this;
         }
 
+        /**
+         * output.format.value
+         *
+         * <p>The format of the change stream documents in the value of the emitted records. When
+         * set to schema, the value is a {@link org.apache.kafka.connect.data.Struct} whose document
+         * fields are JSON strings. When set to bson, the value holds the raw BSON bytes of the
+         * change stream document in the {@link
+         * com.ververica.cdc.connectors.mongodb.internal.MongoDBEnvelope#BSON_DOCUMENT_FIELD} field,
+         * which avoids encoding the documents to JSON and parsing them again.
+         *
+         * <p>Default: "schema" Accepted Values: "schema" or "bson"
+         */
+        public Builder<T> outputFormat(String outputFormat) {
+            checkArgument(
+                    OUTPUT_FORMAT_SCHEMA.equals(outputFormat)
+                            || OUTPUT_FORMAT_BSON.equals(outputFormat),
+                    "The output format must be '%s' or '%s'.",
+                    OUTPUT_FORMAT_SCHEMA,
+                    OUTPUT_FORMAT_BSON);
+            this.outputFormat = outputFormat;
+            return this;
+        }
+
         /**
          * The deserializer used to convert from consumed {@link
          * org.apache.kafka.connect.source.SourceRecord}.
@@ -320,23 +336,6 @@ public class MongoDBSource {
             return this;
         }
 
-        /** Build connection uri. */
-        private ConnectionString buildConnectionUri() {
-            StringBuilder sb = new StringBuilder(MONGODB_SCHEME).append("://");
-
-            if (username != null && password != null) {
-                sb.append(encodeValue(username)).append(":").append(encodeValue(password));
-            }
-
-            sb.append("@").append(checkNotNull(hosts));
-
-            if (StringUtils.isNotEmpty(connectionOptions)) {
-                sb.append("/?").append(connectionOptions);
-            }
-
-            return new ConnectionString(sb.toString());
-        }
-
         /**
          * The properties of mongodb kafka connector.
          * https://docs.mongodb.com/kafka-connector/current/kafka-source
@@ -349,7 +348,10 @@ public class MongoDBSource {
             props.setProperty("name", "mongodb_binlog_source");
 
             props.setProperty(
-                    MongoSourceConfig.CONNECTION_URI_CONFIG, String.valueOf(buildConnectionUri()));
+                    MongoSourceConfig.CONNECTION_URI_CONFIG,
+                    String.valueOf(
+                            MongoUtils.buildConnectionString(
+                                    username, password, checkNotNull(hosts), connectionOptions)));
 
             props.setProperty(MongoSourceConfig.DATABASE_CONFIG, checkNotNull(database));
             props.setProperty(MongoSourceConfig.COLLECTION_CONFIG, checkNotNull(collection));
@@ -360,7 +362,7 @@ public class MongoDBSource {
                     String.valueOf(Boolean.FALSE));
 
             props.setProperty(MongoSourceConfig.OUTPUT_FORMAT_KEY_CONFIG, OUTPUT_FORMAT_SCHEMA);
-            props.setProperty(MongoSourceConfig.OUTPUT_FORMAT_VALUE_CONFIG, OUTPUT_FORMAT_SCHEMA);
+            props.setProperty(MongoSourceConfig.OUTPUT_FORMAT_VALUE_CONFIG, outputFormat);
             props.setProperty(
                     MongoSourceConfig.OUTPUT_SCHEMA_INFER_VALUE_CONFIG,
                     String.valueOf(Boolean.FALSE));
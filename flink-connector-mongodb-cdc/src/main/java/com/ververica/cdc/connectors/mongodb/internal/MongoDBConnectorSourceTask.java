@@ -29,6 +29,8 @@ import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.apache.kafka.connect.source.SourceTask;
 import org.apache.kafka.connect.source.SourceTaskContext;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.json.JsonReader;
 
 import java.lang.reflect.Field;
@@ -164,6 +166,9 @@ public class MongoDBConnectorSourceTask extends SourceTask {
     }
 
     private SourceRecord markTimestampForDataRecord(SourceRecord record) {
+        if (record.value() instanceof byte[]) {
+            return markTimestampForBsonRecord(record);
+        }
         final Struct value = (Struct) record.value();
         final Struct source = new Struct(value.schema().field(Envelope.FieldName.SOURCE).schema());
         // It indicates the time that the change was made in the database. If the record is read
@@ -180,6 +185,35 @@ public class MongoDBConnectorSourceTask extends SourceTask {
         return record;
     }
 
+    /**
+     * Wraps the raw BSON change stream document of binary output mode into a {@link Struct} with
+     * "source" field, the cluster time is read from the raw document without decoding it.
+     */
+    private SourceRecord markTimestampForBsonRecord(SourceRecord record) {
+        final byte[] bsonDocument = (byte[]) record.value();
+        final BsonValue clusterTime =
+                new RawBsonDocument(bsonDocument).get(MongoDBEnvelope.CLUSTER_TIME_FIELD);
+        long timestamp = 0L;
+        if (clusterTime != null && clusterTime.isTimestamp()) {
+            timestamp = clusterTime.asTimestamp().getTime() * 1000L;
+        }
+        final Struct source = new Struct(MongoDBEnvelope.BSON_SOURCE_SCHEMA);
+        source.put(AbstractSourceInfo.TIMESTAMP_KEY, timestamp);
+        final Struct value = new Struct(MongoDBEnvelope.BSON_VALUE_SCHEMA);
+        value.put(MongoDBEnvelope.BSON_DOCUMENT_FIELD, bsonDocument);
+        value.put(Envelope.FieldName.SOURCE, source);
+
+        return new SourceRecord(
+                record.sourcePartition(),
+                record.sourceOffset(),
+                record.topic(),
+                record.kafkaPartition(),
+                record.keySchema(),
+                record.key(),
+                MongoDBEnvelope.BSON_VALUE_SCHEMA,
+                value);
+    }
+
     private SourceRecord markTimestampForHeartbeatRecord(SourceRecord record) {
         final Struct heartbeatValue = new Struct(HEARTBEAT_VALUE_SCHEMA);
         heartbeatValue.put(AbstractSourceInfo.TIMESTAMP_KEY, Instant.now().toEpochMilli());
@@ -18,6 +18,11 @@
 
 package com.ververica.cdc.connectors.mongodb.internal;
 
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.data.Envelope;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+
 /**
  * An immutable descriptor for the structure of {@link
  * com.mongodb.client.model.changestream.ChangeStreamDocument} envelopes.
@@ -28,6 +33,8 @@ public class MongoDBEnvelope {
 
     public static final String FULL_DOCUMENT_FIELD = "fullDocument";
 
+    public static final String FULL_DOCUMENT_BEFORE_CHANGE_FIELD = "fullDocumentBeforeChange";
+
     public static final String DOCUMENT_KEY_FIELD = "documentKey";
 
     public static final String OPERATION_TYPE_FIELD = "operationType";
@@ -41,4 +48,26 @@ public class MongoDBEnvelope {
     public static final String COPY_KEY_FIELD = "copy";
 
     public static final String HEARTBEAT_KEY_FIELD = "HEARTBEAT";
+
+    /** The field holds the raw BSON bytes of the change stream document in binary output mode. */
+    public static final String BSON_DOCUMENT_FIELD = "bsonDocument";
+
+    public static final Schema BSON_SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("source")
+                    .field(AbstractSourceInfo.TIMESTAMP_KEY, Schema.INT64_SCHEMA)
+                    .field(AbstractSourceInfo.SNAPSHOT_KEY, Schema.OPTIONAL_STRING_SCHEMA)
+                    .optional()
+                    .build();
+
+    /**
+     * The value schema of the records in binary output mode, the change stream document is kept as
+     * raw BSON bytes and the "source" field is added to adapt to debezium SourceRecord.
+     */
+    public static final Schema BSON_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("ChangeStreamBson")
+                    .field(BSON_DOCUMENT_FIELD, Schema.BYTES_SCHEMA)
+                    .field(Envelope.FieldName.SOURCE, BSON_SOURCE_SCHEMA)
+                    .build();
 }
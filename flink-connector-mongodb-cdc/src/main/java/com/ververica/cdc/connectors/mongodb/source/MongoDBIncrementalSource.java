@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source;
+
+import org.apache.flink.annotation.Experimental;
+
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfigFactory;
+import com.ververica.cdc.connectors.mongodb.source.dialect.MongoDBDialect;
+import com.ververica.cdc.connectors.mongodb.source.offset.ChangeStreamOffsetFactory;
+import com.ververica.cdc.connectors.mongodb.source.reader.MongoDBRecordEmitter;
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import com.ververica.cdc.debezium.source.IncrementalSource;
+import com.ververica.cdc.debezium.source.reader.IncrementalSourceRecordEmitter;
+
+/**
+ * The MongoDB CDC Source based on FLIP-27 and the incremental snapshot framework, it supports
+ * parallel copying the existing documents of collection and then continue to capture data change
+ * from the change stream.
+ *
+ * <pre>
+ *     1. The source supports parallel copying the existing documents by the '_id' ranges.
+ *     2. The source supports checkpoint in split level when copying the existing documents.
+ *     3. The source resumes the change stream from the resume token of the latest checkpoint.
+ * </pre>
+ *
+ * <p>The records are of the same format as the records of {@link
+ * com.ververica.cdc.connectors.mongodb.MongoDBSource}, so the same deserializers can be used. The
+ * changes of the documents copied by the later splits may be delivered more than once, which are
+ * idempotent upserts by the document key.
+ *
+ * <pre>{@code
+ * MongoDBIncrementalSource
+ *     .<String>builder()
+ *     .hosts("localhost:27017")
+ *     .database("inventory")
+ *     .collection("products")
+ *     .username(username)
+ *     .password(password)
+ *     .deserializer(new JsonDebeziumDeserializationSchema())
+ *     .build();
+ * }</pre>
+ *
+ * <p>See {@link MongoDBSourceBuilder} for more details.
+ *
+ * @param <T> the output type of the source.
+ */
+@Experimental
+public class MongoDBIncrementalSource<T> extends IncrementalSource<T, MongoDBSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Get a MongoDBSourceBuilder to build a {@link MongoDBIncrementalSource}.
+     *
+     * @return a MongoDB parallel source builder.
+     */
+    public static <T> MongoDBSourceBuilder<T> builder() {
+        return new MongoDBSourceBuilder<>();
+    }
+
+    MongoDBIncrementalSource(
+            MongoDBSourceConfigFactory configFactory,
+            DebeziumDeserializationSchema<T> deserializationSchema) {
+        super(
+                configFactory,
+                deserializationSchema,
+                new ChangeStreamOffsetFactory(),
+                new MongoDBDialect());
+    }
+
+    @Override
+    protected IncrementalSourceRecordEmitter<T> createRecordEmitter(
+            MongoDBSourceConfig sourceConfig) {
+        return new MongoDBRecordEmitter<>(deserializationSchema, offsetFactory);
+    }
+}
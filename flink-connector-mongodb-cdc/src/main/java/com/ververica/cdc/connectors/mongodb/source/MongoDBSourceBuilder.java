@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source;
+
+import org.apache.flink.annotation.Experimental;
+
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfigFactory;
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/**
+ * The builder class for {@link MongoDBIncrementalSource} to make it easier for the users to
+ * construct a {@link MongoDBIncrementalSource}.
+ *
+ * <p>Check the Java docs of each individual method to learn more about the settings to build a
+ * {@link MongoDBIncrementalSource}.
+ */
+@Experimental
+public class MongoDBSourceBuilder<T> {
+    private final MongoDBSourceConfigFactory configFactory = new MongoDBSourceConfigFactory();
+    private DebeziumDeserializationSchema<T> deserializer;
+
+    /** The comma-separated list of hostname and port pairs of mongodb servers. */
+    public MongoDBSourceBuilder<T> hosts(String hosts) {
+        this.configFactory.hosts(hosts);
+        return this;
+    }
+
+    /** Name of the database user to be used when connecting to MongoDB. */
+    public MongoDBSourceBuilder<T> username(String username) {
+        this.configFactory.username(username);
+        return this;
+    }
+
+    /** Password to be used when connecting to MongoDB. */
+    public MongoDBSourceBuilder<T> password(String password) {
+        this.configFactory.password(password);
+        return this;
+    }
+
+    /**
+     * Ampersand (i.e. &) separated MongoDB connection options eg
+     * replicaSet=test&connectTimeoutMS=300000
+     */
+    public MongoDBSourceBuilder<T> connectionOptions(String connectionOptions) {
+        this.configFactory.connectionOptions(connectionOptions);
+        return this;
+    }
+
+    /** Name of the database to watch for changes. */
+    public MongoDBSourceBuilder<T> database(String database) {
+        this.configFactory.database(database);
+        return this;
+    }
+
+    /** Name of the collection in the database to watch for changes. */
+    public MongoDBSourceBuilder<T> collection(String collection) {
+        this.configFactory.collection(collection);
+        return this;
+    }
+
+    /** The cursor batch size. Default: 0, i.e. the default batch size of the server. */
+    public MongoDBSourceBuilder<T> batchSize(int batchSize) {
+        this.configFactory.batchSize(batchSize);
+        return this;
+    }
+
+    /** The amount of time to wait before checking for new results on the change stream. */
+    public MongoDBSourceBuilder<T> pollAwaitTimeMillis(int pollAwaitTimeMillis) {
+        this.configFactory.pollAwaitTimeMillis(pollAwaitTimeMillis);
+        return this;
+    }
+
+    /** Maximum number of change stream documents to include in a single batch when polling. */
+    public MongoDBSourceBuilder<T> pollMaxBatchSize(int pollMaxBatchSize) {
+        this.configFactory.pollMaxBatchSize(pollMaxBatchSize);
+        return this;
+    }
+
+    /**
+     * The length of time in milliseconds between sending heartbeat messages which contain the post
+     * batch resume token of an idle change stream. Use 0 to disable.
+     */
+    public MongoDBSourceBuilder<T> heartbeatIntervalMillis(int heartbeatIntervalMillis) {
+        this.configFactory.heartbeatIntervalMillis(heartbeatIntervalMillis);
+        return this;
+    }
+
+    /**
+     * Whether to copy the existing documents of the collection in parallel chunks before reading
+     * the changes. Default: true
+     */
+    public MongoDBSourceBuilder<T> copyExisting(boolean copyExisting) {
+        this.configFactory.copyExisting(copyExisting);
+        return this;
+    }
+
+    /** The chunk size (in MB) of the collection snapshot. */
+    public MongoDBSourceBuilder<T> splitSizeMB(int splitSizeMB) {
+        this.configFactory.splitSizeMB(splitSizeMB);
+        return this;
+    }
+
+    /**
+     * The group size of split meta, if the meta size exceeds the group size, the meta will be will
+     * be divided into multiple groups.
+     */
+    public MongoDBSourceBuilder<T> splitMetaGroupSize(int splitMetaGroupSize) {
+        this.configFactory.splitMetaGroupSize(splitMetaGroupSize);
+        return this;
+    }
+
+    /**
+     * Whether to read the pre-images and the post-images of the changed documents from the change
+     * stream, the updates produce both the documents before and after the change, and the deletes
+     * produce the deleted documents. It requires MongoDB 6.0 or later and the
+     * 'changeStreamPreAndPostImages' option enabled on the collection. Default: false
+     */
+    public MongoDBSourceBuilder<T> fullChangelog(boolean fullChangelog) {
+        this.configFactory.fullChangelog(fullChangelog);
+        return this;
+    }
+
+    /**
+     * Whether to read the changes of a sharded cluster by the change streams of the shards instead
+     * of the change stream of mongos. Each shard is read by a separate stream split with its own
+     * resume token, and the shards are connected directly by the hosts of their replica sets, so
+     * the user should exist on the shards as well. The records carry the cluster time of the
+     * changes as timestamps, use {@link
+     * org.apache.flink.api.common.eventtime.WatermarkStrategy#forMonotonousTimestamps()} to order
+     * the changes across the shards by the watermarks, and enable the heartbeats to advance the
+     * watermarks of the idle shards. Default: false
+     */
+    public MongoDBSourceBuilder<T> perShardChangeStreams(boolean perShardChangeStreams) {
+        this.configFactory.perShardChangeStreams(perShardChangeStreams);
+        return this;
+    }
+
+    /**
+     * The deserializer used to convert from consumed {@link
+     * org.apache.kafka.connect.source.SourceRecord}.
+     */
+    public MongoDBSourceBuilder<T> deserializer(DebeziumDeserializationSchema<T> deserializer) {
+        this.deserializer = deserializer;
+        return this;
+    }
+
+    /**
+     * Build the {@link MongoDBIncrementalSource}.
+     *
+     * @return a MongoDBIncrementalSource with the settings made for this builder.
+     */
+    public MongoDBIncrementalSource<T> build() {
+        return new MongoDBIncrementalSource<>(configFactory, checkNotNull(deserializer));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.config;
+
+import com.mongodb.ConnectionString;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import io.debezium.config.Configuration;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** The configuration of the MongoDB incremental snapshot source. */
+public class MongoDBSourceConfig implements SourceConfig {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String connectionString;
+    private final String database;
+    private final String collection;
+    private final int batchSize;
+    private final int pollAwaitTimeMillis;
+    private final int pollMaxBatchSize;
+    private final int heartbeatIntervalMillis;
+    private final boolean snapshotEnabled;
+    private final int splitSizeMB;
+    private final int splitMetaGroupSize;
+    private final boolean fullChangelog;
+    private final boolean perShardChangeStreams;
+
+    public MongoDBSourceConfig(
+            String connectionString,
+            String database,
+            String collection,
+            int batchSize,
+            int pollAwaitTimeMillis,
+            int pollMaxBatchSize,
+            int heartbeatIntervalMillis,
+            boolean snapshotEnabled,
+            int splitSizeMB,
+            int splitMetaGroupSize,
+            boolean fullChangelog,
+            boolean perShardChangeStreams) {
+        this.connectionString = checkNotNull(connectionString);
+        this.database = checkNotNull(database);
+        this.collection = checkNotNull(collection);
+        this.batchSize = batchSize;
+        this.pollAwaitTimeMillis = pollAwaitTimeMillis;
+        this.pollMaxBatchSize = pollMaxBatchSize;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.snapshotEnabled = snapshotEnabled;
+        this.splitSizeMB = splitSizeMB;
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        this.fullChangelog = fullChangelog;
+        this.perShardChangeStreams = perShardChangeStreams;
+    }
+
+    public ConnectionString getConnectionString() {
+        return new ConnectionString(connectionString);
+    }
+
+    public String getDatabase() {
+        return database;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    /** The batch size of the cursors, 0 means the default batch size of the server. */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /** The maximum time to wait for the new changes of the change stream on each poll. */
+    public int getPollAwaitTimeMillis() {
+        return pollAwaitTimeMillis;
+    }
+
+    /** The maximum number of change stream documents put into the queue on each poll. */
+    public int getPollMaxBatchSize() {
+        return pollMaxBatchSize;
+    }
+
+    /**
+     * The interval of the heartbeats which carry the resume token of an idle change stream, 0 means
+     * the heartbeats are disabled.
+     */
+    public int getHeartbeatIntervalMillis() {
+        return heartbeatIntervalMillis;
+    }
+
+    @Override
+    public boolean isSnapshotEnabled() {
+        return snapshotEnabled;
+    }
+
+    /** The chunk size (in MB) of the collection snapshot. */
+    @Override
+    public int getSplitSize() {
+        return splitSizeMB;
+    }
+
+    @Override
+    public int getSplitMetaGroupSize() {
+        return splitMetaGroupSize;
+    }
+
+    /**
+     * Whether the change stream returns the pre-images and the post-images of the changed
+     * documents, so the full changelog is produced.
+     */
+    public boolean isFullChangelog() {
+        return fullChangelog;
+    }
+
+    /**
+     * Whether the changes of a sharded cluster are read by the change streams of the shards, each
+     * shard is read by a separate stream split.
+     */
+    public boolean isPerShardChangeStreams() {
+        return perShardChangeStreams;
+    }
+
+    @Override
+    public boolean isIncludeSchemaChanges() {
+        return false;
+    }
+
+    /** The collections have no schema, there is no debezium connector behind the source. */
+    @Override
+    public Configuration getDbzConfiguration() {
+        return Configuration.empty();
+    }
+}
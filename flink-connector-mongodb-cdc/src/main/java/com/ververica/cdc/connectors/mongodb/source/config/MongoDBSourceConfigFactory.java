@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.config;
+
+import org.apache.flink.annotation.Internal;
+
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoUtils;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+
+import static com.ververica.cdc.connectors.mongodb.MongoDBSource.POLL_AWAIT_TIME_MILLIS_DEFAULT;
+import static com.ververica.cdc.connectors.mongodb.MongoDBSource.POLL_MAX_BATCH_SIZE_DEFAULT;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.CHUNK_META_GROUP_SIZE;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_FULL_CHANGELOG;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED;
+import static org.apache.flink.util.Preconditions.checkArgument;
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** A factory to construct {@link MongoDBSourceConfig}. */
+@Internal
+public class MongoDBSourceConfigFactory implements SourceConfig.Factory<MongoDBSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    private String hosts;
+    private String username;
+    private String password;
+    private String connectionOptions;
+    private String database;
+    private String collection;
+    private int batchSize = 0;
+    private int pollAwaitTimeMillis = POLL_AWAIT_TIME_MILLIS_DEFAULT;
+    private int pollMaxBatchSize = POLL_MAX_BATCH_SIZE_DEFAULT;
+    private int heartbeatIntervalMillis = 0;
+    private boolean snapshotEnabled = true;
+    private int splitSizeMB = SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB.defaultValue();
+    private int splitMetaGroupSize = CHUNK_META_GROUP_SIZE.defaultValue();
+    private boolean fullChangelog = SCAN_FULL_CHANGELOG.defaultValue();
+    private boolean perShardChangeStreams = SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED.defaultValue();
+
+    /** The comma-separated list of hostname and port pairs of mongodb servers. */
+    public MongoDBSourceConfigFactory hosts(String hosts) {
+        this.hosts = hosts;
+        return this;
+    }
+
+    /** Name of the database user to be used when connecting to MongoDB. */
+    public MongoDBSourceConfigFactory username(String username) {
+        this.username = username;
+        return this;
+    }
+
+    /** Password to be used when connecting to MongoDB. */
+    public MongoDBSourceConfigFactory password(String password) {
+        this.password = password;
+        return this;
+    }
+
+    /**
+     * Ampersand (i.e. &) separated MongoDB connection options eg
+     * replicaSet=test&connectTimeoutMS=300000
+     */
+    public MongoDBSourceConfigFactory connectionOptions(String connectionOptions) {
+        this.connectionOptions = connectionOptions;
+        return this;
+    }
+
+    /** Name of the database to watch for changes. */
+    public MongoDBSourceConfigFactory database(String database) {
+        this.database = database;
+        return this;
+    }
+
+    /** Name of the collection in the database to watch for changes. */
+    public MongoDBSourceConfigFactory collection(String collection) {
+        this.collection = collection;
+        return this;
+    }
+
+    /** The cursor batch size. Default: 0, i.e. the default batch size of the server. */
+    public MongoDBSourceConfigFactory batchSize(int batchSize) {
+        checkArgument(batchSize >= 0);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /** The amount of time to wait before checking for new results on the change stream. */
+    public MongoDBSourceConfigFactory pollAwaitTimeMillis(int pollAwaitTimeMillis) {
+        checkArgument(pollAwaitTimeMillis > 0);
+        this.pollAwaitTimeMillis = pollAwaitTimeMillis;
+        return this;
+    }
+
+    /** Maximum number of change stream documents to include in a single batch when polling. */
+    public MongoDBSourceConfigFactory pollMaxBatchSize(int pollMaxBatchSize) {
+        checkArgument(pollMaxBatchSize > 0);
+        this.pollMaxBatchSize = pollMaxBatchSize;
+        return this;
+    }
+
+    /**
+     * The length of time in milliseconds between sending heartbeat messages which contain the post
+     * batch resume token of an idle change stream. Use 0 to disable.
+     */
+    public MongoDBSourceConfigFactory heartbeatIntervalMillis(int heartbeatIntervalMillis) {
+        checkArgument(heartbeatIntervalMillis >= 0);
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        return this;
+    }
+
+    /** Whether to copy the existing documents of the collection before reading the changes. */
+    public MongoDBSourceConfigFactory copyExisting(boolean copyExisting) {
+        this.snapshotEnabled = copyExisting;
+        return this;
+    }
+
+    /** The chunk size (in MB) of the collection snapshot. */
+    public MongoDBSourceConfigFactory splitSizeMB(int splitSizeMB) {
+        checkArgument(splitSizeMB > 0);
+        this.splitSizeMB = splitSizeMB;
+        return this;
+    }
+
+    /**
+     * The group size of split meta, if the meta size exceeds the group size, the meta will be will
+     * be divided into multiple groups.
+     */
+    public MongoDBSourceConfigFactory splitMetaGroupSize(int splitMetaGroupSize) {
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        return this;
+    }
+
+    /**
+     * Whether to read the pre-images and the post-images of the changed documents from the change
+     * stream to produce the full changelog, it requires MongoDB 6.0 or later.
+     */
+    public MongoDBSourceConfigFactory fullChangelog(boolean fullChangelog) {
+        this.fullChangelog = fullChangelog;
+        return this;
+    }
+
+    /**
+     * Whether to read the changes of a sharded cluster by the change streams of the shards, each
+     * shard is read by a separate stream split.
+     */
+    public MongoDBSourceConfigFactory perShardChangeStreams(boolean perShardChangeStreams) {
+        this.perShardChangeStreams = perShardChangeStreams;
+        return this;
+    }
+
+    @Override
+    public MongoDBSourceConfig create(int subtaskId) {
+        return new MongoDBSourceConfig(
+                MongoUtils.buildConnectionString(
+                                username, password, checkNotNull(hosts), connectionOptions)
+                        .getConnectionString(),
+                checkNotNull(database),
+                checkNotNull(collection),
+                batchSize,
+                pollAwaitTimeMillis,
+                pollMaxBatchSize,
+                heartbeatIntervalMillis,
+                snapshotEnabled,
+                splitSizeMB,
+                splitMetaGroupSize,
+                fullChangelog,
+                perShardChangeStreams);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.config;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.configuration.ConfigOption;
+import org.apache.flink.configuration.ConfigOptions;
+
+import com.ververica.cdc.connectors.mongodb.source.MongoDBIncrementalSource;
+
+/** Configurations for {@link MongoDBIncrementalSource}. */
+public class MongoDBSourceOptions {
+
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_ENABLED =
+            ConfigOptions.key("scan.incremental.snapshot.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Incremental snapshot is a new mechanism to copy the existing documents of a collection. "
+                                    + "Compared to the old copy mechanism, the incremental snapshot has many advantages, including:\n"
+                                    + "(1) source can be parallel during copying existing documents, \n"
+                                    + "(2) source can perform checkpoints in the chunk granularity during copying existing documents, \n"
+                                    + "(3) source can resume the copy from the unfinished chunks after failover.\n"
+                                    + "The changes of documents during the copy are read back from the change stream, "
+                                    + "so the oplog should retain the changes of the longest chunk copy.");
+
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.size.mb")
+                    .intType()
+                    .defaultValue(64)
+                    .withDescription(
+                            "The chunk size (in MB) of the collection snapshot, the captured collection is split into "
+                                    + "multiple chunks by the '_id' ranges when copying the existing documents.");
+
+    public static final ConfigOption<Boolean> SCAN_FULL_CHANGELOG =
+            ConfigOptions.key("scan.full-changelog")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read the pre-images of the changed documents from the change stream and "
+                                    + "produce the full changelog (+I/-U/+U/-D), so the planner doesn't need to "
+                                    + "normalize the upsert changelog in state. It requires MongoDB 6.0 or later, "
+                                    + "the incremental snapshot enabled and the 'changeStreamPreAndPostImages' "
+                                    + "option enabled on the captured collection.");
+
+    public static final ConfigOption<Boolean> SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED =
+            ConfigOptions.key("scan.per-shard-change-streams.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read the changes of a sharded cluster by the change streams of the shards "
+                                    + "instead of the single change stream of mongos. Each shard is read by a separate "
+                                    + "stream split which is assigned to a different reader and checkpoints the resume "
+                                    + "token of its shard. The shards are connected directly by the hosts of their "
+                                    + "replica sets, so the user should exist on the shards as well. The records carry "
+                                    + "the cluster time of the changes as timestamps, a monotonous watermark strategy "
+                                    + "orders the changes across the shards, and the heartbeats advance the watermarks "
+                                    + "of the idle shards. It requires the incremental snapshot enabled.");
+
+    // ----------------------------------------------------------------------------
+    // experimental options, won't add them to documentation
+    // ----------------------------------------------------------------------------
+    @Experimental
+    public static final ConfigOption<Integer> CHUNK_META_GROUP_SIZE =
+            ConfigOptions.key("chunk-meta.group.size")
+                    .intType()
+                    .defaultValue(1000)
+                    .withDescription(
+                            "The group size of chunk meta, if the meta size exceeds the group size, the meta will be will be divided into multiple groups.");
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.dialect;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoUtils;
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkSplitter;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import io.debezium.relational.TableId;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@link ChunkSplitter} of MongoDB, it splits the collection into chunks by the ranges of
+ * '_id', the boundaries of chunks are documents like {@code {_id: <value>}}.
+ *
+ * <p>The boundaries are the split points of the 'splitVector' command, which are calculated from
+ * the '_id' index by the server. If the command is not available, e.g. the source connects to a
+ * mongos or the user isn't authorized, the boundaries are sampled by the '$sample' aggregation.
+ */
+public class MongoDBChunkSplitter implements ChunkSplitter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MongoDBChunkSplitter.class);
+
+    /** The type of split key of the collections, the boundaries are compared by the server. */
+    public static final RowType ID_SPLIT_TYPE =
+            (RowType) DataTypes.ROW(DataTypes.FIELD("_id", DataTypes.STRING())).getLogicalType();
+
+    private static final String ID_FIELD = "_id";
+    private static final BsonDocument ID_INDEX = new BsonDocument(ID_FIELD, new BsonInt32(1));
+    private static final int SAMPLES_PER_CHUNK = 10;
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    private final MongoDBSourceConfig sourceConfig;
+
+    public MongoDBChunkSplitter(MongoDBSourceConfig sourceConfig) {
+        this.sourceConfig = sourceConfig;
+    }
+
+    @Override
+    public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+        LOG.info("Start splitting collection {} into chunks...", tableId);
+        long start = System.currentTimeMillis();
+        final List<BsonDocument> boundaries;
+        try (MongoClient client = MongoUtils.createClient(sourceConfig)) {
+            boundaries = splitCollection(client.getDatabase(tableId.catalog()), tableId.table());
+        }
+        final List<SnapshotSplit> splits = new ArrayList<>(boundaries.size() + 1);
+        Object[] chunkStart = null;
+        for (BsonDocument boundary : boundaries) {
+            Object[] chunkEnd = new Object[] {boundary};
+            splits.add(createSplit(tableId, splits.size(), chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        splits.add(createSplit(tableId, splits.size(), chunkStart, null));
+        LOG.info(
+                "Split collection {} into {} chunks, time cost: {}ms.",
+                tableId,
+                splits.size(),
+                System.currentTimeMillis() - start);
+        return splits;
+    }
+
+    private List<BsonDocument> splitCollection(MongoDatabase database, String collection) {
+        final BsonDocument collStats =
+                database.runCommand(
+                        new BsonDocument("collStats", new BsonString(collection)),
+                        BsonDocument.class);
+        final long count = collStats.getNumber("count", new BsonInt32(0)).longValue();
+        final long size = collStats.getNumber("size", new BsonInt32(0)).longValue();
+        final long chunkBytes = sourceConfig.getSplitSize() * BYTES_PER_MB;
+        if (count == 0 || size <= chunkBytes) {
+            return Collections.emptyList();
+        }
+        try {
+            return splitVector(database, collection);
+        } catch (MongoCommandException e) {
+            LOG.info(
+                    "The splitVector command is not available ({}), sample the boundaries of chunks.",
+                    e.getErrorMessage());
+            int chunks =
+                    (int) Math.min(Integer.MAX_VALUE / SAMPLES_PER_CHUNK, size / chunkBytes + 1);
+            return sampleBoundaries(database, collection, chunks);
+        }
+    }
+
+    private List<BsonDocument> splitVector(MongoDatabase database, String collection) {
+        final BsonDocument command =
+                new BsonDocument(
+                                "splitVector",
+                                new BsonString(database.getName() + "." + collection))
+                        .append("keyPattern", ID_INDEX)
+                        .append("maxChunkSize", new BsonInt32(sourceConfig.getSplitSize()));
+        final List<BsonDocument> boundaries = new ArrayList<>();
+        for (BsonValue splitKey :
+                database.runCommand(command, BsonDocument.class).getArray("splitKeys")) {
+            boundaries.add(splitKey.asDocument());
+        }
+        return boundaries;
+    }
+
+    private List<BsonDocument> sampleBoundaries(
+            MongoDatabase database, String collection, int chunks) {
+        final List<BsonDocument> samples =
+                database.getCollection(collection, BsonDocument.class)
+                        .aggregate(
+                                Arrays.asList(
+                                        Aggregates.sample(chunks * SAMPLES_PER_CHUNK),
+                                        Aggregates.project(Projections.include(ID_FIELD)),
+                                        Aggregates.sort(Sorts.ascending(ID_FIELD))))
+                        .allowDiskUse(true)
+                        .into(new ArrayList<>());
+        final List<BsonDocument> boundaries = new ArrayList<>();
+        for (int i = SAMPLES_PER_CHUNK; i < samples.size(); i += SAMPLES_PER_CHUNK) {
+            final BsonDocument boundary = samples.get(i);
+            // the sampled documents may be duplicated
+            if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                boundaries.add(boundary);
+            }
+        }
+        return boundaries;
+    }
+
+    private static SnapshotSplit createSplit(
+            TableId tableId, int chunkId, Object[] chunkStart, Object[] chunkEnd) {
+        return new SnapshotSplit(
+                tableId,
+                tableId.toString() + ":" + chunkId,
+                ID_SPLIT_TYPE,
+                chunkStart,
+                chunkEnd,
+                null,
+                Collections.emptyMap());
+    }
+}
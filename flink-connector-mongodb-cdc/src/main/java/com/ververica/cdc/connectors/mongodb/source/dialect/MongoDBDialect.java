@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.dialect;
+
+import com.mongodb.client.MongoClient;
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import com.ververica.cdc.connectors.mongodb.source.fetch.MongoDBFetchTaskContext;
+import com.ververica.cdc.connectors.mongodb.source.fetch.MongoDBScanFetchTask;
+import com.ververica.cdc.connectors.mongodb.source.fetch.MongoDBStreamFetchTask;
+import com.ververica.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoUtils;
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkSplitter;
+import com.ververica.cdc.debezium.source.dialect.DataSourceDialect;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.ververica.cdc.debezium.source.assigner.StreamSplitAssigner.STREAM_SPLIT_ID;
+
+/**
+ * The {@link DataSourceDialect} of MongoDB, the captured collection is split into chunks by the
+ * ranges of '_id' and the resume tokens of the change stream are used as the watermarks.
+ *
+ * <p>The collections are schemaless, so there are no table schemas in the splits.
+ *
+ * <p>If the per-shard change streams are enabled, the changes of a sharded cluster are read by a
+ * stream split for each shard, which reads the change stream of the shard's replica set directly.
+ */
+public class MongoDBDialect implements DataSourceDialect<MongoDBSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOG = LoggerFactory.getLogger(MongoDBDialect.class);
+
+    /** The prefix of the ids of the stream splits of the shards, which ends with the shard id. */
+    private static final String SHARD_STREAM_SPLIT_ID_PREFIX = STREAM_SPLIT_ID + ":";
+
+    @Override
+    public String getName() {
+        return "MongoDB";
+    }
+
+    /** The id of the captured collection, i.e. {@code <database>.<collection>}. */
+    public static TableId collectionId(MongoDBSourceConfig sourceConfig) {
+        return new TableId(sourceConfig.getDatabase(), null, sourceConfig.getCollection());
+    }
+
+    @Override
+    public List<TableId> discoverDataCollections(MongoDBSourceConfig sourceConfig) {
+        return Collections.singletonList(collectionId(sourceConfig));
+    }
+
+    @Override
+    public Map<TableId, TableChange> discoverDataCollectionSchemas(
+            MongoDBSourceConfig sourceConfig) {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Offset displayCurrentOffset(MongoDBSourceConfig sourceConfig) {
+        try (MongoClient client = MongoUtils.createClient(sourceConfig)) {
+            return MongoUtils.currentChangeStreamOffset(client, sourceConfig);
+        }
+    }
+
+    @Override
+    public boolean isDataCollectionIdCaseSensitive(MongoDBSourceConfig sourceConfig) {
+        return true;
+    }
+
+    @Override
+    public ChunkSplitter createChunkSplitter(MongoDBSourceConfig sourceConfig) {
+        return new MongoDBChunkSplitter(sourceConfig);
+    }
+
+    /**
+     * Splits the stream split into the stream splits of the shards if the per-shard change streams
+     * are enabled. The resume tokens of mongos can't resume the change streams of the shards, so
+     * the shards start at the cluster time of the starting offset, and the changes before the
+     * starting offset are filtered by the high watermarks of the snapshot splits.
+     */
+    @Override
+    public List<StreamSplit> splitStream(
+            StreamSplit streamSplit, MongoDBSourceConfig sourceConfig) {
+        if (!sourceConfig.isPerShardChangeStreams()) {
+            return Collections.singletonList(streamSplit);
+        }
+        final Set<String> shards;
+        try (MongoClient client = MongoUtils.createClient(sourceConfig)) {
+            shards = MongoUtils.listShards(client).keySet();
+        }
+        if (shards.isEmpty()) {
+            LOG.warn("The cluster isn't sharded, the changes are read by a single change stream.");
+            return Collections.singletonList(streamSplit);
+        }
+        final ChangeStreamOffset startingOffset =
+                ChangeStreamOffset.ofTimestamp(
+                        ((ChangeStreamOffset) streamSplit.getStartingOffset()).getTimestamp());
+        final List<StreamSplit> shardStreamSplits = new ArrayList<>();
+        for (String shard : shards) {
+            shardStreamSplits.add(
+                    new StreamSplit(
+                            SHARD_STREAM_SPLIT_ID_PREFIX + shard,
+                            startingOffset,
+                            streamSplit.getEndingOffset(),
+                            streamSplit.getFinishedSnapshotSplitInfos(),
+                            streamSplit.getTableSchemas(),
+                            streamSplit.getTotalFinishedSplitSize()));
+        }
+        LOG.info("The change stream is split into the change streams of shards {}.", shards);
+        return shardStreamSplits;
+    }
+
+    /** Returns the shard read by the stream split, or null if the split reads the whole cluster. */
+    @Nullable
+    public static String getShard(SourceSplitBase split) {
+        final String splitId = split.splitId();
+        if (split.isStreamSplit() && splitId.startsWith(SHARD_STREAM_SPLIT_ID_PREFIX)) {
+            return splitId.substring(SHARD_STREAM_SPLIT_ID_PREFIX.length());
+        }
+        return null;
+    }
+
+    @Override
+    public FetchTask.Context createFetchTaskContext(
+            SourceSplitBase sourceSplitBase, MongoDBSourceConfig sourceConfig) {
+        return new MongoDBFetchTaskContext(sourceConfig);
+    }
+
+    @Override
+    public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
+        if (sourceSplitBase.isSnapshotSplit()) {
+            return new MongoDBScanFetchTask(sourceSplitBase.asSnapshotSplit());
+        } else {
+            return new MongoDBStreamFetchTask(sourceSplitBase.asStreamSplit());
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.fetch;
+
+import org.apache.flink.table.types.logical.RowType;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import com.ververica.cdc.connectors.mongodb.source.dialect.MongoDBDialect;
+import com.ververica.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import com.ververica.cdc.connectors.mongodb.source.utils.BsonUtils;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoUtils;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.watermark.WatermarkDispatcher;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isHighWatermarkEvent;
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isLowWatermarkEvent;
+import static org.apache.flink.util.Preconditions.checkState;
+
+/** The context of the MongoDB fetch tasks, it holds the client and the queue of the reader. */
+public class MongoDBFetchTaskContext implements FetchTask.Context {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    private static final String DELETE_OPERATION = "delete";
+    private static final String ID_FIELD = "_id";
+
+    private final MongoDBSourceConfig sourceConfig;
+    private final TableId collectionId;
+    private final Map<String, String> sourcePartition;
+    private final SchemaNameAdjuster schemaNameAdjuster;
+
+    private MongoClient client;
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private WatermarkDispatcher watermarkDispatcher;
+
+    public MongoDBFetchTaskContext(MongoDBSourceConfig sourceConfig) {
+        this.sourceConfig = sourceConfig;
+        this.collectionId = MongoDBDialect.collectionId(sourceConfig);
+        this.sourcePartition = MongoRecordUtils.sourcePartition(collectionId);
+        this.schemaNameAdjuster = SchemaNameAdjuster.create();
+    }
+
+    @Override
+    public void configure(SourceSplitBase sourceSplitBase) {
+        if (client == null) {
+            // the stream split of a shard reads the change stream of the shard directly
+            final String shard = MongoDBDialect.getShard(sourceSplitBase);
+            client =
+                    shard == null
+                            ? MongoUtils.createClient(sourceConfig)
+                            : MongoUtils.createShardClient(sourceConfig, shard);
+        }
+        // the snapshot split is polled after the whole split is read, don't block the reading
+        final int queueSize =
+                sourceSplitBase.isSnapshotSplit()
+                        ? Integer.MAX_VALUE
+                        : sourceConfig.getPollMaxBatchSize() * 4;
+        this.queue =
+                new ChangeEventQueue.Builder<DataChangeEvent>()
+                        .pollInterval(POLL_INTERVAL)
+                        .maxBatchSize(sourceConfig.getPollMaxBatchSize())
+                        .maxQueueSize(queueSize)
+                        .loggingContextSupplier(
+                                () ->
+                                        LoggingContext.forConnector(
+                                                "MongoDB",
+                                                "mongodb-cdc-connector",
+                                                "mongodb-cdc-connector-task"))
+                        .build();
+        this.watermarkDispatcher = new WatermarkDispatcher(sourcePartition, getTopic(), queue);
+    }
+
+    public MongoDBSourceConfig getSourceConfig() {
+        return sourceConfig;
+    }
+
+    public TableId getCollectionId() {
+        return collectionId;
+    }
+
+    public Map<String, String> getSourcePartition() {
+        return sourcePartition;
+    }
+
+    public String getTopic() {
+        return collectionId.toString();
+    }
+
+    public MongoClient getClient() {
+        return client;
+    }
+
+    public MongoCollection<BsonDocument> getCollection() {
+        return MongoUtils.getCollection(client, sourceConfig);
+    }
+
+    public WatermarkDispatcher getWatermarkDispatcher() {
+        return watermarkDispatcher;
+    }
+
+    @Override
+    public ChangeEventQueue<DataChangeEvent> getQueue() {
+        return queue;
+    }
+
+    @Override
+    public SchemaNameAdjuster getSchemaNameAdjuster() {
+        return schemaNameAdjuster;
+    }
+
+    @Override
+    public Tables.TableFilter getTableFilter() {
+        return collectionId::equals;
+    }
+
+    @Override
+    public TableId getTableId(SourceRecord record) {
+        return MongoRecordUtils.getTableId(record);
+    }
+
+    @Override
+    public Offset getStreamOffset(SourceRecord record) {
+        return new ChangeStreamOffset(Offset.toStringMap(record.sourceOffset()));
+    }
+
+    /**
+     * The collections are split by the '_id' ranges in the BSON order, which can't be described by
+     * a row type, see {@link #getSplitKey} and {@link #splitKeyRangeContains}.
+     */
+    @Nullable
+    @Override
+    public RowType getSplitKeyType(TableId tableId) {
+        return null;
+    }
+
+    /** Returns the document key of the change event, whose '_id' is in a split range. */
+    @Override
+    public Object[] getSplitKey(TableId tableId, SourceRecord record) {
+        return new Object[] {BsonDocument.parse(MongoRecordUtils.getDocumentKey(record))};
+    }
+
+    /**
+     * Whether the '_id' of the document key is in the '_id' range of a snapshot split, the ranges
+     * are compared in the BSON order, so the change events of the copied documents are emitted
+     * exactly once.
+     */
+    @Override
+    public boolean splitKeyRangeContains(Object[] key, Object[] splitStart, Object[] splitEnd) {
+        final BsonValue id = ((BsonDocument) key[0]).get(ID_FIELD);
+        return (splitStart == null
+                        || BsonUtils.compareBsonValue(
+                                        id, ((BsonDocument) splitStart[0]).get(ID_FIELD))
+                                >= 0)
+                && (splitEnd == null
+                        || BsonUtils.compareBsonValue(
+                                        id, ((BsonDocument) splitEnd[0]).get(ID_FIELD))
+                                < 0);
+    }
+
+    @Override
+    public boolean isDataChangeRecord(SourceRecord record) {
+        return MongoRecordUtils.isDataChangeRecord(record);
+    }
+
+    /**
+     * Normalizes the records of a snapshot split, the records after the high watermark are the
+     * documents changed between the watermarks which are read again by the {@link
+     * MongoDBScanFetchTask}, they replace the copied documents of the same document key.
+     */
+    @Override
+    public List<SourceRecord> normalizeSplitRecords(
+            SnapshotSplit snapshotSplit, List<SourceRecord> sourceRecords) {
+        final List<SourceRecord> normalizedRecords = new ArrayList<>();
+        if (sourceRecords.isEmpty()) {
+            return normalizedRecords;
+        }
+        final SourceRecord lowWatermark = sourceRecords.get(0);
+        checkState(
+                isLowWatermarkEvent(lowWatermark),
+                String.format(
+                        "The first record should be low watermark signal event, but is %s",
+                        lowWatermark));
+        final Map<String, SourceRecord> documents = new LinkedHashMap<>();
+        SourceRecord highWatermark = null;
+        for (int i = 1; i < sourceRecords.size(); i++) {
+            final SourceRecord record = sourceRecords.get(i);
+            if (isHighWatermarkEvent(record)) {
+                highWatermark = record;
+            } else if (isDataChangeRecord(record)) {
+                final String documentKey = MongoRecordUtils.getDocumentKey(record);
+                if (DELETE_OPERATION.equals(MongoRecordUtils.getOperationType(record))) {
+                    documents.remove(documentKey);
+                } else {
+                    // the documents read again after the high watermark are the latest versions
+                    documents.put(documentKey, record);
+                }
+            }
+        }
+        checkState(
+                highWatermark != null,
+                String.format(
+                        "The snapshot records of split %s should end with high watermark signal event",
+                        snapshotSplit.splitId()));
+        normalizedRecords.add(lowWatermark);
+        // emit the high watermark ahead, the emitted records are consistent to it
+        normalizedRecords.add(highWatermark);
+        normalizedRecords.addAll(documents.values());
+        return normalizedRecords;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+    }
+}
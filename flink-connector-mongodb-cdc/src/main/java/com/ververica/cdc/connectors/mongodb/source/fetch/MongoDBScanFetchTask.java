@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.fetch;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.ververica.cdc.connectors.mongodb.internal.MongoDBEnvelope;
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import com.ververica.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoUtils;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.watermark.WatermarkDispatcher;
+import com.ververica.cdc.debezium.source.watermark.WatermarkKind;
+import io.debezium.pipeline.DataChangeEvent;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The task to read a snapshot split of MongoDB, i.e. to copy the documents of an '_id' range.
+ *
+ * <p>The task copies the documents of split between the low and high watermarks, and then reads the
+ * change stream from the low watermark to the high watermark to find the documents of the split
+ * range changed during the copy. The changed documents replace the copied ones, the changed
+ * documents which don't exist anymore are deleted from the split, see {@link #backfill}.
+ *
+ * <p>The range of split is queried by the '_id' index bounds instead of the comparison operators,
+ * so the documents of all the BSON types of '_id' are read in the same order as the chunk
+ * boundaries which are computed from the index.
+ */
+public class MongoDBScanFetchTask implements FetchTask<SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MongoDBScanFetchTask.class);
+
+    private static final String ID_FIELD = "_id";
+    private static final BsonDocument ID_INDEX = new BsonDocument(ID_FIELD, new BsonInt32(1));
+    // the ids of a lookup query are far below the max BSON document size of 16MB
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final SnapshotSplit split;
+    private volatile boolean taskRunning = false;
+
+    public MongoDBScanFetchTask(SnapshotSplit split) {
+        this.split = split;
+    }
+
+    @Override
+    public void execute(Context context) throws Exception {
+        final MongoDBFetchTaskContext ctx = (MongoDBFetchTaskContext) context;
+        taskRunning = true;
+        try {
+            readSplit(ctx);
+        } finally {
+            taskRunning = false;
+        }
+    }
+
+    private void readSplit(MongoDBFetchTaskContext ctx) throws Exception {
+        final MongoDBSourceConfig sourceConfig = ctx.getSourceConfig();
+        final WatermarkDispatcher watermarkDispatcher = ctx.getWatermarkDispatcher();
+        final MongoCollection<BsonDocument> collection = ctx.getCollection();
+
+        final ChangeStreamOffset lowWatermark =
+                MongoUtils.currentChangeStreamOffset(ctx.getClient(), sourceConfig);
+        LOG.info(
+                "Snapshot step 1 - Determining low watermark {} for split {}", lowWatermark, split);
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), lowWatermark, WatermarkKind.LOW);
+
+        LOG.info("Snapshot step 2 - Copying documents");
+        long copied = 0L;
+        try (MongoCursor<BsonDocument> cursor = boundedFind(collection.find(), sourceConfig)) {
+            while (cursor.hasNext() && taskRunning) {
+                enqueue(
+                        ctx,
+                        MongoRecordUtils.createSnapshotRecord(
+                                ctx.getSourcePartition(),
+                                lowWatermark,
+                                ctx.getTopic(),
+                                ctx.getCollectionId(),
+                                cursor.next()));
+                copied++;
+            }
+        }
+        LOG.info("Finished copying {} documents of split {}", copied, split);
+
+        final ChangeStreamOffset highWatermark =
+                MongoUtils.currentChangeStreamOffset(ctx.getClient(), sourceConfig);
+        LOG.info(
+                "Snapshot step 3 - Determining high watermark {} for split {}",
+                highWatermark,
+                split);
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), highWatermark, WatermarkKind.HIGH);
+
+        if (highWatermark.isAfter(lowWatermark)) {
+            LOG.info(
+                    "Snapshot step 4 - Back fill the changes between {} and {} for split {}",
+                    lowWatermark,
+                    highWatermark,
+                    split);
+            backfill(ctx, lowWatermark, highWatermark);
+        }
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), highWatermark, WatermarkKind.END);
+    }
+
+    /**
+     * Back fills the documents of the split range changed between the watermarks, they are emitted
+     * after the high watermark and replace the copied documents, the deleted documents are emitted
+     * as deleted.
+     *
+     * <p>The full changelog is exact, so the documents are the post-images of the last changes
+     * until the high watermark, which are the versions of the documents on the high watermark. The
+     * documents read again from the collection may contain the changes after the high watermark,
+     * which are emitted again by the stream split. Otherwise, the changed documents are read again
+     * in batches of ids, the upsert changelog tolerates the changes emitted twice.
+     */
+    private void backfill(
+            MongoDBFetchTaskContext ctx,
+            ChangeStreamOffset lowWatermark,
+            ChangeStreamOffset highWatermark)
+            throws InterruptedException {
+        final MongoDBSourceConfig sourceConfig = ctx.getSourceConfig();
+        final Map<BsonValue, BsonDocument> changedDocuments = new LinkedHashMap<>();
+        if (sourceConfig.isFullChangelog()) {
+            try (MongoChangeStreamCursor<RawBsonDocument> cursor =
+                    MongoUtils.openFullChangelogCursor(
+                            ctx.getClient(), sourceConfig, lowWatermark)) {
+                readChanges(
+                        ctx,
+                        cursor,
+                        highWatermark,
+                        (id, changeStreamDocument) ->
+                                // the deleted document has no post-image
+                                changedDocuments.put(
+                                        id,
+                                        changeStreamDocument.getDocument(
+                                                MongoDBEnvelope.FULL_DOCUMENT_FIELD, null)));
+            }
+        } else {
+            try (MongoChangeStreamCursor<RawBsonDocument> cursor =
+                    MongoUtils.openChangeStreamCursor(
+                            ctx.getCollection(), sourceConfig, lowWatermark)) {
+                readChanges(
+                        ctx,
+                        cursor,
+                        highWatermark,
+                        (id, changeStreamDocument) -> changedDocuments.put(id, null));
+            }
+            lookupDocuments(ctx.getCollection(), sourceConfig, changedDocuments);
+        }
+
+        for (Map.Entry<BsonValue, BsonDocument> changedDocument : changedDocuments.entrySet()) {
+            enqueue(
+                    ctx,
+                    changedDocument.getValue() == null
+                            ? MongoRecordUtils.createSnapshotDeleteRecord(
+                                    ctx.getSourcePartition(),
+                                    highWatermark,
+                                    ctx.getTopic(),
+                                    ctx.getCollectionId(),
+                                    changedDocument.getKey())
+                            : MongoRecordUtils.createSnapshotRecord(
+                                    ctx.getSourcePartition(),
+                                    highWatermark,
+                                    ctx.getTopic(),
+                                    ctx.getCollectionId(),
+                                    changedDocument.getValue()));
+        }
+    }
+
+    /**
+     * Reads the changes after the low watermark until the high watermark, the changes of the
+     * documents out of the split range are skipped, so the changes kept are bounded by the
+     * documents of the split.
+     */
+    private void readChanges(
+            MongoDBFetchTaskContext ctx,
+            MongoChangeStreamCursor<RawBsonDocument> cursor,
+            ChangeStreamOffset highWatermark,
+            BiConsumer<BsonValue, RawBsonDocument> changeConsumer) {
+        while (taskRunning) {
+            final RawBsonDocument changeStreamDocument = cursor.tryNext();
+            if (changeStreamDocument == null) {
+                final BsonDocument resumeToken = cursor.getResumeToken();
+                // the servers without post batch resume token have no more changes to read
+                if (resumeToken == null
+                        || ChangeStreamOffset.ofResumeToken(resumeToken, null)
+                                .isAtOrAfter(highWatermark)) {
+                    break;
+                }
+                continue;
+            }
+            final ChangeStreamOffset offset =
+                    ChangeStreamOffset.ofResumeToken(
+                            changeStreamDocument.getDocument(ID_FIELD),
+                            changeStreamDocument.getTimestamp(
+                                    MongoDBEnvelope.CLUSTER_TIME_FIELD, null));
+            if (offset.isAfter(highWatermark)) {
+                break;
+            }
+            final BsonDocument documentKey =
+                    changeStreamDocument.getDocument(MongoDBEnvelope.DOCUMENT_KEY_FIELD, null);
+            if (documentKey != null
+                    && documentKey.containsKey(ID_FIELD)
+                    && ctx.splitKeyRangeContains(
+                            new Object[] {documentKey},
+                            split.getSplitStart(),
+                            split.getSplitEnd())) {
+                changeConsumer.accept(documentKey.get(ID_FIELD), changeStreamDocument);
+            }
+        }
+    }
+
+    /**
+     * Reads the current versions of the changed documents in batches of ids, the documents not
+     * found are left as deleted.
+     */
+    private void lookupDocuments(
+            MongoCollection<BsonDocument> collection,
+            MongoDBSourceConfig sourceConfig,
+            Map<BsonValue, BsonDocument> changedDocuments) {
+        final List<BsonValue> ids = new ArrayList<>(changedDocuments.keySet());
+        for (int start = 0; start < ids.size(); start += LOOKUP_BATCH_SIZE) {
+            final List<BsonValue> batch =
+                    ids.subList(start, Math.min(start + LOOKUP_BATCH_SIZE, ids.size()));
+            try (MongoCursor<BsonDocument> cursor =
+                    boundedFind(collection.find(Filters.in(ID_FIELD, batch)), sourceConfig)) {
+                while (cursor.hasNext()) {
+                    final BsonDocument document = cursor.next();
+                    changedDocuments.put(document.get(ID_FIELD), document);
+                }
+            }
+        }
+    }
+
+    private MongoCursor<BsonDocument> boundedFind(
+            FindIterable<BsonDocument> find, MongoDBSourceConfig sourceConfig) {
+        if (sourceConfig.getBatchSize() > 0) {
+            find.batchSize(sourceConfig.getBatchSize());
+        }
+        if (split.getSplitStart() != null || split.getSplitEnd() != null) {
+            find.hint(ID_INDEX);
+        }
+        if (split.getSplitStart() != null) {
+            find.min((BsonDocument) split.getSplitStart()[0]);
+        }
+        if (split.getSplitEnd() != null) {
+            find.max((BsonDocument) split.getSplitEnd()[0]);
+        }
+        return find.iterator();
+    }
+
+    private static void enqueue(MongoDBFetchTaskContext ctx, SourceRecord record)
+            throws InterruptedException {
+        ctx.getQueue().enqueue(new DataChangeEvent(record));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskRunning;
+    }
+
+    @Override
+    public SnapshotSplit getSplit() {
+        return split;
+    }
+
+    @Override
+    public void stop() {
+        taskRunning = false;
+    }
+}
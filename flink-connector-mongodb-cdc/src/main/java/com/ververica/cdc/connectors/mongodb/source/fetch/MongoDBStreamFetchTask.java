@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.fetch;
+
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import com.ververica.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoUtils;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.pipeline.DataChangeEvent;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The task to read the stream split of MongoDB from the change stream of the captured collection,
+ * the change stream is resumed after the resume token of the starting offset.
+ *
+ * <p>If the full changelog is enabled, the change stream returns the pre-images and the post-images
+ * of the changed documents instead of looking up the current documents.
+ *
+ * <p>If the heartbeats are enabled, the post batch resume token of the idle change stream is
+ * emitted as heartbeat, so the offset of the split keeps up with the oplog even if there are no
+ * changes of the captured collection.
+ */
+public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MongoDBStreamFetchTask.class);
+
+    private final StreamSplit split;
+    // the stream split is read until the task stops, it's running since created
+    private volatile boolean taskRunning = true;
+
+    public MongoDBStreamFetchTask(StreamSplit split) {
+        this.split = split;
+    }
+
+    @Override
+    public void execute(Context context) throws Exception {
+        final MongoDBFetchTaskContext ctx = (MongoDBFetchTaskContext) context;
+        final MongoDBSourceConfig sourceConfig = ctx.getSourceConfig();
+        final ChangeStreamOffset startingOffset = (ChangeStreamOffset) split.getStartingOffset();
+        final Offset endingOffset = split.getEndingOffset();
+        final boolean bounded =
+                endingOffset != null && !ChangeStreamOffset.NO_STOPPING_OFFSET.equals(endingOffset);
+        final long heartbeatIntervalMillis = sourceConfig.getHeartbeatIntervalMillis();
+        LOG.info("Start reading the change stream from {}", startingOffset);
+
+        long lastHeartbeatTime = System.currentTimeMillis();
+        try (MongoChangeStreamCursor<RawBsonDocument> cursor =
+                sourceConfig.isFullChangelog()
+                        ? MongoUtils.openFullChangelogCursor(
+                                ctx.getClient(), sourceConfig, startingOffset)
+                        : MongoUtils.openChangeStreamCursor(
+                                ctx.getCollection(), sourceConfig, startingOffset)) {
+            while (taskRunning) {
+                final RawBsonDocument changeStreamDocument = cursor.tryNext();
+                if (changeStreamDocument != null) {
+                    final SourceRecord record =
+                            MongoRecordUtils.createChangeRecord(
+                                    ctx.getSourcePartition(), ctx.getTopic(), changeStreamDocument);
+                    if (bounded && ctx.getStreamOffset(record).isAfter(endingOffset)) {
+                        break;
+                    }
+                    ctx.getQueue().enqueue(new DataChangeEvent(record));
+                    lastHeartbeatTime = System.currentTimeMillis();
+                    continue;
+                }
+                final BsonDocument resumeToken = cursor.getResumeToken();
+                if (resumeToken == null) {
+                    continue;
+                }
+                final ChangeStreamOffset idleOffset =
+                        ChangeStreamOffset.ofResumeToken(resumeToken, null);
+                if (bounded && idleOffset.isAtOrAfter(endingOffset)) {
+                    break;
+                }
+                final long now = System.currentTimeMillis();
+                if (heartbeatIntervalMillis > 0
+                        && now - lastHeartbeatTime >= heartbeatIntervalMillis) {
+                    ctx.getQueue()
+                            .enqueue(
+                                    new DataChangeEvent(
+                                            MongoRecordUtils.createHeartbeatRecord(
+                                                    ctx.getSourcePartition(),
+                                                    idleOffset,
+                                                    ctx.getTopic())));
+                    lastHeartbeatTime = now;
+                }
+            }
+        } finally {
+            taskRunning = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskRunning;
+    }
+
+    @Override
+    public StreamSplit getSplit() {
+        return split;
+    }
+
+    @Override
+    public void stop() {
+        taskRunning = false;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.offset;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A structure describes a position in the change stream of MongoDB, the positions are ordered by
+ * the cluster time of the oplog entries and then by the resume tokens of the same cluster time.
+ *
+ * <p>The offset without resume token, e.g. the operation time of a server before 4.0.7 which
+ * returns no post batch resume token, is resumed by the cluster time.
+ */
+public class ChangeStreamOffset extends Offset {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String RESUME_TOKEN_KEY = "resume_token";
+    public static final String TIMESTAMP_KEY = "timestamp";
+
+    public static final ChangeStreamOffset INITIAL_OFFSET = ofTimestamp(new BsonTimestamp(0L));
+    public static final ChangeStreamOffset NO_STOPPING_OFFSET =
+            ofTimestamp(new BsonTimestamp(Long.MAX_VALUE));
+
+    /** The hex encoded resume token (since 4.2) starts with the type byte of timestamp. */
+    private static final String RESUME_TOKEN_TIMESTAMP_PREFIX = "82";
+
+    private static final String RESUME_TOKEN_DATA_FIELD = "_data";
+
+    public ChangeStreamOffset(Map<String, String> offset) {
+        super(offset);
+    }
+
+    /** Creates the offset of the given resume token. */
+    public static ChangeStreamOffset ofResumeToken(
+            BsonDocument resumeToken, @Nullable BsonTimestamp clusterTime) {
+        BsonTimestamp timestamp = decodeTimestamp(resumeToken);
+        if (timestamp == null) {
+            timestamp = clusterTime == null ? new BsonTimestamp(0L) : clusterTime;
+        }
+        Map<String, String> offset = new HashMap<>();
+        offset.put(RESUME_TOKEN_KEY, resumeToken.toJson());
+        offset.put(TIMESTAMP_KEY, String.valueOf(timestamp.getValue()));
+        return new ChangeStreamOffset(offset);
+    }
+
+    /** Creates the offset of the given cluster time, which has no resume token. */
+    public static ChangeStreamOffset ofTimestamp(BsonTimestamp timestamp) {
+        Map<String, String> offset = new HashMap<>();
+        offset.put(TIMESTAMP_KEY, String.valueOf(timestamp.getValue()));
+        return new ChangeStreamOffset(offset);
+    }
+
+    /** Returns the resume token of the position, or null if it's positioned by cluster time. */
+    @Nullable
+    public BsonDocument getResumeToken() {
+        final String resumeToken = offset.get(RESUME_TOKEN_KEY);
+        return resumeToken == null ? null : BsonDocument.parse(resumeToken);
+    }
+
+    public BsonTimestamp getTimestamp() {
+        final String timestamp = offset.get(TIMESTAMP_KEY);
+        return new BsonTimestamp(timestamp == null ? 0L : Long.parseLong(timestamp));
+    }
+
+    /**
+     * Decodes the cluster time of the resume token, which is the first key of the hex encoded token
+     * data, or returns null if the token is not hex encoded, i.e. of servers before 4.2.
+     */
+    @Nullable
+    static BsonTimestamp decodeTimestamp(BsonDocument resumeToken) {
+        final String data = getTokenData(resumeToken);
+        if (data == null || data.length() < 18 || !data.startsWith(RESUME_TOKEN_TIMESTAMP_PREFIX)) {
+            return null;
+        }
+        try {
+            return new BsonTimestamp(Long.parseUnsignedLong(data.substring(2, 18), 16));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static String getTokenData(@Nullable BsonDocument resumeToken) {
+        if (resumeToken == null) {
+            return null;
+        }
+        final BsonValue data = resumeToken.get(RESUME_TOKEN_DATA_FIELD);
+        return data instanceof BsonString ? ((BsonString) data).getValue() : null;
+    }
+
+    @Override
+    public int compareTo(Offset that) {
+        final ChangeStreamOffset other = (ChangeStreamOffset) that;
+        final int timestampCompare =
+                Long.compare(getTimestamp().getValue(), other.getTimestamp().getValue());
+        if (timestampCompare != 0) {
+            return timestampCompare;
+        }
+        // the hex encoded token data of the same cluster time are ordered in binary order
+        final String data = getTokenData(getResumeToken());
+        final String otherData = getTokenData(other.getResumeToken());
+        if (data == null || otherData == null) {
+            return 0;
+        }
+        return data.compareTo(otherData);
+    }
+}
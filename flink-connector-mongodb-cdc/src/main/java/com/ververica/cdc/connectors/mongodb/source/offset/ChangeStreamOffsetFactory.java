@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.offset;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+
+import java.util.Map;
+
+/** The {@link OffsetFactory} of {@link ChangeStreamOffset}. */
+public class ChangeStreamOffsetFactory implements OffsetFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Offset newOffset(Map<String, String> offset) {
+        return new ChangeStreamOffset(offset);
+    }
+
+    @Override
+    public Offset createInitialOffset() {
+        return ChangeStreamOffset.INITIAL_OFFSET;
+    }
+
+    @Override
+    public Offset createNoStoppingOffset() {
+        return ChangeStreamOffset.NO_STOPPING_OFFSET;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.reader;
+
+import org.apache.flink.api.common.eventtime.Watermark;
+import org.apache.flink.api.connector.source.SourceOutput;
+
+import com.ververica.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import com.ververica.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.offset.OffsetFactory;
+import com.ververica.cdc.debezium.source.reader.IncrementalSourceRecordEmitter;
+import com.ververica.cdc.debezium.source.split.SourceSplitState;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.data.Envelope;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.isHeartbeatEvent;
+
+/**
+ * The {@link IncrementalSourceRecordEmitter} of the records of MongoDB change streams.
+ *
+ * <p>The changes of the stream splits are emitted with their cluster time as timestamps, and the
+ * heartbeats of a stream split emit the watermark of the cluster time of the idle change stream, so
+ * the watermarks order the changes across the stream splits of the shards.
+ */
+public class MongoDBRecordEmitter<T> extends IncrementalSourceRecordEmitter<T> {
+
+    public MongoDBRecordEmitter(
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            OffsetFactory offsetFactory) {
+        super(debeziumDeserializationSchema, offsetFactory);
+    }
+
+    @Override
+    public void emitRecord(
+            SourceRecord element, SourceOutput<T> output, SourceSplitState splitState)
+            throws Exception {
+        super.emitRecord(element, output, splitState);
+        if (isHeartbeatEvent(element) && splitState.isStreamSplitState()) {
+            // the changes of the same second may follow the post batch resume token
+            final ChangeStreamOffset offset =
+                    new ChangeStreamOffset(Offset.toStringMap(element.sourceOffset()));
+            final long clusterTimeMillis = offset.getTimestamp().getTime() * 1000L;
+            if (clusterTimeMillis > 0) {
+                output.emitWatermark(new Watermark(clusterTimeMillis - 1));
+            }
+        }
+    }
+
+    @Override
+    protected boolean isDataChangeRecord(SourceRecord element) {
+        return MongoRecordUtils.isDataChangeRecord(element);
+    }
+
+    /** The cluster time of the change, i.e. the 'ts_ms' of the source. */
+    @Override
+    protected long getEventTime(SourceRecord element) {
+        final Struct source = ((Struct) element.value()).getStruct(Envelope.FieldName.SOURCE);
+        return source.getInt64(AbstractSourceInfo.TIMESTAMP_KEY);
+    }
+}
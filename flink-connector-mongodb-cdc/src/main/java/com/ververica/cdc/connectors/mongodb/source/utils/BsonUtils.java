@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.utils;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Utilities to compare the {@link BsonValue}s in the order of MongoDB, see <a
+ * href="https://docs.mongodb.com/manual/reference/bson-type-comparison-order/">BSON comparison
+ * order</a>, the '_id' ranges of the snapshot splits are in this order.
+ */
+public class BsonUtils {
+
+    private BsonUtils() {}
+
+    /** Compares the BSON values in the order of MongoDB, the null value is the missing value. */
+    public static int compareBsonValue(BsonValue v1, BsonValue v2) {
+        final int typeOrder = Integer.compare(typeOrder(v1), typeOrder(v2));
+        if (typeOrder != 0) {
+            return typeOrder;
+        }
+        if (v1 == null || v2 == null) {
+            return 0;
+        }
+        switch (v1.getBsonType()) {
+            case INT32:
+            case INT64:
+            case DOUBLE:
+            case DECIMAL128:
+                return compareNumbers(v1, v2);
+            case STRING:
+            case SYMBOL:
+                return compareStrings(stringValue(v1), stringValue(v2));
+            case DOCUMENT:
+                return compareDocuments(v1.asDocument(), v2.asDocument());
+            case ARRAY:
+                return compareArrays(v1.asArray(), v2.asArray());
+            case BINARY:
+                return compareBinaries(v1.asBinary(), v2.asBinary());
+            case OBJECT_ID:
+                return v1.asObjectId().getValue().compareTo(v2.asObjectId().getValue());
+            case BOOLEAN:
+                return Boolean.compare(v1.asBoolean().getValue(), v2.asBoolean().getValue());
+            case DATE_TIME:
+                return Long.compare(v1.asDateTime().getValue(), v2.asDateTime().getValue());
+            case TIMESTAMP:
+                return v1.asTimestamp().compareTo(v2.asTimestamp());
+            case REGULAR_EXPRESSION:
+                return compareRegularExpressions(
+                        v1.asRegularExpression(), v2.asRegularExpression());
+            case JAVASCRIPT:
+                return compareStrings(v1.asJavaScript().getCode(), v2.asJavaScript().getCode());
+            case JAVASCRIPT_WITH_SCOPE:
+                final int code =
+                        compareStrings(
+                                v1.asJavaScriptWithScope().getCode(),
+                                v2.asJavaScriptWithScope().getCode());
+                return code != 0
+                        ? code
+                        : compareDocuments(
+                                v1.asJavaScriptWithScope().getScope(),
+                                v2.asJavaScriptWithScope().getScope());
+            case DB_POINTER:
+                final int namespace =
+                        compareStrings(
+                                v1.asDBPointer().getNamespace(), v2.asDBPointer().getNamespace());
+                return namespace != 0
+                        ? namespace
+                        : v1.asDBPointer().getId().compareTo(v2.asDBPointer().getId());
+            default:
+                // min key, max key, null and undefined are equal to the values of same type
+                return 0;
+        }
+    }
+
+    private static int typeOrder(BsonValue value) {
+        if (value == null) {
+            return 1;
+        }
+        switch (value.getBsonType()) {
+            case MIN_KEY:
+                return 0;
+            case UNDEFINED:
+            case NULL:
+                return 1;
+            case INT32:
+            case INT64:
+            case DOUBLE:
+            case DECIMAL128:
+                return 2;
+            case STRING:
+            case SYMBOL:
+                return 3;
+            case DOCUMENT:
+                return 4;
+            case ARRAY:
+                return 5;
+            case BINARY:
+                return 6;
+            case OBJECT_ID:
+                return 7;
+            case BOOLEAN:
+                return 8;
+            case DATE_TIME:
+                return 9;
+            case TIMESTAMP:
+                return 10;
+            case REGULAR_EXPRESSION:
+                return 11;
+            case DB_POINTER:
+                return 12;
+            case JAVASCRIPT:
+                return 13;
+            case JAVASCRIPT_WITH_SCOPE:
+                return 14;
+            case MAX_KEY:
+                return 15;
+            default:
+                throw new IllegalArgumentException("Unsupported BSON type " + value.getBsonType());
+        }
+    }
+
+    private static int compareNumbers(BsonValue v1, BsonValue v2) {
+        if (isIntegral(v1) && isIntegral(v2)) {
+            return Long.compare(v1.asNumber().longValue(), v2.asNumber().longValue());
+        }
+        final Decimal128 d1 = decimal128Value(v1);
+        final Decimal128 d2 = decimal128Value(v2);
+        final int rankOrder = Integer.compare(numberRank(d1), numberRank(d2));
+        if (rankOrder != 0 || numberRank(d1) != 2) {
+            return rankOrder;
+        }
+        return toBigDecimal(d1).compareTo(toBigDecimal(d2));
+    }
+
+    private static boolean isIntegral(BsonValue value) {
+        return value.getBsonType() == BsonType.INT32 || value.getBsonType() == BsonType.INT64;
+    }
+
+    private static Decimal128 decimal128Value(BsonValue value) {
+        // the decimal128 isn't a BsonNumber
+        return value.isDecimal128()
+                ? value.asDecimal128().getValue()
+                : value.asNumber().decimal128Value();
+    }
+
+    /** NaN sorts before all the numbers, the infinities sort at both ends of the numbers. */
+    private static int numberRank(Decimal128 number) {
+        if (number.isNaN()) {
+            return 0;
+        } else if (number.isInfinite()) {
+            return number.isNegative() ? 1 : 3;
+        } else {
+            return 2;
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Decimal128 number) {
+        try {
+            return number.bigDecimalValue();
+        } catch (ArithmeticException e) {
+            // the negative zero is equal to zero
+            return BigDecimal.ZERO;
+        }
+    }
+
+    private static String stringValue(BsonValue value) {
+        return value.isString() ? value.asString().getValue() : value.asSymbol().getSymbol();
+    }
+
+    /** Compares the strings by the code points, i.e. the binary order of the UTF-8 bytes. */
+    private static int compareStrings(String s1, String s2) {
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < s1.length() && i2 < s2.length()) {
+            final int c1 = s1.codePointAt(i1);
+            final int c2 = s2.codePointAt(i2);
+            if (c1 != c2) {
+                return Integer.compare(c1, c2);
+            }
+            i1 += Character.charCount(c1);
+            i2 += Character.charCount(c2);
+        }
+        return Boolean.compare(i1 < s1.length(), i2 < s2.length());
+    }
+
+    /** Compares the fields of the documents in order by the value type, name and value. */
+    private static int compareDocuments(BsonDocument d1, BsonDocument d2) {
+        final Iterator<Map.Entry<String, BsonValue>> it1 = d1.entrySet().iterator();
+        final Iterator<Map.Entry<String, BsonValue>> it2 = d2.entrySet().iterator();
+        while (it1.hasNext() && it2.hasNext()) {
+            final Map.Entry<String, BsonValue> e1 = it1.next();
+            final Map.Entry<String, BsonValue> e2 = it2.next();
+            int result = Integer.compare(typeOrder(e1.getValue()), typeOrder(e2.getValue()));
+            if (result == 0) {
+                result = compareStrings(e1.getKey(), e2.getKey());
+            }
+            if (result == 0) {
+                result = compareBsonValue(e1.getValue(), e2.getValue());
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Boolean.compare(it1.hasNext(), it2.hasNext());
+    }
+
+    private static int compareArrays(BsonArray a1, BsonArray a2) {
+        final int size = Math.min(a1.size(), a2.size());
+        for (int i = 0; i < size; i++) {
+            final int result = compareBsonValue(a1.get(i), a2.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(a1.size(), a2.size());
+    }
+
+    /** Compares the binaries by the length, the subtype and then the bytes. */
+    private static int compareBinaries(BsonBinary b1, BsonBinary b2) {
+        final byte[] data1 = b1.getData();
+        final byte[] data2 = b2.getData();
+        if (data1.length != data2.length) {
+            return Integer.compare(data1.length, data2.length);
+        }
+        if (b1.getType() != b2.getType()) {
+            return Integer.compare(b1.getType() & 0xFF, b2.getType() & 0xFF);
+        }
+        for (int i = 0; i < data1.length; i++) {
+            if (data1[i] != data2[i]) {
+                return Integer.compare(data1[i] & 0xFF, data2[i] & 0xFF);
+            }
+        }
+        return 0;
+    }
+
+    private static int compareRegularExpressions(
+            BsonRegularExpression r1, BsonRegularExpression r2) {
+        final int pattern = compareStrings(r1.getPattern(), r2.getPattern());
+        return pattern != 0 ? pattern : compareStrings(r1.getOptions(), r2.getOptions());
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.utils;
+
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+
+import static org.apache.flink.util.Preconditions.checkState;
+
+/**
+ * A change stream cursor which runs the aggregate and getMore commands directly, it opens the
+ * change streams with the options which are not supported by the driver, e.g. the pre-images of the
+ * changed documents of MongoDB 6.0.
+ *
+ * <p>The commands run in the same session which owns the server cursor. The cursor isn't resumed on
+ * errors, the fetch task fails and the split is read again from the checkpointed resume token. The
+ * getMore commands must reach the mongos which opened the cursor, so the connection string of a
+ * sharded cluster should contain a single mongos.
+ */
+public class ChangeStreamCommandCursor implements MongoChangeStreamCursor<RawBsonDocument> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChangeStreamCommandCursor.class);
+
+    private static final String CURSOR_FIELD = "cursor";
+    private static final String CURSOR_ID_FIELD = "id";
+    private static final String FIRST_BATCH_FIELD = "firstBatch";
+    private static final String NEXT_BATCH_FIELD = "nextBatch";
+    private static final String POST_BATCH_RESUME_TOKEN_FIELD = "postBatchResumeToken";
+    private static final String BATCH_SIZE_FIELD = "batchSize";
+    private static final String ID_FIELD = "_id";
+
+    private final ClientSession session;
+    private final MongoDatabase database;
+    private final String collection;
+    private final int batchSize;
+    private final long maxAwaitTimeMillis;
+    private final Deque<RawBsonDocument> batch = new ArrayDeque<>();
+
+    private long cursorId;
+    private BsonDocument postBatchResumeToken;
+    private BsonDocument resumeToken;
+    private boolean closed;
+
+    /**
+     * Opens the change stream of the collection.
+     *
+     * @param changeStreamStage the options of the $changeStream stage
+     * @param batchSize the batch size of the cursor, 0 means the default batch size of the server
+     * @param maxAwaitTimeMillis the maximum time to wait for the new changes on each getMore
+     */
+    public ChangeStreamCommandCursor(
+            MongoClient client,
+            String database,
+            String collection,
+            BsonDocument changeStreamStage,
+            int batchSize,
+            long maxAwaitTimeMillis) {
+        this.session = client.startSession();
+        this.database = client.getDatabase(database);
+        this.collection = collection;
+        this.batchSize = batchSize;
+        this.maxAwaitTimeMillis = maxAwaitTimeMillis;
+
+        final BsonDocument cursorOptions = new BsonDocument();
+        if (batchSize > 0) {
+            cursorOptions.put(BATCH_SIZE_FIELD, new BsonInt32(batchSize));
+        }
+        final BsonDocument aggregate =
+                new BsonDocument("aggregate", new BsonString(collection))
+                        .append(
+                                "pipeline",
+                                new BsonArray(
+                                        Collections.singletonList(
+                                                new BsonDocument(
+                                                        "$changeStream", changeStreamStage))))
+                        .append(CURSOR_FIELD, cursorOptions);
+        try {
+            readBatch(runCommand(aggregate), FIRST_BATCH_FIELD);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public RawBsonDocument tryNext() {
+        checkState(!closed, "The change stream cursor is closed.");
+        if (batch.isEmpty() && cursorId != 0L) {
+            getMore();
+        }
+        return nextInBatch();
+    }
+
+    @Override
+    public boolean hasNext() {
+        checkState(!closed, "The change stream cursor is closed.");
+        while (batch.isEmpty() && cursorId != 0L) {
+            getMore();
+        }
+        return !batch.isEmpty();
+    }
+
+    @Override
+    public RawBsonDocument next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("The change stream is invalidated.");
+        }
+        return nextInBatch();
+    }
+
+    /**
+     * Returns the resume token of the last returned change stream document, or the post batch
+     * resume token once the batch is drained.
+     */
+    @Override
+    public BsonDocument getResumeToken() {
+        return resumeToken;
+    }
+
+    /** The address of server isn't exposed by the commands. */
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    /** The address of server isn't exposed by the commands. */
+    @Override
+    public ServerAddress getServerAddress() {
+        return null;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (cursorId != 0L) {
+                runCommand(
+                        new BsonDocument("killCursors", new BsonString(collection))
+                                .append(
+                                        "cursors",
+                                        new BsonArray(
+                                                Collections.singletonList(
+                                                        new BsonInt64(cursorId)))));
+            }
+        } catch (MongoException e) {
+            LOG.warn("Failed to kill the change stream cursor {}.", cursorId, e);
+        } finally {
+            session.close();
+        }
+    }
+
+    private RawBsonDocument nextInBatch() {
+        final RawBsonDocument next = batch.poll();
+        if (next != null && !batch.isEmpty()) {
+            resumeToken = next.getDocument(ID_FIELD);
+        } else if (postBatchResumeToken != null) {
+            resumeToken = postBatchResumeToken;
+        } else if (next != null) {
+            resumeToken = next.getDocument(ID_FIELD);
+        }
+        return next;
+    }
+
+    private void getMore() {
+        final BsonDocument getMore =
+                new BsonDocument("getMore", new BsonInt64(cursorId))
+                        .append("collection", new BsonString(collection))
+                        .append("maxTimeMS", new BsonInt64(maxAwaitTimeMillis));
+        if (batchSize > 0) {
+            getMore.put(BATCH_SIZE_FIELD, new BsonInt32(batchSize));
+        }
+        readBatch(runCommand(getMore), NEXT_BATCH_FIELD);
+    }
+
+    private void readBatch(RawBsonDocument response, String batchField) {
+        final BsonDocument cursor = response.getDocument(CURSOR_FIELD);
+        cursorId = cursor.getInt64(CURSOR_ID_FIELD).getValue();
+        for (BsonValue changeStreamDocument : cursor.getArray(batchField)) {
+            // the documents of a raw array are raw documents
+            batch.add((RawBsonDocument) changeStreamDocument);
+        }
+        postBatchResumeToken =
+                cursor.containsKey(POST_BATCH_RESUME_TOKEN_FIELD)
+                        ? cursor.getDocument(POST_BATCH_RESUME_TOKEN_FIELD)
+                        : null;
+        if (batch.isEmpty() && postBatchResumeToken != null) {
+            resumeToken = postBatchResumeToken;
+        }
+    }
+
+    private RawBsonDocument runCommand(BsonDocument command) {
+        return database.runCommand(session, command, RawBsonDocument.class);
+    }
+}
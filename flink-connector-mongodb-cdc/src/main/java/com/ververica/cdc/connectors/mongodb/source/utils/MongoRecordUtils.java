@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.utils;
+
+import com.mongodb.kafka.connect.source.json.formatter.DefaultJson;
+import com.mongodb.kafka.connect.source.schema.AvroSchema;
+import com.mongodb.kafka.connect.source.schema.AvroSchemaDefaults;
+import com.mongodb.kafka.connect.source.schema.BsonValueToSchemaAndValue;
+import com.ververica.cdc.connectors.mongodb.MongoDBSource;
+import com.ververica.cdc.connectors.mongodb.internal.MongoDBEnvelope;
+import com.ververica.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.SnapshotRecord;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+import static com.ververica.cdc.debezium.source.utils.SourceRecordUtils.HEARTBEAT_VALUE_SCHEMA_NAME;
+
+/**
+ * Utilities to convert the change stream documents and the copied documents to the {@link
+ * SourceRecord}s of the same schema as the records of the legacy {@link MongoDBSource}, so they can
+ * be deserialized by the same deserializers.
+ */
+public class MongoRecordUtils {
+
+    private static final String NAMESPACE_KEY = "ns";
+    private static final String ID_FIELD = "_id";
+    private static final String COPYING_DATA_FIELD = "copyingData";
+    private static final String INSERT_OPERATION = "insert";
+    private static final String DELETE_OPERATION = "delete";
+
+    private static final Schema KEY_SCHEMA =
+            AvroSchema.fromJson(AvroSchemaDefaults.DEFAULT_AVRO_KEY_SCHEMA);
+
+    private static final Schema VALUE_SCHEMA =
+            AvroSchema.fromJson(MongoDBSource.OUTPUT_SCHEMA_VALUE_DEFAULT);
+
+    private static final Schema HEARTBEAT_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name(HEARTBEAT_VALUE_SCHEMA_NAME)
+                    .field(AbstractSourceInfo.TIMESTAMP_KEY, Schema.INT64_SCHEMA)
+                    .build();
+
+    private static final BsonValueToSchemaAndValue CONVERTER =
+            new BsonValueToSchemaAndValue(new DefaultJson().getJsonWriterSettings());
+
+    private MongoRecordUtils() {}
+
+    /** The source partition of the records of the given collection. */
+    public static Map<String, String> sourcePartition(TableId collectionId) {
+        return Collections.singletonMap(NAMESPACE_KEY, collectionId.toString());
+    }
+
+    /** Whether the record is a change stream document or a copied document. */
+    public static boolean isDataChangeRecord(SourceRecord record) {
+        final Schema valueSchema = record.valueSchema();
+        return valueSchema != null
+                && valueSchema.field(MongoDBEnvelope.OPERATION_TYPE_FIELD) != null
+                && ((Struct) record.value()).getString(MongoDBEnvelope.OPERATION_TYPE_FIELD)
+                        != null;
+    }
+
+    /** Returns the collection of the data change record. */
+    public static TableId getTableId(SourceRecord record) {
+        final Struct ns = ((Struct) record.value()).getStruct(MongoDBEnvelope.NAMESPACE_FIELD);
+        return new TableId(
+                ns.getString(MongoDBEnvelope.NAMESPACE_DATABASE_FIELD),
+                null,
+                ns.getString(MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD));
+    }
+
+    /** Returns the JSON of the document key of the data change record. */
+    public static String getDocumentKey(SourceRecord record) {
+        return ((Struct) record.value()).getString(MongoDBEnvelope.DOCUMENT_KEY_FIELD);
+    }
+
+    public static String getOperationType(SourceRecord record) {
+        return ((Struct) record.value()).getString(MongoDBEnvelope.OPERATION_TYPE_FIELD);
+    }
+
+    /** Creates the record of a change stream document, which is positioned by its resume token. */
+    public static SourceRecord createChangeRecord(
+            Map<String, String> partition, String topic, BsonDocument changeStreamDocument) {
+        final BsonTimestamp clusterTime =
+                changeStreamDocument.containsKey(MongoDBEnvelope.CLUSTER_TIME_FIELD)
+                        ? changeStreamDocument.getTimestamp(MongoDBEnvelope.CLUSTER_TIME_FIELD)
+                        : null;
+        final ChangeStreamOffset offset =
+                ChangeStreamOffset.ofResumeToken(
+                        changeStreamDocument.getDocument(ID_FIELD), clusterTime);
+        final long timestamp = clusterTime == null ? 0L : clusterTime.getTime() * 1000L;
+        return createRecord(partition, offset, topic, changeStreamDocument, timestamp, null);
+    }
+
+    /**
+     * Creates the insert record of a copied document, which is in the same format of the copied
+     * documents of the mongo kafka connector.
+     */
+    public static SourceRecord createSnapshotRecord(
+            Map<String, String> partition,
+            ChangeStreamOffset offset,
+            String topic,
+            TableId collectionId,
+            BsonDocument document) {
+        final BsonDocument changeStreamDocument =
+                copiedDocument(collectionId, document.get(ID_FIELD), INSERT_OPERATION);
+        changeStreamDocument.put(MongoDBEnvelope.FULL_DOCUMENT_FIELD, document);
+        return createRecord(
+                partition, offset, topic, changeStreamDocument, 0L, SnapshotRecord.TRUE);
+    }
+
+    /**
+     * Creates the delete record of a copied document, which removes the document deleted between
+     * the watermarks of a snapshot split.
+     */
+    public static SourceRecord createSnapshotDeleteRecord(
+            Map<String, String> partition,
+            ChangeStreamOffset offset,
+            String topic,
+            TableId collectionId,
+            BsonValue documentId) {
+        return createRecord(
+                partition,
+                offset,
+                topic,
+                copiedDocument(collectionId, documentId, DELETE_OPERATION),
+                0L,
+                SnapshotRecord.TRUE);
+    }
+
+    /** Creates the heartbeat record which carries the offset of an idle change stream. */
+    public static SourceRecord createHeartbeatRecord(
+            Map<String, String> partition, ChangeStreamOffset offset, String topic) {
+        final Struct value = new Struct(HEARTBEAT_VALUE_SCHEMA);
+        value.put(AbstractSourceInfo.TIMESTAMP_KEY, Instant.now().toEpochMilli());
+        return new SourceRecord(
+                partition, offset.getOffset(), topic, null, null, HEARTBEAT_VALUE_SCHEMA, value);
+    }
+
+    private static BsonDocument copiedDocument(
+            TableId collectionId, BsonValue documentId, String operationType) {
+        final BsonDocument id = new BsonDocument(ID_FIELD, documentId);
+        final BsonDocument changeStreamDocument = new BsonDocument();
+        changeStreamDocument.put(ID_FIELD, id.clone().append(COPYING_DATA_FIELD, BsonBoolean.TRUE));
+        changeStreamDocument.put(
+                MongoDBEnvelope.OPERATION_TYPE_FIELD, new BsonString(operationType));
+        changeStreamDocument.put(
+                MongoDBEnvelope.NAMESPACE_FIELD,
+                new BsonDocument(
+                                MongoDBEnvelope.NAMESPACE_DATABASE_FIELD,
+                                new BsonString(collectionId.catalog()))
+                        .append(
+                                MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD,
+                                new BsonString(collectionId.table())));
+        changeStreamDocument.put(MongoDBEnvelope.DOCUMENT_KEY_FIELD, id);
+        return changeStreamDocument;
+    }
+
+    private static SourceRecord createRecord(
+            Map<String, String> partition,
+            ChangeStreamOffset offset,
+            String topic,
+            BsonDocument changeStreamDocument,
+            long timestamp,
+            SnapshotRecord snapshot) {
+        final BsonDocument keyDocument =
+                new BsonDocument(ID_FIELD, changeStreamDocument.get(ID_FIELD));
+        final Struct key = (Struct) CONVERTER.toSchemaAndValue(KEY_SCHEMA, keyDocument).value();
+        final Struct value =
+                (Struct) CONVERTER.toSchemaAndValue(VALUE_SCHEMA, changeStreamDocument).value();
+        // the source field adapts to the metadata of the debezium records
+        final Struct source = new Struct(VALUE_SCHEMA.field(Envelope.FieldName.SOURCE).schema());
+        source.put(AbstractSourceInfo.TIMESTAMP_KEY, timestamp);
+        if (snapshot != null) {
+            snapshot.toSource(source);
+        }
+        value.put(Envelope.FieldName.SOURCE, source);
+        return new SourceRecord(
+                partition, offset.getOffset(), topic, KEY_SCHEMA, key, VALUE_SCHEMA, value);
+    }
+}
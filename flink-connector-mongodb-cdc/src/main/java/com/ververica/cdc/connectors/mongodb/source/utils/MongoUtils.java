@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.utils;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import com.ververica.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import org.apache.commons.lang3.StringUtils;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.ververica.cdc.connectors.mongodb.MongoDBSource.MONGODB_SCHEME;
+
+/** Utilities to access MongoDB for the incremental snapshot source. */
+public class MongoUtils {
+
+    private static final String OPERATION_TIME_FIELD = "operationTime";
+    private static final String FULL_DOCUMENT_FIELD = "fullDocument";
+    private static final String FULL_DOCUMENT_BEFORE_CHANGE_FIELD = "fullDocumentBeforeChange";
+    private static final String RESUME_AFTER_FIELD = "resumeAfter";
+    private static final String START_AT_OPERATION_TIME_FIELD = "startAtOperationTime";
+    // the images are read from the pre-images collection, fail if they are not available
+    private static final String REQUIRED = "required";
+
+    private static final String ADMIN_DATABASE = "admin";
+    private static final String LIST_SHARDS_COMMAND = "listShards";
+    private static final String SHARDS_FIELD = "shards";
+    private static final String ID_FIELD = "_id";
+    private static final String HOST_FIELD = "host";
+    private static final String REPLICA_SET_OPTION = "replicaSet";
+    // the error code of the servers which are not mongos
+    private static final int COMMAND_NOT_FOUND_CODE = 59;
+
+    private MongoUtils() {}
+
+    /** Builds the connection string of the given hosts and connection options. */
+    public static ConnectionString buildConnectionString(
+            String username, String password, String hosts, String connectionOptions) {
+        StringBuilder sb = new StringBuilder(MONGODB_SCHEME).append("://");
+
+        if (username != null && password != null) {
+            sb.append(encodeValue(username)).append(":").append(encodeValue(password));
+        }
+
+        sb.append("@").append(hosts);
+
+        if (StringUtils.isNotEmpty(connectionOptions)) {
+            sb.append("/?").append(connectionOptions);
+        }
+
+        return new ConnectionString(sb.toString());
+    }
+
+    private static String encodeValue(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public static MongoClient createClient(MongoDBSourceConfig sourceConfig) {
+        return MongoClients.create(sourceConfig.getConnectionString());
+    }
+
+    /**
+     * Creates the client connected to the replica set of the given shard directly, the shard is
+     * looked up from the cluster of the source config.
+     */
+    public static MongoClient createShardClient(MongoDBSourceConfig sourceConfig, String shard) {
+        final String shardHost;
+        try (MongoClient client = createClient(sourceConfig)) {
+            shardHost = listShards(client).get(shard);
+        }
+        if (shardHost == null) {
+            throw new IllegalStateException(
+                    String.format("The shard %s is not found in the cluster.", shard));
+        }
+        return MongoClients.create(
+                shardConnectionString(sourceConfig.getConnectionString(), shardHost));
+    }
+
+    /**
+     * Lists the hosts of the shards of the cluster by the shard ids in order, the host of a shard
+     * is in the form of {@code <replicaSet>/<host1>,<host2>}. Returns an empty map if the client
+     * isn't connected to mongos.
+     */
+    public static Map<String, String> listShards(MongoClient client) {
+        final BsonDocument result;
+        try {
+            result =
+                    client.getDatabase(ADMIN_DATABASE)
+                            .runCommand(
+                                    new BsonDocument(LIST_SHARDS_COMMAND, new BsonInt32(1)),
+                                    BsonDocument.class);
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() == COMMAND_NOT_FOUND_CODE) {
+                return Collections.emptyMap();
+            }
+            throw e;
+        }
+        final Map<String, String> shards = new TreeMap<>();
+        for (BsonValue shard : result.getArray(SHARDS_FIELD, new BsonArray())) {
+            final BsonDocument shardDocument = shard.asDocument();
+            shards.put(
+                    shardDocument.getString(ID_FIELD).getValue(),
+                    shardDocument.getString(HOST_FIELD).getValue());
+        }
+        return shards;
+    }
+
+    /**
+     * Builds the connection string of a shard from the connection string of the cluster, the hosts
+     * of mongos are replaced by the hosts of the shard and the replica set of the shard is added to
+     * the options, the credentials and the other options are kept.
+     */
+    public static ConnectionString shardConnectionString(
+            ConnectionString clusterConnectionString, String shardHost) {
+        final int replicaSetEnd = shardHost.indexOf('/');
+        final String replicaSet = replicaSetEnd < 0 ? null : shardHost.substring(0, replicaSetEnd);
+        final String hosts = shardHost.substring(replicaSetEnd + 1);
+
+        final String connectionString = clusterConnectionString.getConnectionString();
+        int hostsStart = connectionString.indexOf("://") + 3;
+        final int pathStart = connectionString.indexOf('/', hostsStart);
+        final int credentialsEnd =
+                connectionString.lastIndexOf(
+                        '@', pathStart < 0 ? connectionString.length() : pathStart);
+        if (credentialsEnd >= hostsStart) {
+            hostsStart = credentialsEnd + 1;
+        }
+        final StringBuilder sb =
+                new StringBuilder(connectionString.substring(0, hostsStart)).append(hosts);
+        String path = pathStart < 0 ? "" : connectionString.substring(pathStart);
+        if (replicaSet != null) {
+            if (path.isEmpty()) {
+                path = "/";
+            }
+            if (path.indexOf('?') < 0) {
+                path += "?";
+            } else if (!path.endsWith("?") && !path.endsWith("&")) {
+                path += "&";
+            }
+            path += REPLICA_SET_OPTION + "=" + replicaSet;
+        }
+        return new ConnectionString(sb.append(path).toString());
+    }
+
+    public static MongoCollection<BsonDocument> getCollection(
+            MongoClient client, MongoDBSourceConfig sourceConfig) {
+        return client.getDatabase(sourceConfig.getDatabase())
+                .getCollection(sourceConfig.getCollection(), BsonDocument.class);
+    }
+
+    /**
+     * Opens the change stream cursor of the collection which returns the raw change stream
+     * documents, the stream starts from the given offset or from now if the offset is the initial
+     * offset.
+     */
+    @SuppressWarnings("unchecked")
+    public static MongoChangeStreamCursor<RawBsonDocument> openChangeStreamCursor(
+            MongoCollection<BsonDocument> collection,
+            MongoDBSourceConfig sourceConfig,
+            ChangeStreamOffset startingOffset) {
+        ChangeStreamIterable<BsonDocument> changeStream =
+                collection
+                        .watch()
+                        .fullDocument(FullDocument.UPDATE_LOOKUP)
+                        .maxAwaitTime(sourceConfig.getPollAwaitTimeMillis(), TimeUnit.MILLISECONDS);
+        if (sourceConfig.getBatchSize() > 0) {
+            changeStream.batchSize(sourceConfig.getBatchSize());
+        }
+        final BsonDocument resumeToken = startingOffset.getResumeToken();
+        if (resumeToken != null) {
+            changeStream.resumeAfter(resumeToken);
+        } else if (startingOffset.isAfter(ChangeStreamOffset.INITIAL_OFFSET)) {
+            changeStream.startAtOperationTime(startingOffset.getTimestamp());
+        }
+        // the cursor of the raw documents is still a change stream cursor, see MongoSourceTask
+        return (MongoChangeStreamCursor<RawBsonDocument>)
+                changeStream.withDocumentClass(RawBsonDocument.class).cursor();
+    }
+
+    /**
+     * Opens the change stream cursor of the collection which returns the pre-images and the
+     * post-images of the changed documents in the 'fullDocumentBeforeChange' and 'fullDocument'
+     * fields, the stream starts from the given offset or from now if the offset is the initial
+     * offset. The options are not supported by the driver, the change stream is opened by the
+     * commands, see {@link ChangeStreamCommandCursor}.
+     */
+    public static MongoChangeStreamCursor<RawBsonDocument> openFullChangelogCursor(
+            MongoClient client,
+            MongoDBSourceConfig sourceConfig,
+            ChangeStreamOffset startingOffset) {
+        final BsonDocument changeStreamStage =
+                new BsonDocument(FULL_DOCUMENT_FIELD, new BsonString(REQUIRED))
+                        .append(FULL_DOCUMENT_BEFORE_CHANGE_FIELD, new BsonString(REQUIRED));
+        final BsonDocument resumeToken = startingOffset.getResumeToken();
+        if (resumeToken != null) {
+            changeStreamStage.put(RESUME_AFTER_FIELD, resumeToken);
+        } else if (startingOffset.isAfter(ChangeStreamOffset.INITIAL_OFFSET)) {
+            changeStreamStage.put(START_AT_OPERATION_TIME_FIELD, startingOffset.getTimestamp());
+        }
+        return new ChangeStreamCommandCursor(
+                client,
+                sourceConfig.getDatabase(),
+                sourceConfig.getCollection(),
+                changeStreamStage,
+                sourceConfig.getBatchSize(),
+                sourceConfig.getPollAwaitTimeMillis());
+    }
+
+    /**
+     * Returns the current position of the change stream of collection, which is the post batch
+     * resume token of a new change stream, or the operation time of the server if the server
+     * doesn't return the post batch resume token.
+     */
+    public static ChangeStreamOffset currentChangeStreamOffset(
+            MongoClient client, MongoDBSourceConfig sourceConfig) {
+        final MongoCollection<BsonDocument> collection = getCollection(client, sourceConfig);
+        try (MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor =
+                collection.watch().cursor()) {
+            final BsonDocument resumeToken = cursor.getResumeToken();
+            if (resumeToken != null) {
+                return ChangeStreamOffset.ofResumeToken(resumeToken, null);
+            }
+        }
+        final BsonDocument pong =
+                client.getDatabase(sourceConfig.getDatabase())
+                        .runCommand(new BsonDocument("ping", new BsonInt32(1)), BsonDocument.class);
+        final BsonTimestamp operationTime =
+                pong.getTimestamp(OPERATION_TIME_FIELD, new BsonTimestamp(0L));
+        return ChangeStreamOffset.ofTimestamp(operationTime);
+    }
+}
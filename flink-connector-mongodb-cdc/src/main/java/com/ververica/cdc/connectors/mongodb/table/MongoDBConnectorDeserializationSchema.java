@@ -43,6 +43,7 @@ import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonBinarySubType;
 import org.bson.BsonDateTime;
 import org.bson.BsonDocument;
@@ -50,8 +51,14 @@ import org.bson.BsonMaxKey;
 import org.bson.BsonMinKey;
 import org.bson.BsonRegularExpression;
 import org.bson.BsonTimestamp;
+import org.bson.BsonType;
 import org.bson.BsonUndefined;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.io.ByteBufferBsonInput;
 import org.bson.types.Decimal128;
 
 import java.io.Serializable;
@@ -79,6 +86,12 @@ public class MongoDBConnectorDeserializationSchema
 
     private static final long serialVersionUID = 1750787080613035184L;
 
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+
+    private static final RawBsonDocumentCodec RAW_BSON_DOCUMENT_CODEC = new RawBsonDocumentCodec();
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
     /** TypeInformation of the produced {@link RowData}. */
     private final TypeInformation<RowData> resultTypeInfo;
 
@@ -117,13 +130,43 @@ public class MongoDBConnectorDeserializationSchema
         Struct value = (Struct) record.value();
         Schema valueSchema = record.valueSchema();
 
-        OperationType op = operationTypeFor(record);
-        BsonDocument documentKey =
-                checkNotNull(
-                        extractBsonDocument(
-                                value, valueSchema, MongoDBEnvelope.DOCUMENT_KEY_FIELD));
-        BsonDocument fullDocument =
-                extractBsonDocument(value, valueSchema, MongoDBEnvelope.FULL_DOCUMENT_FIELD);
+        OperationType op;
+        BsonDocument documentKey;
+        BsonDocument fullDocument;
+        BsonDocument fullDocumentBeforeChange;
+        if (valueSchema.field(MongoDBEnvelope.BSON_DOCUMENT_FIELD) != null) {
+            // The nested documents of the raw change stream document are decoded lazily, only
+            // the fields of the physical row type are decoded when converting.
+            RawBsonDocument changeStreamDocument =
+                    new RawBsonDocument(value.getBytes(MongoDBEnvelope.BSON_DOCUMENT_FIELD));
+            op =
+                    OperationType.fromString(
+                            changeStreamDocument
+                                    .getString(MongoDBEnvelope.OPERATION_TYPE_FIELD)
+                                    .getValue());
+            documentKey =
+                    checkNotNull(
+                            extractRawBsonDocument(
+                                    changeStreamDocument, MongoDBEnvelope.DOCUMENT_KEY_FIELD));
+            fullDocument =
+                    extractRawBsonDocument(
+                            changeStreamDocument, MongoDBEnvelope.FULL_DOCUMENT_FIELD);
+            fullDocumentBeforeChange =
+                    extractRawBsonDocument(
+                            changeStreamDocument,
+                            MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD);
+        } else {
+            op = operationTypeFor(record);
+            documentKey =
+                    checkNotNull(
+                            extractBsonDocument(
+                                    value, valueSchema, MongoDBEnvelope.DOCUMENT_KEY_FIELD));
+            fullDocument =
+                    extractBsonDocument(value, valueSchema, MongoDBEnvelope.FULL_DOCUMENT_FIELD);
+            fullDocumentBeforeChange =
+                    extractBsonDocument(
+                            value, valueSchema, MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD);
+        }
 
         switch (op) {
             case INSERT:
@@ -132,7 +175,12 @@ public class MongoDBConnectorDeserializationSchema
                 emit(record, insert, out);
                 break;
             case DELETE:
-                GenericRowData delete = extractRowData(documentKey);
+                // The pre-image is the whole deleted document if the full changelog is enabled.
+                GenericRowData delete =
+                        extractRowData(
+                                fullDocumentBeforeChange != null
+                                        ? fullDocumentBeforeChange
+                                        : documentKey);
                 delete.setRowKind(RowKind.DELETE);
                 emit(record, delete, out);
                 break;
@@ -142,11 +190,13 @@ public class MongoDBConnectorDeserializationSchema
                 if (fullDocument == null) {
                     break;
                 }
+                emitUpdateBefore(record, fullDocumentBeforeChange, out);
                 GenericRowData updateAfter = extractRowData(fullDocument);
                 updateAfter.setRowKind(RowKind.UPDATE_AFTER);
                 emit(record, updateAfter, out);
                 break;
             case REPLACE:
+                emitUpdateBefore(record, fullDocumentBeforeChange, out);
                 GenericRowData replaceAfter = extractRowData(fullDocument);
                 replaceAfter.setRowKind(RowKind.UPDATE_AFTER);
                 emit(record, replaceAfter, out);
@@ -161,6 +211,18 @@ public class MongoDBConnectorDeserializationSchema
         }
     }
 
+    /** Emits the pre-image of the updated document if the full changelog is enabled. */
+    private void emitUpdateBefore(
+            SourceRecord record, BsonDocument fullDocumentBeforeChange, Collector<RowData> out)
+            throws Exception {
+        if (fullDocumentBeforeChange == null) {
+            return;
+        }
+        GenericRowData updateBefore = extractRowData(fullDocumentBeforeChange);
+        updateBefore.setRowKind(RowKind.UPDATE_BEFORE);
+        emit(record, updateBefore, out);
+    }
+
     private GenericRowData extractRowData(BsonDocument document) throws Exception {
         checkNotNull(document);
         return (GenericRowData) physicalConverter.convert(document);
@@ -176,6 +238,15 @@ public class MongoDBConnectorDeserializationSchema
         return null;
     }
 
+    private BsonDocument extractRawBsonDocument(
+            RawBsonDocument changeStreamDocument, String fieldName) {
+        BsonValue docValue = changeStreamDocument.get(fieldName);
+        if (docValue != null && docValue.isDocument()) {
+            return docValue.asDocument();
+        }
+        return null;
+    }
+
     @Override
     public TypeInformation<RowData> getProducedType() {
         return resultTypeInfo;
@@ -658,6 +729,10 @@ public class MongoDBConnectorDeserializationSchema
                         .map(this::createConverter)
                         .toArray(DeserializationRuntimeConverter[]::new);
         final String[] fieldNames = rowType.getFieldNames().toArray(new String[0]);
+        final Map<String, Integer> fieldPositions = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldPositions.put(fieldNames[i], i);
+        }
 
         return (docObj) -> {
             if (!docObj.isDocument()) {
@@ -668,6 +743,11 @@ public class MongoDBConnectorDeserializationSchema
                                 + docObj.getBsonType());
             }
 
+            if (docObj instanceof RawBsonDocument) {
+                return convertRawDocument(
+                        (RawBsonDocument) docObj, fieldPositions, fieldConverters);
+            }
+
             BsonDocument document = docObj.asDocument();
             int arity = fieldNames.length;
             GenericRowData row = new GenericRowData(arity);
@@ -681,6 +761,36 @@ public class MongoDBConnectorDeserializationSchema
         };
     }
 
+    /**
+     * Converts the raw BSON document in one pass, the values of the fields which are not in the row
+     * type are skipped without decoding, the nested documents are kept raw to be converted lazily.
+     */
+    private GenericRowData convertRawDocument(
+            RawBsonDocument document,
+            Map<String, Integer> fieldPositions,
+            DeserializationRuntimeConverter[] fieldConverters)
+            throws Exception {
+        GenericRowData row = new GenericRowData(fieldConverters.length);
+        try (BsonBinaryReader reader =
+                new BsonBinaryReader(new ByteBufferBsonInput(document.getByteBuffer()))) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                Integer pos = fieldPositions.get(reader.readName());
+                if (pos == null) {
+                    reader.skipValue();
+                    continue;
+                }
+                BsonValue fieldValue =
+                        reader.getCurrentBsonType() == BsonType.DOCUMENT
+                                ? RAW_BSON_DOCUMENT_CODEC.decode(reader, DECODER_CONTEXT)
+                                : BSON_VALUE_CODEC.decode(reader, DECODER_CONTEXT);
+                row.setField(pos, convertField(fieldConverters[pos], fieldValue));
+            }
+            reader.readEndDocument();
+        }
+        return row;
+    }
+
     private DeserializationRuntimeConverter createArrayConverter(ArrayType arrayType) {
         final Class<?> elementClass =
                 LogicalTypeUtils.toInternalConversionClass(arrayType.getElementType());
@@ -723,10 +833,10 @@ public class MongoDBConnectorDeserializationSchema
 
             BsonDocument document = docObj.asDocument();
             Map<StringData, Object> map = new HashMap<>();
-            for (String key : document.keySet()) {
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
                 map.put(
-                        StringData.fromString(key),
-                        convertField(valueConverter, document.get(key)));
+                        StringData.fromString(entry.getKey()),
+                        convertField(valueConverter, entry.getValue()));
             }
             return new GenericMapData(map);
         };
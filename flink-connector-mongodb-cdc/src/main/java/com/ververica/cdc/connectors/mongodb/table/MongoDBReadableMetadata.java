@@ -29,6 +29,7 @@ import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.data.Envelope;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.RawBsonDocument;
 
 /** Defines the supported metadata columns for {@link MongoDBTableSource}. */
 public enum MongoDBReadableMetadata {
@@ -42,10 +43,8 @@ public enum MongoDBReadableMetadata {
 
                 @Override
                 public Object read(SourceRecord record) {
-                    Struct value = (Struct) record.value();
-                    Struct to = value.getStruct(MongoDBEnvelope.NAMESPACE_FIELD);
                     return StringData.fromString(
-                            to.getString(MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD));
+                            readNamespace(record, MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD));
                 }
             }),
 
@@ -58,10 +57,8 @@ public enum MongoDBReadableMetadata {
 
                 @Override
                 public Object read(SourceRecord record) {
-                    Struct value = (Struct) record.value();
-                    Struct to = value.getStruct(MongoDBEnvelope.NAMESPACE_FIELD);
                     return StringData.fromString(
-                            to.getString(MongoDBEnvelope.NAMESPACE_DATABASE_FIELD));
+                            readNamespace(record, MongoDBEnvelope.NAMESPACE_DATABASE_FIELD));
                 }
             }),
 
@@ -107,4 +104,18 @@ public enum MongoDBReadableMetadata {
     public MetadataConverter getConverter() {
         return converter;
     }
+
+    private static String readNamespace(SourceRecord record, String fieldName) {
+        Struct value = (Struct) record.value();
+        if (value.schema().field(MongoDBEnvelope.BSON_DOCUMENT_FIELD) != null) {
+            RawBsonDocument changeStreamDocument =
+                    new RawBsonDocument(value.getBytes(MongoDBEnvelope.BSON_DOCUMENT_FIELD));
+            return changeStreamDocument
+                    .getDocument(MongoDBEnvelope.NAMESPACE_FIELD)
+                    .getString(fieldName)
+                    .getValue();
+        }
+        Struct ns = value.getStruct(MongoDBEnvelope.NAMESPACE_FIELD);
+        return ns.getString(fieldName);
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
+import org.apache.flink.table.connector.source.SourceProvider;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -31,6 +32,8 @@ import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.types.RowKind;
 
 import com.ververica.cdc.connectors.mongodb.MongoDBSource;
+import com.ververica.cdc.connectors.mongodb.source.MongoDBIncrementalSource;
+import com.ververica.cdc.connectors.mongodb.source.MongoDBSourceBuilder;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
 import com.ververica.cdc.debezium.table.MetadataConverter;
@@ -71,6 +74,10 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
     private final Integer pollAwaitTimeMillis;
     private final Integer heartbeatIntervalMillis;
     private final ZoneId localTimeZone;
+    private final boolean enableParallelRead;
+    private final int splitSizeMB;
+    private final boolean fullChangelog;
+    private final boolean perShardChangeStreams;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -99,7 +106,11 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
             @Nullable Integer pollMaxBatchSize,
             @Nullable Integer pollAwaitTimeMillis,
             @Nullable Integer heartbeatIntervalMillis,
-            ZoneId localTimeZone) {
+            ZoneId localTimeZone,
+            boolean enableParallelRead,
+            int splitSizeMB,
+            boolean fullChangelog,
+            boolean perShardChangeStreams) {
         this.physicalSchema = physicalSchema;
         this.hosts = checkNotNull(hosts);
         this.username = username;
@@ -117,12 +128,20 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
         this.pollAwaitTimeMillis = pollAwaitTimeMillis;
         this.heartbeatIntervalMillis = heartbeatIntervalMillis;
         this.localTimeZone = localTimeZone;
+        this.enableParallelRead = enableParallelRead;
+        this.splitSizeMB = splitSizeMB;
+        this.fullChangelog = fullChangelog;
+        this.perShardChangeStreams = perShardChangeStreams;
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
     }
 
     @Override
     public ChangelogMode getChangelogMode() {
+        if (fullChangelog) {
+            // the pre-images make the changelog complete, the planner needn't normalize it
+            return ChangelogMode.all();
+        }
         return ChangelogMode.newBuilder()
                 .addContainedKind(RowKind.INSERT)
                 .addContainedKind(RowKind.UPDATE_AFTER)
@@ -142,11 +161,38 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                 new MongoDBConnectorDeserializationSchema(
                         physicalDataType, metadataConverters, typeInfo, localTimeZone);
 
+        if (enableParallelRead) {
+            MongoDBSourceBuilder<RowData> parallelSourceBuilder =
+                    MongoDBIncrementalSource.<RowData>builder()
+                            .hosts(hosts)
+                            .database(database)
+                            .collection(collection)
+                            .splitSizeMB(splitSizeMB)
+                            .fullChangelog(fullChangelog)
+                            .perShardChangeStreams(perShardChangeStreams)
+                            .deserializer(deserializer);
+
+            Optional.ofNullable(username).ifPresent(parallelSourceBuilder::username);
+            Optional.ofNullable(password).ifPresent(parallelSourceBuilder::password);
+            Optional.ofNullable(connectionOptions)
+                    .ifPresent(parallelSourceBuilder::connectionOptions);
+            Optional.ofNullable(copyExisting).ifPresent(parallelSourceBuilder::copyExisting);
+            Optional.ofNullable(pollMaxBatchSize)
+                    .ifPresent(parallelSourceBuilder::pollMaxBatchSize);
+            Optional.ofNullable(pollAwaitTimeMillis)
+                    .ifPresent(parallelSourceBuilder::pollAwaitTimeMillis);
+            Optional.ofNullable(heartbeatIntervalMillis)
+                    .ifPresent(parallelSourceBuilder::heartbeatIntervalMillis);
+
+            return SourceProvider.of(parallelSourceBuilder.build());
+        }
+
         MongoDBSource.Builder<RowData> builder =
                 MongoDBSource.<RowData>builder()
                         .hosts(hosts)
                         .database(database)
                         .collection(collection)
+                        .outputFormat(MongoDBSource.OUTPUT_FORMAT_BSON)
                         .deserializer(deserializer);
 
         Optional.ofNullable(username).ifPresent(builder::username);
@@ -218,7 +264,11 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                         pollMaxBatchSize,
                         pollAwaitTimeMillis,
                         heartbeatIntervalMillis,
-                        localTimeZone);
+                        localTimeZone,
+                        enableParallelRead,
+                        splitSizeMB,
+                        fullChangelog,
+                        perShardChangeStreams);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -250,6 +300,10 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                 && Objects.equals(pollAwaitTimeMillis, that.pollAwaitTimeMillis)
                 && Objects.equals(heartbeatIntervalMillis, that.heartbeatIntervalMillis)
                 && Objects.equals(localTimeZone, that.localTimeZone)
+                && enableParallelRead == that.enableParallelRead
+                && splitSizeMB == that.splitSizeMB
+                && fullChangelog == that.fullChangelog
+                && perShardChangeStreams == that.perShardChangeStreams
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys);
     }
@@ -274,6 +328,10 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                 pollAwaitTimeMillis,
                 heartbeatIntervalMillis,
                 localTimeZone,
+                enableParallelRead,
+                splitSizeMB,
+                fullChangelog,
+                perShardChangeStreams,
                 producedDataType,
                 metadataKeys);
     }
@@ -36,6 +36,10 @@ import java.util.Set;
 import static com.ververica.cdc.connectors.mongodb.MongoDBSource.ERROR_TOLERANCE_NONE;
 import static com.ververica.cdc.connectors.mongodb.MongoDBSource.POLL_AWAIT_TIME_MILLIS_DEFAULT;
 import static com.ververica.cdc.connectors.mongodb.MongoDBSource.POLL_MAX_BATCH_SIZE_DEFAULT;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_FULL_CHANGELOG;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED;
 import static org.apache.flink.util.Preconditions.checkArgument;
 
 /** Factory for creating configured instance of {@link MongoDBTableSource}. */
@@ -202,6 +206,27 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
         Integer copyExistingMaxThreads = config.getOptional(COPY_EXISTING_MAX_THREADS).orElse(null);
         Integer copyExistingQueueSize = config.getOptional(COPY_EXISTING_QUEUE_SIZE).orElse(null);
 
+        boolean enableParallelRead = config.get(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
+        int splitSizeMB = config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB);
+        checkArgument(
+                splitSizeMB > 0,
+                String.format(
+                        "The value of option '%s' must larger than 0, but is %d",
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB.key(), splitSizeMB));
+        boolean fullChangelog = config.get(SCAN_FULL_CHANGELOG);
+        checkArgument(
+                !fullChangelog || enableParallelRead,
+                String.format(
+                        "The option '%s' requires the option '%s' to be enabled",
+                        SCAN_FULL_CHANGELOG.key(), SCAN_INCREMENTAL_SNAPSHOT_ENABLED.key()));
+        boolean perShardChangeStreams = config.get(SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED);
+        checkArgument(
+                !perShardChangeStreams || enableParallelRead,
+                String.format(
+                        "The option '%s' requires the option '%s' to be enabled",
+                        SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED.key(),
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.key()));
+
         String zoneId = context.getConfiguration().get(TableConfigOptions.LOCAL_TIME_ZONE);
         ZoneId localTimeZone =
                 TableConfigOptions.LOCAL_TIME_ZONE.defaultValue().equals(zoneId)
@@ -230,7 +255,11 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
                 pollMaxBatchSize,
                 pollAwaitTimeMillis,
                 heartbeatIntervalMillis,
-                localTimeZone);
+                localTimeZone,
+                enableParallelRead,
+                splitSizeMB,
+                fullChangelog,
+                perShardChangeStreams);
     }
 
     private void checkPrimaryKey(UniqueConstraint pk, String message) {
@@ -268,6 +297,10 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
         options.add(POLL_MAX_BATCH_SIZE);
         options.add(POLL_AWAIT_TIME_MILLIS);
         options.add(HEARTBEAT_INTERVAL_MILLIS);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB);
+        options.add(SCAN_FULL_CHANGELOG);
+        options.add(SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED);
         return options;
     }
 }
@@ -41,12 +41,12 @@ import com.mongodb.client.model.Updates;
 import com.ververica.cdc.connectors.utils.TestSourceContext;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
+import com.ververica.cdc.debezium.internal.DebeziumOffsetSerializer;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.Test;
 
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -196,7 +196,7 @@ public class MongoDBSourceTest extends MongoDBTestBase {
 
             assertEquals(1, offsetState.list.size());
 
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertTrue(state.contains("sourcePartition"));
             assertTrue(state.contains("sourceOffset"));
 
@@ -219,7 +219,7 @@ public class MongoDBSourceTest extends MongoDBTestBase {
 
             assertEquals(1, offsetState.list.size());
 
-            state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertTrue(state.contains("sourcePartition"));
             assertTrue(state.contains("sourceOffset"));
             String resumeToken = JsonPath.read(state, "$.sourceOffset._id");
@@ -269,7 +269,7 @@ public class MongoDBSourceTest extends MongoDBTestBase {
             }
 
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertTrue(state.contains("sourcePartition"));
             assertTrue(state.contains("sourceOffset"));
             String resumeToken = JsonPath.read(state, "$.sourceOffset._id");
@@ -335,7 +335,7 @@ public class MongoDBSourceTest extends MongoDBTestBase {
             }
 
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertTrue(state.contains("sourcePartition"));
             assertTrue(state.contains("sourceOffset"));
             String resumeToken = JsonPath.read(state, "$.sourceOffset._id");
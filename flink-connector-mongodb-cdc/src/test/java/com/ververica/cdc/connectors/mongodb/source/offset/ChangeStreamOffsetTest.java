@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.offset;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link ChangeStreamOffset}. */
+public class ChangeStreamOffsetTest {
+
+    @Test
+    public void testDecodeTimestampOfResumeToken() {
+        // the cluster time (1634063744, 3) of the token is encoded after the type byte 0x82
+        BsonDocument token = resumeToken("826165D580000000032B022C0100296E5A1004");
+        assertEquals(new BsonTimestamp(1634063744, 3), ChangeStreamOffset.decodeTimestamp(token));
+
+        ChangeStreamOffset offset = ChangeStreamOffset.ofResumeToken(token, null);
+        assertEquals(new BsonTimestamp(1634063744, 3), offset.getTimestamp());
+        assertEquals(token, offset.getResumeToken());
+    }
+
+    @Test
+    public void testUndecodableResumeToken() {
+        BsonDocument token = new BsonDocument("_data", new BsonDocument());
+        assertNull(ChangeStreamOffset.decodeTimestamp(token));
+
+        BsonTimestamp clusterTime = new BsonTimestamp(1634063744, 1);
+        assertEquals(
+                clusterTime, ChangeStreamOffset.ofResumeToken(token, clusterTime).getTimestamp());
+    }
+
+    @Test
+    public void testCompareOffsets() {
+        ChangeStreamOffset first =
+                ChangeStreamOffset.ofResumeToken(resumeToken("826165D580000000012B"), null);
+        ChangeStreamOffset second =
+                ChangeStreamOffset.ofResumeToken(resumeToken("826165D580000000012C"), null);
+        ChangeStreamOffset third =
+                ChangeStreamOffset.ofResumeToken(resumeToken("826165D580000000022B"), null);
+
+        assertTrue(first.isBefore(second));
+        assertTrue(second.isBefore(third));
+        assertTrue(ChangeStreamOffset.INITIAL_OFFSET.isBefore(first));
+        assertTrue(ChangeStreamOffset.NO_STOPPING_OFFSET.isAfter(third));
+        // the offset without token is equal to the tokens of the same cluster time
+        assertEquals(
+                0,
+                ChangeStreamOffset.ofTimestamp(new BsonTimestamp(1634063744, 1)).compareTo(first));
+    }
+
+    private static BsonDocument resumeToken(String data) {
+        return new BsonDocument("_data", new BsonString(data));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.source.utils;
+
+import org.bson.BsonBoolean;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static com.ververica.cdc.connectors.mongodb.source.utils.BsonUtils.compareBsonValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link BsonUtils}. */
+public class BsonUtilsTest {
+
+    @Test
+    public void testCompareTypes() {
+        // the values are in the BSON comparison order of types
+        BsonValue[] values =
+                new BsonValue[] {
+                    new BsonMinKey(),
+                    BsonNull.VALUE,
+                    new BsonInt32(100),
+                    new BsonString("a"),
+                    new BsonDocument("a", new BsonInt32(1)),
+                    new BsonObjectId(new ObjectId("616d16e0a3b6e32d5c8e4b01")),
+                    BsonBoolean.FALSE,
+                    new BsonMaxKey()
+                };
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values.length; j++) {
+                assertEquals(
+                        Integer.signum(Integer.compare(i, j)),
+                        Integer.signum(compareBsonValue(values[i], values[j])));
+            }
+        }
+        // the missing value is equal to null
+        assertEquals(0, compareBsonValue(null, BsonNull.VALUE));
+    }
+
+    @Test
+    public void testCompareNumbers() {
+        assertEquals(0, compareBsonValue(new BsonInt32(1), new BsonInt64(1L)));
+        assertEquals(0, compareBsonValue(new BsonInt32(1), new BsonDouble(1.0)));
+        assertEquals(0, compareBsonValue(new BsonDouble(-0.0), new BsonInt32(0)));
+        assertTrue(compareBsonValue(new BsonDouble(1.5), new BsonInt64(2L)) < 0);
+        assertTrue(
+                compareBsonValue(
+                                new BsonDecimal128(new Decimal128(new BigDecimal("2.01"))),
+                                new BsonDouble(2.0))
+                        > 0);
+        assertTrue(compareBsonValue(new BsonDouble(Double.NaN), new BsonInt64(Long.MIN_VALUE)) < 0);
+        assertTrue(
+                compareBsonValue(
+                                new BsonDouble(Double.POSITIVE_INFINITY),
+                                new BsonInt64(Long.MAX_VALUE))
+                        > 0);
+        assertTrue(
+                compareBsonValue(new BsonInt64(Long.MAX_VALUE - 1), new BsonInt64(Long.MAX_VALUE))
+                        < 0);
+    }
+
+    @Test
+    public void testCompareStringsAndDocuments() {
+        assertTrue(compareBsonValue(new BsonString("ab"), new BsonString("b")) < 0);
+        assertTrue(compareBsonValue(new BsonString("a"), new BsonString("ab")) < 0);
+        // the supplementary characters are after the other characters in UTF-8
+        assertTrue(compareBsonValue(new BsonString("\uFFFD"), new BsonString("\uD83D\uDE00")) < 0);
+
+        BsonDocument doc = new BsonDocument("a", new BsonInt32(1)).append("b", new BsonInt32(2));
+        assertTrue(compareBsonValue(doc, new BsonDocument("a", new BsonInt32(2))) < 0);
+        assertTrue(compareBsonValue(new BsonDocument("a", new BsonInt32(1)), doc) < 0);
+        // the type of values is compared before the name of fields
+        assertTrue(
+                compareBsonValue(
+                                new BsonDocument("b", new BsonInt32(1)),
+                                new BsonDocument("a", new BsonString("1")))
+                        < 0);
+    }
+}
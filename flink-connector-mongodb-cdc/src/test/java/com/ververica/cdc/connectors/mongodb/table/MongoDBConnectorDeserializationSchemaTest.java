@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mongodb.table;
+
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.data.GenericArrayData;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
+
+import com.mongodb.kafka.connect.source.schema.BsonValueToSchemaAndValue;
+import com.ververica.cdc.connectors.mongodb.internal.MongoDBEnvelope;
+import com.ververica.cdc.debezium.table.MetadataConverter;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.data.Envelope;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/** Tests for {@link MongoDBConnectorDeserializationSchema}. */
+public class MongoDBConnectorDeserializationSchemaTest {
+
+    static final RowType PHYSICAL_TYPE =
+            (RowType)
+                    DataTypes.ROW(
+                                    DataTypes.FIELD("_id", DataTypes.STRING()),
+                                    DataTypes.FIELD("name", DataTypes.STRING()),
+                                    DataTypes.FIELD(
+                                            "address",
+                                            DataTypes.ROW(
+                                                    DataTypes.FIELD("city", DataTypes.STRING()),
+                                                    DataTypes.FIELD("zip", DataTypes.INT()))),
+                                    DataTypes.FIELD("tags", DataTypes.ARRAY(DataTypes.STRING())))
+                            .getLogicalType();
+
+    private static final Schema JSON_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(MongoDBEnvelope.OPERATION_TYPE_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
+                    .field(MongoDBEnvelope.FULL_DOCUMENT_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
+                    .field(
+                            MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD,
+                            Schema.OPTIONAL_STRING_SCHEMA)
+                    .field(MongoDBEnvelope.DOCUMENT_KEY_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
+                    .field(
+                            MongoDBEnvelope.NAMESPACE_FIELD,
+                            SchemaBuilder.struct()
+                                    .field(
+                                            MongoDBEnvelope.NAMESPACE_DATABASE_FIELD,
+                                            Schema.STRING_SCHEMA)
+                                    .field(
+                                            MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD,
+                                            Schema.OPTIONAL_STRING_SCHEMA)
+                                    .optional()
+                                    .build())
+                    .field(Envelope.FieldName.SOURCE, MongoDBEnvelope.BSON_SOURCE_SCHEMA)
+                    .build();
+
+    @Test
+    public void testDeserializeInsertOfBothFormats() throws Exception {
+        BsonDocument changeStreamDocument = changeStreamDocument("insert", fullDocument("1"));
+        GenericRowData expected =
+                GenericRowData.ofKind(
+                        RowKind.INSERT,
+                        StringData.fromString("1"),
+                        StringData.fromString("user_1"),
+                        GenericRowData.of(StringData.fromString("Hangzhou"), 310000),
+                        new GenericArrayData(
+                                new Object[] {
+                                    StringData.fromString("a"), StringData.fromString("b")
+                                }));
+
+        assertEquals(
+                Collections.singletonList(expected), deserialize(jsonRecord(changeStreamDocument)));
+        assertEquals(
+                Collections.singletonList(expected), deserialize(bsonRecord(changeStreamDocument)));
+    }
+
+    @Test
+    public void testDeserializeDeleteAndUpdateOfBsonFormat() throws Exception {
+        BsonDocument delete = changeStreamDocument("delete", null);
+        GenericRowData expectedDelete =
+                GenericRowData.ofKind(RowKind.DELETE, StringData.fromString("1"), null, null, null);
+        assertEquals(Collections.singletonList(expectedDelete), deserialize(bsonRecord(delete)));
+
+        // the full document is null if the document is deleted before the lookup
+        BsonDocument update = changeStreamDocument("update", null);
+        update.put(MongoDBEnvelope.FULL_DOCUMENT_FIELD, BsonNull.VALUE);
+        assertEquals(Collections.emptyList(), deserialize(bsonRecord(update)));
+    }
+
+    @Test
+    public void testDeserializeFullChangelogOfBothFormats() throws Exception {
+        BsonDocument before = fullDocument("1");
+        BsonDocument after = fullDocument("1");
+        after.put("name", new BsonString("user_1_updated"));
+        BsonDocument update = changeStreamDocument("update", after);
+        update.put(MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD, before);
+        BsonDocument delete = changeStreamDocument("delete", null);
+        delete.put(MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD, after);
+
+        for (boolean bsonFormat : new boolean[] {false, true}) {
+            List<RowData> updateRows =
+                    deserialize(bsonFormat ? bsonRecord(update) : jsonRecord(update));
+            assertEquals(2, updateRows.size());
+            assertEquals(RowKind.UPDATE_BEFORE, updateRows.get(0).getRowKind());
+            assertEquals(StringData.fromString("user_1"), updateRows.get(0).getString(1));
+            assertEquals(RowKind.UPDATE_AFTER, updateRows.get(1).getRowKind());
+            assertEquals(StringData.fromString("user_1_updated"), updateRows.get(1).getString(1));
+
+            // the delete row is the whole pre-image instead of the document key
+            List<RowData> deleteRows =
+                    deserialize(bsonFormat ? bsonRecord(delete) : jsonRecord(delete));
+            assertEquals(1, deleteRows.size());
+            assertEquals(RowKind.DELETE, deleteRows.get(0).getRowKind());
+            assertEquals(StringData.fromString("user_1_updated"), deleteRows.get(0).getString(1));
+        }
+    }
+
+    @Test
+    public void testBothFormatsProduceSameRowsOfDeclaredFields() throws Exception {
+        // the document has nested fields which are not declared in the table schema, and lacks
+        // the declared field "tags"
+        BsonDocument before = fullDocument("1");
+        before.remove("tags");
+        BsonDocument nested = new BsonDocument("level", new BsonInt32(0));
+        for (int i = 1; i < 4; i++) {
+            nested =
+                    new BsonDocument("level", new BsonInt32(i))
+                            .append("child", nested)
+                            .append("array", new BsonArray(asBsonStrings("x", "y")));
+        }
+        before.append("extra", nested);
+        before.append("extra_tags", new BsonArray(asBsonStrings("c")));
+        BsonDocument after = before.clone();
+        after.put("name", new BsonString("user_1_updated"));
+
+        BsonDocument update = changeStreamDocument("update", after);
+        update.put(MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD, before);
+        BsonDocument delete = changeStreamDocument("delete", null);
+        delete.put(MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD, after);
+
+        for (BsonDocument changeStreamDocument :
+                new BsonDocument[] {changeStreamDocument("insert", before), update, delete}) {
+            List<RowData> jsonRows = deserialize(jsonRecord(changeStreamDocument));
+            assertFalse(jsonRows.isEmpty());
+            assertEquals(jsonRows, deserialize(bsonRecord(changeStreamDocument)));
+        }
+    }
+
+    @Test
+    public void testReadMetadataOfBothFormats() {
+        BsonDocument changeStreamDocument = changeStreamDocument("insert", fullDocument("1"));
+        for (SourceRecord record :
+                new SourceRecord[] {
+                    jsonRecord(changeStreamDocument), bsonRecord(changeStreamDocument)
+                }) {
+            assertEquals(
+                    StringData.fromString("inventory"),
+                    MongoDBReadableMetadata.DATABASE.getConverter().read(record));
+            assertEquals(
+                    StringData.fromString("customers"),
+                    MongoDBReadableMetadata.COLLECTION.getConverter().read(record));
+        }
+    }
+
+    private static List<RowData> deserialize(SourceRecord record) throws Exception {
+        List<RowData> rows = new ArrayList<>();
+        createDeserializer().deserialize(record, new ListCollector<>(rows));
+        return rows;
+    }
+
+    static MongoDBConnectorDeserializationSchema createDeserializer() {
+        return new MongoDBConnectorDeserializationSchema(
+                PHYSICAL_TYPE,
+                new MetadataConverter[0],
+                InternalTypeInfo.of(PHYSICAL_TYPE),
+                ZoneId.of("UTC"));
+    }
+
+    static BsonDocument fullDocument(String id) {
+        return new BsonDocument("_id", new BsonString(id))
+                .append("name", new BsonString("user_" + id))
+                .append(
+                        "address",
+                        new BsonDocument("city", new BsonString("Hangzhou"))
+                                .append("zip", new BsonInt32(310000)))
+                .append("tags", new BsonArray(asBsonStrings("a", "b")));
+    }
+
+    static BsonDocument changeStreamDocument(String operationType, BsonDocument fullDocument) {
+        BsonDocument changeStreamDocument =
+                new BsonDocument("_id", new BsonDocument("_data", new BsonString("8261")))
+                        .append(MongoDBEnvelope.OPERATION_TYPE_FIELD, new BsonString(operationType))
+                        .append(
+                                MongoDBEnvelope.CLUSTER_TIME_FIELD,
+                                new BsonTimestamp(1634063744, 1))
+                        .append(
+                                MongoDBEnvelope.NAMESPACE_FIELD,
+                                new BsonDocument(
+                                                MongoDBEnvelope.NAMESPACE_DATABASE_FIELD,
+                                                new BsonString("inventory"))
+                                        .append(
+                                                MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD,
+                                                new BsonString("customers")))
+                        .append(
+                                MongoDBEnvelope.DOCUMENT_KEY_FIELD,
+                                new BsonDocument("_id", new BsonString("1")));
+        if (fullDocument != null) {
+            changeStreamDocument.append(MongoDBEnvelope.FULL_DOCUMENT_FIELD, fullDocument);
+        }
+        return changeStreamDocument;
+    }
+
+    /** Creates the record of schema output format, whose documents are JSON strings. */
+    static SourceRecord jsonRecord(BsonDocument changeStreamDocument) {
+        BsonDocument ns = changeStreamDocument.getDocument(MongoDBEnvelope.NAMESPACE_FIELD);
+        Struct value = new Struct(JSON_VALUE_SCHEMA);
+        value.put(
+                MongoDBEnvelope.OPERATION_TYPE_FIELD,
+                changeStreamDocument.getString(MongoDBEnvelope.OPERATION_TYPE_FIELD).getValue());
+        value.put(
+                MongoDBEnvelope.DOCUMENT_KEY_FIELD,
+                changeStreamDocument.getDocument(MongoDBEnvelope.DOCUMENT_KEY_FIELD).toJson());
+        if (changeStreamDocument.isDocument(MongoDBEnvelope.FULL_DOCUMENT_FIELD)) {
+            value.put(
+                    MongoDBEnvelope.FULL_DOCUMENT_FIELD,
+                    changeStreamDocument.getDocument(MongoDBEnvelope.FULL_DOCUMENT_FIELD).toJson());
+        }
+        if (changeStreamDocument.isDocument(MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD)) {
+            value.put(
+                    MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD,
+                    changeStreamDocument
+                            .getDocument(MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD)
+                            .toJson());
+        }
+        Struct namespace =
+                new Struct(JSON_VALUE_SCHEMA.field(MongoDBEnvelope.NAMESPACE_FIELD).schema());
+        namespace.put(
+                MongoDBEnvelope.NAMESPACE_DATABASE_FIELD,
+                ns.getString(MongoDBEnvelope.NAMESPACE_DATABASE_FIELD).getValue());
+        namespace.put(
+                MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD,
+                ns.getString(MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD).getValue());
+        value.put(MongoDBEnvelope.NAMESPACE_FIELD, namespace);
+        value.put(Envelope.FieldName.SOURCE, source());
+        return new SourceRecord(null, null, "inventory.customers", JSON_VALUE_SCHEMA, value);
+    }
+
+    /**
+     * Creates the record of bson output format, whose value holds the raw change stream document.
+     */
+    static SourceRecord bsonRecord(BsonDocument changeStreamDocument) {
+        Struct value = new Struct(MongoDBEnvelope.BSON_VALUE_SCHEMA);
+        value.put(
+                MongoDBEnvelope.BSON_DOCUMENT_FIELD,
+                BsonValueToSchemaAndValue.documentToByteArray(changeStreamDocument));
+        value.put(Envelope.FieldName.SOURCE, source());
+        return new SourceRecord(
+                null, null, "inventory.customers", MongoDBEnvelope.BSON_VALUE_SCHEMA, value);
+    }
+
+    private static Struct source() {
+        Struct source = new Struct(MongoDBEnvelope.BSON_SOURCE_SCHEMA);
+        source.put(AbstractSourceInfo.TIMESTAMP_KEY, 1634063744000L);
+        return source;
+    }
+
+    private static List<BsonString> asBsonStrings(String... values) {
+        List<BsonString> bsonStrings = new ArrayList<>();
+        for (String value : values) {
+            bsonStrings.add(new BsonString(value));
+        }
+        return bsonStrings;
+    }
+}
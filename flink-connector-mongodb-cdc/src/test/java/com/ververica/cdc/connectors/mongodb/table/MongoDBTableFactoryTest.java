@@ -26,6 +26,7 @@ import org.apache.flink.table.catalog.ObjectIdentifier;
 import org.apache.flink.table.catalog.ResolvedCatalogTable;
 import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.catalog.UniqueConstraint;
+import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.factories.FactoryUtil;
 import org.apache.flink.table.utils.TableSchemaUtils;
@@ -43,6 +44,10 @@ import java.util.Map;
 import static com.ververica.cdc.connectors.mongodb.MongoDBSource.ERROR_TOLERANCE_ALL;
 import static com.ververica.cdc.connectors.mongodb.MongoDBSource.POLL_AWAIT_TIME_MILLIS_DEFAULT;
 import static com.ververica.cdc.connectors.mongodb.MongoDBSource.POLL_MAX_BATCH_SIZE_DEFAULT;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_FULL_CHANGELOG;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
+import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED;
 import static org.apache.flink.table.api.TableSchema.fromResolvedSchema;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -109,7 +114,11 @@ public class MongoDBTableFactoryTest {
                         POLL_MAX_BATCH_SIZE_DEFAULT,
                         POLL_AWAIT_TIME_MILLIS_DEFAULT,
                         null,
-                        LOCAL_TIME_ZONE);
+                        LOCAL_TIME_ZONE,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB.defaultValue(),
+                        SCAN_FULL_CHANGELOG.defaultValue(),
+                        SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -146,10 +155,50 @@ public class MongoDBTableFactoryTest {
                         102,
                         103,
                         104,
-                        LOCAL_TIME_ZONE);
+                        LOCAL_TIME_ZONE,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB.defaultValue(),
+                        SCAN_FULL_CHANGELOG.defaultValue(),
+                        SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
+    @Test
+    public void testIncrementalSnapshotProperties() {
+        Map<String, String> options = getAllOptions();
+        options.put("scan.incremental.snapshot.enabled", "true");
+        options.put("scan.incremental.snapshot.chunk.size.mb", "16");
+        options.put("scan.full-changelog", "true");
+        options.put("scan.per-shard-change-streams.enabled", "true");
+        DynamicTableSource actualSource = createTableSource(SCHEMA, options);
+
+        MongoDBTableSource expectedSource =
+                new MongoDBTableSource(
+                        TableSchemaUtils.getPhysicalSchema(fromResolvedSchema(SCHEMA)),
+                        MY_HOSTS,
+                        USER,
+                        PASSWORD,
+                        MY_DATABASE,
+                        MY_TABLE,
+                        null,
+                        ERROR_TOLERANCE,
+                        ERROR_LOGS_ENABLE,
+                        COPY_EXISTING,
+                        null,
+                        null,
+                        null,
+                        POLL_MAX_BATCH_SIZE_DEFAULT,
+                        POLL_AWAIT_TIME_MILLIS_DEFAULT,
+                        null,
+                        LOCAL_TIME_ZONE,
+                        true,
+                        16,
+                        true,
+                        true);
+        assertEquals(expectedSource, actualSource);
+        assertEquals(ChangelogMode.all(), ((MongoDBTableSource) actualSource).getChangelogMode());
+    }
+
     @Test
     public void testMetadataColumns() {
         Map<String, String> properties = getAllOptions();
@@ -180,7 +229,11 @@ public class MongoDBTableFactoryTest {
                         POLL_MAX_BATCH_SIZE_DEFAULT,
                         POLL_AWAIT_TIME_MILLIS_DEFAULT,
                         null,
-                        LOCAL_TIME_ZONE);
+                        LOCAL_TIME_ZONE,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB.defaultValue(),
+                        SCAN_FULL_CHANGELOG.defaultValue(),
+                        SCAN_PER_SHARD_CHANGE_STREAMS_ENABLED.defaultValue());
 
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys = Arrays.asList("op_ts", "database_name");
@@ -202,6 +255,38 @@ public class MongoDBTableFactoryTest {
                     ExceptionUtils.findThrowableWithMessage(t, "Unsupported options:\n\nunknown")
                             .isPresent());
         }
+
+        // validate the full changelog without incremental snapshot
+        try {
+            Map<String, String> properties = getAllOptions();
+            properties.put("scan.full-changelog", "true");
+
+            createTableSource(SCHEMA, properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            assertTrue(
+                    ExceptionUtils.findThrowableWithMessage(
+                                    t,
+                                    "The option 'scan.full-changelog' requires the option "
+                                            + "'scan.incremental.snapshot.enabled' to be enabled")
+                            .isPresent());
+        }
+
+        // validate the per-shard change streams without incremental snapshot
+        try {
+            Map<String, String> properties = getAllOptions();
+            properties.put("scan.per-shard-change-streams.enabled", "true");
+
+            createTableSource(SCHEMA, properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            assertTrue(
+                    ExceptionUtils.findThrowableWithMessage(
+                                    t,
+                                    "The option 'scan.per-shard-change-streams.enabled' requires "
+                                            + "the option 'scan.incremental.snapshot.enabled' to be enabled")
+                            .isPresent());
+        }
     }
 
     private Map<String, String> getAllOptions() {
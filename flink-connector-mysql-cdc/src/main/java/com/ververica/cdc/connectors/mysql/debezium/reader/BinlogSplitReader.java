@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -57,6 +58,7 @@ import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getBin
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKey;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getTableId;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isSchemaChangeEvent;
 
 /**
  * A Debezium binlog reader implementation that also support reads binlog and filter overlapping
@@ -78,6 +80,8 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecord, MySqlSpli
     // tableId -> the max splitHighWatermark
     private Map<TableId, BinlogOffset> maxSplitHighWatermarkMap;
     private Tables.TableFilter capturedTableFilter;
+    // tableId -> the split key type of the table's snapshot splits
+    private final Map<TableId, RowType> splitKeyTypes = new HashMap<>();
 
     public BinlogSplitReader(StatefulTaskContext statefulTaskContext, int subTaskId) {
         this.statefulTaskContext = statefulTaskContext;
@@ -203,9 +207,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecord, MySqlSpli
             }
             // only the table who captured snapshot splits need to filter
             if (finishedSplitsInfo.containsKey(tableId)) {
-                RowType splitKeyType =
-                        ChunkUtils.getSplitType(
-                                statefulTaskContext.getDatabaseSchema().tableFor(tableId));
+                RowType splitKeyType = getSplitKeyType(tableId);
                 Object[] key =
                         getSplitKey(
                                 splitKeyType,
@@ -222,11 +224,32 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecord, MySqlSpli
             // not in the monitored splits scope, do not emit
             return false;
         }
+        if (isSchemaChangeEvent(sourceRecord)) {
+            // the split key of the changed table may change
+            splitKeyTypes.clear();
+        }
         // always send the schema change event and signal event
         // we need record them to state of Flink
         return true;
     }
 
+    private RowType getSplitKeyType(TableId tableId) {
+        return splitKeyTypes.computeIfAbsent(
+                tableId,
+                id -> {
+                    try {
+                        return ChunkUtils.getSplitType(
+                                ChunkUtils.getSplitColumn(
+                                        statefulTaskContext.getConnection(),
+                                        statefulTaskContext.getDatabaseSchema().tableFor(id),
+                                        statefulTaskContext.getSourceConfig().getChunkKeyColumn()));
+                    } catch (SQLException e) {
+                        throw new FlinkRuntimeException(
+                                "Failed to get the split key of table " + id, e);
+                    }
+                });
+    }
+
     private boolean hasEnterPureBinlogPhase(TableId tableId, BinlogOffset position) {
         // the existed tables those have finished snapshot reading
         if (maxSplitHighWatermarkMap.containsKey(tableId)
@@ -156,9 +156,15 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecord, MySqlSp
 
     private MySqlBinlogSplit createBackfillBinlogSplit(
             SnapshotSplitChangeEventSourceContextImpl sourceContext) {
+        // the split which has been emitted partially should also backfill the changes of the
+        // emitted part since the emitted watermark
+        final BinlogOffset startingOffset =
+                currentSnapshotSplit.isSnapshotReadPartiallyEmitted()
+                        ? currentSnapshotSplit.getLastEmittedWatermark()
+                        : sourceContext.getLowWatermark();
         return new MySqlBinlogSplit(
                 currentSnapshotSplit.splitId(),
-                sourceContext.getLowWatermark(),
+                startingOffset,
                 sourceContext.getHighWatermark(),
                 new ArrayList<>(),
                 currentSnapshotSplit.getTableSchemas(),
@@ -223,7 +229,7 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecord, MySqlSp
         if (hasNextElement.get()) {
             // data input: [low watermark event][snapshot events][high watermark event][binlog
             // events][binlog-end event]
-            // data output: [low watermark event][normalized events][high watermark event]
+            // data output: [low watermark event][high watermark event][normalized events]
             boolean reachBinlogEnd = false;
             final List<SourceRecord> sourceRecords = new ArrayList<>();
             while (!reachBinlogEnd) {
@@ -203,12 +203,21 @@ public class MySqlSnapshotSplitReadTask extends AbstractSnapshotChangeEventSourc
         long exportStart = clock.currentTimeInMillis();
         LOG.info("Exporting data from split '{}' of table {}", snapshotSplit.splitId(), table.id());
 
+        // the split which has been emitted partially only scans the rest data of the split
+        final boolean isResumedRead = snapshotSplit.isSnapshotReadPartiallyEmitted();
+        final Object[] scanStart =
+                isResumedRead ? snapshotSplit.getLastEmittedKey() : snapshotSplit.getSplitStart();
         final String selectSql =
-                StatementUtils.buildSplitScanQuery(
-                        snapshotSplit.getTableId(),
-                        snapshotSplit.getSplitKeyType(),
-                        snapshotSplit.getSplitStart() == null,
-                        snapshotSplit.getSplitEnd() == null);
+                isResumedRead
+                        ? StatementUtils.buildSplitRemainderScanQuery(
+                                snapshotSplit.getTableId(),
+                                snapshotSplit.getSplitKeyType(),
+                                snapshotSplit.getSplitEnd() == null)
+                        : StatementUtils.buildSplitScanQuery(
+                                snapshotSplit.getTableId(),
+                                snapshotSplit.getSplitKeyType(),
+                                snapshotSplit.getSplitStart() == null,
+                                snapshotSplit.getSplitEnd() == null);
         LOG.info(
                 "For split '{}' of table {} using select statement: '{}'",
                 snapshotSplit.splitId(),
@@ -219,9 +228,9 @@ public class MySqlSnapshotSplitReadTask extends AbstractSnapshotChangeEventSourc
                         StatementUtils.readTableSplitDataStatement(
                                 jdbcConnection,
                                 selectSql,
-                                snapshotSplit.getSplitStart() == null,
+                                scanStart == null,
                                 snapshotSplit.getSplitEnd() == null,
-                                snapshotSplit.getSplitStart(),
+                                scanStart,
                                 snapshotSplit.getSplitEnd(),
                                 snapshotSplit.getSplitKeyType().getFieldCount(),
                                 connectorConfig.getQueryFetchSize());
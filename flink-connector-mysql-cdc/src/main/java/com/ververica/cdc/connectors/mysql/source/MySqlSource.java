@@ -141,7 +141,9 @@ public class MySqlSource<T>
                 new MySqlRecordEmitter<>(
                         deserializationSchema,
                         sourceReaderMetrics,
-                        sourceConfig.isIncludeSchemaChanges()),
+                        sourceConfig.isIncludeSchemaChanges(),
+                        sourceConfig.isEmitBinlogWatermarks(),
+                        sourceConfig.getWatermarkMaxOutOfOrderness()),
                 readerContext.getConfiguration(),
                 readerContext,
                 sourceConfig);
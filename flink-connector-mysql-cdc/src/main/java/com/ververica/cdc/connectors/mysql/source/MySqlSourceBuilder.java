@@ -178,6 +178,70 @@ public class MySqlSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * Whether the {@link MySqlSource} should assign the binlog time of change events as record
+     * timestamps and emit watermarks derived from it, default is false.
+     *
+     * <p>Snapshot records carry no binlog time and are emitted without timestamps. Readers which
+     * have no split to read are marked idle so that they don't hold back the downstream watermark.
+     * To keep the watermark advancing while the captured tables receive no changes, enable the
+     * debezium heartbeat via the {@code heartbeat.interval.ms} property, optionally together with
+     * {@code heartbeat.action.query} to generate binlog events on an idle server.
+     */
+    public MySqlSourceBuilder<T> emitBinlogWatermarks(boolean emitBinlogWatermarks) {
+        this.configFactory.emitBinlogWatermarks(emitBinlogWatermarks);
+        return this;
+    }
+
+    /**
+     * The maximum out-of-orderness of binlog time tolerated by the emitted watermarks, default is
+     * zero. Only takes effect when {@link #emitBinlogWatermarks(boolean)} is enabled.
+     */
+    public MySqlSourceBuilder<T> watermarkMaxOutOfOrderness(Duration watermarkMaxOutOfOrderness) {
+        this.configFactory.watermarkMaxOutOfOrderness(watermarkMaxOutOfOrderness);
+        return this;
+    }
+
+    /**
+     * Whether to throttle the chunk reading of incremental snapshot adaptively, default is false.
+     *
+     * <p>When enabled, the enumerator hands out snapshot chunks against a budget of concurrently
+     * read chunks. The budget is halved when the observed chunk latency degrades or the server
+     * signals configured via {@link #snapshotThrottleMaxThreadsRunning(int)} and {@link
+     * #snapshotThrottleMaxReplicaLag(Duration)} are exceeded, and grows back up to the source
+     * parallelism otherwise.
+     */
+    public MySqlSourceBuilder<T> snapshotThrottleEnabled(boolean snapshotThrottleEnabled) {
+        this.configFactory.snapshotThrottleEnabled(snapshotThrottleEnabled);
+        return this;
+    }
+
+    /** The threshold of MySQL status 'Threads_running' to back off the snapshot reading. */
+    public MySqlSourceBuilder<T> snapshotThrottleMaxThreadsRunning(int maxThreadsRunning) {
+        this.configFactory.snapshotThrottleMaxThreadsRunning(maxThreadsRunning);
+        return this;
+    }
+
+    /** The threshold of MySQL replication lag to back off the snapshot reading. */
+    public MySqlSourceBuilder<T> snapshotThrottleMaxReplicaLag(Duration maxReplicaLag) {
+        this.configFactory.snapshotThrottleMaxReplicaLag(maxReplicaLag);
+        return this;
+    }
+
+    /**
+     * The column used to split the captured tables into chunks when read the snapshot of table.
+     *
+     * <p>For tables with primary key, the column must be one of the primary key columns. For tables
+     * without primary key, the column also identifies the rows when merging the binlog events into
+     * the chunks, so its values should be unique and not null. By default, the first primary key
+     * column is used, or the column of a single-column unique index on a not null column for tables
+     * without primary key.
+     */
+    public MySqlSourceBuilder<T> chunkKeyColumn(String chunkKeyColumn) {
+        this.configFactory.chunkKeyColumn(chunkKeyColumn);
+        return this;
+    }
+
     /** Specifies the startup options. */
     public MySqlSourceBuilder<T> startupOptions(StartupOptions startupOptions) {
         this.configFactory.startupOptions(startupOptions);
@@ -85,6 +85,12 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
         return false;
     }
 
+    @Override
+    public boolean isSnapshotReadFinished() {
+        // the binlog-only assigner doesn't read any snapshot
+        return true;
+    }
+
     @Override
     public List<FinishedSnapshotSplitInfo> getFinishedSplitInfos() {
         return Collections.EMPTY_LIST;
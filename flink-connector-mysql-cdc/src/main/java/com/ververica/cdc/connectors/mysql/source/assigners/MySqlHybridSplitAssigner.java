@@ -119,6 +119,11 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
         return snapshotSplitAssigner.waitingForFinishedSplits();
     }
 
+    @Override
+    public boolean isSnapshotReadFinished() {
+        return isBinlogSplitAssigned || snapshotSplitAssigner.isFinished();
+    }
+
     @Override
     public List<FinishedSnapshotSplitInfo> getFinishedSplitInfos() {
         return snapshotSplitAssigner.getFinishedSplitInfos();
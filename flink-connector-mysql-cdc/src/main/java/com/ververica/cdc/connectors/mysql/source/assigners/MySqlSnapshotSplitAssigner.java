@@ -180,6 +180,11 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         return !allSplitsFinished();
     }
 
+    @Override
+    public boolean isSnapshotReadFinished() {
+        return isFinished();
+    }
+
     @Override
     public List<FinishedSnapshotSplitInfo> getFinishedSplitInfos() {
         if (waitingForFinishedSplits()) {
@@ -55,6 +55,13 @@ public interface MySqlSplitAssigner {
      */
     boolean waitingForFinishedSplits();
 
+    /**
+     * Whether the snapshot splits have all been read, i.e. the assigner won't assign snapshot
+     * splits anymore. This is also true for the restored assigner which has assigned the binlog
+     * split.
+     */
+    boolean isSnapshotReadFinished();
+
     /**
      * Gets the finished splits information. This is useful meta data to generate a binlog split
      * that considering finished snapshot splits.
@@ -54,6 +54,12 @@ public class MySqlSourceConfig implements Serializable {
     private final int connectionPoolSize;
     private final double evenlyDistributionFactor;
     private final boolean includeSchemaChanges;
+    private final boolean emitBinlogWatermarks;
+    private final Duration watermarkMaxOutOfOrderness;
+    private final boolean snapshotThrottleEnabled;
+    @Nullable private final Integer snapshotThrottleMaxThreadsRunning;
+    @Nullable private final Duration snapshotThrottleMaxReplicaLag;
+    @Nullable private final String chunkKeyColumn;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -80,6 +86,12 @@ public class MySqlSourceConfig implements Serializable {
             int connectionPoolSize,
             double evenlyDistributionFactor,
             boolean includeSchemaChanges,
+            boolean emitBinlogWatermarks,
+            Duration watermarkMaxOutOfOrderness,
+            boolean snapshotThrottleEnabled,
+            @Nullable Integer snapshotThrottleMaxThreadsRunning,
+            @Nullable Duration snapshotThrottleMaxReplicaLag,
+            @Nullable String chunkKeyColumn,
             Properties dbzProperties) {
         this.hostname = checkNotNull(hostname);
         this.port = port;
@@ -98,6 +110,12 @@ public class MySqlSourceConfig implements Serializable {
         this.connectionPoolSize = connectionPoolSize;
         this.evenlyDistributionFactor = evenlyDistributionFactor;
         this.includeSchemaChanges = includeSchemaChanges;
+        this.emitBinlogWatermarks = emitBinlogWatermarks;
+        this.watermarkMaxOutOfOrderness = checkNotNull(watermarkMaxOutOfOrderness);
+        this.snapshotThrottleEnabled = snapshotThrottleEnabled;
+        this.snapshotThrottleMaxThreadsRunning = snapshotThrottleMaxThreadsRunning;
+        this.snapshotThrottleMaxReplicaLag = snapshotThrottleMaxReplicaLag;
+        this.chunkKeyColumn = chunkKeyColumn;
         this.dbzProperties = checkNotNull(dbzProperties);
         this.dbzConfiguration = Configuration.from(dbzProperties);
         this.dbzMySqlConfig = new MySqlConnectorConfig(dbzConfiguration);
@@ -172,6 +190,33 @@ public class MySqlSourceConfig implements Serializable {
         return includeSchemaChanges;
     }
 
+    public boolean isEmitBinlogWatermarks() {
+        return emitBinlogWatermarks;
+    }
+
+    public Duration getWatermarkMaxOutOfOrderness() {
+        return watermarkMaxOutOfOrderness;
+    }
+
+    public boolean isSnapshotThrottleEnabled() {
+        return snapshotThrottleEnabled;
+    }
+
+    @Nullable
+    public Integer getSnapshotThrottleMaxThreadsRunning() {
+        return snapshotThrottleMaxThreadsRunning;
+    }
+
+    @Nullable
+    public Duration getSnapshotThrottleMaxReplicaLag() {
+        return snapshotThrottleMaxReplicaLag;
+    }
+
+    @Nullable
+    public String getChunkKeyColumn() {
+        return chunkKeyColumn;
+    }
+
     public Properties getDbzProperties() {
         return dbzProperties;
     }
@@ -38,6 +38,7 @@ import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOption
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.EVENLY_DISTRIBUTION_FACTOR;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_THROTTLE_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SERVER_TIME_ZONE;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
@@ -64,6 +65,12 @@ public class MySqlSourceConfigFactory implements Serializable {
     private int connectionPoolSize = CONNECTION_POOL_SIZE.defaultValue();
     private double evenlyDistributionFactor = EVENLY_DISTRIBUTION_FACTOR.defaultValue();
     private boolean includeSchemaChanges = false;
+    private boolean emitBinlogWatermarks = false;
+    private Duration watermarkMaxOutOfOrderness = Duration.ZERO;
+    private boolean snapshotThrottleEnabled = SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue();
+    private Integer snapshotThrottleMaxThreadsRunning;
+    private Duration snapshotThrottleMaxReplicaLag;
+    private String chunkKeyColumn;
     private Properties dbzProperties;
 
     public MySqlSourceConfigFactory hostname(String hostname) {
@@ -191,6 +198,51 @@ public class MySqlSourceConfigFactory implements Serializable {
         return this;
     }
 
+    /**
+     * Whether the {@link MySqlSource} should assign the binlog time of change events as record
+     * timestamps and emit watermarks derived from it.
+     */
+    public MySqlSourceConfigFactory emitBinlogWatermarks(boolean emitBinlogWatermarks) {
+        this.emitBinlogWatermarks = emitBinlogWatermarks;
+        return this;
+    }
+
+    /** The maximum out-of-orderness of binlog time tolerated by the emitted watermarks. */
+    public MySqlSourceConfigFactory watermarkMaxOutOfOrderness(
+            Duration watermarkMaxOutOfOrderness) {
+        this.watermarkMaxOutOfOrderness = watermarkMaxOutOfOrderness;
+        return this;
+    }
+
+    /** Whether to throttle the chunk reading of incremental snapshot adaptively. */
+    public MySqlSourceConfigFactory snapshotThrottleEnabled(boolean snapshotThrottleEnabled) {
+        this.snapshotThrottleEnabled = snapshotThrottleEnabled;
+        return this;
+    }
+
+    /** The threshold of MySQL status 'Threads_running' to back off the snapshot reading. */
+    public MySqlSourceConfigFactory snapshotThrottleMaxThreadsRunning(
+            Integer snapshotThrottleMaxThreadsRunning) {
+        this.snapshotThrottleMaxThreadsRunning = snapshotThrottleMaxThreadsRunning;
+        return this;
+    }
+
+    /** The threshold of MySQL replication lag to back off the snapshot reading. */
+    public MySqlSourceConfigFactory snapshotThrottleMaxReplicaLag(
+            Duration snapshotThrottleMaxReplicaLag) {
+        this.snapshotThrottleMaxReplicaLag = snapshotThrottleMaxReplicaLag;
+        return this;
+    }
+
+    /**
+     * The column used to split the captured tables into chunks, the first primary key column or the
+     * column of a unique index is used by default.
+     */
+    public MySqlSourceConfigFactory chunkKeyColumn(String chunkKeyColumn) {
+        this.chunkKeyColumn = chunkKeyColumn;
+        return this;
+    }
+
     /** Specifies the startup options. */
     public MySqlSourceConfigFactory startupOptions(StartupOptions startupOptions) {
         switch (startupOptions.startupMode) {
@@ -286,6 +338,12 @@ public class MySqlSourceConfigFactory implements Serializable {
                 connectionPoolSize,
                 evenlyDistributionFactor,
                 includeSchemaChanges,
+                emitBinlogWatermarks,
+                watermarkMaxOutOfOrderness,
+                snapshotThrottleEnabled,
+                snapshotThrottleMaxThreadsRunning,
+                snapshotThrottleMaxReplicaLag,
+                chunkKeyColumn,
                 props);
     }
 }
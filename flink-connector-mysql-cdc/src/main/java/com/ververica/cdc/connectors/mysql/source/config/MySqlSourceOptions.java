@@ -23,6 +23,8 @@ import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
 
 import com.ververica.cdc.connectors.mysql.source.MySqlSource;
+import com.ververica.cdc.debezium.table.DebeziumChangelogMode;
+import com.ververica.cdc.debezium.table.DebeziumOptions;
 
 import java.time.Duration;
 
@@ -107,6 +109,18 @@ public class MySqlSourceOptions {
                     .withDescription(
                             "The chunk size (number of rows) of table snapshot, captured tables are split into multiple chunks when read the snapshot of table.");
 
+    public static final ConfigOption<String> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.key-column")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The column used to split the captured tables into chunks when read the snapshot of table. "
+                                    + "For tables with primary key, the column must be one of the primary key columns. "
+                                    + "For tables without primary key, the column is also used as the row identity to merge the binlog "
+                                    + "events into the chunk, so it must be a not null column with a single-column unique index. "
+                                    + "By default, the first primary key column is used, or the column of a single-column "
+                                    + "unique index on a not null column if the table has no primary key.");
+
     public static final ConfigOption<Integer> SCAN_SNAPSHOT_FETCH_SIZE =
             ConfigOptions.key("scan.snapshot.fetch.size")
                     .intType()
@@ -164,6 +178,37 @@ public class MySqlSourceOptions {
                     .withDescription(
                             "Optional timestamp used in case of \"timestamp\" startup mode");
 
+    public static final ConfigOption<Boolean> SCAN_SNAPSHOT_THROTTLE_ENABLED =
+            ConfigOptions.key("scan.snapshot.throttle.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to throttle the chunk reading of incremental snapshot adaptively. "
+                                    + "When enabled, the enumerator limits the number of chunks read concurrently, "
+                                    + "halves the limit when the observed chunk latency degrades or the server is overloaded, "
+                                    + "and increases it step by step up to the source parallelism otherwise.");
+
+    public static final ConfigOption<Integer> SCAN_SNAPSHOT_THROTTLE_MAX_THREADS_RUNNING =
+            ConfigOptions.key("scan.snapshot.throttle.max-threads-running")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional threshold of the MySQL status 'Threads_running', "
+                                    + "the snapshot reading backs off when the server exceeds it. "
+                                    + "Only takes effect when 'scan.snapshot.throttle.enabled' is enabled.");
+
+    public static final ConfigOption<Duration> SCAN_SNAPSHOT_THROTTLE_MAX_REPLICA_LAG =
+            ConfigOptions.key("scan.snapshot.throttle.max-replica-lag")
+                    .durationType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional threshold of the replication lag ('Seconds_Behind_Master') of the "
+                                    + "MySQL server, the snapshot reading backs off when the lag exceeds it. "
+                                    + "Only takes effect when 'scan.snapshot.throttle.enabled' is enabled.");
+
+    public static final ConfigOption<DebeziumChangelogMode> SCAN_CHANGELOG_MODE =
+            DebeziumOptions.CHANGELOG_MODE;
+
     // ----------------------------------------------------------------------------
     // experimental options, won't add them to documentation
     // ----------------------------------------------------------------------------
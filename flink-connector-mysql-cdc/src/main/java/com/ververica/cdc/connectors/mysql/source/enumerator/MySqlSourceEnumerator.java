@@ -25,10 +25,13 @@ import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import org.apache.flink.shaded.guava18.com.google.common.collect.Lists;
+import org.apache.flink.shaded.guava18.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils;
 import com.ververica.cdc.connectors.mysql.source.assigners.MySqlSplitAssigner;
 import com.ververica.cdc.connectors.mysql.source.assigners.state.PendingSplitsState;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.enumerator.SnapshotSplitThrottler.ServerLoad;
 import com.ververica.cdc.connectors.mysql.source.events.BinlogSplitMetaEvent;
 import com.ververica.cdc.connectors.mysql.source.events.BinlogSplitMetaRequestEvent;
 import com.ververica.cdc.connectors.mysql.source.events.FinishedSnapshotSplitsAckEvent;
@@ -37,6 +40,7 @@ import com.ververica.cdc.connectors.mysql.source.events.FinishedSnapshotSplitsRe
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import io.debezium.jdbc.JdbcConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +52,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +66,7 @@ import java.util.stream.Collectors;
 public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, PendingSplitsState> {
     private static final Logger LOG = LoggerFactory.getLogger(MySqlSourceEnumerator.class);
     private static final long CHECK_EVENT_INTERVAL = 30_000L;
+    private static final long CHECK_SERVER_LOAD_INTERVAL = 5_000L;
 
     private final SplitEnumeratorContext<MySqlSplit> context;
     private final MySqlSourceConfig sourceConfig;
@@ -67,6 +76,16 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
     private final TreeSet<Integer> readersAwaitingSplit;
     private List<List<FinishedSnapshotSplitInfo>> binlogSplitMeta;
 
+    // throttles the snapshot splits reading, null if the throttling is disabled
+    @Nullable private final SnapshotSplitThrottler snapshotThrottler;
+    // turns false once the binlog split is assigned
+    private boolean snapshotReading;
+    // the single thread of the server load checking, which the connection is confined to
+    @Nullable private ScheduledExecutorService serverLoadExecutor;
+    @Nullable private ScheduledFuture<?> serverLoadCheck;
+    // the connection of the server load checking, reused across the checks
+    @Nullable private JdbcConnection serverLoadConnection;
+
     public MySqlSourceEnumerator(
             SplitEnumeratorContext<MySqlSplit> context,
             MySqlSourceConfig sourceConfig,
@@ -75,16 +94,40 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
         this.sourceConfig = sourceConfig;
         this.splitAssigner = splitAssigner;
         this.readersAwaitingSplit = new TreeSet<>();
+        this.snapshotThrottler =
+                sourceConfig.isSnapshotThrottleEnabled()
+                        ? new SnapshotSplitThrottler(
+                                context.currentParallelism(),
+                                sourceConfig.getSnapshotThrottleMaxThreadsRunning(),
+                                sourceConfig.getSnapshotThrottleMaxReplicaLag())
+                        : null;
     }
 
     @Override
     public void start() {
         splitAssigner.open();
+        // the restored assigner may have finished the snapshot reading already
+        snapshotReading = !splitAssigner.isSnapshotReadFinished();
         this.context.callAsync(
                 this::getRegisteredReader,
                 this::syncWithReaders,
                 CHECK_EVENT_INTERVAL,
                 CHECK_EVENT_INTERVAL);
+        if (snapshotReading && snapshotThrottler != null && snapshotThrottler.hasServerSignals()) {
+            // the periodic calls of the context can't be cancelled, the checks are scheduled on
+            // a thread of the enumerator and stop once the snapshot reading has finished
+            this.serverLoadExecutor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("mysql-server-load-checker")
+                                    .build());
+            this.serverLoadCheck =
+                    serverLoadExecutor.scheduleWithFixedDelay(
+                            this::checkServerLoad,
+                            CHECK_SERVER_LOAD_INTERVAL,
+                            CHECK_SERVER_LOAD_INTERVAL,
+                            TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
@@ -94,6 +137,10 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
             return;
         }
 
+        if (snapshotThrottler != null) {
+            // the reader requests the next split once it finished the previous snapshot split
+            snapshotThrottler.release(subtaskId, System.nanoTime());
+        }
         readersAwaitingSplit.add(subtaskId);
         assignSplits();
     }
@@ -102,6 +149,9 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
     public void addSplitsBack(List<MySqlSplit> splits, int subtaskId) {
         LOG.debug("MySQL Source Enumerator adds splits back: {}", splits);
         splitAssigner.addSplits(splits);
+        if (snapshotThrottler != null) {
+            snapshotThrottler.cancel(subtaskId);
+        }
     }
 
     @Override
@@ -148,6 +198,7 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
     public void close() {
         LOG.info("Closing enumerator...");
         splitAssigner.close();
+        stopServerLoadCheck();
     }
 
     // ------------------------------------------------------------------------------------------
@@ -164,7 +215,26 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
                 continue;
             }
 
+            if (snapshotThrottler != null
+                    && !snapshotThrottler.tryAcquire(nextAwaiting, System.nanoTime())) {
+                // the snapshot split budget is exhausted, wait for running splits to finish
+                LOG.debug(
+                        "The snapshot split budget {} is exhausted, subtask {} waits for a split.",
+                        snapshotThrottler.getBudget(),
+                        nextAwaiting);
+                break;
+            }
+
             Optional<MySqlSplit> split = splitAssigner.getNext();
+            if (snapshotThrottler != null
+                    && !(split.isPresent() && split.get().isSnapshotSplit())) {
+                snapshotThrottler.cancel(nextAwaiting);
+                if (split.isPresent()) {
+                    // the binlog split is assigned, the snapshot reading has finished
+                    snapshotReading = false;
+                    stopServerLoadCheck();
+                }
+            }
             if (split.isPresent()) {
                 final MySqlSplit mySqlSplit = split.get();
                 context.assignSplit(mySqlSplit, nextAwaiting);
@@ -198,6 +268,56 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
         }
     }
 
+    /** Checks the server load on the thread of the server load checking. */
+    private void checkServerLoad() {
+        try {
+            if (serverLoadConnection == null) {
+                serverLoadConnection = DebeziumUtils.openJdbcConnection(sourceConfig);
+            }
+            final ServerLoad serverLoad =
+                    SnapshotSplitThrottler.queryServerLoad(serverLoadConnection);
+            context.runInCoordinatorThread(() -> onServerLoad(serverLoad));
+        } catch (Exception e) {
+            // the server load is a hint only, don't fail the job if it's unavailable
+            LOG.warn("Failed to check the load of MySQL server.", e);
+            // the connection may be broken, reconnect in the next check
+            closeServerLoadConnection();
+        }
+    }
+
+    /**
+     * Stops the server load checking, the connection is closed on the thread of the checking after
+     * the running check, so that no check runs after the connection is closed.
+     */
+    private void stopServerLoadCheck() {
+        if (serverLoadExecutor == null) {
+            return;
+        }
+        serverLoadCheck.cancel(false);
+        serverLoadExecutor.execute(this::closeServerLoadConnection);
+        serverLoadExecutor.shutdown();
+        serverLoadExecutor = null;
+        serverLoadCheck = null;
+    }
+
+    private void closeServerLoadConnection() {
+        if (serverLoadConnection != null) {
+            try {
+                serverLoadConnection.close();
+            } catch (Exception e) {
+                LOG.warn("Failed to close the connection of MySQL server load checking.", e);
+            }
+            serverLoadConnection = null;
+        }
+    }
+
+    private void onServerLoad(ServerLoad serverLoad) {
+        if (snapshotReading && snapshotThrottler != null) {
+            snapshotThrottler.onServerLoad(serverLoad);
+            assignSplits();
+        }
+    }
+
     private void sendBinlogMeta(int subTask, BinlogSplitMetaRequestEvent requestEvent) {
         // initialize once
         if (binlogSplitMeta == null) {
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.enumerator;
+
+import org.apache.flink.annotation.Internal;
+
+import io.debezium.jdbc.JdbcConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+
+/**
+ * A throttler which limits the number of snapshot splits read concurrently by all source readers.
+ *
+ * <p>Every snapshot split assigned to a reader takes a permit of the budget until the reader
+ * requests the next split, the time in between is taken as the latency of the chunk query. The
+ * budget follows an additive-increase/multiplicative-decrease policy: it's halved when the smoothed
+ * chunk latency degrades beyond {@link #LATENCY_TOLERANCE} times of the best smoothed latency seen
+ * or when the server reports an overload, and it's increased by one otherwise, up to the maximum
+ * budget.
+ */
+@Internal
+public class SnapshotSplitThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotSplitThrottler.class);
+
+    /** The weight of the latest sample in the smoothed chunk latency. */
+    static final double LATENCY_SMOOTHING_FACTOR = 0.3d;
+    /** The tolerated ratio between the smoothed chunk latency and the baseline latency. */
+    static final double LATENCY_TOLERANCE = 2.0d;
+    /** The ratio the baseline latency drifts up per sample to adapt to slower tables. */
+    static final double BASELINE_DRIFT_FACTOR = 1.02d;
+
+    private final int maxBudget;
+    @Nullable private final Integer maxThreadsRunning;
+    @Nullable private final Duration maxReplicaLag;
+    /** The subtasks which hold a permit, mapped to the nano time the split was assigned. */
+    private final Map<Integer, Long> inFlightSplits;
+
+    private int budget;
+    private boolean serverOverloaded;
+    private double smoothedLatencyNanos = -1d;
+    private double baselineLatencyNanos = -1d;
+
+    public SnapshotSplitThrottler(
+            int maxBudget, @Nullable Integer maxThreadsRunning, @Nullable Duration maxReplicaLag) {
+        checkArgument(maxBudget > 0, "The max budget must be positive, but is %s", maxBudget);
+        this.maxBudget = maxBudget;
+        this.maxThreadsRunning = maxThreadsRunning;
+        this.maxReplicaLag = maxReplicaLag;
+        this.inFlightSplits = new HashMap<>();
+        this.budget = maxBudget;
+    }
+
+    /** Tries to take a permit for assigning a snapshot split to the given subtask. */
+    public boolean tryAcquire(int subtaskId, long nowNanos) {
+        if (inFlightSplits.containsKey(subtaskId)) {
+            return true;
+        }
+        if (inFlightSplits.size() >= budget) {
+            return false;
+        }
+        inFlightSplits.put(subtaskId, nowNanos);
+        return true;
+    }
+
+    /** Returns the permit of the subtask which didn't get a snapshot split. */
+    public void cancel(int subtaskId) {
+        inFlightSplits.remove(subtaskId);
+    }
+
+    /**
+     * Returns the permit of the subtask which has finished the snapshot split and adapts the budget
+     * to the latency of the split.
+     */
+    public void release(int subtaskId, long nowNanos) {
+        Long assignedNanos = inFlightSplits.remove(subtaskId);
+        if (assignedNanos == null) {
+            return;
+        }
+        double latencyNanos = Math.max(1L, nowNanos - assignedNanos);
+        if (smoothedLatencyNanos < 0) {
+            smoothedLatencyNanos = latencyNanos;
+            baselineLatencyNanos = latencyNanos;
+        } else {
+            smoothedLatencyNanos =
+                    LATENCY_SMOOTHING_FACTOR * latencyNanos
+                            + (1 - LATENCY_SMOOTHING_FACTOR) * smoothedLatencyNanos;
+            baselineLatencyNanos =
+                    Math.min(smoothedLatencyNanos, baselineLatencyNanos * BASELINE_DRIFT_FACTOR);
+        }
+        if (serverOverloaded || smoothedLatencyNanos > baselineLatencyNanos * LATENCY_TOLERANCE) {
+            decrease();
+        } else {
+            increase();
+        }
+    }
+
+    /** Whether the throttler should poll the server signals. */
+    public boolean hasServerSignals() {
+        return maxThreadsRunning != null || maxReplicaLag != null;
+    }
+
+    /** Adapts the budget to the load signals reported by the server. */
+    public void onServerLoad(ServerLoad serverLoad) {
+        boolean overloaded =
+                (maxThreadsRunning != null
+                                && serverLoad.threadsRunning != null
+                                && serverLoad.threadsRunning > maxThreadsRunning)
+                        || (maxReplicaLag != null
+                                && serverLoad.replicaLagSeconds != null
+                                && serverLoad.replicaLagSeconds > maxReplicaLag.getSeconds());
+        if (overloaded) {
+            LOG.info(
+                    "The MySQL server is overloaded: {}, back off the snapshot reading.",
+                    serverLoad);
+            decrease();
+        }
+        serverOverloaded = overloaded;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public int getInFlightSplits() {
+        return inFlightSplits.size();
+    }
+
+    private void decrease() {
+        int newBudget = Math.max(1, budget / 2);
+        if (newBudget != budget) {
+            LOG.info("Decrease the snapshot split budget from {} to {}.", budget, newBudget);
+            budget = newBudget;
+        }
+    }
+
+    private void increase() {
+        if (budget < maxBudget) {
+            budget++;
+            LOG.debug("Increase the snapshot split budget to {}.", budget);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /** Queries the load signals of the MySQL server. */
+    public static ServerLoad queryServerLoad(JdbcConnection jdbc) throws SQLException {
+        Long threadsRunning =
+                jdbc.queryAndMap(
+                        "SHOW GLOBAL STATUS LIKE 'Threads_running'",
+                        rs -> rs.next() ? rs.getLong(2) : null);
+        Long replicaLagSeconds =
+                jdbc.queryAndMap(
+                        "SHOW SLAVE STATUS",
+                        rs -> {
+                            if (rs.next()) {
+                                long lag = rs.getLong("Seconds_Behind_Master");
+                                return rs.wasNull() ? null : lag;
+                            }
+                            return null;
+                        });
+        return new ServerLoad(threadsRunning, replicaLagSeconds);
+    }
+
+    /** The load signals of the MySQL server, the signals may be null if unavailable. */
+    public static final class ServerLoad {
+        @Nullable private final Long threadsRunning;
+        @Nullable private final Long replicaLagSeconds;
+
+        public ServerLoad(@Nullable Long threadsRunning, @Nullable Long replicaLagSeconds) {
+            this.threadsRunning = threadsRunning;
+            this.replicaLagSeconds = replicaLagSeconds;
+        }
+
+        @Override
+        public String toString() {
+            return "ServerLoad{"
+                    + "threadsRunning="
+                    + threadsRunning
+                    + ", replicaLagSeconds="
+                    + replicaLagSeconds
+                    + '}';
+        }
+    }
+}
@@ -18,28 +18,35 @@
 
 package com.ververica.cdc.connectors.mysql.source.reader;
 
+import org.apache.flink.api.common.eventtime.Watermark;
 import org.apache.flink.api.connector.source.SourceOutput;
 import org.apache.flink.connector.base.source.reader.RecordEmitter;
 import org.apache.flink.util.Collector;
 
 import com.ververica.cdc.connectors.mysql.source.metrics.MySqlSourceReaderMetrics;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplitState;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplitState;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
 import io.debezium.document.Array;
 import io.debezium.relational.history.HistoryRecord;
 import io.debezium.relational.history.TableChanges;
+import io.debezium.util.SchemaNameAdjuster;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getBinlogPosition;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getFetchTimestamp;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getHistoryRecord;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getMessageTimestamp;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKey;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getWatermark;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isHeartbeatEvent;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isHighWatermarkEvent;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isSchemaChangeEvent;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isWatermarkEvent;
@@ -49,6 +56,13 @@ import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isWate
  *
  * <p>The {@link RecordEmitter} buffers the snapshot records of split and call the binlog reader to
  * emit records rather than emit the records directly.
+ *
+ * <p>The emitter tracks the progress of the snapshot split records it emitted, so that a snapshot
+ * split read interrupted by a failover only needs to read the rest of the split.
+ *
+ * <p>When binlog watermarks are enabled, the records read from binlog are emitted with the binlog
+ * time of the change as timestamp, and the watermark of the binlog split advances with the binlog
+ * time of data change events and heartbeat events.
  */
 public final class MySqlRecordEmitter<T>
         implements RecordEmitter<SourceRecord, T, MySqlSplitState> {
@@ -56,19 +70,27 @@ public final class MySqlRecordEmitter<T>
     private static final Logger LOG = LoggerFactory.getLogger(MySqlRecordEmitter.class);
     private static final FlinkJsonTableChangeSerializer TABLE_CHANGE_SERIALIZER =
             new FlinkJsonTableChangeSerializer();
+    private static final SchemaNameAdjuster SCHEMA_NAME_ADJUSTER = SchemaNameAdjuster.create();
 
     private final DebeziumDeserializationSchema<T> debeziumDeserializationSchema;
     private final MySqlSourceReaderMetrics sourceReaderMetrics;
     private final boolean includeSchemaChanges;
+    private final boolean emitBinlogWatermarks;
+    private final long watermarkMaxOutOfOrdernessMs;
     private final OutputCollector<T> outputCollector;
+    private long currentWatermark = Long.MIN_VALUE;
 
     public MySqlRecordEmitter(
             DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
             MySqlSourceReaderMetrics sourceReaderMetrics,
-            boolean includeSchemaChanges) {
+            boolean includeSchemaChanges,
+            boolean emitBinlogWatermarks,
+            Duration watermarkMaxOutOfOrderness) {
         this.debeziumDeserializationSchema = debeziumDeserializationSchema;
         this.sourceReaderMetrics = sourceReaderMetrics;
         this.includeSchemaChanges = includeSchemaChanges;
+        this.emitBinlogWatermarks = emitBinlogWatermarks;
+        this.watermarkMaxOutOfOrdernessMs = watermarkMaxOutOfOrderness.toMillis();
         this.outputCollector = new OutputCollector<>();
     }
 
@@ -89,26 +111,70 @@ public final class MySqlRecordEmitter<T>
                 splitState.asBinlogSplitState().recordSchema(tableChange.getId(), tableChange);
             }
             if (includeSchemaChanges) {
-                emitElement(element, output);
+                emitElement(element, output, null);
             }
         } else if (isDataChangeRecord(element)) {
+            Long eventTimestamp = null;
             if (splitState.isBinlogSplitState()) {
                 BinlogOffset position = getBinlogPosition(element);
                 splitState.asBinlogSplitState().setStartingOffset(position);
+                eventTimestamp = getEventTimestamp(element);
+            }
+            if (splitState.isSnapshotSplitState()) {
+                updateEmittedProgress(element, splitState.asSnapshotSplitState());
             }
             reportMetrics(element);
-            emitElement(element, output);
+            emitElement(element, output, eventTimestamp);
+            if (eventTimestamp != null) {
+                emitWatermarkIfNeeded(eventTimestamp, output);
+            }
+        } else if (isHeartbeatEvent(element)) {
+            // the heartbeat carries the binlog time that the reader has caught up to
+            long binlogTimeMs = getBinlogPosition(element).getTimestamp() * 1000L;
+            if (emitBinlogWatermarks && splitState.isBinlogSplitState() && binlogTimeMs > 0L) {
+                emitWatermarkIfNeeded(binlogTimeMs, output);
+            }
         } else {
             // unknown element
             LOG.info("Meet unknown element {}, just skip.", element);
         }
     }
 
-    private void emitElement(SourceRecord element, SourceOutput<T> output) throws Exception {
+    private void emitElement(SourceRecord element, SourceOutput<T> output, Long timestamp)
+            throws Exception {
         outputCollector.output = output;
+        outputCollector.timestamp = timestamp;
         debeziumDeserializationSchema.deserialize(element, outputCollector);
     }
 
+    private void updateEmittedProgress(SourceRecord element, MySqlSnapshotSplitState splitState) {
+        final Object[] splitKey =
+                getSplitKey(splitState.getSplitKeyType(), element, SCHEMA_NAME_ADJUSTER);
+        if (splitState.isEmittedBeforeResume(splitKey)) {
+            // the change of the emitted part advances the emitted watermark only
+            splitState.setLastEmitted(splitState.getLastEmittedKey(), getBinlogPosition(element));
+        } else {
+            // the records of the rest part are emitted in split key order on high watermark
+            splitState.recordEmittedSplitKey(splitKey);
+        }
+    }
+
+    private Long getEventTimestamp(SourceRecord element) {
+        if (!emitBinlogWatermarks) {
+            return null;
+        }
+        Long messageTimestamp = getMessageTimestamp(element);
+        return messageTimestamp != null && messageTimestamp > 0L ? messageTimestamp : null;
+    }
+
+    private void emitWatermarkIfNeeded(long binlogTimeMs, SourceOutput<T> output) {
+        long watermark = binlogTimeMs - watermarkMaxOutOfOrdernessMs - 1;
+        if (watermark > currentWatermark) {
+            currentWatermark = watermark;
+            output.emitWatermark(new Watermark(watermark));
+        }
+    }
+
     private void reportMetrics(SourceRecord element) {
         long now = System.currentTimeMillis();
         // record the latest process time
@@ -128,10 +194,15 @@ public final class MySqlRecordEmitter<T>
 
     private static class OutputCollector<T> implements Collector<T> {
         private SourceOutput<T> output;
+        private Long timestamp;
 
         @Override
         public void collect(T record) {
-            output.collect(record);
+            if (timestamp == null) {
+                output.collect(record);
+            } else {
+                output.collect(record, timestamp);
+            }
         }
 
         @Override
@@ -18,6 +18,7 @@
 
 package com.ververica.cdc.connectors.mysql.source.reader;
 
+import org.apache.flink.api.connector.source.ReaderOutput;
 import org.apache.flink.api.connector.source.SourceEvent;
 import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.configuration.Configuration;
@@ -26,6 +27,7 @@ import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.SingleThreadMultiplexSourceReaderBase;
 import org.apache.flink.connector.base.source.reader.fetcher.SingleThreadFetcherManager;
 import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.core.io.InputStatus;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils;
@@ -74,6 +76,8 @@ public class MySqlSourceReader<T>
     private final Map<String, MySqlSnapshotSplit> finishedUnackedSplits;
     private final Map<String, MySqlBinlogSplit> uncompletedBinlogSplits;
     private final int subtaskId;
+    private boolean binlogSplitAssigned;
+    private boolean markedIdle;
 
     public MySqlSourceReader(
             FutureCompletingBlockingQueue<RecordsWithSplitIds<SourceRecord>> elementQueue,
@@ -101,6 +105,22 @@ public class MySqlSourceReader<T>
         }
     }
 
+    @Override
+    public InputStatus pollNext(ReaderOutput<T> output) throws Exception {
+        InputStatus status = super.pollNext(output);
+        // the watermarks are only derived from the binlog split, mark the reader which doesn't
+        // hold the binlog split as idle once it has no snapshot splits to read, to not hold back
+        // the downstream watermark
+        if (sourceConfig.isEmitBinlogWatermarks()
+                && !binlogSplitAssigned
+                && !markedIdle
+                && getNumberOfCurrentlyAssignedSplits() == 0) {
+            output.markIdle();
+            markedIdle = true;
+        }
+        return status;
+    }
+
     @Override
     protected MySqlSplitState initializedState(MySqlSplit split) {
         if (split.isSnapshotSplit()) {
@@ -161,11 +181,16 @@ public class MySqlSourceReader<T>
                     MySqlBinlogSplit mySqlBinlogSplit =
                             discoverTableSchemasForBinlogSplit(split.asBinlogSplit());
                     unfinishedSplits.add(mySqlBinlogSplit);
+                    binlogSplitAssigned = true;
                 }
             }
         }
         // notify split enumerator again about the finished unacked snapshot splits
         reportFinishedSnapshotSplitsIfNeed();
+        // the reader turns active again when it's assigned new splits to read
+        if (!unfinishedSplits.isEmpty()) {
+            markedIdle = false;
+        }
         // add all un-finished splits (including binlog split) to SourceReaderBase
         super.addSplits(unfinishedSplits);
     }
@@ -286,6 +311,10 @@ public class MySqlSourceReader<T>
 
     @Override
     protected MySqlSplit toSplitType(String splitId, MySqlSplitState splitState) {
+        // the splits which are still being read checkpoint their emitted progress
+        if (splitState.isSnapshotSplitState()) {
+            return splitState.asSnapshotSplitState().toUnfinishedSplit();
+        }
         return splitState.toMySqlSplit();
     }
 }
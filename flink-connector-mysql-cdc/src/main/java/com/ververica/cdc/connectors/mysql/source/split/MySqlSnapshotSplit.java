@@ -42,6 +42,15 @@ public class MySqlSnapshotSplit extends MySqlSplit {
     @Nullable private final Object[] splitEnd;
     /** The high watermark is not bull when the split read finished. */
     @Nullable private final BinlogOffset highWatermark;
+    /**
+     * The split key of the last record emitted by an unfinished split read, the records with split
+     * keys up to it needn't be read again.
+     */
+    @Nullable private final Object[] lastEmittedKey;
+    /**
+     * The binlog position which the records up to the {@link #lastEmittedKey} are consistent to.
+     */
+    @Nullable private final BinlogOffset lastEmittedWatermark;
 
     @Nullable transient byte[] serializedFormCache;
 
@@ -53,12 +62,36 @@ public class MySqlSnapshotSplit extends MySqlSplit {
             Object[] splitEnd,
             BinlogOffset highWatermark,
             Map<TableId, TableChange> tableSchemas) {
+        this(
+                tableId,
+                splitId,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                highWatermark,
+                null,
+                null,
+                tableSchemas);
+    }
+
+    public MySqlSnapshotSplit(
+            TableId tableId,
+            String splitId,
+            RowType splitKeyType,
+            Object[] splitStart,
+            Object[] splitEnd,
+            BinlogOffset highWatermark,
+            @Nullable Object[] lastEmittedKey,
+            @Nullable BinlogOffset lastEmittedWatermark,
+            Map<TableId, TableChange> tableSchemas) {
         super(splitId);
         this.tableId = tableId;
         this.splitKeyType = splitKeyType;
         this.splitStart = splitStart;
         this.splitEnd = splitEnd;
         this.highWatermark = highWatermark;
+        this.lastEmittedKey = lastEmittedKey;
+        this.lastEmittedWatermark = lastEmittedWatermark;
         this.tableSchemas = tableSchemas;
     }
 
@@ -85,6 +118,21 @@ public class MySqlSnapshotSplit extends MySqlSplit {
         return highWatermark != null;
     }
 
+    @Nullable
+    public Object[] getLastEmittedKey() {
+        return lastEmittedKey;
+    }
+
+    @Nullable
+    public BinlogOffset getLastEmittedWatermark() {
+        return lastEmittedWatermark;
+    }
+
+    /** Whether the split has been read partially, the split read should resume from the rest. */
+    public boolean isSnapshotReadPartiallyEmitted() {
+        return lastEmittedKey != null;
+    }
+
     @Override
     public Map<TableId, TableChange> getTableSchemas() {
         return tableSchemas;
@@ -106,7 +154,9 @@ public class MySqlSnapshotSplit extends MySqlSplit {
                 && Objects.equals(splitKeyType, that.splitKeyType)
                 && Arrays.equals(splitStart, that.splitStart)
                 && Arrays.equals(splitEnd, that.splitEnd)
-                && Objects.equals(highWatermark, that.highWatermark);
+                && Objects.equals(highWatermark, that.highWatermark)
+                && Arrays.equals(lastEmittedKey, that.lastEmittedKey)
+                && Objects.equals(lastEmittedWatermark, that.lastEmittedWatermark);
     }
 
     public RowType getSplitKeyType() {
@@ -115,9 +165,16 @@ public class MySqlSnapshotSplit extends MySqlSplit {
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(super.hashCode(), tableId, splitKeyType, highWatermark);
+        int result =
+                Objects.hash(
+                        super.hashCode(),
+                        tableId,
+                        splitKeyType,
+                        highWatermark,
+                        lastEmittedWatermark);
         result = 31 * result + Arrays.hashCode(splitStart);
         result = 31 * result + Arrays.hashCode(splitEnd);
+        result = 31 * result + Arrays.hashCode(lastEmittedKey);
         result = 31 * result + Arrays.hashCode(serializedFormCache);
         return result;
     }
@@ -142,6 +199,10 @@ public class MySqlSnapshotSplit extends MySqlSplit {
                 + Arrays.toString(splitEnd)
                 + ", highWatermark="
                 + highWatermark
+                + ", lastEmittedKey="
+                + Arrays.toString(lastEmittedKey)
+                + ", lastEmittedWatermark="
+                + lastEmittedWatermark
                 + '}';
     }
 }
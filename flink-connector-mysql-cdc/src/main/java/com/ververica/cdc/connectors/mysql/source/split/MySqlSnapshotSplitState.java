@@ -18,18 +18,29 @@
 
 package com.ververica.cdc.connectors.mysql.source.split;
 
+import org.apache.flink.table.types.logical.RowType;
+
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.utils.RecordUtils;
 
 import javax.annotation.Nullable;
 
+import java.util.Arrays;
+
 /** The state of split to describe the binlog of MySql table(s). */
 public class MySqlSnapshotSplitState extends MySqlSplitState {
 
     @Nullable private BinlogOffset highWatermark;
+    @Nullable private Object[] lastEmittedKey;
+    @Nullable private BinlogOffset lastEmittedWatermark;
+    // the split key of the last emitted record, whose records may not be all emitted yet
+    @Nullable private Object[] emittingKey;
 
     public MySqlSnapshotSplitState(MySqlSnapshotSplit split) {
         super(split);
         this.highWatermark = split.getHighWatermark();
+        this.lastEmittedKey = split.getLastEmittedKey();
+        this.lastEmittedWatermark = split.getLastEmittedWatermark();
     }
 
     @Nullable
@@ -41,6 +52,74 @@ public class MySqlSnapshotSplitState extends MySqlSplitState {
         this.highWatermark = highWatermark;
     }
 
+    @Nullable
+    public Object[] getLastEmittedKey() {
+        return lastEmittedKey;
+    }
+
+    @Nullable
+    public BinlogOffset getLastEmittedWatermark() {
+        return lastEmittedWatermark;
+    }
+
+    /**
+     * Records the progress of the emitted records, all records with split keys up to the {@code
+     * lastEmittedKey} have been emitted and are consistent to the {@code lastEmittedWatermark}.
+     */
+    public void setLastEmitted(
+            @Nullable Object[] lastEmittedKey, @Nullable BinlogOffset lastEmittedWatermark) {
+        this.lastEmittedKey = lastEmittedKey;
+        this.lastEmittedWatermark = lastEmittedWatermark;
+    }
+
+    /**
+     * Records that the record of the rest part of split with the split key has been emitted.
+     *
+     * <p>The split key isn't unique for tables with combined primary key or chunk key column, the
+     * records are emitted in split key order, so the records of a split key are all emitted only
+     * once a record with a greater split key is emitted, the progress is advanced to the split key
+     * then. The split key which contains null isn't recorded, as the rest of split can't be scanned
+     * from it.
+     */
+    public void recordEmittedSplitKey(Object[] splitKey) {
+        if (emittingKey != null
+                && RecordUtils.compareSplitKeys(splitKey, emittingKey) > 0
+                && !Arrays.asList(emittingKey).contains(null)) {
+            setLastEmitted(emittingKey, highWatermark);
+        }
+        emittingKey = splitKey;
+    }
+
+    public RowType getSplitKeyType() {
+        return split.asSnapshotSplit().getSplitKeyType();
+    }
+
+    /**
+     * Whether the split key belongs to the part of split which had been emitted before the split
+     * read resumed, the records of the part are the changes after the emitted watermark.
+     */
+    public boolean isEmittedBeforeResume(Object[] splitKey) {
+        return RecordUtils.isEmittedSplitKey(splitKey, split.asSnapshotSplit());
+    }
+
+    /**
+     * Use the current split state to create a split which is still being read, the split carries
+     * the emitted progress instead of the high watermark so that the read can be resumed.
+     */
+    public MySqlSnapshotSplit toUnfinishedSplit() {
+        final MySqlSnapshotSplit snapshotSplit = split.asSnapshotSplit();
+        return new MySqlSnapshotSplit(
+                snapshotSplit.getTableId(),
+                snapshotSplit.splitId(),
+                snapshotSplit.getSplitKeyType(),
+                snapshotSplit.getSplitStart(),
+                snapshotSplit.getSplitEnd(),
+                null,
+                lastEmittedKey,
+                lastEmittedWatermark,
+                snapshotSplit.getTableSchemas());
+    }
+
     public MySqlSnapshotSplit toMySqlSplit() {
         final MySqlSnapshotSplit snapshotSplit = split.asSnapshotSplit();
         return new MySqlSnapshotSplit(
@@ -58,6 +137,12 @@ public class MySqlSnapshotSplitState extends MySqlSplitState {
         return "MySqlSnapshotSplitState{"
                 + "highWatermark="
                 + highWatermark
+                + ", lastEmittedKey="
+                + Arrays.toString(lastEmittedKey)
+                + ", lastEmittedWatermark="
+                + lastEmittedWatermark
+                + ", emittingKey="
+                + Arrays.toString(emittingKey)
                 + ", split="
                 + split
                 + '}';
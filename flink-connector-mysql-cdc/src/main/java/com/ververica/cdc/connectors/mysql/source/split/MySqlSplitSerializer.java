@@ -49,7 +49,7 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
 
     public static final MySqlSplitSerializer INSTANCE = new MySqlSplitSerializer();
 
-    private static final int VERSION = 3;
+    private static final int VERSION = 4;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -83,6 +83,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             out.writeUTF(rowToSerializedString(splitEnd));
             writeBinlogPosition(snapshotSplit.getHighWatermark(), out);
             writeTableSchemas(snapshotSplit.getTableSchemas(), out);
+            out.writeUTF(rowToSerializedString(snapshotSplit.getLastEmittedKey()));
+            writeBinlogPosition(snapshotSplit.getLastEmittedWatermark(), out);
             final byte[] result = out.getCopyOfBuffer();
             out.clear();
             // optimization: cache the serialized from, so we avoid the byte work during repeated
@@ -119,6 +121,7 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             case 1:
             case 2:
             case 3:
+            case 4:
                 return deserializeSplit(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -137,6 +140,12 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             Object[] splitBoundaryEnd = serializedStringToRow(in.readUTF());
             BinlogOffset highWatermark = readBinlogPosition(version, in);
             Map<TableId, TableChange> tableSchemas = readTableSchemas(version, in);
+            Object[] lastEmittedKey = null;
+            BinlogOffset lastEmittedWatermark = null;
+            if (version >= 4) {
+                lastEmittedKey = serializedStringToRow(in.readUTF());
+                lastEmittedWatermark = readBinlogPosition(version, in);
+            }
 
             return new MySqlSnapshotSplit(
                     tableId,
@@ -145,6 +154,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
                     splitBoundaryStart,
                     splitBoundaryEnd,
                     highWatermark,
+                    lastEmittedKey,
+                    lastEmittedWatermark,
                     tableSchemas);
         } else if (splitKind == BINLOG_SPLIT_FLAG) {
             String splitId = in.readUTF();
@@ -156,7 +167,7 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
                     readFinishedSplitsInfo(version, in);
             Map<TableId, TableChange> tableChangeMap = readTableSchemas(version, in);
             int totalFinishedSplitSize = finishedSplitsInfo.size();
-            if (version == 3) {
+            if (version >= 3) {
                 totalFinishedSplitSize = in.readInt();
             }
             in.releaseArrays();
@@ -202,6 +213,7 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
                     break;
                 case 2:
                 case 3:
+                case 4:
                     final int len = in.readInt();
                     final byte[] bytes = new byte[len];
                     in.read(bytes);
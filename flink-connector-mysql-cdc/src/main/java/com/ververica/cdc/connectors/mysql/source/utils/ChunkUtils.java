@@ -23,11 +23,20 @@ import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.util.Preconditions;
 
 import com.ververica.cdc.connectors.mysql.schema.MySqlTypeUtils;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.Column;
 import io.debezium.relational.Table;
 
+import javax.annotation.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.quote;
 import static org.apache.flink.table.api.DataTypes.FIELD;
 import static org.apache.flink.table.api.DataTypes.ROW;
 
@@ -36,38 +45,85 @@ public class ChunkUtils {
 
     private ChunkUtils() {}
 
-    public static RowType getSplitType(Table table) {
-        List<Column> primaryKeys = table.primaryKeyColumns();
-        if (primaryKeys.isEmpty()) {
-            throw new ValidationException(
-                    String.format(
-                            "Incremental snapshot for tables requires primary key,"
-                                    + " but table %s doesn't have primary key.",
-                            table.id()));
-        }
-
-        // use first field in primary key as the split key
-        return getSplitType(primaryKeys.get(0));
-    }
-
     public static RowType getSplitType(Column splitColumn) {
         return (RowType)
                 ROW(FIELD(splitColumn.name(), MySqlTypeUtils.fromDbzColumn(splitColumn)))
                         .getLogicalType();
     }
 
-    public static Column getSplitColumn(Table table) {
+    /**
+     * Returns the column to split the table into chunks.
+     *
+     * <p>The chunk key column configured by {@code scan.incremental.snapshot.chunk.key-column} is
+     * used if the table contains it, otherwise the first primary key column is used. For tables
+     * without primary key, the column of a single-column unique index on a not null column is used,
+     * its values identify the rows when merging the binlog events into the chunks. The configured
+     * chunk key column of such tables must be such a column as well, otherwise the distinct rows
+     * sharing a value would be merged.
+     */
+    public static Column getSplitColumn(
+            JdbcConnection jdbc, Table table, @Nullable String chunkKeyColumn) throws SQLException {
         List<Column> primaryKeys = table.primaryKeyColumns();
-        if (primaryKeys.isEmpty()) {
-            throw new ValidationException(
-                    String.format(
-                            "Incremental snapshot for tables requires primary key,"
-                                    + " but table %s doesn't have primary key.",
-                            table.id()));
+        if (chunkKeyColumn != null) {
+            Column column = table.columnWithName(chunkKeyColumn);
+            if (column != null) {
+                if (!primaryKeys.isEmpty() && !primaryKeys.contains(column)) {
+                    throw new ValidationException(
+                            String.format(
+                                    "The chunk key column %s of table %s must be one of the primary key columns %s.",
+                                    chunkKeyColumn, table.id(), table.primaryKeyColumnNames()));
+                }
+                if (primaryKeys.isEmpty()
+                        && getUniqueKeyColumns(jdbc, table).stream()
+                                .noneMatch(c -> c.name().equals(column.name()))) {
+                    throw new ValidationException(
+                            String.format(
+                                    "The chunk key column %s of table %s without primary key must be a not null column"
+                                            + " with a single-column unique index, as it identifies the rows of the table.",
+                                    chunkKeyColumn, table.id()));
+                }
+                return column;
+            }
         }
 
-        // use first field in primary key as the split key
-        return primaryKeys.get(0);
+        if (!primaryKeys.isEmpty()) {
+            // use first field in primary key as the split key
+            return primaryKeys.get(0);
+        }
+
+        List<Column> uniqueKeyColumns = getUniqueKeyColumns(jdbc, table);
+        if (!uniqueKeyColumns.isEmpty()) {
+            return uniqueKeyColumns.get(0);
+        }
+        throw new ValidationException(
+                String.format(
+                        "Incremental snapshot for tables requires primary key, unique index on a not null column"
+                                + " or the chunk key column configured by 'scan.incremental.snapshot.chunk.key-column',"
+                                + " but table %s doesn't have any of them.",
+                        table.id()));
+    }
+
+    /** Returns the columns of the single-column unique indexes on not null columns. */
+    private static List<Column> getUniqueKeyColumns(JdbcConnection jdbc, Table table)
+            throws SQLException {
+        final Map<String, List<String>> uniqueIndexes = new LinkedHashMap<>();
+        jdbc.query(
+                String.format("SHOW INDEX FROM %s", quote(table.id())),
+                rs -> {
+                    while (rs.next()) {
+                        if (rs.getInt("Non_unique") == 0) {
+                            uniqueIndexes
+                                    .computeIfAbsent(
+                                            rs.getString("Key_name"), k -> new ArrayList<>())
+                                    .add(rs.getString("Column_name"));
+                        }
+                    }
+                });
+        return uniqueIndexes.values().stream()
+                .filter(columns -> columns.size() == 1)
+                .map(columns -> table.columnWithName(columns.get(0)))
+                .filter(column -> column != null && !column.isOptional())
+                .collect(Collectors.toList());
     }
 
     /** Returns next meta group id according to received meta number and meta group size. */
@@ -25,7 +25,6 @@ import com.ververica.cdc.connectors.mysql.debezium.reader.DebeziumReader;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
-import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
 import io.debezium.data.Envelope;
 import io.debezium.document.DocumentReader;
 import io.debezium.relational.TableId;
@@ -36,12 +35,14 @@ import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,6 +62,8 @@ public class RecordUtils {
 
     public static final String SCHEMA_CHANGE_EVENT_KEY_NAME =
             "io.debezium.connector.mysql.SchemaChangeKey";
+    public static final String HEARTBEAT_VALUE_SCHEMA_NAME =
+            "io.debezium.connector.common.Heartbeat";
     private static final DocumentReader DOCUMENT_READER = DocumentReader.defaultReader();
 
     /** Converts a {@link ResultSet} row to an array of Objects. */
@@ -75,16 +78,28 @@ public class RecordUtils {
     /**
      * Normalize the records of snapshot split which represents the split records state on high
      * watermark. data input: [low watermark event] [snapshot events ] [high watermark event]
-     * [binlog events] [binlog-end event] data output: [low watermark event] [normalized events]
-     * [high watermark event]
+     * [binlog events] [binlog-end event] data output: [low watermark event] [high watermark event]
+     * [normalized events]
+     *
+     * <p>The normalized events are ordered by split key, so that a split key whose events have all
+     * been emitted marks the emitted part of the split. For a split resumed after the records up to
+     * {@link MySqlSnapshotSplit#getLastEmittedKey()} have been emitted, the snapshot events only
+     * contain the rest of the split, and the binlog events of the emitted part since {@link
+     * MySqlSnapshotSplit#getLastEmittedWatermark()} are emitted as they are before the normalized
+     * events. The binlog event which moves a row out of the emitted part is emitted as the delete
+     * of the before image, and the one which moves a row into it as the create of the after image.
+     *
+     * <p>The rows are identified by the key of record, or by the split key for tables without
+     * primary key whose records have no key.
      */
     public static List<SourceRecord> normalizedSplitRecords(
             MySqlSnapshotSplit snapshotSplit,
             List<SourceRecord> sourceRecords,
             SchemaNameAdjuster nameAdjuster) {
         List<SourceRecord> normalizedRecords = new ArrayList<>();
-        Map<Struct, SourceRecord> snapshotRecords = new HashMap<>();
+        Map<Object, SourceRecord> snapshotRecords = new HashMap<>();
         List<SourceRecord> binlogRecords = new ArrayList<>();
+        List<SourceRecord> emittedPartBinlogRecords = new ArrayList<>();
         if (!sourceRecords.isEmpty()) {
 
             SourceRecord lowWatermark = sourceRecords.get(0);
@@ -98,7 +113,14 @@ public class RecordUtils {
             for (; i < sourceRecords.size(); i++) {
                 SourceRecord sourceRecord = sourceRecords.get(i);
                 if (!isHighWatermarkEvent(sourceRecord)) {
-                    snapshotRecords.put((Struct) sourceRecord.key(), sourceRecord);
+                    snapshotRecords.put(
+                            getRowIdentity(
+                                    sourceRecord,
+                                    getSplitKey(
+                                            snapshotSplit.getSplitKeyType(),
+                                            sourceRecord,
+                                            nameAdjuster)),
+                            sourceRecord);
                 } else {
                     highWatermark = sourceRecord;
                     i++;
@@ -107,14 +129,41 @@ public class RecordUtils {
             }
 
             if (i < sourceRecords.size() - 1) {
+                final BinlogOffset lowWatermarkOffset = getWatermark(lowWatermark);
                 List<SourceRecord> allBinlogRecords =
                         sourceRecords.subList(i, sourceRecords.size() - 1);
                 for (SourceRecord binlog : allBinlogRecords) {
                     if (isDataChangeRecord(binlog)) {
                         Object[] key =
                                 getSplitKey(snapshotSplit.getSplitKeyType(), binlog, nameAdjuster);
-                        if (splitKeyRangeContains(
-                                key, snapshotSplit.getSplitStart(), snapshotSplit.getSplitEnd())) {
+                        Object[] beforeKey =
+                                getBeforeSplitKey(
+                                        snapshotSplit.getSplitKeyType(), binlog, nameAdjuster);
+                        if (!splitKeyRangeContains(
+                                        key,
+                                        snapshotSplit.getSplitStart(),
+                                        snapshotSplit.getSplitEnd())
+                                && !splitKeyRangeContains(
+                                        beforeKey,
+                                        snapshotSplit.getSplitStart(),
+                                        snapshotSplit.getSplitEnd())) {
+                            continue;
+                        }
+                        boolean emitted = isEmittedSplitKeyOfSplit(key, snapshotSplit);
+                        boolean beforeEmitted = isEmittedSplitKeyOfSplit(beforeKey, snapshotSplit);
+                        if (emitted && beforeEmitted) {
+                            emittedPartBinlogRecords.add(binlog);
+                            continue;
+                        } else if (beforeEmitted) {
+                            // the row moves out of the emitted part, retract the emitted row
+                            emittedPartBinlogRecords.add(toDeleteOfBefore(binlog));
+                        } else if (emitted) {
+                            // the row moves into the emitted part, which won't be scanned again
+                            emittedPartBinlogRecords.add(toCreateOfAfter(binlog));
+                        }
+                        if (!getBinlogPosition(binlog).isBefore(lowWatermarkOffset)) {
+                            // the binlog of resumed split is read from the emitted watermark, the
+                            // events before low watermark have been seen by the snapshot events
                             binlogRecords.add(binlog);
                         }
                     }
@@ -131,23 +180,30 @@ public class RecordUtils {
                             lowWatermark,
                             highWatermark,
                             snapshotRecords,
-                            binlogRecords);
+                            binlogRecords,
+                            emittedPartBinlogRecords,
+                            nameAdjuster);
         }
         return normalizedRecords;
     }
 
     private static List<SourceRecord> upsertBinlog(
-            MySqlSplit split,
+            MySqlSnapshotSplit split,
             SourceRecord lowWatermarkEvent,
             SourceRecord highWatermarkEvent,
-            Map<Struct, SourceRecord> snapshotRecords,
-            List<SourceRecord> binlogRecords) {
+            Map<Object, SourceRecord> snapshotRecords,
+            List<SourceRecord> binlogRecords,
+            List<SourceRecord> emittedPartBinlogRecords,
+            SchemaNameAdjuster nameAdjuster) {
         final List<SourceRecord> normalizedBinlogRecords = new ArrayList<>();
         normalizedBinlogRecords.add(lowWatermarkEvent);
+        // emit the high watermark ahead, the emitted records are consistent to it
+        normalizedBinlogRecords.add(highWatermarkEvent);
         // upsert binlog events to snapshot events of split
         if (!binlogRecords.isEmpty()) {
             for (SourceRecord binlog : binlogRecords) {
-                Struct key = (Struct) binlog.key();
+                Object[] splitKey = getSplitKey(split.getSplitKeyType(), binlog, nameAdjuster);
+                Object key = getRowIdentity(binlog, splitKey);
                 Struct value = (Struct) binlog.value();
                 if (value != null) {
                     Envelope.Operation operation =
@@ -158,20 +214,25 @@ public class RecordUtils {
                             Envelope envelope = Envelope.fromSchema(binlog.valueSchema());
                             Struct source = value.getStruct(Envelope.FieldName.SOURCE);
                             Struct updateAfter = value.getStruct(Envelope.FieldName.AFTER);
-                            Instant ts =
-                                    Instant.ofEpochMilli(
-                                            (Long) source.get(Envelope.FieldName.TIMESTAMP));
                             SourceRecord record =
-                                    new SourceRecord(
-                                            binlog.sourcePartition(),
-                                            binlog.sourceOffset(),
-                                            binlog.topic(),
-                                            binlog.kafkaPartition(),
-                                            binlog.keySchema(),
-                                            binlog.key(),
-                                            binlog.valueSchema(),
-                                            envelope.read(updateAfter, source, ts));
-                            normalizedBinlogRecords.add(record);
+                                    copyWithValue(
+                                            binlog,
+                                            envelope.read(
+                                                    updateAfter, source, getTimestamp(source)));
+                            // the split key of tables without primary key may be updated
+                            snapshotRecords.remove(
+                                    getRowIdentity(
+                                            binlog,
+                                            getBeforeSplitKey(
+                                                    split.getSplitKeyType(),
+                                                    binlog,
+                                                    nameAdjuster)));
+                            // the row moved into the emitted part is emitted ahead already
+                            if (splitKeyRangeContains(
+                                            splitKey, split.getSplitStart(), split.getSplitEnd())
+                                    && !isEmittedSplitKey(splitKey, split)) {
+                                snapshotRecords.put(key, record);
+                            }
                             break;
                         case DELETE:
                             if (snapshotRecords.containsKey(key)) {
@@ -184,7 +245,7 @@ public class RecordUtils {
                             }
                             break;
                         case CREATE:
-                            normalizedBinlogRecords.add(binlog);
+                            snapshotRecords.put(key, binlog);
                             break;
                         case READ:
                             throw new IllegalStateException(
@@ -195,11 +256,75 @@ public class RecordUtils {
                 }
             }
         }
-        normalizedBinlogRecords.addAll(snapshotRecords.values());
-        normalizedBinlogRecords.add(highWatermarkEvent);
+        normalizedBinlogRecords.addAll(emittedPartBinlogRecords);
+        final Map<SourceRecord, Object[]> splitKeys = new IdentityHashMap<>();
+        for (SourceRecord record : snapshotRecords.values()) {
+            splitKeys.put(record, getSplitKey(split.getSplitKeyType(), record, nameAdjuster));
+        }
+        final List<SourceRecord> sortedSnapshotRecords = new ArrayList<>(snapshotRecords.values());
+        sortedSnapshotRecords.sort(
+                (r1, r2) -> compareSplitKeys(splitKeys.get(r1), splitKeys.get(r2)));
+        normalizedBinlogRecords.addAll(sortedSnapshotRecords);
         return normalizedBinlogRecords;
     }
 
+    /** Whether the split key belongs to the part of split which has been emitted. */
+    public static boolean isEmittedSplitKey(Object[] splitKey, MySqlSnapshotSplit split) {
+        return split.getLastEmittedKey() != null
+                && compareSplitKeys(splitKey, split.getLastEmittedKey()) <= 0;
+    }
+
+    /** Whether the split key belongs to the split and to the part of it which has been emitted. */
+    private static boolean isEmittedSplitKeyOfSplit(Object[] splitKey, MySqlSnapshotSplit split) {
+        return isEmittedSplitKey(splitKey, split)
+                && splitKeyRangeContains(splitKey, split.getSplitStart(), split.getSplitEnd());
+    }
+
+    /** Returns the delete record of the before image of the update record. */
+    private static SourceRecord toDeleteOfBefore(SourceRecord update) {
+        Struct value = (Struct) update.value();
+        Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+        Struct before = value.getStruct(Envelope.FieldName.BEFORE);
+        Envelope envelope = Envelope.fromSchema(update.valueSchema());
+        return copyWithValue(update, envelope.delete(before, source, getTimestamp(source)));
+    }
+
+    /** Returns the create record of the after image of the update record. */
+    private static SourceRecord toCreateOfAfter(SourceRecord update) {
+        Struct value = (Struct) update.value();
+        Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+        Struct after = value.getStruct(Envelope.FieldName.AFTER);
+        Envelope envelope = Envelope.fromSchema(update.valueSchema());
+        return copyWithValue(update, envelope.create(after, source, getTimestamp(source)));
+    }
+
+    private static SourceRecord copyWithValue(SourceRecord record, Struct value) {
+        return new SourceRecord(
+                record.sourcePartition(),
+                record.sourceOffset(),
+                record.topic(),
+                record.kafkaPartition(),
+                record.keySchema(),
+                record.key(),
+                record.valueSchema(),
+                value);
+    }
+
+    private static Instant getTimestamp(Struct source) {
+        return Instant.ofEpochMilli((Long) source.get(Envelope.FieldName.TIMESTAMP));
+    }
+
+    /** Compares the split keys field by field. */
+    public static int compareSplitKeys(Object[] key1, Object[] key2) {
+        for (int i = 0; i < key1.length; i++) {
+            int result = compareObjects(key1[i], key2[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
     public static boolean isWatermarkEvent(SourceRecord record) {
         Optional<WatermarkKind> watermarkKind = getWatermarkKind(record);
         return watermarkKind.isPresent();
@@ -277,6 +402,15 @@ public class RecordUtils {
         return false;
     }
 
+    /**
+     * Whether the record is a heartbeat event emitted by debezium when the option {@code
+     * heartbeat.interval.ms} is enabled.
+     */
+    public static boolean isHeartbeatEvent(SourceRecord record) {
+        Schema valueSchema = record.valueSchema();
+        return valueSchema != null && HEARTBEAT_VALUE_SCHEMA_NAME.equals(valueSchema.name());
+    }
+
     /**
      * Return the finished snapshot split information.
      *
@@ -327,10 +461,48 @@ public class RecordUtils {
 
     public static Object[] getSplitKey(
             RowType splitBoundaryType, SourceRecord dataRecord, SchemaNameAdjuster nameAdjuster) {
+        Struct value = (Struct) dataRecord.value();
+        Struct row = value.getStruct(Envelope.FieldName.AFTER);
+        return getSplitKey(
+                splitBoundaryType,
+                dataRecord,
+                row != null ? row : value.getStruct(Envelope.FieldName.BEFORE),
+                nameAdjuster);
+    }
+
+    private static Object[] getBeforeSplitKey(
+            RowType splitBoundaryType, SourceRecord dataRecord, SchemaNameAdjuster nameAdjuster) {
+        Struct value = (Struct) dataRecord.value();
+        Struct row = value.getStruct(Envelope.FieldName.BEFORE);
+        return getSplitKey(
+                splitBoundaryType,
+                dataRecord,
+                row != null ? row : value.getStruct(Envelope.FieldName.AFTER),
+                nameAdjuster);
+    }
+
+    private static Object[] getSplitKey(
+            RowType splitBoundaryType,
+            SourceRecord dataRecord,
+            Struct row,
+            SchemaNameAdjuster nameAdjuster) {
         // the split key field contains single field now
         String splitFieldName = nameAdjuster.adjust(splitBoundaryType.getFieldNames().get(0));
         Struct key = (Struct) dataRecord.key();
-        return new Object[] {key.get(splitFieldName)};
+        if (key != null && key.schema().field(splitFieldName) != null) {
+            return new Object[] {key.get(splitFieldName)};
+        }
+        // the split key is not a key field for tables without primary key, read it from the row
+        return new Object[] {row.get(splitFieldName)};
+    }
+
+    /**
+     * Returns the identity of the row in record, which is the key of the record, or the split key
+     * if the record has no key. The split key of tables without primary key is a unique and not
+     * null column, see {@link ChunkUtils#getSplitColumn}.
+     */
+    private static Object getRowIdentity(SourceRecord dataRecord, Object[] splitKey) {
+        return dataRecord.key() != null ? dataRecord.key() : Arrays.asList(splitKey);
     }
 
     public static BinlogOffset getBinlogPosition(SourceRecord dataRecord) {
@@ -385,8 +557,14 @@ public class RecordUtils {
     }
 
     private static int compareObjects(Object o1, Object o2) {
-        if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
+        if (o1 == null || o2 == null) {
+            // null split key of tables without primary key sorts first
+            return o1 == null ? (o2 == null ? 0 : -1) : 1;
+        } else if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
             return ((Comparable) o1).compareTo(o2);
+        } else if (o1 instanceof Number && o2 instanceof Number) {
+            // the split key from binlog may have different numeric type
+            return new BigDecimal(o1.toString()).compareTo(new BigDecimal(o2.toString()));
         } else {
             return o1.toString().compareTo(o2.toString());
         }
@@ -136,6 +136,25 @@ public class StatementUtils {
         return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
     }
 
+    /**
+     * Builds the query to scan the rest data of a split whose records have been emitted up to a
+     * split key, the statement takes the emitted split key as split start, the split key itself is
+     * excluded from the scan as all records of it have been emitted.
+     */
+    public static String buildSplitRemainderScanQuery(
+            TableId tableId, RowType pkRowType, boolean isLastSplit) {
+        final StringBuilder sql = new StringBuilder();
+        addPrimaryKeyColumnsToCondition(pkRowType, sql, " > ?");
+        if (!isLastSplit) {
+            sql.append(" AND NOT (");
+            addPrimaryKeyColumnsToCondition(pkRowType, sql, " = ?");
+            sql.append(") AND ");
+            addPrimaryKeyColumnsToCondition(pkRowType, sql, " <= ?");
+        }
+        return buildSelectWithRowLimits(
+                tableId, -1, "*", Optional.of(sql.toString()), Optional.empty());
+    }
+
     private static String buildSplitQuery(
             TableId tableId,
             RowType pkRowType,
@@ -153,7 +172,10 @@ public class StatementUtils {
             if (isScanningData) {
                 sql.append(" AND NOT (");
                 addPrimaryKeyColumnsToCondition(pkRowType, sql, " = ?");
-                sql.append(")");
+                sql.append(") OR ");
+                // the rows whose split key is null belong to the first split, this only happens
+                // on the chunk key column of tables without primary key
+                addPrimaryKeyColumnsToCondition(pkRowType, sql, " IS NULL");
             }
             condition = sql.toString();
         } else if (isLastSplit) {
@@ -29,11 +29,12 @@ import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.RowType;
-import org.apache.flink.types.RowKind;
 
 import com.ververica.cdc.connectors.mysql.source.MySqlSource;
+import com.ververica.cdc.connectors.mysql.source.MySqlSourceBuilder;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
+import com.ververica.cdc.debezium.table.DebeziumChangelogMode;
 import com.ververica.cdc.debezium.table.MetadataConverter;
 import com.ververica.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
 
@@ -77,6 +78,11 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
     private final int connectMaxRetries;
     private final double evenlyDistributionFactor;
     private final StartupOptions startupOptions;
+    private final DebeziumChangelogMode changelogMode;
+    private final boolean snapshotThrottleEnabled;
+    @Nullable private final Integer snapshotThrottleMaxThreadsRunning;
+    @Nullable private final Duration snapshotThrottleMaxReplicaLag;
+    @Nullable private final String chunkKeyColumn;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -107,7 +113,12 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
             int connectMaxRetries,
             int connectionPoolSize,
             double evenlyDistributionFactor,
-            StartupOptions startupOptions) {
+            StartupOptions startupOptions,
+            DebeziumChangelogMode changelogMode,
+            boolean snapshotThrottleEnabled,
+            @Nullable Integer snapshotThrottleMaxThreadsRunning,
+            @Nullable Duration snapshotThrottleMaxReplicaLag,
+            @Nullable String chunkKeyColumn) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -127,6 +138,11 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
         this.connectionPoolSize = connectionPoolSize;
         this.evenlyDistributionFactor = evenlyDistributionFactor;
         this.startupOptions = startupOptions;
+        this.changelogMode = changelogMode;
+        this.snapshotThrottleEnabled = snapshotThrottleEnabled;
+        this.snapshotThrottleMaxThreadsRunning = snapshotThrottleMaxThreadsRunning;
+        this.snapshotThrottleMaxReplicaLag = snapshotThrottleMaxReplicaLag;
+        this.chunkKeyColumn = chunkKeyColumn;
         // Mutable attributes
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
@@ -134,12 +150,7 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
 
     @Override
     public ChangelogMode getChangelogMode() {
-        return ChangelogMode.newBuilder()
-                .addContainedKind(RowKind.INSERT)
-                .addContainedKind(RowKind.UPDATE_BEFORE)
-                .addContainedKind(RowKind.UPDATE_AFTER)
-                .addContainedKind(RowKind.DELETE)
-                .build();
+        return changelogMode.getChangelogMode();
     }
 
     @Override
@@ -158,9 +169,10 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                         .setServerTimeZone(serverTimeZone)
                         .setUserDefinedConverterFactory(
                                 MySqlDeserializationConverterFactory.instance())
+                        .setChangelogMode(changelogMode)
                         .build();
         if (enableParallelRead) {
-            MySqlSource<RowData> parallelSource =
+            MySqlSourceBuilder<RowData> parallelSourceBuilder =
                     MySqlSource.<RowData>builder()
                             .hostname(hostname)
                             .port(port)
@@ -179,9 +191,14 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                             .connectionPoolSize(connectionPoolSize)
                             .debeziumProperties(dbzProperties)
                             .startupOptions(startupOptions)
-                            .deserializer(deserializer)
-                            .build();
-            return SourceProvider.of(parallelSource);
+                            .snapshotThrottleEnabled(snapshotThrottleEnabled)
+                            .deserializer(deserializer);
+            Optional.ofNullable(snapshotThrottleMaxThreadsRunning)
+                    .ifPresent(parallelSourceBuilder::snapshotThrottleMaxThreadsRunning);
+            Optional.ofNullable(snapshotThrottleMaxReplicaLag)
+                    .ifPresent(parallelSourceBuilder::snapshotThrottleMaxReplicaLag);
+            Optional.ofNullable(chunkKeyColumn).ifPresent(parallelSourceBuilder::chunkKeyColumn);
+            return SourceProvider.of(parallelSourceBuilder.build());
         } else {
             com.ververica.cdc.connectors.mysql.MySqlSource.Builder<RowData> builder =
                     com.ververica.cdc.connectors.mysql.MySqlSource.<RowData>builder()
@@ -254,7 +271,12 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                         connectMaxRetries,
                         connectionPoolSize,
                         evenlyDistributionFactor,
-                        startupOptions);
+                        startupOptions,
+                        changelogMode,
+                        snapshotThrottleEnabled,
+                        snapshotThrottleMaxThreadsRunning,
+                        snapshotThrottleMaxReplicaLag,
+                        chunkKeyColumn);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -288,6 +310,12 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 && Objects.equals(connectMaxRetries, that.connectMaxRetries)
                 && Objects.equals(connectionPoolSize, that.connectionPoolSize)
                 && Objects.equals(startupOptions, that.startupOptions)
+                && Objects.equals(changelogMode, that.changelogMode)
+                && snapshotThrottleEnabled == that.snapshotThrottleEnabled
+                && Objects.equals(
+                        snapshotThrottleMaxThreadsRunning, that.snapshotThrottleMaxThreadsRunning)
+                && Objects.equals(snapshotThrottleMaxReplicaLag, that.snapshotThrottleMaxReplicaLag)
+                && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys);
     }
@@ -314,6 +342,11 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 connectionPoolSize,
                 evenlyDistributionFactor,
                 startupOptions,
+                changelogMode,
+                snapshotThrottleEnabled,
+                snapshotThrottleMaxThreadsRunning,
+                snapshotThrottleMaxReplicaLag,
+                chunkKeyColumn,
                 producedDataType,
                 metadataKeys);
     }
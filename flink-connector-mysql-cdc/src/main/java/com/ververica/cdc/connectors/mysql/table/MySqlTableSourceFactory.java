@@ -30,6 +30,7 @@ import org.apache.flink.util.Preconditions;
 
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions;
 import com.ververica.cdc.connectors.mysql.source.config.ServerIdRange;
+import com.ververica.cdc.debezium.table.DebeziumChangelogMode;
 import com.ververica.cdc.debezium.table.DebeziumOptions;
 
 import java.time.Duration;
@@ -47,9 +48,14 @@ import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOption
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.HOSTNAME;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.PASSWORD;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.PORT;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_CHANGELOG_MODE;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_THROTTLE_ENABLED;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_THROTTLE_MAX_REPLICA_LAG;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_THROTTLE_MAX_THREADS_RUNNING;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_STARTUP_MODE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_STARTUP_SPECIFIC_OFFSET_FILE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_STARTUP_SPECIFIC_OFFSET_POS;
@@ -94,10 +100,24 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
         int connectMaxRetries = config.get(CONNECT_MAX_RETRIES);
         int connectionPoolSize = config.get(CONNECTION_POOL_SIZE);
         double evenlyDistributionFactor = config.get(EVENLY_DISTRIBUTION_FACTOR);
+        DebeziumChangelogMode changelogMode = config.get(SCAN_CHANGELOG_MODE);
+        DebeziumOptions.validateChangelogMode(changelogMode, physicalSchema);
+
+        boolean snapshotThrottleEnabled = config.get(SCAN_SNAPSHOT_THROTTLE_ENABLED);
+        Integer snapshotThrottleMaxThreadsRunning =
+                config.getOptional(SCAN_SNAPSHOT_THROTTLE_MAX_THREADS_RUNNING).orElse(null);
+        Duration snapshotThrottleMaxReplicaLag =
+                config.getOptional(SCAN_SNAPSHOT_THROTTLE_MAX_REPLICA_LAG).orElse(null);
+        String chunkKeyColumn =
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN).orElse(null);
 
         boolean enableParallelRead = config.get(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
         if (enableParallelRead) {
-            validatePrimaryKeyIfEnableParallel(physicalSchema);
+            if (chunkKeyColumn == null) {
+                validatePrimaryKeyIfEnableParallel(physicalSchema);
+            } else {
+                validateChunkKeyColumn(physicalSchema, chunkKeyColumn);
+            }
             validateStartupOptionIfEnableParallel(startupOptions);
             validateIntegerOption(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE, splitSize, 1);
             validateIntegerOption(CHUNK_META_GROUP_SIZE, splitMetaGroupSize, 1);
@@ -105,6 +125,12 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
             validateIntegerOption(CONNECTION_POOL_SIZE, connectionPoolSize, 1);
             validateIntegerOption(CONNECT_MAX_RETRIES, connectMaxRetries, 0);
             validateEvenlyDistributionFactor(evenlyDistributionFactor);
+            if (snapshotThrottleMaxThreadsRunning != null) {
+                validateIntegerOption(
+                        SCAN_SNAPSHOT_THROTTLE_MAX_THREADS_RUNNING,
+                        snapshotThrottleMaxThreadsRunning,
+                        0);
+            }
         }
 
         return new MySqlTableSource(
@@ -126,7 +152,12 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
                 connectMaxRetries,
                 connectionPoolSize,
                 evenlyDistributionFactor,
-                startupOptions);
+                startupOptions,
+                changelogMode,
+                snapshotThrottleEnabled,
+                snapshotThrottleMaxThreadsRunning,
+                snapshotThrottleMaxReplicaLag,
+                chunkKeyColumn);
     }
 
     @Override
@@ -157,12 +188,17 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
         options.add(SCAN_STARTUP_TIMESTAMP_MILLIS);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN);
         options.add(CHUNK_META_GROUP_SIZE);
         options.add(SCAN_SNAPSHOT_FETCH_SIZE);
         options.add(CONNECT_TIMEOUT);
         options.add(CONNECTION_POOL_SIZE);
         options.add(EVENLY_DISTRIBUTION_FACTOR);
         options.add(CONNECT_MAX_RETRIES);
+        options.add(SCAN_CHANGELOG_MODE);
+        options.add(SCAN_SNAPSHOT_THROTTLE_ENABLED);
+        options.add(SCAN_SNAPSHOT_THROTTLE_MAX_THREADS_RUNNING);
+        options.add(SCAN_SNAPSHOT_THROTTLE_MAX_REPLICA_LAG);
         return options;
     }
 
@@ -213,6 +249,15 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
         }
     }
 
+    private void validateChunkKeyColumn(TableSchema physicalSchema, String chunkKeyColumn) {
+        if (!physicalSchema.getTableColumn(chunkKeyColumn).isPresent()) {
+            throw new ValidationException(
+                    String.format(
+                            "The value of option '%s' must be a column of the table, but was: %s",
+                            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN.key(), chunkKeyColumn));
+        }
+    }
+
     private void validateStartupOptionIfEnableParallel(StartupOptions startupOptions) {
         // validate mode
         Preconditions.checkState(
@@ -30,6 +30,7 @@ import com.ververica.cdc.connectors.mysql.testutils.UniqueDatabase;
 import com.ververica.cdc.connectors.utils.TestSourceContext;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
 import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import com.ververica.cdc.debezium.internal.DebeziumOffsetSerializer;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentWriter;
 import io.debezium.relational.Column;
@@ -45,7 +46,6 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.time.Duration;
@@ -230,7 +230,7 @@ public class LegacyMySqlSourceTest extends LegacyMySqlTestBase {
 
             assertHistoryState(historyState);
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("mysql_binlog_source", JsonPath.read(state, "$.sourcePartition.server"));
             assertEquals("mysql-bin.000003", JsonPath.read(state, "$.sourceOffset.file"));
             assertFalse(state.contains("row"));
@@ -283,7 +283,7 @@ public class LegacyMySqlSourceTest extends LegacyMySqlTestBase {
 
                 assertHistoryState(historyState); // assert the DDL is stored in the history state
                 assertEquals(1, offsetState.list.size());
-                String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+                String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
                 assertEquals(
                         "mysql_binlog_source", JsonPath.read(state, "$.sourcePartition.server"));
                 assertEquals("mysql-bin.000003", JsonPath.read(state, "$.sourceOffset.file"));
@@ -349,7 +349,7 @@ public class LegacyMySqlSourceTest extends LegacyMySqlTestBase {
             }
             assertHistoryState(historyState); // assert the DDL is stored in the history state
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("mysql_binlog_source", JsonPath.read(state, "$.sourcePartition.server"));
             assertEquals("mysql-bin.000003", JsonPath.read(state, "$.sourceOffset.file"));
             assertEquals("1", JsonPath.read(state, "$.sourceOffset.row").toString());
@@ -393,7 +393,7 @@ public class LegacyMySqlSourceTest extends LegacyMySqlTestBase {
             }
             assertHistoryState(historyState); // assert the DDL is stored in the history state
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("mysql_binlog_source", JsonPath.read(state, "$.sourcePartition.server"));
             assertEquals("mysql-bin.000003", JsonPath.read(state, "$.sourceOffset.file"));
             assertEquals("1", JsonPath.read(state, "$.sourceOffset.row").toString());
@@ -445,7 +445,7 @@ public class LegacyMySqlSourceTest extends LegacyMySqlTestBase {
             }
             assertHistoryState(historyState); // assert the DDL is stored in the history state
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("mysql_binlog_source", JsonPath.read(state, "$.sourcePartition.server"));
             assertEquals("mysql-bin.000003", JsonPath.read(state, "$.sourceOffset.file"));
             assertEquals("1", JsonPath.read(state, "$.sourceOffset.row").toString());
@@ -741,7 +741,7 @@ public class LegacyMySqlSourceTest extends LegacyMySqlTestBase {
 
                 assertHistoryState(historyState); // assert the DDL is stored in the history state
                 assertEquals(1, offsetState.list.size());
-                String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+                String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
                 assertEquals(
                         "mysql_binlog_source", JsonPath.read(state, "$.sourcePartition.server"));
                 assertEquals("mysql-bin.000003", JsonPath.read(state, "$.sourceOffset.file"));
@@ -961,7 +961,7 @@ public class LegacyMySqlSourceTest extends LegacyMySqlTestBase {
         }
 
         assertEquals(1, offsetState.list.size());
-        String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+        String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
         String offsetFile = JsonPath.read(state, "$.sourceOffset.file");
         int offsetPos = JsonPath.read(state, "$.sourceOffset.pos");
 
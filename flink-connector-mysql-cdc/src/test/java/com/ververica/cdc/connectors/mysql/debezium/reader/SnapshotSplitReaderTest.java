@@ -28,11 +28,14 @@ import com.ververica.cdc.connectors.mysql.source.MySqlSourceTestBase;
 import com.ververica.cdc.connectors.mysql.source.assigners.MySqlSnapshotSplitAssigner;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplitState;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
 import com.ververica.cdc.connectors.mysql.testutils.RecordsFormatter;
 import com.ververica.cdc.connectors.mysql.testutils.UniqueDatabase;
 import io.debezium.connector.mysql.MySqlConnection;
 import io.debezium.relational.TableId;
+import io.debezium.util.SchemaNameAdjuster;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -44,6 +47,14 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKey;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getWatermark;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isHighWatermarkEvent;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.splitKeyRangeContains;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
 /** Tests for {@link SnapshotSplitReader}. */
 public class SnapshotSplitReaderTest extends MySqlSourceTestBase {
 
@@ -187,6 +198,84 @@ public class SnapshotSplitReaderTest extends MySqlSourceTestBase {
         assertEqualsInAnyOrder(Arrays.asList(expected), actual);
     }
 
+    @Test
+    public void testResumeSnapshotSplitOfTableWithCombinedPrimaryKey() throws Exception {
+        MySqlSourceConfig sourceConfig = getConfig(new String[] {"customer_card"});
+
+        DataType dataType =
+                DataTypes.ROW(
+                        DataTypes.FIELD("card_no", DataTypes.BIGINT()),
+                        DataTypes.FIELD("level", DataTypes.STRING()),
+                        DataTypes.FIELD("name", DataTypes.STRING()),
+                        DataTypes.FIELD("note", DataTypes.STRING()));
+        // the split contains the 4 rows with card_no 20004, the split key is card_no only
+        final Object[] sharedSplitKey = new Object[] {20004L};
+        MySqlSnapshotSplit split =
+                getMySqlSplits(sourceConfig).stream()
+                        .map(MySqlSplit::asSnapshotSplit)
+                        .filter(
+                                s ->
+                                        splitKeyRangeContains(
+                                                sharedSplitKey, s.getSplitStart(), s.getSplitEnd()))
+                        .findFirst()
+                        .get();
+
+        StatefulTaskContext statefulTaskContext =
+                new StatefulTaskContext(sourceConfig, binaryLogClient, mySqlConnection);
+        SnapshotSplitReader snapshotSplitReader = new SnapshotSplitReader(statefulTaskContext, 0);
+        List<SourceRecord> splitRecords = readSnapshotSplit(snapshotSplitReader, split);
+
+        // emit the records of split as the record emitter does, until one of the rows with
+        // card_no 20004 has been emitted, and take the split state as checkpoint
+        final SchemaNameAdjuster nameAdjuster = SchemaNameAdjuster.create();
+        MySqlSnapshotSplitState splitState = new MySqlSnapshotSplitState(split);
+        List<SourceRecord> emittedRecords = new ArrayList<>();
+        for (SourceRecord record : splitRecords) {
+            if (isHighWatermarkEvent(record)) {
+                splitState.setHighWatermark(getWatermark(record));
+            } else if (isDataChangeRecord(record)) {
+                Object[] splitKey = getSplitKey(split.getSplitKeyType(), record, nameAdjuster);
+                splitState.recordEmittedSplitKey(splitKey);
+                emittedRecords.add(record);
+                if (Arrays.equals(sharedSplitKey, splitKey)) {
+                    break;
+                }
+            }
+        }
+        MySqlSnapshotSplit unfinishedSplit = splitState.toUnfinishedSplit();
+        assertTrue(unfinishedSplit.isSnapshotReadPartiallyEmitted());
+        assertArrayEquals(new Object[] {20003L}, unfinishedSplit.getLastEmittedKey());
+
+        // the resumed read starts from the rows with card_no 20004, none of them is lost
+        List<SourceRecord> resumedRecords = readSnapshotSplit(snapshotSplitReader, unfinishedSplit);
+        List<String> actual = new ArrayList<>(formatResult(emittedRecords, dataType));
+        List<String> resumed = formatResult(resumedRecords, dataType);
+        actual.addAll(resumed);
+        List<String> expected = formatResult(splitRecords, dataType);
+        assertTrue(actual.containsAll(expected));
+        assertTrue(
+                resumed.containsAll(
+                        Arrays.asList(
+                                "+I[20004, LEVEL_1, user_4, user with level 4]",
+                                "+I[20004, LEVEL_2, user_4, user with level 4]",
+                                "+I[20004, LEVEL_3, user_4, user with level 4]",
+                                "+I[20004, LEVEL_4, user_4, user with level 4]")));
+        assertTrue(resumed.stream().noneMatch(r -> r.startsWith("+I[20003,")));
+    }
+
+    private List<SourceRecord> readSnapshotSplit(
+            SnapshotSplitReader snapshotSplitReader, MySqlSnapshotSplit split) throws Exception {
+        List<SourceRecord> result = new ArrayList<>();
+        snapshotSplitReader.submitSplit(split);
+        Iterator<SourceRecord> res;
+        while ((res = snapshotSplitReader.pollSplitRecords()) != null) {
+            while (res.hasNext()) {
+                result.add(res.next());
+            }
+        }
+        return result;
+    }
+
     private List<String> readTableSnapshotSplits(
             List<MySqlSplit> mySqlSplits,
             MySqlSourceConfig sourceConfig,
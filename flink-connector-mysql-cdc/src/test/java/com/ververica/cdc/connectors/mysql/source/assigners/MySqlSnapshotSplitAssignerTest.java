@@ -40,6 +40,7 @@ import java.util.stream.Collectors;
 
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.EVENLY_DISTRIBUTION_FACTOR;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 /** Tests for {@link MySqlSnapshotSplitAssigner}. */
@@ -152,8 +153,17 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
 
     private List<String> getTestAssignSnapshotSplits(
             int splitSize, double evenlyDistributionFactor, String[] captureTables) {
+        return getTestAssignSnapshotSplits(
+                splitSize, evenlyDistributionFactor, captureTables, null);
+    }
+
+    private List<String> getTestAssignSnapshotSplits(
+            int splitSize,
+            double evenlyDistributionFactor,
+            String[] captureTables,
+            String chunkKeyColumn) {
         MySqlSourceConfig configuration =
-                getConfig(splitSize, evenlyDistributionFactor, captureTables);
+                getConfig(splitSize, evenlyDistributionFactor, captureTables, chunkKeyColumn);
         List<TableId> remainingTables =
                 Arrays.stream(captureTables).map(TableId::parse).collect(Collectors.toList());
         final MySqlSnapshotSplitAssigner assigner =
@@ -327,8 +337,59 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
         }
     }
 
+    @Test
+    public void testAssignTableWithoutPrimaryKey() {
+        final String[] captureTables =
+                new String[] {customerDatabase.getDatabaseName() + ".customer_no_pk"};
+        List<String> expected =
+                Arrays.asList("customer_no_pk null [103]", "customer_no_pk [103] null");
+        // the column of unique index on not null column is used by default
+        assertEquals(
+                expected,
+                getTestAssignSnapshotSplits(
+                        2, EVENLY_DISTRIBUTION_FACTOR.defaultValue(), captureTables));
+        assertEquals(
+                expected,
+                getTestAssignSnapshotSplits(
+                        2, EVENLY_DISTRIBUTION_FACTOR.defaultValue(), captureTables, "id"));
+    }
+
+    @Test
+    public void testRejectNonUniqueOrNullableChunkKeyColumn() {
+        final String[] captureTables =
+                new String[] {customerDatabase.getDatabaseName() + ".customer_no_pk"};
+        // the column uid has duplicate and null values without unique index, the unique column
+        // email has null values, the distinct rows can't be identified by them
+        for (String chunkKeyColumn : Arrays.asList("uid", "email")) {
+            Throwable thrown = null;
+            try {
+                getTestAssignSnapshotSplits(
+                        2,
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        captureTables,
+                        chunkKeyColumn);
+            } catch (Throwable t) {
+                thrown = t;
+            }
+            assertNotNull("The chunk key column " + chunkKeyColumn + " is accepted.", thrown);
+            assertTrue(
+                    ExceptionUtils.findThrowableWithMessage(
+                                    thrown,
+                                    "The chunk key column "
+                                            + chunkKeyColumn
+                                            + " of table "
+                                            + captureTables[0]
+                                            + " without primary key must be a not null column"
+                                            + " with a single-column unique index")
+                            .isPresent());
+        }
+    }
+
     private MySqlSourceConfig getConfig(
-            int splitSize, double evenlyDistributionFactor, String[] captureTables) {
+            int splitSize,
+            double evenlyDistributionFactor,
+            String[] captureTables,
+            String chunkKeyColumn) {
         return new MySqlSourceConfigFactory()
                 .startupOptions(StartupOptions.initial())
                 .databaseList(customerDatabase.getDatabaseName())
@@ -341,6 +402,7 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
                 .username(customerDatabase.getUsername())
                 .password(customerDatabase.getPassword())
                 .serverTimeZone(ZoneId.of("UTC").toString())
+                .chunkKeyColumn(chunkKeyColumn)
                 .createConfig(0);
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.enumerator;
+
+import com.ververica.cdc.connectors.mysql.source.enumerator.SnapshotSplitThrottler.ServerLoad;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SnapshotSplitThrottler}. */
+public class SnapshotSplitThrottlerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    public void testBudgetLimitsInFlightSplits() {
+        SnapshotSplitThrottler throttler = new SnapshotSplitThrottler(2, null, null);
+        assertTrue(throttler.tryAcquire(0, 0L));
+        assertTrue(throttler.tryAcquire(1, 0L));
+        assertFalse(throttler.tryAcquire(2, 0L));
+        // the subtask holding a permit doesn't take another one
+        assertTrue(throttler.tryAcquire(1, 0L));
+        assertEquals(2, throttler.getInFlightSplits());
+
+        throttler.cancel(1);
+        assertTrue(throttler.tryAcquire(2, 0L));
+    }
+
+    @Test
+    public void testBudgetAdaptsToLatency() {
+        SnapshotSplitThrottler throttler = new SnapshotSplitThrottler(4, null, null);
+        long now = 0L;
+        // stable latency keeps the full budget
+        for (int i = 0; i < 5; i++) {
+            assertTrue(throttler.tryAcquire(0, now));
+            now += 100 * MS;
+            throttler.release(0, now);
+        }
+        assertEquals(4, throttler.getBudget());
+
+        // degraded latency halves the budget down to one
+        for (int i = 0; i < 5; i++) {
+            assertTrue(throttler.tryAcquire(0, now));
+            now += 2000 * MS;
+            throttler.release(0, now);
+        }
+        assertEquals(1, throttler.getBudget());
+        assertTrue(throttler.tryAcquire(0, now));
+        assertFalse(throttler.tryAcquire(1, now));
+        throttler.cancel(0);
+
+        // recovered latency grows the budget back step by step
+        for (int i = 0; i < 20; i++) {
+            assertTrue(throttler.tryAcquire(0, now));
+            now += 100 * MS;
+            throttler.release(0, now);
+        }
+        assertEquals(4, throttler.getBudget());
+    }
+
+    @Test
+    public void testBudgetBacksOffOnServerLoad() {
+        SnapshotSplitThrottler throttler =
+                new SnapshotSplitThrottler(8, 32, Duration.ofSeconds(10));
+        assertTrue(throttler.hasServerSignals());
+
+        throttler.onServerLoad(new ServerLoad(10L, null));
+        assertEquals(8, throttler.getBudget());
+        throttler.onServerLoad(new ServerLoad(64L, 0L));
+        assertEquals(4, throttler.getBudget());
+        throttler.onServerLoad(new ServerLoad(10L, 30L));
+        assertEquals(2, throttler.getBudget());
+
+        // the budget doesn't grow while the server is overloaded
+        assertTrue(throttler.tryAcquire(0, 0L));
+        throttler.release(0, 100 * MS);
+        assertEquals(1, throttler.getBudget());
+
+        throttler.onServerLoad(new ServerLoad(10L, 0L));
+        assertTrue(throttler.tryAcquire(0, 0L));
+        throttler.release(0, 100 * MS);
+        assertEquals(2, throttler.getBudget());
+        assertFalse(new SnapshotSplitThrottler(1, null, null).hasServerSignals());
+    }
+}
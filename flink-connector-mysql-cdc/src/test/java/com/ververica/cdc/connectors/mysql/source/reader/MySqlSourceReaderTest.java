@@ -134,7 +134,9 @@ public class MySqlSourceReaderTest extends MySqlSourceTestBase {
                 new MySqlRecordEmitter<>(
                         new ForwardDeserializeSchema(),
                         new MySqlSourceReaderMetrics(readerContext.metricGroup()),
-                        configuration.isIncludeSchemaChanges());
+                        configuration.isIncludeSchemaChanges(),
+                        configuration.isEmitBinlogWatermarks(),
+                        configuration.getWatermarkMaxOutOfOrderness());
         return new MySqlSourceReader<>(
                 elementsQueue,
                 () -> createSplitReader(configuration),
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.reader;
+
+import org.apache.flink.api.common.eventtime.Watermark;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.connector.source.ReaderOutput;
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
+import com.ververica.cdc.connectors.mysql.source.metrics.MySqlSourceReaderMetrics;
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplitState;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlRecords;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplitState;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.table.StartupOptions;
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.HEARTBEAT_VALUE_SCHEMA_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the binlog watermarks emitted by {@link MySqlRecordEmitter} and the idleness of {@link
+ * MySqlSourceReader}, which don't need a MySQL server.
+ */
+public class MySqlSourceReaderWatermarkTest {
+
+    private static final Duration MAX_OUT_OF_ORDERNESS = Duration.ofSeconds(5);
+
+    private static final TableId TABLE_ID = new TableId("db", null, "orders");
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct().optional().field("id", Schema.INT64_SCHEMA).build();
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct().field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA).build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(Envelope.FieldName.AFTER, ROW_SCHEMA)
+                    .field(Envelope.FieldName.SOURCE, SOURCE_SCHEMA)
+                    .field(Envelope.FieldName.OPERATION, Schema.STRING_SCHEMA)
+                    .build();
+
+    @Test
+    public void testBinlogWatermarks() throws Exception {
+        final MySqlRecordEmitter<SourceRecord> emitter = createEmitter(true);
+        final MySqlBinlogSplitState splitState =
+                new MySqlBinlogSplitState(
+                        new MySqlBinlogSplit(
+                                "binlog-split",
+                                BinlogOffset.INITIAL_OFFSET,
+                                BinlogOffset.NO_STOPPING_OFFSET,
+                                new ArrayList<>(),
+                                new HashMap<>(),
+                                0));
+        final RecordingReaderOutput output = new RecordingReaderOutput();
+
+        emitter.emitRecord(dataChangeRecord(1L, 1634567890000L, 100L), output, splitState);
+        assertEquals(Collections.singletonList(1634567890000L), output.timestamps);
+        assertEquals(
+                Collections.singletonList(1634567890000L - MAX_OUT_OF_ORDERNESS.toMillis() - 1),
+                output.watermarks);
+
+        // the watermark doesn't go back for an out of order event
+        emitter.emitRecord(dataChangeRecord(2L, 1634567880000L, 200L), output, splitState);
+        assertEquals(2, output.timestamps.size());
+        assertEquals(1634567880000L, (long) output.timestamps.get(1));
+        assertEquals(1, output.watermarks.size());
+
+        // the heartbeat advances the watermark without any data change
+        emitter.emitRecord(heartbeatRecord(1634567900L), output, splitState);
+        assertEquals(2, output.timestamps.size());
+        assertEquals(2, output.watermarks.size());
+        assertEquals(
+                1634567900000L - MAX_OUT_OF_ORDERNESS.toMillis() - 1,
+                (long) output.watermarks.get(1));
+        assertEquals(0, output.idleCount);
+    }
+
+    @Test
+    public void testNoWatermarksForSnapshotSplit() throws Exception {
+        final MySqlRecordEmitter<SourceRecord> emitter = createEmitter(true);
+        final MySqlSnapshotSplitState splitState =
+                new MySqlSnapshotSplitState(createSnapshotSplit("db.orders:0"));
+        final RecordingReaderOutput output = new RecordingReaderOutput();
+
+        emitter.emitRecord(dataChangeRecord(1L, 1634567890000L, 100L), output, splitState);
+        emitter.emitRecord(heartbeatRecord(1634567900L), output, splitState);
+        assertEquals(1, output.records.size());
+        assertTrue(output.timestamps.isEmpty());
+        assertTrue(output.watermarks.isEmpty());
+    }
+
+    @Test
+    public void testNoWatermarksWhenDisabled() throws Exception {
+        final MySqlRecordEmitter<SourceRecord> emitter = createEmitter(false);
+        final MySqlBinlogSplitState splitState =
+                new MySqlBinlogSplitState(
+                        new MySqlBinlogSplit(
+                                "binlog-split",
+                                BinlogOffset.INITIAL_OFFSET,
+                                BinlogOffset.NO_STOPPING_OFFSET,
+                                new ArrayList<>(),
+                                new HashMap<>(),
+                                0));
+        final RecordingReaderOutput output = new RecordingReaderOutput();
+
+        emitter.emitRecord(dataChangeRecord(1L, 1634567890000L, 100L), output, splitState);
+        emitter.emitRecord(heartbeatRecord(1634567900L), output, splitState);
+        assertEquals(1, output.records.size());
+        assertTrue(output.timestamps.isEmpty());
+        assertTrue(output.watermarks.isEmpty());
+    }
+
+    @Test
+    public void testReaderIdleness() throws Exception {
+        final MySqlSourceConfig sourceConfig =
+                new MySqlSourceConfigFactory()
+                        .startupOptions(StartupOptions.initial())
+                        .databaseList("db")
+                        .tableList("db.orders")
+                        .hostname("localhost")
+                        .username("user")
+                        .password("password")
+                        .emitBinlogWatermarks(true)
+                        .watermarkMaxOutOfOrderness(MAX_OUT_OF_ORDERNESS)
+                        .createConfig(0);
+        final StubSplitReader splitReader = new StubSplitReader(sourceConfig);
+        final TestingReaderContext readerContext = new TestingReaderContext();
+        final MySqlSourceReader<SourceRecord> reader =
+                new MySqlSourceReader<>(
+                        new FutureCompletingBlockingQueue<>(),
+                        () -> splitReader,
+                        new MySqlRecordEmitter<>(
+                                new ForwardDeserializeSchema(),
+                                new MySqlSourceReaderMetrics(readerContext.metricGroup()),
+                                false,
+                                true,
+                                MAX_OUT_OF_ORDERNESS),
+                        readerContext.getConfiguration(),
+                        readerContext,
+                        sourceConfig);
+        final RecordingReaderOutput output = new RecordingReaderOutput();
+        reader.start();
+
+        // the reader without any split is idle
+        reader.pollNext(output);
+        assertEquals(1, output.idleCount);
+        reader.pollNext(output);
+        assertEquals(1, output.idleCount);
+
+        // the reader reading a snapshot split isn't idle
+        reader.addSplits(Collections.singletonList(createSnapshotSplit("db.orders:0")));
+        for (int i = 0; i < 10; i++) {
+            reader.pollNext(output);
+        }
+        assertEquals(1, output.idleCount);
+
+        // the reader turns idle again after it finished the snapshot split
+        splitReader.finishSplit = true;
+        final long deadline = System.currentTimeMillis() + 30_000L;
+        while (output.idleCount < 2 && System.currentTimeMillis() < deadline) {
+            reader.pollNext(output);
+            Thread.sleep(10L);
+        }
+        assertEquals(2, output.idleCount);
+        reader.pollNext(output);
+        assertEquals(2, output.idleCount);
+        reader.close();
+    }
+
+    // ------------------------------------------------------------------------
+    //  test utilities
+    // ------------------------------------------------------------------------
+
+    private static MySqlRecordEmitter<SourceRecord> createEmitter(boolean emitBinlogWatermarks) {
+        return new MySqlRecordEmitter<>(
+                new ForwardDeserializeSchema(),
+                new MySqlSourceReaderMetrics(new TestingReaderContext().metricGroup()),
+                false,
+                emitBinlogWatermarks,
+                MAX_OUT_OF_ORDERNESS);
+    }
+
+    private static MySqlSnapshotSplit createSnapshotSplit(String splitId) {
+        final RowType splitKeyType =
+                (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT())).getLogicalType();
+        return new MySqlSnapshotSplit(
+                TABLE_ID, splitId, splitKeyType, null, null, null, new HashMap<>());
+    }
+
+    private static SourceRecord dataChangeRecord(long id, long timestampMs, long position) {
+        final Map<String, Object> offset = new HashMap<>();
+        offset.put(BinlogOffset.BINLOG_FILENAME_OFFSET_KEY, "mysql-bin.000001");
+        offset.put(BinlogOffset.BINLOG_POSITION_OFFSET_KEY, position);
+        final Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put(Envelope.FieldName.AFTER, new Struct(ROW_SCHEMA).put("id", id))
+                        .put(
+                                Envelope.FieldName.SOURCE,
+                                new Struct(SOURCE_SCHEMA)
+                                        .put(Envelope.FieldName.TIMESTAMP, timestampMs))
+                        .put(Envelope.FieldName.OPERATION, "c");
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                offset,
+                "mysql_binlog_source.db.orders",
+                null,
+                VALUE_SCHEMA,
+                value);
+    }
+
+    private static SourceRecord heartbeatRecord(long timestampSec) {
+        final Schema valueSchema =
+                SchemaBuilder.struct()
+                        .name(HEARTBEAT_VALUE_SCHEMA_NAME)
+                        .field("ts_ms", Schema.INT64_SCHEMA)
+                        .build();
+        final Map<String, Object> offset = new HashMap<>();
+        offset.put(BinlogOffset.BINLOG_FILENAME_OFFSET_KEY, "mysql-bin.000001");
+        offset.put(BinlogOffset.BINLOG_POSITION_OFFSET_KEY, 300L);
+        offset.put(BinlogOffset.TIMESTAMP_KEY, timestampSec);
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                offset,
+                "__debezium-heartbeat.mysql_binlog_source",
+                null,
+                valueSchema,
+                new Struct(valueSchema).put("ts_ms", System.currentTimeMillis()));
+    }
+
+    /**
+     * A {@link MySqlSplitReader} which reads nothing from the assigned snapshot split until it's
+     * told to finish the split.
+     */
+    private static class StubSplitReader extends MySqlSplitReader {
+
+        private final List<String> splitIds = new ArrayList<>();
+        private volatile boolean finishSplit;
+
+        StubSplitReader(MySqlSourceConfig sourceConfig) {
+            super(sourceConfig, 0);
+        }
+
+        @Override
+        public RecordsWithSplitIds<SourceRecord> fetch() {
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (splitIds.isEmpty()) {
+                return new MySqlRecords(null, null, Collections.emptySet());
+            }
+            if (finishSplit) {
+                return MySqlRecords.forFinishedSplit(splitIds.remove(0));
+            }
+            return MySqlRecords.forRecords(splitIds.get(0), Collections.emptyIterator());
+        }
+
+        @Override
+        public void handleSplitsChanges(SplitsChange<MySqlSplit> splitsChanges) {
+            for (MySqlSplit split : splitsChanges.splits()) {
+                splitIds.add(split.splitId());
+            }
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static class RecordingReaderOutput implements ReaderOutput<SourceRecord> {
+
+        private final List<SourceRecord> records = new ArrayList<>();
+        private final List<Long> timestamps = new ArrayList<>();
+        private final List<Long> watermarks = new ArrayList<>();
+        private int idleCount;
+
+        @Override
+        public void collect(SourceRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void collect(SourceRecord record, long timestamp) {
+            records.add(record);
+            timestamps.add(timestamp);
+        }
+
+        @Override
+        public void emitWatermark(Watermark watermark) {
+            watermarks.add(watermark.getTimestamp());
+        }
+
+        @Override
+        public void markIdle() {
+            idleCount++;
+        }
+
+        @Override
+        public SourceOutput<SourceRecord> createOutputForSplit(String splitId) {
+            return this;
+        }
+
+        @Override
+        public void releaseOutputForSplit(String splitId) {}
+    }
+
+    private static class ForwardDeserializeSchema
+            implements DebeziumDeserializationSchema<SourceRecord> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void deserialize(SourceRecord record, Collector<SourceRecord> out) {
+            out.collect(record);
+        }
+
+        @Override
+        public TypeInformation<SourceRecord> getProducedType() {
+            return TypeInformation.of(SourceRecord.class);
+        }
+    }
+}
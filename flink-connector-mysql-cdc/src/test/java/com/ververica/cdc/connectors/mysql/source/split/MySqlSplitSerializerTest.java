@@ -56,6 +56,22 @@ public class MySqlSplitSerializerTest {
         assertEquals(split, serializeAndDeserializeSplit(split));
     }
 
+    @Test
+    public void testPartiallyEmittedSnapshotSplit() throws Exception {
+        final MySqlSplit split =
+                new MySqlSnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        new RowType(Arrays.asList(new RowType.RowField("id", new BigIntType()))),
+                        new Object[] {100L},
+                        new Object[] {999L},
+                        null,
+                        new Object[] {500L},
+                        new BinlogOffset("mysql-bin.000002", 78L),
+                        new HashMap<>());
+        assertEquals(split, serializeAndDeserializeSplit(split));
+    }
+
     @Test
     public void testBinlogSplit() throws Exception {
         final TableId tableId = TableId.parse("test_db.test_table");
@@ -34,6 +34,8 @@ import java.util.Map;
 
 import static com.ververica.cdc.connectors.mysql.source.split.MySqlSplitSerializerTest.getTestTableSchema;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /** Tests for {@link MySqlSplitState}. */
 public class MySqlSplitStateTest {
@@ -79,6 +81,83 @@ public class MySqlSplitStateTest {
         assertEquals(expected, mySqlSplitState.toMySqlSplit());
     }
 
+    @Test
+    public void testRecordSnapshotSplitEmittedProgress() {
+        final RowType splitKeyType =
+                new RowType(Arrays.asList(new RowType.RowField("id", new BigIntType())));
+        final MySqlSnapshotSplit split =
+                new MySqlSnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        splitKeyType,
+                        new Object[] {100L},
+                        new Object[] {999L},
+                        null,
+                        new Object[] {200L},
+                        new BinlogOffset("mysql-bin.000002", 78L),
+                        new HashMap<>());
+        final MySqlSnapshotSplitState mySqlSplitState = new MySqlSnapshotSplitState(split);
+        assertEquals(split, mySqlSplitState.toUnfinishedSplit());
+        assertTrue(mySqlSplitState.isEmittedBeforeResume(new Object[] {200L}));
+        assertFalse(mySqlSplitState.isEmittedBeforeResume(new Object[] {201L}));
+
+        // the unfinished split doesn't carry the high watermark of the ongoing read
+        mySqlSplitState.setHighWatermark(new BinlogOffset("mysql-bin.000002", 400L));
+        mySqlSplitState.setLastEmitted(
+                new Object[] {300L}, new BinlogOffset("mysql-bin.000002", 400L));
+        final MySqlSnapshotSplit expected =
+                new MySqlSnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        splitKeyType,
+                        new Object[] {100L},
+                        new Object[] {999L},
+                        null,
+                        new Object[] {300L},
+                        new BinlogOffset("mysql-bin.000002", 400L),
+                        new HashMap<>());
+        assertEquals(expected, mySqlSplitState.toUnfinishedSplit());
+        assertTrue(mySqlSplitState.toMySqlSplit().isSnapshotReadFinished());
+    }
+
+    @Test
+    public void testRecordEmittedProgressOfNonUniqueSplitKey() {
+        final RowType splitKeyType =
+                new RowType(Arrays.asList(new RowType.RowField("card_no", new BigIntType())));
+        final MySqlSnapshotSplit split =
+                new MySqlSnapshotSplit(
+                        TableId.parse("test_db.customer_card"),
+                        "test_db.customer_card-0",
+                        splitKeyType,
+                        null,
+                        new Object[] {999L},
+                        null,
+                        new HashMap<>());
+        final BinlogOffset highWatermark = new BinlogOffset("mysql-bin.000002", 400L);
+        final MySqlSnapshotSplitState mySqlSplitState = new MySqlSnapshotSplitState(split);
+        mySqlSplitState.setHighWatermark(highWatermark);
+
+        // the rows whose split key is null are emitted first, the split can't resume from them
+        mySqlSplitState.recordEmittedSplitKey(new Object[] {null});
+        mySqlSplitState.recordEmittedSplitKey(new Object[] {1L});
+        assertFalse(mySqlSplitState.toUnfinishedSplit().isSnapshotReadPartiallyEmitted());
+
+        // the rows (1, a), (1, b) share the split key, the progress doesn't advance to the split
+        // key until all of its rows have been emitted
+        mySqlSplitState.recordEmittedSplitKey(new Object[] {1L});
+        assertFalse(mySqlSplitState.toUnfinishedSplit().isSnapshotReadPartiallyEmitted());
+
+        mySqlSplitState.recordEmittedSplitKey(new Object[] {2L});
+        MySqlSnapshotSplit unfinishedSplit = mySqlSplitState.toUnfinishedSplit();
+        assertTrue(Arrays.equals(new Object[] {1L}, unfinishedSplit.getLastEmittedKey()));
+        assertEquals(highWatermark, unfinishedSplit.getLastEmittedWatermark());
+
+        mySqlSplitState.recordEmittedSplitKey(new Object[] {2L});
+        mySqlSplitState.recordEmittedSplitKey(new Object[] {5L});
+        unfinishedSplit = mySqlSplitState.toUnfinishedSplit();
+        assertTrue(Arrays.equals(new Object[] {2L}, unfinishedSplit.getLastEmittedKey()));
+    }
+
     @Test
     public void testRecordBinlogSplitState() throws Exception {
 
@@ -18,11 +18,42 @@
 
 package com.ververica.cdc.connectors.mysql.source.utils;
 
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.WatermarkKind;
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Test;
 
 import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+import static com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.SIGNAL_EVENT_VALUE_SCHEMA_NAME;
+import static com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher.WATERMARK_KIND;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.HEARTBEAT_VALUE_SCHEMA_NAME;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.compareSplitKeys;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getBinlogPosition;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKey;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isHeartbeatEvent;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.normalizedSplitRecords;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.splitKeyRangeContains;
+import static org.apache.flink.table.api.DataTypes.BIGINT;
+import static org.apache.flink.table.api.DataTypes.FIELD;
+import static org.apache.flink.table.api.DataTypes.ROW;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -59,4 +90,221 @@ public class RecordUtilsTest {
                         new Object[] {1L},
                         new Object[] {1024L}));
     }
+
+    @Test
+    public void testHeartbeatEvent() {
+        Schema valueSchema =
+                SchemaBuilder.struct()
+                        .name(HEARTBEAT_VALUE_SCHEMA_NAME)
+                        .field("ts_ms", Schema.INT64_SCHEMA)
+                        .build();
+        Struct value = new Struct(valueSchema).put("ts_ms", 1634567890000L);
+        SourceRecord heartbeat =
+                new SourceRecord(
+                        Collections.singletonMap("server", "mysql_binlog_source"),
+                        Collections.singletonMap("ts_sec", 1634567880L),
+                        "__debezium-heartbeat.mysql_binlog_source",
+                        null,
+                        valueSchema,
+                        value);
+        assertTrue(isHeartbeatEvent(heartbeat));
+        assertFalse(isDataChangeRecord(heartbeat));
+        assertEquals(1634567880L, getBinlogPosition(heartbeat).getTimestamp());
+
+        Schema otherSchema = SchemaBuilder.struct().name("other").build();
+        assertFalse(
+                isHeartbeatEvent(
+                        new SourceRecord(
+                                null, null, "topic", null, otherSchema, new Struct(otherSchema))));
+    }
+
+    @Test
+    public void testCompareSplitKeys() {
+        assertEquals(0, compareSplitKeys(new Object[] {100L}, new Object[] {100L}));
+        assertTrue(compareSplitKeys(new Object[] {99L}, new Object[] {100L}) < 0);
+        // split key from binlog may have different type
+        assertTrue(
+                compareSplitKeys(new Object[] {BigInteger.valueOf(100L)}, new Object[] {99L}) > 0);
+        assertEquals(
+                0, compareSplitKeys(new Object[] {BigInteger.valueOf(100L)}, new Object[] {100}));
+        assertTrue(compareSplitKeys(new Object[] {"a", 2}, new Object[] {"a", 10}) < 0);
+        // null split key of tables without primary key sorts first
+        assertTrue(compareSplitKeys(new Object[] {null}, new Object[] {1L}) < 0);
+        assertEquals(0, compareSplitKeys(new Object[] {null}, new Object[] {null}));
+        assertTrue(splitKeyRangeContains(new Object[] {null}, null, new Object[] {1024L}));
+    }
+
+    @Test
+    public void testGetSplitKeyOfTableWithoutPrimaryKey() {
+        RowType splitKeyType = (RowType) ROW(FIELD("uk", BIGINT().notNull())).getLogicalType();
+        Schema rowSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("uk", Schema.INT64_SCHEMA)
+                        .field("name", Schema.STRING_SCHEMA)
+                        .build();
+        Schema valueSchema =
+                SchemaBuilder.struct()
+                        .field(Envelope.FieldName.BEFORE, rowSchema)
+                        .field(Envelope.FieldName.AFTER, rowSchema)
+                        .field(Envelope.FieldName.OPERATION, Schema.STRING_SCHEMA)
+                        .build();
+        Struct before = new Struct(rowSchema).put("uk", 1L).put("name", "a");
+        Struct after = new Struct(rowSchema).put("uk", 2L).put("name", "b");
+        SchemaNameAdjuster nameAdjuster = SchemaNameAdjuster.create();
+
+        // the record of table without primary key has no key
+        SourceRecord update =
+                new SourceRecord(
+                        null,
+                        null,
+                        "topic",
+                        null,
+                        valueSchema,
+                        new Struct(valueSchema)
+                                .put(Envelope.FieldName.BEFORE, before)
+                                .put(Envelope.FieldName.AFTER, after)
+                                .put(Envelope.FieldName.OPERATION, "u"));
+        assertArrayEquals(new Object[] {2L}, getSplitKey(splitKeyType, update, nameAdjuster));
+
+        SourceRecord delete =
+                new SourceRecord(
+                        null,
+                        null,
+                        "topic",
+                        null,
+                        valueSchema,
+                        new Struct(valueSchema)
+                                .put(Envelope.FieldName.BEFORE, before)
+                                .put(Envelope.FieldName.OPERATION, "d"));
+        assertArrayEquals(new Object[] {1L}, getSplitKey(splitKeyType, delete, nameAdjuster));
+    }
+
+    @Test
+    public void testNormalizeUpdatesAcrossEmittedPartOfResumedSplit() {
+        RowType splitKeyType = (RowType) ROW(FIELD("uk", BIGINT().notNull())).getLogicalType();
+        Schema rowSchema =
+                SchemaBuilder.struct()
+                        .optional()
+                        .field("uk", Schema.INT64_SCHEMA)
+                        .field("name", Schema.STRING_SCHEMA)
+                        .build();
+        Schema sourceSchema =
+                SchemaBuilder.struct()
+                        .field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA)
+                        .build();
+        Envelope envelope =
+                Envelope.defineSchema()
+                        .withName("test_db.test_table.Envelope")
+                        .withRecord(rowSchema)
+                        .withSource(sourceSchema)
+                        .build();
+        Struct source = new Struct(sourceSchema).put(Envelope.FieldName.TIMESTAMP, 0L);
+        Instant ts = Instant.ofEpochMilli(0L);
+
+        // the records up to the split key 2 had been emitted before the split read resumed
+        MySqlSnapshotSplit split =
+                new MySqlSnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table:0",
+                        splitKeyType,
+                        null,
+                        null,
+                        null,
+                        new Object[] {2L},
+                        new BinlogOffset("mysql-bin.000001", 100L),
+                        Collections.emptyMap());
+
+        List<SourceRecord> records =
+                Arrays.asList(
+                        watermark(WatermarkKind.LOW, 200L),
+                        dataRecord(
+                                envelope,
+                                200L,
+                                envelope.read(row(rowSchema, 3L, "c"), source, ts)),
+                        dataRecord(
+                                envelope,
+                                200L,
+                                envelope.read(row(rowSchema, 4L, "d"), source, ts)),
+                        watermark(WatermarkKind.HIGH, 300L),
+                        // the update of the emitted part before low watermark
+                        dataRecord(
+                                envelope,
+                                150L,
+                                envelope.update(
+                                        row(rowSchema, 0L, "a"),
+                                        row(rowSchema, 0L, "a_updated"),
+                                        source,
+                                        ts)),
+                        // the emitted row moves to the rest of split
+                        dataRecord(
+                                envelope,
+                                250L,
+                                envelope.update(
+                                        row(rowSchema, 1L, "b"),
+                                        row(rowSchema, 5L, "b"),
+                                        source,
+                                        ts)),
+                        // the row of the rest of split moves to the emitted part
+                        dataRecord(
+                                envelope,
+                                260L,
+                                envelope.update(
+                                        row(rowSchema, 4L, "d"),
+                                        row(rowSchema, 2L, "d"),
+                                        source,
+                                        ts)),
+                        watermark(WatermarkKind.BINLOG_END, 300L));
+
+        List<SourceRecord> normalized =
+                normalizedSplitRecords(split, records, SchemaNameAdjuster.create());
+
+        assertEquals(records.get(0), normalized.get(0));
+        assertEquals(records.get(3), normalized.get(1));
+        List<String> changes = new ArrayList<>();
+        for (SourceRecord record : normalized.subList(2, normalized.size())) {
+            Struct value = (Struct) record.value();
+            Struct row =
+                    value.getStruct(Envelope.FieldName.AFTER) != null
+                            ? value.getStruct(Envelope.FieldName.AFTER)
+                            : value.getStruct(Envelope.FieldName.BEFORE);
+            changes.add(
+                    value.getString(Envelope.FieldName.OPERATION)
+                            + ":"
+                            + row.getInt64("uk")
+                            + ":"
+                            + row.getString("name"));
+        }
+        assertEquals(Arrays.asList("u:0:a_updated", "d:1:b", "c:2:d", "r:3:c", "r:5:b"), changes);
+    }
+
+    private static Struct row(Schema rowSchema, long uk, String name) {
+        return new Struct(rowSchema).put("uk", uk).put("name", name);
+    }
+
+    private static SourceRecord dataRecord(Envelope envelope, long position, Struct value) {
+        // the record of table without primary key has no key
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                new BinlogOffset("mysql-bin.000001", position).getOffset(),
+                "test_db.test_table",
+                null,
+                envelope.schema(),
+                value);
+    }
+
+    private static SourceRecord watermark(WatermarkKind watermarkKind, long position) {
+        Schema valueSchema =
+                SchemaBuilder.struct()
+                        .name(SIGNAL_EVENT_VALUE_SCHEMA_NAME)
+                        .field(WATERMARK_KIND, Schema.STRING_SCHEMA)
+                        .build();
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                new BinlogOffset("mysql-bin.000001", position).getOffset(),
+                "test_db.test_table",
+                null,
+                valueSchema,
+                new Struct(valueSchema).put(WATERMARK_KIND, watermarkKind.toString()));
+    }
 }
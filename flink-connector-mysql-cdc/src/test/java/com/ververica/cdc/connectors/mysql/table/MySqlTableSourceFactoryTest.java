@@ -33,6 +33,7 @@ import org.apache.flink.table.factories.FactoryUtil;
 import org.apache.flink.table.utils.TableSchemaUtils;
 import org.apache.flink.util.ExceptionUtils;
 
+import com.ververica.cdc.debezium.table.DebeziumChangelogMode;
 import org.junit.Test;
 
 import java.time.Duration;
@@ -52,6 +53,7 @@ import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOption
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_THROTTLE_ENABLED;
 import static org.apache.flink.core.testutils.FlinkMatchers.containsMessage;
 import static org.apache.flink.table.api.TableSchema.fromResolvedSchema;
 import static org.junit.Assert.assertEquals;
@@ -118,7 +120,12 @@ public class MySqlTableSourceFactoryTest {
                         CONNECT_MAX_RETRIES.defaultValue(),
                         CONNECTION_POOL_SIZE.defaultValue(),
                         EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -155,7 +162,12 @@ public class MySqlTableSourceFactoryTest {
                         CONNECT_MAX_RETRIES.defaultValue(),
                         CONNECTION_POOL_SIZE.defaultValue(),
                         40.5d,
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -190,7 +202,12 @@ public class MySqlTableSourceFactoryTest {
                         CONNECT_MAX_RETRIES.defaultValue(),
                         CONNECTION_POOL_SIZE.defaultValue(),
                         EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -223,7 +240,12 @@ public class MySqlTableSourceFactoryTest {
                         CONNECT_MAX_RETRIES.defaultValue(),
                         CONNECTION_POOL_SIZE.defaultValue(),
                         EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
-                        StartupOptions.latest());
+                        StartupOptions.latest(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -258,7 +280,12 @@ public class MySqlTableSourceFactoryTest {
                         CONNECT_MAX_RETRIES.defaultValue(),
                         CONNECTION_POOL_SIZE.defaultValue(),
                         EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -313,7 +340,12 @@ public class MySqlTableSourceFactoryTest {
                         CONNECT_MAX_RETRIES.defaultValue(),
                         CONNECTION_POOL_SIZE.defaultValue(),
                         EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -377,10 +409,153 @@ public class MySqlTableSourceFactoryTest {
                         CONNECT_MAX_RETRIES.defaultValue(),
                         CONNECTION_POOL_SIZE.defaultValue(),
                         EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
-                        StartupOptions.latest());
+                        StartupOptions.latest(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
+        assertEquals(expectedSource, actualSource);
+    }
+
+    @Test
+    public void testUpsertChangelogMode() {
+        Map<String, String> properties = getAllOptions();
+        properties.put("changelog-mode", "upsert");
+
+        // validation for source
+        DynamicTableSource actualSource = createTableSource(properties);
+        MySqlTableSource expectedSource =
+                new MySqlTableSource(
+                        TableSchemaUtils.getPhysicalSchema(fromResolvedSchema(SCHEMA)),
+                        3306,
+                        MY_LOCALHOST,
+                        MY_DATABASE,
+                        MY_TABLE,
+                        MY_USERNAME,
+                        MY_PASSWORD,
+                        ZoneId.of("UTC"),
+                        PROPERTIES,
+                        null,
+                        false,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        CONNECTION_POOL_SIZE.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.UPSERT,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
+        assertEquals(expectedSource, actualSource);
+        assertEquals(
+                DebeziumChangelogMode.UPSERT.getChangelogMode(),
+                ((MySqlTableSource) actualSource).getChangelogMode());
+    }
+
+    @Test
+    public void testSnapshotThrottleOptions() {
+        Map<String, String> properties = getAllOptions();
+        properties.put("scan.snapshot.throttle.enabled", "true");
+        properties.put("scan.snapshot.throttle.max-threads-running", "64");
+        properties.put("scan.snapshot.throttle.max-replica-lag", "30s");
+
+        // validation for source
+        DynamicTableSource actualSource = createTableSource(properties);
+        MySqlTableSource expectedSource =
+                new MySqlTableSource(
+                        TableSchemaUtils.getPhysicalSchema(fromResolvedSchema(SCHEMA)),
+                        3306,
+                        MY_LOCALHOST,
+                        MY_DATABASE,
+                        MY_TABLE,
+                        MY_USERNAME,
+                        MY_PASSWORD,
+                        ZoneId.of("UTC"),
+                        PROPERTIES,
+                        null,
+                        false,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        CONNECTION_POOL_SIZE.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        true,
+                        64,
+                        Duration.ofSeconds(30),
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
+    @Test
+    public void testChunkKeyColumnWithoutPrimaryKey() {
+        ResolvedSchema schemaWithoutPk =
+                new ResolvedSchema(SCHEMA.getColumns(), SCHEMA.getWatermarkSpecs(), null);
+        Map<String, String> properties = getAllOptions();
+        properties.put("scan.incremental.snapshot.enabled", "true");
+        properties.put("server-id", "123-126");
+        properties.put("scan.incremental.snapshot.chunk.key-column", "aaa");
+
+        // validation for source
+        DynamicTableSource actualSource = createTableSource(schemaWithoutPk, properties);
+        MySqlTableSource expectedSource =
+                new MySqlTableSource(
+                        TableSchemaUtils.getPhysicalSchema(fromResolvedSchema(schemaWithoutPk)),
+                        3306,
+                        MY_LOCALHOST,
+                        MY_DATABASE,
+                        MY_TABLE,
+                        MY_USERNAME,
+                        MY_PASSWORD,
+                        ZoneId.of("UTC"),
+                        PROPERTIES,
+                        "123-126",
+                        true,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        CONNECTION_POOL_SIZE.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        "aaa");
+        assertEquals(expectedSource, actualSource);
+
+        // validate the chunk key column is a column of table
+        try {
+            properties.put("scan.incremental.snapshot.chunk.key-column", "unknown");
+            createTableSource(schemaWithoutPk, properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            String msg =
+                    "The value of option 'scan.incremental.snapshot.chunk.key-column' must be a column of the table, but was: unknown";
+            assertTrue(ExceptionUtils.findThrowableWithMessage(t, msg).isPresent());
+        }
+
+        // validate the primary key is necessary without chunk key column
+        try {
+            properties.remove("scan.incremental.snapshot.chunk.key-column");
+            createTableSource(schemaWithoutPk, properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            String msg = "The primary key is necessary when enable";
+            assertTrue(ExceptionUtils.findThrowableWithMessage(t, msg).isPresent());
+        }
+    }
+
     @Test
     public void testMetadataColumns() {
         Map<String, String> properties = getAllOptions();
@@ -414,7 +589,12 @@ public class MySqlTableSourceFactoryTest {
                         CONNECT_MAX_RETRIES.defaultValue(),
                         CONNECTION_POOL_SIZE.defaultValue(),
                         EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_SNAPSHOT_THROTTLE_ENABLED.defaultValue(),
+                        null,
+                        null,
+                        null);
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys = Arrays.asList("op_ts", "database_name");
 
@@ -591,6 +771,20 @@ public class MySqlTableSourceFactoryTest {
             assertTrue(ExceptionUtils.findThrowableWithMessage(t, msg).isPresent());
         }
 
+        // validate upsert changelog mode without primary key
+        try {
+            Map<String, String> properties = getAllOptions();
+            properties.put("changelog-mode", "upsert");
+
+            createTableSource(
+                    new ResolvedSchema(SCHEMA.getColumns(), SCHEMA.getWatermarkSpecs(), null),
+                    properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            String msg = "The primary key is necessary when set 'changelog-mode' to 'upsert'";
+            assertTrue(ExceptionUtils.findThrowableWithMessage(t, msg).isPresent());
+        }
+
         // validate invalid database-name
         try {
             Map<String, String> properties = getAllOptions();
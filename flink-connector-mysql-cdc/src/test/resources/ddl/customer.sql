@@ -190,3 +190,19 @@ VALUES (416874195632735147, 'China', 'Beijing', 'West Town address 1'),
        (417272886855938987, 'America', 'New York', 'East Town address 3'),
        (417420106184475563, 'Germany', 'Berlin', 'West Town address 1'),
        (418161258277847979, 'Germany', 'Berlin', 'West Town address 2');
+
+-- table without primary key, the columns uid and email have duplicate or null values
+CREATE TABLE customer_no_pk (
+  id BIGINT NOT NULL,
+  uid BIGINT,
+  email VARCHAR(255),
+  name VARCHAR(255) NOT NULL,
+  UNIQUE KEY uk_id (id),
+  UNIQUE KEY uk_email (email)
+);
+
+INSERT INTO customer_no_pk
+VALUES (101, 1, 'user_1@example.com', 'user_1'),
+       (102, 1, NULL, 'user_2'),
+       (103, NULL, NULL, 'user_3'),
+       (104, NULL, 'user_4@example.com', 'user_4');
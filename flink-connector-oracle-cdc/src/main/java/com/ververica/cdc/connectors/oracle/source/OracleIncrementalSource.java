@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source;
+
+import org.apache.flink.annotation.Experimental;
+
+import com.ververica.cdc.connectors.oracle.source.config.OracleSourceConfig;
+import com.ververica.cdc.connectors.oracle.source.config.OracleSourceConfigFactory;
+import com.ververica.cdc.connectors.oracle.source.dialect.OracleDialect;
+import com.ververica.cdc.connectors.oracle.source.offset.OracleOffsetFactory;
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import com.ververica.cdc.debezium.source.IncrementalSource;
+
+/**
+ * The Oracle CDC Source based on FLIP-27 and the incremental snapshot framework, it supports
+ * parallel reading snapshot of table and then continue to capture data change from the redo logs by
+ * LogMiner.
+ *
+ * <pre>
+ *     1. The source supports parallel capturing table change.
+ *     2. The source supports checkpoint in split level when read snapshot data.
+ *     3. The source doesn't need to hold any lock or long running transaction on the database.
+ * </pre>
+ *
+ * <p>The low and high watermarks of snapshot splits are the current SCN of the database, the
+ * changes committed between them are mined by a short LogMiner session of the reader. The stream
+ * split is read by a single LogMiner session after all the snapshot splits are finished.
+ *
+ * <pre>{@code
+ * OracleIncrementalSource
+ *     .<String>builder()
+ *     .hostname("localhost")
+ *     .port(1521)
+ *     .database("XE")
+ *     .schemaList("DEBEZIUM")
+ *     .tableList("DEBEZIUM.PRODUCTS")
+ *     .username(username)
+ *     .password(password)
+ *     .deserializer(new JsonDebeziumDeserializationSchema())
+ *     .build();
+ * }</pre>
+ *
+ * <p>See {@link OracleSourceBuilder} for more details.
+ *
+ * @param <T> the output type of the source.
+ */
+@Experimental
+public class OracleIncrementalSource<T> extends IncrementalSource<T, OracleSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Get a OracleSourceBuilder to build a {@link OracleIncrementalSource}.
+     *
+     * @return a Oracle parallel source builder.
+     */
+    public static <T> OracleSourceBuilder<T> builder() {
+        return new OracleSourceBuilder<>();
+    }
+
+    OracleIncrementalSource(
+            OracleSourceConfigFactory configFactory,
+            DebeziumDeserializationSchema<T> deserializationSchema) {
+        super(configFactory, deserializationSchema, new OracleOffsetFactory(), new OracleDialect());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.config;
+
+import com.ververica.cdc.debezium.source.config.JdbcSourceConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** The configuration of the Oracle incremental snapshot source for a subtask. */
+public class OracleSourceConfig extends JdbcSourceConfig {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String database;
+    @Nullable private final List<String> schemaList;
+
+    public OracleSourceConfig(
+            String hostname,
+            int port,
+            String username,
+            String password,
+            String database,
+            @Nullable List<String> schemaList,
+            List<String> tableList,
+            boolean snapshotEnabled,
+            int splitSize,
+            int splitMetaGroupSize,
+            int fetchSize,
+            Duration connectTimeout,
+            int connectMaxRetries,
+            double evenlyDistributionFactor,
+            boolean includeSchemaChanges,
+            @Nullable String chunkKeyColumn,
+            Properties dbzProperties) {
+        super(
+                hostname,
+                port,
+                username,
+                password,
+                Collections.singletonList(checkNotNull(database)),
+                tableList,
+                snapshotEnabled,
+                splitSize,
+                splitMetaGroupSize,
+                fetchSize,
+                connectTimeout,
+                connectMaxRetries,
+                evenlyDistributionFactor,
+                includeSchemaChanges,
+                chunkKeyColumn,
+                dbzProperties);
+        this.database = database;
+        this.schemaList = schemaList;
+    }
+
+    public String getDatabase() {
+        return database;
+    }
+
+    @Nullable
+    public List<String> getSchemaList() {
+        return schemaList;
+    }
+
+    @Override
+    public OracleConnectorConfig getDbzConnectorConfig() {
+        return new OracleConnectorConfig(getDbzConfiguration());
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.config;
+
+import org.apache.flink.annotation.Internal;
+
+import com.ververica.cdc.connectors.oracle.table.StartupMode;
+import com.ververica.cdc.connectors.oracle.table.StartupOptions;
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.relational.history.MemoryDatabaseHistory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CHUNK_META_GROUP_SIZE;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CONNECT_MAX_RETRIES;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CONNECT_TIMEOUT;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.EVENLY_DISTRIBUTION_FACTOR;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** A factory to construct {@link OracleSourceConfig}. */
+@Internal
+public class OracleSourceConfigFactory implements SourceConfig.Factory<OracleSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    private int port = 1521; // default 1521 port
+    private String hostname;
+    private String username;
+    private String password;
+    private String database;
+    private List<String> schemaList;
+    private List<String> tableList;
+    private StartupMode startupMode = StartupMode.INITIAL;
+    private int splitSize = SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue();
+    private int splitMetaGroupSize = CHUNK_META_GROUP_SIZE.defaultValue();
+    private int fetchSize = SCAN_SNAPSHOT_FETCH_SIZE.defaultValue();
+    private Duration connectTimeout = CONNECT_TIMEOUT.defaultValue();
+    private int connectMaxRetries = CONNECT_MAX_RETRIES.defaultValue();
+    private double evenlyDistributionFactor = EVENLY_DISTRIBUTION_FACTOR.defaultValue();
+    private boolean includeSchemaChanges = false;
+    private String chunkKeyColumn;
+    private Properties dbzProperties;
+
+    public OracleSourceConfigFactory hostname(String hostname) {
+        this.hostname = hostname;
+        return this;
+    }
+
+    /** Integer port number of the Oracle database server. */
+    public OracleSourceConfigFactory port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    /** The name of the Oracle database from which to stream the changes. */
+    public OracleSourceConfigFactory database(String database) {
+        this.database = database;
+        return this;
+    }
+
+    /**
+     * An optional list of regular expressions that match schema names to be monitored; any schema
+     * name not included in the list will be excluded from monitoring.
+     */
+    public OracleSourceConfigFactory schemaList(String... schemaList) {
+        this.schemaList = Arrays.asList(schemaList);
+        return this;
+    }
+
+    /**
+     * An optional list of regular expressions that match fully-qualified table identifiers for
+     * tables to be monitored; any table not included in the list will be excluded from monitoring.
+     * Each identifier is of the form {@code <schemaName>.<tableName>}.
+     */
+    public OracleSourceConfigFactory tableList(String... tableList) {
+        this.tableList = Arrays.asList(tableList);
+        return this;
+    }
+
+    /** Name of the Oracle user to use when connecting to the Oracle database server. */
+    public OracleSourceConfigFactory username(String username) {
+        this.username = username;
+        return this;
+    }
+
+    /** Password to use when connecting to the Oracle database server. */
+    public OracleSourceConfigFactory password(String password) {
+        this.password = password;
+        return this;
+    }
+
+    /** Specifies the startup options used by the source. */
+    public OracleSourceConfigFactory startupOptions(StartupOptions startupOptions) {
+        this.startupMode = startupOptions.startupMode;
+        return this;
+    }
+
+    /**
+     * The split size (number of rows) of table snapshot, captured tables are split into multiple
+     * splits when read the snapshot of table.
+     */
+    public OracleSourceConfigFactory splitSize(int splitSize) {
+        this.splitSize = splitSize;
+        return this;
+    }
+
+    /**
+     * The group size of split meta, if the meta size exceeds the group size, the meta will be will
+     * be divided into multiple groups.
+     */
+    public OracleSourceConfigFactory splitMetaGroupSize(int splitMetaGroupSize) {
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        return this;
+    }
+
+    /** The maximum fetch size for per poll when read table snapshot. */
+    public OracleSourceConfigFactory fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * The maximum time that the connector should wait after trying to connect to the Oracle
+     * database server before timing out.
+     */
+    public OracleSourceConfigFactory connectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /** The max retry times to get connection. */
+    public OracleSourceConfigFactory connectMaxRetries(int connectMaxRetries) {
+        this.connectMaxRetries = connectMaxRetries;
+        return this;
+    }
+
+    /** The factor is used to determine whether the table is evenly distribution or not. */
+    public OracleSourceConfigFactory evenlyDistributionFactor(double evenlyDistributionFactor) {
+        this.evenlyDistributionFactor = evenlyDistributionFactor;
+        return this;
+    }
+
+    /** Whether the source should output the schema changes or not. */
+    public OracleSourceConfigFactory includeSchemaChanges(boolean includeSchemaChanges) {
+        this.includeSchemaChanges = includeSchemaChanges;
+        return this;
+    }
+
+    /** The column used to split the captured tables into chunks when read the snapshot. */
+    public OracleSourceConfigFactory chunkKeyColumn(String chunkKeyColumn) {
+        this.chunkKeyColumn = chunkKeyColumn;
+        return this;
+    }
+
+    /** The Debezium Oracle connector properties. */
+    public OracleSourceConfigFactory debeziumProperties(Properties properties) {
+        this.dbzProperties = properties;
+        return this;
+    }
+
+    @Override
+    public OracleSourceConfig create(int subtaskId) {
+        Properties props = new Properties();
+        props.setProperty("connector.class", OracleConnector.class.getCanonicalName());
+        // Logical name that identifies and provides a namespace for the particular Oracle
+        // database server being monitored. The logical name should be unique across all other
+        // connectors, since it is used as a prefix for all Kafka topic names emanating from this
+        // connector. Only alphanumeric characters and underscores should be used.
+        props.setProperty("database.server.name", "oracle_logminer");
+        props.setProperty("database.hostname", checkNotNull(hostname));
+        props.setProperty("database.user", checkNotNull(username));
+        props.setProperty("database.password", checkNotNull(password));
+        props.setProperty("database.port", String.valueOf(port));
+        props.setProperty("database.dbname", checkNotNull(database));
+        props.setProperty("connect.timeout.ms", String.valueOf(connectTimeout.toMillis()));
+        // the schemas are read from the database for every split, the history isn't recovered
+        props.setProperty("database.history", MemoryDatabaseHistory.class.getCanonicalName());
+        props.setProperty("database.history.skip.unparseable.ddl", String.valueOf(true));
+        // the backfill of snapshot splits mines short SCN ranges, reading the dictionary from
+        // the online catalog avoids building the dictionary into the redo logs for every range
+        props.setProperty("log.mining.strategy", "online_catalog");
+        // disable tombstones
+        props.setProperty("tombstones.on.delete", String.valueOf(false));
+
+        if (schemaList != null) {
+            props.setProperty("schema.include.list", String.join(",", schemaList));
+        }
+        if (tableList != null) {
+            props.setProperty("table.include.list", String.join(",", tableList));
+        }
+
+        switch (startupMode) {
+            case INITIAL:
+                props.setProperty("snapshot.mode", "initial");
+                break;
+
+            case LATEST_OFFSET:
+                props.setProperty("snapshot.mode", "schema_only");
+                break;
+
+            default:
+                throw new UnsupportedOperationException(startupMode + " mode is not supported.");
+        }
+
+        // override the user-defined debezium properties
+        if (dbzProperties != null) {
+            dbzProperties.forEach(props::put);
+        }
+
+        // the snapshot is skipped the same as the debezium connector with snapshot mode
+        // 'schema_only'
+        boolean snapshotEnabled =
+                !OracleConnectorConfig.SnapshotMode.SCHEMA_ONLY
+                        .getValue()
+                        .equalsIgnoreCase(
+                                props.getProperty(OracleConnectorConfig.SNAPSHOT_MODE.name()));
+
+        return new OracleSourceConfig(
+                hostname,
+                port,
+                username,
+                password,
+                database,
+                schemaList,
+                tableList == null ? Collections.emptyList() : tableList,
+                snapshotEnabled,
+                splitSize,
+                splitMetaGroupSize,
+                fetchSize,
+                connectTimeout,
+                connectMaxRetries,
+                evenlyDistributionFactor,
+                includeSchemaChanges,
+                chunkKeyColumn,
+                props);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.dialect;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.api.ValidationException;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.oracle.source.config.OracleSourceConfig;
+import com.ververica.cdc.connectors.oracle.source.utils.OracleQueryUtils;
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkRange;
+import com.ververica.cdc.debezium.source.assigner.splitter.JdbcSourceChunkSplitter;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.oracle.source.utils.OracleQueryUtils.ROWID_COLUMN;
+
+/**
+ * The {@link JdbcSourceChunkSplitter} of Oracle.
+ *
+ * <p>The tables without primary key and configured chunk key column, or all the tables if the chunk
+ * key column is {@code ROWID}, are split by the physical address of rows into chunks of continuous
+ * blocks, the boundaries are computed from the extents allocated to the table so that the table is
+ * not scanned when splitting. The changes of such tables can't be matched to the chunks, so their
+ * chunks are not backfilled and the changes after the high watermark of any chunk are emitted,
+ * which delivers the changes at least once during the snapshot phase. The scan of a ROWID range is
+ * done by the {@code TABLE ACCESS BY ROWID RANGE} of Oracle.
+ */
+public class OracleChunkSplitter extends JdbcSourceChunkSplitter<OracleSourceConfig> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OracleChunkSplitter.class);
+
+    /** The type of split key of the tables split by the address of rows. */
+    public static final RowType ROWID_SPLIT_TYPE =
+            (RowType)
+                    DataTypes.ROW(DataTypes.FIELD(ROWID_COLUMN, DataTypes.STRING()))
+                            .getLogicalType();
+
+    public OracleChunkSplitter(OracleSourceConfig sourceConfig, OracleDialect dialect) {
+        super(sourceConfig, dialect);
+    }
+
+    @Override
+    public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+        final TableChange tableSchema;
+        final List<ChunkRange> chunks;
+        try (JdbcConnection jdbc = dialect.openJdbcConnection(sourceConfig)) {
+            tableSchema = dialect.queryTableSchema(jdbc, tableId);
+            if (!isSplitByRowId(tableSchema.getTable(), sourceConfig.getChunkKeyColumn())) {
+                validateChunkKeyColumn(
+                        jdbc, tableSchema.getTable(), sourceConfig.getChunkKeyColumn());
+                return super.generateSplits(tableId);
+            }
+            LOG.info("Start splitting table {} into chunks by the address of rows...", tableId);
+            chunks = splitTableIntoRowIdRanges(jdbc, tableId);
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException("Failed to split chunks for table " + tableId, e);
+        }
+
+        Map<TableId, TableChange> schema = new HashMap<>();
+        schema.put(tableId, tableSchema);
+        List<SnapshotSplit> splits = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            ChunkRange chunk = chunks.get(i);
+            splits.add(
+                    new SnapshotSplit(
+                            tableId,
+                            splitId(tableId, i),
+                            ROWID_SPLIT_TYPE,
+                            chunk.getChunkStart() == null
+                                    ? null
+                                    : new Object[] {chunk.getChunkStart()},
+                            chunk.getChunkEnd() == null ? null : new Object[] {chunk.getChunkEnd()},
+                            null,
+                            schema));
+        }
+        LOG.info("Split table {} into {} chunks by the address of rows.", tableId, splits.size());
+        return splits;
+    }
+
+    /** Returns whether the table is split by the address of rows. */
+    public static boolean isSplitByRowId(Table table, @Nullable String chunkKeyColumn) {
+        return chunkKeyColumn == null
+                ? table.primaryKeyColumns().isEmpty()
+                : ROWID_COLUMN.equalsIgnoreCase(chunkKeyColumn);
+    }
+
+    /**
+     * Returns the column used to split the table, which is the configured chunk key column or the
+     * first primary key column, or null if the table is split by the address of rows. The
+     * configured chunk key column of tables without primary key is validated when the table is
+     * split.
+     */
+    @Nullable
+    public static Column getSplitColumn(Table table, @Nullable String chunkKeyColumn) {
+        if (isSplitByRowId(table, chunkKeyColumn)) {
+            return null;
+        }
+        return chunkKeyColumn != null
+                ? table.columnWithName(chunkKeyColumn)
+                : table.primaryKeyColumns().get(0);
+    }
+
+    /**
+     * Validates the configured chunk key column of the table without primary key, it identifies
+     * the rows when merging the changes into the chunks, so it must be a not null column with a
+     * single-column unique index, otherwise the distinct rows sharing a value would be merged. The
+     * chunk key column {@code ROWID} splits such tables without the requirement.
+     */
+    private static void validateChunkKeyColumn(
+            JdbcConnection jdbc, Table table, @Nullable String chunkKeyColumn) throws SQLException {
+        if (chunkKeyColumn == null || !table.primaryKeyColumns().isEmpty()) {
+            return;
+        }
+        final Column column = table.columnWithName(chunkKeyColumn);
+        if (column != null
+                && (column.isOptional()
+                        || !OracleQueryUtils.queryUniqueKeyColumns(jdbc, table.id())
+                                .contains(column.name()))) {
+            throw new ValidationException(
+                    String.format(
+                            "The chunk key column %s of table %s without primary key must be a not null column"
+                                    + " with a single-column unique index, as it identifies the rows of the table."
+                                    + " Use the chunk key column ROWID to split the table by the address of rows.",
+                            chunkKeyColumn, table.id()));
+        }
+    }
+
+    private List<ChunkRange> splitTableIntoRowIdRanges(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final List<long[]> extents = OracleQueryUtils.queryExtents(jdbc, tableId);
+        long blockCnt = 0;
+        for (long[] extent : extents) {
+            blockCnt += extent[3];
+        }
+        long rowCnt = OracleQueryUtils.queryApproximateRowCnt(jdbc, tableId);
+        if (rowCnt < 0 && blockCnt > 0) {
+            // the table has never been analyzed
+            rowCnt = OracleQueryUtils.queryRowCnt(jdbc, tableId);
+        }
+        return splitRowIdRanges(extents, blockCnt, rowCnt, sourceConfig.getSplitSize());
+    }
+
+    /**
+     * Splits the extents of the table into the ranges of about {@code chunkSize} rows, the bounds
+     * of ranges are the first rows of blocks. The extents are arrays of the data object number, the
+     * relative file number, the first block and the number of blocks.
+     */
+    @VisibleForTesting
+    static List<ChunkRange> splitRowIdRanges(
+            List<long[]> extents, long blockCnt, long rowCnt, int chunkSize) {
+        if (blockCnt <= 0 || rowCnt <= chunkSize) {
+            return Collections.singletonList(ChunkRange.all());
+        }
+
+        // the rows before the first boundary belong to the first chunk and the rows after the last
+        // boundary belong to the last chunk, i.e. the rows in the extents allocated after
+        // splitting are read by the first or the last chunk
+        final long blocksPerChunk =
+                Math.max(1L, (long) Math.ceil(chunkSize * blockCnt / (double) rowCnt));
+        final List<ChunkRange> splits = new ArrayList<>();
+        Object chunkStart = null;
+        long blocksInChunk = 0;
+        for (long[] extent : extents) {
+            long block = extent[2];
+            long remainingBlocks = extent[3];
+            while (blocksInChunk + remainingBlocks > blocksPerChunk) {
+                long blocks = blocksPerChunk - blocksInChunk;
+                block += blocks;
+                remainingBlocks -= blocks;
+                Object end = OracleQueryUtils.rowId(extent[0], extent[1], block, 0);
+                splits.add(ChunkRange.of(chunkStart, end));
+                chunkStart = end;
+                blocksInChunk = 0;
+            }
+            blocksInChunk += remainingBlocks;
+        }
+        splits.add(ChunkRange.of(chunkStart, null));
+        return splits;
+    }
+}
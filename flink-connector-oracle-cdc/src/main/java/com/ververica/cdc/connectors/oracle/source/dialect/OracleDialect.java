@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.dialect;
+
+import org.apache.flink.table.types.DataType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.oracle.source.config.OracleSourceConfig;
+import com.ververica.cdc.connectors.oracle.source.fetch.OracleScanFetchTask;
+import com.ververica.cdc.connectors.oracle.source.fetch.OracleSourceFetchTaskContext;
+import com.ververica.cdc.connectors.oracle.source.fetch.OracleStreamFetchTask;
+import com.ververica.cdc.connectors.oracle.source.utils.OracleQueryUtils;
+import com.ververica.cdc.connectors.oracle.source.utils.OracleTypeUtils;
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkSplitter;
+import com.ververica.cdc.debezium.source.dialect.JdbcDataSourceDialect;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** The {@link JdbcDataSourceDialect} of Oracle. */
+public class OracleDialect implements JdbcDataSourceDialect<OracleSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(OracleDialect.class);
+
+    @Override
+    public String getName() {
+        return "Oracle";
+    }
+
+    /**
+     * Opens a connection to read the tables, the session is switched to the pluggable database if
+     * it's configured.
+     */
+    @Override
+    public OracleConnection openJdbcConnection(OracleSourceConfig sourceConfig) {
+        final OracleConnectorConfig connectorConfig = sourceConfig.getDbzConnectorConfig();
+        final OracleConnection jdbc = openMiningConnection(sourceConfig);
+        if (connectorConfig.getPdbName() != null) {
+            jdbc.setSessionToPdb(connectorConfig.getPdbName());
+        }
+        return jdbc;
+    }
+
+    /** Opens a connection to the root container, which is required by LogMiner. */
+    public OracleConnection openMiningConnection(OracleSourceConfig sourceConfig) {
+        return new OracleConnection(
+                sourceConfig.getDbzConnectorConfig().jdbcConfig(),
+                OracleDialect.class::getClassLoader);
+    }
+
+    @Override
+    public List<TableId> discoverDataCollections(OracleSourceConfig sourceConfig) {
+        final OracleConnectorConfig connectorConfig = sourceConfig.getDbzConnectorConfig();
+        try (OracleConnection jdbc = openJdbcConnection(sourceConfig)) {
+            final List<TableId> capturedTableIds = new ArrayList<>();
+            for (TableId tableId :
+                    jdbc.readTableNames(
+                            connectorConfig.getCatalogName(), null, null, new String[] {"TABLE"})) {
+                if (connectorConfig.getTableFilters().dataCollectionFilter().isIncluded(tableId)) {
+                    capturedTableIds.add(tableId);
+                    LOG.info("\t including '{}' for further processing", tableId);
+                } else {
+                    LOG.debug("\t '{}' is filtered out of capturing", tableId);
+                }
+            }
+            return capturedTableIds;
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException("Error to discover tables: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<TableId, TableChange> discoverDataCollectionSchemas(
+            OracleSourceConfig sourceConfig) {
+        final List<TableId> capturedTableIds = discoverDataCollections(sourceConfig);
+        try (OracleConnection jdbc = openJdbcConnection(sourceConfig)) {
+            Map<TableId, TableChange> tableSchemas = new HashMap<>();
+            for (TableId tableId : capturedTableIds) {
+                tableSchemas.put(tableId, queryTableSchema(jdbc, tableId));
+            }
+            return tableSchemas;
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(
+                    "Error to read the schema of tables: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Offset displayCurrentOffset(OracleSourceConfig sourceConfig) {
+        try (OracleConnection jdbc = openJdbcConnection(sourceConfig)) {
+            return OracleQueryUtils.queryCurrentOffset(jdbc);
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(
+                    "Read the current redo log position error: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isDataCollectionIdCaseSensitive(OracleSourceConfig sourceConfig) {
+        // the unquoted identifiers are folded to upper case, the quoted identifiers are kept
+        return true;
+    }
+
+    @Override
+    public ChunkSplitter createChunkSplitter(OracleSourceConfig sourceConfig) {
+        return new OracleChunkSplitter(sourceConfig, this);
+    }
+
+    @Override
+    public TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
+        final Tables tables = new Tables();
+        try {
+            // the Oracle connection reads the tables without catalog and adds the catalog after
+            // filtering, so the table is matched by schema and name only
+            jdbc.readSchema(
+                    tables,
+                    tableId.catalog(),
+                    tableId.schema(),
+                    Tables.TableFilter.fromPredicate(
+                            id ->
+                                    tableId.schema().equals(id.schema())
+                                            && tableId.table().equals(id.table())),
+                    null,
+                    false);
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(
+                    "Read the schema of table " + tableId + " error: " + e.getMessage(), e);
+        }
+        final Table table = tables.forTable(tableId);
+        if (table == null) {
+            throw new FlinkRuntimeException("Can't find the schema of table " + tableId);
+        }
+        return new TableChange(TableChangeType.CREATE, table);
+    }
+
+    @Override
+    public DataType fromDbzColumn(Column splitColumn) {
+        return OracleTypeUtils.fromDbzColumn(splitColumn);
+    }
+
+    @Override
+    public Object[] queryMinMax(JdbcConnection jdbc, TableId tableId, String columnName)
+            throws SQLException {
+        return OracleQueryUtils.queryMinMax(jdbc, tableId, columnName);
+    }
+
+    @Override
+    public Object queryMin(
+            JdbcConnection jdbc, TableId tableId, String columnName, Object excludedLowerBound)
+            throws SQLException {
+        return OracleQueryUtils.queryMin(jdbc, tableId, columnName, excludedLowerBound);
+    }
+
+    @Override
+    public Object queryNextChunkMax(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String columnName,
+            int chunkSize,
+            Object includedLowerBound)
+            throws SQLException {
+        return OracleQueryUtils.queryNextChunkMax(
+                jdbc, tableId, columnName, chunkSize, includedLowerBound);
+    }
+
+    @Override
+    public long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId) throws SQLException {
+        return OracleQueryUtils.queryApproximateRowCnt(jdbc, tableId);
+    }
+
+    @Override
+    public FetchTask.Context createFetchTaskContext(
+            SourceSplitBase sourceSplitBase, OracleSourceConfig sourceConfig) {
+        return new OracleSourceFetchTaskContext(sourceConfig, this);
+    }
+
+    @Override
+    public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
+        if (sourceSplitBase.isSnapshotSplit()) {
+            return new OracleScanFetchTask(sourceSplitBase.asSnapshotSplit());
+        } else {
+            return new OracleStreamFetchTask(sourceSplitBase.asStreamSplit());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.fetch;
+
+import com.ververica.cdc.connectors.oracle.source.offset.OracleOffset;
+import com.ververica.cdc.connectors.oracle.source.utils.OracleQueryUtils;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.utils.SourceRecordUtils;
+import com.ververica.cdc.debezium.source.watermark.WatermarkDispatcher;
+import com.ververica.cdc.debezium.source.watermark.WatermarkKind;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.logminer.LogMinerStreamingChangeEventSource;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.ChangeEventSource;
+import io.debezium.relational.SnapshotChangeRecordEmitter;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
+import io.debezium.util.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static com.ververica.cdc.connectors.oracle.source.utils.OracleQueryUtils.ROWID_COLUMN;
+import static com.ververica.cdc.connectors.oracle.source.utils.OracleQueryUtils.quote;
+
+/**
+ * The task to read a snapshot split of Oracle.
+ *
+ * <p>The task reads the rows of split between the low and high watermarks, and then mines the
+ * changes of the split committed between the watermarks from the redo logs. The mining starts at
+ * the oldest open transaction of the low watermark and stops once the changes committed at or
+ * before the high watermark are all mined.
+ */
+public class OracleScanFetchTask implements FetchTask<SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OracleScanFetchTask.class);
+
+    private final SnapshotSplit split;
+    private volatile boolean taskRunning = false;
+
+    public OracleScanFetchTask(SnapshotSplit split) {
+        this.split = split;
+    }
+
+    @Override
+    public void execute(Context context) throws Exception {
+        final OracleSourceFetchTaskContext ctx = (OracleSourceFetchTaskContext) context;
+        taskRunning = true;
+        try {
+            readSplit(ctx);
+        } finally {
+            taskRunning = false;
+        }
+    }
+
+    private void readSplit(OracleSourceFetchTaskContext ctx) throws Exception {
+        final OracleConnection jdbc = ctx.getConnection();
+        final WatermarkDispatcher watermarkDispatcher =
+                new WatermarkDispatcher(
+                        ctx.getPartition(),
+                        ctx.getTopicSelector().topicNameFor(split.getTableId()),
+                        ctx.getQueue());
+
+        final OracleOffset lowWatermark = OracleQueryUtils.queryCurrentOffset(jdbc);
+        LOG.info(
+                "Snapshot step 1 - Determining low watermark {} for split {}", lowWatermark, split);
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), lowWatermark, WatermarkKind.LOW);
+
+        LOG.info("Snapshot step 2 - Snapshotting data");
+        createDataEvents(ctx, ctx.loadOffsetContext(lowWatermark));
+
+        final boolean isSplitByRowId =
+                ROWID_COLUMN.equals(split.getSplitKeyType().getFieldNames().get(0));
+        // the changes of tables split by the address of rows can't be matched to the split, they
+        // are emitted by the stream split after the low watermark
+        final OracleOffset highWatermark =
+                isSplitByRowId ? lowWatermark : OracleQueryUtils.queryCurrentOffset(jdbc);
+        LOG.info(
+                "Snapshot step 3 - Determining high watermark {} for split {}",
+                highWatermark,
+                split);
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), highWatermark, WatermarkKind.HIGH);
+
+        if (highWatermark.isAfter(lowWatermark)) {
+            LOG.info(
+                    "Snapshot step 4 - Back fill the changes between {} and {} for split {}",
+                    lowWatermark,
+                    highWatermark,
+                    split);
+            backfill(ctx, lowWatermark, highWatermark);
+        }
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), highWatermark, WatermarkKind.END);
+    }
+
+    private void createDataEvents(
+            OracleSourceFetchTaskContext ctx, OracleOffsetContext offsetContext) throws Exception {
+        final OracleConnection jdbc = ctx.getConnection();
+        final EventDispatcher<TableId> dispatcher = ctx.getDispatcher();
+        final EventDispatcher.SnapshotReceiver snapshotReceiver =
+                dispatcher.getSnapshotChangeEventReceiver();
+        final Table table = ctx.getSchema().tableFor(split.getTableId());
+        final Clock clock = Clock.SYSTEM;
+
+        final String splitColumn = split.getSplitKeyType().getFieldNames().get(0);
+        final String selectSql =
+                OracleQueryUtils.buildSplitScanQuery(
+                        split.getTableId(),
+                        ROWID_COLUMN.equals(splitColumn) ? ROWID_COLUMN : quote(splitColumn),
+                        split.getSplitStart() == null,
+                        split.getSplitEnd() == null);
+        LOG.info(
+                "For split '{}' of table {} using select statement: '{}'",
+                split.splitId(),
+                table.id(),
+                selectSql);
+
+        long exportStart = clock.currentTimeInMillis();
+        try (PreparedStatement selectStatement =
+                        OracleQueryUtils.readTableSplitDataStatement(
+                                jdbc,
+                                selectSql,
+                                split.getSplitStart() == null,
+                                split.getSplitEnd() == null,
+                                split.getSplitStart(),
+                                split.getSplitEnd(),
+                                ctx.getSourceConfig().getFetchSize());
+                ResultSet rs = selectStatement.executeQuery()) {
+            long rows = 0;
+            while (rs.next()) {
+                rows++;
+                final Object[] row = SourceRecordUtils.rowToArray(rs, table.columns().size());
+                offsetContext.event(table.id(), clock.currentTime());
+                dispatcher.dispatchSnapshotEvent(
+                        table.id(),
+                        new SnapshotChangeRecordEmitter(offsetContext, row, clock),
+                        snapshotReceiver);
+            }
+            LOG.info(
+                    "Finished exporting {} records for split '{}', total duration '{}'",
+                    rows,
+                    split.splitId(),
+                    Strings.duration(clock.currentTimeInMillis() - exportStart));
+        }
+        snapshotReceiver.completeSnapshot();
+    }
+
+    /**
+     * Mines the changes of the split committed between the watermarks, every back fill starts a
+     * LogMiner session from the oldest open transaction of the low watermark.
+     */
+    private void backfill(
+            OracleSourceFetchTaskContext ctx,
+            OracleOffset lowWatermark,
+            OracleOffset highWatermark) {
+        final OracleOffsetContext offsetContext = ctx.loadOffsetContext(lowWatermark);
+        final LogMinerStreamingChangeEventSource backfillSource =
+                ctx.createLogMinerSource(offsetContext, true);
+        ctx.getDispatcher()
+                .setBounds(
+                        split.getTableId(),
+                        lowWatermark.getCommitScn(),
+                        highWatermark.getCommitScn());
+        try {
+            backfillSource.execute(
+                    new BackfillChangeEventSourceContext(offsetContext, highWatermark));
+        } finally {
+            ctx.getDispatcher().clearBounds();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskRunning;
+    }
+
+    @Override
+    public SnapshotSplit getSplit() {
+        return split;
+    }
+
+    @Override
+    public void stop() {
+        taskRunning = false;
+    }
+
+    /**
+     * The context of the back fill, it's running until the changes committed at or before the high
+     * watermark are mined or the task stops.
+     */
+    private class BackfillChangeEventSourceContext
+            implements ChangeEventSource.ChangeEventSourceContext {
+
+        private final OracleOffsetContext offsetContext;
+        private final OracleOffset highWatermark;
+
+        private BackfillChangeEventSourceContext(
+                OracleOffsetContext offsetContext, OracleOffset highWatermark) {
+            this.offsetContext = offsetContext;
+            this.highWatermark = highWatermark;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return taskRunning
+                    && !OracleSourceFetchTaskContext.isReached(
+                            offsetContext, highWatermark.getCommitScn());
+        }
+    }
+}
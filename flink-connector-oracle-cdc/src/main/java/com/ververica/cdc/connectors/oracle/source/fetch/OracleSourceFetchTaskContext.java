@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.fetch;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.connectors.oracle.source.config.OracleSourceConfig;
+import com.ververica.cdc.connectors.oracle.source.dialect.OracleChunkSplitter;
+import com.ververica.cdc.connectors.oracle.source.dialect.OracleDialect;
+import com.ververica.cdc.connectors.oracle.source.offset.OracleOffset;
+import com.ververica.cdc.connectors.oracle.source.utils.OracleTypeUtils;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleErrorHandler;
+import io.debezium.connector.oracle.OracleObjectUtils;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.OracleTaskContext;
+import io.debezium.connector.oracle.OracleTopicSelector;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.LogMinerStreamingChangeEventSource;
+import io.debezium.data.Envelope;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.ChangeEventCreator;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.schema.TopicSelector;
+import io.debezium.util.Clock;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import javax.annotation.Nullable;
+
+import java.util.Map;
+
+/**
+ * The {@link FetchTask.Context} of Oracle, it holds the debezium objects shared by the fetch tasks
+ * of a fetcher, i.e. the schema, the event queue and the dispatcher.
+ *
+ * <p>The snapshot splits are read by a connection to the pluggable database if it's configured, the
+ * changes are mined by another connection to the root container.
+ */
+public class OracleSourceFetchTaskContext implements FetchTask.Context {
+
+    private final OracleSourceConfig sourceConfig;
+    private final OracleDialect dialect;
+    private final OracleConnectorConfig connectorConfig;
+    private final SchemaNameAdjuster schemaNameAdjuster;
+
+    private OracleConnection connection;
+    private OracleConnection miningConnection;
+    private TopicSelector<TableId> topicSelector;
+    private OracleDatabaseSchema schema;
+    private OracleTaskContext taskContext;
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private EventMetadataProvider metadataProvider;
+    private OracleEventDispatcher dispatcher;
+    private ErrorHandler errorHandler;
+
+    public OracleSourceFetchTaskContext(OracleSourceConfig sourceConfig, OracleDialect dialect) {
+        this.sourceConfig = sourceConfig;
+        this.dialect = dialect;
+        this.connectorConfig = sourceConfig.getDbzConnectorConfig();
+        this.schemaNameAdjuster = SchemaNameAdjuster.create();
+    }
+
+    @Override
+    public void configure(SourceSplitBase sourceSplitBase) {
+        if (schema == null) {
+            initialize(sourceSplitBase.isSnapshotSplit());
+        }
+    }
+
+    private void initialize(boolean isSnapshotSplit) {
+        this.connection = dialect.openJdbcConnection(sourceConfig);
+        this.topicSelector = OracleTopicSelector.defaultSelector(connectorConfig);
+        this.schema =
+                new OracleDatabaseSchema(
+                        connectorConfig, schemaNameAdjuster, topicSelector, connection);
+        for (TableChange tableChange :
+                dialect.discoverDataCollectionSchemas(sourceConfig).values()) {
+            schema.refresh(tableChange.getTable());
+        }
+        this.taskContext = new OracleTaskContext(connectorConfig, schema);
+        // the snapshot split is polled after the whole split is read, don't block the reading
+        final int queueSize =
+                isSnapshotSplit ? Integer.MAX_VALUE : connectorConfig.getMaxQueueSize();
+        this.queue =
+                new ChangeEventQueue.Builder<DataChangeEvent>()
+                        .pollInterval(connectorConfig.getPollInterval())
+                        .maxBatchSize(connectorConfig.getMaxBatchSize())
+                        .maxQueueSize(queueSize)
+                        .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                        .loggingContextSupplier(
+                                () ->
+                                        taskContext.configureLoggingContext(
+                                                "oracle-cdc-connector-task"))
+                        .build();
+        this.metadataProvider = OracleObjectUtils.newEventMetadataProvider();
+        this.dispatcher =
+                new OracleEventDispatcher(
+                        connectorConfig,
+                        topicSelector,
+                        schema,
+                        queue,
+                        connectorConfig.getTableFilters().dataCollectionFilter(),
+                        DataChangeEvent::new,
+                        metadataProvider,
+                        schemaNameAdjuster);
+        this.errorHandler = new OracleErrorHandler(connectorConfig.getLogicalName(), queue);
+    }
+
+    /** Loads the debezium offset context of the given offset. */
+    public OracleOffsetContext loadOffsetContext(OracleOffset offset) {
+        return (OracleOffsetContext)
+                new OracleOffsetContext.Loader(connectorConfig, connectorConfig.getAdapter())
+                        .load(offset.toDbzOffset());
+    }
+
+    /** Returns the source partition of the records. */
+    public Map<String, ?> getPartition() {
+        return new OracleOffsetContext.Loader(connectorConfig, connectorConfig.getAdapter())
+                .getPartition();
+    }
+
+    /**
+     * Creates a LogMiner source which mines the changes from the given offset context and emits
+     * them through the dispatcher of the context.
+     *
+     * @param isBackfill whether the source reads the changes of a snapshot split, which mines the
+     *     redo logs without pausing between the mining sessions
+     */
+    public LogMinerStreamingChangeEventSource createLogMinerSource(
+            OracleOffsetContext offsetContext, boolean isBackfill) {
+        if (miningConnection == null) {
+            miningConnection = dialect.openMiningConnection(sourceConfig);
+        }
+        final OracleStreamingChangeEventSourceMetrics metrics =
+                new OracleStreamingChangeEventSourceMetrics(
+                        taskContext, queue, metadataProvider, connectorConfig);
+        if (isBackfill) {
+            metrics.setMillisecondToSleepBetweenMiningQuery(0L);
+        }
+        return new LogMinerStreamingChangeEventSource(
+                connectorConfig,
+                offsetContext,
+                miningConnection,
+                dispatcher,
+                errorHandler,
+                Clock.SYSTEM,
+                schema,
+                taskContext,
+                connectorConfig.jdbcConfig(),
+                metrics);
+    }
+
+    /**
+     * Returns whether the LogMiner source has mined all the changes committed at or before the
+     * given SCN, i.e. it has mined after the SCN without open transactions, or it has emitted a
+     * change committed after the SCN.
+     */
+    public static boolean isReached(OracleOffsetContext offsetContext, Scn scn) {
+        final Scn commitScn = offsetContext.getCommitScn();
+        return offsetContext.getScn().compareTo(scn) >= 0
+                || (commitScn != null && commitScn.compareTo(scn) > 0);
+    }
+
+    public OracleSourceConfig getSourceConfig() {
+        return sourceConfig;
+    }
+
+    public OracleConnectorConfig getConnectorConfig() {
+        return connectorConfig;
+    }
+
+    public OracleConnection getConnection() {
+        return connection;
+    }
+
+    public TopicSelector<TableId> getTopicSelector() {
+        return topicSelector;
+    }
+
+    public OracleDatabaseSchema getSchema() {
+        return schema;
+    }
+
+    public OracleEventDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public ErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
+    @Override
+    public ChangeEventQueue<DataChangeEvent> getQueue() {
+        return queue;
+    }
+
+    @Override
+    public SchemaNameAdjuster getSchemaNameAdjuster() {
+        return schemaNameAdjuster;
+    }
+
+    @Override
+    public Tables.TableFilter getTableFilter() {
+        return connectorConfig.getTableFilters().dataCollectionFilter();
+    }
+
+    @Override
+    public TableId getTableId(SourceRecord record) {
+        Struct value = (Struct) record.value();
+        Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+        return new TableId(
+                source.getString("db"), source.getString("schema"), source.getString("table"));
+    }
+
+    @Override
+    public Offset getStreamOffset(SourceRecord record) {
+        return new OracleOffset(Offset.toStringMap(record.sourceOffset()));
+    }
+
+    @Nullable
+    @Override
+    public RowType getSplitKeyType(TableId tableId) {
+        final Table table = schema.tableFor(tableId);
+        final Column splitColumn =
+                table == null
+                        ? null
+                        : OracleChunkSplitter.getSplitColumn(
+                                table, sourceConfig.getChunkKeyColumn());
+        if (splitColumn == null) {
+            return null;
+        }
+        return (RowType)
+                DataTypes.ROW(
+                                DataTypes.FIELD(
+                                        splitColumn.name(),
+                                        OracleTypeUtils.fromDbzColumn(splitColumn)))
+                        .getLogicalType();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (miningConnection != null) {
+            miningConnection.close();
+        }
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * The {@link EventDispatcher} which only emits the change events of a table committed in a
+     * range of SCN when the bounds are set, it restricts the backfill of a snapshot split to the
+     * changes between the low and high watermarks.
+     */
+    public static class OracleEventDispatcher extends EventDispatcher<TableId> {
+
+        private volatile Bounds bounds;
+
+        public OracleEventDispatcher(
+                OracleConnectorConfig connectorConfig,
+                TopicSelector<TableId> topicSelector,
+                OracleDatabaseSchema schema,
+                ChangeEventQueue<DataChangeEvent> queue,
+                Tables.TableFilter filter,
+                ChangeEventCreator changeEventCreator,
+                EventMetadataProvider metadataProvider,
+                SchemaNameAdjuster schemaNameAdjuster) {
+            super(
+                    connectorConfig,
+                    topicSelector,
+                    schema,
+                    queue,
+                    filter,
+                    changeEventCreator,
+                    metadataProvider,
+                    schemaNameAdjuster);
+        }
+
+        /**
+         * Only emits the change events of the table committed after the lower bound and at or
+         * before the upper bound.
+         */
+        public void setBounds(TableId tableId, Scn lowerBound, Scn upperBound) {
+            this.bounds = new Bounds(tableId, lowerBound, upperBound);
+        }
+
+        public void clearBounds() {
+            this.bounds = null;
+        }
+
+        @Override
+        public boolean dispatchDataChangeEvent(
+                TableId tableId, ChangeRecordEmitter changeRecordEmitter)
+                throws InterruptedException {
+            final Bounds bounds = this.bounds;
+            if (bounds != null
+                    && !bounds.contains(
+                            tableId,
+                            ((OracleOffsetContext) changeRecordEmitter.getOffset())
+                                    .getCommitScn())) {
+                return false;
+            }
+            return super.dispatchDataChangeEvent(tableId, changeRecordEmitter);
+        }
+
+        @VisibleForTesting
+        static final class Bounds {
+            private final TableId tableId;
+            private final Scn lowerBound;
+            private final Scn upperBound;
+
+            Bounds(TableId tableId, Scn lowerBound, Scn upperBound) {
+                this.tableId = tableId;
+                this.lowerBound = lowerBound;
+                this.upperBound = upperBound;
+            }
+
+            /** Whether the change of the table committed at the given SCN is within the bounds. */
+            boolean contains(TableId tableId, @Nullable Scn commitScn) {
+                return this.tableId.equals(tableId)
+                        && commitScn != null
+                        && commitScn.compareTo(lowerBound) > 0
+                        && commitScn.compareTo(upperBound) <= 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.fetch;
+
+import com.ververica.cdc.connectors.oracle.source.offset.OracleOffset;
+import com.ververica.cdc.connectors.oracle.source.utils.OracleQueryUtils;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.logminer.LogMinerStreamingChangeEventSource;
+import io.debezium.pipeline.source.spi.ChangeEventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+/**
+ * The task to read the stream split of Oracle, the changes are mined from the redo logs by a single
+ * LogMiner session of the source.
+ */
+public class OracleStreamFetchTask implements FetchTask<SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OracleStreamFetchTask.class);
+
+    private final StreamSplit split;
+    // the stream split is read until the task stops, it's running since created
+    private volatile boolean taskRunning = true;
+
+    public OracleStreamFetchTask(StreamSplit split) {
+        this.split = split;
+    }
+
+    @Override
+    public void execute(Context context) throws Exception {
+        final OracleSourceFetchTaskContext ctx = (OracleSourceFetchTaskContext) context;
+        OracleOffset startingOffset = (OracleOffset) split.getStartingOffset();
+        final OracleOffset endingOffset = (OracleOffset) split.getEndingOffset();
+        // read from the current position if the starting offset is unknown
+        if (!startingOffset.isValid()) {
+            startingOffset = OracleQueryUtils.queryCurrentOffset(ctx.getConnection());
+            LOG.info("Start mining the redo logs from the current position {}", startingOffset);
+        }
+        final OracleOffsetContext offsetContext = ctx.loadOffsetContext(startingOffset);
+        final LogMinerStreamingChangeEventSource streamingSource =
+                ctx.createLogMinerSource(offsetContext, false);
+        try {
+            streamingSource.execute(
+                    new StreamChangeEventSourceContext(
+                            offsetContext,
+                            endingOffset == null
+                                            || OracleOffset.NO_STOPPING_OFFSET.equals(endingOffset)
+                                    ? null
+                                    : endingOffset));
+        } finally {
+            taskRunning = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskRunning;
+    }
+
+    @Override
+    public StreamSplit getSplit() {
+        return split;
+    }
+
+    @Override
+    public void stop() {
+        taskRunning = false;
+    }
+
+    /**
+     * The context of the stream reading, it's running until the ending offset or the task stops.
+     */
+    private class StreamChangeEventSourceContext
+            implements ChangeEventSource.ChangeEventSourceContext {
+
+        private final OracleOffsetContext offsetContext;
+        @Nullable private final OracleOffset endingOffset;
+
+        private StreamChangeEventSourceContext(
+                OracleOffsetContext offsetContext, @Nullable OracleOffset endingOffset) {
+            this.offsetContext = offsetContext;
+            this.endingOffset = endingOffset;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return taskRunning
+                    && (endingOffset == null
+                            || !OracleSourceFetchTaskContext.isReached(
+                                    offsetContext, endingOffset.getCommitScn()));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.offset;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.SourceInfo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A structure describes a position in the redo log of Oracle. The {@link SourceInfo#SCN_KEY scn} is
+ * the position where the mining of the redo log restarts, which is held back by the oldest open
+ * transaction, the positions are ordered by the {@link SourceInfo#COMMIT_SCN_KEY commit scn} of the
+ * change events.
+ */
+public class OracleOffset extends Offset {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final OracleOffset INITIAL_OFFSET = ofScn(Scn.valueOf(0L), Scn.valueOf(0L));
+    public static final OracleOffset NO_STOPPING_OFFSET =
+            ofScn(Scn.valueOf(Long.MAX_VALUE), Scn.valueOf(Long.MAX_VALUE));
+
+    public OracleOffset(Map<String, String> offset) {
+        super(offset);
+    }
+
+    /**
+     * Creates the offset of the given redo log position.
+     *
+     * @param scn the SCN where the mining restarts
+     * @param commitScn the SCN of the last committed transaction
+     */
+    public static OracleOffset ofScn(Scn scn, Scn commitScn) {
+        Map<String, String> offset = new HashMap<>();
+        offset.put(SourceInfo.SCN_KEY, scn.toString());
+        offset.put(SourceInfo.COMMIT_SCN_KEY, commitScn.toString());
+        return new OracleOffset(offset);
+    }
+
+    public Scn getScn() {
+        final String scn = offset.get(SourceInfo.SCN_KEY);
+        return scn == null ? Scn.valueOf(0L) : Scn.valueOf(scn);
+    }
+
+    public Scn getCommitScn() {
+        final String commitScn = offset.get(SourceInfo.COMMIT_SCN_KEY);
+        return commitScn == null ? getScn() : Scn.valueOf(commitScn);
+    }
+
+    /** Whether the offset points to a known position of the redo log. */
+    public boolean isValid() {
+        return getScn().longValue() > 0;
+    }
+
+    /**
+     * Converts the offset to the offset of the debezium Oracle connector, which can be loaded by
+     * the {@link OracleOffsetContext.Loader}.
+     */
+    public Map<String, Object> toDbzOffset() {
+        Map<String, Object> dbzOffset = new HashMap<>();
+        dbzOffset.put(SourceInfo.SCN_KEY, getScn().toString());
+        dbzOffset.put(SourceInfo.COMMIT_SCN_KEY, getCommitScn().toString());
+        return dbzOffset;
+    }
+
+    @Override
+    public int compareTo(Offset that) {
+        return getCommitScn().compareTo(((OracleOffset) that).getCommitScn());
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.utils;
+
+import com.ververica.cdc.connectors.oracle.source.offset.OracleOffset;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.TableId;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Utilities to build and execute the queries of the Oracle incremental snapshot source. */
+public class OracleQueryUtils {
+
+    /** The pseudo column of the physical address of row, it splits tables without key. */
+    public static final String ROWID_COLUMN = "ROWID";
+
+    private static final char[] ROWID_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    private OracleQueryUtils() {}
+
+    /**
+     * Returns the current position of the redo log. The mining restarts from the start SCN of the
+     * oldest open transaction, so that the transactions committed after the current SCN are read
+     * entirely.
+     */
+    public static OracleOffset queryCurrentOffset(JdbcConnection jdbc) throws SQLException {
+        final Scn currentScn =
+                jdbc.queryAndMap(
+                        "SELECT CURRENT_SCN FROM V$DATABASE",
+                        rs -> {
+                            if (!rs.next()) {
+                                throw new SQLException(
+                                        "No result returned after querying the current SCN");
+                            }
+                            return Scn.valueOf(rs.getString(1));
+                        });
+        final Scn oldestTransactionScn =
+                jdbc.queryAndMap(
+                        "SELECT MIN(START_SCN) FROM V$TRANSACTION",
+                        rs -> {
+                            String scn = rs.next() ? rs.getString(1) : null;
+                            return scn == null ? null : Scn.valueOf(scn);
+                        });
+        return OracleOffset.ofScn(
+                oldestTransactionScn != null && oldestTransactionScn.compareTo(currentScn) < 0
+                        ? oldestTransactionScn
+                        : currentScn,
+                currentScn);
+    }
+
+    public static Object[] queryMinMax(JdbcConnection jdbc, TableId tableId, String columnName)
+            throws SQLException {
+        final String minMaxQuery =
+                String.format(
+                        "SELECT MIN(%s), MAX(%s) FROM %s",
+                        quote(columnName), quote(columnName), quote(tableId));
+        return jdbc.queryAndMap(
+                minMaxQuery,
+                rs -> {
+                    if (!rs.next()) {
+                        // this should never happen
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]",
+                                        minMaxQuery));
+                    }
+                    return new Object[] {readValue(rs, 1), readValue(rs, 2)};
+                });
+    }
+
+    /**
+     * Returns the approximate row count of table from the optimizer statistics, or -1 if the table
+     * has never been analyzed.
+     */
+    public static long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final String rowCountQuery =
+                "SELECT NUM_ROWS FROM ALL_TABLES WHERE OWNER = ? AND TABLE_NAME = ?";
+        return jdbc.prepareQueryAndMap(
+                rowCountQuery,
+                ps -> {
+                    ps.setString(1, tableId.schema());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> {
+                    if (!rs.next()) {
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]",
+                                        rowCountQuery));
+                    }
+                    long rowCnt = rs.getLong(1);
+                    return rs.wasNull() ? -1L : rowCnt;
+                });
+    }
+
+    /** Returns the exact row count of table. */
+    public static long queryRowCnt(JdbcConnection jdbc, TableId tableId) throws SQLException {
+        final String countQuery = String.format("SELECT COUNT(*) FROM %s", quote(tableId));
+        return jdbc.queryAndMap(
+                countQuery,
+                rs -> {
+                    if (!rs.next()) {
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]", countQuery));
+                    }
+                    return rs.getLong(1);
+                });
+    }
+
+    /**
+     * Returns the columns of the single-column unique indexes of table, the function-based indexes
+     * are excluded as they don't index the column values.
+     */
+    public static List<String> queryUniqueKeyColumns(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final String uniqueKeyQuery =
+                "SELECT C.COLUMN_NAME FROM ALL_INDEXES I JOIN ALL_IND_COLUMNS C "
+                        + "ON C.INDEX_OWNER = I.OWNER AND C.INDEX_NAME = I.INDEX_NAME "
+                        + "WHERE I.TABLE_OWNER = ? AND I.TABLE_NAME = ? "
+                        + "AND I.UNIQUENESS = 'UNIQUE' AND I.INDEX_TYPE = 'NORMAL' "
+                        + "AND I.STATUS IN ('VALID', 'N/A') "
+                        + "AND (SELECT COUNT(*) FROM ALL_IND_COLUMNS IC "
+                        + "WHERE IC.INDEX_OWNER = I.OWNER AND IC.INDEX_NAME = I.INDEX_NAME) = 1";
+        return jdbc.prepareQueryAndMap(
+                uniqueKeyQuery,
+                ps -> {
+                    ps.setString(1, tableId.schema());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> {
+                    List<String> columns = new ArrayList<>();
+                    while (rs.next()) {
+                        columns.add(rs.getString(1));
+                    }
+                    return columns;
+                });
+    }
+
+    /**
+     * Returns the extents allocated to the table and its partitions, ordered by the address of
+     * blocks. Each extent is described by its data object id, relative file number, first block and
+     * number of blocks.
+     */
+    public static List<long[]> queryExtents(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final String extentsQuery =
+                "SELECT O.DATA_OBJECT_ID, E.RELATIVE_FNO, E.BLOCK_ID, E.BLOCKS "
+                        + "FROM DBA_EXTENTS E JOIN DBA_OBJECTS O "
+                        + "ON O.OWNER = E.OWNER AND O.OBJECT_NAME = E.SEGMENT_NAME "
+                        + "AND (O.SUBOBJECT_NAME = E.PARTITION_NAME "
+                        + "OR (O.SUBOBJECT_NAME IS NULL AND E.PARTITION_NAME IS NULL)) "
+                        + "WHERE E.OWNER = ? AND E.SEGMENT_NAME = ? "
+                        + "AND E.SEGMENT_TYPE LIKE 'TABLE%' AND O.OBJECT_TYPE LIKE 'TABLE%' "
+                        + "ORDER BY O.DATA_OBJECT_ID, E.RELATIVE_FNO, E.BLOCK_ID";
+        return jdbc.prepareQueryAndMap(
+                extentsQuery,
+                ps -> {
+                    ps.setString(1, tableId.schema());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> {
+                    List<long[]> extents = new ArrayList<>();
+                    while (rs.next()) {
+                        extents.add(
+                                new long[] {
+                                    rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)
+                                });
+                    }
+                    return extents;
+                });
+    }
+
+    /**
+     * Builds the extended ROWID of the given row address, which is the same as {@code
+     * DBMS_ROWID.ROWID_CREATE(1, objectId, relativeFno, block, row)}.
+     */
+    public static String rowId(long objectId, long relativeFno, long block, long row) {
+        final StringBuilder rowId = new StringBuilder(18);
+        appendRowIdPart(rowId, objectId, 6);
+        appendRowIdPart(rowId, relativeFno, 3);
+        appendRowIdPart(rowId, block, 6);
+        appendRowIdPart(rowId, row, 3);
+        return rowId.toString();
+    }
+
+    private static void appendRowIdPart(StringBuilder rowId, long value, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            rowId.append(ROWID_ALPHABET[(int) ((value >>> (6 * i)) & 0x3F)]);
+        }
+    }
+
+    public static Object queryMin(
+            JdbcConnection jdbc, TableId tableId, String columnName, Object excludedLowerBound)
+            throws SQLException {
+        final String minQuery =
+                String.format(
+                        "SELECT MIN(%s) FROM %s WHERE %s > ?",
+                        quote(columnName), quote(tableId), quote(columnName));
+        return jdbc.prepareQueryAndMap(
+                minQuery,
+                ps -> ps.setObject(1, excludedLowerBound),
+                rs -> {
+                    if (!rs.next()) {
+                        // this should never happen
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]", minQuery));
+                    }
+                    return readValue(rs, 1);
+                });
+    }
+
+    public static Object queryNextChunkMax(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String splitColumnName,
+            int chunkSize,
+            Object includedLowerBound)
+            throws SQLException {
+        String quotedColumn = quote(splitColumnName);
+        String query =
+                String.format(
+                        "SELECT MAX(%s) FROM ("
+                                + "SELECT %s FROM %s WHERE %s >= ? ORDER BY %s ASC"
+                                + ") WHERE ROWNUM <= %s",
+                        quotedColumn,
+                        quotedColumn,
+                        quote(tableId),
+                        quotedColumn,
+                        quotedColumn,
+                        chunkSize);
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> ps.setObject(1, includedLowerBound),
+                rs -> {
+                    if (!rs.next()) {
+                        // this should never happen
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]", query));
+                    }
+                    return readValue(rs, 1);
+                });
+    }
+
+    /**
+     * Reads the value of split column, the integral numbers are read as long values so that they
+     * can be split evenly.
+     */
+    private static Object readValue(ResultSet rs, int columnIndex) throws SQLException {
+        if (rs.getMetaData().getColumnType(columnIndex) == Types.TIMESTAMP) {
+            return rs.getTimestamp(columnIndex);
+        }
+        final Object value = rs.getObject(columnIndex);
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            try {
+                return decimal.longValueExact();
+            } catch (ArithmeticException e) {
+                return decimal;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Builds the query to scan the rows of a split [start, end), the rows whose split column is
+     * null belong to the first split.
+     *
+     * @param splitColumn the quoted split column, or {@link #ROWID_COLUMN} for the splits of row
+     *     addresses
+     */
+    public static String buildSplitScanQuery(
+            TableId tableId, String splitColumn, boolean isFirstSplit, boolean isLastSplit) {
+        final boolean isRowIdSplit = ROWID_COLUMN.equals(splitColumn);
+        final String parameter = isRowIdSplit ? "CHARTOROWID(?)" : "?";
+        final StringBuilder sql = new StringBuilder("SELECT * FROM ").append(quote(tableId));
+        if (isFirstSplit && isLastSplit) {
+            return sql.toString();
+        } else if (isFirstSplit) {
+            sql.append(" WHERE ").append(splitColumn).append(" < ").append(parameter);
+            if (!isRowIdSplit) {
+                sql.append(" OR ").append(splitColumn).append(" IS NULL");
+            }
+        } else if (isLastSplit) {
+            sql.append(" WHERE ").append(splitColumn).append(" >= ").append(parameter);
+        } else {
+            sql.append(" WHERE ").append(splitColumn).append(" >= ").append(parameter);
+            sql.append(" AND ").append(splitColumn).append(" < ").append(parameter);
+        }
+        return sql.toString();
+    }
+
+    public static PreparedStatement readTableSplitDataStatement(
+            JdbcConnection jdbc,
+            String sql,
+            boolean isFirstSplit,
+            boolean isLastSplit,
+            Object[] splitStart,
+            Object[] splitEnd,
+            int fetchSize)
+            throws SQLException {
+        final Connection connection = jdbc.connection();
+        final PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setFetchSize(fetchSize);
+        if (isFirstSplit && isLastSplit) {
+            return statement;
+        }
+        if (isFirstSplit) {
+            statement.setObject(1, splitEnd[0]);
+        } else if (isLastSplit) {
+            statement.setObject(1, splitStart[0]);
+        } else {
+            statement.setObject(1, splitStart[0]);
+            statement.setObject(2, splitEnd[0]);
+        }
+        return statement;
+    }
+
+    public static String quote(String columnName) {
+        return "\"" + columnName + "\"";
+    }
+
+    public static String quote(TableId tableId) {
+        return quote(tableId.schema()) + "." + quote(tableId.table());
+    }
+}
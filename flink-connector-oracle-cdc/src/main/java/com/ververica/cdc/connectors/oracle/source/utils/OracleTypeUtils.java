@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.utils;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.DataType;
+
+import io.debezium.relational.Column;
+
+/** Utilities for converting from Oracle types to Flink types. */
+public class OracleTypeUtils {
+
+    private OracleTypeUtils() {}
+
+    /** Returns a corresponding Flink data type from a debezium {@link Column}. */
+    public static DataType fromDbzColumn(Column column) {
+        DataType dataType = convertFromColumn(column);
+        if (column.isOptional()) {
+            return dataType;
+        } else {
+            return dataType.notNull();
+        }
+    }
+
+    /**
+     * Returns a corresponding Flink data type from a debezium {@link Column} with nullable always
+     * be true.
+     */
+    private static DataType convertFromColumn(Column column) {
+        String typeName = column.typeName();
+        switch (typeName) {
+            case "NUMBER":
+                int precision = column.length();
+                int scale = column.scale().orElse(0);
+                if (scale == 0 && precision > 0 && precision <= 18) {
+                    return DataTypes.BIGINT();
+                }
+                return precision > 0 && precision <= 38 && scale >= 0
+                        ? DataTypes.DECIMAL(precision, scale)
+                        : DataTypes.DECIMAL(38, 18);
+            case "FLOAT":
+            case "BINARY_DOUBLE":
+                return DataTypes.DOUBLE();
+            case "BINARY_FLOAT":
+                return DataTypes.FLOAT();
+            case "CHAR":
+            case "NCHAR":
+            case "VARCHAR2":
+            case "NVARCHAR2":
+                return DataTypes.STRING();
+            case "DATE":
+                return DataTypes.TIMESTAMP(0);
+            default:
+                if (typeName.startsWith("TIMESTAMP") && !typeName.contains("TIME ZONE")) {
+                    return DataTypes.TIMESTAMP(column.scale().orElse(6));
+                }
+                throw new UnsupportedOperationException(
+                        String.format("Don't support Oracle type '%s' yet.", typeName));
+        }
+    }
+}
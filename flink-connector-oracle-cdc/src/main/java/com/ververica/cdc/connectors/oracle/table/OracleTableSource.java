@@ -24,22 +24,29 @@ import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
+import org.apache.flink.table.connector.source.SourceProvider;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.RowType;
-import org.apache.flink.types.RowKind;
 
 import com.ververica.cdc.connectors.oracle.OracleSource;
+import com.ververica.cdc.connectors.oracle.source.OracleIncrementalSource;
+import com.ververica.cdc.connectors.oracle.source.OracleSourceBuilder;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
+import com.ververica.cdc.debezium.table.DebeziumChangelogMode;
 import com.ververica.cdc.debezium.table.MetadataConverter;
 import com.ververica.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
 
+import javax.annotation.Nullable;
+
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -62,6 +69,15 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
     private final String schemaName;
     private final Properties dbzProperties;
     private final StartupOptions startupOptions;
+    private final DebeziumChangelogMode changelogMode;
+    private final boolean enableParallelRead;
+    private final int splitSize;
+    private final int splitMetaGroupSize;
+    private final int fetchSize;
+    private final Duration connectTimeout;
+    private final int connectMaxRetries;
+    private final double distributionFactor;
+    @Nullable private final String chunkKeyColumn;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -83,7 +99,16 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
             String username,
             String password,
             Properties dbzProperties,
-            StartupOptions startupOptions) {
+            StartupOptions startupOptions,
+            DebeziumChangelogMode changelogMode,
+            boolean enableParallelRead,
+            int splitSize,
+            int splitMetaGroupSize,
+            int fetchSize,
+            Duration connectTimeout,
+            int connectMaxRetries,
+            double distributionFactor,
+            @Nullable String chunkKeyColumn) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -94,18 +119,22 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
         this.password = checkNotNull(password);
         this.dbzProperties = dbzProperties;
         this.startupOptions = startupOptions;
+        this.changelogMode = changelogMode;
+        this.enableParallelRead = enableParallelRead;
+        this.splitSize = splitSize;
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        this.fetchSize = fetchSize;
+        this.connectTimeout = connectTimeout;
+        this.connectMaxRetries = connectMaxRetries;
+        this.distributionFactor = distributionFactor;
+        this.chunkKeyColumn = chunkKeyColumn;
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
     }
 
     @Override
     public ChangelogMode getChangelogMode() {
-        return ChangelogMode.newBuilder()
-                .addContainedKind(RowKind.INSERT)
-                .addContainedKind(RowKind.UPDATE_BEFORE)
-                .addContainedKind(RowKind.UPDATE_AFTER)
-                .addContainedKind(RowKind.DELETE)
-                .build();
+        return changelogMode.getChangelogMode();
     }
 
     @Override
@@ -121,7 +150,30 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                         .setPhysicalRowType(physicalDataType)
                         .setMetadataConverters(metadataConverters)
                         .setResultTypeInfo(typeInfo)
+                        .setChangelogMode(changelogMode)
                         .build();
+        if (enableParallelRead) {
+            OracleSourceBuilder<RowData> parallelSourceBuilder =
+                    OracleIncrementalSource.<RowData>builder()
+                            .hostname(hostname)
+                            .port(port)
+                            .database(database)
+                            .schemaList(schemaName)
+                            .tableList(schemaName + "." + tableName)
+                            .username(username)
+                            .password(password)
+                            .startupOptions(startupOptions)
+                            .splitSize(splitSize)
+                            .splitMetaGroupSize(splitMetaGroupSize)
+                            .evenlyDistributionFactor(distributionFactor)
+                            .fetchSize(fetchSize)
+                            .connectTimeout(connectTimeout)
+                            .connectMaxRetries(connectMaxRetries)
+                            .debeziumProperties(dbzProperties)
+                            .deserializer(deserializer);
+            Optional.ofNullable(chunkKeyColumn).ifPresent(parallelSourceBuilder::chunkKeyColumn);
+            return SourceProvider.of(parallelSourceBuilder.build());
+        }
         OracleSource.Builder<RowData> builder =
                 OracleSource.<RowData>builder()
                         .hostname(hostname)
@@ -168,7 +220,16 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                         username,
                         password,
                         dbzProperties,
-                        startupOptions);
+                        startupOptions,
+                        changelogMode,
+                        enableParallelRead,
+                        splitSize,
+                        splitMetaGroupSize,
+                        fetchSize,
+                        connectTimeout,
+                        connectMaxRetries,
+                        distributionFactor,
+                        chunkKeyColumn);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -193,6 +254,15 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 && Objects.equals(schemaName, that.schemaName)
                 && Objects.equals(dbzProperties, that.dbzProperties)
                 && Objects.equals(startupOptions, that.startupOptions)
+                && Objects.equals(changelogMode, that.changelogMode)
+                && enableParallelRead == that.enableParallelRead
+                && splitSize == that.splitSize
+                && splitMetaGroupSize == that.splitMetaGroupSize
+                && fetchSize == that.fetchSize
+                && Objects.equals(connectTimeout, that.connectTimeout)
+                && connectMaxRetries == that.connectMaxRetries
+                && distributionFactor == that.distributionFactor
+                && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys);
     }
@@ -210,6 +280,15 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 schemaName,
                 dbzProperties,
                 startupOptions,
+                changelogMode,
+                enableParallelRead,
+                splitSize,
+                splitMetaGroupSize,
+                fetchSize,
+                connectTimeout,
+                connectMaxRetries,
+                distributionFactor,
+                chunkKeyColumn,
                 producedDataType,
                 metadataKeys);
     }
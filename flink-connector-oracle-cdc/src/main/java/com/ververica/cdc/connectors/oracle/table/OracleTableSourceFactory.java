@@ -28,12 +28,23 @@ import org.apache.flink.table.factories.DynamicTableSourceFactory;
 import org.apache.flink.table.factories.FactoryUtil;
 import org.apache.flink.table.utils.TableSchemaUtils;
 
+import com.ververica.cdc.debezium.table.DebeziumChangelogMode;
 import com.ververica.cdc.debezium.table.DebeziumOptions;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
 
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CHUNK_META_GROUP_SIZE;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CONNECT_MAX_RETRIES;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CONNECT_TIMEOUT;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.EVENLY_DISTRIBUTION_FACTOR;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static com.ververica.cdc.debezium.table.DebeziumOptions.getDebeziumProperties;
+import static org.apache.flink.util.Preconditions.checkState;
 
 /**
  * Factory for creating configured instance of {@link
@@ -95,6 +106,9 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
                             "Optional startup mode for Oracle CDC consumer, valid enumerations are "
                                     + "\"initial\", \"latest-offset\"");
 
+    public static final ConfigOption<DebeziumChangelogMode> SCAN_CHANGELOG_MODE =
+            DebeziumOptions.CHANGELOG_MODE;
+
     @Override
     public DynamicTableSource createDynamicTableSource(Context context) {
         final FactoryUtil.TableFactoryHelper helper =
@@ -110,8 +124,30 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
         String schemaName = config.get(SCHEMA_NAME);
         int port = config.get(PORT);
         StartupOptions startupOptions = getStartupOptions(config);
+        boolean enableParallelRead = config.get(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
+        int splitSize = config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
+        int splitMetaGroupSize = config.get(CHUNK_META_GROUP_SIZE);
+        int fetchSize = config.get(SCAN_SNAPSHOT_FETCH_SIZE);
+        Duration connectTimeout = config.get(CONNECT_TIMEOUT);
+        int connectMaxRetries = config.get(CONNECT_MAX_RETRIES);
+        double distributionFactor = config.get(EVENLY_DISTRIBUTION_FACTOR);
+        String chunkKeyColumn =
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN).orElse(null);
+        if (enableParallelRead) {
+            validateIntegerOption(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE, splitSize, 1);
+            validateIntegerOption(CHUNK_META_GROUP_SIZE, splitMetaGroupSize, 1);
+            validateIntegerOption(SCAN_SNAPSHOT_FETCH_SIZE, fetchSize, 1);
+            validateIntegerOption(CONNECT_MAX_RETRIES, connectMaxRetries, 0);
+            checkState(
+                    distributionFactor >= 1.0d,
+                    String.format(
+                            "The value of option '%s' must larger than or equals %s, but is %s",
+                            EVENLY_DISTRIBUTION_FACTOR.key(), 1.0d, distributionFactor));
+        }
         TableSchema physicalSchema =
                 TableSchemaUtils.getPhysicalSchema(context.getCatalogTable().getSchema());
+        DebeziumChangelogMode changelogMode = config.get(SCAN_CHANGELOG_MODE);
+        DebeziumOptions.validateChangelogMode(changelogMode, physicalSchema);
 
         return new OracleTableSource(
                 physicalSchema,
@@ -123,7 +159,16 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
                 username,
                 password,
                 getDebeziumProperties(context.getCatalogTable().getOptions()),
-                startupOptions);
+                startupOptions,
+                changelogMode,
+                enableParallelRead,
+                splitSize,
+                splitMetaGroupSize,
+                fetchSize,
+                connectTimeout,
+                connectMaxRetries,
+                distributionFactor,
+                chunkKeyColumn);
     }
 
     @Override
@@ -131,6 +176,16 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
         return IDENTIFIER;
     }
 
+    /** Checks the value of given integer option is valid. */
+    private void validateIntegerOption(
+            ConfigOption<Integer> option, int optionValue, int exclusiveMin) {
+        checkState(
+                optionValue > exclusiveMin,
+                String.format(
+                        "The value of option '%s' must larger than %d, but is %d",
+                        option.key(), exclusiveMin, optionValue));
+    }
+
     @Override
     public Set<ConfigOption<?>> requiredOptions() {
         Set<ConfigOption<?>> options = new HashSet<>();
@@ -148,6 +203,15 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
         Set<ConfigOption<?>> options = new HashSet<>();
         options.add(PORT);
         options.add(SCAN_STARTUP_MODE);
+        options.add(SCAN_CHANGELOG_MODE);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN);
+        options.add(SCAN_SNAPSHOT_FETCH_SIZE);
+        options.add(CONNECT_TIMEOUT);
+        options.add(CONNECT_MAX_RETRIES);
+        options.add(CHUNK_META_GROUP_SIZE);
+        options.add(EVENLY_DISTRIBUTION_FACTOR);
 
         return options;
     }
@@ -41,6 +41,7 @@ import com.ververica.cdc.connectors.oracle.utils.OracleTestUtils;
 import com.ververica.cdc.connectors.utils.TestSourceContext;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
+import com.ververica.cdc.debezium.internal.DebeziumOffsetSerializer;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.After;
 import org.junit.Before;
@@ -50,7 +51,6 @@ import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.lifecycle.Startables;
 
-import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.time.Duration;
@@ -219,7 +219,7 @@ public class OracleSourceTest extends AbstractTestBase {
 
             assertHistoryState(historyState);
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("oracle_logminer", JsonPath.read(state, "$.sourcePartition.server"));
             // assertEquals("mysql-bin.000003", JsonPath.read(state, "$.sourceOffset.file"));
             assertFalse(state.contains("row"));
@@ -272,7 +272,7 @@ public class OracleSourceTest extends AbstractTestBase {
 
                 assertHistoryState(historyState); // assert the DDL is stored in the history state
                 assertEquals(1, offsetState.list.size());
-                String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+                String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
                 assertEquals("oracle_logminer", JsonPath.read(state, "$.sourcePartition.server"));
 
                 // execute 2 more DMLs to have more binlog
@@ -330,7 +330,7 @@ public class OracleSourceTest extends AbstractTestBase {
             }
             assertHistoryState(historyState); // assert the DDL is stored in the history state
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("oracle_logminer", JsonPath.read(state, "$.sourcePartition.server"));
 
             source3.cancel();
@@ -368,7 +368,7 @@ public class OracleSourceTest extends AbstractTestBase {
             }
             assertHistoryState(historyState); // assert the DDL is stored in the history state
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("oracle_logminer", JsonPath.read(state, "$.sourcePartition.server"));
 
             source4.cancel();
@@ -539,7 +539,7 @@ public class OracleSourceTest extends AbstractTestBase {
 
                 assertHistoryState(historyState); // assert the DDL is stored in the history state
                 assertEquals(1, offsetState.list.size());
-                String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+                String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
                 assertEquals("oracle_logminer", JsonPath.read(state, "$.sourcePartition.server"));
             }
 
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source;
+
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.api.EnvironmentSettings;
+import org.apache.flink.table.api.TableResult;
+import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
+import org.apache.flink.test.util.AbstractTestBase;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.CloseableIterator;
+
+import com.ververica.cdc.connectors.oracle.utils.OracleCdcContainer;
+import com.ververica.cdc.connectors.oracle.utils.OracleTestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+import org.testcontainers.lifecycle.Startables;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** IT tests for {@link OracleIncrementalSource}. */
+public class OracleSourceITCase extends AbstractTestBase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OracleSourceITCase.class);
+
+    private static final int PARALLELISM = 4;
+    private static final int ROW_COUNT = 5000;
+    private static final int WRITE_COUNT = 1000;
+
+    private final OracleCdcContainer oracleContainer =
+            OracleTestUtils.ORACLE_CONTAINER.withLogConsumer(new Slf4jLogConsumer(LOG));
+
+    @Before
+    public void before() throws Exception {
+        LOG.info("Starting containers...");
+        Startables.deepStart(Stream.of(oracleContainer)).join();
+        LOG.info("Containers are started.");
+
+        try (Connection connection = OracleTestUtils.getJdbcConnection(oracleContainer);
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TABLE debezium.customers ("
+                            + "ID NUMBER(9) NOT NULL PRIMARY KEY,"
+                            + "NAME VARCHAR2(255) NOT NULL,"
+                            + "BALANCE NUMBER(18) NOT NULL)");
+            statement.execute(
+                    "ALTER TABLE debezium.customers ADD SUPPLEMENTAL LOG DATA (ALL) COLUMNS");
+            statement.execute(
+                    "INSERT INTO debezium.customers SELECT LEVEL, 'user_' || LEVEL, LEVEL * 100 "
+                            + "FROM DUAL CONNECT BY LEVEL <= "
+                            + ROW_COUNT);
+        }
+    }
+
+    @After
+    public void teardown() {
+        oracleContainer.stop();
+    }
+
+    @Test
+    public void testReadChunksUnderConcurrentWrites() throws Exception {
+        testReadUnderConcurrentWrites(null, true);
+    }
+
+    @Test
+    public void testReadRowIdChunksUnderConcurrentWrites() throws Exception {
+        // the changes of the chunks split by the physical row address are delivered at least once
+        testReadUnderConcurrentWrites("ROWID", false);
+    }
+
+    /**
+     * Reads the table split into chunks while it is written, the changelog materialized by keys
+     * must be the final rows of the table. If the changes are delivered exactly once, every row
+     * must be inserted once and only retracted with its latest version.
+     */
+    private void testReadUnderConcurrentWrites(String chunkKeyColumn, boolean exactlyOnce)
+            throws Exception {
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        StreamTableEnvironment tEnv =
+                StreamTableEnvironment.create(
+                        env,
+                        EnvironmentSettings.newInstance()
+                                .useBlinkPlanner()
+                                .inStreamingMode()
+                                .build());
+        env.setParallelism(PARALLELISM);
+        env.enableCheckpointing(200L);
+
+        String sourceDDL =
+                String.format(
+                        "CREATE TABLE customers ("
+                                + " ID INT NOT NULL,"
+                                + " NAME STRING,"
+                                + " BALANCE BIGINT"
+                                + ") WITH ("
+                                + " 'connector' = 'oracle-cdc',"
+                                + " 'scan.incremental.snapshot.enabled' = 'true',"
+                                + " 'scan.incremental.snapshot.chunk.size' = '100',"
+                                + "%s"
+                                + " 'hostname' = '%s',"
+                                + " 'port' = '%s',"
+                                + " 'username' = '%s',"
+                                + " 'password' = '%s',"
+                                + " 'database-name' = 'XE',"
+                                + " 'schema-name' = '%s',"
+                                + " 'table-name' = '%s'"
+                                + ")",
+                        chunkKeyColumn == null
+                                ? ""
+                                : String.format(
+                                        " 'scan.incremental.snapshot.chunk.key-column' = '%s',",
+                                        chunkKeyColumn),
+                        oracleContainer.getHost(),
+                        oracleContainer.getOraclePort(),
+                        OracleTestUtils.ORACLE_USER,
+                        OracleTestUtils.ORACLE_PWD,
+                        "debezium",
+                        "customers");
+        tEnv.executeSql(sourceDDL);
+        TableResult tableResult = tEnv.executeSql("SELECT * FROM customers");
+        CloseableIterator<Row> iterator = tableResult.collect();
+
+        // the first row is emitted once the chunks are being read, the rest of chunks are read
+        // while the table is written
+        assertTrue(iterator.hasNext());
+        Map<Integer, String> expected = writeConcurrently();
+
+        Map<Integer, String> actual = new HashMap<>();
+        while (!expected.equals(actual)) {
+            Row row = iterator.next();
+            Integer key = (Integer) row.getField(0);
+            String value = row.getField(1) + "," + row.getField(2);
+            switch (row.getKind()) {
+                case INSERT:
+                case UPDATE_AFTER:
+                    String previous = actual.put(key, value);
+                    if (exactlyOnce) {
+                        assertNull("The row " + key + " is inserted twice", previous);
+                    }
+                    break;
+                case UPDATE_BEFORE:
+                case DELETE:
+                    String removed = actual.remove(key);
+                    if (exactlyOnce) {
+                        assertEquals(
+                                "The row " + key + " is retracted with a stale version",
+                                value,
+                                removed);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected row kind " + row.getKind());
+            }
+        }
+        tableResult.getJobClient().get().cancel().get();
+    }
+
+    /** Randomly updates, deletes and inserts the rows, returns the final rows of the table. */
+    private Map<Integer, String> writeConcurrently() throws SQLException {
+        Random random = new Random(42L);
+        Map<Integer, String> rows = new HashMap<>();
+        try (Connection connection = OracleTestUtils.getJdbcConnection(oracleContainer);
+                Statement statement = connection.createStatement()) {
+            int nextId = ROW_COUNT + 1;
+            for (int i = 0; i < WRITE_COUNT; i++) {
+                int id = random.nextInt(nextId - 1) + 1;
+                int op = random.nextInt(10);
+                if (op < 6) {
+                    statement.execute(
+                            String.format(
+                                    "UPDATE debezium.customers SET BALANCE = BALANCE + %d WHERE ID = %d",
+                                    random.nextInt(1000), id));
+                } else if (op < 8) {
+                    statement.execute(
+                            String.format("DELETE FROM debezium.customers WHERE ID = %d", id));
+                } else {
+                    statement.execute(
+                            String.format(
+                                    "INSERT INTO debezium.customers VALUES (%d, 'user_%d', 0)",
+                                    nextId, nextId));
+                    nextId++;
+                }
+            }
+            try (ResultSet rs =
+                    statement.executeQuery("SELECT ID, NAME, BALANCE FROM debezium.customers")) {
+                while (rs.next()) {
+                    rows.put(rs.getInt(1), rs.getString(2) + "," + rs.getLong(3));
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.dialect;
+
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkRange;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.ververica.cdc.connectors.oracle.source.utils.OracleQueryUtils.rowId;
+import static org.junit.Assert.assertEquals;
+
+/** Tests for {@link OracleChunkSplitter}. */
+public class OracleChunkSplitterTest {
+
+    @Test
+    public void testSplitRowIdRanges() {
+        // 100 rows per block, the chunk of 500 rows is 5 blocks
+        final List<long[]> extents =
+                Arrays.asList(new long[] {75L, 4L, 128L, 8L}, new long[] {75L, 4L, 256L, 8L});
+        assertEquals(
+                Arrays.asList(
+                        ChunkRange.of(null, rowId(75L, 4L, 133L, 0L)),
+                        // the chunk continues in the next extent
+                        ChunkRange.of(rowId(75L, 4L, 133L, 0L), rowId(75L, 4L, 258L, 0L)),
+                        ChunkRange.of(rowId(75L, 4L, 258L, 0L), rowId(75L, 4L, 263L, 0L)),
+                        ChunkRange.of(rowId(75L, 4L, 263L, 0L), null)),
+                OracleChunkSplitter.splitRowIdRanges(extents, 16L, 1600L, 500));
+    }
+
+    @Test
+    public void testSplitRowIdRangesAtExtentBoundaries() {
+        // the chunks of 4 blocks start at the first blocks of the extents of 4 blocks
+        final List<long[]> extents =
+                Arrays.asList(
+                        new long[] {75L, 4L, 128L, 4L},
+                        new long[] {75L, 5L, 8L, 4L},
+                        new long[] {75L, 5L, 64L, 4L});
+        assertEquals(
+                Arrays.asList(
+                        ChunkRange.of(null, rowId(75L, 5L, 8L, 0L)),
+                        ChunkRange.of(rowId(75L, 5L, 8L, 0L), rowId(75L, 5L, 64L, 0L)),
+                        ChunkRange.of(rowId(75L, 5L, 64L, 0L), null)),
+                OracleChunkSplitter.splitRowIdRanges(extents, 12L, 1200L, 400));
+    }
+
+    @Test
+    public void testSplitSmallOrEmptyTable() {
+        final List<long[]> extents = Collections.singletonList(new long[] {75L, 4L, 128L, 8L});
+        assertEquals(
+                Collections.singletonList(ChunkRange.all()),
+                OracleChunkSplitter.splitRowIdRanges(extents, 8L, 800L, 1000));
+        assertEquals(
+                Collections.singletonList(ChunkRange.all()),
+                OracleChunkSplitter.splitRowIdRanges(Collections.emptyList(), 0L, 0L, 1000));
+    }
+}
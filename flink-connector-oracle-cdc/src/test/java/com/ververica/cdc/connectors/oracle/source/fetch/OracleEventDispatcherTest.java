@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.fetch;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link OracleSourceFetchTaskContext.OracleEventDispatcher}. */
+public class OracleEventDispatcherTest {
+
+    private static final TableId TABLE_ID = new TableId("ORCLCDB", "DEBEZIUM", "PRODUCTS");
+
+    @Test
+    public void testBoundsOfBackfill() {
+        final OracleSourceFetchTaskContext.OracleEventDispatcher.Bounds bounds =
+                new OracleSourceFetchTaskContext.OracleEventDispatcher.Bounds(
+                        TABLE_ID, Scn.valueOf(1000L), Scn.valueOf(2000L));
+
+        // the changes committed before the low watermark are read by the snapshot
+        assertFalse(bounds.contains(TABLE_ID, Scn.valueOf(999L)));
+        assertFalse(bounds.contains(TABLE_ID, Scn.valueOf(1000L)));
+        assertTrue(bounds.contains(TABLE_ID, Scn.valueOf(1001L)));
+        assertTrue(bounds.contains(TABLE_ID, Scn.valueOf(2000L)));
+        // the changes committed after the high watermark are read by the stream split
+        assertFalse(bounds.contains(TABLE_ID, Scn.valueOf(2001L)));
+    }
+
+    @Test
+    public void testSkipChangesOfOtherTablesOrUncommitted() {
+        final OracleSourceFetchTaskContext.OracleEventDispatcher.Bounds bounds =
+                new OracleSourceFetchTaskContext.OracleEventDispatcher.Bounds(
+                        TABLE_ID, Scn.valueOf(1000L), Scn.valueOf(2000L));
+        assertFalse(
+                bounds.contains(new TableId("ORCLCDB", "DEBEZIUM", "ORDERS"), Scn.valueOf(1500L)));
+        assertFalse(bounds.contains(TABLE_ID, null));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.offset;
+
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.SourceSplitSerializer;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.SourceInfo;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link OracleOffset}. */
+public class OracleOffsetTest {
+
+    private static final RowType SPLIT_KEY_TYPE =
+            new RowType(Collections.singletonList(new RowType.RowField("ID", new BigIntType())));
+
+    private final SourceSplitSerializer serializer =
+            new SourceSplitSerializer(new OracleOffsetFactory());
+
+    @Test
+    public void testOrderByCommitScn() {
+        // the mining restarts before the oldest open transaction, which doesn't order the offsets
+        final OracleOffset heldBack = OracleOffset.ofScn(Scn.valueOf(1000L), Scn.valueOf(2000L));
+        final OracleOffset notHeldBack = OracleOffset.ofScn(Scn.valueOf(1500L), Scn.valueOf(1500L));
+        assertTrue(notHeldBack.isBefore(heldBack));
+        assertTrue(
+                heldBack.isAtOrAfter(OracleOffset.ofScn(Scn.valueOf(2000L), Scn.valueOf(2000L))));
+
+        assertTrue(OracleOffset.INITIAL_OFFSET.isBefore(notHeldBack));
+        assertTrue(heldBack.isBefore(OracleOffset.NO_STOPPING_OFFSET));
+
+        // the SCNs are compared as numbers, not as the decimal strings of the offset
+        assertTrue(
+                OracleOffset.ofScn(Scn.valueOf(9L), Scn.valueOf(9L))
+                        .isBefore(OracleOffset.ofScn(Scn.valueOf(10L), Scn.valueOf(10L))));
+    }
+
+    @Test
+    public void testOffsetWithoutCommitScn() {
+        // the offset of the debezium connector before any committed transaction
+        final OracleOffset offset =
+                new OracleOffset(Collections.singletonMap(SourceInfo.SCN_KEY, "1500"));
+        assertEquals(Scn.valueOf(1500L), offset.getCommitScn());
+        assertTrue(offset.isValid());
+        assertFalse(OracleOffset.INITIAL_OFFSET.isValid());
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put(SourceInfo.SCN_KEY, "1500");
+        expected.put(SourceInfo.COMMIT_SCN_KEY, "1500");
+        assertEquals(expected, offset.toDbzOffset());
+    }
+
+    @Test
+    public void testSerializeSplits() throws Exception {
+        final TableId tableId = new TableId("ORCLCDB", "DEBEZIUM", "PRODUCTS");
+        final SourceSplitBase snapshotSplit =
+                new SnapshotSplit(
+                        tableId,
+                        tableId + ":1",
+                        SPLIT_KEY_TYPE,
+                        new Object[] {100L},
+                        new Object[] {200L},
+                        OracleOffset.ofScn(Scn.valueOf(1000L), Scn.valueOf(2000L)),
+                        new HashMap<>());
+        final SnapshotSplit deserializedSnapshotSplit =
+                serializeAndDeserializeSplit(snapshotSplit).asSnapshotSplit();
+        assertEquals(snapshotSplit, deserializedSnapshotSplit);
+        final OracleOffset highWatermark =
+                (OracleOffset) deserializedSnapshotSplit.getHighWatermark();
+        assertEquals(Scn.valueOf(1000L), highWatermark.getScn());
+        assertEquals(Scn.valueOf(2000L), highWatermark.getCommitScn());
+
+        final SourceSplitBase streamSplit =
+                new StreamSplit(
+                        "stream-split",
+                        OracleOffset.ofScn(Scn.valueOf(1000L), Scn.valueOf(2000L)),
+                        OracleOffset.NO_STOPPING_OFFSET,
+                        new ArrayList<>(),
+                        new HashMap<>(),
+                        0);
+        final StreamSplit deserializedStreamSplit =
+                serializeAndDeserializeSplit(streamSplit).asStreamSplit();
+        assertEquals(streamSplit, deserializedStreamSplit);
+        assertEquals(OracleOffset.class, deserializedStreamSplit.getEndingOffset().getClass());
+    }
+
+    private SourceSplitBase serializeAndDeserializeSplit(SourceSplitBase split) throws Exception {
+        return serializer.deserialize(serializer.getVersion(), serializer.serialize(split));
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/** Tests for {@link OracleQueryUtils}. */
+public class OracleQueryUtilsTest {
+
+    @Test
+    public void testRowId() {
+        // the extended ROWID of the DBMS_ROWID documentation, i.e. the result of
+        // DBMS_ROWID.ROWID_CREATE(1, 63388, 5, 82, 0)
+        assertEquals("AAAPecAAFAAAABSAAA", OracleQueryUtils.rowId(63388L, 5L, 82L, 0L));
+
+        assertEquals("AAAABLAAEAAAATSAAF", OracleQueryUtils.rowId(75L, 4L, 1234L, 5L));
+        assertEquals("AAAAAAAAAAAAAAAAAA", OracleQueryUtils.rowId(0L, 0L, 0L, 0L));
+        // the max data object number of 32 bits, the max relative file number of 10 bits, the
+        // max block number of 22 bits and the max row number of 16 bits
+        assertEquals(
+                "D/////AP/AAP///P//",
+                OracleQueryUtils.rowId(0xFFFFFFFFL, 0x3FFL, 0x3FFFFFL, 0xFFFFL));
+    }
+}
@@ -33,8 +33,10 @@ import org.apache.flink.table.factories.FactoryUtil;
 import org.apache.flink.table.utils.TableSchemaUtils;
 import org.apache.flink.util.ExceptionUtils;
 
+import com.ververica.cdc.debezium.table.DebeziumChangelogMode;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,6 +44,13 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CHUNK_META_GROUP_SIZE;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CONNECT_MAX_RETRIES;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.CONNECT_TIMEOUT;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.EVENLY_DISTRIBUTION_FACTOR;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static org.apache.flink.table.api.TableSchema.fromResolvedSchema;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -103,7 +112,16 @@ public class OracleTableSourceFactoryTest {
                         MY_USERNAME,
                         MY_PASSWORD,
                         PROPERTIES,
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -127,7 +145,51 @@ public class OracleTableSourceFactoryTest {
                         MY_USERNAME,
                         MY_PASSWORD,
                         dbzProperties,
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null);
+        assertEquals(expectedSource, actualSource);
+    }
+
+    @Test
+    public void testEnableParallelReadSource() {
+        Map<String, String> options = getAllOptions();
+        options.put("scan.incremental.snapshot.enabled", "true");
+        options.put("scan.incremental.snapshot.chunk.size", "8000");
+        options.put("scan.incremental.snapshot.chunk.key-column", "ROWID");
+        options.put("chunk-meta.group.size", "3000");
+        options.put("scan.snapshot.fetch.size", "100");
+        options.put("connect.timeout", "45s");
+
+        DynamicTableSource actualSource = createTableSource(options);
+        OracleTableSource expectedSource =
+                new OracleTableSource(
+                        TableSchemaUtils.getPhysicalSchema(fromResolvedSchema(SCHEMA)),
+                        1521,
+                        MY_LOCALHOST,
+                        MY_DATABASE,
+                        MY_TABLE,
+                        MY_SCHEMA,
+                        MY_USERNAME,
+                        MY_PASSWORD,
+                        PROPERTIES,
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        true,
+                        8000,
+                        3000,
+                        100,
+                        Duration.ofSeconds(45),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        "ROWID");
         assertEquals(expectedSource, actualSource);
     }
 
@@ -149,7 +211,16 @@ public class OracleTableSourceFactoryTest {
                         MY_USERNAME,
                         MY_PASSWORD,
                         PROPERTIES,
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -171,8 +242,51 @@ public class OracleTableSourceFactoryTest {
                         MY_USERNAME,
                         MY_PASSWORD,
                         PROPERTIES,
-                        StartupOptions.latest());
+                        StartupOptions.latest(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null);
+        assertEquals(expectedSource, actualSource);
+    }
+
+    @Test
+    public void testUpsertChangelogMode() {
+        Map<String, String> properties = getAllOptions();
+        properties.put("changelog-mode", "upsert");
+
+        // validation for source
+        DynamicTableSource actualSource = createTableSource(properties);
+        OracleTableSource expectedSource =
+                new OracleTableSource(
+                        TableSchemaUtils.getPhysicalSchema(fromResolvedSchema(SCHEMA)),
+                        1521,
+                        MY_LOCALHOST,
+                        MY_DATABASE,
+                        MY_TABLE,
+                        MY_SCHEMA,
+                        MY_USERNAME,
+                        MY_PASSWORD,
+                        PROPERTIES,
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.UPSERT,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null);
         assertEquals(expectedSource, actualSource);
+        assertEquals(
+                DebeziumChangelogMode.UPSERT.getChangelogMode(),
+                ((OracleTableSource) actualSource).getChangelogMode());
     }
 
     @Test
@@ -198,7 +312,16 @@ public class OracleTableSourceFactoryTest {
                         MY_USERNAME,
                         MY_PASSWORD,
                         new Properties(),
-                        StartupOptions.initial());
+                        StartupOptions.initial(),
+                        DebeziumChangelogMode.ALL,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null);
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys =
                 Arrays.asList("op_ts", "database_name", "table_name", "schema_name");
@@ -268,6 +391,21 @@ public class OracleTableSourceFactoryTest {
 
             assertTrue(ExceptionUtils.findThrowableWithMessage(t, msg).isPresent());
         }
+
+        // validate upsert changelog mode without primary key
+        try {
+            Map<String, String> properties = getAllOptions();
+            properties.put("changelog-mode", "upsert");
+
+            createTableSource(
+                    new ResolvedSchema(SCHEMA.getColumns(), SCHEMA.getWatermarkSpecs(), null),
+                    properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            String msg = "The primary key is necessary when set 'changelog-mode' to 'upsert'";
+
+            assertTrue(ExceptionUtils.findThrowableWithMessage(t, msg).isPresent());
+        }
     }
 
     private Map<String, String> getAllOptions() {
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfigFactory;
+import com.ververica.cdc.connectors.postgres.source.dialect.PostgresDialect;
+import com.ververica.cdc.connectors.postgres.source.enumerator.PostgresSourceEnumerator;
+import com.ververica.cdc.connectors.postgres.source.offset.PostgresOffsetFactory;
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import com.ververica.cdc.debezium.source.IncrementalSource;
+import com.ververica.cdc.debezium.source.assigner.SplitAssigner;
+import com.ververica.cdc.debezium.source.assigner.state.PendingSplitsState;
+import com.ververica.cdc.debezium.source.enumerator.IncrementalSourceEnumerator;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+
+/**
+ * The PostgreSQL CDC Source based on FLIP-27 and the incremental snapshot framework, it supports
+ * parallel reading snapshot of table and then continue to capture data change from the replication
+ * slot.
+ *
+ * <pre>
+ *     1. The source supports parallel capturing table change.
+ *     2. The source supports checkpoint in split level when read snapshot data.
+ *     3. The source doesn't need to hold any lock or long running transaction on the database.
+ * </pre>
+ *
+ * <p>Each reader reads the changes between the watermarks of its snapshot splits from a backfill
+ * replication slot named {@code <slot.name>_<subtask index>}, so the server should allow more
+ * replication slots ('max_replication_slots') than the parallelism of the source.
+ *
+ * <p>If the exported snapshot is enabled and the replication slot doesn't exist, the enumerator
+ * creates the slot and holds the snapshot exported by the slot creation until all the snapshot
+ * splits are finished. The readers read the splits from the exported snapshot without the backfill
+ * and the stream split starts from the consistent point of the slot. The splits are read between
+ * watermarks as usual if the snapshot is not available, e.g. the slot exists already or the job is
+ * restored from a checkpoint.
+ *
+ * <pre>{@code
+ * PostgresIncrementalSource
+ *     .<String>builder()
+ *     .hostname("localhost")
+ *     .port(5432)
+ *     .database("postgres")
+ *     .tableList("public.users")
+ *     .username(username)
+ *     .password(password)
+ *     .slotName("flink")
+ *     .deserializer(new JsonDebeziumDeserializationSchema())
+ *     .build();
+ * }</pre>
+ *
+ * <p>See {@link PostgresSourceBuilder} for more details.
+ *
+ * @param <T> the output type of the source.
+ */
+@Experimental
+public class PostgresIncrementalSource<T> extends IncrementalSource<T, PostgresSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Get a PostgresSourceBuilder to build a {@link PostgresIncrementalSource}.
+     *
+     * @return a PostgreSQL parallel source builder.
+     */
+    public static <T> PostgresSourceBuilder<T> builder() {
+        return new PostgresSourceBuilder<>();
+    }
+
+    PostgresIncrementalSource(
+            PostgresSourceConfigFactory configFactory,
+            DebeziumDeserializationSchema<T> deserializationSchema) {
+        super(
+                configFactory,
+                deserializationSchema,
+                new PostgresOffsetFactory(),
+                new PostgresDialect());
+    }
+
+    @Override
+    public SplitEnumerator<SourceSplitBase, PendingSplitsState> createEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> enumContext) {
+        PostgresSourceConfig sourceConfig = configFactory.create(0);
+        PostgresDialect dialect = (PostgresDialect) dataSourceDialect;
+        // the snapshot is exported by the creation of the single slot of stream split
+        boolean snapshotExported =
+                isSnapshotExportable(sourceConfig) && dialect.exportSnapshot(sourceConfig);
+        if (!snapshotExported) {
+            // the slots of stream splits must retain the changes since the first low watermark
+            dialect.ensureStreamSlots(sourceConfig);
+        }
+        try {
+            return super.createEnumerator(enumContext);
+        } catch (RuntimeException e) {
+            dialect.releaseExportedSnapshot();
+            throw e;
+        }
+    }
+
+    @Override
+    protected IncrementalSourceEnumerator createSourceEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> enumContext,
+            PostgresSourceConfig sourceConfig,
+            SplitAssigner splitAssigner) {
+        return new PostgresSourceEnumerator(
+                enumContext,
+                sourceConfig,
+                splitAssigner,
+                sourceSplitSerializer,
+                (PostgresDialect) dataSourceDialect);
+    }
+
+    /**
+     * Whether the snapshot splits may be read from the snapshot exported by the creation of the
+     * stream slot, the snapshot splits are read between watermarks otherwise.
+     */
+    @VisibleForTesting
+    static boolean isSnapshotExportable(PostgresSourceConfig sourceConfig) {
+        return sourceConfig.isSnapshotEnabled()
+                && sourceConfig.isExportSnapshotEnabled()
+                && sourceConfig.getStreamSlotCount() == 1;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.config;
+
+import com.ververica.cdc.debezium.source.config.JdbcSourceConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.relational.TableId;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** The configuration of the PostgreSQL incremental snapshot source for a subtask. */
+public class PostgresSourceConfig extends JdbcSourceConfig {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String database;
+    @Nullable private final List<String> schemaList;
+    private final String slotName;
+    private final int subtaskId;
+    private final boolean exportSnapshotEnabled;
+    private final int streamSlotCount;
+
+    public PostgresSourceConfig(
+            String hostname,
+            int port,
+            String username,
+            String password,
+            String database,
+            @Nullable List<String> schemaList,
+            List<String> tableList,
+            String slotName,
+            int subtaskId,
+            boolean snapshotEnabled,
+            int splitSize,
+            int splitMetaGroupSize,
+            int fetchSize,
+            Duration connectTimeout,
+            int connectMaxRetries,
+            double evenlyDistributionFactor,
+            boolean includeSchemaChanges,
+            @Nullable String chunkKeyColumn,
+            boolean exportSnapshotEnabled,
+            int streamSlotCount,
+            Properties dbzProperties) {
+        super(
+                hostname,
+                port,
+                username,
+                password,
+                Collections.singletonList(checkNotNull(database)),
+                tableList,
+                snapshotEnabled,
+                splitSize,
+                splitMetaGroupSize,
+                fetchSize,
+                connectTimeout,
+                connectMaxRetries,
+                evenlyDistributionFactor,
+                includeSchemaChanges,
+                chunkKeyColumn,
+                dbzProperties);
+        this.database = database;
+        this.schemaList = schemaList;
+        this.slotName = checkNotNull(slotName);
+        this.subtaskId = subtaskId;
+        this.exportSnapshotEnabled = exportSnapshotEnabled;
+        checkArgument(streamSlotCount > 0, "The number of stream slots must be positive.");
+        this.streamSlotCount = streamSlotCount;
+    }
+
+    public String getDatabase() {
+        return database;
+    }
+
+    @Nullable
+    public List<String> getSchemaList() {
+        return schemaList;
+    }
+
+    /** The name of the replication slot which the stream split reads the changes from. */
+    public String getSlotName() {
+        return slotName;
+    }
+
+    /**
+     * The name of the replication slot which the snapshot splits of this subtask read the changes
+     * between the low and high watermarks from, it's dropped when the subtask finishes the snapshot
+     * splits.
+     */
+    public String getBackfillSlotName() {
+        return slotName + "_" + subtaskId;
+    }
+
+    public int getSubtaskId() {
+        return subtaskId;
+    }
+
+    /** Whether to read the snapshot splits from the snapshot exported by the slot creation. */
+    public boolean isExportSnapshotEnabled() {
+        return exportSnapshotEnabled;
+    }
+
+    /**
+     * The number of replication slots which the changes are read from after the snapshot, the
+     * captured tables are distributed to the slots by {@link #getStreamSlot(TableId)} and each slot
+     * is read by a separate stream split.
+     */
+    public int getStreamSlotCount() {
+        return streamSlotCount;
+    }
+
+    /** Returns the index of the stream slot which the changes of the given table are read from. */
+    public int getStreamSlot(TableId tableId) {
+        return Math.floorMod(tableId.toString().hashCode(), streamSlotCount);
+    }
+
+    /**
+     * The name of the replication slot of the given stream slot index, it's the configured slot
+     * name if the changes are read from a single slot.
+     */
+    public String getStreamSlotName(int streamSlot) {
+        return streamSlotCount == 1 ? slotName : slotName + "_stream_" + streamSlot;
+    }
+
+    /**
+     * The name of the publication of the given stream slot index which the pgoutput plugin decodes
+     * the changes of, it's the configured publication name if the changes are read from a single
+     * slot.
+     */
+    public String getStreamPublicationName(int streamSlot) {
+        final String publicationName =
+                getDbzConfiguration().getString(PostgresConnectorConfig.PUBLICATION_NAME);
+        return streamSlotCount == 1 ? publicationName : publicationName + "_" + streamSlot;
+    }
+
+    @Override
+    public PostgresConnectorConfig getDbzConnectorConfig() {
+        return new PostgresConnectorConfig(getDbzConfiguration());
+    }
+
+    /**
+     * Returns the connector config of the given stream slot index, whose slot and publication are
+     * the ones of the stream slot. The publications of multiple stream slots only include the
+     * tables of the slot, they're created by the enumerator instead of debezium.
+     */
+    public PostgresConnectorConfig getStreamConnectorConfig(int streamSlot) {
+        if (streamSlotCount == 1) {
+            return getDbzConnectorConfig();
+        }
+        final Configuration configuration =
+                getDbzConfiguration()
+                        .edit()
+                        .with(PostgresConnectorConfig.SLOT_NAME, getStreamSlotName(streamSlot))
+                        .with(
+                                PostgresConnectorConfig.PUBLICATION_NAME,
+                                getStreamPublicationName(streamSlot))
+                        .with(
+                                PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE,
+                                PostgresConnectorConfig.AutoCreateMode.DISABLED.getValue())
+                        .build();
+        return new PostgresConnectorConfig(configuration);
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.config;
+
+import org.apache.flink.annotation.Internal;
+
+import com.ververica.cdc.debezium.source.config.SourceConfig;
+import io.debezium.connector.postgresql.PostgresConnector;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.CHUNK_META_GROUP_SIZE;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.CONNECT_MAX_RETRIES;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.CONNECT_TIMEOUT;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.EVENLY_DISTRIBUTION_FACTOR;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_EXPORT_ENABLED;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_INCREMENTAL_STREAM_SLOTS;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** A factory to construct {@link PostgresSourceConfig}. */
+@Internal
+public class PostgresSourceConfigFactory implements SourceConfig.Factory<PostgresSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long DEFAULT_HEARTBEAT_MS = Duration.ofMinutes(5).toMillis();
+
+    private int port = 5432; // default 5432 port
+    private String hostname;
+    private String username;
+    private String password;
+    private String database;
+    private List<String> schemaList;
+    private List<String> tableList;
+    private String pluginName = "decoderbufs";
+    private String slotName = "flink";
+    private int splitSize = SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue();
+    private int splitMetaGroupSize = CHUNK_META_GROUP_SIZE.defaultValue();
+    private int fetchSize = SCAN_SNAPSHOT_FETCH_SIZE.defaultValue();
+    private Duration connectTimeout = CONNECT_TIMEOUT.defaultValue();
+    private int connectMaxRetries = CONNECT_MAX_RETRIES.defaultValue();
+    private double evenlyDistributionFactor = EVENLY_DISTRIBUTION_FACTOR.defaultValue();
+    private boolean includeSchemaChanges = false;
+    private String chunkKeyColumn;
+    private boolean exportSnapshotEnabled = SCAN_INCREMENTAL_SNAPSHOT_EXPORT_ENABLED.defaultValue();
+    private int streamSlotCount = SCAN_INCREMENTAL_STREAM_SLOTS.defaultValue();
+    private Properties dbzProperties;
+
+    public PostgresSourceConfigFactory hostname(String hostname) {
+        this.hostname = hostname;
+        return this;
+    }
+
+    /** Integer port number of the PostgreSQL database server. */
+    public PostgresSourceConfigFactory port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    /** The name of the PostgreSQL database from which to stream the changes. */
+    public PostgresSourceConfigFactory database(String database) {
+        this.database = database;
+        return this;
+    }
+
+    /**
+     * An optional list of regular expressions that match schema names to be monitored; any schema
+     * name not included in the list will be excluded from monitoring.
+     */
+    public PostgresSourceConfigFactory schemaList(String... schemaList) {
+        this.schemaList = Arrays.asList(schemaList);
+        return this;
+    }
+
+    /**
+     * An optional list of regular expressions that match fully-qualified table identifiers for
+     * tables to be monitored; any table not included in the list will be excluded from monitoring.
+     * Each identifier is of the form {@code <schemaName>.<tableName>}.
+     */
+    public PostgresSourceConfigFactory tableList(String... tableList) {
+        this.tableList = Arrays.asList(tableList);
+        return this;
+    }
+
+    /** Name of the PostgreSQL user to use when connecting to the PostgreSQL database server. */
+    public PostgresSourceConfigFactory username(String username) {
+        this.username = username;
+        return this;
+    }
+
+    /** Password to use when connecting to the PostgreSQL database server. */
+    public PostgresSourceConfigFactory password(String password) {
+        this.password = password;
+        return this;
+    }
+
+    /** The name of the Postgres logical decoding plug-in installed on the server. */
+    public PostgresSourceConfigFactory decodingPluginName(String pluginName) {
+        this.pluginName = pluginName;
+        return this;
+    }
+
+    /** The name of the PostgreSQL logical decoding slot that was created for streaming changes. */
+    public PostgresSourceConfigFactory slotName(String slotName) {
+        this.slotName = slotName;
+        return this;
+    }
+
+    /**
+     * The split size (number of rows) of table snapshot, captured tables are split into multiple
+     * splits when read the snapshot of table.
+     */
+    public PostgresSourceConfigFactory splitSize(int splitSize) {
+        this.splitSize = splitSize;
+        return this;
+    }
+
+    /**
+     * The group size of split meta, if the meta size exceeds the group size, the meta will be will
+     * be divided into multiple groups.
+     */
+    public PostgresSourceConfigFactory splitMetaGroupSize(int splitMetaGroupSize) {
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        return this;
+    }
+
+    /** The maximum fetch size for per poll when read table snapshot. */
+    public PostgresSourceConfigFactory fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * The maximum time that the connector should wait after trying to connect to the PostgreSQL
+     * database server before timing out.
+     */
+    public PostgresSourceConfigFactory connectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /** The max retry times to get connection. */
+    public PostgresSourceConfigFactory connectMaxRetries(int connectMaxRetries) {
+        this.connectMaxRetries = connectMaxRetries;
+        return this;
+    }
+
+    /** The factor is used to determine whether the table is evenly distribution or not. */
+    public PostgresSourceConfigFactory evenlyDistributionFactor(double evenlyDistributionFactor) {
+        this.evenlyDistributionFactor = evenlyDistributionFactor;
+        return this;
+    }
+
+    /** Whether the source should output the schema changes or not. */
+    public PostgresSourceConfigFactory includeSchemaChanges(boolean includeSchemaChanges) {
+        this.includeSchemaChanges = includeSchemaChanges;
+        return this;
+    }
+
+    /** The column used to split the captured tables into chunks when read the snapshot. */
+    public PostgresSourceConfigFactory chunkKeyColumn(String chunkKeyColumn) {
+        this.chunkKeyColumn = chunkKeyColumn;
+        return this;
+    }
+
+    /** Whether to read the snapshot splits from the snapshot exported by the slot creation. */
+    public PostgresSourceConfigFactory exportSnapshotEnabled(boolean exportSnapshotEnabled) {
+        this.exportSnapshotEnabled = exportSnapshotEnabled;
+        return this;
+    }
+
+    /**
+     * The number of replication slots to read the changes from after the snapshot, the captured
+     * tables are distributed to the slots and each slot is read by a different reader.
+     */
+    public PostgresSourceConfigFactory streamSlotCount(int streamSlotCount) {
+        this.streamSlotCount = streamSlotCount;
+        return this;
+    }
+
+    /** The Debezium Postgres connector properties. */
+    public PostgresSourceConfigFactory debeziumProperties(Properties properties) {
+        this.dbzProperties = properties;
+        return this;
+    }
+
+    @Override
+    public PostgresSourceConfig create(int subtaskId) {
+        Properties props = new Properties();
+        props.setProperty("connector.class", PostgresConnector.class.getCanonicalName());
+        props.setProperty("plugin.name", pluginName);
+        // hard code server name, because we don't need to distinguish it, docs:
+        // Logical name that identifies and provides a namespace for the particular PostgreSQL
+        // database server/cluster being monitored. The logical name should be unique across
+        // all other connectors, since it is used as a prefix for all Kafka topic names coming
+        // from this connector. Only alphanumeric characters and underscores should be used.
+        props.setProperty("database.server.name", "postgres_cdc_source");
+        props.setProperty("database.hostname", checkNotNull(hostname));
+        props.setProperty("database.dbname", checkNotNull(database));
+        props.setProperty("database.user", checkNotNull(username));
+        props.setProperty("database.password", checkNotNull(password));
+        props.setProperty("database.port", String.valueOf(port));
+        props.setProperty("slot.name", slotName);
+        props.setProperty("connect.timeout.ms", String.valueOf(connectTimeout.toMillis()));
+        // the heartbeat events advance the offset of the stream split when the captured tables
+        // receive no changes, the offset is flushed to the replication slot on checkpoints
+        props.setProperty("heartbeat.interval.ms", String.valueOf(DEFAULT_HEARTBEAT_MS));
+        // disable tombstones
+        props.setProperty("tombstones.on.delete", String.valueOf(false));
+
+        if (schemaList != null) {
+            props.setProperty("schema.include.list", String.join(",", schemaList));
+        }
+        if (tableList != null) {
+            props.setProperty("table.include.list", String.join(",", tableList));
+        }
+
+        // override the user-defined debezium properties
+        if (dbzProperties != null) {
+            dbzProperties.forEach(props::put);
+        }
+
+        // the snapshot is skipped the same as the debezium connector with snapshot mode 'never'
+        boolean snapshotEnabled =
+                !PostgresConnectorConfig.SnapshotMode.NEVER
+                        .getValue()
+                        .equalsIgnoreCase(
+                                props.getProperty(
+                                        PostgresConnectorConfig.SNAPSHOT_MODE.name(),
+                                        PostgresConnectorConfig.SnapshotMode.INITIAL.getValue()));
+
+        return new PostgresSourceConfig(
+                hostname,
+                port,
+                username,
+                password,
+                database,
+                schemaList,
+                tableList == null ? Collections.emptyList() : tableList,
+                slotName,
+                subtaskId,
+                snapshotEnabled,
+                splitSize,
+                splitMetaGroupSize,
+                fetchSize,
+                connectTimeout,
+                connectMaxRetries,
+                evenlyDistributionFactor,
+                includeSchemaChanges,
+                chunkKeyColumn,
+                exportSnapshotEnabled,
+                streamSlotCount,
+                props);
+    }
+}
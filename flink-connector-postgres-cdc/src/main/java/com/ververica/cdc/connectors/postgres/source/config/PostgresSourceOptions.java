@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.config;
+
+import org.apache.flink.annotation.Experimental;
+import org.apache.flink.configuration.ConfigOption;
+import org.apache.flink.configuration.ConfigOptions;
+
+import com.ververica.cdc.connectors.postgres.source.PostgresIncrementalSource;
+
+import java.time.Duration;
+
+/** Configurations for {@link PostgresIncrementalSource}. */
+public class PostgresSourceOptions {
+
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_ENABLED =
+            ConfigOptions.key("scan.incremental.snapshot.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Incremental snapshot is a new mechanism to read snapshot of a table. "
+                                    + "Compared to the old snapshot mechanism, the incremental snapshot has many advantages, including:\n"
+                                    + "(1) source can be parallel during snapshot reading, \n"
+                                    + "(2) source can perform checkpoints in the chunk granularity during snapshot reading, \n"
+                                    + "(3) source doesn't need to hold the checkpoint lock during snapshot reading.\n"
+                                    + "Every parallel reader creates a replication slot named '<slot.name>_<subtask index>' "
+                                    + "to read the changes during the snapshot of chunks, so the server should allow "
+                                    + "max_replication_slots larger than the parallelism.");
+
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.size")
+                    .intType()
+                    .defaultValue(8096)
+                    .withDescription(
+                            "The chunk size (number of rows) of table snapshot, captured tables are split into multiple chunks when read the snapshot of table.");
+
+    public static final ConfigOption<String> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.key-column")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The column used to split the captured tables into chunks when read the snapshot of table. "
+                                    + "For tables with primary key, the column must be one of the primary key columns. "
+                                    + "For tables without primary key, the column is also used as the row identity to merge the "
+                                    + "changes into the chunk, so it must be a not null column with a single-column unique index. "
+                                    + "By default, the first primary key column is used, tables without primary key "
+                                    + "are split by the physical row location (ctid) and their changes are delivered at least once.");
+
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_EXPORT_ENABLED =
+            ConfigOptions.key("scan.incremental.snapshot.export.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read the chunks from the snapshot exported by the creation of the replication slot. "
+                                    + "The chunks are read from the same consistent snapshot without reading back the changes "
+                                    + "during the snapshot of chunks, and the changes are read from the consistent point of the slot. "
+                                    + "The snapshot is only exported when the slot doesn't exist, it's held until all the chunks "
+                                    + "are read, otherwise the chunks are read between watermarks as usual.");
+
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_STREAM_SLOTS =
+            ConfigOptions.key("scan.incremental.stream.slots")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of replication slots to read the changes from after the snapshot. "
+                                    + "The captured tables are distributed to the slots by the hash of table identifiers "
+                                    + "and each slot is read by a different parallel reader, the slots are named "
+                                    + "'<slot.name>_stream_<index>' and the publications of the pgoutput plugin are named "
+                                    + "'<publication.name>_<index>', which only include the tables of the slot. "
+                                    + "The snapshot export is only supported by a single slot.");
+
+    public static final ConfigOption<Integer> SCAN_SNAPSHOT_FETCH_SIZE =
+            ConfigOptions.key("scan.snapshot.fetch.size")
+                    .intType()
+                    .defaultValue(1024)
+                    .withDescription(
+                            "The maximum fetch size for per poll when read table snapshot.");
+
+    public static final ConfigOption<Duration> CONNECT_TIMEOUT =
+            ConfigOptions.key("connect.timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofSeconds(30))
+                    .withDescription(
+                            "The maximum time that the connector should wait after trying to connect to the PostgreSQL database server before timing out.");
+
+    public static final ConfigOption<Integer> CONNECT_MAX_RETRIES =
+            ConfigOptions.key("connect.max-retries")
+                    .intType()
+                    .defaultValue(3)
+                    .withDescription(
+                            "The max retry times that the connector should retry to build PostgreSQL database server connection.");
+
+    // ----------------------------------------------------------------------------
+    // experimental options, won't add them to documentation
+    // ----------------------------------------------------------------------------
+    @Experimental
+    public static final ConfigOption<Integer> CHUNK_META_GROUP_SIZE =
+            ConfigOptions.key("chunk-meta.group.size")
+                    .intType()
+                    .defaultValue(1000)
+                    .withDescription(
+                            "The group size of chunk meta, if the meta size exceeds the group size, the meta will be will be divided into multiple groups.");
+
+    @Experimental
+    public static final ConfigOption<Double> EVENLY_DISTRIBUTION_FACTOR =
+            ConfigOptions.key("evenly-distribution.factor")
+                    .doubleType()
+                    .defaultValue(1000.0d)
+                    .withDescription(
+                            "The factor is used to determine whether the table is evenly distribution or not."
+                                    + " the table chunks would use evenly calculation optimization when the data distribution is even,"
+                                    + " and the sql query would be used when it is uneven."
+                                    + " The distribution factor could be calculated by MAX(id) - MIN(id) + 1 / rowCount.");
+}
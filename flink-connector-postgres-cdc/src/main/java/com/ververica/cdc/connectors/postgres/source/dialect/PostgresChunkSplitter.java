@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.dialect;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.api.ValidationException;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import com.ververica.cdc.connectors.postgres.source.offset.PostgresOffset;
+import com.ververica.cdc.connectors.postgres.source.utils.PostgresQueryUtils;
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkRange;
+import com.ververica.cdc.debezium.source.assigner.splitter.JdbcSourceChunkSplitter;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.postgres.source.utils.PostgresQueryUtils.CTID_COLUMN;
+
+/**
+ * The {@link JdbcSourceChunkSplitter} of PostgreSQL.
+ *
+ * <p>The tables without primary key and configured chunk key column are split by the physical
+ * location of rows, i.e. the {@code ctid} system column, into chunks of continuous pages. The
+ * changes of such tables can't be matched to the chunks, so their chunks are not backfilled and the
+ * changes after the high watermark of any chunk are emitted, which delivers the changes at least
+ * once during the snapshot phase. The scan of a page range is efficient since PostgreSQL 14, which
+ * supports the TID range scan.
+ *
+ * <p>The splits carry the snapshot exported by the {@link PostgresDialect} if it's available, all
+ * the splits are read from the same snapshot then, including the splits of tables without primary
+ * key.
+ */
+public class PostgresChunkSplitter extends JdbcSourceChunkSplitter<PostgresSourceConfig> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresChunkSplitter.class);
+
+    /** The type of split key of the tables split by the location of rows. */
+    public static final RowType CTID_SPLIT_TYPE =
+            (RowType)
+                    DataTypes.ROW(DataTypes.FIELD(CTID_COLUMN, DataTypes.STRING()))
+                            .getLogicalType();
+
+    private final PostgresDialect postgresDialect;
+
+    public PostgresChunkSplitter(PostgresSourceConfig sourceConfig, PostgresDialect dialect) {
+        super(sourceConfig, dialect);
+        this.postgresDialect = dialect;
+    }
+
+    @Override
+    public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+        final Collection<SnapshotSplit> splits = generateChunkSplits(tableId);
+        final PostgresOffset exportedSnapshot = postgresDialect.getExportedSnapshot();
+        if (exportedSnapshot == null) {
+            return splits;
+        }
+        final List<SnapshotSplit> snapshotSplits = new ArrayList<>(splits.size());
+        for (SnapshotSplit split : splits) {
+            snapshotSplits.add(
+                    new SnapshotSplit(
+                            split.getTableId(),
+                            split.splitId(),
+                            split.getSplitKeyType(),
+                            split.getSplitStart(),
+                            split.getSplitEnd(),
+                            split.getHighWatermark(),
+                            split.getTableSchemas(),
+                            exportedSnapshot));
+        }
+        return snapshotSplits;
+    }
+
+    private Collection<SnapshotSplit> generateChunkSplits(TableId tableId) {
+        final TableChange tableSchema;
+        final List<ChunkRange> chunks;
+        try (JdbcConnection jdbc = dialect.openJdbcConnection(sourceConfig)) {
+            tableSchema = dialect.queryTableSchema(jdbc, tableId);
+            if (!isSplitByRowLocation(tableSchema.getTable(), sourceConfig.getChunkKeyColumn())) {
+                validateChunkKeyColumn(
+                        jdbc, tableSchema.getTable(), sourceConfig.getChunkKeyColumn());
+                return super.generateSplits(tableId);
+            }
+            LOG.info("Start splitting table {} into chunks by the location of rows...", tableId);
+            chunks = splitTableIntoPageRanges(jdbc, tableId);
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException("Failed to split chunks for table " + tableId, e);
+        }
+
+        Map<TableId, TableChange> schema = new HashMap<>();
+        schema.put(tableId, tableSchema);
+        List<SnapshotSplit> splits = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            ChunkRange chunk = chunks.get(i);
+            splits.add(
+                    new SnapshotSplit(
+                            tableId,
+                            splitId(tableId, i),
+                            CTID_SPLIT_TYPE,
+                            chunk.getChunkStart() == null
+                                    ? null
+                                    : new Object[] {chunk.getChunkStart()},
+                            chunk.getChunkEnd() == null ? null : new Object[] {chunk.getChunkEnd()},
+                            null,
+                            schema));
+        }
+        LOG.info("Split table {} into {} chunks by the location of rows.", tableId, splits.size());
+        return splits;
+    }
+
+    /** Returns whether the table is split by the location of rows. */
+    public static boolean isSplitByRowLocation(Table table, @Nullable String chunkKeyColumn) {
+        return chunkKeyColumn == null && table.primaryKeyColumns().isEmpty();
+    }
+
+    /**
+     * Returns the column used to split the table, which is the configured chunk key column or the
+     * first primary key column, or null if the table is split by the location of rows. The
+     * configured chunk key column of tables without primary key is validated when the table is
+     * split.
+     */
+    @Nullable
+    public static Column getSplitColumn(Table table, @Nullable String chunkKeyColumn) {
+        if (isSplitByRowLocation(table, chunkKeyColumn)) {
+            return null;
+        }
+        return chunkKeyColumn != null
+                ? table.columnWithName(chunkKeyColumn)
+                : table.primaryKeyColumns().get(0);
+    }
+
+    /**
+     * Validates the configured chunk key column of the table without primary key, it identifies
+     * the rows when merging the changes into the chunks, so it must be a not null column with a
+     * single-column unique index, otherwise the distinct rows sharing a value would be merged.
+     */
+    private static void validateChunkKeyColumn(
+            JdbcConnection jdbc, Table table, @Nullable String chunkKeyColumn) throws SQLException {
+        if (chunkKeyColumn == null || !table.primaryKeyColumns().isEmpty()) {
+            return;
+        }
+        final Column column = table.columnWithName(chunkKeyColumn);
+        if (column != null
+                && (column.isOptional()
+                        || !PostgresQueryUtils.queryUniqueKeyColumns(jdbc, table.id())
+                                .contains(column.name()))) {
+            throw new ValidationException(
+                    String.format(
+                            "The chunk key column %s of table %s without primary key must be a not null column"
+                                    + " with a single-column unique index, as it identifies the rows of the table.",
+                            chunkKeyColumn, table.id()));
+        }
+    }
+
+    private List<ChunkRange> splitTableIntoPageRanges(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final long pageCnt = PostgresQueryUtils.queryPageCnt(jdbc, tableId);
+        long rowCnt = PostgresQueryUtils.queryApproximateRowCnt(jdbc, tableId);
+        if (rowCnt <= 0 && pageCnt > 0) {
+            // the table has never been analyzed
+            rowCnt = PostgresQueryUtils.queryRowCnt(jdbc, tableId);
+        }
+        return splitPageRanges(pageCnt, rowCnt, sourceConfig.getSplitSize());
+    }
+
+    /**
+     * Splits the pages of the table into the ranges of about {@code chunkSize} rows, the bounds of
+     * ranges are the first tuples of pages.
+     */
+    @VisibleForTesting
+    static List<ChunkRange> splitPageRanges(long pageCnt, long rowCnt, int chunkSize) {
+        if (pageCnt <= 0 || rowCnt <= chunkSize) {
+            return Collections.singletonList(ChunkRange.all());
+        }
+
+        // the pages after the last chunk start belong to the last chunk, i.e. the pages of the
+        // rows inserted after splitting are read by the last chunk
+        final long pagesPerChunk =
+                Math.max(1L, (long) Math.ceil(chunkSize * pageCnt / (double) rowCnt));
+        final List<ChunkRange> splits = new ArrayList<>();
+        Object chunkStart = null;
+        for (long chunkEnd = pagesPerChunk; chunkEnd < pageCnt; chunkEnd += pagesPerChunk) {
+            Object end = pageStart(chunkEnd);
+            splits.add(ChunkRange.of(chunkStart, end));
+            chunkStart = end;
+        }
+        splits.add(ChunkRange.of(chunkStart, null));
+        return splits;
+    }
+
+    private static String pageStart(long page) {
+        return "(" + page + ",0)";
+    }
+}
@@ -0,0 +1,470 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.dialect;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.table.types.DataType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import com.ververica.cdc.connectors.postgres.source.fetch.PostgresScanFetchTask;
+import com.ververica.cdc.connectors.postgres.source.fetch.PostgresSourceFetchTaskContext;
+import com.ververica.cdc.connectors.postgres.source.fetch.PostgresStreamFetchTask;
+import com.ververica.cdc.connectors.postgres.source.offset.PostgresOffset;
+import com.ververica.cdc.connectors.postgres.source.utils.PostgresQueryUtils;
+import com.ververica.cdc.connectors.postgres.source.utils.PostgresTypeUtils;
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkSplitter;
+import com.ververica.cdc.debezium.source.dialect.JdbcDataSourceDialect;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresObjectUtils;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresTaskContext;
+import io.debezium.connector.postgresql.PostgresTopicSelector;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.connector.postgresql.spi.SlotCreationResult;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
+import io.debezium.schema.TopicSelector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.ververica.cdc.debezium.source.assigner.StreamSplitAssigner.STREAM_SPLIT_ID;
+
+/**
+ * The {@link JdbcDataSourceDialect} of PostgreSQL.
+ *
+ * <p>If multiple stream slots are configured, the captured tables are distributed to the slots and
+ * the changes of each slot are read by a stream split, which is assigned to a different reader.
+ * Every stream split flushes its own offsets to its slot.
+ */
+public class PostgresDialect implements JdbcDataSourceDialect<PostgresSourceConfig> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresDialect.class);
+
+    /** The prefix of the ids of the stream splits of the slots, which ends with the slot index. */
+    private static final String SLOT_STREAM_SPLIT_ID_PREFIX = STREAM_SPLIT_ID + ":";
+
+    private static final String PGOUTPUT_PLUGIN_NAME = "pgoutput";
+
+    // the stream tasks of the subtask by split id, the offsets of completed checkpoints are
+    // committed by them
+    private transient Map<String, PostgresStreamFetchTask> streamFetchTasks;
+
+    // the replication connection of the enumerator which created the slot of stream split, the
+    // snapshot exported by the slot creation is valid until the connection is closed
+    private transient ReplicationConnection snapshotExportConnection;
+    private transient volatile PostgresOffset exportedSnapshot;
+
+    @Override
+    public String getName() {
+        return "PostgreSQL";
+    }
+
+    @Override
+    public PostgresConnection openJdbcConnection(PostgresSourceConfig sourceConfig) {
+        return new PostgresConnection(sourceConfig.getDbzConnectorConfig().jdbcConfig());
+    }
+
+    @Override
+    public List<TableId> discoverDataCollections(PostgresSourceConfig sourceConfig) {
+        final PostgresConnectorConfig connectorConfig = sourceConfig.getDbzConnectorConfig();
+        try (PostgresConnection jdbc = openJdbcConnection(sourceConfig)) {
+            final List<TableId> capturedTableIds = new ArrayList<>();
+            for (TableId tableId :
+                    jdbc.readTableNames(
+                            sourceConfig.getDatabase(), null, null, new String[] {"TABLE"})) {
+                if (connectorConfig.getTableFilters().dataCollectionFilter().isIncluded(tableId)) {
+                    capturedTableIds.add(tableId);
+                    LOG.info("\t including '{}' for further processing", tableId);
+                } else {
+                    LOG.debug("\t '{}' is filtered out of capturing", tableId);
+                }
+            }
+            return capturedTableIds;
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException("Error to discover tables: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<TableId, TableChange> discoverDataCollectionSchemas(
+            PostgresSourceConfig sourceConfig) {
+        final List<TableId> capturedTableIds = discoverDataCollections(sourceConfig);
+        try (PostgresConnection jdbc = openJdbcConnection(sourceConfig)) {
+            Map<TableId, TableChange> tableSchemas = new HashMap<>();
+            for (TableId tableId : capturedTableIds) {
+                tableSchemas.put(tableId, queryTableSchema(jdbc, tableId));
+            }
+            return tableSchemas;
+        }
+    }
+
+    @Override
+    public Offset displayCurrentOffset(PostgresSourceConfig sourceConfig) {
+        try (PostgresConnection jdbc = openJdbcConnection(sourceConfig)) {
+            return PostgresOffset.ofLsn(Lsn.valueOf(jdbc.currentXLogLocation()));
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(
+                    "Read the current WAL position error: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isDataCollectionIdCaseSensitive(PostgresSourceConfig sourceConfig) {
+        // the unquoted identifiers are folded to lower case, the quoted identifiers are kept
+        return true;
+    }
+
+    @Override
+    public ChunkSplitter createChunkSplitter(PostgresSourceConfig sourceConfig) {
+        return new PostgresChunkSplitter(sourceConfig, this);
+    }
+
+    @Override
+    public TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
+        final Tables tables = new Tables();
+        try {
+            jdbc.readSchema(
+                    tables,
+                    null,
+                    tableId.schema(),
+                    Tables.TableFilter.fromPredicate(tableId::equals),
+                    null,
+                    false);
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(
+                    "Read the schema of table " + tableId + " error: " + e.getMessage(), e);
+        }
+        final Table table = tables.forTable(tableId);
+        if (table == null) {
+            throw new FlinkRuntimeException("Can't find the schema of table " + tableId);
+        }
+        return new TableChange(TableChangeType.CREATE, table);
+    }
+
+    @Override
+    public DataType fromDbzColumn(Column splitColumn) {
+        return PostgresTypeUtils.fromDbzColumn(splitColumn);
+    }
+
+    @Override
+    public Object[] queryMinMax(JdbcConnection jdbc, TableId tableId, String columnName)
+            throws SQLException {
+        return PostgresQueryUtils.queryMinMax(jdbc, tableId, columnName);
+    }
+
+    @Override
+    public Object queryMin(
+            JdbcConnection jdbc, TableId tableId, String columnName, Object excludedLowerBound)
+            throws SQLException {
+        return PostgresQueryUtils.queryMin(jdbc, tableId, columnName, excludedLowerBound);
+    }
+
+    @Override
+    public Object queryNextChunkMax(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String columnName,
+            int chunkSize,
+            Object includedLowerBound)
+            throws SQLException {
+        return PostgresQueryUtils.queryNextChunkMax(
+                jdbc, tableId, columnName, chunkSize, includedLowerBound);
+    }
+
+    @Override
+    public long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId) throws SQLException {
+        return PostgresQueryUtils.queryApproximateRowCnt(jdbc, tableId);
+    }
+
+    @Override
+    public List<StreamSplit> splitStream(
+            StreamSplit streamSplit, PostgresSourceConfig sourceConfig) {
+        final int streamSlotCount = sourceConfig.getStreamSlotCount();
+        if (streamSlotCount == 1) {
+            return Collections.singletonList(streamSplit);
+        }
+        final List<StreamSplit> slotStreamSplits = new ArrayList<>();
+        for (int i = 0; i < streamSlotCount; i++) {
+            slotStreamSplits.add(
+                    new StreamSplit(
+                            SLOT_STREAM_SPLIT_ID_PREFIX + i,
+                            streamSplit.getStartingOffset(),
+                            streamSplit.getEndingOffset(),
+                            streamSplit.getFinishedSnapshotSplitInfos(),
+                            streamSplit.getTableSchemas(),
+                            streamSplit.getTotalFinishedSplitSize()));
+        }
+        LOG.info("The stream split is split into the stream splits of {} slots.", streamSlotCount);
+        return slotStreamSplits;
+    }
+
+    /**
+     * Returns the index of the stream slot read by the stream split, the stream split of a single
+     * slot reads the slot of index 0.
+     */
+    public static int getStreamSlot(StreamSplit split) {
+        final String splitId = split.splitId();
+        if (splitId.startsWith(SLOT_STREAM_SPLIT_ID_PREFIX)) {
+            return Integer.parseInt(splitId.substring(SLOT_STREAM_SPLIT_ID_PREFIX.length()));
+        }
+        return 0;
+    }
+
+    @Override
+    public FetchTask.Context createFetchTaskContext(
+            SourceSplitBase sourceSplitBase, PostgresSourceConfig sourceConfig) {
+        return new PostgresSourceFetchTaskContext(sourceConfig, this);
+    }
+
+    @Override
+    public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
+        if (sourceSplitBase.isSnapshotSplit()) {
+            return new PostgresScanFetchTask(sourceSplitBase.asSnapshotSplit());
+        } else {
+            PostgresStreamFetchTask streamFetchTask =
+                    new PostgresStreamFetchTask(sourceSplitBase.asStreamSplit());
+            getStreamFetchTasks().put(sourceSplitBase.splitId(), streamFetchTask);
+            return streamFetchTask;
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId, String splitId, Offset offset)
+            throws Exception {
+        final PostgresStreamFetchTask streamFetchTask = getStreamFetchTasks().get(splitId);
+        if (streamFetchTask != null) {
+            streamFetchTask.commitCurrentOffset((PostgresOffset) offset);
+        }
+    }
+
+    private synchronized Map<String, PostgresStreamFetchTask> getStreamFetchTasks() {
+        if (streamFetchTasks == null) {
+            streamFetchTasks = new ConcurrentHashMap<>();
+        }
+        return streamFetchTasks;
+    }
+
+    /**
+     * Creates the replication slots of the stream splits if they don't exist yet. Each slot of
+     * multiple stream slots decodes the changes of its publication, which only includes the tables
+     * of the slot, so the publications are created before the slots.
+     */
+    public void ensureStreamSlots(PostgresSourceConfig sourceConfig) {
+        final int streamSlotCount = sourceConfig.getStreamSlotCount();
+        if (streamSlotCount == 1) {
+            ensureReplicationSlot(sourceConfig, sourceConfig.getSlotName());
+            return;
+        }
+        final List<TableId> capturedTableIds = discoverDataCollections(sourceConfig);
+        for (int i = 0; i < streamSlotCount; i++) {
+            final PostgresConnectorConfig connectorConfig =
+                    sourceConfig.getStreamConnectorConfig(i);
+            if (PGOUTPUT_PLUGIN_NAME.equals(PostgresObjectUtils.getPluginName(connectorConfig))) {
+                ensurePublication(
+                        sourceConfig,
+                        sourceConfig.getStreamPublicationName(i),
+                        getStreamSlotTables(sourceConfig, capturedTableIds, i));
+            }
+            ensureReplicationSlot(sourceConfig, connectorConfig, sourceConfig.getStreamSlotName(i));
+        }
+    }
+
+    private void ensurePublication(
+            PostgresSourceConfig sourceConfig, String publicationName, List<TableId> tableIds) {
+        try (PostgresConnection jdbc = openJdbcConnection(sourceConfig)) {
+            final boolean exists =
+                    jdbc.queryAndMap(
+                            String.format(
+                                    "SELECT COUNT(1) FROM pg_publication WHERE pubname = '%s'",
+                                    publicationName),
+                            rs -> rs.next() && rs.getLong(1) > 0);
+            if (exists) {
+                LOG.info("The publication {} exists already", publicationName);
+                return;
+            }
+            LOG.info("Creating the publication {} of tables {}", publicationName, tableIds);
+            jdbc.execute(createPublicationStatement(publicationName, tableIds));
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(
+                    "Failed to create the publication " + publicationName + ": " + e.getMessage(),
+                    e);
+        }
+    }
+
+    /** Returns the tables of the given tables whose changes are read from the given stream slot. */
+    @VisibleForTesting
+    static List<TableId> getStreamSlotTables(
+            PostgresSourceConfig sourceConfig, List<TableId> tableIds, int streamSlot) {
+        return tableIds.stream()
+                .filter(tableId -> sourceConfig.getStreamSlot(tableId) == streamSlot)
+                .collect(Collectors.toList());
+    }
+
+    @VisibleForTesting
+    static String createPublicationStatement(String publicationName, List<TableId> tableIds) {
+        // the publication without tables is valid, it decodes no changes
+        final String createPublication =
+                "CREATE PUBLICATION " + PostgresQueryUtils.quote(publicationName);
+        if (tableIds.isEmpty()) {
+            return createPublication;
+        }
+        return createPublication
+                + " FOR TABLE "
+                + tableIds.stream()
+                        .map(PostgresQueryUtils::quote)
+                        .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Creates the replication slot (and the publication of the pgoutput plugin) of the stream split
+     * if it doesn't exist yet, the slot retains the changes since it's created, so it must exist
+     * before the low watermark of the first snapshot split is taken.
+     */
+    public void ensureReplicationSlot(PostgresSourceConfig sourceConfig, String slotName) {
+        ensureReplicationSlot(sourceConfig, sourceConfig.getDbzConnectorConfig(), slotName);
+    }
+
+    private void ensureReplicationSlot(
+            PostgresSourceConfig sourceConfig,
+            PostgresConnectorConfig connectorConfig,
+            String slotName) {
+        final TopicSelector<TableId> topicSelector = PostgresTopicSelector.create(connectorConfig);
+        try (PostgresConnection jdbc = openJdbcConnection(sourceConfig)) {
+            final PostgresSchema schema =
+                    PostgresObjectUtils.newSchema(
+                            jdbc, connectorConfig, jdbc.getTypeRegistry(), topicSelector);
+            final PostgresTaskContext taskContext =
+                    PostgresObjectUtils.newTaskContext(connectorConfig, schema, topicSelector);
+            try (ReplicationConnection replicationConnection =
+                    PostgresObjectUtils.createReplicationConnection(taskContext, slotName)) {
+                replicationConnection.initConnection();
+            }
+        } catch (Exception e) {
+            throw new FlinkRuntimeException(
+                    "Failed to create the replication slot " + slotName + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates the replication slot of the stream split and holds the snapshot exported by the slot
+     * creation, the snapshot splits are read from the snapshot and the stream split starts from the
+     * consistent point of the slot. The snapshot is only exported when the slot is created, so it
+     * returns false if the slot exists already or the server doesn't export the snapshot.
+     */
+    public boolean exportSnapshot(PostgresSourceConfig sourceConfig) {
+        final String slotName = sourceConfig.getSlotName();
+        final PostgresConnectorConfig connectorConfig = sourceConfig.getDbzConnectorConfig();
+        final TopicSelector<TableId> topicSelector = PostgresTopicSelector.create(connectorConfig);
+        ReplicationConnection replicationConnection = null;
+        try (PostgresConnection jdbc = openJdbcConnection(sourceConfig)) {
+            if (jdbc.getReplicationSlotState(
+                            slotName, PostgresObjectUtils.getPluginName(connectorConfig))
+                    != null) {
+                LOG.info(
+                        "The replication slot {} exists already, the snapshot splits are read between watermarks.",
+                        slotName);
+                return false;
+            }
+            final PostgresSchema schema =
+                    PostgresObjectUtils.newSchema(
+                            jdbc, connectorConfig, jdbc.getTypeRegistry(), topicSelector);
+            final PostgresTaskContext taskContext =
+                    PostgresObjectUtils.newTaskContext(connectorConfig, schema, topicSelector);
+            replicationConnection =
+                    PostgresObjectUtils.createReplicationConnection(taskContext, slotName);
+            final Optional<SlotCreationResult> slot = replicationConnection.createReplicationSlot();
+            if (!slot.isPresent() || slot.get().snapshotName() == null) {
+                LOG.info(
+                        "The replication slot {} is created without exported snapshot, the snapshot splits are read between watermarks.",
+                        slotName);
+                replicationConnection.close();
+                return false;
+            }
+            this.snapshotExportConnection = replicationConnection;
+            this.exportedSnapshot =
+                    PostgresOffset.ofExportedSnapshot(
+                            slot.get().startLsn(), slot.get().snapshotName());
+            LOG.info(
+                    "Created the replication slot {} with exported snapshot {}",
+                    slotName,
+                    exportedSnapshot);
+            return true;
+        } catch (Exception e) {
+            if (replicationConnection != null) {
+                closeQuietly(replicationConnection);
+            }
+            throw new FlinkRuntimeException(
+                    "Failed to create the replication slot " + slotName + ": " + e.getMessage(), e);
+        }
+    }
+
+    /** Returns the snapshot exported by {@link #exportSnapshot}, or null if it's not exported. */
+    @Nullable
+    public PostgresOffset getExportedSnapshot() {
+        return exportedSnapshot;
+    }
+
+    /**
+     * Releases the exported snapshot, the snapshot holds back the vacuum of the server, so it's
+     * released as soon as the snapshot splits are finished.
+     */
+    public void releaseExportedSnapshot() {
+        final ReplicationConnection replicationConnection = this.snapshotExportConnection;
+        if (replicationConnection != null) {
+            LOG.info("Releasing the exported snapshot {}", exportedSnapshot);
+            this.snapshotExportConnection = null;
+            this.exportedSnapshot = null;
+            closeQuietly(replicationConnection);
+        }
+    }
+
+    private static void closeQuietly(ReplicationConnection replicationConnection) {
+        try {
+            replicationConnection.close();
+        } catch (Exception e) {
+            LOG.warn("Failed to close the replication connection", e);
+        }
+    }
+}
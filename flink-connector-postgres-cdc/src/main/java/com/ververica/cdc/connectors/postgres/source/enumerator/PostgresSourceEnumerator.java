@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.enumerator;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import com.ververica.cdc.connectors.postgres.source.dialect.PostgresDialect;
+import com.ververica.cdc.debezium.source.assigner.SplitAssigner;
+import com.ververica.cdc.debezium.source.enumerator.IncrementalSourceEnumerator;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.SourceSplitSerializer;
+
+/**
+ * The enumerator of PostgreSQL, it releases the snapshot exported by the {@link PostgresDialect}
+ * once all the snapshot splits are finished or the enumerator closes.
+ */
+@Internal
+public class PostgresSourceEnumerator extends IncrementalSourceEnumerator {
+
+    private final PostgresDialect dialect;
+
+    public PostgresSourceEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> context,
+            PostgresSourceConfig sourceConfig,
+            SplitAssigner splitAssigner,
+            SourceSplitSerializer splitSerializer,
+            PostgresDialect dialect) {
+        super(context, sourceConfig, splitAssigner, splitSerializer);
+        this.dialect = dialect;
+    }
+
+    @Override
+    protected void onStreamSplitAssigned() {
+        dialect.releaseExportedSnapshot();
+    }
+
+    @Override
+    public void close() {
+        dialect.releaseExportedSnapshot();
+        super.close();
+    }
+}
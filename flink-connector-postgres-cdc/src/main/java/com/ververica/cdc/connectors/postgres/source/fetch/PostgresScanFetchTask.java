@@ -0,0 +1,384 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.fetch;
+
+import com.ververica.cdc.connectors.postgres.source.offset.PostgresOffset;
+import com.ververica.cdc.connectors.postgres.source.utils.PostgresQueryUtils;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.watermark.WatermarkDispatcher;
+import com.ververica.cdc.debezium.source.watermark.WatermarkKind;
+import io.debezium.connector.postgresql.PostgresOffsetContext;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.connector.postgresql.snapshot.NeverSnapshotter;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.ChangeEventSource;
+import io.debezium.relational.Column;
+import io.debezium.relational.SnapshotChangeRecordEmitter;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
+import io.debezium.util.Strings;
+import org.postgresql.util.PGmoney;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static com.ververica.cdc.connectors.postgres.source.utils.PostgresQueryUtils.CTID_COLUMN;
+import static com.ververica.cdc.connectors.postgres.source.utils.PostgresQueryUtils.quote;
+
+/**
+ * The task to read a snapshot split of PostgreSQL.
+ *
+ * <p>The task reads the rows of split between the low and high watermarks, and then reads the
+ * changes of the split between the watermarks from the backfill replication slot of the subtask.
+ * The backfill stops at the high watermark and the slot is advanced to it afterwards, so the next
+ * split starts reading the slot after the high watermark of the previous split.
+ *
+ * <p>The split carrying an exported snapshot is read from the snapshot in a repeatable read
+ * transaction without backfill. All the changes streamed by the slot which exported the snapshot
+ * are committed after the snapshot, so the watermarks of such split are the initial offset and the
+ * stream split emits all the changes from the position of the slot. The split falls back to be read
+ * between watermarks if the snapshot can't be imported, e.g. the enumerator which held the snapshot
+ * has been restarted.
+ */
+public class PostgresScanFetchTask implements FetchTask<SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresScanFetchTask.class);
+
+    private static final int MONEY_OID = 790;
+    private static final int TIME_OID = 1083;
+    private static final int TIMETZ_OID = 1266;
+    private static final int BIT_OID = 1560;
+    private static final int NUMERIC_OID = 1700;
+
+    private final SnapshotSplit split;
+    private volatile boolean taskRunning = false;
+
+    public PostgresScanFetchTask(SnapshotSplit split) {
+        this.split = split;
+    }
+
+    @Override
+    public void execute(Context context) throws Exception {
+        final PostgresSourceFetchTaskContext ctx = (PostgresSourceFetchTaskContext) context;
+        taskRunning = true;
+        try {
+            readSplit(ctx);
+        } finally {
+            taskRunning = false;
+        }
+    }
+
+    private void readSplit(PostgresSourceFetchTaskContext ctx) throws Exception {
+        final PostgresConnection jdbc = ctx.getConnection();
+        final WatermarkDispatcher watermarkDispatcher =
+                new WatermarkDispatcher(
+                        ctx.getPartition(),
+                        ctx.getTopicSelector().topicNameFor(split.getTableId()),
+                        ctx.getQueue());
+
+        final PostgresOffset exportedSnapshot = (PostgresOffset) split.getSnapshotOffset();
+        if (exportedSnapshot != null && importSnapshot(jdbc, exportedSnapshot)) {
+            readSplitFromSnapshot(ctx, watermarkDispatcher, exportedSnapshot);
+            return;
+        }
+        ctx.ensureBackfillSlot();
+
+        final PostgresOffset lowWatermark = currentOffset(jdbc);
+        LOG.info(
+                "Snapshot step 1 - Determining low watermark {} for split {}", lowWatermark, split);
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), lowWatermark, WatermarkKind.LOW);
+
+        LOG.info("Snapshot step 2 - Snapshotting data");
+        createDataEvents(ctx, ctx.loadOffsetContext(lowWatermark));
+
+        final boolean isSplitByRowLocation =
+                CTID_COLUMN.equals(split.getSplitKeyType().getFieldNames().get(0));
+        // the changes of tables split by the location of rows can't be matched to the split, they
+        // are emitted by the stream split after the low watermark
+        final PostgresOffset highWatermark =
+                isSplitByRowLocation ? lowWatermark : currentOffset(jdbc);
+        LOG.info(
+                "Snapshot step 3 - Determining high watermark {} for split {}",
+                highWatermark,
+                split);
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), highWatermark, WatermarkKind.HIGH);
+
+        if (highWatermark.isAfter(lowWatermark)) {
+            LOG.info(
+                    "Snapshot step 4 - Back fill the changes between {} and {} for split {}",
+                    lowWatermark,
+                    highWatermark,
+                    split);
+            backfill(ctx, lowWatermark, highWatermark);
+        }
+        watermarkDispatcher.dispatchWatermarkEvent(
+                split.splitId(), highWatermark, WatermarkKind.END);
+    }
+
+    private void readSplitFromSnapshot(
+            PostgresSourceFetchTaskContext ctx,
+            WatermarkDispatcher watermarkDispatcher,
+            PostgresOffset exportedSnapshot)
+            throws Exception {
+        final PostgresOffset watermark = PostgresOffset.INITIAL_OFFSET;
+        watermarkDispatcher.dispatchWatermarkEvent(split.splitId(), watermark, WatermarkKind.LOW);
+        LOG.info(
+                "Snapshot step 1 - Snapshotting data of split {} from exported snapshot {}",
+                split,
+                exportedSnapshot);
+        createDataEvents(ctx, ctx.loadOffsetContext(exportedSnapshot));
+        watermarkDispatcher.dispatchWatermarkEvent(split.splitId(), watermark, WatermarkKind.HIGH);
+        watermarkDispatcher.dispatchWatermarkEvent(split.splitId(), watermark, WatermarkKind.END);
+    }
+
+    /**
+     * Starts a repeatable read transaction with the exported snapshot, the transaction is ended by
+     * the scan of split. Returns false if the snapshot is not valid anymore.
+     */
+    private boolean importSnapshot(PostgresConnection jdbc, PostgresOffset exportedSnapshot) {
+        try {
+            jdbc.setAutoCommit(false);
+            jdbc.executeWithoutCommitting(
+                    "SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY",
+                    String.format(
+                            "SET TRANSACTION SNAPSHOT '%s'", exportedSnapshot.getSnapshotName()));
+            return true;
+        } catch (SQLException e) {
+            LOG.warn(
+                    "Failed to import the exported snapshot {}, the split {} is read between watermarks.",
+                    exportedSnapshot,
+                    split.splitId(),
+                    e);
+            try {
+                jdbc.rollback();
+            } catch (SQLException rollbackException) {
+                e.addSuppressed(rollbackException);
+            }
+            return false;
+        }
+    }
+
+    private void createDataEvents(
+            PostgresSourceFetchTaskContext ctx, PostgresOffsetContext offsetContext)
+            throws Exception {
+        final PostgresConnection jdbc = ctx.getConnection();
+        final PostgresSchema schema = ctx.getSchema();
+        final EventDispatcher<TableId> dispatcher = ctx.getDispatcher();
+        final EventDispatcher.SnapshotReceiver snapshotReceiver =
+                dispatcher.getSnapshotChangeEventReceiver();
+        final Table table = schema.tableFor(split.getTableId());
+        final Clock clock = Clock.SYSTEM;
+
+        final String splitColumn = split.getSplitKeyType().getFieldNames().get(0);
+        final String selectSql =
+                PostgresQueryUtils.buildSplitScanQuery(
+                        split.getTableId(),
+                        CTID_COLUMN.equals(splitColumn) ? CTID_COLUMN : quote(splitColumn),
+                        split.getSplitStart() == null,
+                        split.getSplitEnd() == null);
+        LOG.info(
+                "For split '{}' of table {} using select statement: '{}'",
+                split.splitId(),
+                table.id(),
+                selectSql);
+
+        long exportStart = clock.currentTimeInMillis();
+        try (PreparedStatement selectStatement =
+                        PostgresQueryUtils.readTableSplitDataStatement(
+                                jdbc,
+                                selectSql,
+                                split.getSplitStart() == null,
+                                split.getSplitEnd() == null,
+                                split.getSplitStart(),
+                                split.getSplitEnd(),
+                                ctx.getSourceConfig().getFetchSize());
+                ResultSet rs = selectStatement.executeQuery()) {
+            long rows = 0;
+            while (rs.next()) {
+                rows++;
+                final Object[] row = new Object[table.columns().size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = readField(rs, i + 1, table.columns().get(i), schema);
+                }
+                offsetContext.event(table.id(), clock.currentTime());
+                dispatcher.dispatchSnapshotEvent(
+                        table.id(),
+                        new SnapshotChangeRecordEmitter(offsetContext, row, clock),
+                        snapshotReceiver);
+            }
+            LOG.info(
+                    "Finished exporting {} records for split '{}', total duration '{}'",
+                    rows,
+                    split.splitId(),
+                    Strings.duration(clock.currentTimeInMillis() - exportStart));
+        } finally {
+            // end the transaction of the cursor
+            jdbc.commit();
+        }
+        snapshotReceiver.completeSnapshot();
+    }
+
+    /**
+     * Reads the changes between the watermarks from the backfill slot. The stream of changes is
+     * read up to the first transaction committed after the high watermark, a transactional logical
+     * decoding message is written to make sure such a transaction exists.
+     */
+    private void backfill(
+            PostgresSourceFetchTaskContext ctx,
+            PostgresOffset lowWatermark,
+            PostgresOffset highWatermark)
+            throws Exception {
+        final PostgresConnection jdbc = ctx.getConnection();
+        final String slotName = ctx.getSourceConfig().getBackfillSlotName();
+        try {
+            jdbc.execute(
+                    String.format(
+                            "SELECT pg_logical_emit_message(true, 'flink-cdc', '%s')",
+                            split.splitId().replace("'", "''")));
+        } catch (SQLException e) {
+            LOG.warn(
+                    "Failed to write the logical decoding message for split {}, the back fill waits for the next transaction.",
+                    split.splitId(),
+                    e);
+        }
+
+        final PostgresOffsetContext offsetContext = ctx.loadOffsetContext(lowWatermark);
+        offsetContext.setStreamingStoppingLsn(highWatermark.getLsn());
+        final ReplicationConnection replicationConnection =
+                ctx.createReplicationConnection(slotName);
+        final PostgresStreamingChangeEventSource backfillSource =
+                new PostgresStreamingChangeEventSource(
+                        ctx.getConnectorConfig(),
+                        new NeverSnapshotter(),
+                        offsetContext,
+                        jdbc,
+                        ctx.getDispatcher(),
+                        ctx.getErrorHandler(),
+                        Clock.SYSTEM,
+                        ctx.getSchema(),
+                        ctx.getTaskContext(),
+                        replicationConnection);
+        ctx.getDispatcher().setUpperBound(highWatermark.getLsn());
+        try {
+            // the replication connection is closed when the execution ends
+            backfillSource.execute(new BackfillChangeEventSourceContext());
+        } finally {
+            ctx.getDispatcher().setUpperBound(null);
+        }
+
+        // release the changes before the high watermark, PostgreSQL 10 doesn't support advancing
+        // the slot, the slot is advanced by the next back fill then
+        try {
+            jdbc.execute(
+                    String.format(
+                            "SELECT pg_replication_slot_advance('%s', '%s'::pg_lsn)",
+                            slotName, highWatermark.getLsn().asString()));
+        } catch (SQLException e) {
+            LOG.warn("Failed to advance the replication slot {}", slotName, e);
+        }
+    }
+
+    private static PostgresOffset currentOffset(PostgresConnection jdbc) throws SQLException {
+        return PostgresOffset.ofLsn(Lsn.valueOf(jdbc.currentXLogLocation()));
+    }
+
+    /**
+     * Reads the value of column the same as the snapshot of debezium PostgreSQL connector.
+     *
+     * <p>Note this mirrors {@code PostgresSnapshotChangeEventSource#getColumnValue}, which is not
+     * accessible outside of the snapshot source.
+     */
+    private static Object readField(ResultSet rs, int fieldNo, Column column, PostgresSchema schema)
+            throws SQLException {
+        final PostgresType type = schema.getTypeRegistry().get(column.nativeType());
+        if (type.isArrayType()) {
+            return rs.getArray(fieldNo);
+        }
+        switch (type.getOid()) {
+            case MONEY_OID:
+                final String money = rs.getString(fieldNo);
+                if (money == null) {
+                    return null;
+                }
+                // the negative money is formatted as "-$1.00" by the server
+                return money.startsWith("-")
+                        ? new PGmoney("$-" + money.substring(2)).val
+                        : new PGmoney(money).val;
+            case BIT_OID:
+                return rs.getString(fieldNo);
+            case NUMERIC_OID:
+                final String numeric = rs.getString(fieldNo);
+                if (numeric == null) {
+                    return null;
+                }
+                Optional<SpecialValueDecimal> specialValue =
+                        PostgresValueConverter.toSpecialValue(numeric);
+                return specialValue.isPresent()
+                        ? specialValue.get()
+                        : new SpecialValueDecimal(rs.getBigDecimal(fieldNo));
+            case TIME_OID:
+            case TIMETZ_OID:
+                // to keep the microseconds
+                return rs.getString(fieldNo);
+            default:
+                return rs.getObject(fieldNo);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskRunning;
+    }
+
+    @Override
+    public SnapshotSplit getSplit() {
+        return split;
+    }
+
+    @Override
+    public void stop() {
+        taskRunning = false;
+    }
+
+    /** The context of the back fill, it's running until the task stops. */
+    private class BackfillChangeEventSourceContext
+            implements ChangeEventSource.ChangeEventSourceContext {
+
+        @Override
+        public boolean isRunning() {
+            return taskRunning;
+        }
+    }
+}
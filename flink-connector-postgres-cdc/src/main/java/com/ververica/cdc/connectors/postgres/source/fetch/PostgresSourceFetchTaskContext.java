@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.fetch;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import com.ververica.cdc.connectors.postgres.source.dialect.PostgresChunkSplitter;
+import com.ververica.cdc.connectors.postgres.source.dialect.PostgresDialect;
+import com.ververica.cdc.connectors.postgres.source.offset.PostgresOffset;
+import com.ververica.cdc.connectors.postgres.source.utils.PostgresTypeUtils;
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresErrorHandler;
+import io.debezium.connector.postgresql.PostgresObjectUtils;
+import io.debezium.connector.postgresql.PostgresOffsetContext;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresTaskContext;
+import io.debezium.connector.postgresql.PostgresTopicSelector;
+import io.debezium.connector.postgresql.SourceInfo;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.data.Envelope;
+import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.ChangeEventCreator;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.schema.TopicSelector;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * The {@link FetchTask.Context} of PostgreSQL, it holds the debezium objects shared by the fetch
+ * tasks of a fetcher, i.e. the schema, the event queue and the dispatcher.
+ *
+ * <p>The context of snapshot splits creates the backfill replication slot of the subtask before the
+ * low watermark of the first split read between watermarks is taken, the splits read from an
+ * exported snapshot don't need the slot. The slot is dropped when the context closes.
+ *
+ * <p>The context of a stream split reads the stream slot of the split, whose changes are limited to
+ * the tables of the slot if there are multiple stream slots.
+ */
+public class PostgresSourceFetchTaskContext implements FetchTask.Context {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresSourceFetchTaskContext.class);
+
+    private final PostgresSourceConfig sourceConfig;
+    private final PostgresDialect dialect;
+    private final SchemaNameAdjuster schemaNameAdjuster;
+
+    private PostgresConnectorConfig connectorConfig;
+    private Tables.TableFilter tableFilter;
+    private int streamSlot;
+
+    private PostgresConnection connection;
+    private TopicSelector<TableId> topicSelector;
+    private PostgresSchema schema;
+    private PostgresTaskContext taskContext;
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private PostgresEventDispatcher dispatcher;
+    private ErrorHandler errorHandler;
+    private boolean backfillSlotCreated;
+
+    public PostgresSourceFetchTaskContext(
+            PostgresSourceConfig sourceConfig, PostgresDialect dialect) {
+        this.sourceConfig = sourceConfig;
+        this.dialect = dialect;
+        this.connectorConfig = sourceConfig.getDbzConnectorConfig();
+        this.tableFilter = connectorConfig.getTableFilters().dataCollectionFilter();
+        this.schemaNameAdjuster = SchemaNameAdjuster.create();
+    }
+
+    @Override
+    public void configure(SourceSplitBase sourceSplitBase) {
+        if (schema == null) {
+            if (sourceSplitBase.isStreamSplit()) {
+                configureStreamSlot(sourceSplitBase.asStreamSplit());
+            }
+            initialize(sourceSplitBase.isSnapshotSplit());
+        }
+    }
+
+    /** Creates the backfill replication slot of the subtask if it's not created yet. */
+    public void ensureBackfillSlot() {
+        if (!backfillSlotCreated) {
+            dialect.ensureReplicationSlot(sourceConfig, sourceConfig.getBackfillSlotName());
+            backfillSlotCreated = true;
+        }
+    }
+
+    private void configureStreamSlot(StreamSplit streamSplit) {
+        this.streamSlot = PostgresDialect.getStreamSlot(streamSplit);
+        this.connectorConfig = sourceConfig.getStreamConnectorConfig(streamSlot);
+        if (sourceConfig.getStreamSlotCount() > 1) {
+            // the changes of other slots are dropped, e.g. the decoderbufs plugin decodes the
+            // changes of all tables
+            final Tables.TableFilter capturedTables =
+                    connectorConfig.getTableFilters().dataCollectionFilter();
+            this.tableFilter =
+                    tableId ->
+                            capturedTables.isIncluded(tableId)
+                                    && sourceConfig.getStreamSlot(tableId) == streamSlot;
+        }
+    }
+
+    private void initialize(boolean isSnapshotSplit) {
+        this.connection = dialect.openJdbcConnection(sourceConfig);
+        this.topicSelector = PostgresTopicSelector.create(connectorConfig);
+        try {
+            this.schema =
+                    PostgresObjectUtils.newSchema(
+                            connection,
+                            connectorConfig,
+                            connection.getTypeRegistry(),
+                            topicSelector);
+        } catch (Exception e) {
+            throw new FlinkRuntimeException("Failed to load the schema of captured tables", e);
+        }
+        this.taskContext =
+                PostgresObjectUtils.newTaskContext(connectorConfig, schema, topicSelector);
+        // the snapshot split is polled after the whole split is read, don't block the reading
+        final int queueSize =
+                isSnapshotSplit ? Integer.MAX_VALUE : connectorConfig.getMaxQueueSize();
+        this.queue =
+                new ChangeEventQueue.Builder<DataChangeEvent>()
+                        .pollInterval(connectorConfig.getPollInterval())
+                        .maxBatchSize(connectorConfig.getMaxBatchSize())
+                        .maxQueueSize(queueSize)
+                        .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                        .loggingContextSupplier(
+                                () ->
+                                        taskContext.configureLoggingContext(
+                                                "postgres-cdc-connector-task"))
+                        .build();
+        this.dispatcher =
+                new PostgresEventDispatcher(
+                        connectorConfig,
+                        topicSelector,
+                        schema,
+                        queue,
+                        tableFilter,
+                        DataChangeEvent::new,
+                        PostgresObjectUtils.newInconsistentSchemaHandler(),
+                        PostgresObjectUtils.newEventMetadataProvider(),
+                        Heartbeat.create(
+                                connectorConfig
+                                        .getConfig()
+                                        .getDuration(
+                                                Heartbeat.HEARTBEAT_INTERVAL, ChronoUnit.MILLIS),
+                                topicSelector.getHeartbeatTopic(),
+                                connectorConfig.getLogicalName()),
+                        schemaNameAdjuster);
+        this.errorHandler = new PostgresErrorHandler(connectorConfig.getLogicalName(), queue);
+    }
+
+    /** Loads the debezium offset context of the given offset. */
+    public PostgresOffsetContext loadOffsetContext(PostgresOffset offset) {
+        return (PostgresOffsetContext)
+                new PostgresOffsetContext.Loader(connectorConfig).load(offset.toDbzOffset());
+    }
+
+    /** Returns the source partition of the records. */
+    public Map<String, ?> getPartition() {
+        return new PostgresOffsetContext.Loader(connectorConfig).getPartition();
+    }
+
+    /** Creates a new replication connection of the given slot. */
+    public ReplicationConnection createReplicationConnection(String slotName) {
+        return PostgresObjectUtils.createReplicationConnection(taskContext, slotName);
+    }
+
+    /** The name of the replication slot which the stream split of the context reads. */
+    public String getStreamSlotName() {
+        return sourceConfig.getStreamSlotName(streamSlot);
+    }
+
+    public PostgresSourceConfig getSourceConfig() {
+        return sourceConfig;
+    }
+
+    public PostgresConnectorConfig getConnectorConfig() {
+        return connectorConfig;
+    }
+
+    public PostgresConnection getConnection() {
+        return connection;
+    }
+
+    public TopicSelector<TableId> getTopicSelector() {
+        return topicSelector;
+    }
+
+    public PostgresSchema getSchema() {
+        return schema;
+    }
+
+    public PostgresTaskContext getTaskContext() {
+        return taskContext;
+    }
+
+    public PostgresEventDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public ErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
+    @Override
+    public ChangeEventQueue<DataChangeEvent> getQueue() {
+        return queue;
+    }
+
+    @Override
+    public SchemaNameAdjuster getSchemaNameAdjuster() {
+        return schemaNameAdjuster;
+    }
+
+    @Override
+    public Tables.TableFilter getTableFilter() {
+        return tableFilter;
+    }
+
+    @Override
+    public TableId getTableId(SourceRecord record) {
+        Struct value = (Struct) record.value();
+        Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+        return new TableId(
+                null,
+                source.getString(SourceInfo.SCHEMA_NAME_KEY),
+                source.getString(SourceInfo.TABLE_NAME_KEY));
+    }
+
+    @Override
+    public Offset getStreamOffset(SourceRecord record) {
+        return new PostgresOffset(Offset.toStringMap(record.sourceOffset()));
+    }
+
+    @Nullable
+    @Override
+    public RowType getSplitKeyType(TableId tableId) {
+        final Table table = schema.tableFor(tableId);
+        final Column splitColumn =
+                table == null
+                        ? null
+                        : PostgresChunkSplitter.getSplitColumn(
+                                table, sourceConfig.getChunkKeyColumn());
+        if (splitColumn == null) {
+            return null;
+        }
+        return (RowType)
+                DataTypes.ROW(
+                                DataTypes.FIELD(
+                                        splitColumn.name(),
+                                        PostgresTypeUtils.fromDbzColumn(splitColumn)))
+                        .getLogicalType();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (connection != null) {
+            if (backfillSlotCreated) {
+                final String slotName = sourceConfig.getBackfillSlotName();
+                if (!connection.dropReplicationSlot(slotName)) {
+                    LOG.warn("Failed to drop the backfill replication slot {}", slotName);
+                }
+            }
+            connection.close();
+        }
+    }
+
+    /**
+     * The {@link EventDispatcher} which drops the change events after an upper bound position, it
+     * stops the backfill of a snapshot split at the high watermark.
+     */
+    public static class PostgresEventDispatcher extends EventDispatcher<TableId> {
+
+        private volatile Lsn upperBound;
+
+        public PostgresEventDispatcher(
+                PostgresConnectorConfig connectorConfig,
+                TopicSelector<TableId> topicSelector,
+                PostgresSchema schema,
+                ChangeEventQueue<DataChangeEvent> queue,
+                Tables.TableFilter filter,
+                ChangeEventCreator changeEventCreator,
+                InconsistentSchemaHandler<TableId> inconsistentSchemaHandler,
+                EventMetadataProvider metadataProvider,
+                Heartbeat heartbeat,
+                SchemaNameAdjuster schemaNameAdjuster) {
+            super(
+                    connectorConfig,
+                    topicSelector,
+                    schema,
+                    queue,
+                    filter,
+                    changeEventCreator,
+                    inconsistentSchemaHandler,
+                    metadataProvider,
+                    heartbeat,
+                    schemaNameAdjuster);
+        }
+
+        /** Sets the position after which the change events are dropped, null means no bound. */
+        public void setUpperBound(@Nullable Lsn upperBound) {
+            this.upperBound = upperBound;
+        }
+
+        @Override
+        public boolean dispatchDataChangeEvent(
+                TableId tableId, ChangeRecordEmitter changeRecordEmitter)
+                throws InterruptedException {
+            if (isAfterUpperBound(changeRecordEmitter.getOffset().getOffset(), upperBound)) {
+                return false;
+            }
+            return super.dispatchDataChangeEvent(tableId, changeRecordEmitter);
+        }
+
+        /** Whether the position of the change event offset is after the upper bound. */
+        @VisibleForTesting
+        static boolean isAfterUpperBound(Map<String, ?> offset, @Nullable Lsn upperBound) {
+            if (upperBound == null) {
+                return false;
+            }
+            final Object lsn = offset.get(SourceInfo.LSN_KEY);
+            return lsn != null && Lsn.valueOf((Long) lsn).compareTo(upperBound) > 0;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.fetch;
+
+import com.ververica.cdc.connectors.postgres.source.offset.PostgresOffset;
+import com.ververica.cdc.debezium.source.reader.external.FetchTask;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.connector.postgresql.PostgresOffsetContext;
+import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.snapshot.NeverSnapshotter;
+import io.debezium.pipeline.source.spi.ChangeEventSource;
+import io.debezium.util.Clock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.debezium.connector.postgresql.PostgresOffsetContext.LAST_COMMIT_LSN_KEY;
+import static io.debezium.connector.postgresql.PostgresOffsetContext.LAST_COMPLETELY_PROCESSED_LSN_KEY;
+
+/**
+ * The task to read the stream split of PostgreSQL from the replication slot of the source, the
+ * offsets of completed checkpoints are flushed to the slot, so the server can recycle the WAL
+ * before them.
+ */
+public class PostgresStreamFetchTask implements FetchTask<SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresStreamFetchTask.class);
+
+    private final StreamSplit split;
+    // the stream split is read until the task stops, it's running since created
+    private volatile boolean taskRunning = true;
+    private volatile PostgresStreamingChangeEventSource streamingSource;
+
+    public PostgresStreamFetchTask(StreamSplit split) {
+        this.split = split;
+    }
+
+    @Override
+    public void execute(Context context) throws Exception {
+        final PostgresSourceFetchTaskContext ctx = (PostgresSourceFetchTaskContext) context;
+        final PostgresOffset startingOffset = (PostgresOffset) split.getStartingOffset();
+        final PostgresOffset endingOffset = (PostgresOffset) split.getEndingOffset();
+        // read from the position of slot if the starting offset is unknown
+        PostgresOffsetContext offsetContext = null;
+        if (startingOffset.getLsn().isValid()) {
+            offsetContext = ctx.loadOffsetContext(startingOffset);
+            if (endingOffset != null && !PostgresOffset.NO_STOPPING_OFFSET.equals(endingOffset)) {
+                offsetContext.setStreamingStoppingLsn(endingOffset.getLsn());
+            }
+        }
+        streamingSource =
+                new PostgresStreamingChangeEventSource(
+                        ctx.getConnectorConfig(),
+                        new NeverSnapshotter(),
+                        offsetContext,
+                        ctx.getConnection(),
+                        ctx.getDispatcher(),
+                        ctx.getErrorHandler(),
+                        Clock.SYSTEM,
+                        ctx.getSchema(),
+                        ctx.getTaskContext(),
+                        ctx.createReplicationConnection(ctx.getStreamSlotName()));
+        try {
+            streamingSource.execute(new StreamChangeEventSourceContext());
+        } finally {
+            taskRunning = false;
+        }
+    }
+
+    /** Flushes the given offset of a completed checkpoint to the replication slot. */
+    public void commitCurrentOffset(PostgresOffset offset) {
+        final PostgresStreamingChangeEventSource streamingSource = this.streamingSource;
+        final Lsn lsn = offset.getLsn();
+        if (streamingSource != null && taskRunning && lsn.isValid()) {
+            Map<String, Object> dbzOffset = new HashMap<>(offset.toDbzOffset());
+            // the position of heartbeat or watermark has no commit position
+            dbzOffset.putIfAbsent(LAST_COMPLETELY_PROCESSED_LSN_KEY, lsn.asLong());
+            dbzOffset.putIfAbsent(
+                    LAST_COMMIT_LSN_KEY, dbzOffset.get(LAST_COMPLETELY_PROCESSED_LSN_KEY));
+            LOG.debug("Flush the offset {} to the replication slot", dbzOffset);
+            streamingSource.commitOffset(dbzOffset);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskRunning;
+    }
+
+    @Override
+    public StreamSplit getSplit() {
+        return split;
+    }
+
+    @Override
+    public void stop() {
+        taskRunning = false;
+    }
+
+    /** The context of the stream reading, it's running until the task stops. */
+    private class StreamChangeEventSourceContext
+            implements ChangeEventSource.ChangeEventSourceContext {
+
+        @Override
+        public boolean isRunning() {
+            return taskRunning;
+        }
+    }
+}
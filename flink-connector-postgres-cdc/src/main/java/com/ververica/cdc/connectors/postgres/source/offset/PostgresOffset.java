@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.offset;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import io.debezium.connector.postgresql.PostgresOffsetContext;
+import io.debezium.connector.postgresql.SourceInfo;
+import io.debezium.connector.postgresql.connection.Lsn;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A structure describes a position in the WAL of PostgreSQL, the positions are ordered by the LSN
+ * of the change events.
+ */
+public class PostgresOffset extends Offset {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final PostgresOffset INITIAL_OFFSET = ofLsn(Lsn.INVALID_LSN);
+    public static final PostgresOffset NO_STOPPING_OFFSET = ofLsn(Lsn.valueOf(Long.MAX_VALUE));
+
+    /** The key of the name of snapshot exported by the creation of a replication slot. */
+    public static final String SNAPSHOT_NAME_KEY = "snapshot_name";
+
+    public PostgresOffset(Map<String, String> offset) {
+        super(offset);
+    }
+
+    /** Creates the offset of the given WAL position. */
+    public static PostgresOffset ofLsn(Lsn lsn) {
+        Map<String, String> offset = new HashMap<>();
+        offset.put(SourceInfo.LSN_KEY, String.valueOf(lsn.asLong()));
+        return new PostgresOffset(offset);
+    }
+
+    /**
+     * Creates the offset of the snapshot exported by the creation of a replication slot, the
+     * position is the consistent point of the slot.
+     */
+    public static PostgresOffset ofExportedSnapshot(Lsn consistentPoint, String snapshotName) {
+        Map<String, String> offset = new HashMap<>();
+        offset.put(SourceInfo.LSN_KEY, String.valueOf(consistentPoint.asLong()));
+        offset.put(SNAPSHOT_NAME_KEY, snapshotName);
+        return new PostgresOffset(offset);
+    }
+
+    public Lsn getLsn() {
+        final String lsn = offset.get(SourceInfo.LSN_KEY);
+        return lsn == null ? Lsn.INVALID_LSN : Lsn.valueOf(Long.parseLong(lsn));
+    }
+
+    /** Returns the name of the exported snapshot, or null if it's not an exported snapshot. */
+    @Nullable
+    public String getSnapshotName() {
+        return offset.get(SNAPSHOT_NAME_KEY);
+    }
+
+    /**
+     * Converts the offset to the typed offset of the debezium PostgreSQL connector, which can be
+     * loaded by the {@link PostgresOffsetContext.Loader}.
+     */
+    public Map<String, Object> toDbzOffset() {
+        Map<String, Object> dbzOffset = new HashMap<>();
+        putLong(dbzOffset, SourceInfo.LSN_KEY);
+        putLong(dbzOffset, PostgresOffsetContext.LAST_COMPLETELY_PROCESSED_LSN_KEY);
+        putLong(dbzOffset, PostgresOffsetContext.LAST_COMMIT_LSN_KEY);
+        putLong(dbzOffset, SourceInfo.TXID_KEY);
+        putLong(dbzOffset, SourceInfo.TIMESTAMP_USEC_KEY);
+        // the timestamp is required by the loader of debezium
+        dbzOffset.putIfAbsent(SourceInfo.TIMESTAMP_USEC_KEY, 0L);
+        return dbzOffset;
+    }
+
+    private void putLong(Map<String, Object> dbzOffset, String key) {
+        final String value = offset.get(key);
+        if (value != null) {
+            dbzOffset.put(key, Long.parseLong(value));
+        }
+    }
+
+    @Override
+    public int compareTo(Offset that) {
+        return getLsn().compareTo(((PostgresOffset) that).getLsn());
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.utils;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.TableId;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Utilities to build and execute the queries of the PostgreSQL incremental snapshot source. */
+public class PostgresQueryUtils {
+
+    /** The system column of the physical location of row, it splits tables without key. */
+    public static final String CTID_COLUMN = "ctid";
+
+    private PostgresQueryUtils() {}
+
+    public static Object[] queryMinMax(JdbcConnection jdbc, TableId tableId, String columnName)
+            throws SQLException {
+        final String minMaxQuery =
+                String.format(
+                        "SELECT MIN(%s), MAX(%s) FROM %s",
+                        quote(columnName), quote(columnName), quote(tableId));
+        return jdbc.queryAndMap(
+                minMaxQuery,
+                rs -> {
+                    if (!rs.next()) {
+                        // this should never happen
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]",
+                                        minMaxQuery));
+                    }
+                    return new Object[] {rs.getObject(1), rs.getObject(2)};
+                });
+    }
+
+    /**
+     * Returns the approximate row count of table from the statistics of the planner, or -1 if the
+     * table has never been analyzed.
+     */
+    public static long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final String rowCountQuery =
+                String.format(
+                        "SELECT reltuples::bigint FROM pg_class WHERE oid = '%s'::regclass",
+                        quote(tableId).replace("'", "''"));
+        return jdbc.queryAndMap(
+                rowCountQuery,
+                rs -> {
+                    if (!rs.next()) {
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]",
+                                        rowCountQuery));
+                    }
+                    return rs.getLong(1);
+                });
+    }
+
+    /** Returns the exact row count of table. */
+    public static long queryRowCnt(JdbcConnection jdbc, TableId tableId) throws SQLException {
+        final String countQuery = String.format("SELECT COUNT(*) FROM %s", quote(tableId));
+        return jdbc.queryAndMap(
+                countQuery,
+                rs -> {
+                    if (!rs.next()) {
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]", countQuery));
+                    }
+                    return rs.getLong(1);
+                });
+    }
+
+    /**
+     * Returns the columns of the single-column unique indexes of table, the partial and expression
+     * indexes are excluded as they don't identify all the rows.
+     */
+    public static List<String> queryUniqueKeyColumns(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final String uniqueKeyQuery =
+                String.format(
+                        "SELECT a.attname FROM pg_index i JOIN pg_attribute a"
+                                + " ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]"
+                                + " WHERE i.indrelid = '%s'::regclass AND i.indisunique AND i.indisvalid"
+                                + " AND i.indnatts = 1 AND i.indpred IS NULL AND i.indexprs IS NULL",
+                        quote(tableId).replace("'", "''"));
+        final List<String> columns = new ArrayList<>();
+        jdbc.query(
+                uniqueKeyQuery,
+                rs -> {
+                    while (rs.next()) {
+                        columns.add(rs.getString(1));
+                    }
+                });
+        return columns;
+    }
+
+    /** Returns the number of pages the table currently occupies on disk. */
+    public static long queryPageCnt(JdbcConnection jdbc, TableId tableId) throws SQLException {
+        final String pageCountQuery =
+                String.format(
+                        "SELECT pg_relation_size('%s'::regclass) / current_setting('block_size')::bigint",
+                        quote(tableId).replace("'", "''"));
+        return jdbc.queryAndMap(
+                pageCountQuery,
+                rs -> {
+                    if (!rs.next()) {
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]",
+                                        pageCountQuery));
+                    }
+                    return rs.getLong(1);
+                });
+    }
+
+    public static Object queryMin(
+            JdbcConnection jdbc, TableId tableId, String columnName, Object excludedLowerBound)
+            throws SQLException {
+        final String minQuery =
+                String.format(
+                        "SELECT MIN(%s) FROM %s WHERE %s > ?",
+                        quote(columnName), quote(tableId), quote(columnName));
+        return jdbc.prepareQueryAndMap(
+                minQuery,
+                ps -> ps.setObject(1, excludedLowerBound),
+                rs -> {
+                    if (!rs.next()) {
+                        // this should never happen
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]", minQuery));
+                    }
+                    return rs.getObject(1);
+                });
+    }
+
+    public static Object queryNextChunkMax(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String splitColumnName,
+            int chunkSize,
+            Object includedLowerBound)
+            throws SQLException {
+        String quotedColumn = quote(splitColumnName);
+        String query =
+                String.format(
+                        "SELECT MAX(%s) FROM ("
+                                + "SELECT %s FROM %s WHERE %s >= ? ORDER BY %s ASC LIMIT %s"
+                                + ") AS T",
+                        quotedColumn,
+                        quotedColumn,
+                        quote(tableId),
+                        quotedColumn,
+                        quotedColumn,
+                        chunkSize);
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> ps.setObject(1, includedLowerBound),
+                rs -> {
+                    if (!rs.next()) {
+                        // this should never happen
+                        throw new SQLException(
+                                String.format(
+                                        "No result returned after running query [%s]", query));
+                    }
+                    return rs.getObject(1);
+                });
+    }
+
+    /**
+     * Builds the query to scan the rows of a split [start, end), the rows whose split column is
+     * null belong to the first split.
+     *
+     * @param splitColumn the quoted split column, or {@link #CTID_COLUMN} for the splits of row
+     *     locations
+     */
+    public static String buildSplitScanQuery(
+            TableId tableId, String splitColumn, boolean isFirstSplit, boolean isLastSplit) {
+        final String parameter = CTID_COLUMN.equals(splitColumn) ? "?::tid" : "?";
+        final StringBuilder sql = new StringBuilder("SELECT * FROM ").append(quote(tableId));
+        if (isFirstSplit && isLastSplit) {
+            return sql.toString();
+        } else if (isFirstSplit) {
+            sql.append(" WHERE ").append(splitColumn).append(" < ").append(parameter);
+            sql.append(" OR ").append(splitColumn).append(" IS NULL");
+        } else if (isLastSplit) {
+            sql.append(" WHERE ").append(splitColumn).append(" >= ").append(parameter);
+        } else {
+            sql.append(" WHERE ").append(splitColumn).append(" >= ").append(parameter);
+            sql.append(" AND ").append(splitColumn).append(" < ").append(parameter);
+        }
+        return sql.toString();
+    }
+
+    public static PreparedStatement readTableSplitDataStatement(
+            JdbcConnection jdbc,
+            String sql,
+            boolean isFirstSplit,
+            boolean isLastSplit,
+            Object[] splitStart,
+            Object[] splitEnd,
+            int fetchSize)
+            throws SQLException {
+        final Connection connection = jdbc.connection();
+        // the fetch size only takes effect in transactions for PostgreSQL
+        connection.setAutoCommit(false);
+        final PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setFetchSize(fetchSize);
+        if (isFirstSplit && isLastSplit) {
+            return statement;
+        }
+        if (isFirstSplit) {
+            statement.setObject(1, splitEnd[0]);
+        } else if (isLastSplit) {
+            statement.setObject(1, splitStart[0]);
+        } else {
+            statement.setObject(1, splitStart[0]);
+            statement.setObject(2, splitEnd[0]);
+        }
+        return statement;
+    }
+
+    public static String quote(String columnName) {
+        return "\"" + columnName + "\"";
+    }
+
+    public static String quote(TableId tableId) {
+        return tableId.toQuotedString('"');
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.utils;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.DataType;
+
+import io.debezium.relational.Column;
+
+/** Utilities for converting from PostgreSQL types to Flink types. */
+public class PostgresTypeUtils {
+
+    private PostgresTypeUtils() {}
+
+    /** Returns a corresponding Flink data type from a debezium {@link Column}. */
+    public static DataType fromDbzColumn(Column column) {
+        DataType dataType = convertFromColumn(column);
+        if (column.isOptional()) {
+            return dataType;
+        } else {
+            return dataType.notNull();
+        }
+    }
+
+    /**
+     * Returns a corresponding Flink data type from a debezium {@link Column} with nullable always
+     * be true.
+     */
+    private static DataType convertFromColumn(Column column) {
+        String typeName = column.typeName();
+        switch (typeName) {
+            case "bool":
+                return DataTypes.BOOLEAN();
+            case "int2":
+            case "smallserial":
+                return DataTypes.SMALLINT();
+            case "int4":
+            case "serial":
+                return DataTypes.INT();
+            case "int8":
+            case "bigserial":
+            case "oid":
+                return DataTypes.BIGINT();
+            case "float4":
+                return DataTypes.FLOAT();
+            case "float8":
+                return DataTypes.DOUBLE();
+            case "numeric":
+                return column.length() > 0 && column.length() <= 38
+                        ? DataTypes.DECIMAL(column.length(), column.scale().orElse(0))
+                        : DataTypes.DECIMAL(38, 18);
+            case "bpchar":
+            case "varchar":
+            case "text":
+            case "uuid":
+                return DataTypes.STRING();
+            case "date":
+                return DataTypes.DATE();
+            case "time":
+                return DataTypes.TIME(column.scale().orElse(0));
+            case "timestamp":
+                return DataTypes.TIMESTAMP(column.scale().orElse(6));
+            case "timestamptz":
+                return DataTypes.TIMESTAMP_WITH_LOCAL_TIME_ZONE(column.scale().orElse(6));
+            default:
+                throw new UnsupportedOperationException(
+                        String.format("Don't support PostgreSQL type '%s' yet.", typeName));
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
+import org.apache.flink.table.connector.source.SourceProvider;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -31,15 +32,21 @@ import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.types.RowKind;
 
 import com.ververica.cdc.connectors.postgres.PostgreSQLSource;
+import com.ververica.cdc.connectors.postgres.source.PostgresIncrementalSource;
+import com.ververica.cdc.connectors.postgres.source.PostgresSourceBuilder;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
 import com.ververica.cdc.debezium.table.MetadataConverter;
 import com.ververica.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
 
+import javax.annotation.Nullable;
+
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,6 +70,16 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
     private final String pluginName;
     private final String slotName;
     private final Properties dbzProperties;
+    private final boolean enableParallelRead;
+    private final int splitSize;
+    private final int splitMetaGroupSize;
+    private final int fetchSize;
+    private final Duration connectTimeout;
+    private final int connectMaxRetries;
+    private final double distributionFactor;
+    @Nullable private final String chunkKeyColumn;
+    private final boolean exportSnapshotEnabled;
+    private final int streamSlotCount;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -85,7 +102,17 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
             String password,
             String pluginName,
             String slotName,
-            Properties dbzProperties) {
+            Properties dbzProperties,
+            boolean enableParallelRead,
+            int splitSize,
+            int splitMetaGroupSize,
+            int fetchSize,
+            Duration connectTimeout,
+            int connectMaxRetries,
+            double distributionFactor,
+            @Nullable String chunkKeyColumn,
+            boolean exportSnapshotEnabled,
+            int streamSlotCount) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -97,6 +124,16 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
         this.pluginName = checkNotNull(pluginName);
         this.slotName = slotName;
         this.dbzProperties = dbzProperties;
+        this.enableParallelRead = enableParallelRead;
+        this.splitSize = splitSize;
+        this.splitMetaGroupSize = splitMetaGroupSize;
+        this.fetchSize = fetchSize;
+        this.connectTimeout = connectTimeout;
+        this.connectMaxRetries = connectMaxRetries;
+        this.distributionFactor = distributionFactor;
+        this.chunkKeyColumn = chunkKeyColumn;
+        this.exportSnapshotEnabled = exportSnapshotEnabled;
+        this.streamSlotCount = streamSlotCount;
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
     }
@@ -126,6 +163,31 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                         .setResultTypeInfo(typeInfo)
                         .setValueValidator(new PostgresValueValidator(schemaName, tableName))
                         .build();
+        if (enableParallelRead) {
+            PostgresSourceBuilder<RowData> parallelSourceBuilder =
+                    PostgresIncrementalSource.<RowData>builder()
+                            .hostname(hostname)
+                            .port(port)
+                            .database(database)
+                            .schemaList(schemaName)
+                            .tableList(schemaName + "." + tableName)
+                            .username(username)
+                            .password(password)
+                            .decodingPluginName(pluginName)
+                            .slotName(slotName)
+                            .splitSize(splitSize)
+                            .splitMetaGroupSize(splitMetaGroupSize)
+                            .evenlyDistributionFactor(distributionFactor)
+                            .fetchSize(fetchSize)
+                            .connectTimeout(connectTimeout)
+                            .connectMaxRetries(connectMaxRetries)
+                            .exportSnapshotEnabled(exportSnapshotEnabled)
+                            .streamSlotCount(streamSlotCount)
+                            .debeziumProperties(dbzProperties)
+                            .deserializer(deserializer);
+            Optional.ofNullable(chunkKeyColumn).ifPresent(parallelSourceBuilder::chunkKeyColumn);
+            return SourceProvider.of(parallelSourceBuilder.build());
+        }
         DebeziumSourceFunction<RowData> sourceFunction =
                 PostgreSQLSource.<RowData>builder()
                         .hostname(hostname)
@@ -173,7 +235,17 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                         password,
                         pluginName,
                         slotName,
-                        dbzProperties);
+                        dbzProperties,
+                        enableParallelRead,
+                        splitSize,
+                        splitMetaGroupSize,
+                        fetchSize,
+                        connectTimeout,
+                        connectMaxRetries,
+                        distributionFactor,
+                        chunkKeyColumn,
+                        exportSnapshotEnabled,
+                        streamSlotCount);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -199,6 +271,16 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 && Objects.equals(pluginName, that.pluginName)
                 && Objects.equals(slotName, that.slotName)
                 && Objects.equals(dbzProperties, that.dbzProperties)
+                && enableParallelRead == that.enableParallelRead
+                && splitSize == that.splitSize
+                && splitMetaGroupSize == that.splitMetaGroupSize
+                && fetchSize == that.fetchSize
+                && Objects.equals(connectTimeout, that.connectTimeout)
+                && connectMaxRetries == that.connectMaxRetries
+                && distributionFactor == that.distributionFactor
+                && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
+                && exportSnapshotEnabled == that.exportSnapshotEnabled
+                && streamSlotCount == that.streamSlotCount
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys);
     }
@@ -217,6 +299,16 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 pluginName,
                 slotName,
                 dbzProperties,
+                enableParallelRead,
+                splitSize,
+                splitMetaGroupSize,
+                fetchSize,
+                connectTimeout,
+                connectMaxRetries,
+                distributionFactor,
+                chunkKeyColumn,
+                exportSnapshotEnabled,
+                streamSlotCount,
                 producedDataType,
                 metadataKeys);
     }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.postgresql;
+
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.ReplicationConnection;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.relational.TableId;
+import io.debezium.schema.TopicSelector;
+
+import java.sql.SQLException;
+
+/**
+ * A factory of the Debezium PostgreSQL objects whose constructors or accessors are not public, it
+ * is used by the incremental snapshot source of {@code
+ * com.ververica.cdc.connectors.postgres.source}.
+ */
+public class PostgresObjectUtils {
+
+    private PostgresObjectUtils() {}
+
+    /** Creates a new {@link PostgresSchema} and loads the schema of the captured tables. */
+    public static PostgresSchema newSchema(
+            PostgresConnection connection,
+            PostgresConnectorConfig config,
+            TypeRegistry typeRegistry,
+            TopicSelector<TableId> topicSelector)
+            throws SQLException {
+        PostgresSchema schema =
+                new PostgresSchema(
+                        config, typeRegistry, connection.getDatabaseCharset(), topicSelector);
+        schema.refresh(connection, false);
+        return schema;
+    }
+
+    public static PostgresTaskContext newTaskContext(
+            PostgresConnectorConfig connectorConfig,
+            PostgresSchema schema,
+            TopicSelector<TableId> topicSelector) {
+        return new PostgresTaskContext(connectorConfig, schema, topicSelector);
+    }
+
+    public static EventMetadataProvider newEventMetadataProvider() {
+        return new PostgresEventMetadataProvider();
+    }
+
+    /** The handler which refreshes the schema of tables when the received events don't match. */
+    public static EventDispatcher.InconsistentSchemaHandler<TableId>
+            newInconsistentSchemaHandler() {
+        return PostgresChangeRecordEmitter::updateSchema;
+    }
+
+    /** Returns the name of the logical decoding plugin on the server, e.g. "pgoutput". */
+    public static String getPluginName(PostgresConnectorConfig connectorConfig) {
+        return connectorConfig.plugin().getPostgresPluginName();
+    }
+
+    /**
+     * Creates a replication connection of the given replication slot, the slot and the publication
+     * (for the pgoutput plugin) are created on {@link ReplicationConnection#initConnection()} if
+     * they don't exist yet.
+     */
+    public static ReplicationConnection createReplicationConnection(
+            PostgresTaskContext taskContext, String slotName) {
+        final PostgresConnectorConfig connectorConfig = taskContext.config();
+        return ReplicationConnection.builder(connectorConfig.jdbcConfig())
+                .withSlot(slotName)
+                .withPublication(connectorConfig.publicationName())
+                .withTableFilter(connectorConfig.getTableFilters())
+                .withPublicationAutocreateMode(connectorConfig.publicationAutocreateMode())
+                .withPlugin(connectorConfig.plugin())
+                .withTruncateHandlingMode(connectorConfig.truncateHandlingMode())
+                .dropSlotOnClose(false)
+                .streamParams(connectorConfig.streamParams())
+                .statusUpdateInterval(connectorConfig.statusUpdateInterval())
+                .withTypeRegistry(taskContext.schema().getTypeRegistry())
+                .withSchema(taskContext.schema())
+                .build();
+    }
+}
@@ -38,11 +38,11 @@ import com.jayway.jsonpath.JsonPath;
 import com.ververica.cdc.connectors.utils.TestSourceContext;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
+import com.ververica.cdc.debezium.internal.DebeziumOffsetSerializer;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -202,7 +202,7 @@ public class PostgreSQLSourceTest extends PostgresTestBase {
             }
 
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("postgres_cdc_source", JsonPath.read(state, "$.sourcePartition.server"));
             assertEquals("557", JsonPath.read(state, "$.sourceOffset.txId").toString());
             assertEquals(
@@ -256,7 +256,7 @@ public class PostgreSQLSourceTest extends PostgresTestBase {
                 }
 
                 assertEquals(1, offsetState.list.size());
-                String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+                String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
                 assertEquals(
                         "postgres_cdc_source", JsonPath.read(state, "$.sourcePartition.server"));
                 assertEquals("558", JsonPath.read(state, "$.sourceOffset.txId").toString());
@@ -321,7 +321,7 @@ public class PostgreSQLSourceTest extends PostgresTestBase {
                 source3.snapshotState(new StateSnapshotContextSynchronousImpl(233, 233));
             }
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("postgres_cdc_source", JsonPath.read(state, "$.sourcePartition.server"));
             assertEquals("561", JsonPath.read(state, "$.sourceOffset.txId").toString());
             assertTrue(state.contains("ts_usec"));
@@ -364,7 +364,7 @@ public class PostgreSQLSourceTest extends PostgresTestBase {
                 source4.snapshotState(new StateSnapshotContextSynchronousImpl(254, 254));
             }
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("postgres_cdc_source", JsonPath.read(state, "$.sourcePartition.server"));
             assertEquals("561", JsonPath.read(state, "$.sourceOffset.txId").toString());
             assertTrue(state.contains("ts_usec"));
@@ -416,7 +416,7 @@ public class PostgreSQLSourceTest extends PostgresTestBase {
                 source5.snapshotState(new StateSnapshotContextSynchronousImpl(300, 300));
             }
             assertEquals(1, offsetState.list.size());
-            String state = new String(offsetState.list.get(0), StandardCharsets.UTF_8);
+            String state = DebeziumOffsetSerializer.INSTANCE.toJson(offsetState.list.get(0));
             assertEquals("postgres_cdc_source", JsonPath.read(state, "$.sourcePartition.server"));
             assertEquals("562", JsonPath.read(state, "$.sourceOffset.txId").toString());
             assertTrue(state.contains("ts_usec"));
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source;
+
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfigFactory;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link PostgresIncrementalSource}. */
+public class PostgresIncrementalSourceTest {
+
+    @Test
+    public void testExportSnapshotOfSingleStreamSlot() {
+        assertTrue(
+                PostgresIncrementalSource.isSnapshotExportable(
+                        configFactory().exportSnapshotEnabled(true).create(0)));
+    }
+
+    @Test
+    public void testReadSnapshotBetweenWatermarks() {
+        // the snapshot export is disabled by default
+        assertFalse(PostgresIncrementalSource.isSnapshotExportable(configFactory().create(0)));
+
+        // the snapshot can't be shared by the slots created at different positions
+        assertFalse(
+                PostgresIncrementalSource.isSnapshotExportable(
+                        configFactory().exportSnapshotEnabled(true).streamSlotCount(2).create(0)));
+
+        // the slot is created without snapshot if the snapshot is skipped
+        final Properties dbzProperties = new Properties();
+        dbzProperties.setProperty("snapshot.mode", "never");
+        assertFalse(
+                PostgresIncrementalSource.isSnapshotExportable(
+                        configFactory()
+                                .exportSnapshotEnabled(true)
+                                .debeziumProperties(dbzProperties)
+                                .create(0)));
+    }
+
+    private static PostgresSourceConfigFactory configFactory() {
+        return new PostgresSourceConfigFactory()
+                .hostname("localhost")
+                .port(5432)
+                .database("postgres")
+                .schemaList("inventory")
+                .tableList("inventory.products")
+                .username("postgres")
+                .password("postgres")
+                .slotName("flink");
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source;
+
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.api.EnvironmentSettings;
+import org.apache.flink.table.api.TableResult;
+import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.CloseableIterator;
+
+import com.ververica.cdc.connectors.postgres.PostgresTestBase;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.testcontainers.containers.PostgreSQLContainer.POSTGRESQL_PORT;
+
+/** IT tests for {@link PostgresIncrementalSource}. */
+public class PostgresSourceITCase extends PostgresTestBase {
+
+    private static final int PARALLELISM = 4;
+    private static final int WRITE_COUNT = 2000;
+
+    @Test
+    public void testReadChunksUnderConcurrentWrites() throws Exception {
+        testReadUnderConcurrentWrites(
+                "chunk_slot", new String[] {"customers"}, Collections.emptyMap());
+    }
+
+    @Test
+    public void testReadExportedSnapshotUnderConcurrentWrites() throws Exception {
+        testReadUnderConcurrentWrites(
+                "export_slot",
+                new String[] {"customers"},
+                Collections.singletonMap("scan.incremental.snapshot.export.enabled", "true"));
+    }
+
+    @Test
+    public void testReadBetweenWatermarksIfSlotExists() throws Exception {
+        // the snapshot is only exported by the creation of the slot, the chunks are read between
+        // watermarks if the slot exists already
+        try (Connection connection = getJdbcConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "SELECT * FROM pg_create_logical_replication_slot('existing_slot', 'decoderbufs')");
+        }
+        testReadUnderConcurrentWrites(
+                "existing_slot",
+                new String[] {"customers"},
+                Collections.singletonMap("scan.incremental.snapshot.export.enabled", "true"));
+    }
+
+    @Test
+    public void testReadMultipleStreamSlotsUnderConcurrentWrites() throws Exception {
+        // the tables are distributed to different slots by the hash of table identifiers
+        testReadUnderConcurrentWrites(
+                "sharded_slot",
+                new String[] {"customers", "customers_2"},
+                Collections.singletonMap("scan.incremental.stream.slots", "2"));
+    }
+
+    /**
+     * Reads the tables split into chunks while they are written, the changelog materialized by
+     * keys must be the final rows of the tables, and every row must be inserted once and only
+     * retracted with its latest version.
+     */
+    private void testReadUnderConcurrentWrites(
+            String slotName, String[] tableNames, Map<String, String> options) throws Exception {
+        initializePostgresTable("customer");
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        StreamTableEnvironment tEnv =
+                StreamTableEnvironment.create(
+                        env,
+                        EnvironmentSettings.newInstance()
+                                .useBlinkPlanner()
+                                .inStreamingMode()
+                                .build());
+        env.setParallelism(PARALLELISM);
+        env.enableCheckpointing(200L);
+
+        StringBuilder extraOptions = new StringBuilder();
+        options.forEach((k, v) -> extraOptions.append(String.format(" '%s' = '%s',", k, v)));
+        String sourceDDL =
+                String.format(
+                        "CREATE TABLE customers ("
+                                + " table_name STRING METADATA VIRTUAL,"
+                                + " id INT NOT NULL,"
+                                + " name STRING,"
+                                + " balance BIGINT"
+                                + ") WITH ("
+                                + " 'connector' = 'postgres-cdc',"
+                                + " 'scan.incremental.snapshot.enabled' = 'true',"
+                                + " 'scan.incremental.snapshot.chunk.size' = '100',"
+                                + "%s"
+                                + " 'hostname' = '%s',"
+                                + " 'port' = '%s',"
+                                + " 'username' = '%s',"
+                                + " 'password' = '%s',"
+                                + " 'database-name' = '%s',"
+                                + " 'schema-name' = '%s',"
+                                + " 'table-name' = '%s',"
+                                + " 'slot.name' = '%s'"
+                                + ")",
+                        extraOptions,
+                        POSTGERS_CONTAINER.getHost(),
+                        POSTGERS_CONTAINER.getMappedPort(POSTGRESQL_PORT),
+                        POSTGERS_CONTAINER.getUsername(),
+                        POSTGERS_CONTAINER.getPassword(),
+                        POSTGERS_CONTAINER.getDatabaseName(),
+                        "customer",
+                        // the table name is a regular expression appended to the schema name
+                        "(" + String.join("|", tableNames) + ")",
+                        slotName);
+        tEnv.executeSql(sourceDDL);
+        TableResult tableResult = tEnv.executeSql("SELECT * FROM customers");
+        CloseableIterator<Row> iterator = tableResult.collect();
+
+        // the first row is emitted once the chunks are being read, the rest of chunks are read
+        // while the tables are written
+        assertTrue(iterator.hasNext());
+        Map<String, String> expected = writeConcurrently(tableNames);
+
+        Map<String, String> actual = new HashMap<>();
+        while (!expected.equals(actual)) {
+            Row row = iterator.next();
+            String key = row.getField(0) + ":" + row.getField(1);
+            String value = row.getField(2) + "," + row.getField(3);
+            switch (row.getKind()) {
+                case INSERT:
+                case UPDATE_AFTER:
+                    assertNull("The row " + key + " is inserted twice", actual.put(key, value));
+                    break;
+                case UPDATE_BEFORE:
+                case DELETE:
+                    assertEquals(
+                            "The row " + key + " is retracted with a stale version",
+                            value,
+                            actual.remove(key));
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected row kind " + row.getKind());
+            }
+        }
+        tableResult.getJobClient().get().cancel().get();
+    }
+
+    /** Randomly updates, deletes and inserts the rows, returns the final rows of the tables. */
+    private Map<String, String> writeConcurrently(String[] tableNames) throws SQLException {
+        Random random = new Random(42L);
+        Map<String, String> rows = new HashMap<>();
+        try (Connection connection = getJdbcConnection();
+                Statement statement = connection.createStatement()) {
+            int nextId = 5001;
+            for (int i = 0; i < WRITE_COUNT; i++) {
+                String table = "customer." + tableNames[random.nextInt(tableNames.length)];
+                int id = random.nextInt(nextId - 1) + 1;
+                int op = random.nextInt(10);
+                if (op < 6) {
+                    statement.execute(
+                            String.format(
+                                    "UPDATE %s SET balance = balance + %d WHERE id = %d",
+                                    table, random.nextInt(1000), id));
+                } else if (op < 8) {
+                    statement.execute(String.format("DELETE FROM %s WHERE id = %d", table, id));
+                } else {
+                    statement.execute(
+                            String.format(
+                                    "INSERT INTO %s VALUES (%d, 'user_%d', 0)",
+                                    table, nextId, nextId));
+                    nextId++;
+                }
+            }
+            for (String tableName : tableNames) {
+                try (ResultSet rs =
+                        statement.executeQuery(
+                                "SELECT id, name, balance FROM customer." + tableName)) {
+                    while (rs.next()) {
+                        rows.put(
+                                tableName + ":" + rs.getInt(1),
+                                rs.getString(2) + "," + rs.getLong(3));
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.config;
+
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link PostgresSourceConfig}. */
+public class PostgresSourceConfigTest {
+
+    @Test
+    public void testSingleStreamSlot() {
+        final PostgresSourceConfig sourceConfig = configFactory().create(0);
+        assertEquals(0, sourceConfig.getStreamSlot(new TableId(null, "inventory", "products")));
+        assertEquals("flink", sourceConfig.getStreamSlotName(0));
+        assertEquals("dbz_publication", sourceConfig.getStreamPublicationName(0));
+
+        final PostgresConnectorConfig connectorConfig = sourceConfig.getStreamConnectorConfig(0);
+        assertEquals(
+                "flink", connectorConfig.getConfig().getString(PostgresConnectorConfig.SLOT_NAME));
+    }
+
+    @Test
+    public void testDistributeTablesToStreamSlots() {
+        final PostgresSourceConfig sourceConfig = configFactory().streamSlotCount(3).create(0);
+        final PostgresSourceConfig otherSubtaskConfig =
+                configFactory().streamSlotCount(3).create(1);
+        final Set<Integer> streamSlots = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            final TableId tableId = new TableId(null, "inventory", "table_" + i);
+            final int streamSlot = sourceConfig.getStreamSlot(tableId);
+            // the hash codes of table identifiers may be negative
+            assertTrue(streamSlot >= 0 && streamSlot < 3);
+            // the slot of a table is the same in all the subtasks and after restarts
+            assertEquals(streamSlot, otherSubtaskConfig.getStreamSlot(tableId));
+            streamSlots.add(streamSlot);
+        }
+        assertEquals(3, streamSlots.size());
+    }
+
+    @Test
+    public void testMultipleStreamSlots() {
+        final PostgresSourceConfig sourceConfig = configFactory().streamSlotCount(3).create(0);
+        assertEquals("flink_stream_1", sourceConfig.getStreamSlotName(1));
+        assertEquals("dbz_publication_1", sourceConfig.getStreamPublicationName(1));
+
+        // the publications of slots are created by the enumerator with the tables of slots
+        final PostgresConnectorConfig connectorConfig = sourceConfig.getStreamConnectorConfig(1);
+        assertEquals(
+                "flink_stream_1",
+                connectorConfig.getConfig().getString(PostgresConnectorConfig.SLOT_NAME));
+        assertEquals(
+                "dbz_publication_1",
+                connectorConfig.getConfig().getString(PostgresConnectorConfig.PUBLICATION_NAME));
+        assertEquals(
+                PostgresConnectorConfig.AutoCreateMode.DISABLED.getValue(),
+                connectorConfig
+                        .getConfig()
+                        .getString(PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE));
+    }
+
+    private static PostgresSourceConfigFactory configFactory() {
+        return new PostgresSourceConfigFactory()
+                .hostname("localhost")
+                .port(5432)
+                .database("postgres")
+                .schemaList("inventory")
+                .username("postgres")
+                .password("postgres")
+                .slotName("flink");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.dialect;
+
+import com.ververica.cdc.debezium.source.assigner.splitter.ChunkRange;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+/** Tests for {@link PostgresChunkSplitter}. */
+public class PostgresChunkSplitterTest {
+
+    @Test
+    public void testSplitPageRanges() {
+        // 100 rows per page, the chunk of 300 rows is 3 pages
+        assertEquals(
+                Arrays.asList(
+                        ChunkRange.of(null, "(3,0)"),
+                        ChunkRange.of("(3,0)", "(6,0)"),
+                        ChunkRange.of("(6,0)", "(9,0)"),
+                        ChunkRange.of("(9,0)", null)),
+                PostgresChunkSplitter.splitPageRanges(10L, 1000L, 300));
+
+        // the pages per chunk are rounded up
+        assertEquals(
+                Arrays.asList(
+                        ChunkRange.of(null, "(4,0)"),
+                        ChunkRange.of("(4,0)", "(8,0)"),
+                        ChunkRange.of("(8,0)", null)),
+                PostgresChunkSplitter.splitPageRanges(10L, 1000L, 350));
+    }
+
+    @Test
+    public void testSplitPageRangesOfDensePages() {
+        // a chunk contains a page at least, even if the page contains more rows than the chunk
+        assertEquals(
+                Arrays.asList(
+                        ChunkRange.of(null, "(1,0)"),
+                        ChunkRange.of("(1,0)", "(2,0)"),
+                        ChunkRange.of("(2,0)", null)),
+                PostgresChunkSplitter.splitPageRanges(3L, 3000L, 100));
+    }
+
+    @Test
+    public void testSplitSmallOrEmptyTable() {
+        assertEquals(
+                Collections.singletonList(ChunkRange.all()),
+                PostgresChunkSplitter.splitPageRanges(10L, 1000L, 1000));
+        assertEquals(
+                Collections.singletonList(ChunkRange.all()),
+                PostgresChunkSplitter.splitPageRanges(0L, 0L, 1000));
+        // the rows which are inserted but not yet flushed to the relation file
+        assertEquals(
+                Collections.singletonList(ChunkRange.all()),
+                PostgresChunkSplitter.splitPageRanges(0L, 5000L, 1000));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.dialect;
+
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import com.ververica.cdc.connectors.postgres.source.config.PostgresSourceConfigFactory;
+import com.ververica.cdc.connectors.postgres.source.offset.PostgresOffset;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.ververica.cdc.debezium.source.assigner.StreamSplitAssigner.STREAM_SPLIT_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/** Tests for {@link PostgresDialect}. */
+public class PostgresDialectTest {
+
+    private static final StreamSplit STREAM_SPLIT =
+            new StreamSplit(
+                    STREAM_SPLIT_ID,
+                    PostgresOffset.ofLsn(Lsn.valueOf(23964408L)),
+                    PostgresOffset.NO_STOPPING_OFFSET,
+                    new ArrayList<>(),
+                    new HashMap<>(),
+                    0);
+
+    @Test
+    public void testSplitStreamOfSingleSlot() {
+        final List<StreamSplit> streamSplits =
+                new PostgresDialect().splitStream(STREAM_SPLIT, configFactory().create(0));
+        assertEquals(1, streamSplits.size());
+        assertSame(STREAM_SPLIT, streamSplits.get(0));
+        assertEquals(0, PostgresDialect.getStreamSlot(STREAM_SPLIT));
+    }
+
+    @Test
+    public void testSplitStreamOfMultipleSlots() {
+        final List<StreamSplit> streamSplits =
+                new PostgresDialect()
+                        .splitStream(STREAM_SPLIT, configFactory().streamSlotCount(3).create(0));
+        assertEquals(3, streamSplits.size());
+        for (int i = 0; i < streamSplits.size(); i++) {
+            final StreamSplit streamSplit = streamSplits.get(i);
+            assertEquals(i, PostgresDialect.getStreamSlot(streamSplit));
+            // the stream splits of slots start from the offset of the stream split
+            assertEquals(STREAM_SPLIT.getStartingOffset(), streamSplit.getStartingOffset());
+            assertEquals(STREAM_SPLIT.getEndingOffset(), streamSplit.getEndingOffset());
+        }
+    }
+
+    @Test
+    public void testGetStreamSlotTables() {
+        final PostgresSourceConfig sourceConfig = configFactory().streamSlotCount(3).create(0);
+        final List<TableId> tableIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tableIds.add(new TableId(null, "inventory", "table_" + i));
+        }
+
+        final List<TableId> allSlotTables = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final List<TableId> slotTables =
+                    PostgresDialect.getStreamSlotTables(sourceConfig, tableIds, i);
+            for (TableId tableId : slotTables) {
+                assertEquals(i, sourceConfig.getStreamSlot(tableId));
+            }
+            allSlotTables.addAll(slotTables);
+        }
+        // every table is published by exactly one slot
+        assertEquals(tableIds.size(), allSlotTables.size());
+        assertEquals(new HashSet<>(tableIds), new HashSet<>(allSlotTables));
+    }
+
+    @Test
+    public void testCreatePublicationStatement() {
+        assertEquals(
+                "CREATE PUBLICATION \"dbz_publication_1\""
+                        + " FOR TABLE \"inventory\".\"products\", \"inventory\".\"orders\"",
+                PostgresDialect.createPublicationStatement(
+                        "dbz_publication_1",
+                        Arrays.asList(
+                                new TableId(null, "inventory", "products"),
+                                new TableId(null, "inventory", "orders"))));
+
+        // the slot without tables decodes no changes
+        assertEquals(
+                "CREATE PUBLICATION \"dbz_publication_2\"",
+                PostgresDialect.createPublicationStatement(
+                        "dbz_publication_2", Collections.emptyList()));
+    }
+
+    private static PostgresSourceConfigFactory configFactory() {
+        return new PostgresSourceConfigFactory()
+                .hostname("localhost")
+                .port(5432)
+                .database("postgres")
+                .schemaList("inventory")
+                .username("postgres")
+                .password("postgres")
+                .slotName("flink");
+    }
+}
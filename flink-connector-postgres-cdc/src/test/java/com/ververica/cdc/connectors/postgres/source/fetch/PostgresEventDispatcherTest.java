@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.fetch;
+
+import io.debezium.connector.postgresql.SourceInfo;
+import io.debezium.connector.postgresql.connection.Lsn;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.postgres.source.fetch.PostgresSourceFetchTaskContext.PostgresEventDispatcher.isAfterUpperBound;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link PostgresSourceFetchTaskContext.PostgresEventDispatcher}. */
+public class PostgresEventDispatcherTest {
+
+    @Test
+    public void testFilterChangesAfterUpperBound() {
+        final Lsn upperBound = Lsn.valueOf(23964408L);
+        assertFalse(isAfterUpperBound(offset(23964407L), upperBound));
+        // the change at the high watermark belongs to the snapshot split
+        assertFalse(isAfterUpperBound(offset(23964408L), upperBound));
+        assertTrue(isAfterUpperBound(offset(23964409L), upperBound));
+    }
+
+    @Test
+    public void testKeepChangesWithoutUpperBoundOrLsn() {
+        // the upper bound is only set while the changes of a snapshot split are back filled
+        assertFalse(isAfterUpperBound(offset(Long.MAX_VALUE), null));
+        assertFalse(isAfterUpperBound(Collections.emptyMap(), Lsn.valueOf(23964408L)));
+    }
+
+    private static Map<String, ?> offset(long lsn) {
+        final Map<String, Object> offset = new HashMap<>();
+        offset.put(SourceInfo.LSN_KEY, lsn);
+        offset.put(SourceInfo.TXID_KEY, 556L);
+        return offset;
+    }
+}
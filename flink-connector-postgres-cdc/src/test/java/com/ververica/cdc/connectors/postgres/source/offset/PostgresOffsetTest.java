@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.postgres.source.offset;
+
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.debezium.source.offset.Offset;
+import com.ververica.cdc.debezium.source.split.SnapshotSplit;
+import com.ververica.cdc.debezium.source.split.SourceSplitBase;
+import com.ververica.cdc.debezium.source.split.SourceSplitSerializer;
+import com.ververica.cdc.debezium.source.split.StreamSplit;
+import io.debezium.connector.postgresql.PostgresOffsetContext;
+import io.debezium.connector.postgresql.SourceInfo;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link PostgresOffset}. */
+public class PostgresOffsetTest {
+
+    private static final RowType SPLIT_KEY_TYPE =
+            new RowType(Collections.singletonList(new RowType.RowField("id", new BigIntType())));
+
+    private final SourceSplitSerializer serializer =
+            new SourceSplitSerializer(new PostgresOffsetFactory());
+
+    @Test
+    public void testOrderByLsn() {
+        final PostgresOffset offset = PostgresOffset.ofLsn(Lsn.valueOf(23964408L));
+        assertTrue(PostgresOffset.INITIAL_OFFSET.isBefore(offset));
+        assertTrue(offset.isBefore(PostgresOffset.ofLsn(Lsn.valueOf(23964409L))));
+        assertTrue(offset.isAtOrAfter(PostgresOffset.ofLsn(Lsn.valueOf(23964408L))));
+        assertTrue(offset.isBefore(PostgresOffset.NO_STOPPING_OFFSET));
+
+        // the LSNs are compared as unsigned numbers, not as the decimal strings of the offset
+        assertTrue(
+                PostgresOffset.ofLsn(Lsn.valueOf(9L))
+                        .isBefore(PostgresOffset.ofLsn(Lsn.valueOf(10L))));
+
+        // the offset read from the WAL is ordered by the LSN only
+        final Map<String, String> dbzOffset = new HashMap<>();
+        dbzOffset.put(SourceInfo.LSN_KEY, "23964408");
+        dbzOffset.put(SourceInfo.TXID_KEY, "556");
+        assertEquals(0, offset.compareTo(new PostgresOffset(dbzOffset)));
+    }
+
+    @Test
+    public void testToDbzOffset() {
+        final Map<String, String> offset = new HashMap<>();
+        offset.put(SourceInfo.LSN_KEY, "23964408");
+        offset.put(PostgresOffsetContext.LAST_COMPLETELY_PROCESSED_LSN_KEY, "23964400");
+        offset.put(SourceInfo.TXID_KEY, "556");
+        offset.put(SourceInfo.TIMESTAMP_USEC_KEY, "1634560496123456");
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put(SourceInfo.LSN_KEY, 23964408L);
+        expected.put(PostgresOffsetContext.LAST_COMPLETELY_PROCESSED_LSN_KEY, 23964400L);
+        expected.put(SourceInfo.TXID_KEY, 556L);
+        expected.put(SourceInfo.TIMESTAMP_USEC_KEY, 1634560496123456L);
+        assertEquals(expected, new PostgresOffset(offset).toDbzOffset());
+
+        // the watermark has the LSN only, the timestamp is required by the offset loader
+        final Map<String, Object> expectedOfLsn = new HashMap<>();
+        expectedOfLsn.put(SourceInfo.LSN_KEY, 23964408L);
+        expectedOfLsn.put(SourceInfo.TIMESTAMP_USEC_KEY, 0L);
+        assertEquals(expectedOfLsn, PostgresOffset.ofLsn(Lsn.valueOf(23964408L)).toDbzOffset());
+    }
+
+    @Test
+    public void testSerializeSplits() throws Exception {
+        final TableId tableId = new TableId(null, "inventory", "products");
+        final SourceSplitBase snapshotSplit =
+                new SnapshotSplit(
+                        tableId,
+                        tableId + ":1",
+                        SPLIT_KEY_TYPE,
+                        new Object[] {100L},
+                        new Object[] {200L},
+                        PostgresOffset.ofLsn(Lsn.valueOf(23964408L)),
+                        new HashMap<>());
+        assertSerializedSplit(snapshotSplit);
+
+        final SourceSplitBase streamSplit =
+                new StreamSplit(
+                        "stream-split",
+                        PostgresOffset.ofLsn(Lsn.valueOf(23964408L)),
+                        PostgresOffset.NO_STOPPING_OFFSET,
+                        new ArrayList<>(),
+                        new HashMap<>(),
+                        0);
+        assertSerializedSplit(streamSplit);
+    }
+
+    @Test
+    public void testSerializeExportedSnapshot() throws Exception {
+        final TableId tableId = new TableId(null, "inventory", "products");
+        final PostgresOffset exportedSnapshot =
+                PostgresOffset.ofExportedSnapshot(Lsn.valueOf(23964408L), "00000003-00000002-1");
+        final SnapshotSplit split =
+                new SnapshotSplit(
+                        tableId,
+                        tableId + ":0",
+                        SPLIT_KEY_TYPE,
+                        null,
+                        new Object[] {100L},
+                        null,
+                        new HashMap<>(),
+                        exportedSnapshot);
+
+        final SnapshotSplit deserialized =
+                serializer
+                        .deserialize(serializer.getVersion(), serializer.serialize(split))
+                        .asSnapshotSplit();
+        assertEquals(split, deserialized);
+        final PostgresOffset snapshotOffset = (PostgresOffset) deserialized.getSnapshotOffset();
+        assertEquals("00000003-00000002-1", snapshotOffset.getSnapshotName());
+        assertEquals(Lsn.valueOf(23964408L), snapshotOffset.getLsn());
+        // the changes are read from the consistent point of the slot
+        assertEquals(23964408L, snapshotOffset.toDbzOffset().get(SourceInfo.LSN_KEY));
+        assertNull(PostgresOffset.ofLsn(Lsn.valueOf(23964408L)).getSnapshotName());
+    }
+
+    private void assertSerializedSplit(SourceSplitBase split) throws Exception {
+        final SourceSplitBase deserialized =
+                serializer.deserialize(serializer.getVersion(), serializer.serialize(split));
+        assertEquals(split, deserialized);
+        final Offset offset =
+                split.isSnapshotSplit()
+                        ? split.asSnapshotSplit().getHighWatermark()
+                        : split.asStreamSplit().getEndingOffset();
+        final Offset deserializedOffset =
+                deserialized.isSnapshotSplit()
+                        ? deserialized.asSnapshotSplit().getHighWatermark()
+                        : deserialized.asStreamSplit().getEndingOffset();
+        // the offsets are deserialized by the offset factory of Postgres
+        assertEquals(PostgresOffset.class, deserializedOffset.getClass());
+        assertEquals(0, offset.compareTo(deserializedOffset));
+    }
+}
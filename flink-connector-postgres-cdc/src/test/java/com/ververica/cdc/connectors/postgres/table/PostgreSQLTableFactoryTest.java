@@ -35,6 +35,7 @@ import org.apache.flink.util.ExceptionUtils;
 
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,6 +43,15 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.CHUNK_META_GROUP_SIZE;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.CONNECT_MAX_RETRIES;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.CONNECT_TIMEOUT;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.EVENLY_DISTRIBUTION_FACTOR;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_EXPORT_ENABLED;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_INCREMENTAL_STREAM_SLOTS;
+import static com.ververica.cdc.connectors.postgres.source.config.PostgresSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static org.apache.flink.table.api.TableSchema.fromResolvedSchema;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -101,7 +111,17 @@ public class PostgreSQLTableFactoryTest {
                         MY_PASSWORD,
                         "decoderbufs",
                         "flink",
-                        PROPERTIES);
+                        PROPERTIES,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_EXPORT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_SLOTS.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -128,7 +148,56 @@ public class PostgreSQLTableFactoryTest {
                         MY_PASSWORD,
                         "wal2json",
                         "flink",
-                        dbzProperties);
+                        dbzProperties,
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_EXPORT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_SLOTS.defaultValue());
+        assertEquals(expectedSource, actualSource);
+    }
+
+    @Test
+    public void testEnableParallelReadSource() {
+        Map<String, String> options = getAllOptions();
+        options.put("scan.incremental.snapshot.enabled", "true");
+        options.put("scan.incremental.snapshot.chunk.size", "8000");
+        options.put("scan.incremental.snapshot.chunk.key-column", "id");
+        options.put("scan.incremental.snapshot.export.enabled", "true");
+        options.put("chunk-meta.group.size", "3000");
+        options.put("scan.snapshot.fetch.size", "100");
+        options.put("connect.timeout", "45s");
+        options.put("scan.incremental.stream.slots", "4");
+
+        DynamicTableSource actualSource = createTableSource(options);
+        PostgreSQLTableSource expectedSource =
+                new PostgreSQLTableSource(
+                        TableSchemaUtils.getPhysicalSchema(fromResolvedSchema(SCHEMA)),
+                        5432,
+                        MY_LOCALHOST,
+                        MY_DATABASE,
+                        MY_SCHEMA,
+                        MY_TABLE,
+                        MY_USERNAME,
+                        MY_PASSWORD,
+                        "decoderbufs",
+                        "flink",
+                        PROPERTIES,
+                        true,
+                        8000,
+                        3000,
+                        100,
+                        Duration.ofSeconds(45),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        "id",
+                        true,
+                        4);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -156,7 +225,17 @@ public class PostgreSQLTableFactoryTest {
                         MY_PASSWORD,
                         "decoderbufs",
                         "flink",
-                        new Properties());
+                        new Properties(),
+                        SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        CONNECT_TIMEOUT.defaultValue(),
+                        CONNECT_MAX_RETRIES.defaultValue(),
+                        EVENLY_DISTRIBUTION_FACTOR.defaultValue(),
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_EXPORT_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_SLOTS.defaultValue());
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys =
                 Arrays.asList("op_ts", "database_name", "schema_name", "table_name");
@@ -198,6 +277,21 @@ public class PostgreSQLTableFactoryTest {
             }
         }
 
+        // validate multiple stream slots without incremental snapshot
+        try {
+            Map<String, String> properties = getAllOptions();
+            properties.put("scan.incremental.stream.slots", "2");
+
+            createTableSource(properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            assertTrue(
+                    ExceptionUtils.findThrowableWithMessage(
+                                    t,
+                                    "The option 'scan.incremental.stream.slots' is only supported when 'scan.incremental.snapshot.enabled' is enabled.")
+                            .isPresent());
+        }
+
         // validate unsupported option
         try {
             Map<String, String> properties = getAllOptions();
@@ -0,0 +1,40 @@
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file
+-- distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"); you may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--   http://www.apache.org/licenses/LICENSE-2.0
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+
+-- Create the schema that we'll use to populate data and watch the effect in the WAL
+DROP SCHEMA IF EXISTS customer CASCADE;
+CREATE SCHEMA customer;
+SET search_path TO customer;
+
+-- Create and populate the tables which are large enough to be split into many chunks
+CREATE TABLE customers (
+  id INTEGER NOT NULL PRIMARY KEY,
+  name VARCHAR(255) NOT NULL,
+  balance BIGINT NOT NULL
+);
+ALTER TABLE customers REPLICA IDENTITY FULL;
+
+INSERT INTO customers
+SELECT id, 'user_' || id, id * 100 FROM generate_series(1, 5000) AS id;
+
+CREATE TABLE customers_2 (
+  id INTEGER NOT NULL PRIMARY KEY,
+  name VARCHAR(255) NOT NULL,
+  balance BIGINT NOT NULL
+);
+ALTER TABLE customers_2 REPLICA IDENTITY FULL;
+
+INSERT INTO customers_2
+SELECT id, 'user_' || id, id * 100 FROM generate_series(1, 5000) AS id;
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.formats.binary;
+
+import org.apache.flink.api.common.serialization.DeserializationSchema;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static com.ververica.cdc.formats.binary.ChangelogBinarySerializationSchema.HEADER_SIZE;
+import static com.ververica.cdc.formats.binary.ChangelogBinarySerializationSchema.VERSION;
+import static com.ververica.cdc.formats.binary.ChangelogBinarySerializationSchema.schemaFingerprint;
+import static java.lang.String.format;
+
+/**
+ * Deserialization schema from Changelog Binary to Flink Table/SQL internal data structure {@link
+ * RowData}, see {@link ChangelogBinarySerializationSchema} for the layout of the message.
+ *
+ * <p>The produced {@link BinaryRowData} points to the bytes of the message without copying them,
+ * the message must not be reused by the caller after it's deserialized.
+ */
+public class ChangelogBinaryDeserializationSchema implements DeserializationSchema<RowData> {
+    private static final long serialVersionUID = 1L;
+
+    private final RowType rowType;
+
+    /** TypeInformation of the produced {@link RowData}. * */
+    private final TypeInformation<RowData> resultTypeInfo;
+
+    /** Flag indicating whether to ignore invalid rows (default: throw an exception). */
+    private final boolean ignoreParseErrors;
+
+    private final long schemaFingerprint;
+
+    private final int fixedLengthPartSize;
+
+    public ChangelogBinaryDeserializationSchema(
+            RowType rowType, TypeInformation<RowData> resultTypeInfo, boolean ignoreParseErrors) {
+        this.rowType = rowType;
+        this.resultTypeInfo = resultTypeInfo;
+        this.ignoreParseErrors = ignoreParseErrors;
+        this.schemaFingerprint = schemaFingerprint(rowType);
+        this.fixedLengthPartSize =
+                BinaryRowData.calculateFixPartSizeInBytes(rowType.getFieldCount());
+    }
+
+    @Override
+    public RowData deserialize(byte[] message) throws IOException {
+        try {
+            return parse(message);
+        } catch (Throwable t) {
+            // a big try catch to protect the processing.
+            if (!ignoreParseErrors) {
+                throw new IOException(
+                        format("Corrupt Changelog Binary message of %d bytes.", message.length), t);
+            }
+            return null;
+        }
+    }
+
+    private RowData parse(byte[] message) throws IOException {
+        if (message.length < HEADER_SIZE + fixedLengthPartSize) {
+            throw new IOException(
+                    format(
+                            "The message should contain at least %d bytes.",
+                            HEADER_SIZE + fixedLengthPartSize));
+        }
+        if (message[0] != VERSION) {
+            throw new IOException(
+                    format("Unsupported Changelog Binary version %d.", (int) message[0]));
+        }
+        final RowKind rowKind = RowKind.fromByteValue(message[1]);
+        long fingerprint = 0;
+        for (int i = 0; i < 8; i++) {
+            fingerprint = (fingerprint << 8) | (message[2 + i] & 0xFF);
+        }
+        if (fingerprint != schemaFingerprint) {
+            throw new IOException(
+                    format(
+                            "The schema fingerprint %016x of the message doesn't match the "
+                                    + "schema fingerprint %016x of %s, the message is written "
+                                    + "with a different schema.",
+                            fingerprint, schemaFingerprint, rowType));
+        }
+        final BinaryRowData row = new BinaryRowData(rowType.getFieldCount());
+        row.pointTo(MemorySegmentFactory.wrap(message), HEADER_SIZE, message.length - HEADER_SIZE);
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    @Override
+    public boolean isEndOfStream(RowData rowData) {
+        return false;
+    }
+
+    @Override
+    public TypeInformation<RowData> getProducedType() {
+        return resultTypeInfo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ChangelogBinaryDeserializationSchema that = (ChangelogBinaryDeserializationSchema) o;
+        return ignoreParseErrors == that.ignoreParseErrors
+                && Objects.equals(rowType, that.rowType)
+                && Objects.equals(resultTypeInfo, that.resultTypeInfo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowType, resultTypeInfo, ignoreParseErrors);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.formats.binary;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.data.binary.BinarySegmentUtils;
+import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serialization schema from Flink Table/SQL internal data structure {@link RowData} to Changelog
+ * Binary.
+ *
+ * <p>The message consists of a header and the {@link BinaryRowData} of the row:
+ *
+ * <pre>
+ * +---------+----------+--------------------+---------------------+
+ * | version | row kind | schema fingerprint | binary row          |
+ * | 1 byte  | 1 byte   | 8 bytes            | variable length     |
+ * +---------+----------+--------------------+---------------------+
+ * </pre>
+ *
+ * <p>The schema fingerprint is derived from the field names and types of the row, see {@link
+ * #schemaFingerprint(RowType)}, the reader rejects the messages which are written with a different
+ * schema because the binary row can't be interpreted without the exact types.
+ */
+public class ChangelogBinarySerializationSchema implements SerializationSchema<RowData> {
+    private static final long serialVersionUID = 1L;
+
+    /** The version of the message layout. */
+    static final byte VERSION = 1;
+
+    /** The size of the header ahead of the binary row. */
+    static final int HEADER_SIZE = 10;
+
+    private final RowType rowType;
+
+    private final long schemaFingerprint;
+
+    private transient RowDataSerializer serializer;
+
+    public ChangelogBinarySerializationSchema(RowType rowType) {
+        this.rowType = rowType;
+        this.schemaFingerprint = schemaFingerprint(rowType);
+    }
+
+    @Override
+    public void open(InitializationContext context) throws Exception {
+        this.serializer = new RowDataSerializer(rowType);
+    }
+
+    @Override
+    public byte[] serialize(RowData rowData) {
+        try {
+            final BinaryRowData binaryRow = serializer.toBinaryRow(rowData);
+            final int size = binaryRow.getSizeInBytes();
+            final byte[] bytes = new byte[HEADER_SIZE + size];
+            bytes[0] = VERSION;
+            bytes[1] = rowData.getRowKind().toByteValue();
+            for (int i = 0; i < 8; i++) {
+                bytes[2 + i] = (byte) (schemaFingerprint >>> (56 - 8 * i));
+            }
+            BinarySegmentUtils.copyToBytes(
+                    binaryRow.getSegments(), binaryRow.getOffset(), bytes, HEADER_SIZE, size);
+            return bytes;
+        } catch (Throwable t) {
+            throw new RuntimeException("Could not serialize row '" + rowData + "'.", t);
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the given row type, it's the first 8 bytes of the MD5 digest of
+     * the field names and types. The nullability of the types doesn't change the layout of the
+     * binary row, so it's excluded from the fingerprint.
+     */
+    public static long schemaFingerprint(RowType rowType) {
+        final StringBuilder builder = new StringBuilder();
+        appendType(builder, rowType);
+        final byte[] digest;
+        try {
+            digest =
+                    MessageDigest.getInstance("MD5")
+                            .digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The MD5 algorithm is not available.", e);
+        }
+        long fingerprint = 0;
+        for (int i = 0; i < 8; i++) {
+            fingerprint = (fingerprint << 8) | (digest[i] & 0xFF);
+        }
+        return fingerprint;
+    }
+
+    private static void appendType(StringBuilder builder, LogicalType type) {
+        if (type instanceof RowType) {
+            builder.append("ROW<");
+            final List<RowType.RowField> fields = ((RowType) type).getFields();
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append('`').append(fields.get(i).getName()).append("` ");
+                appendType(builder, fields.get(i).getType());
+            }
+            builder.append('>');
+        } else if (type.getChildren().isEmpty()) {
+            builder.append(type.copy(true).asSummaryString());
+        } else {
+            builder.append(type.getTypeRoot()).append('<');
+            final List<LogicalType> children = type.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                appendType(builder, children.get(i));
+            }
+            builder.append('>');
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ChangelogBinarySerializationSchema that = (ChangelogBinarySerializationSchema) o;
+        return Objects.equals(rowType, that.rowType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowType);
+    }
+}
@@ -21,30 +21,48 @@ package com.ververica.cdc.formats.json;
 import org.apache.flink.api.common.serialization.DeserializationSchema;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.formats.common.TimestampFormat;
-import org.apache.flink.formats.json.JsonRowDataDeserializationSchema;
-import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.formats.json.JsonToRowDataConverters;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
-import org.apache.flink.table.types.DataType;
+import org.apache.flink.table.types.logical.DecimalType;
 import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.utils.LogicalTypeChecks;
 import org.apache.flink.types.RowKind;
 import org.apache.flink.util.Collector;
 
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonParser;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonToken;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.json.JsonReadFeature;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.DeserializationFeature;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 import static java.lang.String.format;
-import static org.apache.flink.table.types.utils.TypeConversions.fromLogicalToDataType;
 
 /**
  * Deserialization schema from Changelog Json to Flink Table/SQL internal data structure {@link
  * RowData}.
+ *
+ * <p>The envelope of message is read by a streaming parser, so the produced row isn't wrapped into an
+ * outer row and the "op" is decoded from the characters of the parser without creating a string.
+ * The "data" object is still read into a {@link JsonNode} tree, which is converted to the produced
+ * row by the converters of flink-json, so the cost of the fields is the same as the JSON format.
  */
 public class ChangelogJsonDeserializationSchema implements DeserializationSchema<RowData> {
     private static final long serialVersionUID = -2084214292622004460L;
 
-    /** The deserializer to deserialize Debezium JSON data. */
-    private final JsonRowDataDeserializationSchema jsonDeserializer;
+    private static final String FIELD_DATA = "data";
+    private static final String FIELD_OP = "op";
+
+    /** The row type of the "data" object. */
+    private final RowType rowType;
+
+    /** Runtime converter that converts the "data" object into the produced row. */
+    private final JsonToRowDataConverters.JsonToRowDataConverter dataConverter;
 
     /** TypeInformation of the produced {@link RowData}. * */
     private final TypeInformation<RowData> resultTypeInfo;
@@ -52,23 +70,32 @@ public class ChangelogJsonDeserializationSchema implements DeserializationSchema
     /** Flag indicating whether to ignore invalid fields/rows (default: throw an exception). */
     private final boolean ignoreParseErrors;
 
+    /** Timestamp format specification which is used to parse timestamp. */
+    private final TimestampFormat timestampFormat;
+
+    /** Object mapper for parsing the JSON. */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     public ChangelogJsonDeserializationSchema(
             RowType rowType,
             TypeInformation<RowData> resultTypeInfo,
             boolean ignoreParseErrors,
             TimestampFormat timestampFormatOption) {
+        this.rowType = rowType;
         this.resultTypeInfo = resultTypeInfo;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.jsonDeserializer =
-                new JsonRowDataDeserializationSchema(
-                        createJsonRowType(fromLogicalToDataType(rowType)),
-                        // the result type is never used, so it's fine to pass in Debezium's result
-                        // type
-                        resultTypeInfo,
-                        false, // ignoreParseErrors already contains the functionality of
-                        // failOnMissingField
-                        ignoreParseErrors,
-                        timestampFormatOption);
+        this.timestampFormat = timestampFormatOption;
+        this.dataConverter =
+                new JsonToRowDataConverters(
+                                false, // ignoreParseErrors already contains the functionality of
+                                // failOnMissingField
+                                ignoreParseErrors,
+                                timestampFormatOption)
+                        .createConverter(rowType);
+        if (LogicalTypeChecks.hasNested(rowType, t -> t instanceof DecimalType)) {
+            objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        }
+        objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
     }
 
     @Override
@@ -80,35 +107,69 @@ public class ChangelogJsonDeserializationSchema implements DeserializationSchema
     @Override
     public void deserialize(byte[] bytes, Collector<RowData> out) throws IOException {
         try {
-            GenericRowData row = (GenericRowData) jsonDeserializer.deserialize(bytes);
-            GenericRowData data = (GenericRowData) row.getField(0);
-            String op = row.getString(1).toString();
-            RowKind rowKind = parseRowKind(op);
-            data.setRowKind(rowKind);
-            out.collect(data);
+            out.collect(parse(bytes));
         } catch (Throwable t) {
             // a big try catch to protect the processing.
             if (!ignoreParseErrors) {
                 throw new IOException(
-                        format("Corrupt Changelog JSON message '%s'.", new String(bytes)), t);
+                        format(
+                                "Corrupt Changelog JSON message '%s'.",
+                                new String(bytes, StandardCharsets.UTF_8)),
+                        t);
             }
         }
     }
 
-    private static RowKind parseRowKind(String op) {
-        switch (op) {
-            case "+I":
+    private GenericRowData parse(byte[] bytes) throws IOException {
+        GenericRowData data = null;
+        RowKind rowKind = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(bytes)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("The Changelog JSON message should be a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                // the field names are canonicalized by the parser, they're not copied per message
+                final String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (FIELD_DATA.equals(fieldName)) {
+                    // the converters of flink-json convert a tree, not the tokens of the parser
+                    final JsonNode node = objectMapper.readTree(parser);
+                    data = (GenericRowData) dataConverter.convert(node);
+                } else if (FIELD_OP.equals(fieldName)) {
+                    rowKind = parseRowKind(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (data == null) {
+            throw new IOException("The Changelog JSON message doesn't contain the 'data' field.");
+        }
+        if (rowKind == null) {
+            throw new IOException("The Changelog JSON message doesn't contain the 'op' field.");
+        }
+        data.setRowKind(rowKind);
+        return data;
+    }
+
+    private static RowKind parseRowKind(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING && parser.getTextLength() == 2) {
+            final char[] chars = parser.getTextCharacters();
+            final int offset = parser.getTextOffset();
+            final char sign = chars[offset];
+            final char kind = chars[offset + 1];
+            if (sign == '+' && kind == 'I') {
                 return RowKind.INSERT;
-            case "-U":
+            } else if (sign == '-' && kind == 'U') {
                 return RowKind.UPDATE_BEFORE;
-            case "+U":
+            } else if (sign == '+' && kind == 'U') {
                 return RowKind.UPDATE_AFTER;
-            case "-D":
+            } else if (sign == '-' && kind == 'D') {
                 return RowKind.DELETE;
-            default:
-                throw new UnsupportedOperationException(
-                        "Unsupported operation '" + op + "' for row kind.");
+            }
         }
+        throw new UnsupportedOperationException(
+                "Unsupported operation '" + parser.getText() + "' for row kind.");
     }
 
     @Override
@@ -131,20 +192,13 @@ public class ChangelogJsonDeserializationSchema implements DeserializationSchema
         }
         ChangelogJsonDeserializationSchema that = (ChangelogJsonDeserializationSchema) o;
         return ignoreParseErrors == that.ignoreParseErrors
-                && Objects.equals(jsonDeserializer, that.jsonDeserializer)
-                && Objects.equals(resultTypeInfo, that.resultTypeInfo);
+                && Objects.equals(rowType, that.rowType)
+                && Objects.equals(resultTypeInfo, that.resultTypeInfo)
+                && timestampFormat == that.timestampFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(jsonDeserializer, resultTypeInfo, ignoreParseErrors);
-    }
-
-    private static RowType createJsonRowType(DataType databaseSchema) {
-        DataType payload =
-                DataTypes.ROW(
-                        DataTypes.FIELD("data", databaseSchema),
-                        DataTypes.FIELD("op", DataTypes.STRING()));
-        return (RowType) payload.getLogicalType();
+        return Objects.hash(rowType, resultTypeInfo, ignoreParseErrors, timestampFormat);
     }
 }
@@ -21,62 +21,97 @@ package com.ververica.cdc.formats.json;
 import org.apache.flink.api.common.serialization.SerializationSchema;
 import org.apache.flink.formats.common.TimestampFormat;
 import org.apache.flink.formats.json.JsonOptions;
-import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
-import org.apache.flink.table.api.DataTypes;
-import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.formats.json.RowDataToJsonConverters;
 import org.apache.flink.table.data.RowData;
-import org.apache.flink.table.data.StringData;
-import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.types.RowKind;
 
-import java.util.Objects;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.io.SerializedString;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ObjectNode;
 
-import static org.apache.flink.table.types.utils.TypeConversions.fromLogicalToDataType;
+import java.util.Objects;
 
 /**
  * Serialization schema from Flink Table/SQL internal data structure {@link RowData} to Changelog
  * Json.
+ *
+ * <p>The envelope of message is written by a streaming generator and the "op" is written from
+ * pre-encoded constants. The row is still converted to a reused {@link ObjectNode} tree by the
+ * converters of flink-json, and the tree is written as the "data" object.
  */
 public class ChangelogJsonSerializationSchema implements SerializationSchema<RowData> {
     private static final long serialVersionUID = -3999450457829887684L;
 
-    private static final StringData OP_INSERT = StringData.fromString("+I");
-    private static final StringData OP_UPDATE_BEFORE = StringData.fromString("-U");
-    private static final StringData OP_UPDATE_AFTER = StringData.fromString("+U");
-    private static final StringData OP_DELETE = StringData.fromString("-D");
+    private static final SerializedString FIELD_DATA = new SerializedString("data");
+    private static final SerializedString FIELD_OP = new SerializedString("op");
+
+    private static final SerializedString OP_INSERT = new SerializedString("+I");
+    private static final SerializedString OP_UPDATE_BEFORE = new SerializedString("-U");
+    private static final SerializedString OP_UPDATE_AFTER = new SerializedString("+U");
+    private static final SerializedString OP_DELETE = new SerializedString("-D");
+
+    /** The row type of the "data" object. */
+    private final RowType rowType;
 
-    private final JsonRowDataSerializationSchema jsonSerializer;
+    /** Runtime converter that converts the row into the "data" object. */
+    private final RowDataToJsonConverters.RowDataToJsonConverter dataConverter;
 
     /** Timestamp format specification which is used to parse timestamp. */
     private final TimestampFormat timestampFormat;
 
-    private transient GenericRowData reuse;
+    /** Object mapper that is used to create the generator. */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Reusable object node of the "data" object. */
+    private transient ObjectNode reuse;
+
+    /** Reusable output buffer of the generator. */
+    private transient ByteArrayBuilder buffer;
 
     public ChangelogJsonSerializationSchema(RowType rowType, TimestampFormat timestampFormat) {
-        this.jsonSerializer =
-                new JsonRowDataSerializationSchema(
-                        createJsonRowType(fromLogicalToDataType(rowType)),
-                        timestampFormat,
-                        JsonOptions.MapNullKeyMode.FAIL,
-                        JsonOptions.MAP_NULL_KEY_LITERAL.defaultValue(),
-                        JsonOptions.ENCODE_DECIMAL_AS_PLAIN_NUMBER.defaultValue());
+        this.rowType = rowType;
         this.timestampFormat = timestampFormat;
+        this.dataConverter =
+                new RowDataToJsonConverters(
+                                timestampFormat,
+                                JsonOptions.MapNullKeyMode.FAIL,
+                                JsonOptions.MAP_NULL_KEY_LITERAL.defaultValue())
+                        .createConverter(rowType);
+        objectMapper.configure(
+                JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN,
+                JsonOptions.ENCODE_DECIMAL_AS_PLAIN_NUMBER.defaultValue());
     }
 
     @Override
     public void open(InitializationContext context) throws Exception {
-        this.reuse = new GenericRowData(2);
+        this.reuse = objectMapper.createObjectNode();
+        this.buffer = new ByteArrayBuilder();
     }
 
     @Override
     public byte[] serialize(RowData rowData) {
-        reuse.setField(0, rowData);
-        reuse.setField(1, stringifyRowKind(rowData.getRowKind()));
-        return jsonSerializer.serialize(reuse);
+        try {
+            final JsonNode data = dataConverter.convert(objectMapper, reuse, rowData);
+            buffer.reset();
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+                generator.writeStartObject();
+                generator.writeFieldName(FIELD_DATA);
+                objectMapper.writeTree(generator, data);
+                generator.writeFieldName(FIELD_OP);
+                generator.writeString(stringifyRowKind(rowData.getRowKind()));
+                generator.writeEndObject();
+            }
+            return buffer.toByteArray();
+        } catch (Throwable t) {
+            throw new RuntimeException("Could not serialize row '" + rowData + "'.", t);
+        }
     }
 
-    private static StringData stringifyRowKind(RowKind rowKind) {
+    private static SerializedString stringifyRowKind(RowKind rowKind) {
         switch (rowKind) {
             case INSERT:
                 return OP_INSERT;
@@ -101,20 +136,11 @@ public class ChangelogJsonSerializationSchema implements SerializationSchema<Row
             return false;
         }
         ChangelogJsonSerializationSchema that = (ChangelogJsonSerializationSchema) o;
-        return Objects.equals(jsonSerializer, that.jsonSerializer)
-                && timestampFormat == that.timestampFormat;
+        return Objects.equals(rowType, that.rowType) && timestampFormat == that.timestampFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(jsonSerializer, timestampFormat);
-    }
-
-    private static RowType createJsonRowType(DataType databaseSchema) {
-        DataType payload =
-                DataTypes.ROW(
-                        DataTypes.FIELD("data", databaseSchema),
-                        DataTypes.FIELD("op", DataTypes.STRING()));
-        return (RowType) payload.getLogicalType();
+        return Objects.hash(rowType, timestampFormat);
     }
 }
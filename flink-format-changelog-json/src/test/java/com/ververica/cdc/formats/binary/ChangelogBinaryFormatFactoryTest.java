@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.formats.binary;
+
+import org.apache.flink.api.common.serialization.DeserializationSchema;
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.catalog.CatalogTable;
+import org.apache.flink.table.catalog.Column;
+import org.apache.flink.table.catalog.ObjectIdentifier;
+import org.apache.flink.table.catalog.ResolvedCatalogTable;
+import org.apache.flink.table.catalog.ResolvedSchema;
+import org.apache.flink.table.connector.sink.DynamicTableSink;
+import org.apache.flink.table.connector.source.DynamicTableSource;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.factories.FactoryUtil;
+import org.apache.flink.table.factories.TestDynamicTableFactory;
+import org.apache.flink.table.runtime.connector.sink.SinkRuntimeProviderContext;
+import org.apache.flink.table.runtime.connector.source.ScanRuntimeProviderContext;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.ExceptionUtils;
+import org.apache.flink.util.TestLogger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.apache.flink.table.api.TableSchema.fromResolvedSchema;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link ChangelogBinaryFormatFactoryTest}. */
+public class ChangelogBinaryFormatFactoryTest extends TestLogger {
+    @Rule public ExpectedException thrown = ExpectedException.none();
+
+    private static final ResolvedSchema SCHEMA =
+            new ResolvedSchema(
+                    Arrays.asList(
+                            Column.physical("a", DataTypes.STRING()),
+                            Column.physical("b", DataTypes.STRING()),
+                            Column.physical("c", DataTypes.BOOLEAN())),
+                    new ArrayList<>(),
+                    null);
+
+    private static final RowType ROW_TYPE =
+            (RowType) fromResolvedSchema(SCHEMA).toRowDataType().getLogicalType();
+
+    @Test
+    public void testSeDeSchema() {
+        final ChangelogBinaryDeserializationSchema expectedDeser =
+                new ChangelogBinaryDeserializationSchema(
+                        ROW_TYPE, InternalTypeInfo.of(ROW_TYPE), true);
+        final ChangelogBinarySerializationSchema expectedSer =
+                new ChangelogBinarySerializationSchema(ROW_TYPE);
+
+        final Map<String, String> options = getAllOptions();
+
+        final DynamicTableSource actualSource = createTableSource(options);
+        assert actualSource instanceof TestDynamicTableFactory.DynamicTableSourceMock;
+        TestDynamicTableFactory.DynamicTableSourceMock scanSourceMock =
+                (TestDynamicTableFactory.DynamicTableSourceMock) actualSource;
+
+        DeserializationSchema<RowData> actualDeser =
+                scanSourceMock.valueFormat.createRuntimeDecoder(
+                        ScanRuntimeProviderContext.INSTANCE,
+                        fromResolvedSchema(SCHEMA).toRowDataType());
+
+        assertEquals(expectedDeser, actualDeser);
+
+        final DynamicTableSink actualSink = createTableSink(options);
+        assert actualSink instanceof TestDynamicTableFactory.DynamicTableSinkMock;
+        TestDynamicTableFactory.DynamicTableSinkMock sinkMock =
+                (TestDynamicTableFactory.DynamicTableSinkMock) actualSink;
+
+        SerializationSchema<RowData> actualSer =
+                sinkMock.valueFormat.createRuntimeEncoder(
+                        new SinkRuntimeProviderContext(false),
+                        fromResolvedSchema(SCHEMA).toRowDataType());
+
+        assertEquals(expectedSer, actualSer);
+    }
+
+    @Test
+    public void testInvalidIgnoreParseError() {
+        final Map<String, String> options =
+                getModifiedOptions(opts -> opts.put("changelog-binary.ignore-parse-errors", "abc"));
+
+        try {
+            createTableSource(options);
+        } catch (Exception e) {
+            assertTrue(
+                    ExceptionUtils.findThrowableWithMessage(
+                                    e,
+                                    "Unrecognized option for boolean: abc. Expected either true or false(case insensitive)")
+                            .isPresent());
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    //  Utilities
+    // ------------------------------------------------------------------------
+
+    /**
+     * Returns the full options modified by the given consumer {@code optionModifier}.
+     *
+     * @param optionModifier Consumer to modify the options
+     */
+    private Map<String, String> getModifiedOptions(Consumer<Map<String, String>> optionModifier) {
+        Map<String, String> options = getAllOptions();
+        optionModifier.accept(options);
+        return options;
+    }
+
+    private Map<String, String> getAllOptions() {
+        final Map<String, String> options = new HashMap<>();
+        options.put("connector", TestDynamicTableFactory.IDENTIFIER);
+        options.put("target", "MyTarget");
+        options.put("buffer-size", "1000");
+
+        options.put("format", "changelog-binary");
+        options.put("changelog-binary.ignore-parse-errors", "true");
+        return options;
+    }
+
+    private static DynamicTableSource createTableSource(Map<String, String> options) {
+        return FactoryUtil.createTableSource(
+                null,
+                ObjectIdentifier.of("default", "default", "t1"),
+                new ResolvedCatalogTable(
+                        CatalogTable.of(
+                                fromResolvedSchema(SCHEMA).toSchema(),
+                                "mock source",
+                                new ArrayList<>(),
+                                options),
+                        SCHEMA),
+                new Configuration(),
+                ChangelogBinaryFormatFactoryTest.class.getClassLoader(),
+                false);
+    }
+
+    private static DynamicTableSink createTableSink(Map<String, String> options) {
+        return FactoryUtil.createTableSink(
+                null,
+                ObjectIdentifier.of("default", "default", "t1"),
+                new ResolvedCatalogTable(
+                        CatalogTable.of(
+                                fromResolvedSchema(SCHEMA).toSchema(),
+                                "mock source",
+                                new ArrayList<>(),
+                                options),
+                        SCHEMA),
+                new Configuration(),
+                ChangelogBinaryFormatFactoryTest.class.getClassLoader(),
+                false);
+    }
+}
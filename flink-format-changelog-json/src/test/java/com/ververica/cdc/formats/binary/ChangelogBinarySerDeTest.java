@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.formats.binary;
+
+import org.apache.flink.formats.common.TimestampFormat;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.GenericArrayData;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.formats.json.ChangelogJsonDeserializationSchema;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.table.api.DataTypes.ARRAY;
+import static org.apache.flink.table.api.DataTypes.BIGINT;
+import static org.apache.flink.table.api.DataTypes.DECIMAL;
+import static org.apache.flink.table.api.DataTypes.FIELD;
+import static org.apache.flink.table.api.DataTypes.FLOAT;
+import static org.apache.flink.table.api.DataTypes.INT;
+import static org.apache.flink.table.api.DataTypes.ROW;
+import static org.apache.flink.table.api.DataTypes.STRING;
+import static org.apache.flink.table.api.DataTypes.TIMESTAMP;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ChangelogBinarySerializationSchema} and {@link
+ * ChangelogBinaryDeserializationSchema}.
+ */
+public class ChangelogBinarySerDeTest {
+
+    private static final RowType SCHEMA =
+            (RowType)
+                    ROW(
+                                    FIELD("id", INT().notNull()),
+                                    FIELD("name", STRING()),
+                                    FIELD("description", STRING()),
+                                    FIELD("weight", FLOAT()))
+                            .getLogicalType();
+
+    private static final RowType WIDE_SCHEMA =
+            (RowType)
+                    ROW(
+                                    FIELD("id", BIGINT().notNull()),
+                                    FIELD("price", DECIMAL(20, 4)),
+                                    FIELD("ts", TIMESTAMP(6)),
+                                    FIELD("tags", ARRAY(STRING())))
+                            .getLogicalType();
+
+    @Test
+    public void testSerializationDeserialization() throws Exception {
+        // the rows of the changelog json test data
+        ChangelogJsonDeserializationSchema jsonDeserializationSchema =
+                new ChangelogJsonDeserializationSchema(
+                        SCHEMA, InternalTypeInfo.of(SCHEMA), false, TimestampFormat.SQL);
+        SimpleCollector jsonCollector = new SimpleCollector();
+        URL url = getClass().getClassLoader().getResource("changelog-json-data.txt");
+        assert url != null;
+        int jsonBytes = 0;
+        for (String line : Files.readAllLines(new File(url.getFile()).toPath())) {
+            byte[] message = line.getBytes(StandardCharsets.UTF_8);
+            jsonBytes += message.length;
+            jsonDeserializationSchema.deserialize(message, jsonCollector);
+        }
+
+        ChangelogBinarySerializationSchema serializationSchema =
+                new ChangelogBinarySerializationSchema(SCHEMA);
+        serializationSchema.open(null);
+        ChangelogBinaryDeserializationSchema deserializationSchema =
+                new ChangelogBinaryDeserializationSchema(
+                        SCHEMA, InternalTypeInfo.of(SCHEMA), false);
+        deserializationSchema.open(null);
+
+        int binaryBytes = 0;
+        for (RowData expected : jsonCollector.list) {
+            byte[] message = serializationSchema.serialize(expected);
+            binaryBytes += message.length;
+            RowData actual = deserializationSchema.deserialize(message);
+            assertEquals(toGenericRow(expected, SCHEMA), toGenericRow(actual, SCHEMA));
+            assertEquals(expected.getRowKind(), actual.getRowKind());
+            // the deserialized rows are written back as is
+            assertArrayEquals(message, serializationSchema.serialize(actual));
+        }
+        assertTrue(binaryBytes < jsonBytes);
+    }
+
+    @Test
+    public void testSerializationDeserializationOfTypes() throws Exception {
+        ChangelogBinarySerializationSchema serializationSchema =
+                new ChangelogBinarySerializationSchema(WIDE_SCHEMA);
+        serializationSchema.open(null);
+        ChangelogBinaryDeserializationSchema deserializationSchema =
+                new ChangelogBinaryDeserializationSchema(
+                        WIDE_SCHEMA, InternalTypeInfo.of(WIDE_SCHEMA), false);
+
+        GenericRowData row =
+                GenericRowData.ofKind(
+                        RowKind.UPDATE_BEFORE,
+                        1L,
+                        DecimalData.fromBigDecimal(new BigDecimal("12345678.9012"), 20, 4),
+                        TimestampData.fromLocalDateTime(
+                                LocalDateTime.of(2021, 10, 1, 12, 30, 15, 123456000)),
+                        new GenericArrayData(
+                                new Object[] {
+                                    StringData.fromString("a"), null, StringData.fromString("b")
+                                }));
+        RowData actual = deserializationSchema.deserialize(serializationSchema.serialize(row));
+        assertEquals(RowKind.UPDATE_BEFORE, actual.getRowKind());
+        assertEquals(1L, actual.getLong(0));
+        assertEquals(new BigDecimal("12345678.9012"), actual.getDecimal(1, 20, 4).toBigDecimal());
+        assertEquals(
+                LocalDateTime.of(2021, 10, 1, 12, 30, 15, 123456000),
+                actual.getTimestamp(2, 6).toLocalDateTime());
+        assertEquals(3, actual.getArray(3).size());
+        assertEquals("b", actual.getArray(3).getString(2).toString());
+        assertTrue(actual.getArray(3).isNullAt(1));
+
+        row = GenericRowData.ofKind(RowKind.DELETE, 2L, null, null, null);
+        actual = deserializationSchema.deserialize(serializationSchema.serialize(row));
+        assertEquals(RowKind.DELETE, actual.getRowKind());
+        assertEquals(2L, actual.getLong(0));
+        assertTrue(actual.isNullAt(1) && actual.isNullAt(2) && actual.isNullAt(3));
+    }
+
+    @Test
+    public void testSchemaFingerprint() {
+        long fingerprint = ChangelogBinarySerializationSchema.schemaFingerprint(SCHEMA);
+        // the nullability doesn't change the layout of the binary row
+        assertEquals(
+                fingerprint,
+                ChangelogBinarySerializationSchema.schemaFingerprint((RowType) SCHEMA.copy(false)));
+        assertEquals(
+                fingerprint,
+                ChangelogBinarySerializationSchema.schemaFingerprint(
+                        (RowType)
+                                ROW(
+                                                FIELD("id", INT()),
+                                                FIELD("name", STRING()),
+                                                FIELD("description", STRING()),
+                                                FIELD("weight", FLOAT()))
+                                        .getLogicalType()));
+        assertNotEquals(
+                fingerprint,
+                ChangelogBinarySerializationSchema.schemaFingerprint(
+                        (RowType)
+                                ROW(
+                                                FIELD("id", BIGINT()),
+                                                FIELD("name", STRING()),
+                                                FIELD("description", STRING()),
+                                                FIELD("weight", FLOAT()))
+                                        .getLogicalType()));
+        assertNotEquals(
+                fingerprint,
+                ChangelogBinarySerializationSchema.schemaFingerprint(
+                        (RowType)
+                                ROW(
+                                                FIELD("id", INT()),
+                                                FIELD("title", STRING()),
+                                                FIELD("description", STRING()),
+                                                FIELD("weight", FLOAT()))
+                                        .getLogicalType()));
+        assertNotEquals(
+                ChangelogBinarySerializationSchema.schemaFingerprint(WIDE_SCHEMA),
+                ChangelogBinarySerializationSchema.schemaFingerprint(
+                        (RowType)
+                                ROW(
+                                                FIELD("id", BIGINT()),
+                                                FIELD("price", DECIMAL(20, 2)),
+                                                FIELD("ts", TIMESTAMP(6)),
+                                                FIELD("tags", ARRAY(STRING())))
+                                        .getLogicalType()));
+    }
+
+    @Test
+    public void testCorruptMessages() throws Exception {
+        ChangelogBinarySerializationSchema serializationSchema =
+                new ChangelogBinarySerializationSchema(WIDE_SCHEMA);
+        serializationSchema.open(null);
+        ChangelogBinaryDeserializationSchema deserializationSchema =
+                new ChangelogBinaryDeserializationSchema(
+                        SCHEMA, InternalTypeInfo.of(SCHEMA), false);
+
+        byte[] wideMessage = serializationSchema.serialize(GenericRowData.of(1L, null, null, null));
+        byte[] unknownVersion = wideMessage.clone();
+        unknownVersion[0] = 2;
+        byte[][] corruptMessages = new byte[][] {wideMessage, unknownVersion, new byte[4]};
+        for (byte[] message : corruptMessages) {
+            try {
+                deserializationSchema.deserialize(message);
+                fail("Corrupt message should fail.");
+            } catch (IOException e) {
+                assertEquals(
+                        "Corrupt Changelog Binary message of " + message.length + " bytes.",
+                        e.getMessage());
+            }
+        }
+        try {
+            deserializationSchema.deserialize(wideMessage);
+            fail("The message written with a different schema should fail.");
+        } catch (IOException e) {
+            assertTrue(e.getCause().getMessage().contains("doesn't match the schema fingerprint"));
+        }
+
+        ChangelogBinaryDeserializationSchema ignoreErrorsSchema =
+                new ChangelogBinaryDeserializationSchema(SCHEMA, InternalTypeInfo.of(SCHEMA), true);
+        for (byte[] message : corruptMessages) {
+            assertNull(ignoreErrorsSchema.deserialize(message));
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Utilities
+    // --------------------------------------------------------------------------------------------
+
+    private static GenericRowData toGenericRow(RowData row, RowType rowType) {
+        GenericRowData genericRow = new GenericRowData(row.getRowKind(), row.getArity());
+        for (int i = 0; i < row.getArity(); i++) {
+            genericRow.setField(
+                    i, RowData.createFieldGetter(rowType.getTypeAt(i), i).getFieldOrNull(row));
+        }
+        return genericRow;
+    }
+
+    private static class SimpleCollector implements Collector<RowData> {
+
+        private final List<RowData> list = new ArrayList<>();
+
+        @Override
+        public void collect(RowData record) {
+            list.add(record);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+    }
+}
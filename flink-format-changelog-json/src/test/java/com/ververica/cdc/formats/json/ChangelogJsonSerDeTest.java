@@ -34,6 +34,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -43,6 +44,8 @@ import static org.apache.flink.table.api.DataTypes.INT;
 import static org.apache.flink.table.api.DataTypes.ROW;
 import static org.apache.flink.table.api.DataTypes.STRING;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Tests for {@link ChangelogJsonSerializationSchema} and {@link
@@ -157,6 +160,51 @@ public class ChangelogJsonSerDeTest {
         assertEquals(expectedResult, result);
     }
 
+    @Test
+    public void testDeserializationFieldOrderAndErrors() throws Exception {
+        ChangelogJsonDeserializationSchema deserializationSchema =
+                new ChangelogJsonDeserializationSchema(
+                        SCHEMA, InternalTypeInfo.of(SCHEMA), false, TimestampFormat.SQL);
+        deserializationSchema.open(null);
+        SimpleCollector collector = new SimpleCollector();
+        // the "op" may be ahead of the "data" and the unknown fields are skipped
+        deserializationSchema.deserialize(
+                ("{\"op\":\"-D\",\"ts\":{\"ms\":[1,2]},"
+                                + "\"data\":{\"id\":101,\"name\":\"scooter\",\"weight\":3.14}}")
+                        .getBytes(StandardCharsets.UTF_8),
+                collector);
+        assertEquals(
+                Collections.singletonList("-D(101,scooter,null,3.14)"),
+                collector.list.stream().map(Object::toString).collect(Collectors.toList()));
+
+        String[] corruptMessages =
+                new String[] {
+                    "{\"data\":{\"id\":101},\"op\":\"+X\"}",
+                    "{\"data\":{\"id\":101}}",
+                    "{\"op\":\"+I\"}",
+                    "[1]"
+                };
+        for (String message : corruptMessages) {
+            try {
+                deserializationSchema.deserialize(
+                        message.getBytes(StandardCharsets.UTF_8), collector);
+                fail("Corrupt message should fail: " + message);
+            } catch (IOException e) {
+                assertEquals("Corrupt Changelog JSON message '" + message + "'.", e.getMessage());
+            }
+        }
+
+        ChangelogJsonDeserializationSchema ignoreErrorsSchema =
+                new ChangelogJsonDeserializationSchema(
+                        SCHEMA, InternalTypeInfo.of(SCHEMA), true, TimestampFormat.SQL);
+        ignoreErrorsSchema.open(null);
+        collector.list.clear();
+        for (String message : corruptMessages) {
+            ignoreErrorsSchema.deserialize(message.getBytes(StandardCharsets.UTF_8), collector);
+        }
+        assertTrue(collector.list.isEmpty());
+    }
+
     // --------------------------------------------------------------------------------------------
     // Utilities
     // --------------------------------------------------------------------------------------------